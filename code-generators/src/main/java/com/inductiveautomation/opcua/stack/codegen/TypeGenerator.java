@@ -5,9 +5,15 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.Velocity;
 import org.apache.velocity.runtime.RuntimeConstants;
@@ -26,6 +32,12 @@ public class TypeGenerator {
 
         Velocity.init();
 
+        File typesOutputDir = new File("/Users/kevin/Desktop/generated-classes/");
+        if (!typesOutputDir.exists() && !typesOutputDir.mkdirs()) {
+            System.out.println("Could not create output dir: " + typesOutputDir);
+            System.exit(-1);
+        }
+
         File structuredOutputDir = new File("/Users/kevin/Desktop/generated-classes/structured/");
         if (!structuredOutputDir.exists() && !structuredOutputDir.mkdirs()) {
             System.out.println("Could not create output dir: " + structuredOutputDir);
@@ -38,6 +50,12 @@ public class TypeGenerator {
             System.exit(-1);
         }
 
+        File binaryCodecOutputDir = new File("/Users/kevin/Desktop/generated-classes/structured/binary/");
+        if (!binaryCodecOutputDir.exists() && !binaryCodecOutputDir.mkdirs()) {
+            System.out.println("Could not create output dir: " + binaryCodecOutputDir);
+            System.exit(-1);
+        }
+
         InputStream xmlSource = TypeGenerator.class.getClassLoader().getResourceAsStream("Opc.Ua.Types.bsd.xml");
         SAXBuilder jdomBuilder = new SAXBuilder();
         Document jdomDocument = jdomBuilder.build(xmlSource);
@@ -58,6 +76,36 @@ public class TypeGenerator {
             fw.close();
         }
 
+        Set<String> baseTypes = structuredTypes.stream()
+                .filter(StructuredType::isSubType)
+                .map(StructuredType::getBaseType)
+                .collect(Collectors.toSet());
+
+        for (StructuredType structuredType : structuredTypes) {
+            VelocityContext context = new VelocityContext();
+            context.put("structuredType", structuredType);
+            context.put("baseTypes", baseTypes);
+            context.put("fixedSizes", FixedSizes);
+            context.put("imports", getBinaryCodecImports(structuredType, baseTypes));
+
+            File f = new File(binaryCodecOutputDir, structuredType.getName() + "BinaryCodec.java");
+            FileWriter fw = new FileWriter(f);
+            Velocity.mergeTemplate("BinaryCodec.vm", "UTF-8", context, fw);
+            fw.flush();
+            fw.close();
+        }
+
+        {
+            VelocityContext context = new VelocityContext();
+            context.put("structuredTypes", structuredTypes);
+
+            File f = new File(typesOutputDir, "DelegateIndex.java");
+            FileWriter fw = new FileWriter(f);
+            Velocity.mergeTemplate("DelegateIndex.vm", "UTF-8", context, fw);
+            fw.flush();
+            fw.close();
+        }
+
         for (EnumeratedType enumeratedType : enumeratedTypes) {
             VelocityContext context = new VelocityContext();
             context.put("enumeratedType", enumeratedType);
@@ -113,6 +161,77 @@ public class TypeGenerator {
         return structuredTypes;
     }
 
+    /**
+     * @return the imports a generated binary codec needs, java.* first, with an empty string separating the groups.
+     */
+    private static List<String> getBinaryCodecImports(StructuredType structuredType, Set<String> baseTypes) {
+        String typesPackage = "com.inductiveautomation.opcua.stack.core.types";
+
+        Set<String> imports = Sets.newTreeSet();
+        imports.add("com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry");
+        imports.add("com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder");
+        imports.add("com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder");
+        imports.add(typesPackage + ".structured." + structuredType.getName());
+
+        for (StructuredType.Field field : structuredType.getAllFields()) {
+            StructuredType.FieldType type = field.getType();
+            String javaClass = type.getJavaClass();
+
+            if (type.isBuiltin()) {
+                if (!JavaLangTypes.contains(javaClass)) {
+                    imports.add(builtinClassName(javaClass));
+                }
+                if (!FixedSizes.containsKey(type.getName())) {
+                    imports.add("com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize");
+                }
+            } else if (field.isEnumeration()) {
+                imports.add(typesPackage + ".enumerated." + javaClass);
+            } else {
+                imports.add(typesPackage + ".structured." + javaClass);
+                if (baseTypes.contains(type.getName())) {
+                    imports.add("com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize");
+                }
+            }
+        }
+
+        List<String> javaImports = imports.stream().filter(i -> i.startsWith("java.")).collect(Collectors.toList());
+        List<String> otherImports = imports.stream().filter(i -> !i.startsWith("java.")).collect(Collectors.toList());
+
+        List<String> sorted = Lists.newArrayList(javaImports);
+        if (!javaImports.isEmpty()) sorted.add("");
+        sorted.addAll(otherImports);
+
+        return sorted;
+    }
+
+    /**
+     * The encoded size, in bytes, of each builtin type whose size doesn't depend on its value.
+     */
+    private static final Map<String, Integer> FixedSizes = ImmutableMap.<String, Integer>builder()
+            .put("Boolean", 1).put("SByte", 1).put("Byte", 1)
+            .put("Int16", 2).put("UInt16", 2)
+            .put("Int32", 4).put("UInt32", 4).put("Float", 4).put("StatusCode", 4)
+            .put("Int64", 8).put("UInt64", 8).put("Double", 8).put("DateTime", 8)
+            .put("Guid", 16)
+            .build();
+
+    private static final Set<String> JavaLangTypes = ImmutableSet.of(
+            "Boolean", "Byte", "Short", "Integer", "Long", "Float", "Double", "String");
+
+    private static String builtinClassName(String javaClass) {
+        switch (javaClass) {
+            case "UUID":
+                return "java.util.UUID";
+            case "UByte":
+            case "UShort":
+            case "UInteger":
+            case "ULong":
+                return "com.inductiveautomation.opcua.stack.core.types.builtin.unsigned." + javaClass;
+            default:
+                return "com.inductiveautomation.opcua.stack.core.types.builtin." + javaClass;
+        }
+    }
+
     public static List<EnumeratedType> getEnumeratedTypes(Element root, Namespace opcNamespace) {
         List<EnumeratedType> enumeratedTypes = Lists.newArrayList();
 
@@ -1,5 +1,7 @@
 package com.inductiveautomation.opcua.stack.client;
 
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.net.URI;
 import java.security.KeyPair;
 import java.security.cert.Certificate;
@@ -24,6 +26,7 @@ import com.inductiveautomation.opcua.stack.core.UaException;
 import com.inductiveautomation.opcua.stack.core.application.UaClient;
 import com.inductiveautomation.opcua.stack.core.channel.ChannelConfig;
 import com.inductiveautomation.opcua.stack.core.channel.ClientSecureChannel;
+import com.inductiveautomation.opcua.stack.core.channel.FlushConsolidationHandler;
 import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
 import com.inductiveautomation.opcua.stack.core.serialization.UaRequestMessage;
 import com.inductiveautomation.opcua.stack.core.serialization.UaResponseMessage;
@@ -41,12 +44,15 @@ import com.inductiveautomation.opcua.stack.core.util.CertificateUtil;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.DomainSocketChannel;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timeout;
 import org.slf4j.Logger;
@@ -66,6 +72,8 @@ public class UaTcpClient implements UaClient {
 
     private final ConnectionStateContext stateContext = new ConnectionStateContext(this);
 
+    private final FlushConsolidationHandler.Statistics flushStatistics = new FlushConsolidationHandler.Statistics();
+
     private final Optional<Certificate> certificate;
     private final Optional<KeyPair> keyPair;
 
@@ -310,26 +318,67 @@ public class UaTcpClient implements UaClient {
         return executor;
     }
 
+    /**
+     * @return the writes and flushes counted on this client's channels when
+     * {@link ChannelConfig#isConsolidateFlushes()} is set; nothing is counted otherwise.
+     */
+    public FlushConsolidationHandler.Statistics getFlushStatistics() {
+        return flushStatistics;
+    }
+
     public static CompletableFuture<Channel> bootstrap(UaTcpClient client) {
         CompletableFuture<Channel> handshake = new CompletableFuture<>();
 
+        URI uri = URI.create(client.getEndpointUrl());
+
+        Class<? extends Channel> channelClass;
+        SocketAddress remoteAddress;
+
+        if (Stack.LOCAL_SCHEME.equals(uri.getScheme())) {
+            channelClass = LocalChannel.class;
+            remoteAddress = new LocalAddress(uri.getAuthority());
+        } else if (Stack.UNIX_SCHEME.equals(uri.getScheme())) {
+            Optional<Class<? extends DomainSocketChannel>> domainSocketChannelClass =
+                    Stack.transport().getDomainSocketChannelClass();
+
+            if (!domainSocketChannelClass.isPresent()) {
+                handshake.completeExceptionally(new UaException(StatusCodes.Bad_NotSupported,
+                        "Unix domain sockets require the epoll transport"));
+
+                return handshake;
+            }
+
+            channelClass = domainSocketChannelClass.get();
+            remoteAddress = new DomainSocketAddress(uri.getPath());
+        } else {
+            channelClass = Stack.transport().getSocketChannelClass();
+            remoteAddress = new InetSocketAddress(uri.getHost(), uri.getPort());
+        }
+
         Bootstrap bootstrap = new Bootstrap();
 
         bootstrap.group(Stack.sharedEventLoop())
-                .channel(NioSocketChannel.class)
+                .channel(channelClass)
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
-                .option(ChannelOption.TCP_NODELAY, true)
-                .handler(new ChannelInitializer<SocketChannel>() {
+                .handler(new ChannelInitializer<Channel>() {
                     @Override
-                    protected void initChannel(SocketChannel channel) throws Exception {
+                    protected void initChannel(Channel channel) throws Exception {
+                        if (client.getChannelConfig().isConsolidateFlushes()) {
+                            channel.pipeline().addLast(new FlushConsolidationHandler(client.getFlushStatistics()));
+                        }
+
                         channel.pipeline().addLast(new UaTcpClientAcknowledgeHandler(client, handshake));
                         channel.pipeline().addLast(new UaTcpClientHandler(client));
                     }
                 });
 
-        URI uri = URI.create(client.getEndpointUrl());
+        if (remoteAddress instanceof InetSocketAddress) {
+            bootstrap.option(ChannelOption.TCP_NODELAY, true);
+        }
+
+        ChannelFuture connectFuture = bootstrap.connect(remoteAddress);
 
-        bootstrap.connect(uri.getHost(), uri.getPort()).addListener(f -> {
+        connectFuture.addListener(f -> {
             if (!f.isSuccess()) {
                 handshake.completeExceptionally(f.cause());
             }
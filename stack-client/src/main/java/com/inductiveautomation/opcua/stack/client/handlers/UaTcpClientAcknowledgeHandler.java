@@ -16,12 +16,14 @@ import com.inductiveautomation.opcua.stack.core.channel.messages.HelloMessage;
 import com.inductiveautomation.opcua.stack.core.channel.messages.MessageType;
 import com.inductiveautomation.opcua.stack.core.channel.messages.TcpMessageDecoder;
 import com.inductiveautomation.opcua.stack.core.channel.messages.TcpMessageEncoder;
+import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
 import com.inductiveautomation.opcua.stack.core.serialization.UaMessage;
 import com.google.common.collect.Lists;
 import com.google.common.primitives.Ints;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.local.LocalChannel;
 import io.netty.handler.codec.ByteToMessageCodec;
 import io.netty.util.AttributeKey;
 import org.slf4j.Logger;
@@ -138,15 +140,20 @@ public class UaTcpClientAcknowledgeHandler extends ByteToMessageCodec<UaMessage>
                 Ints.saturatedCast(remoteMaxChunkCount)
         );
 
+        if (config.isTrustedLocal() &&
+                ctx.channel() instanceof LocalChannel &&
+                client.getSecureChannel().getSecurityPolicy() == SecurityPolicy.None) {
+
+            ctx.executor().execute(() -> onTrustedLocalHandshake(ctx));
+            return;
+        }
+
         ctx.channel().attr(AWAITING_HANDSHAKE_KEY).set(awaitingHandshake);
 
         ctx.executor().execute(() -> {
-            int maxArrayLength = client.getChannelConfig().getMaxArrayLength();
-            int maxStringLength = client.getChannelConfig().getMaxStringLength();
-
             UaTcpClientAsymmetricHandler handler = new UaTcpClientAsymmetricHandler(
                     client,
-                    new SerializationQueue(parameters, maxArrayLength, maxStringLength),
+                    new SerializationQueue(ctx.channel(), config, parameters),
                     handshakeFuture
             );
 
@@ -154,6 +161,24 @@ public class UaTcpClientAcknowledgeHandler extends ByteToMessageCodec<UaMessage>
         });
     }
 
+    /**
+     * No secure channel is opened on a trusted local channel; from here on requests are handed to the server, and
+     * responses come back, as objects.
+     */
+    private void onTrustedLocalHandshake(ChannelHandlerContext ctx) {
+        Channel channel = ctx.channel();
+
+        ctx.pipeline().remove(this);
+
+        logger.debug("Removed AcknowledgeHandler; trusted local channel ready.");
+
+        awaitingHandshake.forEach(message -> channel.write(message, channel.voidPromise()));
+        awaitingHandshake.clear();
+        channel.flush();
+
+        client.getExecutorService().execute(() -> handshakeFuture.complete(channel));
+    }
+
     private void onError(ChannelHandlerContext ctx, ByteBuf buffer) {
         try {
             ErrorMessage error = TcpMessageDecoder.decodeError(buffer);
@@ -14,12 +14,15 @@ import com.inductiveautomation.opcua.stack.core.UaException;
 import com.inductiveautomation.opcua.stack.core.UaRuntimeException;
 import com.inductiveautomation.opcua.stack.core.channel.ChannelSecurity;
 import com.inductiveautomation.opcua.stack.core.channel.ClientSecureChannel;
+import com.inductiveautomation.opcua.stack.core.channel.FlushConsolidationHandler;
 import com.inductiveautomation.opcua.stack.core.channel.SerializationQueue;
 import com.inductiveautomation.opcua.stack.core.channel.headers.AsymmetricSecurityHeader;
 import com.inductiveautomation.opcua.stack.core.channel.headers.HeaderDecoder;
 import com.inductiveautomation.opcua.stack.core.channel.messages.ErrorMessage;
 import com.inductiveautomation.opcua.stack.core.channel.messages.MessageType;
 import com.inductiveautomation.opcua.stack.core.channel.messages.TcpMessageDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
 import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
 import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.SecurityTokenRequestType;
@@ -198,6 +201,9 @@ public class UaTcpClientAsymmetricHandler extends SimpleChannelInboundHandler<By
                         logger.error("Error decoding OpenSecureChannelResponse: {}", e.getMessage(), e);
                         ctx.close();
                     } finally {
+                        /* Nonces and certificates outlive the message; copy any retained ByteStrings to the heap. */
+                        binaryDecoder.drainRetainedByteStrings().forEach(ByteString::detach);
+
                         if (messageBuffer != null) {
                             messageBuffer.release();
                         }
@@ -242,7 +248,18 @@ public class UaTcpClientAsymmetricHandler extends SimpleChannelInboundHandler<By
             // SecureChannel is ready; remove the acknowledge handler and add the symmetric handler.
             if (ctx.pipeline().get(UaTcpClientAcknowledgeHandler.class) != null) {
                 ctx.pipeline().remove(UaTcpClientAcknowledgeHandler.class);
-                ctx.pipeline().addFirst(new UaTcpClientSymmetricHandler(client, serializationQueue, handshakeFuture));
+
+                UaTcpClientSymmetricHandler symmetricHandler =
+                        new UaTcpClientSymmetricHandler(client, serializationQueue, handshakeFuture);
+
+                // The symmetric handler's chunk flushes must still pass through a FlushConsolidationHandler.
+                ChannelHandlerContext consolidationCtx = ctx.pipeline().context(FlushConsolidationHandler.class);
+
+                if (consolidationCtx != null) {
+                    ctx.pipeline().addAfter(consolidationCtx.name(), null, symmetricHandler);
+                } else {
+                    ctx.pipeline().addFirst(symmetricHandler);
+                }
             }
         });
 
@@ -251,7 +268,7 @@ public class UaTcpClientAsymmetricHandler extends SimpleChannelInboundHandler<By
 
     private void sendOpenSecureChannelRequest(ChannelHandlerContext ctx, OpenSecureChannelRequest request) {
         serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
-            ByteBuf messageBuffer = BufferUtil.buffer();
+            ByteBuf messageBuffer = BufferUtil.buffer(BinarySize.sizeOfMessage(request));
 
             try {
                 binaryEncoder.setBuffer(messageBuffer);
@@ -282,7 +299,7 @@ public class UaTcpClientAsymmetricHandler extends SimpleChannelInboundHandler<By
 
     private void sendCloseSecureChannelRequest(ChannelHandlerContext ctx, CloseSecureChannelRequest request) {
         serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
-            ByteBuf messageBuffer = BufferUtil.buffer();
+            ByteBuf messageBuffer = BufferUtil.buffer(BinarySize.sizeOfMessage(request));
 
             try {
                 binaryEncoder.setBuffer(messageBuffer);
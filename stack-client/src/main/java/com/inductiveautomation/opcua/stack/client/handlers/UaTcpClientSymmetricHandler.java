@@ -4,11 +4,11 @@ import java.nio.ByteOrder;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
-import com.google.common.collect.Lists;
 import com.inductiveautomation.opcua.stack.client.UaTcpClient;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaException;
 import com.inductiveautomation.opcua.stack.core.channel.ChannelSecurity;
+import com.inductiveautomation.opcua.stack.core.channel.ChunkWriteQueue;
 import com.inductiveautomation.opcua.stack.core.channel.ClientSecureChannel;
 import com.inductiveautomation.opcua.stack.core.channel.SerializationQueue;
 import com.inductiveautomation.opcua.stack.core.channel.headers.HeaderDecoder;
@@ -19,8 +19,12 @@ import com.inductiveautomation.opcua.stack.core.channel.messages.TcpMessageDecod
 import com.inductiveautomation.opcua.stack.core.serialization.UaMessage;
 import com.inductiveautomation.opcua.stack.core.serialization.UaRequestMessage;
 import com.inductiveautomation.opcua.stack.core.serialization.UaResponseMessage;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
 import com.inductiveautomation.opcua.stack.core.types.structured.ServiceFault;
-import com.inductiveautomation.opcua.stack.core.util.BufferUtil;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
@@ -32,7 +36,10 @@ public class UaTcpClientSymmetricHandler extends ByteToMessageCodec<UaRequestMes
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private List<ByteBuf> chunkBuffers;
+    private int chunkCount = 0;
+
+    /** Writes the chunks of encoded messages without blocking while the channel isn't writable. */
+    private ChunkWriteQueue chunkWriteQueue;
 
     private final ClientSecureChannel secureChannel;
 
@@ -55,11 +62,12 @@ public class UaTcpClientSymmetricHandler extends ByteToMessageCodec<UaRequestMes
         maxChunkCount = serializationQueue.getParameters().getLocalMaxChunkCount();
         maxChunkSize = serializationQueue.getParameters().getLocalReceiveBufferSize();
 
-        chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
     }
 
     @Override
     public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        chunkWriteQueue = new ChunkWriteQueue(ctx, serializationQueue);
+
         List<UaMessage> awaitingHandshake = ctx.channel().attr(UaTcpClientAcknowledgeHandler.AWAITING_HANDSHAKE_KEY).get();
 
         if (awaitingHandshake != null) {
@@ -73,35 +81,68 @@ public class UaTcpClientSymmetricHandler extends ByteToMessageCodec<UaRequestMes
         client.getExecutorService().execute(() -> handshakeFuture.complete(ctx.channel()));
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        chunkWriteQueue.channelWritabilityChanged();
+
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        chunkWriteQueue.channelInactive();
+
+        super.channelInactive(ctx);
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, UaRequestMessage message, ByteBuf out) throws Exception {
         serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
-            ByteBuf messageBuffer = BufferUtil.buffer();
-
             try {
-                binaryEncoder.setBuffer(messageBuffer);
-                binaryEncoder.encodeMessage(null, message);
-
-                List<ByteBuf> chunks = chunkEncoder.encodeSymmetric(
+                chunkEncoder.encodeSymmetric(
                         secureChannel,
                         MessageType.SecureMessage,
-                        messageBuffer,
-                        chunkEncoder.nextRequestId()
+                        sink -> binaryEncoder.setSink(sink).encodeMessage(null, message),
+                        BinarySize.sizeOfMessage(message),
+                        chunkEncoder.nextRequestId(),
+                        chunkWriteQueue::write
                 );
-
-                ctx.executor().execute(() -> {
-                    chunks.forEach(c -> ctx.write(c, ctx.voidPromise()));
-                    ctx.flush();
-                });
             } catch (UaException e) {
+                if (e.getStatusCode().getValue() == StatusCodes.Bad_TcpMessageTooLarge) {
+                    /* Nothing has been sent yet; fail just this request rather than the whole channel. */
+                    logger.warn("{} too large: {}", message.getClass().getSimpleName(), e.getMessage());
+
+                    failRequest(message, StatusCodes.Bad_RequestTooLarge);
+                } else {
+                    logger.error("Error encoding {}: {}", message.getClass(), e.getMessage(), e);
+                    ctx.close();
+                }
+            } catch (RuntimeException e) {
+                /*
+                 * The request couldn't be serialized, e.g. a value exceeded an encoding limit. Any chunks already
+                 * sent have been aborted; fail just this request.
+                 */
                 logger.error("Error encoding {}: {}", message.getClass(), e.getMessage(), e);
-                ctx.close();
-            } finally {
-                messageBuffer.release();
+
+                failRequest(message, StatusCodes.Bad_EncodingError);
             }
         });
     }
 
+    /**
+     * Complete the request {@code message} with a {@link ServiceFault} without sending it.
+     */
+    private void failRequest(UaRequestMessage message, long statusCode) {
+        ServiceFault serviceFault = new ServiceFault(new ResponseHeader(
+                DateTime.now(),
+                message.getRequestHeader().getRequestHandle(),
+                new StatusCode(statusCode),
+                null, null, null
+        ));
+
+        client.getExecutorService().execute(() -> client.receiveServiceFault(serviceFault));
+    }
+
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf buffer, List<Object> out) throws Exception {
         buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
@@ -132,78 +173,86 @@ public class UaTcpClientSymmetricHandler extends ByteToMessageCodec<UaRequestMes
 
         char chunkType = (char) buffer.readByte();
 
-        if (chunkType == 'A') {
-            chunkBuffers.forEach(ByteBuf::release);
-            chunkBuffers.clear();
-        } else {
-            buffer.skipBytes(4);
+        buffer.skipBytes(4);
 
-            long secureChannelId = buffer.readUnsignedInt();
-            if (secureChannelId != secureChannel.getChannelId()) {
-                throw new UaException(StatusCodes.Bad_SecureChannelIdInvalid,
-                        "invalid secure channel id: " + secureChannelId);
-            }
+        long secureChannelId = buffer.readUnsignedInt();
+        if (secureChannelId != secureChannel.getChannelId()) {
+            throw new UaException(StatusCodes.Bad_SecureChannelIdInvalid,
+                    "invalid secure channel id: " + secureChannelId);
+        }
 
-            SymmetricSecurityHeader securityHeader = SymmetricSecurityHeader.decode(buffer);
+        SymmetricSecurityHeader securityHeader = SymmetricSecurityHeader.decode(buffer);
 
-            ChannelSecurity channelSecurity = secureChannel.getChannelSecurity();
-            long currentTokenId = channelSecurity.getCurrentToken().getTokenId().longValue();
+        ChannelSecurity channelSecurity = secureChannel.getChannelSecurity();
+        long currentTokenId = channelSecurity.getCurrentToken().getTokenId().longValue();
 
-            if (securityHeader.getTokenId() != currentTokenId) {
-                long previousTokenId = channelSecurity.getPreviousToken()
-                        .map(t -> t.getTokenId().longValue())
-                        .orElse(-1L);
+        if (securityHeader.getTokenId() != currentTokenId) {
+            long previousTokenId = channelSecurity.getPreviousToken()
+                    .map(t -> t.getTokenId().longValue())
+                    .orElse(-1L);
 
-                if (securityHeader.getTokenId() != previousTokenId) {
-                    throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown,
-                            "unknown secure channel token: " + securityHeader.getTokenId());
-                }
+            if (securityHeader.getTokenId() != previousTokenId) {
+                throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown,
+                        "unknown secure channel token: " + securityHeader.getTokenId());
             }
+        }
 
-            int chunkSize = buffer.readerIndex(0).readableBytes();
+        int chunkSize = buffer.readerIndex(0).readableBytes();
 
-            if (chunkSize > maxChunkSize) {
-                throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
-                        String.format("max chunk size exceeded (%s)", maxChunkSize));
-            }
+        if (chunkSize > maxChunkSize) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                    String.format("max chunk size exceeded (%s)", maxChunkSize));
+        }
+
+        if (++chunkCount > maxChunkCount) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                    String.format("max chunk count exceeded (%s)", maxChunkCount));
+        }
 
-            chunkBuffers.add(buffer.retain());
+        if (chunkType != 'C') chunkCount = 0;
 
-            if (chunkBuffers.size() > maxChunkCount) {
-                throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
-                        String.format("max chunk count exceeded (%s)", maxChunkCount));
-            }
+        ByteBuf chunkBuffer = buffer.retain();
 
-            if (chunkType == 'F') {
-                final List<ByteBuf> buffersToDecode = chunkBuffers;
-                chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
+        serializationQueue.decode((binaryDecoder, chunkDecoder) -> {
+            try {
+                ByteBuf messageBuffer = chunkDecoder.decodeSymmetricChunk(secureChannel, chunkBuffer);
 
-                serializationQueue.decode((binaryDecoder, chunkDecoder) -> {
-                    try {
-                        ByteBuf messageBuffer = chunkDecoder.decodeSymmetric(
-                                secureChannel,
-                                MessageType.SecureMessage,
-                                buffersToDecode
-                        );
-
-                        binaryDecoder.setBuffer(messageBuffer);
-                        UaResponseMessage response = binaryDecoder.decodeMessage(null);
-
-                        if (response instanceof ServiceFault) {
-                            client.getExecutorService().execute(() -> client.receiveServiceFault((ServiceFault) response));
-                        } else {
-                            client.getExecutorService().execute(() -> client.receiveServiceResponse(response));
-                        }
+                if (messageBuffer != null) {
+                    binaryDecoder.setBuffer(messageBuffer);
+                    UaResponseMessage response;
 
+                    try {
+                        response = binaryDecoder.decodeMessage(null);
+                    } catch (RuntimeException e) {
+                        binaryDecoder.drainRetainedByteStrings().forEach(ByteString::release);
+                        throw e;
+                    } finally {
                         messageBuffer.release();
-                        buffersToDecode.clear();
-                    } catch (UaException e) {
-                        logger.error("Error decoding symmetric message: {}", e.getMessage(), e);
-                        ctx.close();
                     }
-                });
+
+                    /*
+                     * ByteStrings decoded without copying can be read straight from the message buffer until the
+                     * response has been delivered; after that any still backed by it are copied to the heap.
+                     */
+                    List<ByteString> retained = binaryDecoder.drainRetainedByteStrings();
+
+                    client.getExecutorService().execute(() -> {
+                        try {
+                            if (response instanceof ServiceFault) {
+                                client.receiveServiceFault((ServiceFault) response);
+                            } else {
+                                client.receiveServiceResponse(response);
+                            }
+                        } finally {
+                            retained.forEach(ByteString::detach);
+                        }
+                    });
+                }
+            } catch (UaException e) {
+                logger.error("Error decoding symmetric message: {}", e.getMessage(), e);
+                ctx.close();
             }
-        }
+        });
     }
 
     private void onError(ChannelHandlerContext ctx, ByteBuf buffer) {
@@ -220,6 +269,10 @@ public class UaTcpClientSymmetricHandler extends ByteToMessageCodec<UaRequestMes
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        chunkCount = 0;
+
+        serializationQueue.decode((binaryDecoder, chunkDecoder) -> chunkDecoder.discardSymmetricChunks());
+
         logger.error("Exception caught: {}", cause.getMessage(), cause);
         ctx.close();
     }
@@ -5,7 +5,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
 
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 
 public final class Stack {
@@ -16,9 +16,35 @@ public final class Stack {
     public static final int DEFAULT_PORT = 12685;
 
     /**
-     * @return a shared {@link NioEventLoopGroup}.
+     * The URL scheme of endpoints reachable only from within this JVM, over a Netty {@code LocalChannel} addressed by
+     * the URL's authority, e.g. {@code opc.local://example/server}.
      */
-    public static NioEventLoopGroup sharedEventLoop() {
+    public static final String LOCAL_SCHEME = "opc.local";
+
+    /**
+     * The URL scheme of endpoints reachable over a Unix domain socket whose file is the URL's path, e.g.
+     * {@code opc.unix:///var/run/opcua/server.sock}. Requires the epoll {@link Transport}.
+     */
+    public static final String UNIX_SCHEME = "opc.unix";
+
+    /**
+     * The system property that names the {@link Transport} to use ("epoll" or "nio"). If it's not set, or names a
+     * transport that isn't available, epoll is used where it's available and NIO everywhere else.
+     */
+    public static final String TRANSPORT_PROPERTY = "com.inductiveautomation.opcua.stack.transport";
+
+    /**
+     * @return the {@link Transport} of {@link #sharedEventLoop()}; client and server bootstraps must use its channel
+     * classes.
+     */
+    public static Transport transport() {
+        return TransportHolder.TRANSPORT;
+    }
+
+    /**
+     * @return a shared {@link EventLoopGroup} of the selected {@link #transport()}.
+     */
+    public static EventLoopGroup sharedEventLoop() {
         return EventLoopHolder.EVENT_LOOP;
     }
 
@@ -42,8 +68,12 @@ public final class Stack {
         sharedWheelTimer().stop();
     }
 
+    private static class TransportHolder {
+        private static final Transport TRANSPORT = Transport.select();
+    }
+
     private static class EventLoopHolder {
-        private static final NioEventLoopGroup EVENT_LOOP = new NioEventLoopGroup(0, new ThreadFactory() {
+        private static final EventLoopGroup EVENT_LOOP = transport().newEventLoopGroup(0, new ThreadFactory() {
             private final AtomicLong threadNumber = new AtomicLong(0L);
 
             @Override
@@ -0,0 +1,143 @@
+package com.inductiveautomation.opcua.stack.core;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.unix.DomainSocketChannel;
+import io.netty.channel.unix.ServerDomainSocketChannel;
+
+/**
+ * The Netty transports that TCP client and server channels can be built on. Event loops and channels of different
+ * transports can't be mixed, so a bootstrap must use the channel classes of the transport its event loop belongs to;
+ * {@link Stack#transport()} is the transport of {@link Stack#sharedEventLoop()}.
+ */
+public enum Transport {
+
+    /**
+     * Netty's native epoll transport. Only available on Linux.
+     */
+    Epoll {
+        @Override
+        public boolean isAvailable() {
+            try {
+                return io.netty.channel.epoll.Epoll.isAvailable();
+            } catch (Throwable t) {
+                return false;
+            }
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            return new EpollEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+
+        @Override
+        public Optional<Class<? extends DomainSocketChannel>> getDomainSocketChannelClass() {
+            return Optional.of(EpollDomainSocketChannel.class);
+        }
+
+        @Override
+        public Optional<Class<? extends ServerDomainSocketChannel>> getServerDomainSocketChannelClass() {
+            return Optional.of(EpollServerDomainSocketChannel.class);
+        }
+    },
+
+    /**
+     * Netty's NIO transport. Always available.
+     */
+    Nio {
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            return new NioEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return NioSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+    };
+
+    /**
+     * @return {@code true} if this transport can be used on this platform.
+     */
+    public abstract boolean isAvailable();
+
+    /**
+     * @param threads       the number of event loop threads; 0 for Netty's default.
+     * @param threadFactory the {@link ThreadFactory} the event loop threads are created by.
+     * @return a new {@link EventLoopGroup} for channels of this transport.
+     */
+    public abstract EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory);
+
+    public abstract Class<? extends SocketChannel> getSocketChannelClass();
+
+    public abstract Class<? extends ServerSocketChannel> getServerSocketChannelClass();
+
+    /**
+     * @return the Unix domain socket channel class of this transport, or {@link Optional#empty()} if it doesn't
+     * support Unix domain sockets.
+     */
+    public Optional<Class<? extends DomainSocketChannel>> getDomainSocketChannelClass() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return the Unix domain server socket channel class of this transport, or {@link Optional#empty()} if it
+     * doesn't support Unix domain sockets.
+     */
+    public Optional<Class<? extends ServerDomainSocketChannel>> getServerDomainSocketChannelClass() {
+        return Optional.empty();
+    }
+
+    /**
+     * Select the transport named by the {@value Stack#TRANSPORT_PROPERTY} system property, if it's set and available,
+     * otherwise {@link #Epoll} if it's available, otherwise {@link #Nio}.
+     *
+     * @return the transport to use.
+     */
+    static Transport select() {
+        String name = System.getProperty(Stack.TRANSPORT_PROPERTY);
+
+        if (name != null) {
+            for (Transport transport : values()) {
+                if (transport.name().equalsIgnoreCase(name) && transport.isAvailable()) {
+                    return transport;
+                }
+            }
+        }
+
+        return Epoll.isAvailable() ? Epoll : Nio;
+    }
+
+}
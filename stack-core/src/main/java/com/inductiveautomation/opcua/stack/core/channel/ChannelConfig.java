@@ -1,12 +1,11 @@
 package com.inductiveautomation.opcua.stack.core.channel;
 
+import java.util.concurrent.Executor;
+
 import com.google.common.base.Preconditions;
 
 public class ChannelConfig {
 
-    /** A {@link ChannelConfig} that uses the default settings. */
-    public static final ChannelConfig DEFAULT = new ChannelConfig();
-
     /**
      * The default maximum size of a single chunk.
      */
@@ -26,11 +25,70 @@ public class ChannelConfig {
     public static final int DEFAULT_MAX_ARRAY_LENGTH = 65536;
     public static final int DEFAULT_MAX_STRING_LENGTH = 65536;
 
+    /**
+     * The default number of chunks at or above which a symmetric message is secured in parallel. 0 disables parallel
+     * chunk security.
+     */
+    public static final int DEFAULT_PARALLEL_CHUNK_THRESHOLD = 0;
+
+    /**
+     * By default Variant arrays of numeric builtin types are decoded into boxed arrays.
+     */
+    public static final boolean DEFAULT_PRIMITIVE_ARRAYS = false;
+
+    /**
+     * By default decoded ByteStrings are always copied out of the message buffer.
+     */
+    public static final int DEFAULT_RETAINED_BYTE_STRING_THRESHOLD = 0;
+
+    /**
+     * By default decoded Strings, NodeIds and QualifiedNames are not interned.
+     */
+    public static final int DEFAULT_INTERN_CACHE_SIZE = 0;
+
+    /**
+     * By default the bodies of binary encoded ExtensionObjects are decoded along with the rest of the message.
+     */
+    public static final boolean DEFAULT_LAZY_EXTENSION_OBJECTS = false;
+
+    /**
+     * By default messages on an {@code opc.local} channel are encoded just like they are on a TCP channel.
+     */
+    public static final boolean DEFAULT_TRUSTED_LOCAL = false;
+
+    /**
+     * By default every flush of a client channel is done right away.
+     */
+    public static final boolean DEFAULT_CONSOLIDATE_FLUSHES = false;
+
+    /**
+     * The default {@link SerializationExecutor}: a cached thread pool shared by all channels.
+     */
+    public static final SerializationExecutor DEFAULT_SERIALIZATION_EXECUTOR = SerializationExecutors.cachedThreadPool();
+
+    /**
+     * The default executor for parallel chunk security: a pool with one thread per available processor shared by all
+     * channels.
+     */
+    public static final Executor DEFAULT_PARALLEL_CHUNK_EXECUTOR = SerializationExecutors.chunkSecurityPool();
+
+    /** A {@link ChannelConfig} that uses the default settings. */
+    public static final ChannelConfig DEFAULT = new ChannelConfig();
+
     private final int maxChunkSize;
     private final int maxChunkCount;
     private final int maxMessageSize;
     private final int maxArrayLength;
     private final int maxStringLength;
+    private final int parallelChunkThreshold;
+    private final Executor parallelChunkExecutor;
+    private final SerializationExecutor serializationExecutor;
+    private final boolean primitiveArrays;
+    private final int retainedByteStringThreshold;
+    private final int internCacheSize;
+    private final boolean lazyExtensionObjects;
+    private final boolean trustedLocal;
+    private final boolean consolidateFlushes;
 
     /**
      * Create a {@link ChannelConfig} using the default parameters.
@@ -42,31 +100,58 @@ public class ChannelConfig {
      * @see {@link ChannelConfig#DEFAULT_MAX_STRING_LENGTH}
      */
     public ChannelConfig() {
-        this(DEFAULT_MAX_CHUNK_SIZE,
-                DEFAULT_MAX_CHUNK_COUNT,
-                DEFAULT_MAX_MESSAGE_SIZE,
-                DEFAULT_MAX_ARRAY_LENGTH,
-                DEFAULT_MAX_STRING_LENGTH);
+        this(new ChannelConfigBuilder());
     }
 
     /**
+     * Create a {@link ChannelConfig} with the given limits and the defaults for everything else.
+     *
      * @param maxChunkSize   The maximum size of a single chunk. Must be greater than 8192.
      * @param maxChunkCount  The maximum number of chunks that a message can break down into.
      * @param maxMessageSize The maximum size of a message after all chunks have been assembled.
+     * @deprecated use a {@link ChannelConfigBuilder}.
      */
+    @Deprecated
     public ChannelConfig(int maxChunkSize,
                          int maxChunkCount,
                          int maxMessageSize,
                          int maxArrayLength,
                          int maxStringLength) {
-        Preconditions.checkArgument(maxChunkSize > 8192,
-                "maxChunkSize must be greater than 8192");
+        this(new ChannelConfigBuilder()
+                .setMaxChunkSize(maxChunkSize)
+                .setMaxChunkCount(maxChunkCount)
+                .setMaxMessageSize(maxMessageSize)
+                .setMaxArrayLength(maxArrayLength)
+                .setMaxStringLength(maxStringLength));
+    }
 
-        this.maxChunkSize = maxChunkSize;
-        this.maxChunkCount = maxChunkCount;
-        this.maxMessageSize = maxMessageSize;
-        this.maxArrayLength = maxArrayLength;
-        this.maxStringLength = maxStringLength;
+    /**
+     * @see ChannelConfigBuilder#build()
+     */
+    ChannelConfig(ChannelConfigBuilder builder) {
+        Preconditions.checkArgument(builder.maxChunkSize > 8192,
+                "maxChunkSize must be greater than 8192");
+        Preconditions.checkArgument(builder.parallelChunkThreshold >= 0,
+                "parallelChunkThreshold must be greater than or equal to 0");
+        Preconditions.checkArgument(builder.retainedByteStringThreshold >= 0,
+                "retainedByteStringThreshold must be greater than or equal to 0");
+        Preconditions.checkArgument(builder.internCacheSize >= 0,
+                "internCacheSize must be greater than or equal to 0");
+
+        this.maxChunkSize = builder.maxChunkSize;
+        this.maxChunkCount = builder.maxChunkCount;
+        this.maxMessageSize = builder.maxMessageSize;
+        this.maxArrayLength = builder.maxArrayLength;
+        this.maxStringLength = builder.maxStringLength;
+        this.parallelChunkThreshold = builder.parallelChunkThreshold;
+        this.parallelChunkExecutor = Preconditions.checkNotNull(builder.parallelChunkExecutor);
+        this.serializationExecutor = Preconditions.checkNotNull(builder.serializationExecutor);
+        this.primitiveArrays = builder.primitiveArrays;
+        this.retainedByteStringThreshold = builder.retainedByteStringThreshold;
+        this.internCacheSize = builder.internCacheSize;
+        this.lazyExtensionObjects = builder.lazyExtensionObjects;
+        this.trustedLocal = builder.trustedLocal;
+        this.consolidateFlushes = builder.consolidateFlushes;
     }
 
     public int getMaxChunkSize() {
@@ -89,4 +174,40 @@ public class ChannelConfig {
         return maxStringLength;
     }
 
+    public int getParallelChunkThreshold() {
+        return parallelChunkThreshold;
+    }
+
+    public Executor getParallelChunkExecutor() {
+        return parallelChunkExecutor;
+    }
+
+    public SerializationExecutor getSerializationExecutor() {
+        return serializationExecutor;
+    }
+
+    public boolean isPrimitiveArrays() {
+        return primitiveArrays;
+    }
+
+    public int getRetainedByteStringThreshold() {
+        return retainedByteStringThreshold;
+    }
+
+    public int getInternCacheSize() {
+        return internCacheSize;
+    }
+
+    public boolean isLazyExtensionObjects() {
+        return lazyExtensionObjects;
+    }
+
+    public boolean isTrustedLocal() {
+        return trustedLocal;
+    }
+
+    public boolean isConsolidateFlushes() {
+        return consolidateFlushes;
+    }
+
 }
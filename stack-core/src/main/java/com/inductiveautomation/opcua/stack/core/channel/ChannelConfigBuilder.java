@@ -0,0 +1,154 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import java.util.concurrent.Executor;
+
+import com.inductiveautomation.opcua.stack.core.serialization.binary.InternCache;
+
+/**
+ * Builds a {@link ChannelConfig}; every setting not set is left at its {@code ChannelConfig.DEFAULT_*} value.
+ */
+public class ChannelConfigBuilder {
+
+    int maxChunkSize = ChannelConfig.DEFAULT_MAX_CHUNK_SIZE;
+    int maxChunkCount = ChannelConfig.DEFAULT_MAX_CHUNK_COUNT;
+    int maxMessageSize = ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE;
+    int maxArrayLength = ChannelConfig.DEFAULT_MAX_ARRAY_LENGTH;
+    int maxStringLength = ChannelConfig.DEFAULT_MAX_STRING_LENGTH;
+    int parallelChunkThreshold = ChannelConfig.DEFAULT_PARALLEL_CHUNK_THRESHOLD;
+    Executor parallelChunkExecutor = ChannelConfig.DEFAULT_PARALLEL_CHUNK_EXECUTOR;
+    SerializationExecutor serializationExecutor = ChannelConfig.DEFAULT_SERIALIZATION_EXECUTOR;
+    boolean primitiveArrays = ChannelConfig.DEFAULT_PRIMITIVE_ARRAYS;
+    int retainedByteStringThreshold = ChannelConfig.DEFAULT_RETAINED_BYTE_STRING_THRESHOLD;
+    int internCacheSize = ChannelConfig.DEFAULT_INTERN_CACHE_SIZE;
+    boolean lazyExtensionObjects = ChannelConfig.DEFAULT_LAZY_EXTENSION_OBJECTS;
+    boolean trustedLocal = ChannelConfig.DEFAULT_TRUSTED_LOCAL;
+    boolean consolidateFlushes = ChannelConfig.DEFAULT_CONSOLIDATE_FLUSHES;
+
+    /**
+     * @param maxChunkSize the maximum size of a single chunk. Must be greater than 8192.
+     */
+    public ChannelConfigBuilder setMaxChunkSize(int maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+        return this;
+    }
+
+    /**
+     * @param maxChunkCount the maximum number of chunks that a message can break down into.
+     */
+    public ChannelConfigBuilder setMaxChunkCount(int maxChunkCount) {
+        this.maxChunkCount = maxChunkCount;
+        return this;
+    }
+
+    /**
+     * @param maxMessageSize the maximum size of a message after all chunks have been assembled.
+     */
+    public ChannelConfigBuilder setMaxMessageSize(int maxMessageSize) {
+        this.maxMessageSize = maxMessageSize;
+        return this;
+    }
+
+    public ChannelConfigBuilder setMaxArrayLength(int maxArrayLength) {
+        this.maxArrayLength = maxArrayLength;
+        return this;
+    }
+
+    public ChannelConfigBuilder setMaxStringLength(int maxStringLength) {
+        this.maxStringLength = maxStringLength;
+        return this;
+    }
+
+    /**
+     * @param parallelChunkThreshold the number of chunks at or above which the chunks of a symmetric message are
+     *                               signed/encrypted or decrypted/verified in parallel. 0 disables parallel chunk
+     *                               security.
+     */
+    public ChannelConfigBuilder setParallelChunkThreshold(int parallelChunkThreshold) {
+        this.parallelChunkThreshold = parallelChunkThreshold;
+        return this;
+    }
+
+    /**
+     * @param parallelChunkExecutor the executor that chunks are secured on when they're secured in parallel. See
+     *                              {@link SerializationExecutors#chunkSecurityPool()}.
+     */
+    public ChannelConfigBuilder setParallelChunkExecutor(Executor parallelChunkExecutor) {
+        this.parallelChunkExecutor = parallelChunkExecutor;
+        return this;
+    }
+
+    /**
+     * @param serializationExecutor the {@link SerializationExecutor} that decides which threads encode and decode
+     *                              each channel's messages. See {@link SerializationExecutors}.
+     */
+    public ChannelConfigBuilder setSerializationExecutor(SerializationExecutor serializationExecutor) {
+        this.serializationExecutor = serializationExecutor;
+        return this;
+    }
+
+    /**
+     * @param primitiveArrays if {@code true}, Variant arrays of Boolean, SByte, Int16, Int32, Int64, Float and Double
+     *                        are decoded in bulk into primitive arrays rather than boxed arrays.
+     */
+    public ChannelConfigBuilder setPrimitiveArrays(boolean primitiveArrays) {
+        this.primitiveArrays = primitiveArrays;
+        return this;
+    }
+
+    /**
+     * @param retainedByteStringThreshold ByteStrings at least this long are decoded without copying, backed by the
+     *                                    received message buffer. On a server they're released once the response
+     *                                    has been encoded; a service that keeps one longer must {@code retain()} it,
+     *                                    or copy it with {@code bytes()} before responding. 0 disables this.
+     */
+    public ChannelConfigBuilder setRetainedByteStringThreshold(int retainedByteStringThreshold) {
+        this.retainedByteStringThreshold = retainedByteStringThreshold;
+        return this;
+    }
+
+    /**
+     * @param internCacheSize the number of entries in each table of the per-channel {@link InternCache} that decoded
+     *                        Strings, NodeIds and QualifiedNames are canonicalized through. 0 disables interning.
+     */
+    public ChannelConfigBuilder setInternCacheSize(int internCacheSize) {
+        this.internCacheSize = internCacheSize;
+        return this;
+    }
+
+    /**
+     * @param lazyExtensionObjects if {@code true}, the bodies of binary encoded ExtensionObjects are copied out of the
+     *                             message as raw bytes and only decoded the first time {@code getObject()} is called;
+     *                             an ExtensionObject that was never looked at is re-encoded by copying those bytes.
+     */
+    public ChannelConfigBuilder setLazyExtensionObjects(boolean lazyExtensionObjects) {
+        this.lazyExtensionObjects = lazyExtensionObjects;
+        return this;
+    }
+
+    /**
+     * @param trustedLocal if {@code true}, a client with no security on an {@code opc.local} endpoint hands its
+     *                     requests to the server, and the server hands its responses back, as objects rather than
+     *                     encoding them. Both sides must enable it, and the server must have an endpoint with no
+     *                     security at that URL. Requests and responses are shared between client and server, so
+     *                     neither may modify them once sent.
+     */
+    public ChannelConfigBuilder setTrustedLocal(boolean trustedLocal) {
+        this.trustedLocal = trustedLocal;
+        return this;
+    }
+
+    /**
+     * @param consolidateFlushes if {@code true}, a client channel coalesces the flushes of the requests written within
+     *                           one pass of its event loop with a {@link FlushConsolidationHandler}, so concurrently
+     *                           sent requests share syscalls and TCP segments.
+     */
+    public ChannelConfigBuilder setConsolidateFlushes(boolean consolidateFlushes) {
+        this.consolidateFlushes = consolidateFlushes;
+        return this;
+    }
+
+    public ChannelConfig build() {
+        return new ChannelConfig(this);
+    }
+
+}
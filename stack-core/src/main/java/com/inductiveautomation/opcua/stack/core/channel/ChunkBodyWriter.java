@@ -0,0 +1,268 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.google.common.collect.Lists;
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.UaSerializationException;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySink;
+import com.inductiveautomation.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A {@link BinarySink} that writes a message body directly into the body regions of pre-sized chunk buffers.
+ * <p>
+ * Whenever the body region of the current chunk buffer is full a new chunk buffer is allocated; its body region starts
+ * after the space reserved for the message, security, and sequence headers. A message encoded into this writer is
+ * written directly into the chunks that will be sent; {@link ChunkEncoder} only has to fill in the headers, padding, and
+ * signature of each chunk afterwards.
+ * <p>
+ * If the size of the body is known up front the last chunk buffer is allocated just large enough for the body bytes
+ * that remain, and writing past the end of the body fails.
+ * <p>
+ * If a filled chunk consumer is provided, a chunk whose body region has been completely written is handed to it as soon
+ * as the next byte is written, so only the chunk still being written is held on to.
+ */
+class ChunkBodyWriter implements BinarySink {
+
+    private final List<ByteBuf> chunkBuffers = Lists.newArrayList();
+
+    private final int chunkBufferSize;
+    private final int bodyOffset;
+    private final int maxBodySize;
+    private final Consumer<ByteBuf> filledChunkConsumer;
+
+    private final int lastChunkIndex;
+    private final int lastChunkBodySize;
+    private final int lastChunkBufferSize;
+
+    /** The number of chunks handed off to the filled chunk consumer. */
+    private int chunksHandedOff = 0;
+
+    /** The chunk buffer being written, the last of {@link #chunkBuffers}, or null before the first write. */
+    private ByteBuf chunkBuffer;
+    private int chunkWriterIndex;
+    private int chunkBodyEnd;
+
+    /** The number of body bytes written, including those in chunks already handed off. */
+    private int writerIndex = 0;
+
+    /**
+     * @param chunkBufferSize     the size to allocate each chunk buffer with.
+     * @param bodyOffset          the offset of the body region in each chunk buffer.
+     * @param maxBodySize         the size of the body region in each chunk buffer.
+     * @param filledChunkConsumer receives filled chunk buffers as soon as more room is needed, or {@code null} to hold on
+     *                            to every chunk buffer until {@link #getChunkBuffers()}.
+     */
+    ChunkBodyWriter(int chunkBufferSize,
+                    int bodyOffset,
+                    int maxBodySize,
+                    @Nullable Consumer<ByteBuf> filledChunkConsumer) {
+
+        this(chunkBufferSize, bodyOffset, maxBodySize, filledChunkConsumer, -1, 0, 0);
+    }
+
+    /**
+     * @param chunkBufferSize     the size to allocate each chunk buffer with.
+     * @param bodyOffset          the offset of the body region in each chunk buffer.
+     * @param maxBodySize         the size of the body region in each chunk buffer.
+     * @param filledChunkConsumer receives filled chunk buffers as soon as more room is needed, or {@code null} to hold on
+     *                            to every chunk buffer until {@link #getChunkBuffers()}.
+     * @param lastChunkIndex      the index of the last chunk of the body, or -1 if the size of the body isn't known.
+     * @param lastChunkBodySize   the number of body bytes in the last chunk.
+     * @param lastChunkBufferSize the size to allocate the last chunk buffer with.
+     */
+    ChunkBodyWriter(int chunkBufferSize,
+                    int bodyOffset,
+                    int maxBodySize,
+                    @Nullable Consumer<ByteBuf> filledChunkConsumer,
+                    int lastChunkIndex,
+                    int lastChunkBodySize,
+                    int lastChunkBufferSize) {
+
+        assert (bodyOffset + maxBodySize <= chunkBufferSize);
+        assert (lastChunkIndex < 0 || bodyOffset + lastChunkBodySize <= lastChunkBufferSize);
+
+        this.chunkBufferSize = chunkBufferSize;
+        this.bodyOffset = bodyOffset;
+        this.maxBodySize = maxBodySize;
+        this.filledChunkConsumer = filledChunkConsumer;
+        this.lastChunkIndex = lastChunkIndex;
+        this.lastChunkBodySize = lastChunkBodySize;
+        this.lastChunkBufferSize = lastChunkBufferSize;
+    }
+
+    /**
+     * @return the offset of the body region in each chunk buffer.
+     */
+    int getBodyOffset() {
+        return bodyOffset;
+    }
+
+    /**
+     * @param chunkIndex the index of a chunk buffer not yet handed off.
+     * @return the number of body bytes that were written into the chunk buffer at {@code chunkIndex}.
+     */
+    int getBodySize(int chunkIndex) {
+        int last = chunkBuffers.size() - 1;
+
+        if (chunkIndex < last) {
+            return maxBodySize;
+        } else if (chunkIndex == last) {
+            return writerIndex - (chunksHandedOff + last) * maxBodySize;
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Get the chunk buffers, not yet handed off, that have body bytes written into them.
+     * <p>
+     * The caller is responsible for releasing the returned chunk buffers.
+     *
+     * @return the chunk buffers that have body bytes written into them.
+     */
+    List<ByteBuf> getChunkBuffers() {
+        return chunkBuffers;
+    }
+
+    /**
+     * @return the number of bytes that can still be written into the current chunk buffer.
+     */
+    private int chunkWritableBytes() {
+        return chunkBodyEnd - chunkWriterIndex;
+    }
+
+    /**
+     * Make sure at least one byte can be written into the current chunk buffer, moving on to a new chunk buffer if
+     * it's full.
+     */
+    private void ensureChunkWritable() {
+        if (chunkWritableBytes() > 0) return;
+
+        if (lastChunkIndex >= 0 && chunksHandedOff + chunkBuffers.size() > lastChunkIndex) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError,
+                    "message body larger than its computed size");
+        }
+
+        handOffFilledChunks();
+        addChunk();
+    }
+
+    private void advance(int length) {
+        chunkWriterIndex += length;
+        writerIndex += length;
+    }
+
+    /**
+     * Hand the chunks not yet handed off, which are all completely written, to the filled chunk consumer.
+     */
+    private void handOffFilledChunks() {
+        if (filledChunkConsumer == null || chunkBuffers.isEmpty()) return;
+
+        List<ByteBuf> filledChunks = Lists.newArrayList(chunkBuffers);
+        chunkBuffers.clear();
+        chunksHandedOff += filledChunks.size();
+
+        for (int i = 0; i < filledChunks.size(); i++) {
+            try {
+                filledChunkConsumer.accept(filledChunks.get(i));
+            } catch (RuntimeException e) {
+                filledChunks.subList(i + 1, filledChunks.size()).forEach(ByteBuf::release);
+                throw e;
+            }
+        }
+    }
+
+    private void addChunk() {
+        boolean last = chunksHandedOff + chunkBuffers.size() == lastChunkIndex;
+
+        chunkBuffer = BufferUtil.buffer(last ? lastChunkBufferSize : chunkBufferSize);
+        chunkBuffers.add(chunkBuffer);
+
+        chunkWriterIndex = bodyOffset;
+        chunkBodyEnd = bodyOffset + (last ? lastChunkBodySize : maxBodySize);
+    }
+
+    /**
+     * Write the {@code length} low order bytes of {@code value} one at a time, least significant first, for values
+     * that straddle two chunks.
+     */
+    private void writeLittleEndian(long value, int length) {
+        for (int i = 0; i < length; i++) {
+            writeByte((int) (value >>> (i * 8)));
+        }
+    }
+
+    @Override
+    public void writeByte(int value) {
+        ensureChunkWritable();
+        chunkBuffer.setByte(chunkWriterIndex, value);
+        advance(1);
+    }
+
+    @Override
+    public void writeShort(int value) {
+        if (chunkWritableBytes() >= 2) {
+            chunkBuffer.setShort(chunkWriterIndex, value);
+            advance(2);
+        } else {
+            writeLittleEndian(value, 2);
+        }
+    }
+
+    @Override
+    public void writeInt(int value) {
+        if (chunkWritableBytes() >= 4) {
+            chunkBuffer.setInt(chunkWriterIndex, value);
+            advance(4);
+        } else {
+            writeLittleEndian(value, 4);
+        }
+    }
+
+    @Override
+    public void writeLong(long value) {
+        if (chunkWritableBytes() >= 8) {
+            chunkBuffer.setLong(chunkWriterIndex, value);
+            advance(8);
+        } else {
+            writeLittleEndian(value, 8);
+        }
+    }
+
+    @Override
+    public void writeBytes(byte[] src, int srcIndex, int length) {
+        while (length > 0) {
+            ensureChunkWritable();
+
+            int n = Math.min(length, chunkWritableBytes());
+            chunkBuffer.setBytes(chunkWriterIndex, src, srcIndex, n);
+            advance(n);
+
+            srcIndex += n;
+            length -= n;
+        }
+    }
+
+    @Override
+    public void writeBytes(ByteBuf src) {
+        while (src.isReadable()) {
+            ensureChunkWritable();
+
+            int n = Math.min(src.readableBytes(), chunkWritableBytes());
+            chunkBuffer.setBytes(chunkWriterIndex, src, src.readerIndex(), n);
+            advance(n);
+
+            src.skipBytes(n);
+        }
+    }
+
+    @Override
+    public int writerIndex() {
+        return writerIndex;
+    }
+
+}
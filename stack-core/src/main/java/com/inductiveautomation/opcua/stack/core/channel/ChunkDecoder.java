@@ -1,8 +1,7 @@
 package com.inductiveautomation.opcua.stack.core.channel;
 
+import javax.annotation.Nullable;
 import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.security.GeneralSecurityException;
@@ -12,8 +11,12 @@ import java.security.Signature;
 import java.security.SignatureException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.google.common.collect.Lists;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaException;
 import com.inductiveautomation.opcua.stack.core.channel.headers.AsymmetricSecurityHeader;
@@ -21,7 +24,6 @@ import com.inductiveautomation.opcua.stack.core.channel.headers.HeaderConstants;
 import com.inductiveautomation.opcua.stack.core.channel.headers.SequenceHeader;
 import com.inductiveautomation.opcua.stack.core.channel.headers.SymmetricSecurityHeader;
 import com.inductiveautomation.opcua.stack.core.channel.messages.MessageType;
-import com.inductiveautomation.opcua.stack.core.security.SecurityAlgorithm;
 import com.inductiveautomation.opcua.stack.core.util.BufferUtil;
 import com.inductiveautomation.opcua.stack.core.util.SignatureUtil;
 import io.netty.buffer.ByteBuf;
@@ -40,10 +42,37 @@ public class ChunkDecoder implements HeaderConstants {
     private final AtomicLong previousSequenceNumber = new AtomicLong(-1L);
     private final AtomicLong requestId = new AtomicLong(-1L);
 
+    private final Queue<SymmetricDelegate> parallelDelegates = new ConcurrentLinkedQueue<>();
+
     private final ChannelParameters parameters;
+    private final int parallelChunkThreshold;
+    private final Executor parallelChunkExecutor;
+
+    /*
+     * The symmetric message being received one chunk at a time: the bodies of the chunks opened so far, or, when
+     * chunks are opened in parallel, the chunks themselves.
+     */
+    private CompositeByteBuf partialMessage;
+    private List<ByteBuf> partialChunks;
 
     public ChunkDecoder(ChannelParameters parameters) {
+        this(parameters, 0);
+    }
+
+    public ChunkDecoder(ChannelParameters parameters, int parallelChunkThreshold) {
+        this(parameters, parallelChunkThreshold, ChannelConfig.DEFAULT_PARALLEL_CHUNK_EXECUTOR);
+    }
+
+    /**
+     * @param parameters             the {@link ChannelParameters} for the channel.
+     * @param parallelChunkThreshold the number of chunks at or above which a symmetric message is decrypted and
+     *                               verified in parallel, or 0 to always open chunks serially.
+     * @param parallelChunkExecutor  the executor chunks are opened on when they're opened in parallel.
+     */
+    public ChunkDecoder(ChannelParameters parameters, int parallelChunkThreshold, Executor parallelChunkExecutor) {
         this.parameters = parameters;
+        this.parallelChunkThreshold = parallelChunkThreshold;
+        this.parallelChunkExecutor = parallelChunkExecutor;
     }
 
     public ByteBuf decodeAsymmetric(SecureChannel channel, MessageType messageType, List<ByteBuf> chunkBuffers) throws UaException {
@@ -54,65 +83,205 @@ public class ChunkDecoder implements HeaderConstants {
         return decode(symmetricDelegate, channel, messageType, chunkBuffers);
     }
 
-    private ByteBuf decode(Delegate delegate, SecureChannel channel, MessageType messageType, List<ByteBuf> chunkBuffers) throws UaException {
-        CompositeByteBuf composite = BufferUtil.compositeBuffer();
-
-        int signatureSize = delegate.getSignatureSize(channel);
-        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+    /**
+     * Decode a symmetric message one chunk at a time. Each chunk is decrypted and verified as soon as it arrives and
+     * only its body is kept; once the final chunk arrives the bodies of all chunks are returned as the message. An
+     * abort chunk is opened and checked like any other and then the partial message is discarded.
+     * <p>
+     * Ownership of {@code chunkBuffer} passes to this decoder. If it can't be opened, it and the chunks of the message
+     * received so far are released.
+     * <p>
+     * If parallel chunk opening is enabled chunks are held until the final or abort chunk arrives and then opened
+     * together.
+     *
+     * @param channel     the {@link SecureChannel} the chunk was received on.
+     * @param chunkBuffer a complete 'C', 'F', or 'A' chunk.
+     * @return the message body, once the final chunk has been decoded, otherwise {@code null}.
+     * @throws UaException if the chunk could not be opened.
+     * @see #discardSymmetricChunks()
+     */
+    @Nullable
+    public ByteBuf decodeSymmetricChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
+        char chunkType = (char) chunkBuffer.getByte(chunkBuffer.readerIndex() + 3);
 
-        boolean encrypted = delegate.isEncryptionEnabled(channel);
-        boolean signed = delegate.isSigningEnabled(channel);
+        ByteBuf messageBuffer = null;
 
-        for (ByteBuf chunkBuffer : chunkBuffers) {
-            chunkBuffer.skipBytes(SecureMessageHeaderSize);
+        if (parallelChunkThreshold > 0) {
+            if (partialChunks == null) partialChunks = Lists.newArrayList();
+            partialChunks.add(chunkBuffer);
 
-            delegate.readSecurityHeader(channel, chunkBuffer);
+            if (chunkType != 'C') {
+                List<ByteBuf> chunkBuffers = partialChunks;
+                partialChunks = null;
 
-            if (encrypted) {
-                decryptChunk(delegate, channel, chunkBuffer);
+                messageBuffer = decode(symmetricDelegate, channel, MessageType.SecureMessage, chunkBuffers);
             }
+        } else {
+            if (partialMessage == null) partialMessage = BufferUtil.compositeBuffer(Integer.MAX_VALUE);
 
-            int encryptedStart = chunkBuffer.readerIndex();
-            chunkBuffer.readerIndex(0);
+            try {
+                int bodyEnd = openChunk(symmetricDelegate, channel, chunkBuffer);
 
-            if (signed) {
-                delegate.verifyChunk(channel, chunkBuffer);
+                appendBody(chunkBuffer, bodyEnd, partialMessage);
+            } catch (UaException | RuntimeException e) {
+                chunkBuffer.release();
+                discardSymmetricChunks();
+                throw e;
             }
 
-            int paddingSize = encrypted ? getPaddingSize(cipherTextBlockSize, signatureSize, chunkBuffer) : 0;
-            int bodyEnd = chunkBuffer.readableBytes() - signatureSize - paddingSize;
+            if (chunkType != 'C') {
+                messageBuffer = partialMessage.order(ByteOrder.LITTLE_ENDIAN);
+                partialMessage = null;
+            }
+        }
 
-            chunkBuffer.readerIndex(encryptedStart);
+        if (chunkType == 'A' && messageBuffer != null) {
+            logger.debug("Symmetric message aborted by sender; discarding.");
 
-            SequenceHeader sequenceHeader = SequenceHeader.decode(chunkBuffer);
-            long sequenceNumber = sequenceHeader.getSequenceNumber();
-            requestId.set(sequenceHeader.getRequestId());
+            messageBuffer.release();
+            messageBuffer = null;
+        }
 
-            if (previousSequenceNumber.get() == -1) {
-                previousSequenceNumber.set(sequenceNumber);
-            } else {
-                if (previousSequenceNumber.get() + 1 != sequenceNumber) {
-                    String message = String.format("expected sequence number %s but received %s",
-                            previousSequenceNumber.get() + 1, sequenceNumber);
+        return messageBuffer;
+    }
+
+    /**
+     * Release the chunks of a partially received symmetric message, e.g. after an abort chunk was received.
+     */
+    public void discardSymmetricChunks() {
+        if (partialMessage != null) {
+            partialMessage.release();
+            partialMessage = null;
+        }
+
+        if (partialChunks != null) {
+            partialChunks.forEach(ByteBuf::release);
+            partialChunks = null;
+        }
+    }
+
+    private ByteBuf decode(Delegate delegate, SecureChannel channel, MessageType messageType, List<ByteBuf> chunkBuffers) throws UaException {
+        CompositeByteBuf composite = BufferUtil.compositeBuffer(Integer.MAX_VALUE);
+
+        boolean encrypted = delegate.isEncryptionEnabled(channel);
+        boolean signed = delegate.isSigningEnabled(channel);
+
+        boolean parallel = parallelChunkThreshold > 0 &&
+                chunkBuffers.size() >= parallelChunkThreshold &&
+                delegate instanceof SymmetricDelegate &&
+                (encrypted || signed);
 
-                    logger.error(message);
-                    logger.error(ByteBufUtil.hexDump(chunkBuffer, 0, chunkBuffer.writerIndex()));
+        int[] bodyEnds = new int[chunkBuffers.size()];
+        int appended = 0;
 
-                    throw new UaException(StatusCodes.Bad_SecurityChecksFailed, message);
+        try {
+            if (parallel) {
+                openChunksInParallel(channel, chunkBuffers, bodyEnds);
+            } else {
+                for (int i = 0; i < chunkBuffers.size(); i++) {
+                    bodyEnds[i] = openChunk(delegate, channel, chunkBuffers.get(i));
                 }
+            }
 
-                previousSequenceNumber.set(sequenceNumber);
+            for (; appended < chunkBuffers.size(); appended++) {
+                appendBody(chunkBuffers.get(appended), bodyEnds[appended], composite);
             }
+        } catch (UaException | RuntimeException e) {
+            /* Releasing the composite releases the chunks whose bodies were added to it. */
+            composite.release();
 
-            ByteBuf bodyBuffer = chunkBuffer.readSlice(bodyEnd - chunkBuffer.readerIndex());
+            for (int i = appended; i < chunkBuffers.size(); i++) {
+                chunkBuffers.get(i).release();
+            }
 
-            composite.addComponent(bodyBuffer);
-            composite.writerIndex(composite.writerIndex() + bodyBuffer.readableBytes());
+            throw e;
         }
 
         return composite.order(ByteOrder.LITTLE_ENDIAN);
     }
 
+    /**
+     * Check the sequence header of an opened chunk and add its body to {@code composite}.
+     */
+    private void appendBody(ByteBuf chunkBuffer, int bodyEnd, CompositeByteBuf composite) throws UaException {
+        SequenceHeader sequenceHeader = SequenceHeader.decode(chunkBuffer);
+        long sequenceNumber = sequenceHeader.getSequenceNumber();
+        requestId.set(sequenceHeader.getRequestId());
+
+        if (previousSequenceNumber.get() == -1) {
+            previousSequenceNumber.set(sequenceNumber);
+        } else {
+            if (previousSequenceNumber.get() + 1 != sequenceNumber) {
+                String message = String.format("expected sequence number %s but received %s",
+                        previousSequenceNumber.get() + 1, sequenceNumber);
+
+                logger.error(message);
+                logger.error(ByteBufUtil.hexDump(chunkBuffer, 0, chunkBuffer.writerIndex()));
+
+                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, message);
+            }
+
+            previousSequenceNumber.set(sequenceNumber);
+        }
+
+        ByteBuf bodyBuffer = chunkBuffer.readSlice(bodyEnd - chunkBuffer.readerIndex());
+
+        composite.addComponent(bodyBuffer);
+        composite.writerIndex(composite.writerIndex() + bodyBuffer.readableBytes());
+    }
+
+    /**
+     * Read the security header of a chunk, then decrypt and verify it.
+     * <p>
+     * On return the reader index of {@code chunkBuffer} is positioned at the sequence header.
+     *
+     * @return the index in {@code chunkBuffer} where the message body ends.
+     */
+    private int openChunk(Delegate delegate, SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
+        int signatureSize = delegate.getSignatureSize(channel);
+        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+
+        boolean encrypted = delegate.isEncryptionEnabled(channel);
+        boolean signed = delegate.isSigningEnabled(channel);
+
+        chunkBuffer.skipBytes(SecureMessageHeaderSize);
+
+        delegate.readSecurityHeader(channel, chunkBuffer);
+
+        if (encrypted) {
+            decryptChunk(delegate, channel, chunkBuffer);
+        }
+
+        int encryptedStart = chunkBuffer.readerIndex();
+        chunkBuffer.readerIndex(0);
+
+        if (signed) {
+            delegate.verifyChunk(channel, chunkBuffer);
+        }
+
+        int paddingSize = encrypted ? getPaddingSize(cipherTextBlockSize, signatureSize, chunkBuffer) : 0;
+        int bodyEnd = chunkBuffer.readableBytes() - signatureSize - paddingSize;
+
+        chunkBuffer.readerIndex(encryptedStart);
+
+        return bodyEnd;
+    }
+
+    /**
+     * Decrypt and verify the chunks of a symmetric message concurrently on {@link #parallelChunkExecutor}.
+     * <p>
+     * Each task borrows a {@link SymmetricDelegate}, and with it an initialized {@link Cipher} and
+     * {@link javax.crypto.Mac}, from {@link #parallelDelegates}. Sequence numbers are still checked in order once all
+     * chunks have been opened.
+     */
+    private void openChunksInParallel(SecureChannel channel,
+                                      List<ByteBuf> chunkBuffers,
+                                      int[] bodyEnds) throws UaException {
+
+        ParallelChunks.run(parallelChunkExecutor, parallelDelegates, SymmetricDelegate::new, chunkBuffers.size(),
+                (delegate, index) -> bodyEnds[index] = openChunk(delegate, channel, chunkBuffers.get(index)));
+    }
+
     /**
      * @return the most recently decoded request id.
      */
@@ -120,19 +289,23 @@ public class ChunkDecoder implements HeaderConstants {
         return requestId.get();
     }
 
+    /**
+     * Decrypt the remaining readable bytes of {@code chunkBuffer} in place.
+     * <p>
+     * Symmetric cipher text is exactly as long as the plain text it decrypts to, and each asymmetric plain text block is
+     * shorter than the cipher text block it came from, so plain text is never written over cipher text that hasn't been
+     * consumed yet. On return the writer index marks the end of the plain text.
+     */
     private void decryptChunk(Delegate delegate, SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
         int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
         int blockCount = chunkBuffer.readableBytes() / cipherTextBlockSize;
 
-        int plainTextBufferSize = cipherTextBlockSize * blockCount;
+        int cipherTextSize = cipherTextBlockSize * blockCount;
 
-        ByteBuf plainTextBuffer = BufferUtil.buffer(plainTextBufferSize);
+        ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(chunkBuffer.readerIndex(), cipherTextSize);
+        ByteBuffer plainTextNioBuffer = chunkNioBuffer.duplicate();
 
-        ByteBuffer plainTextNioBuffer = plainTextBuffer
-                .writerIndex(plainTextBufferSize)
-                .nioBuffer();
-
-        ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer();
+        int plainTextStart = plainTextNioBuffer.position();
 
         try {
             Cipher cipher = delegate.getCipher(channel);
@@ -152,13 +325,9 @@ public class ChunkDecoder implements HeaderConstants {
             throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
         }
 
-        /* Write plainTextBuffer back into the chunk buffer we decrypted from. */
-        plainTextNioBuffer.flip(); // limit = pos, pos = 0
-
-        chunkBuffer.writerIndex(chunkBuffer.readerIndex());
-        chunkBuffer.writeBytes(plainTextNioBuffer);
+        int plainTextSize = plainTextNioBuffer.position() - plainTextStart;
 
-        plainTextBuffer.release();
+        chunkBuffer.writerIndex(chunkBuffer.readerIndex() + plainTextSize);
     }
 
     private int getPaddingSize(int cipherTextBlockSize, int signatureSize, ByteBuf buffer) {
@@ -261,6 +430,9 @@ public class ChunkDecoder implements HeaderConstants {
 
         private volatile ChannelSecurity.SecuritySecrets securitySecrets;
 
+        private volatile SymmetricCryptoContext currentContext;
+        private volatile SymmetricCryptoContext previousContext;
+
         @Override
         public void readSecurityHeader(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
             long receivedTokenId = SymmetricSecurityHeader.decode(chunkBuffer).getTokenId();
@@ -300,20 +472,35 @@ public class ChunkDecoder implements HeaderConstants {
 
         @Override
         public Cipher getCipher(SecureChannel channel) throws UaException {
-            try {
-                String transformation = channel.getSecurityPolicy().getSymmetricEncryptionAlgorithm().getTransformation();
-                ChannelSecurity.SecretKeys decryptionKeys = channel.getDecryptionKeys(securitySecrets);
+            return getCryptoContext(channel).getCipher();
+        }
 
-                SecretKeySpec keySpec = new SecretKeySpec(decryptionKeys.getEncryptionKey(), "AES");
-                IvParameterSpec ivSpec = new IvParameterSpec(decryptionKeys.getInitializationVector());
+        /**
+         * Get the {@link SymmetricCryptoContext} for the {@link ChannelSecurity.SecuritySecrets} selected by the most
+         * recently read security header.
+         * <p>
+         * Contexts for the current and previous token are kept; when a renewal introduces new secrets the oldest
+         * context is dropped, since the token it belonged to is no longer accepted by the channel.
+         */
+        private SymmetricCryptoContext getCryptoContext(SecureChannel channel) throws UaException {
+            SymmetricCryptoContext current = currentContext;
+
+            if (current != null && current.getSecuritySecrets() == securitySecrets) {
+                return current;
+            }
 
-                Cipher cipher = Cipher.getInstance(transformation);
-                cipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
+            SymmetricCryptoContext previous = previousContext;
 
-                return cipher;
-            } catch (GeneralSecurityException e) {
-                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+            if (previous != null && previous.getSecuritySecrets() == securitySecrets) {
+                return previous;
             }
+
+            SymmetricCryptoContext context = SymmetricCryptoContext.forDecryption(channel, securitySecrets);
+
+            previousContext = current;
+            currentContext = context;
+
+            return context;
         }
 
         @Override
@@ -328,14 +515,12 @@ public class ChunkDecoder implements HeaderConstants {
 
         @Override
         public void verifyChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
-            SecurityAlgorithm securityAlgorithm = channel.getSecurityPolicy().getSymmetricSignatureAlgorithm();
-            byte[] secretKey = channel.getDecryptionKeys(securitySecrets).getSignatureKey();
             int signatureSize = channel.getSymmetricSignatureSize();
 
             ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
             chunkNioBuffer.position(0).limit(chunkBuffer.writerIndex() - signatureSize);
 
-            byte[] signature = SignatureUtil.hmac(securityAlgorithm, secretKey, chunkNioBuffer);
+            byte[] signature = SignatureUtil.hmac(getCryptoContext(channel).getMac(), chunkNioBuffer);
 
             byte[] signatureBytes = new byte[signatureSize];
             chunkNioBuffer.limit(chunkNioBuffer.position() + signatureSize);
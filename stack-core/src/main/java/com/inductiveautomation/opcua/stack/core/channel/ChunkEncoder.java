@@ -1,24 +1,27 @@
 package com.inductiveautomation.opcua.stack.core.channel;
 
 import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.cert.Certificate;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import com.google.common.collect.Lists;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaException;
-import com.inductiveautomation.opcua.stack.core.channel.headers.AsymmetricSecurityHeader;
+import com.inductiveautomation.opcua.stack.core.UaRuntimeException;
 import com.inductiveautomation.opcua.stack.core.channel.headers.HeaderConstants;
 import com.inductiveautomation.opcua.stack.core.channel.headers.SecureMessageHeader;
 import com.inductiveautomation.opcua.stack.core.channel.headers.SequenceHeader;
 import com.inductiveautomation.opcua.stack.core.channel.headers.SymmetricSecurityHeader;
 import com.inductiveautomation.opcua.stack.core.channel.messages.MessageType;
-import com.inductiveautomation.opcua.stack.core.security.SecurityAlgorithm;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySink;
 import com.inductiveautomation.opcua.stack.core.util.BufferUtil;
 import com.inductiveautomation.opcua.stack.core.util.LongSequence;
 import com.inductiveautomation.opcua.stack.core.util.SignatureUtil;
@@ -33,10 +36,30 @@ public class ChunkEncoder implements HeaderConstants {
     private final LongSequence sequenceNumber = new LongSequence(1L, 4294966271L);
     private final AtomicLong requestId = new AtomicLong(1L);
 
+    private final Queue<SymmetricDelegate> parallelDelegates = new ConcurrentLinkedQueue<>();
+
     private final ChannelParameters parameters;
+    private final int parallelChunkThreshold;
+    private final Executor parallelChunkExecutor;
 
     public ChunkEncoder(ChannelParameters parameters) {
+        this(parameters, 0);
+    }
+
+    public ChunkEncoder(ChannelParameters parameters, int parallelChunkThreshold) {
+        this(parameters, parallelChunkThreshold, ChannelConfig.DEFAULT_PARALLEL_CHUNK_EXECUTOR);
+    }
+
+    /**
+     * @param parameters             the {@link ChannelParameters} for the channel.
+     * @param parallelChunkThreshold the number of chunks at or above which a symmetric message is signed and encrypted
+     *                               in parallel, or 0 to always secure chunks serially.
+     * @param parallelChunkExecutor  the executor chunks are secured on when they're secured in parallel.
+     */
+    public ChunkEncoder(ChannelParameters parameters, int parallelChunkThreshold, Executor parallelChunkExecutor) {
         this.parameters = parameters;
+        this.parallelChunkThreshold = parallelChunkThreshold;
+        this.parallelChunkExecutor = parallelChunkExecutor;
     }
 
     public List<ByteBuf> encodeAsymmetric(SecureChannel channel,
@@ -44,7 +67,7 @@ public class ChunkEncoder implements HeaderConstants {
                                           ByteBuf messageBuffer,
                                           long requestId) throws UaException {
 
-        return encode(asymmetricDelegate, channel, messageType, messageBuffer, requestId);
+        return encode(asymmetricDelegate, channel, messageType, b -> b.writeBytes(messageBuffer), -1, requestId);
     }
 
     public List<ByteBuf> encodeSymmetric(SecureChannel channel,
@@ -52,7 +75,88 @@ public class ChunkEncoder implements HeaderConstants {
                                          ByteBuf messageBuffer,
                                          long requestId) throws UaException {
 
-        return encode(symmetricDelegate, channel, messageType, messageBuffer, requestId);
+        return encode(symmetricDelegate, channel, messageType, b -> b.writeBytes(messageBuffer), -1, requestId);
+    }
+
+    /**
+     * Encode a symmetric message whose body is written by {@code bodyWriter} directly into the chunks.
+     * <p>
+     * The sink passed to {@code bodyWriter} is little endian and spans the body regions of as many chunk buffers as
+     * are needed, so the message body is never copied into a separate buffer first.
+     *
+     * @param channel     the {@link SecureChannel} to secure the chunks with.
+     * @param messageType the {@link MessageType} of the message.
+     * @param bodyWriter  writes the message body into the provided sink.
+     * @param requestId   the request id of the message.
+     * @return the encoded chunks.
+     * @throws UaException if the chunks could not be secured.
+     */
+    public List<ByteBuf> encodeSymmetric(SecureChannel channel,
+                                         MessageType messageType,
+                                         Consumer<BinarySink> bodyWriter,
+                                         long requestId) throws UaException {
+
+        return encode(symmetricDelegate, channel, messageType, bodyWriter, -1, requestId);
+    }
+
+    /**
+     * Encode a symmetric message whose body is written by {@code bodyWriter} directly into the chunks, handing each
+     * chunk to {@code chunkWriter} as soon as it has been signed and encrypted rather than once the whole message has
+     * been encoded.
+     * <p>
+     * Ownership of each chunk passes to {@code chunkWriter}.
+     * <p>
+     * If encoding fails after chunks have already been handed off, an abort chunk carrying the error is handed off last
+     * so the receiver discards the partial message.
+     * <p>
+     * If parallel chunk securing is enabled all chunks are laid out and secured first and then handed off in order.
+     *
+     * @param channel     the {@link SecureChannel} to secure the chunks with.
+     * @param messageType the {@link MessageType} of the message.
+     * @param bodyWriter  writes the message body into the provided sink.
+     * @param requestId   the request id of the message.
+     * @param chunkWriter receives each chunk, in order, once it is ready to be sent.
+     * @throws UaException if the chunks could not be secured.
+     */
+    public void encodeSymmetric(SecureChannel channel,
+                                MessageType messageType,
+                                Consumer<BinarySink> bodyWriter,
+                                long requestId,
+                                Consumer<ByteBuf> chunkWriter) throws UaException {
+
+        encodeSymmetric(channel, messageType, bodyWriter, -1, requestId, chunkWriter);
+    }
+
+    /**
+     * Encode a symmetric message whose body, of a size known up front, is written by {@code bodyWriter} directly into
+     * the chunks, handing each chunk to {@code chunkWriter} as soon as it is ready.
+     * <p>
+     * Knowing the size lets the number of chunks be computed before anything is encoded: a message that exceeds the
+     * remote max message size or max chunk count is rejected with {@link StatusCodes#Bad_TcpMessageTooLarge} before
+     * {@code bodyWriter} is called, and the last chunk buffer is allocated just large enough for the body bytes that
+     * remain. {@code bodyWriter} must write exactly {@code bodySize} bytes.
+     *
+     * @param channel     the {@link SecureChannel} to secure the chunks with.
+     * @param messageType the {@link MessageType} of the message.
+     * @param bodyWriter  writes the message body into the provided sink.
+     * @param bodySize    the size of the message body, or -1 if it isn't known.
+     * @param requestId   the request id of the message.
+     * @param chunkWriter receives each chunk, in order, once it is ready to be sent.
+     * @throws UaException if the message is too large or the chunks could not be secured.
+     * @see #encodeSymmetric(SecureChannel, MessageType, Consumer, long, Consumer)
+     */
+    public void encodeSymmetric(SecureChannel channel,
+                                MessageType messageType,
+                                Consumer<BinarySink> bodyWriter,
+                                int bodySize,
+                                long requestId,
+                                Consumer<ByteBuf> chunkWriter) throws UaException {
+
+        if (parallelChunkThreshold > 0) {
+            encode(symmetricDelegate, channel, messageType, bodyWriter, bodySize, requestId).forEach(chunkWriter);
+        } else {
+            stream(symmetricDelegate, channel, messageType, bodyWriter, bodySize, requestId, chunkWriter);
+        }
     }
 
     public long nextRequestId() {
@@ -62,93 +166,215 @@ public class ChunkEncoder implements HeaderConstants {
     private List<ByteBuf> encode(Delegate delegate,
                                  SecureChannel channel,
                                  MessageType messageType,
-                                 ByteBuf messageBuffer,
+                                 Consumer<BinarySink> bodyWriter,
+                                 int bodySize,
                                  long requestId) throws UaException {
 
-        List<ByteBuf> chunks = Lists.newArrayList();
+        MessageLayout layout = new MessageLayout(delegate, channel, messageType, requestId);
 
-        boolean encrypted = delegate.isEncryptionEnabled(channel);
+        ChunkBodyWriter body = layout.newBodyWriter(null, bodySize);
 
-        int securityHeaderSize = delegate.getSecurityHeaderSize(channel);
-        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
-        int plainTextBlockSize = delegate.getPlainTextBlockSize(channel);
-        int signatureSize = delegate.getSignatureSize(channel);
+        try {
+            bodyWriter.accept(body);
+        } catch (RuntimeException e) {
+            body.getChunkBuffers().forEach(ByteBuf::release);
+            throw e;
+        }
 
-        int maxChunkSize = parameters.getLocalSendBufferSize();
-        int headerSizes = SecureMessageHeaderSize + securityHeaderSize;
-        int paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
+        List<ByteBuf> chunks = body.getChunkBuffers();
+        int chunkCount = chunks.size();
 
-        int maxBlockCount = (maxChunkSize - headerSizes - signatureSize - paddingOverhead) / cipherTextBlockSize;
-        int maxBodySize = (plainTextBlockSize * maxBlockCount - SequenceHeaderSize);
+        boolean parallel = parallelChunkThreshold > 0 &&
+                chunkCount >= parallelChunkThreshold &&
+                delegate instanceof SymmetricDelegate &&
+                (layout.encrypted || delegate.isSigningEnabled(channel));
 
-        while (messageBuffer.readableBytes() > 0) {
-            int bodySize = Math.min(messageBuffer.readableBytes(), maxBodySize);
+        List<ChannelSecurity.SecuritySecrets> chunkSecrets = parallel ?
+                Lists.newArrayListWithCapacity(chunkCount) : null;
 
-            int paddingSize = encrypted ?
-                    plainTextBlockSize - (SequenceHeaderSize + bodySize + signatureSize + paddingOverhead) % plainTextBlockSize : 0;
+        try {
+            for (int i = 0; i < chunkCount; i++) {
+                ByteBuf chunkBuffer = chunks.get(i);
+                char chunkType = i < chunkCount - 1 ? 'C' : 'F';
 
-            int plainTextContentSize = SequenceHeaderSize + bodySize + signatureSize + paddingSize + paddingOverhead;
+                int chunkSize = layout.layOutChunk(chunkBuffer, body.getBodySize(i), chunkType);
 
-            assert (plainTextContentSize % plainTextBlockSize == 0);
+                if (parallel) {
+                    /* Signing and encryption happen once all chunks have been laid out. */
+                    chunkSecrets.add(((SymmetricDelegate) delegate).getSecuritySecrets());
+                } else {
+                    secureChunk(delegate, channel, chunkBuffer, layout.securityHeaderSize, chunkSize);
+                }
+            }
+        } catch (UaException | RuntimeException e) {
+            chunks.forEach(ByteBuf::release);
+            throw e;
+        }
 
-            int chunkSize = SecureMessageHeaderSize + securityHeaderSize +
-                    (plainTextContentSize / plainTextBlockSize) * cipherTextBlockSize;
+        if (parallel) {
+            secureChunksInParallel(channel, chunks, chunkSecrets, layout.securityHeaderSize);
+        }
 
-            ByteBuf chunkBuffer = BufferUtil.buffer(chunkSize);
+        return chunks;
+    }
 
-            /* Message Header */
-            SecureMessageHeader messageHeader = new SecureMessageHeader(
-                    messageType,
-                    messageBuffer.readableBytes() > bodySize ? 'C' : 'F',
-                    chunkSize,
-                    channel.getChannelId()
-            );
+    /**
+     * Encode a message, securing each chunk and handing it to {@code chunkWriter} as soon as the body has been written
+     * past its end. The {@link ChunkBodyWriter} holds at most one chunk at any time.
+     */
+    private void stream(Delegate delegate,
+                        SecureChannel channel,
+                        MessageType messageType,
+                        Consumer<BinarySink> bodyWriter,
+                        int bodySize,
+                        long requestId,
+                        Consumer<ByteBuf> chunkWriter) throws UaException {
+
+        MessageLayout layout = new MessageLayout(delegate, channel, messageType, requestId);
+
+        ChunkBodyWriter body = layout.newBodyWriter(chunkBuffer -> {
+            try {
+                finishChunk(layout, chunkBuffer, layout.maxBodySize, 'C');
+            } catch (UaException e) {
+                chunkBuffer.release();
+                throw new UaRuntimeException(e.getStatusCode().getValue(), e);
+            }
 
-            SecureMessageHeader.encode(messageHeader, chunkBuffer);
+            layout.chunksWritten++;
+            chunkWriter.accept(chunkBuffer);
+        }, bodySize);
 
-            /* Security Header */
-            delegate.encodeSecurityHeader(channel, chunkBuffer);
+        try {
+            bodyWriter.accept(body);
 
-            /* Sequence Header */
-            SequenceHeader sequenceHeader = new SequenceHeader(
-                    sequenceNumber.getAndIncrement(),
-                    requestId
-            );
+            List<ByteBuf> chunks = body.getChunkBuffers();
+            int chunkCount = chunks.size();
 
-            SequenceHeader.encode(sequenceHeader, chunkBuffer);
+            for (int i = 0; i < chunkCount; i++) {
+                char chunkType = i < chunkCount - 1 ? 'C' : 'F';
 
-            /* Message Body */
-            chunkBuffer.writeBytes(messageBuffer, bodySize);
+                finishChunk(layout, chunks.get(i), body.getBodySize(i), chunkType);
+            }
 
-            /* Padding and Signature */
-            if (encrypted) {
-                writePadding(cipherTextBlockSize, paddingSize, chunkBuffer);
+            while (!chunks.isEmpty()) {
+                layout.chunksWritten++;
+                chunkWriter.accept(chunks.remove(0));
             }
+        } catch (UaException | RuntimeException e) {
+            body.getChunkBuffers().forEach(ByteBuf::release);
 
-            if (delegate.isSigningEnabled(channel)) {
-                ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
+            if (layout.chunksWritten > 0) {
+                writeAbortChunk(layout, e, chunkWriter);
+            }
+
+            if (e instanceof UaRuntimeException && e.getCause() instanceof UaException) {
+                throw (UaException) e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
 
-                byte[] signature = delegate.signChunk(channel, chunkNioBuffer);
+    private void finishChunk(MessageLayout layout,
+                             ByteBuf chunkBuffer,
+                             int bodySize,
+                             char chunkType) throws UaException {
 
-                chunkBuffer.writeBytes(signature);
+        int chunkSize = layout.layOutChunk(chunkBuffer, bodySize, chunkType);
+
+        secureChunk(layout.delegate, layout.channel, chunkBuffer, layout.securityHeaderSize, chunkSize);
+    }
+
+    /**
+     * Hand off an abort chunk telling the receiver to discard the chunks of this message it has already received. The
+     * body is the error code and reason, truncated to fit in a single chunk.
+     * <p>
+     * If the abort chunk can't be encoded the failure is added to {@code cause} as suppressed.
+     */
+    private void writeAbortChunk(MessageLayout layout, Exception cause, Consumer<ByteBuf> chunkWriter) {
+        long statusCode = StatusCodes.Bad_EncodingError;
+
+        if (cause instanceof UaException) {
+            statusCode = ((UaException) cause).getStatusCode().getValue();
+        } else if (cause instanceof UaRuntimeException) {
+            statusCode = ((UaRuntimeException) cause).getStatusCode();
+        }
+
+        String message = cause.getMessage() != null ? cause.getMessage() : "";
+        byte[] reason = message.getBytes(StandardCharsets.UTF_8);
+        int reasonLength = Math.min(reason.length, layout.maxBodySize - 8);
+
+        if (reasonLength < reason.length) {
+            // Don't cut a multi-byte character in half; back up over its continuation bytes.
+            while (reasonLength > 0 && (reason[reasonLength] & 0xC0) == 0x80) {
+                reasonLength--;
             }
+        }
 
-            /* Encryption */
-            if (encrypted) {
-                chunkBuffer.readerIndex(SecureMessageHeaderSize + securityHeaderSize);
+        ByteBuf chunkBuffer = BufferUtil.buffer(layout.chunkBufferSize);
+
+        try {
+            chunkBuffer.writerIndex(layout.bodyOffset);
+            chunkBuffer.writeInt((int) statusCode);
+            chunkBuffer.writeInt(reasonLength);
+            chunkBuffer.writeBytes(reason, 0, reasonLength);
+
+            finishChunk(layout, chunkBuffer, 8 + reasonLength, 'A');
+        } catch (UaException | RuntimeException e) {
+            chunkBuffer.release();
+            cause.addSuppressed(e);
+            return;
+        }
+
+        chunkWriter.accept(chunkBuffer);
+    }
 
-                assert (chunkBuffer.readableBytes() % plainTextBlockSize == 0);
+    /**
+     * Sign and then encrypt a chunk whose headers, body, and padding have already been written.
+     */
+    private void secureChunk(Delegate delegate,
+                             SecureChannel channel,
+                             ByteBuf chunkBuffer,
+                             int securityHeaderSize,
+                             int chunkSize) throws UaException {
 
-                try {
-                    int blockCount = chunkBuffer.readableBytes() / plainTextBlockSize;
+        boolean encrypted = delegate.isEncryptionEnabled(channel);
+
+        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+        int plainTextBlockSize = delegate.getPlainTextBlockSize(channel);
+
+        /* Signature */
+        if (delegate.isSigningEnabled(channel)) {
+            ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
+
+            byte[] signature = delegate.signChunk(channel, chunkNioBuffer);
+
+            chunkBuffer.writeBytes(signature);
+        }
 
-                    ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(chunkBuffer.readerIndex(), blockCount * cipherTextBlockSize);
+        /* Encryption */
+        if (encrypted) {
+            chunkBuffer.readerIndex(SecureMessageHeaderSize + securityHeaderSize);
+
+            assert (chunkBuffer.readableBytes() % plainTextBlockSize == 0);
+
+            try {
+                int blockCount = chunkBuffer.readableBytes() / plainTextBlockSize;
+
+                ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(chunkBuffer.readerIndex(), blockCount * cipherTextBlockSize);
+
+                Cipher cipher = delegate.getAndInitializeCipher(channel);
+
+                if (delegate instanceof AsymmetricDelegate) {
+                    /*
+                     * Asymmetric cipher text blocks are larger than the plain text blocks they're produced from,
+                     * so the plain text has to be copied out before the chunk buffer is overwritten.
+                     */
                     ByteBuf copyBuffer = chunkBuffer.copy();
-                    ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
 
-                    Cipher cipher = delegate.getAndInitializeCipher(channel);
+                    try {
+                        ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
 
-                    if (delegate instanceof AsymmetricDelegate) {
                         for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
                             int position = blockNumber * plainTextBlockSize;
                             int limit = (blockNumber + 1) * plainTextBlockSize;
@@ -158,22 +384,54 @@ public class ChunkEncoder implements HeaderConstants {
 
                             assert (bytesWritten == cipherTextBlockSize);
                         }
-                    } else {
-                        cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
+                    } finally {
+                        copyBuffer.release();
                     }
+                } else {
+                    /*
+                     * Symmetric block ciphers produce exactly as many bytes as they consume, so the chunk is
+                     * encrypted in place; Cipher is copy-safe when input and output share the same memory.
+                     */
+                    assert (plainTextBlockSize == cipherTextBlockSize);
+
+                    ByteBuffer plainTextNioBuffer = chunkNioBuffer.duplicate();
 
-                    copyBuffer.release();
-                } catch (GeneralSecurityException e) {
-                    throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+                    cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
                 }
+            } catch (GeneralSecurityException e) {
+                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
             }
+        }
 
-            chunkBuffer.readerIndex(0).writerIndex(chunkSize);
+        chunkBuffer.readerIndex(0).writerIndex(chunkSize);
+    }
 
-            chunks.add(chunkBuffer);
+    /**
+     * Sign and encrypt the chunks of a symmetric message concurrently on {@link #parallelChunkExecutor}.
+     * <p>
+     * Every chunk carries its own headers and padding and is encrypted starting from the same initialization vector,
+     * so chunks can be secured independently of each other. Each task borrows a {@link SymmetricDelegate}, and with it
+     * an initialized {@link Cipher} and {@link javax.crypto.Mac}, from {@link #parallelDelegates}.
+     * <p>
+     * If securing any chunk fails all chunks are released.
+     */
+    private void secureChunksInParallel(SecureChannel channel,
+                                        List<ByteBuf> chunks,
+                                        List<ChannelSecurity.SecuritySecrets> chunkSecrets,
+                                        int securityHeaderSize) throws UaException {
+
+        try {
+            ParallelChunks.run(parallelChunkExecutor, parallelDelegates, SymmetricDelegate::new, chunks.size(),
+                    (delegate, index) -> {
+                        ByteBuf chunkBuffer = chunks.get(index);
+                        delegate.setSecuritySecrets(chunkSecrets.get(index));
+
+                        secureChunk(delegate, channel, chunkBuffer, securityHeaderSize, chunkBuffer.getInt(4));
+                    });
+        } catch (UaException e) {
+            chunks.forEach(ByteBuf::release);
+            throw e;
         }
-
-        return chunks;
     }
 
     private void writePadding(int cipherTextBlockSize, int paddingSize, ByteBuf buffer) {
@@ -195,6 +453,151 @@ public class ChunkEncoder implements HeaderConstants {
         }
     }
 
+    /**
+     * The sizes and offsets that every chunk of a single message is laid out with.
+     */
+    private class MessageLayout {
+
+        final Delegate delegate;
+        final SecureChannel channel;
+        final MessageType messageType;
+        final long requestId;
+
+        final boolean encrypted;
+        final int securityHeaderSize;
+        final int cipherTextBlockSize;
+        final int plainTextBlockSize;
+        final int signatureSize;
+        final int headerSizes;
+        final int paddingOverhead;
+
+        final int maxBodySize;
+        final int bodyOffset;
+        final int chunkBufferSize;
+
+        int chunksWritten = 0;
+
+        MessageLayout(Delegate delegate,
+                      SecureChannel channel,
+                      MessageType messageType,
+                      long requestId) throws UaException {
+
+            this.delegate = delegate;
+            this.channel = channel;
+            this.messageType = messageType;
+            this.requestId = requestId;
+
+            encrypted = delegate.isEncryptionEnabled(channel);
+
+            securityHeaderSize = delegate.getSecurityHeaderSize(channel);
+            cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+            plainTextBlockSize = delegate.getPlainTextBlockSize(channel);
+            signatureSize = delegate.getSignatureSize(channel);
+
+            int maxChunkSize = parameters.getLocalSendBufferSize();
+            headerSizes = SecureMessageHeaderSize + securityHeaderSize;
+            paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
+
+            int maxBlockCount = (maxChunkSize - headerSizes - signatureSize - paddingOverhead) / cipherTextBlockSize;
+            maxBodySize = (plainTextBlockSize * maxBlockCount - SequenceHeaderSize);
+
+            bodyOffset = headerSizes + SequenceHeaderSize;
+            chunkBufferSize = chunkSize(maxBodySize);
+        }
+
+        /**
+         * @param bodySize the size of the message body, or -1 if it isn't known.
+         * @throws UaException if {@code bodySize} exceeds the remote max message size or would need more chunks than
+         *                     the remote max chunk count.
+         */
+        ChunkBodyWriter newBodyWriter(Consumer<ByteBuf> filledChunkConsumer, int bodySize) throws UaException {
+            if (bodySize < 0) {
+                return new ChunkBodyWriter(chunkBufferSize, bodyOffset, maxBodySize, filledChunkConsumer);
+            }
+
+            int chunkCount = Math.max(1, (bodySize + maxBodySize - 1) / maxBodySize);
+            int maxMessageSize = parameters.getRemoteMaxMessageSize();
+            int maxChunkCount = parameters.getRemoteMaxChunkCount();
+
+            if (maxMessageSize > 0 && bodySize > maxMessageSize) {
+                throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                        String.format("message size %s exceeds remote max message size %s", bodySize, maxMessageSize));
+            }
+
+            if (maxChunkCount > 0 && chunkCount > maxChunkCount) {
+                throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                        String.format("chunk count %s exceeds remote max chunk count %s", chunkCount, maxChunkCount));
+            }
+
+            int lastChunkBodySize = bodySize - (chunkCount - 1) * maxBodySize;
+
+            return new ChunkBodyWriter(chunkBufferSize, bodyOffset, maxBodySize, filledChunkConsumer,
+                    chunkCount - 1, lastChunkBodySize, chunkSize(lastChunkBodySize));
+        }
+
+        int paddingSize(int bodySize) {
+            return encrypted ?
+                    plainTextBlockSize - (SequenceHeaderSize + bodySize + signatureSize + paddingOverhead) % plainTextBlockSize : 0;
+        }
+
+        /**
+         * @return the size of a chunk carrying {@code bodySize} bytes of message body once padded, signed and
+         * encrypted.
+         */
+        int chunkSize(int bodySize) {
+            int plainTextContentSize = SequenceHeaderSize + bodySize + signatureSize + paddingSize(bodySize) + paddingOverhead;
+
+            assert (plainTextContentSize % plainTextBlockSize == 0);
+
+            return headerSizes + (plainTextContentSize / plainTextBlockSize) * cipherTextBlockSize;
+        }
+
+        /**
+         * Write the headers and padding around {@code bodySize} bytes of body already written at {@link #bodyOffset}.
+         *
+         * @return the size the chunk will be once secured.
+         */
+        int layOutChunk(ByteBuf chunkBuffer, int bodySize, char chunkType) throws UaException {
+            int chunkSize = chunkSize(bodySize);
+
+            chunkBuffer.writerIndex(0);
+
+            /* Message Header */
+            SecureMessageHeader messageHeader = new SecureMessageHeader(
+                    messageType,
+                    chunkType,
+                    chunkSize,
+                    channel.getChannelId()
+            );
+
+            SecureMessageHeader.encode(messageHeader, chunkBuffer);
+
+            /* Security Header */
+            delegate.encodeSecurityHeader(channel, chunkBuffer);
+
+            /* Sequence Header */
+            SequenceHeader sequenceHeader = new SequenceHeader(
+                    sequenceNumber.getAndIncrement(),
+                    requestId
+            );
+
+            SequenceHeader.encode(sequenceHeader, chunkBuffer);
+
+            /* Message Body, already written */
+            assert (chunkBuffer.writerIndex() == bodyOffset);
+
+            chunkBuffer.writerIndex(bodyOffset + bodySize);
+
+            /* Padding */
+            if (encrypted) {
+                writePadding(cipherTextBlockSize, paddingSize(bodySize), chunkBuffer);
+            }
+
+            return chunkSize;
+        }
+
+    }
+
     private static interface Delegate {
         byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException;
 
@@ -245,24 +648,12 @@ public class ChunkEncoder implements HeaderConstants {
 
         @Override
         public void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) throws UaException {
-            AsymmetricSecurityHeader header = new AsymmetricSecurityHeader(
-                    channel.getSecurityPolicy().getSecurityPolicyUri(),
-                    channel.getLocalCertificateBytes(),
-                    channel.getRemoteCertificateThumbprint()
-            );
-
-            AsymmetricSecurityHeader.encode(header, buffer);
+            channel.writeAsymmetricSecurityHeader(buffer);
         }
 
         @Override
         public int getSecurityHeaderSize(SecureChannel channel) throws UaException {
-            String securityPolicyUri = channel.getSecurityPolicy().getSecurityPolicyUri();
-            byte[] localCertificateBytes = channel.getLocalCertificateBytes().bytes();
-            byte[] remoteCertificateThumbprint = channel.getRemoteCertificateThumbprint().bytes();
-
-            return 12 + securityPolicyUri.length() +
-                    (localCertificateBytes != null ? localCertificateBytes.length : 0) +
-                    (remoteCertificateThumbprint != null ? remoteCertificateThumbprint.length : 0);
+            return channel.getAsymmetricSecurityHeaderSize();
         }
 
         @Override
@@ -295,6 +686,15 @@ public class ChunkEncoder implements HeaderConstants {
     private static class SymmetricDelegate implements Delegate {
 
         private volatile ChannelSecurity.SecuritySecrets securitySecrets;
+        private volatile SymmetricCryptoContext cryptoContext;
+
+        ChannelSecurity.SecuritySecrets getSecuritySecrets() {
+            return securitySecrets;
+        }
+
+        void setSecuritySecrets(ChannelSecurity.SecuritySecrets securitySecrets) {
+            this.securitySecrets = securitySecrets;
+        }
 
         @Override
         public void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) {
@@ -308,34 +708,27 @@ public class ChunkEncoder implements HeaderConstants {
 
         @Override
         public byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException {
-            SecurityAlgorithm signatureAlgorithm = channel.getSecurityPolicy().getSymmetricSignatureAlgorithm();
-            byte[] signatureKey = channel.getEncryptionKeys(securitySecrets).getSignatureKey();
-
-            return SignatureUtil.hmac(
-                    signatureAlgorithm,
-                    signatureKey,
-                    chunkNioBuffer
-            );
+            return SignatureUtil.hmac(getCryptoContext(channel).getMac(), chunkNioBuffer);
         }
 
         @Override
         public Cipher getAndInitializeCipher(SecureChannel channel) throws UaException {
-            try {
-                String transformation = channel.getSecurityPolicy().getSymmetricEncryptionAlgorithm().getTransformation();
-                ChannelSecurity.SecretKeys secretKeys = channel.getEncryptionKeys(securitySecrets);
-
-                SecretKeySpec keySpec = new SecretKeySpec(secretKeys.getEncryptionKey(), "AES");
-                IvParameterSpec ivSpec = new IvParameterSpec(secretKeys.getInitializationVector());
-
-                Cipher cipher = Cipher.getInstance(transformation);
-                cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivSpec);
+            return getCryptoContext(channel).getCipher();
+        }
 
-                assert (cipher.getBlockSize() == channel.getSymmetricCipherTextBlockSize());
+        /**
+         * Get the {@link SymmetricCryptoContext} for the current {@link ChannelSecurity.SecuritySecrets}, creating a
+         * new one only when the secrets have changed, i.e. after the secure channel has been renewed.
+         */
+        private SymmetricCryptoContext getCryptoContext(SecureChannel channel) throws UaException {
+            SymmetricCryptoContext context = cryptoContext;
 
-                return cipher;
-            } catch (GeneralSecurityException e) {
-                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+            if (context == null || context.getSecuritySecrets() != securitySecrets) {
+                context = SymmetricCryptoContext.forEncryption(channel, securitySecrets);
+                cryptoContext = context;
             }
+
+            return context;
         }
 
         @Override
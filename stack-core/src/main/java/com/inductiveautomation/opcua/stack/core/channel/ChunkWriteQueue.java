@@ -0,0 +1,120 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * Writes the chunks of encoded messages to a channel without ever blocking the thread that encodes them.
+ * <p>
+ * While the channel is writable chunks are written and flushed as soon as they're ready. Once it stops being writable
+ * the {@link SerializationQueue} stops encoding messages: the message being encoded is finished and its remaining
+ * chunks are queued here. Queued chunks are written from {@link #channelWritabilityChanged()} as the channel drains,
+ * after which encoding resumes. Only the chunks of the message in progress, and those already on their way to the
+ * event loop, are ever queued, so the queue is bounded by the remote max chunk count of a message.
+ * <p>
+ * Chunks are written in the order they were handed to {@link #write(ByteBuf)}: all writing happens on the channel's
+ * event loop.
+ */
+public class ChunkWriteQueue {
+
+    /** Accessed only from the channel's event loop. */
+    private final Queue<ByteBuf> queuedChunks = new ArrayDeque<>();
+    private boolean closed = false;
+
+    private final ChannelHandlerContext ctx;
+    private final SerializationQueue serializationQueue;
+
+    /**
+     * @param ctx                the context of the handler writing the chunks.
+     * @param serializationQueue the {@link SerializationQueue} encoding the messages.
+     */
+    public ChunkWriteQueue(ChannelHandlerContext ctx, SerializationQueue serializationQueue) {
+        this.ctx = ctx;
+        this.serializationQueue = serializationQueue;
+    }
+
+    /**
+     * Write {@code chunk}, queueing it if the channel isn't writable. Called from the thread encoding the message.
+     *
+     * @param chunk the chunk to write.
+     */
+    public void write(ByteBuf chunk) {
+        if (!ctx.channel().isWritable()) {
+            serializationQueue.pauseEncoding();
+
+            /*
+             * If the channel became writable again before encoding was paused its writability change may already
+             * have been handled, and nothing would resume encoding.
+             */
+            if (ctx.channel().isWritable()) {
+                serializationQueue.resumeEncoding();
+            }
+        }
+
+        if (ctx.executor().inEventLoop()) {
+            offer(chunk);
+        } else {
+            try {
+                ctx.executor().execute(() -> offer(chunk));
+            } catch (RejectedExecutionException e) {
+                chunk.release();
+            }
+        }
+    }
+
+    /**
+     * Write the queued chunks for as long as the channel stays writable, and resume encoding once they're all
+     * written. Call from the handler's {@code channelWritabilityChanged}.
+     */
+    public void channelWritabilityChanged() {
+        boolean written = false;
+
+        while (!queuedChunks.isEmpty() && ctx.channel().isWritable()) {
+            ctx.write(queuedChunks.poll());
+            written = true;
+        }
+
+        if (written) ctx.flush();
+
+        if (queuedChunks.isEmpty() && ctx.channel().isWritable()) {
+            serializationQueue.resumeEncoding();
+        }
+    }
+
+    /**
+     * Release the queued chunks and every chunk handed to {@link #write(ByteBuf)} from now on. Call from the handler's
+     * {@code channelInactive}.
+     */
+    public void channelInactive() {
+        closed = true;
+
+        while (!queuedChunks.isEmpty()) {
+            queuedChunks.poll().release();
+        }
+
+        // Let the messages still waiting be encoded; their chunks are released.
+        serializationQueue.resumeEncoding();
+    }
+
+    /**
+     * @return the number of chunks queued because the channel isn't writable.
+     */
+    public int size() {
+        return queuedChunks.size();
+    }
+
+    private void offer(ByteBuf chunk) {
+        if (closed) {
+            chunk.release();
+        } else if (queuedChunks.isEmpty() && ctx.channel().isWritable()) {
+            ctx.writeAndFlush(chunk);
+        } else {
+            queuedChunks.add(chunk);
+        }
+    }
+
+}
@@ -5,9 +5,11 @@ import java.security.cert.X509Certificate;
 import java.util.List;
 
 import com.google.common.base.Objects;
+import com.inductiveautomation.opcua.stack.core.UaException;
 import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
 import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import io.netty.buffer.ByteBuf;
 import io.netty.util.DefaultAttributeMap;
 
 public class ClientSecureChannel extends DefaultAttributeMap implements SecureChannel {
@@ -24,6 +26,19 @@ public class ClientSecureChannel extends DefaultAttributeMap implements SecureCh
     private final SecurityPolicy securityPolicy;
     private final MessageSecurityMode messageSecurityMode;
 
+    /*
+     * Values derived from the certificates, which never change for a ClientSecureChannel. Encodings and thumbprints are
+     * computed on first use because computing them can fail.
+     */
+    private final int localAsymmetricKeyLength;
+    private final int remoteAsymmetricKeyLength;
+
+    private volatile ByteString localCertificateBytes;
+    private volatile ByteString localCertificateThumbprint;
+    private volatile ByteString remoteCertificateBytes;
+    private volatile ByteString remoteCertificateThumbprint;
+    private volatile byte[] asymmetricSecurityHeaderBytes;
+
     public ClientSecureChannel(SecurityPolicy securityPolicy, MessageSecurityMode messageSecurityMode) {
         this(null, null, null, null, securityPolicy, messageSecurityMode);
     }
@@ -41,6 +56,9 @@ public class ClientSecureChannel extends DefaultAttributeMap implements SecureCh
         this.remoteCertificateChain = remoteCertificateChain;
         this.securityPolicy = securityPolicy;
         this.messageSecurityMode = messageSecurityMode;
+
+        localAsymmetricKeyLength = SecureChannel.getAsymmetricKeyLength(localCertificate);
+        remoteAsymmetricKeyLength = SecureChannel.getAsymmetricKeyLength(remoteCertificate);
     }
 
     public void setChannelId(long channelId) {
@@ -104,6 +122,73 @@ public class ClientSecureChannel extends DefaultAttributeMap implements SecureCh
         return remoteCertificateChain;
     }
 
+    @Override
+    public ByteString getLocalCertificateBytes() throws UaException {
+        ByteString bs = localCertificateBytes;
+        if (bs == null) {
+            localCertificateBytes = bs = SecureChannel.super.getLocalCertificateBytes();
+        }
+        return bs;
+    }
+
+    @Override
+    public ByteString getLocalCertificateThumbprint() throws UaException {
+        ByteString bs = localCertificateThumbprint;
+        if (bs == null) {
+            localCertificateThumbprint = bs = SecureChannel.super.getLocalCertificateThumbprint();
+        }
+        return bs;
+    }
+
+    @Override
+    public ByteString getRemoteCertificateBytes() throws UaException {
+        ByteString bs = remoteCertificateBytes;
+        if (bs == null) {
+            remoteCertificateBytes = bs = SecureChannel.super.getRemoteCertificateBytes();
+        }
+        return bs;
+    }
+
+    @Override
+    public ByteString getRemoteCertificateThumbprint() throws UaException {
+        ByteString bs = remoteCertificateThumbprint;
+        if (bs == null) {
+            remoteCertificateThumbprint = bs = SecureChannel.super.getRemoteCertificateThumbprint();
+        }
+        return bs;
+    }
+
+    @Override
+    public void writeAsymmetricSecurityHeader(ByteBuf buffer) throws UaException {
+        buffer.writeBytes(getAsymmetricSecurityHeaderBytes());
+    }
+
+    @Override
+    public int getAsymmetricSecurityHeaderSize() throws UaException {
+        return getAsymmetricSecurityHeaderBytes().length;
+    }
+
+    /**
+     * @return the cached encoded AsymmetricSecurityHeader; never handed out, so it can't be modified.
+     */
+    private byte[] getAsymmetricSecurityHeaderBytes() throws UaException {
+        byte[] bs = asymmetricSecurityHeaderBytes;
+        if (bs == null) {
+            asymmetricSecurityHeaderBytes = bs = SecureChannel.encodeAsymmetricSecurityHeader(this);
+        }
+        return bs;
+    }
+
+    @Override
+    public int getLocalAsymmetricKeyLength() {
+        return localAsymmetricKeyLength;
+    }
+
+    @Override
+    public int getRemoteAsymmetricKeyLength() {
+        return remoteAsymmetricKeyLength;
+    }
+
     @Override
     public ChannelSecurity getChannelSecurity() {
         return channelSecurity;
@@ -0,0 +1,186 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Coalesces the flushes of a channel's writes that happen within one pass of its event loop.
+ * <p>
+ * Instead of flushing right away, the first flush requested after the last actual flush schedules a flush task on the
+ * event loop; further flushes requested before that task runs are absorbed by it. Writes submitted concurrently from
+ * other threads are queued on the event loop ahead of the flush task, so under load many messages go out with a single
+ * flush, i.e. a single syscall, while an idle channel's lone write is flushed as soon as its task has run.
+ * <p>
+ * At most {@code maxPendingFlushes} flushes are absorbed before flushing right away, which bounds the amount of data a
+ * flush can be held back for. Pending data is flushed before the channel is closed or disconnected and as soon as it
+ * becomes unwritable.
+ * <p>
+ * Must be the handler closest to the head of the pipeline that writes or flushes, otherwise flushes from handlers in
+ * front of it aren't consolidated.
+ */
+public class FlushConsolidationHandler extends ChannelDuplexHandler {
+
+    public static final int DEFAULT_MAX_PENDING_FLUSHES = 256;
+
+    private final Runnable flushTask = this::scheduledFlush;
+
+    private final int maxPendingFlushes;
+    private final Statistics statistics;
+
+    private ChannelHandlerContext ctx;
+    private int pendingWrites = 0;
+    private int pendingFlushes = 0;
+    private boolean flushScheduled = false;
+
+    public FlushConsolidationHandler(Statistics statistics) {
+        this(DEFAULT_MAX_PENDING_FLUSHES, statistics);
+    }
+
+    /**
+     * @param maxPendingFlushes the number of flushes absorbed by a scheduled flush before flushing right away.
+     * @param statistics        the {@link Statistics} to count writes and flushes in. May be shared by channels.
+     */
+    public FlushConsolidationHandler(int maxPendingFlushes, Statistics statistics) {
+        Preconditions.checkArgument(maxPendingFlushes > 0, "maxPendingFlushes must be greater than 0");
+
+        this.maxPendingFlushes = maxPendingFlushes;
+        this.statistics = Preconditions.checkNotNull(statistics);
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        flushIfPending(ctx);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        // Encoders with nothing to write pass an empty buffer along; those don't count as messages.
+        if (!(msg instanceof ByteBuf) || ((ByteBuf) msg).isReadable()) {
+            pendingWrites++;
+            statistics.writes.increment();
+        }
+
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        statistics.flushRequests.increment();
+
+        if (++pendingFlushes >= maxPendingFlushes) {
+            flushNow(ctx);
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+            ctx.executor().execute(flushTask);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (!ctx.channel().isWritable()) {
+            flushIfPending(ctx);
+        }
+
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushIfPending(ctx);
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushIfPending(ctx);
+        ctx.close(promise);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        flushIfPending(ctx);
+        ctx.fireExceptionCaught(cause);
+    }
+
+    private void scheduledFlush() {
+        flushScheduled = false;
+
+        if (pendingFlushes > 0) {
+            flushNow(ctx);
+        }
+    }
+
+    private void flushIfPending(ChannelHandlerContext ctx) {
+        if (pendingFlushes > 0) {
+            flushNow(ctx);
+        }
+    }
+
+    private void flushNow(ChannelHandlerContext ctx) {
+        if (pendingWrites > 0) {
+            statistics.flushes.increment();
+        }
+
+        pendingWrites = 0;
+        pendingFlushes = 0;
+        ctx.flush();
+    }
+
+    /**
+     * Counts the messages written and the flushes requested and actually done by {@link FlushConsolidationHandler}s.
+     */
+    public static class Statistics {
+
+        private final LongAdder writes = new LongAdder();
+        private final LongAdder flushRequests = new LongAdder();
+        private final LongAdder flushes = new LongAdder();
+
+        /**
+         * @return the number of non-empty messages written.
+         */
+        public long getWriteCount() {
+            return writes.sum();
+        }
+
+        /**
+         * @return the number of flushes requested by the handlers behind the {@link FlushConsolidationHandler}.
+         */
+        public long getFlushRequestCount() {
+            return flushRequests.sum();
+        }
+
+        /**
+         * @return the number of flushes actually done that had messages to flush.
+         */
+        public long getFlushCount() {
+            return flushes.sum();
+        }
+
+        /**
+         * @return the average number of messages written per flush, or 0 if nothing has been flushed yet.
+         */
+        public double getBatchingFactor() {
+            long flushCount = getFlushCount();
+
+            return flushCount > 0 ? (double) getWriteCount() / flushCount : 0d;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("writes=%d, flushRequests=%d, flushes=%d, batchingFactor=%.2f",
+                    getWriteCount(), getFlushRequestCount(), getFlushCount(), getBatchingFactor());
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.UaException;
+
+/**
+ * Fans the per-chunk work of parallel chunk security, in {@link ChunkEncoder} and {@link ChunkDecoder}, out to an
+ * executor and joins it.
+ */
+final class ParallelChunks {
+
+    private ParallelChunks() {}
+
+    interface ChunkTask<D> {
+        void run(D delegate, int index) throws UaException;
+    }
+
+    /**
+     * Run {@code task} for each of {@code chunkCount} chunks on {@code executor} and wait for all of them to finish.
+     * Each run borrows a delegate from {@code delegates}, or creates one with {@code newDelegate} if none is free, and
+     * gives it back when done.
+     *
+     * @throws UaException the first failure, or the first {@link UaException} in its causes; other failures are
+     *                     reported as {@link StatusCodes#Bad_SecurityChecksFailed}.
+     */
+    static <D> void run(Executor executor,
+                        Queue<D> delegates,
+                        Supplier<D> newDelegate,
+                        int chunkCount,
+                        ChunkTask<D> task) throws UaException {
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunkCount];
+        Throwable failure = null;
+
+        for (int i = 0; i < chunkCount; i++) {
+            final int index = i;
+
+            try {
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    D delegate = delegates.poll();
+                    if (delegate == null) delegate = newDelegate.get();
+
+                    try {
+                        task.run(delegate, index);
+                    } catch (UaException e) {
+                        throw new CompletionException(e);
+                    } finally {
+                        delegates.offer(delegate);
+                    }
+                }, executor);
+            } catch (RejectedExecutionException e) {
+                failure = e;
+                break;
+            }
+        }
+
+        // Wait for everything that was submitted, even after a failure; the chunks are still being worked on.
+        for (CompletableFuture<?> future : futures) {
+            if (future == null) break;
+
+            try {
+                future.join();
+            } catch (Throwable t) {
+                if (failure == null) failure = t;
+            }
+        }
+
+        if (failure != null) {
+            for (Throwable t = failure; t != null; t = t.getCause()) {
+                if (t instanceof UaException) throw (UaException) t;
+            }
+
+            throw new UaException(StatusCodes.Bad_SecurityChecksFailed, failure);
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.inductiveautomation.opcua.stack.core.channel;
 
+import java.nio.ByteOrder;
 import java.security.KeyPair;
 import java.security.PublicKey;
 import java.security.cert.Certificate;
@@ -10,11 +11,14 @@ import java.util.List;
 
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.channel.headers.AsymmetricSecurityHeader;
 import com.inductiveautomation.opcua.stack.core.security.SecurityAlgorithm;
 import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
 import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
 import com.inductiveautomation.opcua.stack.core.util.DigestUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 public interface SecureChannel {
 
@@ -83,6 +87,34 @@ public interface SecureChannel {
         }
     }
 
+    /**
+     * @return the length, in bits, of the local certificate's RSA public key, or 0 if there is none.
+     */
+    default int getLocalAsymmetricKeyLength() {
+        return getAsymmetricKeyLength(getLocalCertificate());
+    }
+
+    /**
+     * @return the length, in bits, of the remote certificate's RSA public key, or 0 if there is none.
+     */
+    default int getRemoteAsymmetricKeyLength() {
+        return getAsymmetricKeyLength(getRemoteCertificate());
+    }
+
+    /**
+     * Write the encoded {@link AsymmetricSecurityHeader} for chunks sent on this channel into {@code buffer}.
+     */
+    default void writeAsymmetricSecurityHeader(ByteBuf buffer) throws UaException {
+        buffer.writeBytes(encodeAsymmetricSecurityHeader(this));
+    }
+
+    /**
+     * @return the length of the encoded {@link AsymmetricSecurityHeader} for chunks sent on this channel.
+     */
+    default int getAsymmetricSecurityHeaderSize() throws UaException {
+        return encodeAsymmetricSecurityHeader(this).length;
+    }
+
     default int getLocalAsymmetricCipherTextBlockSize() {
         if (isAsymmetricEncryptionEnabled()) {
             SecurityAlgorithm algorithm = getSecurityPolicy().getAsymmetricEncryptionAlgorithm();
@@ -90,7 +122,7 @@ public interface SecureChannel {
             switch(algorithm) {
                 case Rsa15:
                 case RsaOaep:
-                    return (getAsymmetricKeyLength(getLocalCertificate()) + 1) / 8;
+                    return (getLocalAsymmetricKeyLength() + 1) / 8;
             }
         }
 
@@ -104,7 +136,7 @@ public interface SecureChannel {
             switch(algorithm) {
                 case Rsa15:
                 case RsaOaep:
-                    return (getAsymmetricKeyLength(getRemoteCertificate()) + 1) / 8;
+                    return (getRemoteAsymmetricKeyLength() + 1) / 8;
             }
         }
 
@@ -117,9 +149,9 @@ public interface SecureChannel {
 
             switch(algorithm) {
                 case Rsa15:
-                    return (getAsymmetricKeyLength(getLocalCertificate()) + 1) / 8 - 11;
+                    return (getLocalAsymmetricKeyLength() + 1) / 8 - 11;
                 case RsaOaep:
-                    return (getAsymmetricKeyLength(getLocalCertificate()) + 1) / 8 - 42;
+                    return (getLocalAsymmetricKeyLength() + 1) / 8 - 42;
             }
         }
 
@@ -132,9 +164,9 @@ public interface SecureChannel {
 
             switch(algorithm) {
                 case Rsa15:
-                    return (getAsymmetricKeyLength(getRemoteCertificate()) + 1) / 8 - 11;
+                    return (getRemoteAsymmetricKeyLength() + 1) / 8 - 11;
                 case RsaOaep:
-                    return (getAsymmetricKeyLength(getRemoteCertificate()) + 1) / 8 - 42;
+                    return (getRemoteAsymmetricKeyLength() + 1) / 8 - 42;
             }
         }
 
@@ -147,7 +179,7 @@ public interface SecureChannel {
         switch(algorithm) {
             case RsaSha1:
             case RsaSha256:
-                return (getAsymmetricKeyLength(getLocalCertificate()) + 1) / 8;
+                return (getLocalAsymmetricKeyLength() + 1) / 8;
             default:
                 return 0;
         }
@@ -159,7 +191,7 @@ public interface SecureChannel {
         switch(algorithm) {
             case RsaSha1:
             case RsaSha256:
-                return (getAsymmetricKeyLength(getRemoteCertificate()) + 1) / 8;
+                return (getRemoteAsymmetricKeyLength() + 1) / 8;
             default:
                 return 0;
         }
@@ -259,6 +291,25 @@ public interface SecureChannel {
                 getMessageSecurityMode() == MessageSecurityMode.SignAndEncrypt;
     }
 
+    /**
+     * @return a newly encoded {@link AsymmetricSecurityHeader} for chunks sent on {@code channel}.
+     */
+    static byte[] encodeAsymmetricSecurityHeader(SecureChannel channel) throws UaException {
+        AsymmetricSecurityHeader header = new AsymmetricSecurityHeader(
+                channel.getSecurityPolicy().getSecurityPolicyUri(),
+                channel.getLocalCertificateBytes(),
+                channel.getRemoteCertificateThumbprint()
+        );
+
+        ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        AsymmetricSecurityHeader.encode(header, buffer);
+
+        byte[] headerBytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(headerBytes);
+
+        return headerBytes;
+    }
+
     static int getAsymmetricKeyLength(Certificate certificate) {
         PublicKey publicKey = certificate != null ?
                 certificate.getPublicKey() : null;
@@ -0,0 +1,35 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
+
+import io.netty.channel.Channel;
+
+/**
+ * Decides which {@link Executor} the encoding and decoding of each channel's {@link SerializationQueue} runs on.
+ *
+ * @see SerializationExecutors
+ */
+public interface SerializationExecutor {
+
+    /**
+     * @param channel the channel a {@link SerializationQueue} is being created for, or {@code null} if there isn't
+     *                one.
+     * @return the {@link Executor} the queue's work should run on.
+     */
+    Executor getExecutor(@Nullable Channel channel);
+
+    /**
+     * @return the number of tasks waiting for a thread in each lane of this executor. A lane is a thread or pool of
+     * threads that queued tasks are handed to.
+     */
+    int[] getQueueDepths();
+
+    /**
+     * Shut down the threads owned by this executor once the work already submitted has run. Does nothing for executors
+     * that are shared, i.e. those returned by the factory methods of {@link SerializationExecutors} that take no
+     * arguments, or that don't own any threads.
+     */
+    default void shutdown() {}
+
+}
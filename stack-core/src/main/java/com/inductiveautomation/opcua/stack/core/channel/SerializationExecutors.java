@@ -0,0 +1,241 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory methods for the {@link SerializationExecutor} strategies that can be configured with
+ * {@link ChannelConfig}.
+ */
+public final class SerializationExecutors {
+
+    private SerializationExecutors() {}
+
+    private static final SerializationExecutor CachedThreadPool = new PoolExecutor(
+            (ThreadPoolExecutor) Executors.newCachedThreadPool(threadFactory("ua-serialization-pool-%d")), true);
+
+    private static final Executor ChunkSecurityPool =
+            newFixedThreadPool(Runtime.getRuntime().availableProcessors(), "ua-chunk-security-%d");
+
+    /**
+     * @return the shared {@link SerializationExecutor} that runs serialization on an unbounded cached thread pool.
+     * This is the default.
+     */
+    public static SerializationExecutor cachedThreadPool() {
+        return CachedThreadPool;
+    }
+
+    /**
+     * @return the shared pool, with one thread per available processor, that the chunks of large symmetric messages
+     * are signed/encrypted and decrypted/verified on when parallel chunk security is enabled. This is the default.
+     * @see ChannelConfigBuilder#setParallelChunkExecutor(Executor)
+     */
+    public static Executor chunkSecurityPool() {
+        return ChunkSecurityPool;
+    }
+
+    /**
+     * @return the shared {@link SerializationExecutor} that runs serialization for all channels on a pool with one
+     * thread per available processor. The pool is created the first time it's asked for.
+     */
+    public static SerializationExecutor boundedPool() {
+        return BoundedPoolHolder.BOUNDED_POOL;
+    }
+
+    /**
+     * The returned executor owns its threads; the caller must {@link SerializationExecutor#shutdown() shut it down}
+     * once the channels using it have been closed.
+     *
+     * @param threadCount the number of threads in the pool.
+     * @return a new {@link SerializationExecutor} that runs serialization for all channels on a pool with
+     * {@code threadCount} threads.
+     */
+    public static SerializationExecutor boundedPool(int threadCount) {
+        Preconditions.checkArgument(threadCount > 0, "threadCount must be greater than 0");
+
+        return new PoolExecutor(newFixedThreadPool(threadCount, "ua-serialization-bounded-%d"), false);
+    }
+
+    /**
+     * @return the shared {@link SerializationExecutor} with one lane per available processor. The lanes are created
+     * the first time it's asked for.
+     * @see #affinity(int)
+     */
+    public static SerializationExecutor affinity() {
+        return AffinityHolder.AFFINITY;
+    }
+
+    /**
+     * Each channel is hashed to one of {@code laneCount} single-threaded lanes and all of its serialization runs on
+     * that lane's thread, keeping the channel's encoders, decoders and buffers in that thread's cache.
+     * <p>
+     * The returned executor owns its threads; the caller must {@link SerializationExecutor#shutdown() shut it down}
+     * once the channels using it have been closed.
+     *
+     * @param laneCount the number of lanes.
+     * @return a new {@link SerializationExecutor} that pins each channel to a single thread.
+     */
+    public static SerializationExecutor affinity(int laneCount) {
+        Preconditions.checkArgument(laneCount > 0, "laneCount must be greater than 0");
+
+        return new AffinityExecutor(laneCount, false);
+    }
+
+    /**
+     * Serialization runs inline on the Netty event loop of the channel it belongs to, avoiding any hand off between
+     * threads. Encoding and decoding large messages will hold up every other channel on the same event loop.
+     * <p>
+     * Queues created without a channel fall back to {@link #cachedThreadPool()}.
+     *
+     * @return a {@link SerializationExecutor} that runs serialization on each channel's event loop.
+     */
+    public static SerializationExecutor eventLoop() {
+        return new EventLoopExecutor();
+    }
+
+    private static ThreadFactory threadFactory(String nameFormat) {
+        return new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat(nameFormat)
+                .setUncaughtExceptionHandler((t, e) ->
+                        LoggerFactory.getLogger(SerializationQueue.class)
+                                .error("Uncaught exception in SerializationQueue.", e))
+                .build();
+    }
+
+    private static ThreadPoolExecutor newFixedThreadPool(int threadCount, String nameFormat) {
+        return new ThreadPoolExecutor(
+                threadCount, threadCount,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                threadFactory(nameFormat)
+        );
+    }
+
+    private static class BoundedPoolHolder {
+        private static final SerializationExecutor BOUNDED_POOL = new PoolExecutor(
+                newFixedThreadPool(Runtime.getRuntime().availableProcessors(), "ua-serialization-bounded-%d"), true);
+    }
+
+    private static class AffinityHolder {
+        private static final SerializationExecutor AFFINITY =
+                new AffinityExecutor(Runtime.getRuntime().availableProcessors(), true);
+    }
+
+    private static class PoolExecutor implements SerializationExecutor {
+
+        private final ThreadPoolExecutor executor;
+        private final boolean shared;
+
+        PoolExecutor(ThreadPoolExecutor executor, boolean shared) {
+            this.executor = executor;
+            this.shared = shared;
+        }
+
+        @Override
+        public Executor getExecutor(@Nullable Channel channel) {
+            return executor;
+        }
+
+        @Override
+        public int[] getQueueDepths() {
+            return new int[]{executor.getQueue().size()};
+        }
+
+        @Override
+        public void shutdown() {
+            if (!shared) executor.shutdown();
+        }
+
+    }
+
+    private static class AffinityExecutor implements SerializationExecutor {
+
+        private final AtomicInteger nextLane = new AtomicInteger(0);
+
+        private final ThreadPoolExecutor[] lanes;
+        private final boolean shared;
+
+        AffinityExecutor(int laneCount, boolean shared) {
+            this.shared = shared;
+
+            lanes = new ThreadPoolExecutor[laneCount];
+
+            for (int i = 0; i < laneCount; i++) {
+                lanes[i] = newFixedThreadPool(1, "ua-serialization-lane-" + i);
+            }
+        }
+
+        @Override
+        public Executor getExecutor(@Nullable Channel channel) {
+            int hash = channel != null ? channel.hashCode() : nextLane.getAndIncrement();
+
+            return lanes[Math.floorMod(hash, lanes.length)];
+        }
+
+        @Override
+        public int[] getQueueDepths() {
+            int[] depths = new int[lanes.length];
+
+            for (int i = 0; i < lanes.length; i++) {
+                depths[i] = lanes[i].getQueue().size();
+            }
+
+            return depths;
+        }
+
+        @Override
+        public void shutdown() {
+            if (!shared) {
+                for (ThreadPoolExecutor lane : lanes) {
+                    lane.shutdown();
+                }
+            }
+        }
+
+    }
+
+    private static class EventLoopExecutor implements SerializationExecutor {
+
+        private final Set<EventLoop> eventLoops = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Executor getExecutor(@Nullable Channel channel) {
+            if (channel == null) {
+                return CachedThreadPool.getExecutor(null);
+            }
+
+            EventLoop eventLoop = channel.eventLoop();
+            eventLoops.add(eventLoop);
+
+            return eventLoop;
+        }
+
+        @Override
+        public int[] getQueueDepths() {
+            eventLoops.removeIf(EventLoop::isTerminated);
+
+            return eventLoops.stream()
+                    .mapToInt(l -> l instanceof SingleThreadEventExecutor ?
+                            ((SingleThreadEventExecutor) l).pendingTasks() : 0)
+                    .toArray();
+        }
+
+    }
+
+}
@@ -1,32 +1,17 @@
 package com.inductiveautomation.opcua.stack.core.channel;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
 
 import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
 import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.InternCache;
 import com.inductiveautomation.opcua.stack.core.util.ExecutionQueue;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import org.slf4j.LoggerFactory;
+import io.netty.channel.Channel;
 
 public class SerializationQueue {
 
-    private static final ExecutorService SerializationExecutor;
-
-    static {
-        ThreadFactory threadFactory = new ThreadFactoryBuilder()
-                .setDaemon(true)
-                .setNameFormat("ua-serialization-pool-%d")
-                .setUncaughtExceptionHandler((t, e) ->
-                        LoggerFactory.getLogger(SerializationQueue.class)
-                                .error("Uncaught exception in SerializationQueue.", e))
-                .build();
-
-        SerializationExecutor = Executors.newCachedThreadPool(threadFactory);
-    }
-
     private final BinaryEncoder binaryEncoder;
     private final BinaryDecoder binaryDecoder;
 
@@ -39,16 +24,35 @@ public class SerializationQueue {
     private final ChannelParameters parameters;
 
     public SerializationQueue(ChannelParameters parameters, int maxArrayLength, int maxStringLength) {
+        this(null, new ChannelConfigBuilder()
+                .setMaxArrayLength(maxArrayLength)
+                .setMaxStringLength(maxStringLength)
+                .build(), parameters);
+    }
+
+    /**
+     * @param channel    the channel this queue serializes messages for, used to pick an executor.
+     * @param config     the {@link ChannelConfig} the channel was created with.
+     * @param parameters the negotiated {@link ChannelParameters}.
+     */
+    public SerializationQueue(@Nullable Channel channel, ChannelConfig config, ChannelParameters parameters) {
         this.parameters = parameters;
 
+        int maxArrayLength = config.getMaxArrayLength();
+        int maxStringLength = config.getMaxStringLength();
+        int parallelChunkThreshold = config.getParallelChunkThreshold();
+        Executor parallelChunkExecutor = config.getParallelChunkExecutor();
+
         binaryEncoder = new BinaryEncoder(maxArrayLength, maxStringLength);
-        binaryDecoder = new BinaryDecoder(maxArrayLength, maxStringLength);
+        binaryDecoder = new BinaryDecoder(config);
 
-        chunkEncoder = new ChunkEncoder(parameters);
-        chunkDecoder = new ChunkDecoder(parameters);
+        chunkEncoder = new ChunkEncoder(parameters, parallelChunkThreshold, parallelChunkExecutor);
+        chunkDecoder = new ChunkDecoder(parameters, parallelChunkThreshold, parallelChunkExecutor);
 
-        encodingQueue = new ExecutionQueue<>(ExecutionQueue.RUNNABLE_EXECUTOR, SerializationExecutor);
-        decodingQueue = new ExecutionQueue<>(ExecutionQueue.RUNNABLE_EXECUTOR, SerializationExecutor);
+        Executor executor = config.getSerializationExecutor().getExecutor(channel);
+
+        encodingQueue = new ExecutionQueue<>(ExecutionQueue.RUNNABLE_EXECUTOR, executor);
+        decodingQueue = new ExecutionQueue<>(ExecutionQueue.RUNNABLE_EXECUTOR, executor);
     }
 
     public void encode(BiConsumer<BinaryEncoder, ChunkEncoder> consumer) {
@@ -59,6 +63,44 @@ public class SerializationQueue {
         decodingQueue.submit(() -> consumer.accept(binaryDecoder, chunkDecoder));
     }
 
+    /**
+     * Stop encoding messages, starting with the next one, until {@link #resumeEncoding()} is called. A message being
+     * encoded when encoding is paused is encoded completely.
+     */
+    public void pauseEncoding() {
+        encodingQueue.pause();
+    }
+
+    /**
+     * Resume encoding messages after {@link #pauseEncoding()}.
+     */
+    public void resumeEncoding() {
+        encodingQueue.resume();
+    }
+
+    /**
+     * @return the number of messages waiting to be encoded.
+     */
+    public int getEncodingQueueDepth() {
+        return encodingQueue.size();
+    }
+
+    /**
+     * @return the number of chunks waiting to be decoded.
+     */
+    public int getDecodingQueueDepth() {
+        return decodingQueue.size();
+    }
+
+    /**
+     * @return the {@link InternCache} decoded values are canonicalized through, or {@code null} if interning is
+     * disabled for this channel.
+     */
+    @Nullable
+    public InternCache getInternCache() {
+        return binaryDecoder.getInternCache();
+    }
+
     public ChannelParameters getParameters() {
         return parameters;
     }
@@ -11,6 +11,7 @@ import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
 import com.inductiveautomation.opcua.stack.core.types.structured.EndpointDescription;
 import com.inductiveautomation.opcua.stack.core.util.CertificateUtil;
+import io.netty.buffer.ByteBuf;
 import io.netty.util.DefaultAttributeMap;
 
 public class ServerSecureChannel extends DefaultAttributeMap implements SecureChannel {
@@ -30,6 +31,19 @@ public class ServerSecureChannel extends DefaultAttributeMap implements SecureCh
     private volatile MessageSecurityMode messageSecurityMode;
     private volatile EndpointDescription endpointDescription;
 
+    /*
+     * Values derived from the certificates and security policy; cleared whenever those are set and recomputed on the
+     * next use.
+     */
+    private volatile int localAsymmetricKeyLength;
+    private volatile int remoteAsymmetricKeyLength;
+
+    private volatile ByteString localCertificateBytes;
+    private volatile ByteString localCertificateThumbprint;
+    private volatile ByteString remoteCertificateBytes;
+    private volatile ByteString remoteCertificateThumbprint;
+    private volatile byte[] asymmetricSecurityHeaderBytes;
+
     public void setChannelId(long channelId) {
         this.channelId = channelId;
     }
@@ -52,15 +66,27 @@ public class ServerSecureChannel extends DefaultAttributeMap implements SecureCh
 
     public void setLocalCertificate(X509Certificate localCertificate) {
         this.localCertificate = localCertificate;
+
+        localAsymmetricKeyLength = SecureChannel.getAsymmetricKeyLength(localCertificate);
+        localCertificateBytes = null;
+        localCertificateThumbprint = null;
+        asymmetricSecurityHeaderBytes = null;
     }
 
     public void setRemoteCertificate(byte[] certificateBytes) throws UaException {
         remoteCertificate = CertificateUtil.decodeCertificate(certificateBytes);
         remoteCertificateChain = CertificateUtil.decodeCertificates(certificateBytes);
+
+        remoteAsymmetricKeyLength = SecureChannel.getAsymmetricKeyLength(remoteCertificate);
+        remoteCertificateBytes = null;
+        remoteCertificateThumbprint = null;
+        asymmetricSecurityHeaderBytes = null;
     }
 
     public void setSecurityPolicy(SecurityPolicy securityPolicy) {
         this.securityPolicy = securityPolicy;
+
+        asymmetricSecurityHeaderBytes = null;
     }
 
     public void setMessageSecurityMode(MessageSecurityMode messageSecurityMode) {
@@ -95,6 +121,73 @@ public class ServerSecureChannel extends DefaultAttributeMap implements SecureCh
         return remoteCertificateChain;
     }
 
+    @Override
+    public ByteString getLocalCertificateBytes() throws UaException {
+        ByteString bs = localCertificateBytes;
+        if (bs == null) {
+            localCertificateBytes = bs = SecureChannel.super.getLocalCertificateBytes();
+        }
+        return bs;
+    }
+
+    @Override
+    public ByteString getLocalCertificateThumbprint() throws UaException {
+        ByteString bs = localCertificateThumbprint;
+        if (bs == null) {
+            localCertificateThumbprint = bs = SecureChannel.super.getLocalCertificateThumbprint();
+        }
+        return bs;
+    }
+
+    @Override
+    public ByteString getRemoteCertificateBytes() throws UaException {
+        ByteString bs = remoteCertificateBytes;
+        if (bs == null) {
+            remoteCertificateBytes = bs = SecureChannel.super.getRemoteCertificateBytes();
+        }
+        return bs;
+    }
+
+    @Override
+    public ByteString getRemoteCertificateThumbprint() throws UaException {
+        ByteString bs = remoteCertificateThumbprint;
+        if (bs == null) {
+            remoteCertificateThumbprint = bs = SecureChannel.super.getRemoteCertificateThumbprint();
+        }
+        return bs;
+    }
+
+    @Override
+    public void writeAsymmetricSecurityHeader(ByteBuf buffer) throws UaException {
+        buffer.writeBytes(getAsymmetricSecurityHeaderBytes());
+    }
+
+    @Override
+    public int getAsymmetricSecurityHeaderSize() throws UaException {
+        return getAsymmetricSecurityHeaderBytes().length;
+    }
+
+    /**
+     * @return the cached encoded AsymmetricSecurityHeader; never handed out, so it can't be modified.
+     */
+    private byte[] getAsymmetricSecurityHeaderBytes() throws UaException {
+        byte[] bs = asymmetricSecurityHeaderBytes;
+        if (bs == null) {
+            asymmetricSecurityHeaderBytes = bs = SecureChannel.encodeAsymmetricSecurityHeader(this);
+        }
+        return bs;
+    }
+
+    @Override
+    public int getLocalAsymmetricKeyLength() {
+        return localAsymmetricKeyLength;
+    }
+
+    @Override
+    public int getRemoteAsymmetricKeyLength() {
+        return remoteAsymmetricKeyLength;
+    }
+
     @Override
     public SecurityPolicy getSecurityPolicy() {
         return securityPolicy;
@@ -0,0 +1,112 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import javax.annotation.Nullable;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.UaException;
+
+/**
+ * Holds a {@link Cipher} and {@link Mac} that have been looked up and initialized once for a given
+ * {@link ChannelSecurity.SecuritySecrets}.
+ * <p>
+ * {@link Cipher#doFinal} and {@link Mac#doFinal} both reset the instance to its initialized state, so the same objects
+ * can be used for every chunk secured with the same token without another provider lookup or key schedule.
+ * <p>
+ * Instances are not thread safe; each {@link ChunkEncoder} and {@link ChunkDecoder} keeps its own.
+ */
+public class SymmetricCryptoContext {
+
+    private final ChannelSecurity.SecuritySecrets securitySecrets;
+    private final Cipher cipher;
+    private final Mac mac;
+
+    private SymmetricCryptoContext(ChannelSecurity.SecuritySecrets securitySecrets, Cipher cipher, Mac mac) {
+        this.securitySecrets = securitySecrets;
+        this.cipher = cipher;
+        this.mac = mac;
+    }
+
+    /**
+     * @return the {@link ChannelSecurity.SecuritySecrets} this context was initialized from.
+     */
+    public ChannelSecurity.SecuritySecrets getSecuritySecrets() {
+        return securitySecrets;
+    }
+
+    /**
+     * @return the initialized {@link Cipher}, or {@code null} if symmetric encryption is not enabled.
+     */
+    @Nullable
+    public Cipher getCipher() {
+        return cipher;
+    }
+
+    /**
+     * @return the initialized {@link Mac}, or {@code null} if symmetric signing is not enabled.
+     */
+    @Nullable
+    public Mac getMac() {
+        return mac;
+    }
+
+    /**
+     * Create a context for securing outgoing chunks, using the encryption keys of {@code securitySecrets}.
+     */
+    public static SymmetricCryptoContext forEncryption(SecureChannel channel,
+                                                       ChannelSecurity.SecuritySecrets securitySecrets)
+            throws UaException {
+
+        return create(channel, securitySecrets, channel.getEncryptionKeys(securitySecrets), Cipher.ENCRYPT_MODE);
+    }
+
+    /**
+     * Create a context for verifying and decrypting incoming chunks, using the decryption keys of
+     * {@code securitySecrets}.
+     */
+    public static SymmetricCryptoContext forDecryption(SecureChannel channel,
+                                                       ChannelSecurity.SecuritySecrets securitySecrets)
+            throws UaException {
+
+        return create(channel, securitySecrets, channel.getDecryptionKeys(securitySecrets), Cipher.DECRYPT_MODE);
+    }
+
+    private static SymmetricCryptoContext create(SecureChannel channel,
+                                                 ChannelSecurity.SecuritySecrets securitySecrets,
+                                                 ChannelSecurity.SecretKeys secretKeys,
+                                                 int cipherMode) throws UaException {
+
+        try {
+            Cipher cipher = null;
+            Mac mac = null;
+
+            if (channel.isSymmetricEncryptionEnabled()) {
+                String transformation = channel.getSecurityPolicy().getSymmetricEncryptionAlgorithm().getTransformation();
+
+                SecretKeySpec keySpec = new SecretKeySpec(secretKeys.getEncryptionKey(), "AES");
+                IvParameterSpec ivSpec = new IvParameterSpec(secretKeys.getInitializationVector());
+
+                cipher = Cipher.getInstance(transformation);
+                cipher.init(cipherMode, keySpec, ivSpec);
+
+                assert (cipher.getBlockSize() == channel.getSymmetricCipherTextBlockSize());
+            }
+
+            if (channel.isSymmetricSigningEnabled()) {
+                String transformation = channel.getSecurityPolicy().getSymmetricSignatureAlgorithm().getTransformation();
+
+                mac = Mac.getInstance(transformation);
+                mac.init(new SecretKeySpec(secretKeys.getSignatureKey(), transformation));
+            }
+
+            return new SymmetricCryptoContext(securitySecrets, cipher, mac);
+        } catch (GeneralSecurityException e) {
+            throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+        }
+    }
+
+}
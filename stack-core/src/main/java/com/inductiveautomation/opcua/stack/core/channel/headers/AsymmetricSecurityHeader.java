@@ -109,19 +109,19 @@ public class AsymmetricSecurityHeader {
         /* SecurityPolicyUri */
         int securityPolicyUriLength = buffer.readInt();
         String securityPolicyUri = new String(
-                buffer.readBytes(securityPolicyUriLength).array(),
+                readBytes(buffer, securityPolicyUriLength),
                 Charset.forName("UTF-8")
         );
 
         /* SenderCertificate */
         int senderCertificateLength = buffer.readInt();
         byte[] senderCertificate = senderCertificateLength >= 0 ?
-                buffer.readBytes(senderCertificateLength).array() : null;
+                readBytes(buffer, senderCertificateLength) : null;
 
         /* ReceiverCertificateThumbprint */
         int thumbprintLength = buffer.readInt();
         byte[] receiverCertificateThumbprint = thumbprintLength >= 0 ?
-                buffer.readBytes(thumbprintLength).array() : null;
+                readBytes(buffer, thumbprintLength) : null;
 
         return new AsymmetricSecurityHeader(
                 securityPolicyUri,
@@ -130,4 +130,10 @@ public class AsymmetricSecurityHeader {
         );
     }
 
+    private static byte[] readBytes(ByteBuf buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.readBytes(bytes);
+        return bytes;
+    }
+
 }
@@ -1,21 +1,31 @@
 package com.inductiveautomation.opcua.stack.core.serialization;
 
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
-import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
-import com.google.common.reflect.ClassPath;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaSerializationException;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoderDelegate;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoderDelegate;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySizeDelegate;
+import com.inductiveautomation.opcua.stack.core.types.DelegateIndex;
 import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.IdType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
 public class DelegateRegistry {
 
+    private static final Logger logger = LoggerFactory.getLogger(DelegateRegistry.class);
+
     private static final Map<Class<? extends UaSerializable>, EncoderDelegate<? extends UaSerializable>>
             encodersByClass = Maps.newConcurrentMap();
 
@@ -28,6 +38,36 @@ public class DelegateRegistry {
     private static final Map<NodeId, DecoderDelegate<? extends UaSerializable>>
             decodersById = Maps.newConcurrentMap();
 
+    private static final Map<Class<? extends UaSerializable>, BinaryEncoderDelegate<? extends UaSerializable>>
+            binaryEncodersByClass = Maps.newConcurrentMap();
+
+    private static final Map<Class<? extends UaSerializable>, BinaryDecoderDelegate<? extends UaSerializable>>
+            binaryDecodersByClass = Maps.newConcurrentMap();
+
+    private static final Map<NodeId, BinaryDecoderDelegate<? extends UaSerializable>>
+            binaryDecodersById = Maps.newConcurrentMap();
+
+    private static final Map<Class<? extends UaSerializable>, BinarySizeDelegate<? extends UaSerializable>>
+            binarySizesByClass = Maps.newConcurrentMap();
+
+    /**
+     * Decoders registered under numeric encoding ids in namespace 0 are also indexed by their identifier in these
+     * tables, which are consulted before the maps. Every standard encoding id is below this size.
+     */
+    private static final int NAMESPACE_ZERO_TABLE_SIZE = 16384;
+
+    private static final AtomicReferenceArray<DecoderDelegate<? extends UaSerializable>>
+            decodersByNamespaceZeroId = new AtomicReferenceArray<>(NAMESPACE_ZERO_TABLE_SIZE);
+
+    private static final AtomicReferenceArray<BinaryDecoderDelegate<? extends UaSerializable>>
+            binaryDecodersByNamespaceZeroId = new AtomicReferenceArray<>(NAMESPACE_ZERO_TABLE_SIZE);
+
+    /** Classes whose delegates have been looked up at least once; see {@link #initialize(Class)}. */
+    private static final Set<Class<?>> initializedClasses = Sets.newConcurrentHashSet();
+
+    /** Encoding ids whose delegates have been looked up at least once; see {@link #initialize(NodeId)}. */
+    private static final Set<NodeId> initializedIds = Sets.newConcurrentHashSet();
+
     public static <T extends UaSerializable> void registerEncoder(EncoderDelegate<T> delegate, Class<T> clazz, NodeId... ids) {
         encodersByClass.put(clazz, delegate);
 
@@ -40,14 +80,51 @@ public class DelegateRegistry {
         decodersByClass.put(clazz, delegate);
 
         if (ids != null) {
-            Arrays.stream(ids).forEach(id -> decodersById.put(id, delegate));
+            Arrays.stream(ids).forEach(id -> {
+                decodersById.put(id, delegate);
+
+                int index = namespaceZeroIndex(id);
+                if (index >= 0) decodersByNamespaceZeroId.set(index, delegate);
+            });
+        }
+    }
+
+    /**
+     * Register a {@link BinaryEncoderDelegate} that takes the place of the {@link EncoderDelegate} registered for
+     * {@code clazz} when encoding binary.
+     */
+    public static <T extends UaSerializable> void registerBinaryEncoder(BinaryEncoderDelegate<T> delegate, Class<T> clazz) {
+        binaryEncodersByClass.put(clazz, delegate);
+    }
+
+    /**
+     * Register a {@link BinaryDecoderDelegate} that takes the place of the {@link DecoderDelegate} registered for
+     * {@code clazz} and {@code ids} when decoding binary.
+     */
+    public static <T extends UaSerializable> void registerBinaryDecoder(BinaryDecoderDelegate<T> delegate, Class<T> clazz, NodeId... ids) {
+        binaryDecodersByClass.put(clazz, delegate);
+
+        if (ids != null) {
+            Arrays.stream(ids).forEach(id -> {
+                binaryDecodersById.put(id, delegate);
+
+                int index = namespaceZeroIndex(id);
+                if (index >= 0) binaryDecodersByNamespaceZeroId.set(index, delegate);
+            });
         }
     }
 
+    /**
+     * Register a {@link BinarySizeDelegate} that computes the binary encoded size of {@code clazz}.
+     */
+    public static <T extends UaSerializable> void registerBinarySize(BinarySizeDelegate<T> delegate, Class<T> clazz) {
+        binarySizesByClass.put(clazz, delegate);
+    }
+
     @SuppressWarnings("unchecked")
     public static <T extends UaSerializable> EncoderDelegate<T> getEncoder(T t) throws UaSerializationException {
         try {
-            return (EncoderDelegate<T>) encodersByClass.get(t.getClass());
+            return (EncoderDelegate<T>) lookup(encodersByClass, t.getClass());
         } catch (NullPointerException e) {
             throw new UaSerializationException(StatusCodes.Bad_EncodingError,
                     "no encoder registered for class=" + t);
@@ -57,7 +134,7 @@ public class DelegateRegistry {
     @SuppressWarnings("unchecked")
     public static <T extends UaSerializable> EncoderDelegate<T> getEncoder(Class<T> clazz) throws UaSerializationException {
         try {
-            return (EncoderDelegate<T>) encodersByClass.get(clazz);
+            return (EncoderDelegate<T>) lookup(encodersByClass, clazz);
         } catch (NullPointerException e) {
             throw new UaSerializationException(StatusCodes.Bad_EncodingError,
                     "no encoder registered for class=" + clazz);
@@ -67,7 +144,7 @@ public class DelegateRegistry {
     @SuppressWarnings("unchecked")
     public static <T extends UaSerializable> EncoderDelegate<T> getEncoder(NodeId encodingId) throws UaSerializationException {
         try {
-            return (EncoderDelegate<T>) encodersById.get(encodingId);
+            return (EncoderDelegate<T>) lookup(encodersById, encodingId);
         } catch (NullPointerException e) {
             throw new UaSerializationException(StatusCodes.Bad_EncodingError,
                     "no encoder registered for encodingId=" + encodingId);
@@ -77,7 +154,7 @@ public class DelegateRegistry {
     @SuppressWarnings("unchecked")
     public static <T extends UaSerializable> DecoderDelegate<T> getDecoder(T t) throws UaSerializationException {
         try {
-            return (DecoderDelegate<T>) decodersByClass.get(t.getClass());
+            return (DecoderDelegate<T>) lookup(decodersByClass, t.getClass());
         } catch (NullPointerException e) {
             throw new UaSerializationException(StatusCodes.Bad_DecodingError,
                     "no decoder registered for class=" + t);
@@ -87,7 +164,7 @@ public class DelegateRegistry {
     @SuppressWarnings("unchecked")
     public static <T extends UaSerializable> DecoderDelegate<T> getDecoder(Class<T> clazz) throws UaSerializationException {
         try {
-            return (DecoderDelegate<T>) decodersByClass.get(clazz);
+            return (DecoderDelegate<T>) lookup(decodersByClass, clazz);
         } catch (NullPointerException e) {
             throw new UaSerializationException(StatusCodes.Bad_DecodingError,
                     "no decoder registered for class=" + clazz);
@@ -95,7 +172,14 @@ public class DelegateRegistry {
     }
 
     public static DecoderDelegate<? extends UaSerializable> getDecoder(NodeId encodingId) {
-        DecoderDelegate<? extends UaSerializable> decoder = decodersById.get(encodingId);
+        int index = namespaceZeroIndex(encodingId);
+
+        DecoderDelegate<? extends UaSerializable> decoder =
+                index >= 0 ? decodersByNamespaceZeroId.get(index) : null;
+
+        if (decoder == null) {
+            decoder = lookup(decodersById, encodingId);
+        }
 
         if (decoder == null) {
             throw new UaSerializationException(StatusCodes.Bad_DecodingError,
@@ -105,34 +189,165 @@ public class DelegateRegistry {
         return decoder;
     }
 
-    static {
-        /*
-         * Reflect-o-magically find all generated structured and enumerated types and force their static initialization
-         * blocks to run, registering their encode/decode methods with the delegate registry.
-         */
-        Logger logger = LoggerFactory.getLogger(DelegateRegistry.class);
+    /**
+     * Get the decoder registered for the numeric encoding id {@code ns=0;i=identifier} without creating a
+     * {@link NodeId} for it.
+     *
+     * @param identifier the numeric identifier of an encoding id in namespace 0.
+     */
+    public static DecoderDelegate<? extends UaSerializable> getDecoder(long identifier) {
+        DecoderDelegate<? extends UaSerializable> decoder =
+                identifier >= 0 && identifier < NAMESPACE_ZERO_TABLE_SIZE ?
+                        decodersByNamespaceZeroId.get((int) identifier) : null;
 
-        try {
-            ClassLoader classLoader = DelegateRegistry.class.getClassLoader();
-            ClassPath classPath = ClassPath.from(classLoader);
+        return decoder != null ? decoder : getDecoder(new NodeId(ushort(0), uint(identifier)));
+    }
 
-            ImmutableSet<ClassPath.ClassInfo> structures =
-                    classPath.getTopLevelClasses("com.inductiveautomation.opcua.stack.core.types.structured");
+    /**
+     * @return the {@link BinaryEncoderDelegate} registered for {@code clazz}, or {@code null} if there isn't one.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends UaSerializable> BinaryEncoderDelegate<T> getBinaryEncoder(Class<?> clazz) {
+        return (BinaryEncoderDelegate<T>) lookup(binaryEncodersByClass, clazz);
+    }
 
-            ImmutableSet<ClassPath.ClassInfo> enumerations =
-                    classPath.getTopLevelClasses("com.inductiveautomation.opcua.stack.core.types.enumerated");
+    /**
+     * @return the {@link BinaryDecoderDelegate} registered for {@code clazz}, or {@code null} if there isn't one.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends UaSerializable> BinaryDecoderDelegate<T> getBinaryDecoder(Class<T> clazz) {
+        return (BinaryDecoderDelegate<T>) lookup(binaryDecodersByClass, clazz);
+    }
 
-            Sets.union(structures, enumerations).forEach(classInfo -> {
-                Class<?> clazz = classInfo.load();
+    /**
+     * @return the {@link BinaryDecoderDelegate} registered for {@code encodingId}, or {@code null} if there isn't
+     * one.
+     */
+    public static BinaryDecoderDelegate<? extends UaSerializable> getBinaryDecoder(NodeId encodingId) {
+        int index = namespaceZeroIndex(encodingId);
 
-                try {
-                    Class.forName(clazz.getName(), true, classLoader);
-                } catch (Exception e) {
-                    logger.error("Error loading class: {}", clazz, e);
-                }
-            });
-        } catch (IOException e) {
-            logger.error("Error loading class path.", e);
+        BinaryDecoderDelegate<? extends UaSerializable> decoder =
+                index >= 0 ? binaryDecodersByNamespaceZeroId.get(index) : null;
+
+        return decoder != null ? decoder : lookup(binaryDecodersById, encodingId);
+    }
+
+    /**
+     * @param identifier the numeric identifier of an encoding id in namespace 0.
+     * @return the {@link BinaryDecoderDelegate} registered for {@code ns=0;i=identifier}, or {@code null} if there
+     * isn't one. No {@link NodeId} is created unless the delegate has to be looked up in the map.
+     */
+    public static BinaryDecoderDelegate<? extends UaSerializable> getBinaryDecoder(long identifier) {
+        BinaryDecoderDelegate<? extends UaSerializable> decoder =
+                identifier >= 0 && identifier < NAMESPACE_ZERO_TABLE_SIZE ?
+                        binaryDecodersByNamespaceZeroId.get((int) identifier) : null;
+
+        return decoder != null ? decoder : lookup(binaryDecodersById, new NodeId(ushort(0), uint(identifier)));
+    }
+
+    /**
+     * @return the {@link BinarySizeDelegate} registered for {@code clazz}, or {@code null} if there isn't one.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends UaSerializable> BinarySizeDelegate<T> getBinarySize(Class<?> clazz) {
+        return (BinarySizeDelegate<T>) lookup(binarySizesByClass, clazz);
+    }
+
+    /**
+     * @return the index of {@code encodingId} in the namespace 0 tables, or -1 if it isn't a numeric id in namespace 0
+     * small enough to have one.
+     */
+    private static int namespaceZeroIndex(NodeId encodingId) {
+        if (encodingId != null &&
+                encodingId.getType() == IdType.Numeric &&
+                encodingId.getNamespaceIndex().intValue() == 0) {
+
+            long identifier = ((UInteger) encodingId.getIdentifier()).longValue();
+
+            if (identifier < NAMESPACE_ZERO_TABLE_SIZE) return (int) identifier;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Get the delegate registered for {@code clazz} in {@code delegates}, initializing the class and its generated
+     * binary codec, if it has one, the first time it's missing.
+     */
+    private static <D> D lookup(Map<Class<? extends UaSerializable>, D> delegates, Class<?> clazz) {
+        D delegate = delegates.get(clazz);
+
+        if (delegate == null) {
+            // Look again even if another thread did the initializing; it may have finished after the first get.
+            initialize(clazz);
+            delegate = delegates.get(clazz);
+        }
+
+        return delegate;
+    }
+
+    /**
+     * Get the delegate registered for {@code encodingId} in {@code delegates}, initializing the generated structure
+     * it identifies and that structure's binary codec the first time it's missing.
+     */
+    private static <D> D lookup(Map<NodeId, D> delegates, NodeId encodingId) {
+        D delegate = delegates.get(encodingId);
+
+        if (delegate == null && encodingId != null) {
+            initialize(encodingId);
+            delegate = delegates.get(encodingId);
+        }
+
+        return delegate;
+    }
+
+    /**
+     * Run the static initialization blocks, which register the delegates, of {@code clazz} and, if it's a generated
+     * structure, its binary codec.
+     *
+     * <p>
+     * {@code clazz} is only marked as initialized once its initialization has run: a thread that looks it up at the
+     * same time as another runs {@link Class#forName} too, which waits for the other's initialization to finish.
+     */
+    private static void initialize(Class<?> clazz) {
+        if (initializedClasses.contains(clazz)) return;
+
+        initialize(clazz.getName(), clazz.getClassLoader());
+
+        String name = clazz.getSimpleName();
+        if (DelegateIndex.Structures.contains(name) &&
+                clazz.getName().equals(DelegateIndex.StructuredPackage + "." + name)) {
+            initialize(DelegateIndex.BinaryCodecPackage + "." + name + "BinaryCodec", clazz.getClassLoader());
+        }
+
+        initializedClasses.add(clazz);
+    }
+
+    /**
+     * Run the static initialization blocks of the generated structure identified by {@code encodingId} and of its
+     * binary codec.
+     *
+     * <p>
+     * As with {@link #initialize(Class)}, {@code encodingId} is only marked as initialized once its initialization has
+     * run.
+     */
+    private static void initialize(NodeId encodingId) {
+        String name = DelegateIndex.StructuresByEncodingId.get(encodingId);
+
+        if (name == null || initializedIds.contains(encodingId)) return;
+
+        ClassLoader classLoader = DelegateRegistry.class.getClassLoader();
+        initialize(DelegateIndex.StructuredPackage + "." + name, classLoader);
+        initialize(DelegateIndex.BinaryCodecPackage + "." + name + "BinaryCodec", classLoader);
+
+        initializedIds.add(encodingId);
+    }
+
+    private static void initialize(String className, ClassLoader classLoader) {
+        try {
+            Class.forName(className, true, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.error("Error loading class: {}", className, e);
         }
     }
 
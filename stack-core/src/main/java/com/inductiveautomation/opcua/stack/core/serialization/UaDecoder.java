@@ -84,4 +84,67 @@ public interface UaDecoder {
 
     <T> T[] decodeArray(String field, BiFunction<String, Class<T>, T> decoder, Class<T> clazz) throws UaSerializationException;
 
+    /*
+     * Primitive variants of the scalar decode methods. These return the value without boxing it; decoders that can
+     * read primitives directly should override them. A missing value decodes as 0 or false.
+     */
+
+    default boolean readBoolean(String field) throws UaSerializationException {
+        Boolean value = decodeBoolean(field);
+        return value != null && value;
+    }
+
+    default byte readSByte(String field) throws UaSerializationException {
+        Byte value = decodeSByte(field);
+        return value != null ? value : 0;
+    }
+
+    default short readInt16(String field) throws UaSerializationException {
+        Short value = decodeInt16(field);
+        return value != null ? value : 0;
+    }
+
+    default int readInt32(String field) throws UaSerializationException {
+        Integer value = decodeInt32(field);
+        return value != null ? value : 0;
+    }
+
+    default long readInt64(String field) throws UaSerializationException {
+        Long value = decodeInt64(field);
+        return value != null ? value : 0L;
+    }
+
+    default short readByteAsShort(String field) throws UaSerializationException {
+        UByte value = decodeByte(field);
+        return value != null ? value.shortValue() : 0;
+    }
+
+    default int readUInt16AsInt(String field) throws UaSerializationException {
+        UShort value = decodeUInt16(field);
+        return value != null ? value.intValue() : 0;
+    }
+
+    default long readUInt32AsLong(String field) throws UaSerializationException {
+        UInteger value = decodeUInt32(field);
+        return value != null ? value.longValue() : 0L;
+    }
+
+    /**
+     * @return the value as a {@code long} with the same bits; values above {@link Long#MAX_VALUE} are negative.
+     */
+    default long readUInt64AsLong(String field) throws UaSerializationException {
+        ULong value = decodeUInt64(field);
+        return value != null ? value.longValue() : 0L;
+    }
+
+    default float readFloat(String field) throws UaSerializationException {
+        Float value = decodeFloat(field);
+        return value != null ? value : 0f;
+    }
+
+    default double readDouble(String field) throws UaSerializationException {
+        Double value = decodeDouble(field);
+        return value != null ? value : 0d;
+    }
+
 }
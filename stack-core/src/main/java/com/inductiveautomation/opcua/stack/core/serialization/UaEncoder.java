@@ -21,6 +21,11 @@ import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.ULong;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UShort;
 
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
 public interface UaEncoder {
 
     void encodeBoolean(String field, Boolean value) throws UaSerializationException;
@@ -81,4 +86,56 @@ public interface UaEncoder {
 
     <T> void encodeArray(String field, T[] values, BiConsumer<String, T> encoder) throws UaSerializationException;
 
+    /*
+     * Primitive variants of the scalar encode methods. Encoders that can write primitives directly should override
+     * them to avoid boxing.
+     */
+
+    default void writeBoolean(String field, boolean value) throws UaSerializationException {
+        encodeBoolean(field, value);
+    }
+
+    default void writeSByte(String field, byte value) throws UaSerializationException {
+        encodeSByte(field, value);
+    }
+
+    default void writeInt16(String field, short value) throws UaSerializationException {
+        encodeInt16(field, value);
+    }
+
+    default void writeInt32(String field, int value) throws UaSerializationException {
+        encodeInt32(field, value);
+    }
+
+    default void writeInt64(String field, long value) throws UaSerializationException {
+        encodeInt64(field, value);
+    }
+
+    default void writeByte(String field, short value) throws UaSerializationException {
+        encodeByte(field, ubyte(value));
+    }
+
+    default void writeUInt16(String field, int value) throws UaSerializationException {
+        encodeUInt16(field, ushort(value));
+    }
+
+    default void writeUInt32(String field, long value) throws UaSerializationException {
+        encodeUInt32(field, uint(value));
+    }
+
+    /**
+     * @param value the unsigned value as a {@code long} with the same bits.
+     */
+    default void writeUInt64(String field, long value) throws UaSerializationException {
+        encodeUInt64(field, ulong(value));
+    }
+
+    default void writeFloat(String field, float value) throws UaSerializationException {
+        encodeFloat(field, value);
+    }
+
+    default void writeDouble(String field, double value) throws UaSerializationException {
+        encodeDouble(field, value);
+    }
+
 }
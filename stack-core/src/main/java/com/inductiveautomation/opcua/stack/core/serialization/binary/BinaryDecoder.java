@@ -1,9 +1,13 @@
 package com.inductiveautomation.opcua.stack.core.serialization.binary;
 
+import javax.annotation.Nullable;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -11,6 +15,7 @@ import java.util.function.Function;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaSerializationException;
 import com.inductiveautomation.opcua.stack.core.channel.ChannelConfig;
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfigBuilder;
 import com.inductiveautomation.opcua.stack.core.serialization.DecoderDelegate;
 import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
 import com.inductiveautomation.opcua.stack.core.serialization.UaDecoder;
@@ -35,6 +40,7 @@ import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.ULong;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UShort;
 import com.inductiveautomation.opcua.stack.core.util.ArrayUtil;
 import com.inductiveautomation.opcua.stack.core.util.TypeUtil;
+import com.inductiveautomation.opcua.stack.core.util.Utf8Util;
 import io.netty.buffer.ByteBuf;
 
 import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
@@ -44,18 +50,64 @@ import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Un
 
 public class BinaryDecoder implements UaDecoder {
 
+    private static final int MAX_STRING_SCRATCH = 65536;
+
     private volatile ByteBuf buffer;
 
+    /** Scratch space that bulk primitive array reads are copied through. */
+    private final ByteBuffer scratch = ByteBuffer.allocate(8192).order(ByteOrder.LITTLE_ENDIAN);
+
+    /** Scratch space that Strings are decoded through; grows up to MAX_STRING_SCRATCH bytes/chars. */
+    private byte[] stringBytes = new byte[256];
+    private char[] stringChars = new char[256];
+
     private final int maxArrayLength;
     private final int maxStringLength;
+    private final boolean primitiveArrays;
+    private final int retainedByteStringThreshold;
+    private final InternCache internCache;
+    private final ExtensionObject.BodyDecoder extensionObjectBodyDecoder;
+
+    private final List<ByteString> retainedByteStrings = new ArrayList<>();
 
     public BinaryDecoder() {
-        this(ChannelConfig.DEFAULT_MAX_ARRAY_LENGTH, ChannelConfig.DEFAULT_MAX_STRING_LENGTH);
+        this(ChannelConfig.DEFAULT);
     }
 
     public BinaryDecoder(int maxArrayLength, int maxStringLength) {
-        this.maxArrayLength = maxArrayLength;
-        this.maxStringLength = maxStringLength;
+        this(new ChannelConfigBuilder()
+                .setMaxArrayLength(maxArrayLength)
+                .setMaxStringLength(maxStringLength)
+                .build());
+    }
+
+    /**
+     * Create a decoder with the limits and decoding options of {@code config}: its max array and String lengths,
+     * primitive arrays, retained ByteString threshold, lazy ExtensionObjects, and, if its intern cache size isn't 0, an
+     * {@link InternCache} of its own.
+     *
+     * @param config the {@link ChannelConfig} of the channel this decoder decodes messages for.
+     */
+    public BinaryDecoder(ChannelConfig config) {
+        this(config, config.getInternCacheSize() > 0 ? new InternCache(config.getInternCacheSize()) : null);
+    }
+
+    private BinaryDecoder(ChannelConfig config, @Nullable InternCache internCache) {
+        this.maxArrayLength = config.getMaxArrayLength();
+        this.maxStringLength = config.getMaxStringLength();
+        this.primitiveArrays = config.isPrimitiveArrays();
+        this.retainedByteStringThreshold = config.getRetainedByteStringThreshold();
+        this.internCache = internCache;
+
+        /*
+         * Lazy bodies may be decoded long after this decoder has moved on to other messages, and on any thread, so
+         * each one is decoded by a decoder of its own, sharing this one's intern cache. Bodies are copied to the heap
+         * when they're decoded, so the ByteStrings a body decoder retains are slices of that copy and stay valid for
+         * as long as they're referenced.
+         */
+        this.extensionObjectBodyDecoder = config.isLazyExtensionObjects() ?
+                (id, body) -> new BinaryDecoder(config, internCache).decodeBody(id, body) :
+                null;
     }
 
     public BinaryDecoder setBuffer(ByteBuf buffer) {
@@ -63,6 +115,30 @@ public class BinaryDecoder implements UaDecoder {
         return this;
     }
 
+    /**
+     * @return the {@link InternCache} this decoder was created with, or {@code null} if it doesn't intern.
+     */
+    @Nullable
+    public InternCache getInternCache() {
+        return internCache;
+    }
+
+    /**
+     * Get the ByteStrings decoded as retained buffer slices since the last call. The caller becomes responsible for
+     * releasing them once the message they were decoded from is no longer needed.
+     *
+     * @return the ByteStrings backed by retained buffer slices decoded since the last call.
+     */
+    public List<ByteString> drainRetainedByteStrings() {
+        if (retainedByteStrings.isEmpty()) {
+            return Collections.emptyList();
+        } else {
+            List<ByteString> byteStrings = new ArrayList<>(retainedByteStrings);
+            retainedByteStrings.clear();
+            return byteStrings;
+        }
+    }
+
     @Override
     public Boolean decodeBoolean(String field) {
         return buffer.readBoolean();
@@ -118,9 +194,64 @@ public class BinaryDecoder implements UaDecoder {
         return buffer.readDouble();
     }
 
+    @Override
+    public boolean readBoolean(String field) {
+        return buffer.readBoolean();
+    }
+
+    @Override
+    public byte readSByte(String field) {
+        return buffer.readByte();
+    }
+
+    @Override
+    public short readInt16(String field) {
+        return buffer.readShort();
+    }
+
+    @Override
+    public int readInt32(String field) {
+        return buffer.readInt();
+    }
+
+    @Override
+    public long readInt64(String field) {
+        return buffer.readLong();
+    }
+
+    @Override
+    public short readByteAsShort(String field) {
+        return buffer.readUnsignedByte();
+    }
+
+    @Override
+    public int readUInt16AsInt(String field) {
+        return buffer.readUnsignedShort();
+    }
+
+    @Override
+    public long readUInt32AsLong(String field) {
+        return buffer.readUnsignedInt();
+    }
+
+    @Override
+    public long readUInt64AsLong(String field) {
+        return buffer.readLong();
+    }
+
+    @Override
+    public float readFloat(String field) {
+        return buffer.readFloat();
+    }
+
+    @Override
+    public double readDouble(String field) {
+        return buffer.readDouble();
+    }
+
     @Override
     public String decodeString(String field) throws UaSerializationException {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
 
         if (length == -1) {
             return null;
@@ -130,10 +261,63 @@ public class BinaryDecoder implements UaDecoder {
                         String.format("max string length exceeded (length=%s, max=%s)", length, maxStringLength));
             }
 
-            String s = buffer.toString(buffer.readerIndex(), length, Charset.forName("UTF-8"));
-            buffer.skipBytes(length);
-            return s;
+            if (buffer.readableBytes() < length) {
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                        String.format("string length exceeds readable bytes (length=%s, readable=%s)",
+                                length, buffer.readableBytes()));
+            }
+
+            if (internCache != null) {
+                InternCache.Table<String> strings = internCache.getStrings();
+
+                String s = strings.get(buffer, buffer.readerIndex(), length);
+
+                if (s != null) {
+                    buffer.skipBytes(length);
+                } else {
+                    s = readString(length);
+                    strings.put(s);
+                }
+
+                return s;
+            } else {
+                return readString(length);
+            }
+        }
+    }
+
+    private String readString(int length) {
+        byte[] bytes;
+        int offset;
+
+        if (buffer.hasArray()) {
+            bytes = buffer.array();
+            offset = buffer.arrayOffset() + buffer.readerIndex();
+        } else {
+            bytes = length <= MAX_STRING_SCRATCH ? stringBytes(length) : new byte[length];
+            offset = 0;
+            buffer.getBytes(buffer.readerIndex(), bytes, 0, length);
+        }
+
+        char[] chars = length <= MAX_STRING_SCRATCH ? stringChars(length) : new char[length];
+
+        String s = Utf8Util.decode(bytes, offset, length, chars);
+        buffer.skipBytes(length);
+        return s;
+    }
+
+    private byte[] stringBytes(int length) {
+        if (length > stringBytes.length) {
+            stringBytes = new byte[Math.min(Integer.highestOneBit(length) << 1, MAX_STRING_SCRATCH)];
+        }
+        return stringBytes;
+    }
+
+    private char[] stringChars(int length) {
+        if (length > stringChars.length) {
+            stringChars = new char[Math.min(Integer.highestOneBit(length) << 1, MAX_STRING_SCRATCH)];
         }
+        return stringChars;
     }
 
     @Override
@@ -155,7 +339,23 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public ByteString decodeByteString(String field) {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
+
+        if (length == -1) {
+            return ByteString.NULL_VALUE;
+        } else if (retainedByteStringThreshold > 0 && length >= retainedByteStringThreshold) {
+            ByteString byteString = ByteString.wrap(buffer.readSlice(length).retain());
+            retainedByteStrings.add(byteString);
+            return byteString;
+        } else {
+            byte[] bs = new byte[length];
+            buffer.readBytes(bs);
+            return new ByteString(bs);
+        }
+    }
+
+    private ByteString decodeHeapByteString() {
+        int length = readInt32(null);
 
         if (length == -1) {
             return ByteString.NULL_VALUE;
@@ -185,6 +385,57 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public NodeId decodeNodeId(String field) throws UaSerializationException {
+        if (internCache != null) {
+            int length = encodedNodeIdLength();
+
+            if (length > 0) {
+                InternCache.Table<NodeId> nodeIds = internCache.getNodeIds();
+
+                NodeId nodeId = nodeIds.get(buffer, buffer.readerIndex(), length);
+
+                if (nodeId != null) {
+                    buffer.skipBytes(length);
+                } else {
+                    nodeId = readNodeId();
+                    nodeIds.put(nodeId);
+                }
+
+                return nodeId;
+            }
+        }
+
+        return readNodeId();
+    }
+
+    /**
+     * @return the length of the NodeId encoded at the reader index, or -1 if it's opaque, null, or not fully readable.
+     */
+    private int encodedNodeIdLength() {
+        int readable = buffer.readableBytes();
+        if (readable < 1) return -1;
+
+        int index = buffer.readerIndex();
+        int format = buffer.getByte(index) & 0x0F;
+        int length;
+
+        switch (format) {
+            case 0x00: length = 2; break;
+            case 0x01: length = 4; break;
+            case 0x02: length = 7; break;
+            case 0x03:
+                if (readable < 7) return -1;
+                int stringLength = buffer.getInt(index + 3);
+                if (stringLength < 0 || stringLength > maxStringLength) return -1;
+                length = 7 + stringLength;
+                break;
+            case 0x04: length = 19; break;
+            default: return -1;
+        }
+
+        return length <= readable ? length : -1;
+    }
+
+    private NodeId readNodeId() throws UaSerializationException {
         int format = buffer.readByte() & 0x0F;
 
 
@@ -225,7 +476,7 @@ public class BinaryDecoder implements UaDecoder {
         }
 
         if ((flags & 0x40) == 0x40) {
-            serverIndex = decodeUInt32(null).longValue();
+            serverIndex = readUInt32AsLong(null);
         }
 
         return new ExpandedNodeId(nodeId, namespaceUri, serverIndex);
@@ -233,12 +484,36 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public StatusCode decodeStatusCode(String field) {
-        return new StatusCode(decodeUInt32(null));
+        return new StatusCode(readUInt32AsLong(null));
     }
 
     @Override
     public QualifiedName decodeQualifiedName(String field) throws UaSerializationException {
-        int namespaceIndex = decodeUInt16(null).intValue();
+        if (internCache != null && buffer.readableBytes() >= 6) {
+            int stringLength = buffer.getInt(buffer.readerIndex() + 2);
+
+            if (stringLength >= 0 && stringLength <= maxStringLength && 6 + stringLength <= buffer.readableBytes()) {
+                int length = 6 + stringLength;
+                InternCache.Table<QualifiedName> qualifiedNames = internCache.getQualifiedNames();
+
+                QualifiedName qualifiedName = qualifiedNames.get(buffer, buffer.readerIndex(), length);
+
+                if (qualifiedName != null) {
+                    buffer.skipBytes(length);
+                } else {
+                    qualifiedName = readQualifiedName();
+                    qualifiedNames.put(qualifiedName);
+                }
+
+                return qualifiedName;
+            }
+        }
+
+        return readQualifiedName();
+    }
+
+    private QualifiedName readQualifiedName() throws UaSerializationException {
+        int namespaceIndex = readUInt16AsInt(null);
         String name = decodeString(null);
 
         return new QualifiedName(ushort(namespaceIndex), name);
@@ -270,12 +545,30 @@ public class BinaryDecoder implements UaDecoder {
         if (encoding == 0) {
             return new ExtensionObject((UaSerializable) null, dataTypeEncodingId);
         } else if (encoding == 1) {
+            if (extensionObjectBodyDecoder != null) {
+                // Always copied: a retained slice would be released along with the message it was decoded from.
+                ByteString encodedBody = decodeHeapByteString();
+
+                return encodedBody.isNotNull() ?
+                        ExtensionObject.lazy(encodedBody, dataTypeEncodingId, extensionObjectBodyDecoder) :
+                        new ExtensionObject(encodedBody, dataTypeEncodingId);
+            }
+
             try {
-                DecoderDelegate<?> delegate = DelegateRegistry.getDecoder(dataTypeEncodingId);
+                BinaryDecoderDelegate<?> binaryDelegate = DelegateRegistry.getBinaryDecoder(dataTypeEncodingId);
+                UaSerializable serializable;
 
-                buffer.skipBytes(4); // Length; not needed since we know what's coming.
+                if (binaryDelegate != null) {
+                    buffer.skipBytes(4); // Length; not needed since we know what's coming.
 
-                UaSerializable serializable = delegate.decode(this);
+                    serializable = binaryDelegate.decode(this);
+                } else {
+                    DecoderDelegate<?> delegate = DelegateRegistry.getDecoder(dataTypeEncodingId);
+
+                    buffer.skipBytes(4); // Length; not needed since we know what's coming.
+
+                    serializable = delegate.decode(this);
+                }
 
                 return new ExtensionObject(serializable, dataTypeEncodingId);
             } catch (UaSerializationException e) {
@@ -292,6 +585,28 @@ public class BinaryDecoder implements UaDecoder {
         }
     }
 
+    /**
+     * Decode the body of a lazily decoded ExtensionObject, or return it as-is if it can't be decoded.
+     */
+    private Object decodeBody(NodeId dataTypeEncodingId, ByteString encodedBody) {
+        ByteBuf bodyBuffer = encodedBody.asByteBuf();
+        setBuffer(bodyBuffer.order(ByteOrder.LITTLE_ENDIAN));
+
+        try {
+            BinaryDecoderDelegate<?> binaryDelegate = DelegateRegistry.getBinaryDecoder(dataTypeEncodingId);
+
+            if (binaryDelegate != null) {
+                return binaryDelegate.decode(this);
+            } else {
+                return DelegateRegistry.getDecoder(dataTypeEncodingId).decode(this);
+            }
+        } catch (UaSerializationException e) {
+            return encodedBody;
+        } finally {
+            bodyBuffer.release();
+        }
+    }
+
     @Override
     public DataValue decodeDataValue(String field) throws UaSerializationException {
         int mask = buffer.readByte() & 0x0F;
@@ -316,18 +631,24 @@ public class BinaryDecoder implements UaDecoder {
             boolean arrayEncoded = (encodingMask & 0x80) == 0x80;
 
             if (arrayEncoded) {
-                int length = decodeInt32(null);
-                Class<?> backingClass = TypeUtil.getBackingClass(typeId);
-                Object flatArray = Array.newInstance(backingClass, length);
+                int length = readInt32(null);
+                Object flatArray;
 
-                for (int i = 0; i < length; i++) {
-                    Object element = decodeBuiltinType(typeId);
+                if (primitiveArrays && length >= 0 && TypeUtil.getPrimitiveClass(typeId) != null) {
+                    flatArray = decodePrimitiveArray(typeId, length);
+                } else {
+                    Class<?> backingClass = TypeUtil.getBackingClass(typeId);
+                    flatArray = Array.newInstance(backingClass, length);
 
-                    if (element instanceof ExtensionObject) {
-                        element = ((ExtensionObject) element).getObject();
-                    }
+                    for (int i = 0; i < length; i++) {
+                        Object element = decodeBuiltinType(typeId);
+
+                        if (element instanceof ExtensionObject) {
+                            element = ((ExtensionObject) element).getObject();
+                        }
 
-                    Array.set(flatArray, i, element);
+                        Array.set(flatArray, i, element);
+                    }
                 }
 
                 int[] dimensions = dimensionsEncoded ? decodeDimensions() : new int[]{length};
@@ -353,10 +674,10 @@ public class BinaryDecoder implements UaDecoder {
         if (mask == 0) {
             return null;
         } else {
-            int symbolicId = ((mask & 0x01) == 0x01) ? decodeInt32(null) : -1;
-            int namespaceUri = ((mask & 0x02) == 0x02) ? decodeInt32(null) : -1;
-            int localizedText = ((mask & 0x04) == 0x04) ? decodeInt32(null) : -1;
-            int locale = ((mask & 0x08) == 0x08) ? decodeInt32(null) : -1;
+            int symbolicId = ((mask & 0x01) == 0x01) ? readInt32(null) : -1;
+            int namespaceUri = ((mask & 0x02) == 0x02) ? readInt32(null) : -1;
+            int localizedText = ((mask & 0x04) == 0x04) ? readInt32(null) : -1;
+            int locale = ((mask & 0x08) == 0x08) ? readInt32(null) : -1;
             String additionalInfo = ((mask & 0x10) == 0x10) ? decodeString(null) : null;
             StatusCode innerStatusCode = ((mask & 0x20) == 0x20) ? decodeStatusCode(null) : null;
             DiagnosticInfo innerDiagnosticInfo = ((mask & 0x40) == 0x40) ? decodeDiagnosticInfo(null) : null;
@@ -368,11 +689,60 @@ public class BinaryDecoder implements UaDecoder {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends UaStructure> T decodeMessage(String field) throws UaSerializationException {
+        long identifier = readNamespaceZeroId();
+
+        if (identifier >= 0) {
+            /* The delegate is resolved straight from the identifier; no NodeId is created. */
+            BinaryDecoderDelegate<?> binaryDelegate = DelegateRegistry.getBinaryDecoder(identifier);
+
+            if (binaryDelegate != null) {
+                return (T) binaryDelegate.decode(this);
+            } else {
+                DecoderDelegate<?> delegate = DelegateRegistry.getDecoder(identifier);
+
+                return (T) delegate.decode(this);
+            }
+        }
+
         NodeId encodingId = decodeNodeId(null);
 
-        DecoderDelegate<?> delegate = DelegateRegistry.getDecoder(encodingId);
+        BinaryDecoderDelegate<?> binaryDelegate = DelegateRegistry.getBinaryDecoder(encodingId);
 
-        return (T) delegate.decode(this);
+        if (binaryDelegate != null) {
+            return (T) binaryDelegate.decode(this);
+        } else {
+            DecoderDelegate<?> delegate = DelegateRegistry.getDecoder(encodingId);
+
+            return (T) delegate.decode(this);
+        }
+    }
+
+    /**
+     * If the NodeId at the reader index is a numeric id in namespace 0, read it and return its identifier. Otherwise
+     * leave it unread and return -1.
+     */
+    private long readNamespaceZeroId() {
+        int readable = buffer.readableBytes();
+        if (readable < 2) return -1;
+
+        int index = buffer.readerIndex();
+        int format = buffer.getByte(index) & 0x0F;
+
+        if (format == 0x00) {
+            /* Two-byte format */
+            buffer.skipBytes(2);
+            return buffer.getUnsignedByte(index + 1);
+        } else if (format == 0x01 && readable >= 4 && buffer.getUnsignedByte(index + 1) == 0) {
+            /* Four-byte format */
+            buffer.skipBytes(4);
+            return buffer.getUnsignedShort(index + 2);
+        } else if (format == 0x02 && readable >= 7 && buffer.getUnsignedShort(index + 1) == 0) {
+            /* Numeric format */
+            buffer.skipBytes(7);
+            return buffer.getUnsignedInt(index + 3);
+        } else {
+            return -1;
+        }
     }
 
     @Override
@@ -384,15 +754,42 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public <T extends UaSerializable> T decodeSerializable(String field, Class<T> clazz) throws UaSerializationException {
-        DecoderDelegate<T> delegate = DelegateRegistry.getDecoder(clazz);
+        BinaryDecoderDelegate<T> binaryDelegate = DelegateRegistry.getBinaryDecoder(clazz);
 
-        return delegate.decode(this);
+        if (binaryDelegate != null) {
+            return binaryDelegate.decode(this);
+        } else {
+            DecoderDelegate<T> delegate = DelegateRegistry.getDecoder(clazz);
+
+            return delegate.decode(this);
+        }
+    }
+
+    /**
+     * Read the length prefix of an array, for callers that decode the elements themselves. A null array (-1) is
+     * read as length 0, the same way {@link #decodeArray(String, Function, Class)} decodes it to an empty array.
+     *
+     * @return the number of elements that follow.
+     */
+    public int readArrayLength() throws UaSerializationException {
+        int length = readInt32(null);
+
+        if (length == -1) {
+            return 0;
+        } else {
+            if (length > maxArrayLength) {
+                throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                        String.format("max array length exceeded (length=%s, max=%s)", length, maxArrayLength));
+            }
+
+            return length;
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> T[] decodeArray(String field, Function<String, T> decoder, Class<T> clazz) throws UaSerializationException {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
 
         if (length == -1) {
             return (T[]) Array.newInstance(clazz, 0);
@@ -415,7 +812,7 @@ public class BinaryDecoder implements UaDecoder {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T[] decodeArray(String field, BiFunction<String, Class<T>, T> decoder, Class<T> clazz) throws UaSerializationException {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
 
         if (length == -1) {
             return (T[]) Array.newInstance(clazz, 0);
@@ -433,15 +830,101 @@ public class BinaryDecoder implements UaDecoder {
         }
     }
 
+    private Object decodePrimitiveArray(int typeId, int length) throws UaSerializationException {
+        switch (typeId) {
+            case 1: {
+                checkReadable(length, 1);
+                boolean[] values = new boolean[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = buffer.readByte() != 0;
+                }
+                return values;
+            }
+            case 2: {
+                checkReadable(length, 1);
+                byte[] values = new byte[length];
+                buffer.readBytes(values);
+                return values;
+            }
+            case 4: {
+                checkReadable(length, 2);
+                short[] values = new short[length];
+                for (int offset = 0, count; offset < length; offset += count) {
+                    count = Math.min(length - offset, scratch.capacity() / 2);
+                    readScratch(count * 2).asShortBuffer().get(values, offset, count);
+                }
+                return values;
+            }
+            case 6: {
+                checkReadable(length, 4);
+                int[] values = new int[length];
+                for (int offset = 0, count; offset < length; offset += count) {
+                    count = Math.min(length - offset, scratch.capacity() / 4);
+                    readScratch(count * 4).asIntBuffer().get(values, offset, count);
+                }
+                return values;
+            }
+            case 8: {
+                checkReadable(length, 8);
+                long[] values = new long[length];
+                for (int offset = 0, count; offset < length; offset += count) {
+                    count = Math.min(length - offset, scratch.capacity() / 8);
+                    readScratch(count * 8).asLongBuffer().get(values, offset, count);
+                }
+                return values;
+            }
+            case 10: {
+                checkReadable(length, 4);
+                float[] values = new float[length];
+                for (int offset = 0, count; offset < length; offset += count) {
+                    count = Math.min(length - offset, scratch.capacity() / 4);
+                    readScratch(count * 4).asFloatBuffer().get(values, offset, count);
+                }
+                return values;
+            }
+            case 11: {
+                checkReadable(length, 8);
+                double[] values = new double[length];
+                for (int offset = 0, count; offset < length; offset += count) {
+                    count = Math.min(length - offset, scratch.capacity() / 8);
+                    readScratch(count * 8).asDoubleBuffer().get(values, offset, count);
+                }
+                return values;
+            }
+            default:
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                        "not a primitive builtin type: " + typeId);
+        }
+    }
+
+    private void checkReadable(int length, int elementSize) throws UaSerializationException {
+        if ((long) length * elementSize > buffer.readableBytes()) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                    String.format("array length exceeds remaining bytes (length=%s)", length));
+        }
+    }
+
+    /**
+     * Copy the next {@code byteCount} bytes from the buffer into {@link #scratch}.
+     *
+     * @return {@link #scratch}, ready to be read from.
+     */
+    private ByteBuffer readScratch(int byteCount) {
+        scratch.clear().limit(byteCount);
+        buffer.readBytes(scratch);
+        scratch.flip();
+        return scratch;
+    }
+
     private int[] decodeDimensions() {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
 
         if (length == -1) {
             return new int[0];
         } else {
             int[] is = new int[length];
             for (int i = 0; i < length; i++) {
-                is[i] = decodeInt32(null);
+                is[i] = readInt32(null);
             }
             return is;
         }
@@ -454,7 +937,7 @@ public class BinaryDecoder implements UaDecoder {
 			case 3: return decodeByte(null);
 			case 4: return decodeInt16(null);
 			case 5: return decodeUInt16(null);
-			case 6: return decodeInt32(null);
+			case 6: return readInt32(null);
 			case 7: return decodeUInt32(null);
 			case 8: return decodeInt64(null);
 			case 9: return decodeUInt64(null);
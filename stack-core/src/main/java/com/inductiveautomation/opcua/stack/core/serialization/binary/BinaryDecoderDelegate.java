@@ -0,0 +1,11 @@
+package com.inductiveautomation.opcua.stack.core.serialization.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.UaSerializable;
+
+/**
+ * A decoder for a single type that reads directly from a {@link BinaryDecoder}, used in place of the type's
+ * {@link com.inductiveautomation.opcua.stack.core.serialization.DecoderDelegate} when decoding binary.
+ */
+public interface BinaryDecoderDelegate<T extends UaSerializable> {
+    T decode(BinaryDecoder decoder);
+}
@@ -3,6 +3,7 @@ package com.inductiveautomation.opcua.stack.core.serialization.binary;
 import javax.annotation.Nonnull;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -34,14 +35,25 @@ import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.ULong;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UShort;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.IdType;
 import com.inductiveautomation.opcua.stack.core.util.ArrayUtil;
+import com.inductiveautomation.opcua.stack.core.util.BufferUtil;
 import com.inductiveautomation.opcua.stack.core.util.TypeUtil;
+import com.inductiveautomation.opcua.stack.core.util.Utf8Util;
 import io.netty.buffer.ByteBuf;
 
-import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
-
 public class BinaryEncoder implements UaEncoder {
 
-    private volatile ByteBuf buffer;
+    private static final int MAX_STRING_SCRATCH = 65536;
+
+    private volatile BinarySink sink;
+
+    /** Scratch space that bulk primitive array writes are copied through. */
+    private final ByteBuffer scratch = ByteBuffer.allocate(8192).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Scratch space that Strings are encoded into when the sink isn't a buffer with a backing array; grows up to
+     * MAX_STRING_SCRATCH bytes.
+     */
+    private byte[] stringScratch = new byte[256];
 
     private final int maxArrayLength;
     private final int maxStringLength;
@@ -56,189 +68,263 @@ public class BinaryEncoder implements UaEncoder {
     }
 
     public BinaryEncoder setBuffer(ByteBuf buffer) {
-        this.buffer = buffer;
+        this.sink = new ByteBufSink(buffer);
+        return this;
+    }
+
+    public BinaryEncoder setSink(BinarySink sink) {
+        this.sink = sink;
         return this;
     }
 
+    /**
+     * @return the buffer set with {@link #setBuffer(ByteBuf)}, or {@code null} if encoding into some other sink.
+     */
 	public ByteBuf getBuffer() {
-		return buffer;
+		return sink instanceof ByteBufSink ? ((ByteBufSink) sink).getBuffer() : null;
 	}
 
 	@Override
     public void encodeBoolean(String field, Boolean value) {
         if (value == null) {
-            buffer.writeBoolean(false);
+            sink.writeBoolean(false);
         } else {
-            buffer.writeBoolean(value);
+            sink.writeBoolean(value);
         }
     }
 
     @Override
     public void encodeSByte(String field, Byte value) {
         if (value == null) {
-            buffer.writeByte(0);
+            sink.writeByte(0);
         } else {
-            buffer.writeByte(value);
+            sink.writeByte(value);
         }
     }
 
     @Override
     public void encodeInt16(String field, Short value) {
         if (value == null) {
-            buffer.writeShort(0);
+            sink.writeShort(0);
         } else {
-            buffer.writeShort(value);
+            sink.writeShort(value);
         }
     }
 
     @Override
     public void encodeInt32(String field, Integer value) {
         if (value == null) {
-            buffer.writeInt(0);
+            sink.writeInt(0);
         } else {
-            buffer.writeInt(value);
+            sink.writeInt(value);
         }
     }
 
     @Override
     public void encodeInt64(String field, Long value) {
         if (value == null) {
-            buffer.writeLong(0);
+            sink.writeLong(0);
         } else {
-            buffer.writeLong(value);
+            sink.writeLong(value);
         }
     }
 
     @Override
     public void encodeByte(String field, UByte value) throws UaSerializationException {
         if (value == null) {
-            buffer.writeByte(0);
+            sink.writeByte(0);
         } else {
-            buffer.writeByte(value.intValue());
+            sink.writeByte(value.intValue());
         }
     }
 
     @Override
     public void encodeUInt16(String field, UShort value) throws UaSerializationException {
         if (value == null) {
-            buffer.writeShort(0);
+            sink.writeShort(0);
         } else {
-            buffer.writeShort(value.intValue());
+            sink.writeShort(value.intValue());
         }
     }
 
     @Override
     public void encodeUInt32(String field, UInteger value) throws UaSerializationException {
         if (value == null) {
-            buffer.writeInt(0);
+            sink.writeInt(0);
         } else {
-            buffer.writeInt(value.intValue());
+            sink.writeInt(value.intValue());
         }
     }
 
     @Override
     public void encodeUInt64(String field, ULong value) throws UaSerializationException {
         if (value == null) {
-            buffer.writeLong(0);
+            sink.writeLong(0);
         } else {
-            buffer.writeLong(value.longValue());
+            sink.writeLong(value.longValue());
         }
     }
 
     @Override
     public void encodeFloat(String field, Float value) {
         if (value == null) {
-            buffer.writeFloat(0);
+            sink.writeFloat(0);
         } else {
-            buffer.writeFloat(value);
+            sink.writeFloat(value);
         }
     }
 
     @Override
     public void encodeDouble(String field, Double value) {
         if (value == null) {
-            buffer.writeDouble(0);
+            sink.writeDouble(0);
         } else {
-            buffer.writeDouble(value);
+            sink.writeDouble(value);
         }
     }
 
+    @Override
+    public void writeBoolean(String field, boolean value) {
+        sink.writeBoolean(value);
+    }
+
+    @Override
+    public void writeSByte(String field, byte value) {
+        sink.writeByte(value);
+    }
+
+    @Override
+    public void writeInt16(String field, short value) {
+        sink.writeShort(value);
+    }
+
+    @Override
+    public void writeInt32(String field, int value) {
+        sink.writeInt(value);
+    }
+
+    @Override
+    public void writeInt64(String field, long value) {
+        sink.writeLong(value);
+    }
+
+    @Override
+    public void writeByte(String field, short value) {
+        sink.writeByte(value);
+    }
+
+    @Override
+    public void writeUInt16(String field, int value) {
+        sink.writeShort(value);
+    }
+
+    @Override
+    public void writeUInt32(String field, long value) {
+        sink.writeInt((int) value);
+    }
+
+    @Override
+    public void writeUInt64(String field, long value) {
+        sink.writeLong(value);
+    }
+
+    @Override
+    public void writeFloat(String field, float value) {
+        sink.writeFloat(value);
+    }
+
+    @Override
+    public void writeDouble(String field, double value) {
+        sink.writeDouble(value);
+    }
+
     @Override
     public void encodeString(String field, String value) throws UaSerializationException {
         if (value == null) {
-            buffer.writeInt(-1);
+            sink.writeInt(-1);
         } else {
             if (value.length() > maxStringLength) {
                 throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
                         "max string length exceeded");
             }
 
-            try {
-                // Record the current index and write a placeholder for the length.
-                int lengthIndex = buffer.writerIndex();
-                buffer.writeInt(0x42424242);
-
-                // Write the string bytes.
-                int indexBefore = buffer.writerIndex();
-                buffer.writeBytes(value.getBytes("UTF-8"));
-                int indexAfter = buffer.writerIndex();
-                int bytesWritten = indexAfter - indexBefore;
-
-                // Go back and update the length.
-                buffer.writerIndex(lengthIndex);
-                buffer.writeInt(bytesWritten);
-
-                // Return to where we were after writing the string.
-                buffer.writerIndex(indexAfter);
-            } catch (UnsupportedEncodingException e) {
-                throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+            int length = Utf8Util.encodedLength(value);
+
+            sink.writeInt(length);
+
+            if (!(sink instanceof ByteBufSink) || !((ByteBufSink) sink).writeUtf8(value, length)) {
+                byte[] bytes = stringScratch(length);
+                Utf8Util.encode(value, bytes, 0);
+                sink.writeBytes(bytes, 0, length);
             }
         }
     }
 
+    private byte[] stringScratch(int length) {
+        if (length <= stringScratch.length) {
+            return stringScratch;
+        } else if (length <= MAX_STRING_SCRATCH) {
+            return stringScratch = new byte[Math.min(Integer.highestOneBit(length) << 1, MAX_STRING_SCRATCH)];
+        } else {
+            return new byte[length];
+        }
+    }
+
     @Override
     public void encodeDateTime(String field, DateTime value) {
         if (value == null) {
-            buffer.writeLong(0L);
+            sink.writeLong(0L);
         } else {
-            buffer.writeLong(value.getUtcTime());
+            sink.writeLong(value.getUtcTime());
         }
     }
 
     @Override
     public void encodeGuid(String field, UUID value) {
         if (value == null) {
-            buffer.writeZero(16);
+            sink.writeLong(0L);
+            sink.writeLong(0L);
         } else {
             long msb = value.getMostSignificantBits();
             long lsb = value.getLeastSignificantBits();
 
-            buffer.writeInt((int) (msb >>> 32));
-            buffer.writeShort((int) (msb >>> 16) & 0xFFFF);
-            buffer.writeShort((int) (msb) & 0xFFFF);
+            sink.writeInt((int) (msb >>> 32));
+            sink.writeShort((int) (msb >>> 16) & 0xFFFF);
+            sink.writeShort((int) (msb) & 0xFFFF);
 
-            buffer.order(ByteOrder.BIG_ENDIAN).writeLong(lsb);
+            sink.writeLong(Long.reverseBytes(lsb));
         }
     }
 
     @Override
     public void encodeByteString(String field, ByteString value) {
         if (value == null || value.isNull()) {
-            buffer.writeInt(-1);
+            sink.writeInt(-1);
+        } else if (value.isBufferBacked()) {
+            ByteBuf bytes = value.asByteBuf();
+
+            assert (bytes != null);
+
+            try {
+                sink.writeInt(bytes.readableBytes());
+                sink.writeBytes(bytes);
+            } finally {
+                bytes.release();
+            }
         } else {
             byte[] bytes = value.bytes();
 
             assert (bytes != null);
 
-            buffer.writeInt(bytes.length);
-            buffer.writeBytes(bytes);
+            sink.writeInt(bytes.length);
+            sink.writeBytes(bytes);
         }
     }
 
     @Override
     public void encodeXmlElement(String field, XmlElement value) throws UaSerializationException {
         if (value == null || value.isNull()) {
-            buffer.writeInt(-1);
+            sink.writeInt(-1);
         } else {
             try {
                 encodeByteString(null, new ByteString(value.getFragment().getBytes("UTF-8")));
@@ -260,36 +346,36 @@ public class BinaryEncoder implements UaEncoder {
 
             if (namespaceIndex == 0 && idv >= 0 && idv <= 255) {
                 /* Two-byte format */
-                buffer.writeByte(0x00);
-                buffer.writeByte((int) idv);
+                sink.writeByte(0x00);
+                sink.writeByte((int) idv);
             } else if (namespaceIndex >= 0 && namespaceIndex <= 255 && idv <= 65535) {
                 /* Four-byte format */
-                buffer.writeByte(0x01);
-                buffer.writeByte(namespaceIndex);
-                buffer.writeShort((int) idv);
+                sink.writeByte(0x01);
+                sink.writeByte(namespaceIndex);
+                sink.writeShort((int) idv);
             } else {
                 /* Numeric format */
-                buffer.writeByte(0x02);
-                buffer.writeShort(namespaceIndex);
-                buffer.writeInt((int) idv);
+                sink.writeByte(0x02);
+                sink.writeShort(namespaceIndex);
+                sink.writeInt((int) idv);
             }
         } else if (value.getType() == IdType.String) {
             String identifier = (String) value.getIdentifier();
 
-            buffer.writeByte(0x03);
-            buffer.writeShort(namespaceIndex);
+            sink.writeByte(0x03);
+            sink.writeShort(namespaceIndex);
             encodeString(null, identifier);
         } else if (value.getType() == IdType.Guid) {
             UUID identifier = (UUID) value.getIdentifier();
 
-            buffer.writeByte(0x04);
-            buffer.writeShort(namespaceIndex);
+            sink.writeByte(0x04);
+            sink.writeShort(namespaceIndex);
             encodeGuid(null, identifier);
         } else if (value.getType() == IdType.Opaque) {
             ByteString identifier = (ByteString) value.getIdentifier();
 
-            buffer.writeByte(0x05);
-            buffer.writeShort(namespaceIndex);
+            sink.writeByte(0x05);
+            sink.writeShort(namespaceIndex);
             encodeByteString(null, identifier);
         } else {
             throw new UaSerializationException(StatusCodes.Bad_EncodingError, "invalid identifier: " + value.getIdentifier());
@@ -320,36 +406,36 @@ public class BinaryEncoder implements UaEncoder {
 
             if (namespaceIndex == 0 && idv >= 0 && idv <= 255) {
                 /* Two-byte format */
-                buffer.writeByte(flags);
-                buffer.writeByte((int) idv);
+                sink.writeByte(flags);
+                sink.writeByte((int) idv);
             } else if (namespaceIndex >= 0 && namespaceIndex <= 255 && idv <= 65535) {
                 /* Four-byte format */
-                buffer.writeByte(0x01 | flags);
-                buffer.writeByte(namespaceIndex);
-                buffer.writeShort((int) idv);
+                sink.writeByte(0x01 | flags);
+                sink.writeByte(namespaceIndex);
+                sink.writeShort((int) idv);
             } else {
                 /* Numeric format */
-                buffer.writeByte(0x02 | flags);
-                buffer.writeShort(namespaceIndex);
-                buffer.writeInt((int) idv);
+                sink.writeByte(0x02 | flags);
+                sink.writeShort(namespaceIndex);
+                sink.writeInt((int) idv);
             }
         } else if (value.getType() == IdType.String) {
             String identifier = (String) value.getIdentifier();
 
-            buffer.writeByte(0x03 | flags);
-            buffer.writeShort(namespaceIndex);
+            sink.writeByte(0x03 | flags);
+            sink.writeShort(namespaceIndex);
             encodeString(null, identifier);
         } else if (value.getType() == IdType.Guid) {
             UUID identifier = (UUID) value.getIdentifier();
 
-            buffer.writeByte(0x04 | flags);
-            buffer.writeShort(namespaceIndex);
+            sink.writeByte(0x04 | flags);
+            sink.writeShort(namespaceIndex);
             encodeGuid(null, identifier);
         } else if (value.getType() == IdType.Opaque) {
             ByteString identifier = (ByteString) value.getIdentifier();
 
-            buffer.writeByte(0x05 | flags);
-            buffer.writeShort(namespaceIndex);
+            sink.writeByte(0x05 | flags);
+            sink.writeShort(namespaceIndex);
             encodeByteString(null, identifier);
         } else {
             throw new UaSerializationException(StatusCodes.Bad_EncodingError, "invalid identifier: " + value.getIdentifier());
@@ -360,16 +446,16 @@ public class BinaryEncoder implements UaEncoder {
         }
 
         if (serverIndex > 0) {
-            encodeUInt32(null, uint(serverIndex));
+            writeUInt32(null, serverIndex);
         }
     }
 
     @Override
     public void encodeStatusCode(String field, StatusCode value) {
         if (value == null) {
-            buffer.writeInt(0);
+            sink.writeInt(0);
         } else {
-            encodeUInt32(null, uint(value.getValue()));
+            writeUInt32(null, value.getValue());
         }
     }
 
@@ -377,7 +463,7 @@ public class BinaryEncoder implements UaEncoder {
     public void encodeQualifiedName(String field, QualifiedName value) throws UaSerializationException {
         if (value == null) value = QualifiedName.NULL_VALUE;
 
-        encodeUInt16(null, value.getNamespaceIndex());
+        writeUInt16(null, value.getNamespaceIndex().intValue());
         encodeString(null, value.getName());
     }
 
@@ -396,7 +482,7 @@ public class BinaryEncoder implements UaEncoder {
             mask ^= 2;
         }
 
-        buffer.writeByte(mask);
+        sink.writeByte(mask);
 
         if (locale != null && !locale.isEmpty()) {
             encodeString(null, locale);
@@ -408,9 +494,17 @@ public class BinaryEncoder implements UaEncoder {
 
     @Override
     public void encodeExtensionObject(String field, ExtensionObject value) throws UaSerializationException {
-        if (value == null || value.getObject() == null) {
+        ByteString encodedBody = value != null ? value.getEncodedBody() : null;
+
+        if (encodedBody != null) {
+            /* Decoded lazily and never looked at; the body is copied verbatim. */
+            encodeNodeId(null, value.getDataTypeEncodingId());
+            sink.writeByte(1); // Body is binary encoded
+
+            encodeByteString(null, encodedBody);
+        } else if (value == null || value.getObject() == null) {
             encodeNodeId(null, NodeId.NULL_VALUE);
-            buffer.writeByte(0); // No body is encoded
+            sink.writeByte(0); // No body is encoded
         } else {
             Object object = value.getObject();
 
@@ -418,36 +512,59 @@ public class BinaryEncoder implements UaEncoder {
                 UaSerializable serializable = (UaSerializable) object;
 
                 encodeNodeId(null, value.getDataTypeEncodingId());
-                buffer.writeByte(1); // Body is binary encoded
+                sink.writeByte(1); // Body is binary encoded
+
+                BinarySizeDelegate<UaSerializable> sizeDelegate =
+                        DelegateRegistry.getBinarySize(serializable.getClass());
 
-                // Record the current index and write a placeholder for the length.
-                int lengthIndex = buffer.writerIndex();
-                buffer.writeInt(0);
+                if (sizeDelegate != null) {
+                    /* The length is known up front, so the body is encoded in place right after it. */
+                    int bodySize = sizeDelegate.sizeOf(serializable);
+                    sink.writeInt(bodySize);
 
-                // Write the body.
-                int indexBefore = buffer.writerIndex();
-                encodeSerializable(null, serializable);
-                int indexAfter = buffer.writerIndex();
-                int bytesWritten = indexAfter - indexBefore;
+                    int bodyStart = sink.writerIndex();
+                    encodeSerializable(null, serializable);
+                    int encodedSize = sink.writerIndex() - bodyStart;
 
-                // Go back and update the length.
-                buffer.writerIndex(lengthIndex);
-                buffer.writeInt(bytesWritten);
+                    if (encodedSize != bodySize) {
+                        throw new UaSerializationException(StatusCodes.Bad_EncodingError,
+                                String.format("%s encoded to %d bytes but its size was computed as %d",
+                                        serializable.getClass().getSimpleName(), encodedSize, bodySize));
+                    }
+                } else {
+                    /*
+                     * Encode the body on its own first so the length can be written ahead of it; nothing is ever
+                     * written behind the writer index, which lets chunks be sent as soon as they're filled.
+                     */
+                    BinarySink outerSink = sink;
+                    ByteBuf bodyBuffer = BufferUtil.buffer();
+
+                    try {
+                        sink = new ByteBufSink(bodyBuffer);
+                        encodeSerializable(null, serializable);
+                    } finally {
+                        sink = outerSink;
+                    }
 
-                // Return to where we were after writing the body.
-                buffer.writerIndex(indexAfter);
+                    try {
+                        sink.writeInt(bodyBuffer.readableBytes());
+                        sink.writeBytes(bodyBuffer);
+                    } finally {
+                        bodyBuffer.release();
+                    }
+                }
             } else if (object instanceof ByteString) {
                 ByteString byteString = (ByteString) object;
 
                 encodeNodeId(null, value.getDataTypeEncodingId());
-                buffer.writeByte(1); // Body is binary encoded
+                sink.writeByte(1); // Body is binary encoded
 
                 encodeByteString(null, byteString);
             } else if (object instanceof XmlElement) {
                 XmlElement xmlElement = (XmlElement) object;
 
                 encodeNodeId(null, value.getDataTypeEncodingId());
-                buffer.writeByte(2);
+                sink.writeByte(2);
 
                 encodeXmlElement(null, xmlElement);
             } else {
@@ -459,7 +576,7 @@ public class BinaryEncoder implements UaEncoder {
     @Override
     public void encodeDataValue(String field, DataValue value) throws UaSerializationException {
         if (value == null) {
-            buffer.writeByte(0);
+            sink.writeByte(0);
         } else {
             int mask = 0x00;
 
@@ -468,7 +585,7 @@ public class BinaryEncoder implements UaEncoder {
             if (!DateTime.MIN_VALUE.equals(value.getSourceTime())) mask |= 0x04;
             if (!DateTime.MIN_VALUE.equals(value.getServerTime())) mask |= 0x08;
 
-            buffer.writeByte(mask);
+            sink.writeByte(mask);
 
             if ((mask & 0x01) == 0x01) encodeVariant(null, value.getValue());
             if ((mask & 0x02) == 0x02) encodeStatusCode(null, value.getStatusCode());
@@ -482,7 +599,7 @@ public class BinaryEncoder implements UaEncoder {
         Object value = variant.getValue();
 
         if (value == null) {
-            buffer.writeByte(0);
+            sink.writeByte(0);
         } else {
             boolean structure = false;
             boolean enumeration = false;
@@ -502,40 +619,48 @@ public class BinaryEncoder implements UaEncoder {
                 int[] dimensions = ArrayUtil.getDimensions(value);
 
                 if (dimensions.length == 1) {
-                    buffer.writeByte(typeId | 0x80);
+                    sink.writeByte(typeId | 0x80);
 
                     int length = Array.getLength(value);
-                    buffer.writeInt(length);
-
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(value, i);
-
-                        if (structure) encodeBuiltinType(typeId, new ExtensionObject((UaStructure) o));
-                        else if (enumeration) encodeBuiltinType(typeId, ((UaEnumeration) o).getValue());
-                        else encodeBuiltinType(typeId, o);
+                    sink.writeInt(length);
+
+                    if (value.getClass().getComponentType().isPrimitive()) {
+                        encodePrimitiveArray(value);
+                    } else {
+                        for (int i = 0; i < length; i++) {
+                            Object o = Array.get(value, i);
+
+                            if (structure) encodeBuiltinType(typeId, new ExtensionObject((UaStructure) o));
+                            else if (enumeration) encodeBuiltinType(typeId, ((UaEnumeration) o).getValue());
+                            else encodeBuiltinType(typeId, o);
+                        }
                     }
                 } else {
-                    buffer.writeByte(typeId | 0xC0);
+                    sink.writeByte(typeId | 0xC0);
 
                     Object flattened = ArrayUtil.flatten(value);
                     int length = Array.getLength(flattened);
-                    buffer.writeInt(length);
-
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(flattened, i);
-
-                        if (structure) encodeBuiltinType(typeId, new ExtensionObject((UaStructure) o));
-                        else if (enumeration) encodeBuiltinType(typeId, ((UaEnumeration) o).getValue());
-                        else encodeBuiltinType(typeId, o);
+                    sink.writeInt(length);
+
+                    if (flattened.getClass().getComponentType().isPrimitive()) {
+                        encodePrimitiveArray(flattened);
+                    } else {
+                        for (int i = 0; i < length; i++) {
+                            Object o = Array.get(flattened, i);
+
+                            if (structure) encodeBuiltinType(typeId, new ExtensionObject((UaStructure) o));
+                            else if (enumeration) encodeBuiltinType(typeId, ((UaEnumeration) o).getValue());
+                            else encodeBuiltinType(typeId, o);
+                        }
                     }
 
-                    encodeInt32(null, dimensions.length);
+                    writeInt32(null, dimensions.length);
                     for (int dimension : dimensions) {
-                        encodeInt32(null, dimension);
+                        writeInt32(null, dimension);
                     }
                 }
             } else {
-                buffer.writeByte(typeId);
+                sink.writeByte(typeId);
 
                 if (structure) encodeBuiltinType(typeId, new ExtensionObject((UaStructure) value));
                 else if (enumeration) encodeBuiltinType(typeId, ((UaEnumeration) value).getValue());
@@ -544,6 +669,68 @@ public class BinaryEncoder implements UaEncoder {
         }
     }
 
+    /**
+     * Write the elements of a one-dimensional primitive array in bulk rather than boxing each one.
+     */
+    private void encodePrimitiveArray(Object array) {
+        if (array instanceof boolean[]) {
+            for (boolean b : (boolean[]) array) {
+                sink.writeBoolean(b);
+            }
+        } else if (array instanceof byte[]) {
+            sink.writeBytes((byte[]) array);
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            for (int offset = 0, count; offset < values.length; offset += count) {
+                count = Math.min(values.length - offset, scratch.capacity() / 2);
+                scratch.clear();
+                scratch.asShortBuffer().put(values, offset, count);
+                writeScratch(count * 2);
+            }
+        } else if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            for (int offset = 0, count; offset < values.length; offset += count) {
+                count = Math.min(values.length - offset, scratch.capacity() / 4);
+                scratch.clear();
+                scratch.asIntBuffer().put(values, offset, count);
+                writeScratch(count * 4);
+            }
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            for (int offset = 0, count; offset < values.length; offset += count) {
+                count = Math.min(values.length - offset, scratch.capacity() / 8);
+                scratch.clear();
+                scratch.asLongBuffer().put(values, offset, count);
+                writeScratch(count * 8);
+            }
+        } else if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            for (int offset = 0, count; offset < values.length; offset += count) {
+                count = Math.min(values.length - offset, scratch.capacity() / 4);
+                scratch.clear();
+                scratch.asFloatBuffer().put(values, offset, count);
+                writeScratch(count * 4);
+            }
+        } else if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            for (int offset = 0, count; offset < values.length; offset += count) {
+                count = Math.min(values.length - offset, scratch.capacity() / 8);
+                scratch.clear();
+                scratch.asDoubleBuffer().put(values, offset, count);
+                writeScratch(count * 8);
+            }
+        } else {
+            throw new IllegalArgumentException("not a primitive array: " + array.getClass());
+        }
+    }
+
+    /**
+     * Write the first {@code byteCount} bytes of {@link #scratch} to the sink.
+     */
+    private void writeScratch(int byteCount) {
+        sink.writeBytes(scratch.array(), scratch.arrayOffset(), byteCount);
+    }
+
     private Class<?> getClass(@Nonnull Object o) {
         if (o.getClass().isArray()) {
             return ArrayUtil.getType(o);
@@ -556,7 +743,7 @@ public class BinaryEncoder implements UaEncoder {
     @Override
     public void encodeDiagnosticInfo(String field, DiagnosticInfo value) throws UaSerializationException {
         if (value == null) {
-            buffer.writeByte(0);
+            sink.writeByte(0);
         } else {
             int mask = 0x7F;
 
@@ -568,12 +755,12 @@ public class BinaryEncoder implements UaEncoder {
             if (value.getInnerStatusCode() == null) mask ^= 0x20;
             if (value.getInnerDiagnosticInfo() == null) mask ^= 0x40;
 
-            buffer.writeByte(mask);
+            sink.writeByte(mask);
 
-            if ((mask & 0x01) == 0x01) encodeInt32(null, value.getSymbolicId());
-            if ((mask & 0x02) == 0x02) encodeInt32(null, value.getNamespaceUri());
-            if ((mask & 0x04) == 0x04) encodeInt32(null, value.getLocalizedText());
-            if ((mask & 0x08) == 0x08) encodeInt32(null, value.getLocale());
+            if ((mask & 0x01) == 0x01) writeInt32(null, value.getSymbolicId());
+            if ((mask & 0x02) == 0x02) writeInt32(null, value.getNamespaceUri());
+            if ((mask & 0x04) == 0x04) writeInt32(null, value.getLocalizedText());
+            if ((mask & 0x08) == 0x08) writeInt32(null, value.getLocale());
             if ((mask & 0x10) == 0x10) encodeString(null, value.getAdditionalInfo());
             if ((mask & 0x20) == 0x20) encodeStatusCode(null, value.getInnerStatusCode());
             if ((mask & 0x40) == 0x40) encodeDiagnosticInfo(null, value.getInnerDiagnosticInfo());
@@ -582,17 +769,25 @@ public class BinaryEncoder implements UaEncoder {
 
     @Override
     public <T extends UaStructure> void encodeMessage(String field, T message) throws UaSerializationException {
-        EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(message.getBinaryEncodingId());
+        BinaryEncoderDelegate<T> binaryDelegate = DelegateRegistry.getBinaryEncoder(message.getClass());
+
+        if (binaryDelegate != null) {
+            encodeNodeId(null, message.getBinaryEncodingId());
 
-        encodeNodeId(null, message.getBinaryEncodingId());
+            binaryDelegate.encode(message, this);
+        } else {
+            EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(message.getBinaryEncodingId());
+
+            encodeNodeId(null, message.getBinaryEncodingId());
 
-        delegate.encode(message, this);
+            delegate.encode(message, this);
+        }
     }
 
     @Override
     public <T extends UaEnumeration> void encodeEnumeration(String field, T value) throws UaSerializationException {
         if (value == null) {
-            encodeInt32(null, -1);
+            writeInt32(null, -1);
         } else {
             EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(value);
 
@@ -602,22 +797,50 @@ public class BinaryEncoder implements UaEncoder {
 
     @Override
     public <T extends UaSerializable> void encodeSerializable(String field, T value) throws UaSerializationException {
-        EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(value);
+        BinaryEncoderDelegate<T> binaryDelegate = DelegateRegistry.getBinaryEncoder(value.getClass());
+
+        if (binaryDelegate != null) {
+            binaryDelegate.encode(value, this);
+        } else {
+            EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(value);
 
-        delegate.encode(value, this);
+            delegate.encode(value, this);
+        }
+    }
+
+    /**
+     * Write the length prefix of an array, or -1 if it's {@code null}, for callers that encode the elements
+     * themselves.
+     *
+     * @param values the array about to be encoded.
+     * @return {@code true} if {@code values} isn't {@code null} and its elements should follow.
+     */
+    public boolean writeArrayLength(Object[] values) throws UaSerializationException {
+        if (values == null) {
+            sink.writeInt(-1);
+            return false;
+        } else {
+            if (values.length > maxArrayLength) {
+                throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                        "max array length exceeded");
+            }
+
+            sink.writeInt(values.length);
+            return true;
+        }
     }
 
     @Override
     public <T> void encodeArray(String field, T[] values, BiConsumer<String, T> consumer) throws UaSerializationException {
         if (values == null) {
-            buffer.writeInt(-1);
+            sink.writeInt(-1);
         } else {
             if (values.length > maxArrayLength) {
                 throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
                         "max array length exceeded");
             }
 
-            encodeInt32(null, values.length);
+            writeInt32(null, values.length);
             for (T t : values) {
                 consumer.accept(null, t);
             }
@@ -0,0 +1,11 @@
+package com.inductiveautomation.opcua.stack.core.serialization.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.UaSerializable;
+
+/**
+ * An encoder for a single type that writes directly to a {@link BinaryEncoder}, used in place of the type's
+ * {@link com.inductiveautomation.opcua.stack.core.serialization.EncoderDelegate} when encoding binary.
+ */
+public interface BinaryEncoderDelegate<T extends UaSerializable> {
+    void encode(T encodable, BinaryEncoder encoder);
+}
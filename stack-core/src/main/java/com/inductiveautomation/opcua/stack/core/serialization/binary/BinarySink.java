@@ -0,0 +1,50 @@
+package com.inductiveautomation.opcua.stack.core.serialization.binary;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * The write-only, little endian destination that {@link BinaryEncoder} encodes into: a {@link ByteBuf}, see
+ * {@link BinaryEncoder#setBuffer(ByteBuf)}, or something that spreads the bytes over several buffers, such as the
+ * chunks of a message.
+ * <p>
+ * Bytes are only ever appended; nothing is written behind {@link #writerIndex()}.
+ */
+public interface BinarySink {
+
+    void writeByte(int value);
+
+    void writeShort(int value);
+
+    void writeInt(int value);
+
+    void writeLong(long value);
+
+    void writeBytes(byte[] src, int srcIndex, int length);
+
+    /**
+     * Write the readable bytes of {@code src}, advancing its reader index past them.
+     */
+    void writeBytes(ByteBuf src);
+
+    /**
+     * @return the number of bytes written so far.
+     */
+    int writerIndex();
+
+    default void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    default void writeFloat(float value) {
+        writeInt(Float.floatToRawIntBits(value));
+    }
+
+    default void writeDouble(double value) {
+        writeLong(Double.doubleToRawLongBits(value));
+    }
+
+    default void writeBytes(byte[] src) {
+        writeBytes(src, 0, src.length);
+    }
+
+}
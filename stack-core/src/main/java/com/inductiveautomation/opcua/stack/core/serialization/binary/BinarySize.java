@@ -0,0 +1,287 @@
+package com.inductiveautomation.opcua.stack.core.serialization.binary;
+
+import java.lang.reflect.Array;
+
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.UaSerializationException;
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.UaEnumeration;
+import com.inductiveautomation.opcua.stack.core.serialization.UaSerializable;
+import com.inductiveautomation.opcua.stack.core.serialization.UaStructure;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.XmlElement;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.IdType;
+import com.inductiveautomation.opcua.stack.core.util.ArrayUtil;
+import com.inductiveautomation.opcua.stack.core.util.BufferUtil;
+import com.inductiveautomation.opcua.stack.core.util.TypeUtil;
+import com.inductiveautomation.opcua.stack.core.util.Utf8Util;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Computes the exact number of bytes a value occupies when encoded by {@link BinaryEncoder}, without encoding it.
+ * <p>
+ * Only the builtin types whose size depends on their value are covered here; structures are sized by the
+ * {@link BinarySizeDelegate} registered for them, or, if there isn't one, by encoding them into a scratch buffer.
+ */
+public final class BinarySize {
+
+    private BinarySize() {}
+
+    public static int sizeOfString(String value) {
+        return value == null ? 4 : 4 + Utf8Util.encodedLength(value);
+    }
+
+    public static int sizeOfByteString(ByteString value) {
+        return value == null || value.isNull() ? 4 : 4 + value.length();
+    }
+
+    public static int sizeOfXmlElement(XmlElement value) {
+        return value == null || value.isNull() ? 4 : sizeOfString(value.getFragment());
+    }
+
+    public static int sizeOfNodeId(NodeId value) throws UaSerializationException {
+        if (value == null) value = NodeId.NULL_VALUE;
+
+        return sizeOfIdentifier(value.getType(), value.getNamespaceIndex().intValue(), value.getIdentifier());
+    }
+
+    public static int sizeOfExpandedNodeId(ExpandedNodeId value) throws UaSerializationException {
+        if (value == null) value = ExpandedNodeId.NULL_VALUE;
+
+        int size = sizeOfIdentifier(value.getType(), value.getNamespaceIndex().intValue(), value.getIdentifier());
+
+        String namespaceUri = value.getNamespaceUri();
+        if (namespaceUri != null && namespaceUri.length() > 0) size += sizeOfString(namespaceUri);
+        if (value.getServerIndex() > 0) size += 4;
+
+        return size;
+    }
+
+    private static int sizeOfIdentifier(IdType type, int namespaceIndex, Object identifier) {
+        if (type == IdType.Numeric) {
+            long idv = ((UInteger) identifier).longValue();
+
+            if (namespaceIndex == 0 && idv >= 0 && idv <= 255) {
+                return 2;
+            } else if (namespaceIndex >= 0 && namespaceIndex <= 255 && idv <= 65535) {
+                return 4;
+            } else {
+                return 7;
+            }
+        } else if (type == IdType.String) {
+            return 3 + sizeOfString((String) identifier);
+        } else if (type == IdType.Guid) {
+            return 3 + 16;
+        } else if (type == IdType.Opaque) {
+            return 3 + sizeOfByteString((ByteString) identifier);
+        } else {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, "invalid identifier: " + identifier);
+        }
+    }
+
+    public static int sizeOfQualifiedName(QualifiedName value) {
+        if (value == null) value = QualifiedName.NULL_VALUE;
+
+        return 2 + sizeOfString(value.getName());
+    }
+
+    public static int sizeOfLocalizedText(LocalizedText value) {
+        if (value == null) value = LocalizedText.NULL_VALUE;
+
+        String locale = value.getLocale();
+        String text = value.getText();
+
+        int size = 1;
+        if (locale != null && !locale.isEmpty()) size += sizeOfString(locale);
+        if (text != null && !text.isEmpty()) size += sizeOfString(text);
+
+        return size;
+    }
+
+    public static int sizeOfExtensionObject(ExtensionObject value) throws UaSerializationException {
+        ByteString encodedBody = value != null ? value.getEncodedBody() : null;
+
+        if (encodedBody != null) {
+            return sizeOfNodeId(value.getDataTypeEncodingId()) + 1 + sizeOfByteString(encodedBody);
+        }
+
+        if (value == null || value.getObject() == null) {
+            return sizeOfNodeId(NodeId.NULL_VALUE) + 1;
+        }
+
+        Object object = value.getObject();
+        int size = sizeOfNodeId(value.getDataTypeEncodingId()) + 1;
+
+        if (object instanceof UaSerializable) {
+            return size + 4 + sizeOfSerializable((UaSerializable) object);
+        } else if (object instanceof ByteString) {
+            return size + sizeOfByteString((ByteString) object);
+        } else if (object instanceof XmlElement) {
+            return size + sizeOfXmlElement((XmlElement) object);
+        } else {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, "unexpected object in ExtensionObject: " + object);
+        }
+    }
+
+    public static int sizeOfDataValue(DataValue value) throws UaSerializationException {
+        if (value == null) return 1;
+
+        int size = 1;
+
+        if (value.getValue() != null && value.getValue().isNotNull()) size += sizeOfVariant(value.getValue());
+        if (!StatusCode.GOOD.equals(value.getStatusCode())) size += 4;
+        if (!DateTime.MIN_VALUE.equals(value.getSourceTime())) size += 8;
+        if (!DateTime.MIN_VALUE.equals(value.getServerTime())) size += 8;
+
+        return size;
+    }
+
+    public static int sizeOfVariant(Variant variant) throws UaSerializationException {
+        Object value = variant.getValue();
+
+        if (value == null) return 1;
+
+        boolean structure = false;
+        boolean enumeration = false;
+        Class<?> valueClass = value.getClass().isArray() ? ArrayUtil.getType(value) : value.getClass();
+
+        if (UaStructure.class.isAssignableFrom(valueClass)) {
+            valueClass = ExtensionObject.class;
+            structure = true;
+        } else if (UaEnumeration.class.isAssignableFrom(valueClass)) {
+            valueClass = Integer.class;
+            enumeration = true;
+        }
+
+        int typeId = TypeUtil.getBuiltinTypeId(valueClass);
+
+        if (value.getClass().isArray()) {
+            int[] dimensions = ArrayUtil.getDimensions(value);
+            Object flattened = dimensions.length == 1 ? value : ArrayUtil.flatten(value);
+
+            int size = 1 + 4 + sizeOfElements(typeId, flattened, structure, enumeration);
+
+            if (dimensions.length > 1) size += 4 + 4 * dimensions.length;
+
+            return size;
+        } else {
+            return 1 + sizeOfElement(typeId, value, structure, enumeration);
+        }
+    }
+
+    private static int sizeOfElements(int typeId, Object array, boolean structure, boolean enumeration) {
+        int length = Array.getLength(array);
+        Class<?> componentType = array.getClass().getComponentType();
+
+        if (componentType.isPrimitive()) {
+            return length * sizeOfPrimitive(componentType);
+        }
+
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            size += sizeOfElement(typeId, Array.get(array, i), structure, enumeration);
+        }
+        return size;
+    }
+
+    private static int sizeOfElement(int typeId, Object value, boolean structure, boolean enumeration) {
+        if (structure) {
+            UaStructure s = (UaStructure) value;
+
+            return sizeOfNodeId(s.getBinaryEncodingId()) + 1 + 4 + sizeOfSerializable(s);
+        } else if (enumeration) {
+            return 4;
+        } else {
+            return sizeOfBuiltinType(typeId, value);
+        }
+    }
+
+    private static int sizeOfPrimitive(Class<?> componentType) {
+        if (componentType == boolean.class || componentType == byte.class) return 1;
+        if (componentType == short.class) return 2;
+        if (componentType == int.class || componentType == float.class) return 4;
+        if (componentType == long.class || componentType == double.class) return 8;
+
+        throw new IllegalArgumentException("not a primitive array: " + componentType);
+    }
+
+    public static int sizeOfDiagnosticInfo(DiagnosticInfo value) throws UaSerializationException {
+        if (value == null) return 1;
+
+        int size = 1;
+
+        if (value.getSymbolicId() != -1) size += 4;
+        if (value.getNamespaceUri() != -1) size += 4;
+        if (value.getLocalizedText() != -1) size += 4;
+        if (value.getLocale() != -1) size += 4;
+        if (value.getAdditionalInfo() != null && !value.getAdditionalInfo().isEmpty()) {
+            size += sizeOfString(value.getAdditionalInfo());
+        }
+        if (value.getInnerStatusCode() != null) size += 4;
+        if (value.getInnerDiagnosticInfo() != null) size += sizeOfDiagnosticInfo(value.getInnerDiagnosticInfo());
+
+        return size;
+    }
+
+    /**
+     * @return the size of {@code value} as written by {@link BinaryEncoder#encodeSerializable(String, UaSerializable)}.
+     */
+    public static <T extends UaSerializable> int sizeOfSerializable(T value) throws UaSerializationException {
+        BinarySizeDelegate<T> delegate = DelegateRegistry.getBinarySize(value.getClass());
+
+        if (delegate != null) {
+            return delegate.sizeOf(value);
+        } else {
+            ByteBuf buffer = BufferUtil.buffer();
+
+            try {
+                new BinaryEncoder().setBuffer(buffer).encodeSerializable(null, value);
+
+                return buffer.readableBytes();
+            } finally {
+                buffer.release();
+            }
+        }
+    }
+
+    /**
+     * @return the size of {@code message} as written by {@link BinaryEncoder#encodeMessage(String, UaStructure)}.
+     */
+    public static int sizeOfMessage(UaStructure message) throws UaSerializationException {
+        return sizeOfNodeId(message.getBinaryEncodingId()) + sizeOfSerializable(message);
+    }
+
+    private static int sizeOfBuiltinType(int typeId, Object value) throws UaSerializationException {
+        switch (typeId) {
+            case 1: case 2: case 3: return 1;
+            case 4: case 5: return 2;
+            case 6: case 7: case 10: case 19: return 4;
+            case 8: case 9: case 11: case 13: return 8;
+            case 14: return 16;
+            case 12: return sizeOfString((String) value);
+            case 15: return sizeOfByteString((ByteString) value);
+            case 16: return sizeOfXmlElement((XmlElement) value);
+            case 17: return sizeOfNodeId((NodeId) value);
+            case 18: return sizeOfExpandedNodeId((ExpandedNodeId) value);
+            case 20: return sizeOfQualifiedName((QualifiedName) value);
+            case 21: return sizeOfLocalizedText((LocalizedText) value);
+            case 22: return sizeOfExtensionObject((ExtensionObject) value);
+            case 23: return sizeOfDataValue((DataValue) value);
+            case 24: return sizeOfVariant((Variant) value);
+            case 25: return sizeOfDiagnosticInfo((DiagnosticInfo) value);
+            default: throw new UaSerializationException(StatusCodes.Bad_DecodingError, "unknown builtin type: " + typeId);
+        }
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.inductiveautomation.opcua.stack.core.serialization.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.UaSerializable;
+
+/**
+ * Computes the exact number of bytes a single type occupies when binary encoded, without encoding it.
+ */
+public interface BinarySizeDelegate<T extends UaSerializable> {
+    int sizeOf(T encodable);
+}
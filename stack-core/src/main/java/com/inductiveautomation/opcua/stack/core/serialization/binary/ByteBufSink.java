@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.serialization.binary;
+
+import com.inductiveautomation.opcua.stack.core.util.Utf8Util;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A {@link BinarySink} that appends to a little endian {@link ByteBuf}.
+ */
+final class ByteBufSink implements BinarySink {
+
+    private final ByteBuf buffer;
+
+    ByteBufSink(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    ByteBuf getBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public void writeByte(int value) {
+        buffer.writeByte(value);
+    }
+
+    @Override
+    public void writeShort(int value) {
+        buffer.writeShort(value);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        buffer.writeInt(value);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        buffer.writeLong(value);
+    }
+
+    @Override
+    public void writeBytes(byte[] src, int srcIndex, int length) {
+        buffer.writeBytes(src, srcIndex, length);
+    }
+
+    @Override
+    public void writeBytes(ByteBuf src) {
+        buffer.writeBytes(src);
+    }
+
+    @Override
+    public int writerIndex() {
+        return buffer.writerIndex();
+    }
+
+    /**
+     * Encode {@code value}, whose UTF-8 encoding is {@code length} bytes long, straight into the buffer's backing
+     * array.
+     *
+     * @return {@code false}, having written nothing, if the buffer has no backing array.
+     */
+    boolean writeUtf8(String value, int length) {
+        buffer.ensureWritable(length);
+
+        if (!buffer.hasArray()) return false;
+
+        int writerIndex = buffer.writerIndex();
+        Utf8Util.encode(value, buffer.array(), buffer.arrayOffset() + writerIndex);
+        buffer.writerIndex(writerIndex + length);
+
+        return true;
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.inductiveautomation.opcua.stack.core.serialization.binary;
+
+import com.google.common.base.Preconditions;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A bounded cache of decoded Strings, NodeIds and QualifiedNames, keyed on their raw encoded bytes, that lets a
+ * {@link BinaryDecoder} hand out one canonical instance for values that repeat from message to message.
+ * <p>
+ * Each table is direct-mapped: an encoding that hashes to an occupied slot replaces whatever was there, so the cache
+ * never holds more than {@code capacity} entries per table and a lookup never allocates.
+ * <p>
+ * Not thread-safe; an InternCache belongs to a single decoder. The hit and miss counts may be read from any thread
+ * but may be slightly stale.
+ */
+public class InternCache {
+
+    public static final int DEFAULT_MAX_KEY_LENGTH = 256;
+
+    private final Table<String> strings;
+    private final Table<NodeId> nodeIds;
+    private final Table<QualifiedName> qualifiedNames;
+
+    /**
+     * @param capacity the number of entries in each of the String, NodeId and QualifiedName tables. Rounded up to a
+     *                 power of 2.
+     */
+    public InternCache(int capacity) {
+        this(capacity, DEFAULT_MAX_KEY_LENGTH);
+    }
+
+    /**
+     * @param capacity     the number of entries in each of the String, NodeId and QualifiedName tables. Rounded up to
+     *                     a power of 2.
+     * @param maxKeyLength the longest encoding that will be cached; longer values are always decoded.
+     */
+    public InternCache(int capacity, int maxKeyLength) {
+        Preconditions.checkArgument(capacity > 0, "capacity must be greater than 0");
+        Preconditions.checkArgument(maxKeyLength > 0, "maxKeyLength must be greater than 0");
+
+        strings = new Table<>(capacity, maxKeyLength);
+        nodeIds = new Table<>(capacity, maxKeyLength);
+        qualifiedNames = new Table<>(capacity, maxKeyLength);
+    }
+
+    public Table<String> getStrings() {
+        return strings;
+    }
+
+    public Table<NodeId> getNodeIds() {
+        return nodeIds;
+    }
+
+    public Table<QualifiedName> getQualifiedNames() {
+        return qualifiedNames;
+    }
+
+    public long getHitCount() {
+        return strings.getHitCount() + nodeIds.getHitCount() + qualifiedNames.getHitCount();
+    }
+
+    public long getMissCount() {
+        return strings.getMissCount() + nodeIds.getMissCount() + qualifiedNames.getMissCount();
+    }
+
+    /**
+     * @return the fraction of lookups across all tables that were hits, or 0 if there have been none.
+     */
+    public double getHitRate() {
+        return hitRate(getHitCount(), getMissCount());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("InternCache{strings=%s, nodeIds=%s, qualifiedNames=%s}",
+                strings, nodeIds, qualifiedNames);
+    }
+
+    private static double hitRate(long hits, long misses) {
+        long lookups = hits + misses;
+
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    public static final class Table<T> {
+
+        private final Entry<T>[] entries;
+        private final int mask;
+
+        /** The key of the most recent lookup, kept so a miss can be followed by {@link #put(Object)}. */
+        private final byte[] key;
+        private int keyLength;
+        private int keyHash;
+
+        private long hits;
+        private long misses;
+
+        @SuppressWarnings("unchecked")
+        Table(int capacity, int maxKeyLength) {
+            int size = capacity > 1 ? Integer.highestOneBit(capacity - 1) << 1 : 1;
+
+            entries = (Entry<T>[]) new Entry[size];
+            mask = size - 1;
+            key = new byte[maxKeyLength];
+        }
+
+        /**
+         * Look up the value encoded in {@code length} bytes of {@code buffer} starting at {@code index}, without
+         * changing the buffer's indices. A {@code null} result for a key that fits the table must be followed by
+         * {@link #put(Object)} with the decoded value before the next lookup.
+         *
+         * @return the cached value, or {@code null} if there isn't one.
+         */
+        T get(ByteBuf buffer, int index, int length) {
+            if (length > key.length) {
+                keyLength = -1;
+                return null;
+            }
+
+            buffer.getBytes(index, key, 0, length);
+
+            int h = 1;
+            for (int i = 0; i < length; i++) {
+                h = 31 * h + key[i];
+            }
+            h ^= (h >>> 16);
+
+            keyLength = length;
+            keyHash = h;
+
+            Entry<T> entry = entries[h & mask];
+
+            if (entry != null && entry.hash == h && entry.matches(key, length)) {
+                hits++;
+                return entry.value;
+            } else {
+                misses++;
+                return null;
+            }
+        }
+
+        /**
+         * Cache {@code value} under the key of the preceding {@link #get(ByteBuf, int, int)} miss.
+         */
+        void put(T value) {
+            if (keyLength >= 0) {
+                byte[] bs = new byte[keyLength];
+                System.arraycopy(key, 0, bs, 0, keyLength);
+
+                entries[keyHash & mask] = new Entry<>(keyHash, bs, value);
+                keyLength = -1;
+            }
+        }
+
+        public long getHitCount() {
+            return hits;
+        }
+
+        public long getMissCount() {
+            return misses;
+        }
+
+        /**
+         * @return the fraction of lookups in this table that were hits, or 0 if there have been none.
+         */
+        public double getHitRate() {
+            return hitRate(hits, misses);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("{hits=%s, misses=%s}", hits, misses);
+        }
+
+    }
+
+    private static final class Entry<T> {
+
+        final int hash;
+        final byte[] key;
+        final T value;
+
+        Entry(int hash, byte[] key, T value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        boolean matches(byte[] bs, int length) {
+            if (key.length != length) return false;
+
+            for (int i = 0; i < length; i++) {
+                if (key[i] != bs[i]) return false;
+            }
+
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,475 @@
+package com.inductiveautomation.opcua.stack.core.types;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.inductiveautomation.opcua.stack.core.Identifiers;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+
+/**
+ * An index of the generated structured types, which lets
+ * {@link com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry} initialize the classes that register
+ * a delegate the first time that delegate is looked up, instead of finding and loading every generated class up front.
+ */
+public final class DelegateIndex {
+
+    private DelegateIndex() {}
+
+    public static final String StructuredPackage = "com.inductiveautomation.opcua.stack.core.types.structured";
+    public static final String BinaryCodecPackage = "com.inductiveautomation.opcua.stack.core.types.structured.binary";
+
+    /**
+     * The simple name of each generated structure, by its binary and XML encoding ids.
+     */
+    public static final Map<NodeId, String> StructuresByEncodingId = ImmutableMap.<NodeId, String>builder()
+            .put(Identifiers.Node_Encoding_DefaultBinary, "Node")
+            .put(Identifiers.Node_Encoding_DefaultXml, "Node")
+            .put(Identifiers.InstanceNode_Encoding_DefaultBinary, "InstanceNode")
+            .put(Identifiers.InstanceNode_Encoding_DefaultXml, "InstanceNode")
+            .put(Identifiers.TypeNode_Encoding_DefaultBinary, "TypeNode")
+            .put(Identifiers.TypeNode_Encoding_DefaultXml, "TypeNode")
+            .put(Identifiers.ObjectNode_Encoding_DefaultBinary, "ObjectNode")
+            .put(Identifiers.ObjectNode_Encoding_DefaultXml, "ObjectNode")
+            .put(Identifiers.ObjectTypeNode_Encoding_DefaultBinary, "ObjectTypeNode")
+            .put(Identifiers.ObjectTypeNode_Encoding_DefaultXml, "ObjectTypeNode")
+            .put(Identifiers.VariableNode_Encoding_DefaultBinary, "VariableNode")
+            .put(Identifiers.VariableNode_Encoding_DefaultXml, "VariableNode")
+            .put(Identifiers.VariableTypeNode_Encoding_DefaultBinary, "VariableTypeNode")
+            .put(Identifiers.VariableTypeNode_Encoding_DefaultXml, "VariableTypeNode")
+            .put(Identifiers.ReferenceTypeNode_Encoding_DefaultBinary, "ReferenceTypeNode")
+            .put(Identifiers.ReferenceTypeNode_Encoding_DefaultXml, "ReferenceTypeNode")
+            .put(Identifiers.MethodNode_Encoding_DefaultBinary, "MethodNode")
+            .put(Identifiers.MethodNode_Encoding_DefaultXml, "MethodNode")
+            .put(Identifiers.ViewNode_Encoding_DefaultBinary, "ViewNode")
+            .put(Identifiers.ViewNode_Encoding_DefaultXml, "ViewNode")
+            .put(Identifiers.DataTypeNode_Encoding_DefaultBinary, "DataTypeNode")
+            .put(Identifiers.DataTypeNode_Encoding_DefaultXml, "DataTypeNode")
+            .put(Identifiers.ReferenceNode_Encoding_DefaultBinary, "ReferenceNode")
+            .put(Identifiers.ReferenceNode_Encoding_DefaultXml, "ReferenceNode")
+            .put(Identifiers.Argument_Encoding_DefaultBinary, "Argument")
+            .put(Identifiers.Argument_Encoding_DefaultXml, "Argument")
+            .put(Identifiers.EnumValueType_Encoding_DefaultBinary, "EnumValueType")
+            .put(Identifiers.EnumValueType_Encoding_DefaultXml, "EnumValueType")
+            .put(Identifiers.TimeZoneDataType_Encoding_DefaultBinary, "TimeZoneDataType")
+            .put(Identifiers.TimeZoneDataType_Encoding_DefaultXml, "TimeZoneDataType")
+            .put(Identifiers.ApplicationDescription_Encoding_DefaultBinary, "ApplicationDescription")
+            .put(Identifiers.ApplicationDescription_Encoding_DefaultXml, "ApplicationDescription")
+            .put(Identifiers.RequestHeader_Encoding_DefaultBinary, "RequestHeader")
+            .put(Identifiers.RequestHeader_Encoding_DefaultXml, "RequestHeader")
+            .put(Identifiers.ResponseHeader_Encoding_DefaultBinary, "ResponseHeader")
+            .put(Identifiers.ResponseHeader_Encoding_DefaultXml, "ResponseHeader")
+            .put(Identifiers.ServiceFault_Encoding_DefaultBinary, "ServiceFault")
+            .put(Identifiers.ServiceFault_Encoding_DefaultXml, "ServiceFault")
+            .put(Identifiers.FindServersRequest_Encoding_DefaultBinary, "FindServersRequest")
+            .put(Identifiers.FindServersRequest_Encoding_DefaultXml, "FindServersRequest")
+            .put(Identifiers.FindServersResponse_Encoding_DefaultBinary, "FindServersResponse")
+            .put(Identifiers.FindServersResponse_Encoding_DefaultXml, "FindServersResponse")
+            .put(Identifiers.UserTokenPolicy_Encoding_DefaultBinary, "UserTokenPolicy")
+            .put(Identifiers.UserTokenPolicy_Encoding_DefaultXml, "UserTokenPolicy")
+            .put(Identifiers.EndpointDescription_Encoding_DefaultBinary, "EndpointDescription")
+            .put(Identifiers.EndpointDescription_Encoding_DefaultXml, "EndpointDescription")
+            .put(Identifiers.GetEndpointsRequest_Encoding_DefaultBinary, "GetEndpointsRequest")
+            .put(Identifiers.GetEndpointsRequest_Encoding_DefaultXml, "GetEndpointsRequest")
+            .put(Identifiers.GetEndpointsResponse_Encoding_DefaultBinary, "GetEndpointsResponse")
+            .put(Identifiers.GetEndpointsResponse_Encoding_DefaultXml, "GetEndpointsResponse")
+            .put(Identifiers.RegisteredServer_Encoding_DefaultBinary, "RegisteredServer")
+            .put(Identifiers.RegisteredServer_Encoding_DefaultXml, "RegisteredServer")
+            .put(Identifiers.RegisterServerRequest_Encoding_DefaultBinary, "RegisterServerRequest")
+            .put(Identifiers.RegisterServerRequest_Encoding_DefaultXml, "RegisterServerRequest")
+            .put(Identifiers.RegisterServerResponse_Encoding_DefaultBinary, "RegisterServerResponse")
+            .put(Identifiers.RegisterServerResponse_Encoding_DefaultXml, "RegisterServerResponse")
+            .put(Identifiers.ChannelSecurityToken_Encoding_DefaultBinary, "ChannelSecurityToken")
+            .put(Identifiers.ChannelSecurityToken_Encoding_DefaultXml, "ChannelSecurityToken")
+            .put(Identifiers.OpenSecureChannelRequest_Encoding_DefaultBinary, "OpenSecureChannelRequest")
+            .put(Identifiers.OpenSecureChannelRequest_Encoding_DefaultXml, "OpenSecureChannelRequest")
+            .put(Identifiers.OpenSecureChannelResponse_Encoding_DefaultBinary, "OpenSecureChannelResponse")
+            .put(Identifiers.OpenSecureChannelResponse_Encoding_DefaultXml, "OpenSecureChannelResponse")
+            .put(Identifiers.CloseSecureChannelRequest_Encoding_DefaultBinary, "CloseSecureChannelRequest")
+            .put(Identifiers.CloseSecureChannelRequest_Encoding_DefaultXml, "CloseSecureChannelRequest")
+            .put(Identifiers.CloseSecureChannelResponse_Encoding_DefaultBinary, "CloseSecureChannelResponse")
+            .put(Identifiers.CloseSecureChannelResponse_Encoding_DefaultXml, "CloseSecureChannelResponse")
+            .put(Identifiers.SignedSoftwareCertificate_Encoding_DefaultBinary, "SignedSoftwareCertificate")
+            .put(Identifiers.SignedSoftwareCertificate_Encoding_DefaultXml, "SignedSoftwareCertificate")
+            .put(Identifiers.SignatureData_Encoding_DefaultBinary, "SignatureData")
+            .put(Identifiers.SignatureData_Encoding_DefaultXml, "SignatureData")
+            .put(Identifiers.CreateSessionRequest_Encoding_DefaultBinary, "CreateSessionRequest")
+            .put(Identifiers.CreateSessionRequest_Encoding_DefaultXml, "CreateSessionRequest")
+            .put(Identifiers.CreateSessionResponse_Encoding_DefaultBinary, "CreateSessionResponse")
+            .put(Identifiers.CreateSessionResponse_Encoding_DefaultXml, "CreateSessionResponse")
+            .put(Identifiers.UserIdentityToken_Encoding_DefaultBinary, "UserIdentityToken")
+            .put(Identifiers.UserIdentityToken_Encoding_DefaultXml, "UserIdentityToken")
+            .put(Identifiers.AnonymousIdentityToken_Encoding_DefaultBinary, "AnonymousIdentityToken")
+            .put(Identifiers.AnonymousIdentityToken_Encoding_DefaultXml, "AnonymousIdentityToken")
+            .put(Identifiers.UserNameIdentityToken_Encoding_DefaultBinary, "UserNameIdentityToken")
+            .put(Identifiers.UserNameIdentityToken_Encoding_DefaultXml, "UserNameIdentityToken")
+            .put(Identifiers.X509IdentityToken_Encoding_DefaultBinary, "X509IdentityToken")
+            .put(Identifiers.X509IdentityToken_Encoding_DefaultXml, "X509IdentityToken")
+            .put(Identifiers.IssuedIdentityToken_Encoding_DefaultBinary, "IssuedIdentityToken")
+            .put(Identifiers.IssuedIdentityToken_Encoding_DefaultXml, "IssuedIdentityToken")
+            .put(Identifiers.ActivateSessionRequest_Encoding_DefaultBinary, "ActivateSessionRequest")
+            .put(Identifiers.ActivateSessionRequest_Encoding_DefaultXml, "ActivateSessionRequest")
+            .put(Identifiers.ActivateSessionResponse_Encoding_DefaultBinary, "ActivateSessionResponse")
+            .put(Identifiers.ActivateSessionResponse_Encoding_DefaultXml, "ActivateSessionResponse")
+            .put(Identifiers.CloseSessionRequest_Encoding_DefaultBinary, "CloseSessionRequest")
+            .put(Identifiers.CloseSessionRequest_Encoding_DefaultXml, "CloseSessionRequest")
+            .put(Identifiers.CloseSessionResponse_Encoding_DefaultBinary, "CloseSessionResponse")
+            .put(Identifiers.CloseSessionResponse_Encoding_DefaultXml, "CloseSessionResponse")
+            .put(Identifiers.CancelRequest_Encoding_DefaultBinary, "CancelRequest")
+            .put(Identifiers.CancelRequest_Encoding_DefaultXml, "CancelRequest")
+            .put(Identifiers.CancelResponse_Encoding_DefaultBinary, "CancelResponse")
+            .put(Identifiers.CancelResponse_Encoding_DefaultXml, "CancelResponse")
+            .put(Identifiers.NodeAttributes_Encoding_DefaultBinary, "NodeAttributes")
+            .put(Identifiers.NodeAttributes_Encoding_DefaultXml, "NodeAttributes")
+            .put(Identifiers.ObjectAttributes_Encoding_DefaultBinary, "ObjectAttributes")
+            .put(Identifiers.ObjectAttributes_Encoding_DefaultXml, "ObjectAttributes")
+            .put(Identifiers.VariableAttributes_Encoding_DefaultBinary, "VariableAttributes")
+            .put(Identifiers.VariableAttributes_Encoding_DefaultXml, "VariableAttributes")
+            .put(Identifiers.MethodAttributes_Encoding_DefaultBinary, "MethodAttributes")
+            .put(Identifiers.MethodAttributes_Encoding_DefaultXml, "MethodAttributes")
+            .put(Identifiers.ObjectTypeAttributes_Encoding_DefaultBinary, "ObjectTypeAttributes")
+            .put(Identifiers.ObjectTypeAttributes_Encoding_DefaultXml, "ObjectTypeAttributes")
+            .put(Identifiers.VariableTypeAttributes_Encoding_DefaultBinary, "VariableTypeAttributes")
+            .put(Identifiers.VariableTypeAttributes_Encoding_DefaultXml, "VariableTypeAttributes")
+            .put(Identifiers.ReferenceTypeAttributes_Encoding_DefaultBinary, "ReferenceTypeAttributes")
+            .put(Identifiers.ReferenceTypeAttributes_Encoding_DefaultXml, "ReferenceTypeAttributes")
+            .put(Identifiers.DataTypeAttributes_Encoding_DefaultBinary, "DataTypeAttributes")
+            .put(Identifiers.DataTypeAttributes_Encoding_DefaultXml, "DataTypeAttributes")
+            .put(Identifiers.ViewAttributes_Encoding_DefaultBinary, "ViewAttributes")
+            .put(Identifiers.ViewAttributes_Encoding_DefaultXml, "ViewAttributes")
+            .put(Identifiers.AddNodesItem_Encoding_DefaultBinary, "AddNodesItem")
+            .put(Identifiers.AddNodesItem_Encoding_DefaultXml, "AddNodesItem")
+            .put(Identifiers.AddNodesResult_Encoding_DefaultBinary, "AddNodesResult")
+            .put(Identifiers.AddNodesResult_Encoding_DefaultXml, "AddNodesResult")
+            .put(Identifiers.AddNodesRequest_Encoding_DefaultBinary, "AddNodesRequest")
+            .put(Identifiers.AddNodesRequest_Encoding_DefaultXml, "AddNodesRequest")
+            .put(Identifiers.AddNodesResponse_Encoding_DefaultBinary, "AddNodesResponse")
+            .put(Identifiers.AddNodesResponse_Encoding_DefaultXml, "AddNodesResponse")
+            .put(Identifiers.AddReferencesItem_Encoding_DefaultBinary, "AddReferencesItem")
+            .put(Identifiers.AddReferencesItem_Encoding_DefaultXml, "AddReferencesItem")
+            .put(Identifiers.AddReferencesRequest_Encoding_DefaultBinary, "AddReferencesRequest")
+            .put(Identifiers.AddReferencesRequest_Encoding_DefaultXml, "AddReferencesRequest")
+            .put(Identifiers.AddReferencesResponse_Encoding_DefaultBinary, "AddReferencesResponse")
+            .put(Identifiers.AddReferencesResponse_Encoding_DefaultXml, "AddReferencesResponse")
+            .put(Identifiers.DeleteNodesItem_Encoding_DefaultBinary, "DeleteNodesItem")
+            .put(Identifiers.DeleteNodesItem_Encoding_DefaultXml, "DeleteNodesItem")
+            .put(Identifiers.DeleteNodesRequest_Encoding_DefaultBinary, "DeleteNodesRequest")
+            .put(Identifiers.DeleteNodesRequest_Encoding_DefaultXml, "DeleteNodesRequest")
+            .put(Identifiers.DeleteNodesResponse_Encoding_DefaultBinary, "DeleteNodesResponse")
+            .put(Identifiers.DeleteNodesResponse_Encoding_DefaultXml, "DeleteNodesResponse")
+            .put(Identifiers.DeleteReferencesItem_Encoding_DefaultBinary, "DeleteReferencesItem")
+            .put(Identifiers.DeleteReferencesItem_Encoding_DefaultXml, "DeleteReferencesItem")
+            .put(Identifiers.DeleteReferencesRequest_Encoding_DefaultBinary, "DeleteReferencesRequest")
+            .put(Identifiers.DeleteReferencesRequest_Encoding_DefaultXml, "DeleteReferencesRequest")
+            .put(Identifiers.DeleteReferencesResponse_Encoding_DefaultBinary, "DeleteReferencesResponse")
+            .put(Identifiers.DeleteReferencesResponse_Encoding_DefaultXml, "DeleteReferencesResponse")
+            .put(Identifiers.ViewDescription_Encoding_DefaultBinary, "ViewDescription")
+            .put(Identifiers.ViewDescription_Encoding_DefaultXml, "ViewDescription")
+            .put(Identifiers.BrowseDescription_Encoding_DefaultBinary, "BrowseDescription")
+            .put(Identifiers.BrowseDescription_Encoding_DefaultXml, "BrowseDescription")
+            .put(Identifiers.ReferenceDescription_Encoding_DefaultBinary, "ReferenceDescription")
+            .put(Identifiers.ReferenceDescription_Encoding_DefaultXml, "ReferenceDescription")
+            .put(Identifiers.BrowseResult_Encoding_DefaultBinary, "BrowseResult")
+            .put(Identifiers.BrowseResult_Encoding_DefaultXml, "BrowseResult")
+            .put(Identifiers.BrowseRequest_Encoding_DefaultBinary, "BrowseRequest")
+            .put(Identifiers.BrowseRequest_Encoding_DefaultXml, "BrowseRequest")
+            .put(Identifiers.BrowseResponse_Encoding_DefaultBinary, "BrowseResponse")
+            .put(Identifiers.BrowseResponse_Encoding_DefaultXml, "BrowseResponse")
+            .put(Identifiers.BrowseNextRequest_Encoding_DefaultBinary, "BrowseNextRequest")
+            .put(Identifiers.BrowseNextRequest_Encoding_DefaultXml, "BrowseNextRequest")
+            .put(Identifiers.BrowseNextResponse_Encoding_DefaultBinary, "BrowseNextResponse")
+            .put(Identifiers.BrowseNextResponse_Encoding_DefaultXml, "BrowseNextResponse")
+            .put(Identifiers.RelativePathElement_Encoding_DefaultBinary, "RelativePathElement")
+            .put(Identifiers.RelativePathElement_Encoding_DefaultXml, "RelativePathElement")
+            .put(Identifiers.RelativePath_Encoding_DefaultBinary, "RelativePath")
+            .put(Identifiers.RelativePath_Encoding_DefaultXml, "RelativePath")
+            .put(Identifiers.BrowsePath_Encoding_DefaultBinary, "BrowsePath")
+            .put(Identifiers.BrowsePath_Encoding_DefaultXml, "BrowsePath")
+            .put(Identifiers.BrowsePathTarget_Encoding_DefaultBinary, "BrowsePathTarget")
+            .put(Identifiers.BrowsePathTarget_Encoding_DefaultXml, "BrowsePathTarget")
+            .put(Identifiers.BrowsePathResult_Encoding_DefaultBinary, "BrowsePathResult")
+            .put(Identifiers.BrowsePathResult_Encoding_DefaultXml, "BrowsePathResult")
+            .put(Identifiers.TranslateBrowsePathsToNodeIdsRequest_Encoding_DefaultBinary, "TranslateBrowsePathsToNodeIdsRequest")
+            .put(Identifiers.TranslateBrowsePathsToNodeIdsRequest_Encoding_DefaultXml, "TranslateBrowsePathsToNodeIdsRequest")
+            .put(Identifiers.TranslateBrowsePathsToNodeIdsResponse_Encoding_DefaultBinary, "TranslateBrowsePathsToNodeIdsResponse")
+            .put(Identifiers.TranslateBrowsePathsToNodeIdsResponse_Encoding_DefaultXml, "TranslateBrowsePathsToNodeIdsResponse")
+            .put(Identifiers.RegisterNodesRequest_Encoding_DefaultBinary, "RegisterNodesRequest")
+            .put(Identifiers.RegisterNodesRequest_Encoding_DefaultXml, "RegisterNodesRequest")
+            .put(Identifiers.RegisterNodesResponse_Encoding_DefaultBinary, "RegisterNodesResponse")
+            .put(Identifiers.RegisterNodesResponse_Encoding_DefaultXml, "RegisterNodesResponse")
+            .put(Identifiers.UnregisterNodesRequest_Encoding_DefaultBinary, "UnregisterNodesRequest")
+            .put(Identifiers.UnregisterNodesRequest_Encoding_DefaultXml, "UnregisterNodesRequest")
+            .put(Identifiers.UnregisterNodesResponse_Encoding_DefaultBinary, "UnregisterNodesResponse")
+            .put(Identifiers.UnregisterNodesResponse_Encoding_DefaultXml, "UnregisterNodesResponse")
+            .put(Identifiers.EndpointConfiguration_Encoding_DefaultBinary, "EndpointConfiguration")
+            .put(Identifiers.EndpointConfiguration_Encoding_DefaultXml, "EndpointConfiguration")
+            .put(Identifiers.SupportedProfile_Encoding_DefaultBinary, "SupportedProfile")
+            .put(Identifiers.SupportedProfile_Encoding_DefaultXml, "SupportedProfile")
+            .put(Identifiers.SoftwareCertificate_Encoding_DefaultBinary, "SoftwareCertificate")
+            .put(Identifiers.SoftwareCertificate_Encoding_DefaultXml, "SoftwareCertificate")
+            .put(Identifiers.QueryDataDescription_Encoding_DefaultBinary, "QueryDataDescription")
+            .put(Identifiers.QueryDataDescription_Encoding_DefaultXml, "QueryDataDescription")
+            .put(Identifiers.NodeTypeDescription_Encoding_DefaultBinary, "NodeTypeDescription")
+            .put(Identifiers.NodeTypeDescription_Encoding_DefaultXml, "NodeTypeDescription")
+            .put(Identifiers.QueryDataSet_Encoding_DefaultBinary, "QueryDataSet")
+            .put(Identifiers.QueryDataSet_Encoding_DefaultXml, "QueryDataSet")
+            .put(Identifiers.NodeReference_Encoding_DefaultBinary, "NodeReference")
+            .put(Identifiers.NodeReference_Encoding_DefaultXml, "NodeReference")
+            .put(Identifiers.ContentFilterElement_Encoding_DefaultBinary, "ContentFilterElement")
+            .put(Identifiers.ContentFilterElement_Encoding_DefaultXml, "ContentFilterElement")
+            .put(Identifiers.ContentFilter_Encoding_DefaultBinary, "ContentFilter")
+            .put(Identifiers.ContentFilter_Encoding_DefaultXml, "ContentFilter")
+            .put(Identifiers.FilterOperand_Encoding_DefaultBinary, "FilterOperand")
+            .put(Identifiers.FilterOperand_Encoding_DefaultXml, "FilterOperand")
+            .put(Identifiers.ElementOperand_Encoding_DefaultBinary, "ElementOperand")
+            .put(Identifiers.ElementOperand_Encoding_DefaultXml, "ElementOperand")
+            .put(Identifiers.LiteralOperand_Encoding_DefaultBinary, "LiteralOperand")
+            .put(Identifiers.LiteralOperand_Encoding_DefaultXml, "LiteralOperand")
+            .put(Identifiers.AttributeOperand_Encoding_DefaultBinary, "AttributeOperand")
+            .put(Identifiers.AttributeOperand_Encoding_DefaultXml, "AttributeOperand")
+            .put(Identifiers.SimpleAttributeOperand_Encoding_DefaultBinary, "SimpleAttributeOperand")
+            .put(Identifiers.SimpleAttributeOperand_Encoding_DefaultXml, "SimpleAttributeOperand")
+            .put(Identifiers.ContentFilterElementResult_Encoding_DefaultBinary, "ContentFilterElementResult")
+            .put(Identifiers.ContentFilterElementResult_Encoding_DefaultXml, "ContentFilterElementResult")
+            .put(Identifiers.ContentFilterResult_Encoding_DefaultBinary, "ContentFilterResult")
+            .put(Identifiers.ContentFilterResult_Encoding_DefaultXml, "ContentFilterResult")
+            .put(Identifiers.ParsingResult_Encoding_DefaultBinary, "ParsingResult")
+            .put(Identifiers.ParsingResult_Encoding_DefaultXml, "ParsingResult")
+            .put(Identifiers.QueryFirstRequest_Encoding_DefaultBinary, "QueryFirstRequest")
+            .put(Identifiers.QueryFirstRequest_Encoding_DefaultXml, "QueryFirstRequest")
+            .put(Identifiers.QueryFirstResponse_Encoding_DefaultBinary, "QueryFirstResponse")
+            .put(Identifiers.QueryFirstResponse_Encoding_DefaultXml, "QueryFirstResponse")
+            .put(Identifiers.QueryNextRequest_Encoding_DefaultBinary, "QueryNextRequest")
+            .put(Identifiers.QueryNextRequest_Encoding_DefaultXml, "QueryNextRequest")
+            .put(Identifiers.QueryNextResponse_Encoding_DefaultBinary, "QueryNextResponse")
+            .put(Identifiers.QueryNextResponse_Encoding_DefaultXml, "QueryNextResponse")
+            .put(Identifiers.ReadValueId_Encoding_DefaultBinary, "ReadValueId")
+            .put(Identifiers.ReadValueId_Encoding_DefaultXml, "ReadValueId")
+            .put(Identifiers.ReadRequest_Encoding_DefaultBinary, "ReadRequest")
+            .put(Identifiers.ReadRequest_Encoding_DefaultXml, "ReadRequest")
+            .put(Identifiers.ReadResponse_Encoding_DefaultBinary, "ReadResponse")
+            .put(Identifiers.ReadResponse_Encoding_DefaultXml, "ReadResponse")
+            .put(Identifiers.HistoryReadValueId_Encoding_DefaultBinary, "HistoryReadValueId")
+            .put(Identifiers.HistoryReadValueId_Encoding_DefaultXml, "HistoryReadValueId")
+            .put(Identifiers.HistoryReadResult_Encoding_DefaultBinary, "HistoryReadResult")
+            .put(Identifiers.HistoryReadResult_Encoding_DefaultXml, "HistoryReadResult")
+            .put(Identifiers.HistoryReadDetails_Encoding_DefaultBinary, "HistoryReadDetails")
+            .put(Identifiers.HistoryReadDetails_Encoding_DefaultXml, "HistoryReadDetails")
+            .put(Identifiers.ReadEventDetails_Encoding_DefaultBinary, "ReadEventDetails")
+            .put(Identifiers.ReadEventDetails_Encoding_DefaultXml, "ReadEventDetails")
+            .put(Identifiers.ReadRawModifiedDetails_Encoding_DefaultBinary, "ReadRawModifiedDetails")
+            .put(Identifiers.ReadRawModifiedDetails_Encoding_DefaultXml, "ReadRawModifiedDetails")
+            .put(Identifiers.ReadProcessedDetails_Encoding_DefaultBinary, "ReadProcessedDetails")
+            .put(Identifiers.ReadProcessedDetails_Encoding_DefaultXml, "ReadProcessedDetails")
+            .put(Identifiers.ReadAtTimeDetails_Encoding_DefaultBinary, "ReadAtTimeDetails")
+            .put(Identifiers.ReadAtTimeDetails_Encoding_DefaultXml, "ReadAtTimeDetails")
+            .put(Identifiers.HistoryData_Encoding_DefaultBinary, "HistoryData")
+            .put(Identifiers.HistoryData_Encoding_DefaultXml, "HistoryData")
+            .put(Identifiers.ModificationInfo_Encoding_DefaultBinary, "ModificationInfo")
+            .put(Identifiers.ModificationInfo_Encoding_DefaultXml, "ModificationInfo")
+            .put(Identifiers.HistoryModifiedData_Encoding_DefaultBinary, "HistoryModifiedData")
+            .put(Identifiers.HistoryModifiedData_Encoding_DefaultXml, "HistoryModifiedData")
+            .put(Identifiers.HistoryEvent_Encoding_DefaultBinary, "HistoryEvent")
+            .put(Identifiers.HistoryEvent_Encoding_DefaultXml, "HistoryEvent")
+            .put(Identifiers.HistoryReadRequest_Encoding_DefaultBinary, "HistoryReadRequest")
+            .put(Identifiers.HistoryReadRequest_Encoding_DefaultXml, "HistoryReadRequest")
+            .put(Identifiers.HistoryReadResponse_Encoding_DefaultBinary, "HistoryReadResponse")
+            .put(Identifiers.HistoryReadResponse_Encoding_DefaultXml, "HistoryReadResponse")
+            .put(Identifiers.WriteValue_Encoding_DefaultBinary, "WriteValue")
+            .put(Identifiers.WriteValue_Encoding_DefaultXml, "WriteValue")
+            .put(Identifiers.WriteRequest_Encoding_DefaultBinary, "WriteRequest")
+            .put(Identifiers.WriteRequest_Encoding_DefaultXml, "WriteRequest")
+            .put(Identifiers.WriteResponse_Encoding_DefaultBinary, "WriteResponse")
+            .put(Identifiers.WriteResponse_Encoding_DefaultXml, "WriteResponse")
+            .put(Identifiers.HistoryUpdateDetails_Encoding_DefaultBinary, "HistoryUpdateDetails")
+            .put(Identifiers.HistoryUpdateDetails_Encoding_DefaultXml, "HistoryUpdateDetails")
+            .put(Identifiers.UpdateDataDetails_Encoding_DefaultBinary, "UpdateDataDetails")
+            .put(Identifiers.UpdateDataDetails_Encoding_DefaultXml, "UpdateDataDetails")
+            .put(Identifiers.UpdateStructureDataDetails_Encoding_DefaultBinary, "UpdateStructureDataDetails")
+            .put(Identifiers.UpdateStructureDataDetails_Encoding_DefaultXml, "UpdateStructureDataDetails")
+            .put(Identifiers.UpdateEventDetails_Encoding_DefaultBinary, "UpdateEventDetails")
+            .put(Identifiers.UpdateEventDetails_Encoding_DefaultXml, "UpdateEventDetails")
+            .put(Identifiers.DeleteRawModifiedDetails_Encoding_DefaultBinary, "DeleteRawModifiedDetails")
+            .put(Identifiers.DeleteRawModifiedDetails_Encoding_DefaultXml, "DeleteRawModifiedDetails")
+            .put(Identifiers.DeleteAtTimeDetails_Encoding_DefaultBinary, "DeleteAtTimeDetails")
+            .put(Identifiers.DeleteAtTimeDetails_Encoding_DefaultXml, "DeleteAtTimeDetails")
+            .put(Identifiers.DeleteEventDetails_Encoding_DefaultBinary, "DeleteEventDetails")
+            .put(Identifiers.DeleteEventDetails_Encoding_DefaultXml, "DeleteEventDetails")
+            .put(Identifiers.HistoryUpdateResult_Encoding_DefaultBinary, "HistoryUpdateResult")
+            .put(Identifiers.HistoryUpdateResult_Encoding_DefaultXml, "HistoryUpdateResult")
+            .put(Identifiers.HistoryUpdateEventResult_Encoding_DefaultBinary, "HistoryUpdateEventResult")
+            .put(Identifiers.HistoryUpdateEventResult_Encoding_DefaultXml, "HistoryUpdateEventResult")
+            .put(Identifiers.HistoryUpdateRequest_Encoding_DefaultBinary, "HistoryUpdateRequest")
+            .put(Identifiers.HistoryUpdateRequest_Encoding_DefaultXml, "HistoryUpdateRequest")
+            .put(Identifiers.HistoryUpdateResponse_Encoding_DefaultBinary, "HistoryUpdateResponse")
+            .put(Identifiers.HistoryUpdateResponse_Encoding_DefaultXml, "HistoryUpdateResponse")
+            .put(Identifiers.CallMethodRequest_Encoding_DefaultBinary, "CallMethodRequest")
+            .put(Identifiers.CallMethodRequest_Encoding_DefaultXml, "CallMethodRequest")
+            .put(Identifiers.CallMethodResult_Encoding_DefaultBinary, "CallMethodResult")
+            .put(Identifiers.CallMethodResult_Encoding_DefaultXml, "CallMethodResult")
+            .put(Identifiers.CallRequest_Encoding_DefaultBinary, "CallRequest")
+            .put(Identifiers.CallRequest_Encoding_DefaultXml, "CallRequest")
+            .put(Identifiers.CallResponse_Encoding_DefaultBinary, "CallResponse")
+            .put(Identifiers.CallResponse_Encoding_DefaultXml, "CallResponse")
+            .put(Identifiers.MonitoringFilter_Encoding_DefaultBinary, "MonitoringFilter")
+            .put(Identifiers.MonitoringFilter_Encoding_DefaultXml, "MonitoringFilter")
+            .put(Identifiers.DataChangeFilter_Encoding_DefaultBinary, "DataChangeFilter")
+            .put(Identifiers.DataChangeFilter_Encoding_DefaultXml, "DataChangeFilter")
+            .put(Identifiers.EventFilter_Encoding_DefaultBinary, "EventFilter")
+            .put(Identifiers.EventFilter_Encoding_DefaultXml, "EventFilter")
+            .put(Identifiers.AggregateConfiguration_Encoding_DefaultBinary, "AggregateConfiguration")
+            .put(Identifiers.AggregateConfiguration_Encoding_DefaultXml, "AggregateConfiguration")
+            .put(Identifiers.AggregateFilter_Encoding_DefaultBinary, "AggregateFilter")
+            .put(Identifiers.AggregateFilter_Encoding_DefaultXml, "AggregateFilter")
+            .put(Identifiers.MonitoringFilterResult_Encoding_DefaultBinary, "MonitoringFilterResult")
+            .put(Identifiers.MonitoringFilterResult_Encoding_DefaultXml, "MonitoringFilterResult")
+            .put(Identifiers.EventFilterResult_Encoding_DefaultBinary, "EventFilterResult")
+            .put(Identifiers.EventFilterResult_Encoding_DefaultXml, "EventFilterResult")
+            .put(Identifiers.AggregateFilterResult_Encoding_DefaultBinary, "AggregateFilterResult")
+            .put(Identifiers.AggregateFilterResult_Encoding_DefaultXml, "AggregateFilterResult")
+            .put(Identifiers.MonitoringParameters_Encoding_DefaultBinary, "MonitoringParameters")
+            .put(Identifiers.MonitoringParameters_Encoding_DefaultXml, "MonitoringParameters")
+            .put(Identifiers.MonitoredItemCreateRequest_Encoding_DefaultBinary, "MonitoredItemCreateRequest")
+            .put(Identifiers.MonitoredItemCreateRequest_Encoding_DefaultXml, "MonitoredItemCreateRequest")
+            .put(Identifiers.MonitoredItemCreateResult_Encoding_DefaultBinary, "MonitoredItemCreateResult")
+            .put(Identifiers.MonitoredItemCreateResult_Encoding_DefaultXml, "MonitoredItemCreateResult")
+            .put(Identifiers.CreateMonitoredItemsRequest_Encoding_DefaultBinary, "CreateMonitoredItemsRequest")
+            .put(Identifiers.CreateMonitoredItemsRequest_Encoding_DefaultXml, "CreateMonitoredItemsRequest")
+            .put(Identifiers.CreateMonitoredItemsResponse_Encoding_DefaultBinary, "CreateMonitoredItemsResponse")
+            .put(Identifiers.CreateMonitoredItemsResponse_Encoding_DefaultXml, "CreateMonitoredItemsResponse")
+            .put(Identifiers.MonitoredItemModifyRequest_Encoding_DefaultBinary, "MonitoredItemModifyRequest")
+            .put(Identifiers.MonitoredItemModifyRequest_Encoding_DefaultXml, "MonitoredItemModifyRequest")
+            .put(Identifiers.MonitoredItemModifyResult_Encoding_DefaultBinary, "MonitoredItemModifyResult")
+            .put(Identifiers.MonitoredItemModifyResult_Encoding_DefaultXml, "MonitoredItemModifyResult")
+            .put(Identifiers.ModifyMonitoredItemsRequest_Encoding_DefaultBinary, "ModifyMonitoredItemsRequest")
+            .put(Identifiers.ModifyMonitoredItemsRequest_Encoding_DefaultXml, "ModifyMonitoredItemsRequest")
+            .put(Identifiers.ModifyMonitoredItemsResponse_Encoding_DefaultBinary, "ModifyMonitoredItemsResponse")
+            .put(Identifiers.ModifyMonitoredItemsResponse_Encoding_DefaultXml, "ModifyMonitoredItemsResponse")
+            .put(Identifiers.SetMonitoringModeRequest_Encoding_DefaultBinary, "SetMonitoringModeRequest")
+            .put(Identifiers.SetMonitoringModeRequest_Encoding_DefaultXml, "SetMonitoringModeRequest")
+            .put(Identifiers.SetMonitoringModeResponse_Encoding_DefaultBinary, "SetMonitoringModeResponse")
+            .put(Identifiers.SetMonitoringModeResponse_Encoding_DefaultXml, "SetMonitoringModeResponse")
+            .put(Identifiers.SetTriggeringRequest_Encoding_DefaultBinary, "SetTriggeringRequest")
+            .put(Identifiers.SetTriggeringRequest_Encoding_DefaultXml, "SetTriggeringRequest")
+            .put(Identifiers.SetTriggeringResponse_Encoding_DefaultBinary, "SetTriggeringResponse")
+            .put(Identifiers.SetTriggeringResponse_Encoding_DefaultXml, "SetTriggeringResponse")
+            .put(Identifiers.DeleteMonitoredItemsRequest_Encoding_DefaultBinary, "DeleteMonitoredItemsRequest")
+            .put(Identifiers.DeleteMonitoredItemsRequest_Encoding_DefaultXml, "DeleteMonitoredItemsRequest")
+            .put(Identifiers.DeleteMonitoredItemsResponse_Encoding_DefaultBinary, "DeleteMonitoredItemsResponse")
+            .put(Identifiers.DeleteMonitoredItemsResponse_Encoding_DefaultXml, "DeleteMonitoredItemsResponse")
+            .put(Identifiers.CreateSubscriptionRequest_Encoding_DefaultBinary, "CreateSubscriptionRequest")
+            .put(Identifiers.CreateSubscriptionRequest_Encoding_DefaultXml, "CreateSubscriptionRequest")
+            .put(Identifiers.CreateSubscriptionResponse_Encoding_DefaultBinary, "CreateSubscriptionResponse")
+            .put(Identifiers.CreateSubscriptionResponse_Encoding_DefaultXml, "CreateSubscriptionResponse")
+            .put(Identifiers.ModifySubscriptionRequest_Encoding_DefaultBinary, "ModifySubscriptionRequest")
+            .put(Identifiers.ModifySubscriptionRequest_Encoding_DefaultXml, "ModifySubscriptionRequest")
+            .put(Identifiers.ModifySubscriptionResponse_Encoding_DefaultBinary, "ModifySubscriptionResponse")
+            .put(Identifiers.ModifySubscriptionResponse_Encoding_DefaultXml, "ModifySubscriptionResponse")
+            .put(Identifiers.SetPublishingModeRequest_Encoding_DefaultBinary, "SetPublishingModeRequest")
+            .put(Identifiers.SetPublishingModeRequest_Encoding_DefaultXml, "SetPublishingModeRequest")
+            .put(Identifiers.SetPublishingModeResponse_Encoding_DefaultBinary, "SetPublishingModeResponse")
+            .put(Identifiers.SetPublishingModeResponse_Encoding_DefaultXml, "SetPublishingModeResponse")
+            .put(Identifiers.NotificationMessage_Encoding_DefaultBinary, "NotificationMessage")
+            .put(Identifiers.NotificationMessage_Encoding_DefaultXml, "NotificationMessage")
+            .put(Identifiers.NotificationData_Encoding_DefaultBinary, "NotificationData")
+            .put(Identifiers.NotificationData_Encoding_DefaultXml, "NotificationData")
+            .put(Identifiers.DataChangeNotification_Encoding_DefaultBinary, "DataChangeNotification")
+            .put(Identifiers.DataChangeNotification_Encoding_DefaultXml, "DataChangeNotification")
+            .put(Identifiers.MonitoredItemNotification_Encoding_DefaultBinary, "MonitoredItemNotification")
+            .put(Identifiers.MonitoredItemNotification_Encoding_DefaultXml, "MonitoredItemNotification")
+            .put(Identifiers.EventNotificationList_Encoding_DefaultBinary, "EventNotificationList")
+            .put(Identifiers.EventNotificationList_Encoding_DefaultXml, "EventNotificationList")
+            .put(Identifiers.EventFieldList_Encoding_DefaultBinary, "EventFieldList")
+            .put(Identifiers.EventFieldList_Encoding_DefaultXml, "EventFieldList")
+            .put(Identifiers.HistoryEventFieldList_Encoding_DefaultBinary, "HistoryEventFieldList")
+            .put(Identifiers.HistoryEventFieldList_Encoding_DefaultXml, "HistoryEventFieldList")
+            .put(Identifiers.StatusChangeNotification_Encoding_DefaultBinary, "StatusChangeNotification")
+            .put(Identifiers.StatusChangeNotification_Encoding_DefaultXml, "StatusChangeNotification")
+            .put(Identifiers.SubscriptionAcknowledgement_Encoding_DefaultBinary, "SubscriptionAcknowledgement")
+            .put(Identifiers.SubscriptionAcknowledgement_Encoding_DefaultXml, "SubscriptionAcknowledgement")
+            .put(Identifiers.PublishRequest_Encoding_DefaultBinary, "PublishRequest")
+            .put(Identifiers.PublishRequest_Encoding_DefaultXml, "PublishRequest")
+            .put(Identifiers.PublishResponse_Encoding_DefaultBinary, "PublishResponse")
+            .put(Identifiers.PublishResponse_Encoding_DefaultXml, "PublishResponse")
+            .put(Identifiers.RepublishRequest_Encoding_DefaultBinary, "RepublishRequest")
+            .put(Identifiers.RepublishRequest_Encoding_DefaultXml, "RepublishRequest")
+            .put(Identifiers.RepublishResponse_Encoding_DefaultBinary, "RepublishResponse")
+            .put(Identifiers.RepublishResponse_Encoding_DefaultXml, "RepublishResponse")
+            .put(Identifiers.TransferResult_Encoding_DefaultBinary, "TransferResult")
+            .put(Identifiers.TransferResult_Encoding_DefaultXml, "TransferResult")
+            .put(Identifiers.TransferSubscriptionsRequest_Encoding_DefaultBinary, "TransferSubscriptionsRequest")
+            .put(Identifiers.TransferSubscriptionsRequest_Encoding_DefaultXml, "TransferSubscriptionsRequest")
+            .put(Identifiers.TransferSubscriptionsResponse_Encoding_DefaultBinary, "TransferSubscriptionsResponse")
+            .put(Identifiers.TransferSubscriptionsResponse_Encoding_DefaultXml, "TransferSubscriptionsResponse")
+            .put(Identifiers.DeleteSubscriptionsRequest_Encoding_DefaultBinary, "DeleteSubscriptionsRequest")
+            .put(Identifiers.DeleteSubscriptionsRequest_Encoding_DefaultXml, "DeleteSubscriptionsRequest")
+            .put(Identifiers.DeleteSubscriptionsResponse_Encoding_DefaultBinary, "DeleteSubscriptionsResponse")
+            .put(Identifiers.DeleteSubscriptionsResponse_Encoding_DefaultXml, "DeleteSubscriptionsResponse")
+            .put(Identifiers.ScalarTestType_Encoding_DefaultBinary, "ScalarTestType")
+            .put(Identifiers.ScalarTestType_Encoding_DefaultXml, "ScalarTestType")
+            .put(Identifiers.ArrayTestType_Encoding_DefaultBinary, "ArrayTestType")
+            .put(Identifiers.ArrayTestType_Encoding_DefaultXml, "ArrayTestType")
+            .put(Identifiers.CompositeTestType_Encoding_DefaultBinary, "CompositeTestType")
+            .put(Identifiers.CompositeTestType_Encoding_DefaultXml, "CompositeTestType")
+            .put(Identifiers.TestStackRequest_Encoding_DefaultBinary, "TestStackRequest")
+            .put(Identifiers.TestStackRequest_Encoding_DefaultXml, "TestStackRequest")
+            .put(Identifiers.TestStackResponse_Encoding_DefaultBinary, "TestStackResponse")
+            .put(Identifiers.TestStackResponse_Encoding_DefaultXml, "TestStackResponse")
+            .put(Identifiers.TestStackExRequest_Encoding_DefaultBinary, "TestStackExRequest")
+            .put(Identifiers.TestStackExRequest_Encoding_DefaultXml, "TestStackExRequest")
+            .put(Identifiers.TestStackExResponse_Encoding_DefaultBinary, "TestStackExResponse")
+            .put(Identifiers.TestStackExResponse_Encoding_DefaultXml, "TestStackExResponse")
+            .put(Identifiers.BuildInfo_Encoding_DefaultBinary, "BuildInfo")
+            .put(Identifiers.BuildInfo_Encoding_DefaultXml, "BuildInfo")
+            .put(Identifiers.RedundantServerDataType_Encoding_DefaultBinary, "RedundantServerDataType")
+            .put(Identifiers.RedundantServerDataType_Encoding_DefaultXml, "RedundantServerDataType")
+            .put(Identifiers.EndpointUrlListDataType_Encoding_DefaultBinary, "EndpointUrlListDataType")
+            .put(Identifiers.EndpointUrlListDataType_Encoding_DefaultXml, "EndpointUrlListDataType")
+            .put(Identifiers.NetworkGroupDataType_Encoding_DefaultBinary, "NetworkGroupDataType")
+            .put(Identifiers.NetworkGroupDataType_Encoding_DefaultXml, "NetworkGroupDataType")
+            .put(Identifiers.SamplingIntervalDiagnosticsDataType_Encoding_DefaultBinary, "SamplingIntervalDiagnosticsDataType")
+            .put(Identifiers.SamplingIntervalDiagnosticsDataType_Encoding_DefaultXml, "SamplingIntervalDiagnosticsDataType")
+            .put(Identifiers.ServerDiagnosticsSummaryDataType_Encoding_DefaultBinary, "ServerDiagnosticsSummaryDataType")
+            .put(Identifiers.ServerDiagnosticsSummaryDataType_Encoding_DefaultXml, "ServerDiagnosticsSummaryDataType")
+            .put(Identifiers.ServerStatusDataType_Encoding_DefaultBinary, "ServerStatusDataType")
+            .put(Identifiers.ServerStatusDataType_Encoding_DefaultXml, "ServerStatusDataType")
+            .put(Identifiers.SessionDiagnosticsDataType_Encoding_DefaultBinary, "SessionDiagnosticsDataType")
+            .put(Identifiers.SessionDiagnosticsDataType_Encoding_DefaultXml, "SessionDiagnosticsDataType")
+            .put(Identifiers.SessionSecurityDiagnosticsDataType_Encoding_DefaultBinary, "SessionSecurityDiagnosticsDataType")
+            .put(Identifiers.SessionSecurityDiagnosticsDataType_Encoding_DefaultXml, "SessionSecurityDiagnosticsDataType")
+            .put(Identifiers.ServiceCounterDataType_Encoding_DefaultBinary, "ServiceCounterDataType")
+            .put(Identifiers.ServiceCounterDataType_Encoding_DefaultXml, "ServiceCounterDataType")
+            .put(Identifiers.StatusResult_Encoding_DefaultBinary, "StatusResult")
+            .put(Identifiers.StatusResult_Encoding_DefaultXml, "StatusResult")
+            .put(Identifiers.SubscriptionDiagnosticsDataType_Encoding_DefaultBinary, "SubscriptionDiagnosticsDataType")
+            .put(Identifiers.SubscriptionDiagnosticsDataType_Encoding_DefaultXml, "SubscriptionDiagnosticsDataType")
+            .put(Identifiers.ModelChangeStructureDataType_Encoding_DefaultBinary, "ModelChangeStructureDataType")
+            .put(Identifiers.ModelChangeStructureDataType_Encoding_DefaultXml, "ModelChangeStructureDataType")
+            .put(Identifiers.SemanticChangeStructureDataType_Encoding_DefaultBinary, "SemanticChangeStructureDataType")
+            .put(Identifiers.SemanticChangeStructureDataType_Encoding_DefaultXml, "SemanticChangeStructureDataType")
+            .put(Identifiers.Range_Encoding_DefaultBinary, "Range")
+            .put(Identifiers.Range_Encoding_DefaultXml, "Range")
+            .put(Identifiers.EUInformation_Encoding_DefaultBinary, "EUInformation")
+            .put(Identifiers.EUInformation_Encoding_DefaultXml, "EUInformation")
+            .put(Identifiers.ComplexNumberType_Encoding_DefaultBinary, "ComplexNumberType")
+            .put(Identifiers.ComplexNumberType_Encoding_DefaultXml, "ComplexNumberType")
+            .put(Identifiers.DoubleComplexNumberType_Encoding_DefaultBinary, "DoubleComplexNumberType")
+            .put(Identifiers.DoubleComplexNumberType_Encoding_DefaultXml, "DoubleComplexNumberType")
+            .put(Identifiers.AxisInformation_Encoding_DefaultBinary, "AxisInformation")
+            .put(Identifiers.AxisInformation_Encoding_DefaultXml, "AxisInformation")
+            .put(Identifiers.XVType_Encoding_DefaultBinary, "XVType")
+            .put(Identifiers.XVType_Encoding_DefaultXml, "XVType")
+            .put(Identifiers.ProgramDiagnosticDataType_Encoding_DefaultBinary, "ProgramDiagnosticDataType")
+            .put(Identifiers.ProgramDiagnosticDataType_Encoding_DefaultXml, "ProgramDiagnosticDataType")
+            .put(Identifiers.Annotation_Encoding_DefaultBinary, "Annotation")
+            .put(Identifiers.Annotation_Encoding_DefaultXml, "Annotation")
+            .build();
+
+    /**
+     * The simple names of the generated structures. Each has a binary codec named {@code <name>BinaryCodec} in
+     * {@link #BinaryCodecPackage}.
+     */
+    public static final Set<String> Structures = ImmutableSet.copyOf(StructuresByEncodingId.values());
+
+}
@@ -5,6 +5,8 @@ import java.util.Arrays;
 
 import com.google.common.base.Objects;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
 
@@ -12,31 +14,152 @@ public final class ByteString {
 
     public static final ByteString NULL_VALUE = new ByteString(null);
 
-    private final byte[] bytes;
+    private volatile byte[] bytes;
+
+    /**
+     * Backs this ByteString until its last reference is released; {@code null} once that has happened and for a
+     * heap-backed ByteString.
+     */
+    private ByteBuf buffer;
+    private int refCnt;
+    private final int length;
+    private final boolean isNull;
 
     public ByteString(@Nullable byte[] bytes) {
         this.bytes = bytes;
+        this.length = bytes != null ? bytes.length : 0;
+        this.isNull = bytes == null;
+    }
+
+    private ByteString(ByteBuf buffer, int length) {
+        this.buffer = buffer;
+        this.refCnt = 1;
+        this.length = length;
+        this.isNull = false;
+    }
+
+    /**
+     * Create a ByteString backed by the readable bytes of {@code buffer} without copying them. The ByteString takes
+     * ownership of one reference to {@code buffer} and starts out with a reference count of 1.
+     * <p>
+     * The buffer is released once the ByteString's reference count drops to 0; whoever holds on to the ByteString
+     * beyond the lifetime of the reference it was handed must {@link #retain()} it and {@link #release()} it when done.
+     * The first call to {@link #bytes()} (or anything that depends on it, such as {@link #equals(Object)} and
+     * {@link #hashCode()}) copies the contents to the heap, and the copy stays readable after the buffer is released.
+     *
+     * @param buffer the buffer holding the contents.
+     * @return a ByteString backed by {@code buffer}.
+     */
+    public static ByteString wrap(ByteBuf buffer) {
+        return new ByteString(buffer, buffer.readableBytes());
     }
 
     public int length() {
-        return bytes != null ? bytes.length : 0;
+        return length;
     }
 
     public boolean isNull() {
-        return bytes == null;
+        return isNull;
     }
 
     public boolean isNotNull() {
-        return bytes != null;
+        return !isNull;
+    }
+
+    /**
+     * @return {@code true} if the contents of this ByteString are still held in the buffer it was
+     * {@link #wrap(ByteBuf) wrapped} around, {@code false} if they're on the heap, where {@link #bytes()} returns them
+     * without copying.
+     */
+    public boolean isBufferBacked() {
+        return bytes == null && !isNull;
     }
 
+    /**
+     * @return the contents of this ByteString, copied to the heap the first time if it's backed by a buffer, or
+     * {@code null} if this is a null ByteString. Copying doesn't release the buffer.
+     */
     @Nullable
     public byte[] bytes() {
-        return bytes;
+        byte[] bs = bytes;
+
+        if (bs == null && !isNull) {
+            synchronized (this) {
+                if (bytes == null) {
+                    ByteBuf b = checkBuffer();
+                    byte[] copy = new byte[length];
+                    b.getBytes(b.readerIndex(), copy);
+                    bytes = copy;
+                }
+                bs = bytes;
+            }
+        }
+
+        return bs;
+    }
+
+    /**
+     * @return the contents of this ByteString as a {@link ByteBuf}, without copying them if they are still held in a
+     * buffer, or {@code null} if this is a null ByteString. The returned buffer holds a reference of its own, which
+     * the caller must release.
+     */
+    @Nullable
+    public ByteBuf asByteBuf() {
+        if (isNull) return null;
+
+        synchronized (this) {
+            return bytes != null ? Unpooled.wrappedBuffer(bytes) : checkBuffer().duplicate().retain();
+        }
+    }
+
+    /**
+     * Increase the reference count of this ByteString, keeping the buffer backing it, if it's still backed by one,
+     * from being released until {@link #release()} is called once more. Has no effect on a ByteString whose contents
+     * are on the heap.
+     *
+     * @return this ByteString.
+     */
+    public synchronized ByteString retain() {
+        if (buffer != null) {
+            refCnt++;
+        } else if (bytes == null && !isNull) {
+            throw new IllegalStateException("ByteString has been released");
+        }
+
+        return this;
+    }
+
+    /**
+     * Decrease the reference count of this ByteString, releasing the buffer backing it, if it's still backed by one,
+     * once the count reaches 0. Has no effect on a ByteString whose contents are on the heap.
+     */
+    public synchronized void release() {
+        if (buffer != null && --refCnt == 0) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+
+    /**
+     * Copy the contents of this ByteString to the heap, if they aren't already, and {@link #release()} it, so the
+     * ByteString stays readable however long it's held on to.
+     */
+    public void detach() {
+        bytes();
+        release();
+    }
+
+    private ByteBuf checkBuffer() {
+        if (buffer == null) {
+            throw new IllegalStateException("ByteString has been released; retain() it to read it for longer");
+        }
+
+        return buffer;
     }
 
     @Nullable
     public UByte[] uBytes() {
+        byte[] bytes = bytes();
         if (bytes == null) return null;
 
         UByte[] bs = new UByte[bytes.length];
@@ -47,9 +170,18 @@ public final class ByteString {
     }
 
     public byte byteAt(int index) {
-        if (bytes == null) throw new IndexOutOfBoundsException("index=" + index);
+        if (isNull) throw new IndexOutOfBoundsException("index=" + index);
 
-        return bytes[index];
+        byte[] bs = bytes;
+        if (bs != null) return bs[index];
+
+        synchronized (this) {
+            if (bytes != null) return bytes[index];
+            if (index < 0 || index >= length) throw new IndexOutOfBoundsException("index=" + index);
+
+            ByteBuf b = checkBuffer();
+            return b.getByte(b.readerIndex() + index);
+        }
     }
 
     public UByte uByteAt(int index) {
@@ -63,12 +195,12 @@ public final class ByteString {
 
         ByteString that = (ByteString) o;
 
-        return Arrays.equals(bytes, that.bytes);
+        return Arrays.equals(bytes(), that.bytes());
     }
 
     @Override
     public int hashCode() {
-        return bytes != null ? Arrays.hashCode(bytes) : 0;
+        return Arrays.hashCode(bytes());
     }
 
     public static ByteString of(byte[] bs) {
@@ -78,7 +210,7 @@ public final class ByteString {
     @Override
     public String toString() {
         return Objects.toStringHelper(this)
-                .add("bytes", Arrays.toString(bytes))
+                .add("bytes", Arrays.toString(bytes()))
                 .toString();
     }
 
@@ -1,6 +1,7 @@
 package com.inductiveautomation.opcua.stack.core.types.builtin;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.google.common.base.Objects;
 import com.inductiveautomation.opcua.stack.core.serialization.UaSerializable;
@@ -8,9 +9,13 @@ import com.inductiveautomation.opcua.stack.core.serialization.UaStructure;
 
 public final class ExtensionObject {
 
-    private final Object object;
+    private volatile Object object;
     private final NodeId dataTypeEncodingId;
 
+    /** The raw binary body of a lazily decoded ExtensionObject; {@code null} once it has been decoded. */
+    private volatile ByteString encodedBody;
+    private volatile BodyDecoder bodyDecoder;
+
     public ExtensionObject(@Nonnull UaStructure structure) {
         this.object = structure;
         this.dataTypeEncodingId = structure.getBinaryEncodingId();
@@ -31,7 +36,39 @@ public final class ExtensionObject {
         this.dataTypeEncodingId = dataTypeEncodingId;
     }
 
+    private ExtensionObject(ByteString encodedBody, NodeId dataTypeEncodingId, BodyDecoder bodyDecoder) {
+        this.encodedBody = encodedBody;
+        this.dataTypeEncodingId = dataTypeEncodingId;
+        this.bodyDecoder = bodyDecoder;
+    }
+
+    /**
+     * Create an ExtensionObject whose binary encoded body is only decoded, by {@code bodyDecoder}, the first time
+     * {@link #getObject()} is called.
+     *
+     * @param encodedBody        the binary encoded body, without its length prefix.
+     * @param dataTypeEncodingId the id of the body's binary encoding.
+     * @param bodyDecoder        decodes the body on first access.
+     * @return a lazily decoded ExtensionObject.
+     */
+    public static ExtensionObject lazy(@Nonnull ByteString encodedBody,
+                                       NodeId dataTypeEncodingId,
+                                       @Nonnull BodyDecoder bodyDecoder) {
+
+        return new ExtensionObject(encodedBody, dataTypeEncodingId, bodyDecoder);
+    }
+
     public Object getObject() {
+        if (encodedBody != null) {
+            synchronized (this) {
+                if (encodedBody != null) {
+                    object = bodyDecoder.decode(dataTypeEncodingId, encodedBody);
+                    encodedBody = null;
+                    bodyDecoder = null;
+                }
+            }
+        }
+
         return object;
     }
 
@@ -39,6 +76,15 @@ public final class ExtensionObject {
         return dataTypeEncodingId;
     }
 
+    /**
+     * @return the raw binary body of this ExtensionObject if it was decoded lazily and {@link #getObject()} hasn't
+     * been called yet, otherwise {@code null}.
+     */
+    @Nullable
+    public ByteString getEncodedBody() {
+        return encodedBody;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -46,21 +92,38 @@ public final class ExtensionObject {
 
         ExtensionObject that = (ExtensionObject) o;
 
-        return Objects.equal(object, that.object) &&
+        return Objects.equal(getObject(), that.getObject()) &&
                 Objects.equal(dataTypeEncodingId, that.dataTypeEncodingId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(object, dataTypeEncodingId);
+        return Objects.hashCode(getObject(), dataTypeEncodingId);
     }
 
     @Override
     public String toString() {
+        ByteString body = encodedBody;
+
         return Objects.toStringHelper(this)
-                .add("object", object)
+                .add("object", body != null ? "<" + body.length() + " encoded bytes>" : object)
                 .add("dataTypeEncodingId", dataTypeEncodingId)
                 .toString();
     }
 
+    /**
+     * Decodes the binary encoded body of a lazily decoded {@link ExtensionObject}.
+     */
+    @FunctionalInterface
+    public interface BodyDecoder {
+
+        /**
+         * @param dataTypeEncodingId the id of the body's binary encoding.
+         * @param encodedBody        the binary encoded body.
+         * @return the decoded body; a body that can't be decoded is returned as a {@link ByteString}.
+         */
+        Object decode(NodeId dataTypeEncodingId, ByteString encodedBody);
+
+    }
+
 }
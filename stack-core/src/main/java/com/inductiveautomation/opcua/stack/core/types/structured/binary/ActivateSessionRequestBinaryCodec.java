@@ -0,0 +1,88 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.structured.ActivateSessionRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.SignatureData;
+import com.inductiveautomation.opcua.stack.core.types.structured.SignedSoftwareCertificate;
+
+public final class ActivateSessionRequestBinaryCodec {
+
+    private ActivateSessionRequestBinaryCodec() {}
+
+    public static void encode(ActivateSessionRequest activateSessionRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = activateSessionRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        SignatureData _clientSignature = activateSessionRequest.getClientSignature();
+        SignatureDataBinaryCodec.encode(_clientSignature != null ? _clientSignature : new SignatureData(), encoder);
+        SignedSoftwareCertificate[] _clientSoftwareCertificates = activateSessionRequest.getClientSoftwareCertificates();
+        if (encoder.writeArrayLength(_clientSoftwareCertificates)) {
+            for (SignedSoftwareCertificate v : _clientSoftwareCertificates) {
+                SignedSoftwareCertificateBinaryCodec.encode(v, encoder);
+            }
+        }
+        String[] _localeIds = activateSessionRequest.getLocaleIds();
+        if (encoder.writeArrayLength(_localeIds)) {
+            for (String v : _localeIds) {
+                encoder.encodeString(null, v);
+            }
+        }
+        encoder.encodeExtensionObject(null, activateSessionRequest.getUserIdentityToken());
+        SignatureData _userTokenSignature = activateSessionRequest.getUserTokenSignature();
+        SignatureDataBinaryCodec.encode(_userTokenSignature != null ? _userTokenSignature : new SignatureData(), encoder);
+    }
+
+    public static ActivateSessionRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        SignatureData _clientSignature = SignatureDataBinaryCodec.decode(decoder);
+        SignedSoftwareCertificate[] _clientSoftwareCertificates = new SignedSoftwareCertificate[decoder.readArrayLength()];
+        for (int i = 0; i < _clientSoftwareCertificates.length; i++) {
+            _clientSoftwareCertificates[i] = SignedSoftwareCertificateBinaryCodec.decode(decoder);
+        }
+        String[] _localeIds = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _localeIds.length; i++) {
+            _localeIds[i] = decoder.decodeString(null);
+        }
+        ExtensionObject _userIdentityToken = decoder.decodeExtensionObject(null);
+        SignatureData _userTokenSignature = SignatureDataBinaryCodec.decode(decoder);
+
+        return new ActivateSessionRequest(_requestHeader, _clientSignature, _clientSoftwareCertificates, _localeIds, _userIdentityToken, _userTokenSignature);
+    }
+
+    public static int sizeOf(ActivateSessionRequest activateSessionRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = activateSessionRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        SignatureData _clientSignature = activateSessionRequest.getClientSignature();
+        size += SignatureDataBinaryCodec.sizeOf(_clientSignature != null ? _clientSignature : new SignatureData());
+        SignedSoftwareCertificate[] _clientSoftwareCertificates = activateSessionRequest.getClientSoftwareCertificates();
+        size += 4;
+        if (_clientSoftwareCertificates != null) {
+            for (SignedSoftwareCertificate v : _clientSoftwareCertificates) {
+                size += SignedSoftwareCertificateBinaryCodec.sizeOf(v);
+            }
+        }
+        String[] _localeIds = activateSessionRequest.getLocaleIds();
+        size += 4;
+        if (_localeIds != null) {
+            for (String v : _localeIds) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        size += BinarySize.sizeOfExtensionObject(activateSessionRequest.getUserIdentityToken());
+        SignatureData _userTokenSignature = activateSessionRequest.getUserTokenSignature();
+        size += SignatureDataBinaryCodec.sizeOf(_userTokenSignature != null ? _userTokenSignature : new SignatureData());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ActivateSessionRequestBinaryCodec::encode, ActivateSessionRequest.class);
+        DelegateRegistry.registerBinaryDecoder(ActivateSessionRequestBinaryCodec::decode, ActivateSessionRequest.class, ActivateSessionRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ActivateSessionRequestBinaryCodec::sizeOf, ActivateSessionRequest.class);
+    }
+
+}
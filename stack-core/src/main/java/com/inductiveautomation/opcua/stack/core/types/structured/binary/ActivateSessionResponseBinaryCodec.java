@@ -0,0 +1,76 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ActivateSessionResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class ActivateSessionResponseBinaryCodec {
+
+    private ActivateSessionResponseBinaryCodec() {}
+
+    public static void encode(ActivateSessionResponse activateSessionResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = activateSessionResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeByteString(null, activateSessionResponse.getServerNonce());
+        StatusCode[] _results = activateSessionResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (StatusCode v : _results) {
+                encoder.encodeStatusCode(null, v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = activateSessionResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static ActivateSessionResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        ByteString _serverNonce = decoder.decodeByteString(null);
+        StatusCode[] _results = new StatusCode[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = decoder.decodeStatusCode(null);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new ActivateSessionResponse(_responseHeader, _serverNonce, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(ActivateSessionResponse activateSessionResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = activateSessionResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        size += BinarySize.sizeOfByteString(activateSessionResponse.getServerNonce());
+        StatusCode[] _results = activateSessionResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            size += _results.length * 4;
+        }
+        DiagnosticInfo[] _diagnosticInfos = activateSessionResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ActivateSessionResponseBinaryCodec::encode, ActivateSessionResponse.class);
+        DelegateRegistry.registerBinaryDecoder(ActivateSessionResponseBinaryCodec::decode, ActivateSessionResponse.class, ActivateSessionResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ActivateSessionResponseBinaryCodec::sizeOf, ActivateSessionResponse.class);
+    }
+
+}
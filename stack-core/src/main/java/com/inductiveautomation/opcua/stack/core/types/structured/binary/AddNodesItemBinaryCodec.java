@@ -0,0 +1,59 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.AddNodesItem;
+
+public final class AddNodesItemBinaryCodec {
+
+    private AddNodesItemBinaryCodec() {}
+
+    public static void encode(AddNodesItem addNodesItem, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId(null, addNodesItem.getParentNodeId());
+        encoder.encodeNodeId(null, addNodesItem.getReferenceTypeId());
+        encoder.encodeExpandedNodeId(null, addNodesItem.getRequestedNewNodeId());
+        encoder.encodeQualifiedName(null, addNodesItem.getBrowseName());
+        NodeClass _nodeClass = addNodesItem.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeExtensionObject(null, addNodesItem.getNodeAttributes());
+        encoder.encodeExpandedNodeId(null, addNodesItem.getTypeDefinition());
+    }
+
+    public static AddNodesItem decode(BinaryDecoder decoder) {
+        ExpandedNodeId _parentNodeId = decoder.decodeExpandedNodeId(null);
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        ExpandedNodeId _requestedNewNodeId = decoder.decodeExpandedNodeId(null);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        ExtensionObject _nodeAttributes = decoder.decodeExtensionObject(null);
+        ExpandedNodeId _typeDefinition = decoder.decodeExpandedNodeId(null);
+
+        return new AddNodesItem(_parentNodeId, _referenceTypeId, _requestedNewNodeId, _browseName, _nodeClass, _nodeAttributes, _typeDefinition);
+    }
+
+    public static int sizeOf(AddNodesItem addNodesItem) {
+        int size = 0;
+        size += BinarySize.sizeOfExpandedNodeId(addNodesItem.getParentNodeId());
+        size += BinarySize.sizeOfNodeId(addNodesItem.getReferenceTypeId());
+        size += BinarySize.sizeOfExpandedNodeId(addNodesItem.getRequestedNewNodeId());
+        size += BinarySize.sizeOfQualifiedName(addNodesItem.getBrowseName());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfExtensionObject(addNodesItem.getNodeAttributes());
+        size += BinarySize.sizeOfExpandedNodeId(addNodesItem.getTypeDefinition());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AddNodesItemBinaryCodec::encode, AddNodesItem.class);
+        DelegateRegistry.registerBinaryDecoder(AddNodesItemBinaryCodec::decode, AddNodesItem.class, AddNodesItem.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AddNodesItemBinaryCodec::sizeOf, AddNodesItem.class);
+    }
+
+}
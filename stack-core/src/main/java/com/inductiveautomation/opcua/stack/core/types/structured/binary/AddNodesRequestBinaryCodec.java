@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.AddNodesItem;
+import com.inductiveautomation.opcua.stack.core.types.structured.AddNodesRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class AddNodesRequestBinaryCodec {
+
+    private AddNodesRequestBinaryCodec() {}
+
+    public static void encode(AddNodesRequest addNodesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = addNodesRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        AddNodesItem[] _nodesToAdd = addNodesRequest.getNodesToAdd();
+        if (encoder.writeArrayLength(_nodesToAdd)) {
+            for (AddNodesItem v : _nodesToAdd) {
+                AddNodesItemBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static AddNodesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        AddNodesItem[] _nodesToAdd = new AddNodesItem[decoder.readArrayLength()];
+        for (int i = 0; i < _nodesToAdd.length; i++) {
+            _nodesToAdd[i] = AddNodesItemBinaryCodec.decode(decoder);
+        }
+
+        return new AddNodesRequest(_requestHeader, _nodesToAdd);
+    }
+
+    public static int sizeOf(AddNodesRequest addNodesRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = addNodesRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        AddNodesItem[] _nodesToAdd = addNodesRequest.getNodesToAdd();
+        size += 4;
+        if (_nodesToAdd != null) {
+            for (AddNodesItem v : _nodesToAdd) {
+                size += AddNodesItemBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AddNodesRequestBinaryCodec::encode, AddNodesRequest.class);
+        DelegateRegistry.registerBinaryDecoder(AddNodesRequestBinaryCodec::decode, AddNodesRequest.class, AddNodesRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AddNodesRequestBinaryCodec::sizeOf, AddNodesRequest.class);
+    }
+
+}
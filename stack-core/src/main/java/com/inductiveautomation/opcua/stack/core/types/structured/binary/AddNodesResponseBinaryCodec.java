@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.AddNodesResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.AddNodesResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class AddNodesResponseBinaryCodec {
+
+    private AddNodesResponseBinaryCodec() {}
+
+    public static void encode(AddNodesResponse addNodesResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = addNodesResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        AddNodesResult[] _results = addNodesResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (AddNodesResult v : _results) {
+                AddNodesResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = addNodesResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static AddNodesResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        AddNodesResult[] _results = new AddNodesResult[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = AddNodesResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new AddNodesResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(AddNodesResponse addNodesResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = addNodesResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        AddNodesResult[] _results = addNodesResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            for (AddNodesResult v : _results) {
+                size += AddNodesResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = addNodesResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AddNodesResponseBinaryCodec::encode, AddNodesResponse.class);
+        DelegateRegistry.registerBinaryDecoder(AddNodesResponseBinaryCodec::decode, AddNodesResponse.class, AddNodesResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AddNodesResponseBinaryCodec::sizeOf, AddNodesResponse.class);
+    }
+
+}
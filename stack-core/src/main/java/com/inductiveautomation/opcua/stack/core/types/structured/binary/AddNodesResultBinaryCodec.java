@@ -0,0 +1,40 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.AddNodesResult;
+
+public final class AddNodesResultBinaryCodec {
+
+    private AddNodesResultBinaryCodec() {}
+
+    public static void encode(AddNodesResult addNodesResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, addNodesResult.getStatusCode());
+        encoder.encodeNodeId(null, addNodesResult.getAddedNodeId());
+    }
+
+    public static AddNodesResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        NodeId _addedNodeId = decoder.decodeNodeId(null);
+
+        return new AddNodesResult(_statusCode, _addedNodeId);
+    }
+
+    public static int sizeOf(AddNodesResult addNodesResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        size += BinarySize.sizeOfNodeId(addNodesResult.getAddedNodeId());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AddNodesResultBinaryCodec::encode, AddNodesResult.class);
+        DelegateRegistry.registerBinaryDecoder(AddNodesResultBinaryCodec::decode, AddNodesResult.class, AddNodesResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AddNodesResultBinaryCodec::sizeOf, AddNodesResult.class);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.AddReferencesItem;
+
+public final class AddReferencesItemBinaryCodec {
+
+    private AddReferencesItemBinaryCodec() {}
+
+    public static void encode(AddReferencesItem addReferencesItem, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, addReferencesItem.getSourceNodeId());
+        encoder.encodeNodeId(null, addReferencesItem.getReferenceTypeId());
+        encoder.encodeBoolean(null, addReferencesItem.getIsForward());
+        encoder.encodeString(null, addReferencesItem.getTargetServerUri());
+        encoder.encodeExpandedNodeId(null, addReferencesItem.getTargetNodeId());
+        NodeClass _targetNodeClass = addReferencesItem.getTargetNodeClass();
+        encoder.writeInt32(null, _targetNodeClass != null ? _targetNodeClass.getValue() : -1);
+    }
+
+    public static AddReferencesItem decode(BinaryDecoder decoder) {
+        NodeId _sourceNodeId = decoder.decodeNodeId(null);
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isForward = decoder.decodeBoolean(null);
+        String _targetServerUri = decoder.decodeString(null);
+        ExpandedNodeId _targetNodeId = decoder.decodeExpandedNodeId(null);
+        NodeClass _targetNodeClass = NodeClass.from(decoder.readInt32(null));
+
+        return new AddReferencesItem(_sourceNodeId, _referenceTypeId, _isForward, _targetServerUri, _targetNodeId, _targetNodeClass);
+    }
+
+    public static int sizeOf(AddReferencesItem addReferencesItem) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(addReferencesItem.getSourceNodeId());
+        size += BinarySize.sizeOfNodeId(addReferencesItem.getReferenceTypeId());
+        size += 1; // IsForward
+        size += BinarySize.sizeOfString(addReferencesItem.getTargetServerUri());
+        size += BinarySize.sizeOfExpandedNodeId(addReferencesItem.getTargetNodeId());
+        size += 4; // TargetNodeClass
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AddReferencesItemBinaryCodec::encode, AddReferencesItem.class);
+        DelegateRegistry.registerBinaryDecoder(AddReferencesItemBinaryCodec::decode, AddReferencesItem.class, AddReferencesItem.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AddReferencesItemBinaryCodec::sizeOf, AddReferencesItem.class);
+    }
+
+}
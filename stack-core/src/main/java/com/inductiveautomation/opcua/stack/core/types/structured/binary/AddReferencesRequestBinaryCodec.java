@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.AddReferencesItem;
+import com.inductiveautomation.opcua.stack.core.types.structured.AddReferencesRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class AddReferencesRequestBinaryCodec {
+
+    private AddReferencesRequestBinaryCodec() {}
+
+    public static void encode(AddReferencesRequest addReferencesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = addReferencesRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        AddReferencesItem[] _referencesToAdd = addReferencesRequest.getReferencesToAdd();
+        if (encoder.writeArrayLength(_referencesToAdd)) {
+            for (AddReferencesItem v : _referencesToAdd) {
+                AddReferencesItemBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static AddReferencesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        AddReferencesItem[] _referencesToAdd = new AddReferencesItem[decoder.readArrayLength()];
+        for (int i = 0; i < _referencesToAdd.length; i++) {
+            _referencesToAdd[i] = AddReferencesItemBinaryCodec.decode(decoder);
+        }
+
+        return new AddReferencesRequest(_requestHeader, _referencesToAdd);
+    }
+
+    public static int sizeOf(AddReferencesRequest addReferencesRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = addReferencesRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        AddReferencesItem[] _referencesToAdd = addReferencesRequest.getReferencesToAdd();
+        size += 4;
+        if (_referencesToAdd != null) {
+            for (AddReferencesItem v : _referencesToAdd) {
+                size += AddReferencesItemBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AddReferencesRequestBinaryCodec::encode, AddReferencesRequest.class);
+        DelegateRegistry.registerBinaryDecoder(AddReferencesRequestBinaryCodec::decode, AddReferencesRequest.class, AddReferencesRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AddReferencesRequestBinaryCodec::sizeOf, AddReferencesRequest.class);
+    }
+
+}
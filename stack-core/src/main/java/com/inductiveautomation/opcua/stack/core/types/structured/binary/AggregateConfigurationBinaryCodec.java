@@ -0,0 +1,47 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.structured.AggregateConfiguration;
+
+public final class AggregateConfigurationBinaryCodec {
+
+    private AggregateConfigurationBinaryCodec() {}
+
+    public static void encode(AggregateConfiguration aggregateConfiguration, BinaryEncoder encoder) {
+        encoder.encodeBoolean(null, aggregateConfiguration.getUseServerCapabilitiesDefaults());
+        encoder.encodeBoolean(null, aggregateConfiguration.getTreatUncertainAsBad());
+        encoder.encodeByte(null, aggregateConfiguration.getPercentDataBad());
+        encoder.encodeByte(null, aggregateConfiguration.getPercentDataGood());
+        encoder.encodeBoolean(null, aggregateConfiguration.getUseSlopedExtrapolation());
+    }
+
+    public static AggregateConfiguration decode(BinaryDecoder decoder) {
+        Boolean _useServerCapabilitiesDefaults = decoder.decodeBoolean(null);
+        Boolean _treatUncertainAsBad = decoder.decodeBoolean(null);
+        UByte _percentDataBad = decoder.decodeByte(null);
+        UByte _percentDataGood = decoder.decodeByte(null);
+        Boolean _useSlopedExtrapolation = decoder.decodeBoolean(null);
+
+        return new AggregateConfiguration(_useServerCapabilitiesDefaults, _treatUncertainAsBad, _percentDataBad, _percentDataGood, _useSlopedExtrapolation);
+    }
+
+    public static int sizeOf(AggregateConfiguration aggregateConfiguration) {
+        int size = 0;
+        size += 1; // UseServerCapabilitiesDefaults
+        size += 1; // TreatUncertainAsBad
+        size += 1; // PercentDataBad
+        size += 1; // PercentDataGood
+        size += 1; // UseSlopedExtrapolation
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AggregateConfigurationBinaryCodec::encode, AggregateConfiguration.class);
+        DelegateRegistry.registerBinaryDecoder(AggregateConfigurationBinaryCodec::decode, AggregateConfiguration.class, AggregateConfiguration.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AggregateConfigurationBinaryCodec::sizeOf, AggregateConfiguration.class);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.AggregateConfiguration;
+import com.inductiveautomation.opcua.stack.core.types.structured.AggregateFilter;
+
+public final class AggregateFilterBinaryCodec {
+
+    private AggregateFilterBinaryCodec() {}
+
+    public static void encode(AggregateFilter aggregateFilter, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, aggregateFilter.getStartTime());
+        encoder.encodeNodeId(null, aggregateFilter.getAggregateType());
+        encoder.encodeDouble(null, aggregateFilter.getProcessingInterval());
+        AggregateConfiguration _aggregateConfiguration = aggregateFilter.getAggregateConfiguration();
+        AggregateConfigurationBinaryCodec.encode(_aggregateConfiguration != null ? _aggregateConfiguration : new AggregateConfiguration(), encoder);
+    }
+
+    public static AggregateFilter decode(BinaryDecoder decoder) {
+        DateTime _startTime = decoder.decodeDateTime(null);
+        NodeId _aggregateType = decoder.decodeNodeId(null);
+        Double _processingInterval = decoder.decodeDouble(null);
+        AggregateConfiguration _aggregateConfiguration = AggregateConfigurationBinaryCodec.decode(decoder);
+
+        return new AggregateFilter(_startTime, _aggregateType, _processingInterval, _aggregateConfiguration);
+    }
+
+    public static int sizeOf(AggregateFilter aggregateFilter) {
+        int size = 0;
+        size += 8; // StartTime
+        size += BinarySize.sizeOfNodeId(aggregateFilter.getAggregateType());
+        size += 8; // ProcessingInterval
+        AggregateConfiguration _aggregateConfiguration = aggregateFilter.getAggregateConfiguration();
+        size += AggregateConfigurationBinaryCodec.sizeOf(_aggregateConfiguration != null ? _aggregateConfiguration : new AggregateConfiguration());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AggregateFilterBinaryCodec::encode, AggregateFilter.class);
+        DelegateRegistry.registerBinaryDecoder(AggregateFilterBinaryCodec::decode, AggregateFilter.class, AggregateFilter.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AggregateFilterBinaryCodec::sizeOf, AggregateFilter.class);
+    }
+
+}
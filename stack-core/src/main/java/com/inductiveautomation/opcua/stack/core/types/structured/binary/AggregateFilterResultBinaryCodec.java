@@ -0,0 +1,44 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.structured.AggregateConfiguration;
+import com.inductiveautomation.opcua.stack.core.types.structured.AggregateFilterResult;
+
+public final class AggregateFilterResultBinaryCodec {
+
+    private AggregateFilterResultBinaryCodec() {}
+
+    public static void encode(AggregateFilterResult aggregateFilterResult, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, aggregateFilterResult.getRevisedStartTime());
+        encoder.encodeDouble(null, aggregateFilterResult.getRevisedProcessingInterval());
+        AggregateConfiguration _revisedAggregateConfiguration = aggregateFilterResult.getRevisedAggregateConfiguration();
+        AggregateConfigurationBinaryCodec.encode(_revisedAggregateConfiguration != null ? _revisedAggregateConfiguration : new AggregateConfiguration(), encoder);
+    }
+
+    public static AggregateFilterResult decode(BinaryDecoder decoder) {
+        DateTime _revisedStartTime = decoder.decodeDateTime(null);
+        Double _revisedProcessingInterval = decoder.decodeDouble(null);
+        AggregateConfiguration _revisedAggregateConfiguration = AggregateConfigurationBinaryCodec.decode(decoder);
+
+        return new AggregateFilterResult(_revisedStartTime, _revisedProcessingInterval, _revisedAggregateConfiguration);
+    }
+
+    public static int sizeOf(AggregateFilterResult aggregateFilterResult) {
+        int size = 0;
+        size += 8; // RevisedStartTime
+        size += 8; // RevisedProcessingInterval
+        AggregateConfiguration _revisedAggregateConfiguration = aggregateFilterResult.getRevisedAggregateConfiguration();
+        size += AggregateConfigurationBinaryCodec.sizeOf(_revisedAggregateConfiguration != null ? _revisedAggregateConfiguration : new AggregateConfiguration());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AggregateFilterResultBinaryCodec::encode, AggregateFilterResult.class);
+        DelegateRegistry.registerBinaryDecoder(AggregateFilterResultBinaryCodec::decode, AggregateFilterResult.class, AggregateFilterResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AggregateFilterResultBinaryCodec::sizeOf, AggregateFilterResult.class);
+    }
+
+}
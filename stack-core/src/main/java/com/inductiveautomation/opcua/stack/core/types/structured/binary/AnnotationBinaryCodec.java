@@ -0,0 +1,42 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.structured.Annotation;
+
+public final class AnnotationBinaryCodec {
+
+    private AnnotationBinaryCodec() {}
+
+    public static void encode(Annotation annotation, BinaryEncoder encoder) {
+        encoder.encodeString(null, annotation.getMessage());
+        encoder.encodeString(null, annotation.getUserName());
+        encoder.encodeDateTime(null, annotation.getAnnotationTime());
+    }
+
+    public static Annotation decode(BinaryDecoder decoder) {
+        String _message = decoder.decodeString(null);
+        String _userName = decoder.decodeString(null);
+        DateTime _annotationTime = decoder.decodeDateTime(null);
+
+        return new Annotation(_message, _userName, _annotationTime);
+    }
+
+    public static int sizeOf(Annotation annotation) {
+        int size = 0;
+        size += BinarySize.sizeOfString(annotation.getMessage());
+        size += BinarySize.sizeOfString(annotation.getUserName());
+        size += 8; // AnnotationTime
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AnnotationBinaryCodec::encode, Annotation.class);
+        DelegateRegistry.registerBinaryDecoder(AnnotationBinaryCodec::decode, Annotation.class, Annotation.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AnnotationBinaryCodec::sizeOf, Annotation.class);
+    }
+
+}
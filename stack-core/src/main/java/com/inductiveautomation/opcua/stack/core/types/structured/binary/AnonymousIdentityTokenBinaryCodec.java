@@ -0,0 +1,35 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.structured.AnonymousIdentityToken;
+
+public final class AnonymousIdentityTokenBinaryCodec {
+
+    private AnonymousIdentityTokenBinaryCodec() {}
+
+    public static void encode(AnonymousIdentityToken anonymousIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString(null, anonymousIdentityToken.getPolicyId());
+    }
+
+    public static AnonymousIdentityToken decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+
+        return new AnonymousIdentityToken(_policyId);
+    }
+
+    public static int sizeOf(AnonymousIdentityToken anonymousIdentityToken) {
+        int size = 0;
+        size += BinarySize.sizeOfString(anonymousIdentityToken.getPolicyId());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AnonymousIdentityTokenBinaryCodec::encode, AnonymousIdentityToken.class);
+        DelegateRegistry.registerBinaryDecoder(AnonymousIdentityTokenBinaryCodec::decode, AnonymousIdentityToken.class, AnonymousIdentityToken.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AnonymousIdentityTokenBinaryCodec::sizeOf, AnonymousIdentityToken.class);
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.ApplicationType;
+import com.inductiveautomation.opcua.stack.core.types.structured.ApplicationDescription;
+
+public final class ApplicationDescriptionBinaryCodec {
+
+    private ApplicationDescriptionBinaryCodec() {}
+
+    public static void encode(ApplicationDescription applicationDescription, BinaryEncoder encoder) {
+        encoder.encodeString(null, applicationDescription.getApplicationUri());
+        encoder.encodeString(null, applicationDescription.getProductUri());
+        encoder.encodeLocalizedText(null, applicationDescription.getApplicationName());
+        ApplicationType _applicationType = applicationDescription.getApplicationType();
+        encoder.writeInt32(null, _applicationType != null ? _applicationType.getValue() : -1);
+        encoder.encodeString(null, applicationDescription.getGatewayServerUri());
+        encoder.encodeString(null, applicationDescription.getDiscoveryProfileUri());
+        String[] _discoveryUrls = applicationDescription.getDiscoveryUrls();
+        if (encoder.writeArrayLength(_discoveryUrls)) {
+            for (String v : _discoveryUrls) {
+                encoder.encodeString(null, v);
+            }
+        }
+    }
+
+    public static ApplicationDescription decode(BinaryDecoder decoder) {
+        String _applicationUri = decoder.decodeString(null);
+        String _productUri = decoder.decodeString(null);
+        LocalizedText _applicationName = decoder.decodeLocalizedText(null);
+        ApplicationType _applicationType = ApplicationType.from(decoder.readInt32(null));
+        String _gatewayServerUri = decoder.decodeString(null);
+        String _discoveryProfileUri = decoder.decodeString(null);
+        String[] _discoveryUrls = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _discoveryUrls.length; i++) {
+            _discoveryUrls[i] = decoder.decodeString(null);
+        }
+
+        return new ApplicationDescription(_applicationUri, _productUri, _applicationName, _applicationType, _gatewayServerUri, _discoveryProfileUri, _discoveryUrls);
+    }
+
+    public static int sizeOf(ApplicationDescription applicationDescription) {
+        int size = 0;
+        size += BinarySize.sizeOfString(applicationDescription.getApplicationUri());
+        size += BinarySize.sizeOfString(applicationDescription.getProductUri());
+        size += BinarySize.sizeOfLocalizedText(applicationDescription.getApplicationName());
+        size += 4; // ApplicationType
+        size += BinarySize.sizeOfString(applicationDescription.getGatewayServerUri());
+        size += BinarySize.sizeOfString(applicationDescription.getDiscoveryProfileUri());
+        String[] _discoveryUrls = applicationDescription.getDiscoveryUrls();
+        size += 4;
+        if (_discoveryUrls != null) {
+            for (String v : _discoveryUrls) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ApplicationDescriptionBinaryCodec::encode, ApplicationDescription.class);
+        DelegateRegistry.registerBinaryDecoder(ApplicationDescriptionBinaryCodec::decode, ApplicationDescription.class, ApplicationDescription.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ApplicationDescriptionBinaryCodec::sizeOf, ApplicationDescription.class);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.Argument;
+
+public final class ArgumentBinaryCodec {
+
+    private ArgumentBinaryCodec() {}
+
+    public static void encode(Argument argument, BinaryEncoder encoder) {
+        encoder.encodeString(null, argument.getName());
+        encoder.encodeNodeId(null, argument.getDataType());
+        encoder.encodeInt32(null, argument.getValueRank());
+        UInteger[] _arrayDimensions = argument.getArrayDimensions();
+        if (encoder.writeArrayLength(_arrayDimensions)) {
+            for (UInteger v : _arrayDimensions) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+        encoder.encodeLocalizedText(null, argument.getDescription());
+    }
+
+    public static Argument decode(BinaryDecoder decoder) {
+        String _name = decoder.decodeString(null);
+        NodeId _dataType = decoder.decodeNodeId(null);
+        Integer _valueRank = decoder.decodeInt32(null);
+        UInteger[] _arrayDimensions = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _arrayDimensions.length; i++) {
+            _arrayDimensions[i] = decoder.decodeUInt32(null);
+        }
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+
+        return new Argument(_name, _dataType, _valueRank, _arrayDimensions, _description);
+    }
+
+    public static int sizeOf(Argument argument) {
+        int size = 0;
+        size += BinarySize.sizeOfString(argument.getName());
+        size += BinarySize.sizeOfNodeId(argument.getDataType());
+        size += 4; // ValueRank
+        UInteger[] _arrayDimensions = argument.getArrayDimensions();
+        size += 4;
+        if (_arrayDimensions != null) {
+            size += _arrayDimensions.length * 4;
+        }
+        size += BinarySize.sizeOfLocalizedText(argument.getDescription());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ArgumentBinaryCodec::encode, Argument.class);
+        DelegateRegistry.registerBinaryDecoder(ArgumentBinaryCodec::decode, Argument.class, Argument.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ArgumentBinaryCodec::sizeOf, Argument.class);
+    }
+
+}
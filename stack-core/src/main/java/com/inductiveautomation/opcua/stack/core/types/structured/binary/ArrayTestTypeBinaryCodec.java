@@ -0,0 +1,447 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import java.util.UUID;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.XmlElement;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.ULong;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UShort;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.EnumeratedTestType;
+import com.inductiveautomation.opcua.stack.core.types.structured.ArrayTestType;
+
+public final class ArrayTestTypeBinaryCodec {
+
+    private ArrayTestTypeBinaryCodec() {}
+
+    public static void encode(ArrayTestType arrayTestType, BinaryEncoder encoder) {
+        Boolean[] _booleans = arrayTestType.getBooleans();
+        if (encoder.writeArrayLength(_booleans)) {
+            for (Boolean v : _booleans) {
+                encoder.encodeBoolean(null, v);
+            }
+        }
+        Byte[] _sBytes = arrayTestType.getSBytes();
+        if (encoder.writeArrayLength(_sBytes)) {
+            for (Byte v : _sBytes) {
+                encoder.encodeSByte(null, v);
+            }
+        }
+        Short[] _int16s = arrayTestType.getInt16s();
+        if (encoder.writeArrayLength(_int16s)) {
+            for (Short v : _int16s) {
+                encoder.encodeInt16(null, v);
+            }
+        }
+        UShort[] _uInt16s = arrayTestType.getUInt16s();
+        if (encoder.writeArrayLength(_uInt16s)) {
+            for (UShort v : _uInt16s) {
+                encoder.encodeUInt16(null, v);
+            }
+        }
+        Integer[] _int32s = arrayTestType.getInt32s();
+        if (encoder.writeArrayLength(_int32s)) {
+            for (Integer v : _int32s) {
+                encoder.encodeInt32(null, v);
+            }
+        }
+        UInteger[] _uInt32s = arrayTestType.getUInt32s();
+        if (encoder.writeArrayLength(_uInt32s)) {
+            for (UInteger v : _uInt32s) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+        Long[] _int64s = arrayTestType.getInt64s();
+        if (encoder.writeArrayLength(_int64s)) {
+            for (Long v : _int64s) {
+                encoder.encodeInt64(null, v);
+            }
+        }
+        ULong[] _uInt64s = arrayTestType.getUInt64s();
+        if (encoder.writeArrayLength(_uInt64s)) {
+            for (ULong v : _uInt64s) {
+                encoder.encodeUInt64(null, v);
+            }
+        }
+        Float[] _floats = arrayTestType.getFloats();
+        if (encoder.writeArrayLength(_floats)) {
+            for (Float v : _floats) {
+                encoder.encodeFloat(null, v);
+            }
+        }
+        Double[] _doubles = arrayTestType.getDoubles();
+        if (encoder.writeArrayLength(_doubles)) {
+            for (Double v : _doubles) {
+                encoder.encodeDouble(null, v);
+            }
+        }
+        String[] _strings = arrayTestType.getStrings();
+        if (encoder.writeArrayLength(_strings)) {
+            for (String v : _strings) {
+                encoder.encodeString(null, v);
+            }
+        }
+        DateTime[] _dateTimes = arrayTestType.getDateTimes();
+        if (encoder.writeArrayLength(_dateTimes)) {
+            for (DateTime v : _dateTimes) {
+                encoder.encodeDateTime(null, v);
+            }
+        }
+        UUID[] _guids = arrayTestType.getGuids();
+        if (encoder.writeArrayLength(_guids)) {
+            for (UUID v : _guids) {
+                encoder.encodeGuid(null, v);
+            }
+        }
+        ByteString[] _byteStrings = arrayTestType.getByteStrings();
+        if (encoder.writeArrayLength(_byteStrings)) {
+            for (ByteString v : _byteStrings) {
+                encoder.encodeByteString(null, v);
+            }
+        }
+        XmlElement[] _xmlElements = arrayTestType.getXmlElements();
+        if (encoder.writeArrayLength(_xmlElements)) {
+            for (XmlElement v : _xmlElements) {
+                encoder.encodeXmlElement(null, v);
+            }
+        }
+        NodeId[] _nodeIds = arrayTestType.getNodeIds();
+        if (encoder.writeArrayLength(_nodeIds)) {
+            for (NodeId v : _nodeIds) {
+                encoder.encodeNodeId(null, v);
+            }
+        }
+        ExpandedNodeId[] _expandedNodeIds = arrayTestType.getExpandedNodeIds();
+        if (encoder.writeArrayLength(_expandedNodeIds)) {
+            for (ExpandedNodeId v : _expandedNodeIds) {
+                encoder.encodeExpandedNodeId(null, v);
+            }
+        }
+        StatusCode[] _statusCodes = arrayTestType.getStatusCodes();
+        if (encoder.writeArrayLength(_statusCodes)) {
+            for (StatusCode v : _statusCodes) {
+                encoder.encodeStatusCode(null, v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = arrayTestType.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+        QualifiedName[] _qualifiedNames = arrayTestType.getQualifiedNames();
+        if (encoder.writeArrayLength(_qualifiedNames)) {
+            for (QualifiedName v : _qualifiedNames) {
+                encoder.encodeQualifiedName(null, v);
+            }
+        }
+        LocalizedText[] _localizedTexts = arrayTestType.getLocalizedTexts();
+        if (encoder.writeArrayLength(_localizedTexts)) {
+            for (LocalizedText v : _localizedTexts) {
+                encoder.encodeLocalizedText(null, v);
+            }
+        }
+        ExtensionObject[] _extensionObjects = arrayTestType.getExtensionObjects();
+        if (encoder.writeArrayLength(_extensionObjects)) {
+            for (ExtensionObject v : _extensionObjects) {
+                encoder.encodeExtensionObject(null, v);
+            }
+        }
+        DataValue[] _dataValues = arrayTestType.getDataValues();
+        if (encoder.writeArrayLength(_dataValues)) {
+            for (DataValue v : _dataValues) {
+                encoder.encodeDataValue(null, v);
+            }
+        }
+        Variant[] _variants = arrayTestType.getVariants();
+        if (encoder.writeArrayLength(_variants)) {
+            for (Variant v : _variants) {
+                encoder.encodeVariant(null, v);
+            }
+        }
+        EnumeratedTestType[] _enumeratedValues = arrayTestType.getEnumeratedValues();
+        if (encoder.writeArrayLength(_enumeratedValues)) {
+            for (EnumeratedTestType v : _enumeratedValues) {
+                encoder.writeInt32(null, v != null ? v.getValue() : -1);
+            }
+        }
+    }
+
+    public static ArrayTestType decode(BinaryDecoder decoder) {
+        Boolean[] _booleans = new Boolean[decoder.readArrayLength()];
+        for (int i = 0; i < _booleans.length; i++) {
+            _booleans[i] = decoder.decodeBoolean(null);
+        }
+        Byte[] _sBytes = new Byte[decoder.readArrayLength()];
+        for (int i = 0; i < _sBytes.length; i++) {
+            _sBytes[i] = decoder.decodeSByte(null);
+        }
+        Short[] _int16s = new Short[decoder.readArrayLength()];
+        for (int i = 0; i < _int16s.length; i++) {
+            _int16s[i] = decoder.decodeInt16(null);
+        }
+        UShort[] _uInt16s = new UShort[decoder.readArrayLength()];
+        for (int i = 0; i < _uInt16s.length; i++) {
+            _uInt16s[i] = decoder.decodeUInt16(null);
+        }
+        Integer[] _int32s = new Integer[decoder.readArrayLength()];
+        for (int i = 0; i < _int32s.length; i++) {
+            _int32s[i] = decoder.decodeInt32(null);
+        }
+        UInteger[] _uInt32s = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _uInt32s.length; i++) {
+            _uInt32s[i] = decoder.decodeUInt32(null);
+        }
+        Long[] _int64s = new Long[decoder.readArrayLength()];
+        for (int i = 0; i < _int64s.length; i++) {
+            _int64s[i] = decoder.decodeInt64(null);
+        }
+        ULong[] _uInt64s = new ULong[decoder.readArrayLength()];
+        for (int i = 0; i < _uInt64s.length; i++) {
+            _uInt64s[i] = decoder.decodeUInt64(null);
+        }
+        Float[] _floats = new Float[decoder.readArrayLength()];
+        for (int i = 0; i < _floats.length; i++) {
+            _floats[i] = decoder.decodeFloat(null);
+        }
+        Double[] _doubles = new Double[decoder.readArrayLength()];
+        for (int i = 0; i < _doubles.length; i++) {
+            _doubles[i] = decoder.decodeDouble(null);
+        }
+        String[] _strings = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _strings.length; i++) {
+            _strings[i] = decoder.decodeString(null);
+        }
+        DateTime[] _dateTimes = new DateTime[decoder.readArrayLength()];
+        for (int i = 0; i < _dateTimes.length; i++) {
+            _dateTimes[i] = decoder.decodeDateTime(null);
+        }
+        UUID[] _guids = new UUID[decoder.readArrayLength()];
+        for (int i = 0; i < _guids.length; i++) {
+            _guids[i] = decoder.decodeGuid(null);
+        }
+        ByteString[] _byteStrings = new ByteString[decoder.readArrayLength()];
+        for (int i = 0; i < _byteStrings.length; i++) {
+            _byteStrings[i] = decoder.decodeByteString(null);
+        }
+        XmlElement[] _xmlElements = new XmlElement[decoder.readArrayLength()];
+        for (int i = 0; i < _xmlElements.length; i++) {
+            _xmlElements[i] = decoder.decodeXmlElement(null);
+        }
+        NodeId[] _nodeIds = new NodeId[decoder.readArrayLength()];
+        for (int i = 0; i < _nodeIds.length; i++) {
+            _nodeIds[i] = decoder.decodeNodeId(null);
+        }
+        ExpandedNodeId[] _expandedNodeIds = new ExpandedNodeId[decoder.readArrayLength()];
+        for (int i = 0; i < _expandedNodeIds.length; i++) {
+            _expandedNodeIds[i] = decoder.decodeExpandedNodeId(null);
+        }
+        StatusCode[] _statusCodes = new StatusCode[decoder.readArrayLength()];
+        for (int i = 0; i < _statusCodes.length; i++) {
+            _statusCodes[i] = decoder.decodeStatusCode(null);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+        QualifiedName[] _qualifiedNames = new QualifiedName[decoder.readArrayLength()];
+        for (int i = 0; i < _qualifiedNames.length; i++) {
+            _qualifiedNames[i] = decoder.decodeQualifiedName(null);
+        }
+        LocalizedText[] _localizedTexts = new LocalizedText[decoder.readArrayLength()];
+        for (int i = 0; i < _localizedTexts.length; i++) {
+            _localizedTexts[i] = decoder.decodeLocalizedText(null);
+        }
+        ExtensionObject[] _extensionObjects = new ExtensionObject[decoder.readArrayLength()];
+        for (int i = 0; i < _extensionObjects.length; i++) {
+            _extensionObjects[i] = decoder.decodeExtensionObject(null);
+        }
+        DataValue[] _dataValues = new DataValue[decoder.readArrayLength()];
+        for (int i = 0; i < _dataValues.length; i++) {
+            _dataValues[i] = decoder.decodeDataValue(null);
+        }
+        Variant[] _variants = new Variant[decoder.readArrayLength()];
+        for (int i = 0; i < _variants.length; i++) {
+            _variants[i] = decoder.decodeVariant(null);
+        }
+        EnumeratedTestType[] _enumeratedValues = new EnumeratedTestType[decoder.readArrayLength()];
+        for (int i = 0; i < _enumeratedValues.length; i++) {
+            _enumeratedValues[i] = EnumeratedTestType.from(decoder.readInt32(null));
+        }
+
+        return new ArrayTestType(_booleans, _sBytes, _int16s, _uInt16s, _int32s, _uInt32s, _int64s, _uInt64s, _floats, _doubles, _strings, _dateTimes, _guids, _byteStrings, _xmlElements, _nodeIds, _expandedNodeIds, _statusCodes, _diagnosticInfos, _qualifiedNames, _localizedTexts, _extensionObjects, _dataValues, _variants, _enumeratedValues);
+    }
+
+    public static int sizeOf(ArrayTestType arrayTestType) {
+        int size = 0;
+        Boolean[] _booleans = arrayTestType.getBooleans();
+        size += 4;
+        if (_booleans != null) {
+            size += _booleans.length * 1;
+        }
+        Byte[] _sBytes = arrayTestType.getSBytes();
+        size += 4;
+        if (_sBytes != null) {
+            size += _sBytes.length * 1;
+        }
+        Short[] _int16s = arrayTestType.getInt16s();
+        size += 4;
+        if (_int16s != null) {
+            size += _int16s.length * 2;
+        }
+        UShort[] _uInt16s = arrayTestType.getUInt16s();
+        size += 4;
+        if (_uInt16s != null) {
+            size += _uInt16s.length * 2;
+        }
+        Integer[] _int32s = arrayTestType.getInt32s();
+        size += 4;
+        if (_int32s != null) {
+            size += _int32s.length * 4;
+        }
+        UInteger[] _uInt32s = arrayTestType.getUInt32s();
+        size += 4;
+        if (_uInt32s != null) {
+            size += _uInt32s.length * 4;
+        }
+        Long[] _int64s = arrayTestType.getInt64s();
+        size += 4;
+        if (_int64s != null) {
+            size += _int64s.length * 8;
+        }
+        ULong[] _uInt64s = arrayTestType.getUInt64s();
+        size += 4;
+        if (_uInt64s != null) {
+            size += _uInt64s.length * 8;
+        }
+        Float[] _floats = arrayTestType.getFloats();
+        size += 4;
+        if (_floats != null) {
+            size += _floats.length * 4;
+        }
+        Double[] _doubles = arrayTestType.getDoubles();
+        size += 4;
+        if (_doubles != null) {
+            size += _doubles.length * 8;
+        }
+        String[] _strings = arrayTestType.getStrings();
+        size += 4;
+        if (_strings != null) {
+            for (String v : _strings) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        DateTime[] _dateTimes = arrayTestType.getDateTimes();
+        size += 4;
+        if (_dateTimes != null) {
+            size += _dateTimes.length * 8;
+        }
+        UUID[] _guids = arrayTestType.getGuids();
+        size += 4;
+        if (_guids != null) {
+            size += _guids.length * 16;
+        }
+        ByteString[] _byteStrings = arrayTestType.getByteStrings();
+        size += 4;
+        if (_byteStrings != null) {
+            for (ByteString v : _byteStrings) {
+                size += BinarySize.sizeOfByteString(v);
+            }
+        }
+        XmlElement[] _xmlElements = arrayTestType.getXmlElements();
+        size += 4;
+        if (_xmlElements != null) {
+            for (XmlElement v : _xmlElements) {
+                size += BinarySize.sizeOfXmlElement(v);
+            }
+        }
+        NodeId[] _nodeIds = arrayTestType.getNodeIds();
+        size += 4;
+        if (_nodeIds != null) {
+            for (NodeId v : _nodeIds) {
+                size += BinarySize.sizeOfNodeId(v);
+            }
+        }
+        ExpandedNodeId[] _expandedNodeIds = arrayTestType.getExpandedNodeIds();
+        size += 4;
+        if (_expandedNodeIds != null) {
+            for (ExpandedNodeId v : _expandedNodeIds) {
+                size += BinarySize.sizeOfExpandedNodeId(v);
+            }
+        }
+        StatusCode[] _statusCodes = arrayTestType.getStatusCodes();
+        size += 4;
+        if (_statusCodes != null) {
+            size += _statusCodes.length * 4;
+        }
+        DiagnosticInfo[] _diagnosticInfos = arrayTestType.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        QualifiedName[] _qualifiedNames = arrayTestType.getQualifiedNames();
+        size += 4;
+        if (_qualifiedNames != null) {
+            for (QualifiedName v : _qualifiedNames) {
+                size += BinarySize.sizeOfQualifiedName(v);
+            }
+        }
+        LocalizedText[] _localizedTexts = arrayTestType.getLocalizedTexts();
+        size += 4;
+        if (_localizedTexts != null) {
+            for (LocalizedText v : _localizedTexts) {
+                size += BinarySize.sizeOfLocalizedText(v);
+            }
+        }
+        ExtensionObject[] _extensionObjects = arrayTestType.getExtensionObjects();
+        size += 4;
+        if (_extensionObjects != null) {
+            for (ExtensionObject v : _extensionObjects) {
+                size += BinarySize.sizeOfExtensionObject(v);
+            }
+        }
+        DataValue[] _dataValues = arrayTestType.getDataValues();
+        size += 4;
+        if (_dataValues != null) {
+            for (DataValue v : _dataValues) {
+                size += BinarySize.sizeOfDataValue(v);
+            }
+        }
+        Variant[] _variants = arrayTestType.getVariants();
+        size += 4;
+        if (_variants != null) {
+            for (Variant v : _variants) {
+                size += BinarySize.sizeOfVariant(v);
+            }
+        }
+        EnumeratedTestType[] _enumeratedValues = arrayTestType.getEnumeratedValues();
+        size += 4;
+        if (_enumeratedValues != null) {
+            size += _enumeratedValues.length * 4;
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ArrayTestTypeBinaryCodec::encode, ArrayTestType.class);
+        DelegateRegistry.registerBinaryDecoder(ArrayTestTypeBinaryCodec::decode, ArrayTestType.class, ArrayTestType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ArrayTestTypeBinaryCodec::sizeOf, ArrayTestType.class);
+    }
+
+}
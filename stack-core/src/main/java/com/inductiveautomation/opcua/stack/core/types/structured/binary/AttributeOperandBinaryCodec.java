@@ -0,0 +1,52 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.AttributeOperand;
+import com.inductiveautomation.opcua.stack.core.types.structured.RelativePath;
+
+public final class AttributeOperandBinaryCodec {
+
+    private AttributeOperandBinaryCodec() {}
+
+    public static void encode(AttributeOperand attributeOperand, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, attributeOperand.getNodeId());
+        encoder.encodeString(null, attributeOperand.getAlias());
+        RelativePath _browsePath = attributeOperand.getBrowsePath();
+        RelativePathBinaryCodec.encode(_browsePath != null ? _browsePath : new RelativePath(), encoder);
+        encoder.encodeUInt32(null, attributeOperand.getAttributeId());
+        encoder.encodeString(null, attributeOperand.getIndexRange());
+    }
+
+    public static AttributeOperand decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        String _alias = decoder.decodeString(null);
+        RelativePath _browsePath = RelativePathBinaryCodec.decode(decoder);
+        UInteger _attributeId = decoder.decodeUInt32(null);
+        String _indexRange = decoder.decodeString(null);
+
+        return new AttributeOperand(_nodeId, _alias, _browsePath, _attributeId, _indexRange);
+    }
+
+    public static int sizeOf(AttributeOperand attributeOperand) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(attributeOperand.getNodeId());
+        size += BinarySize.sizeOfString(attributeOperand.getAlias());
+        RelativePath _browsePath = attributeOperand.getBrowsePath();
+        size += RelativePathBinaryCodec.sizeOf(_browsePath != null ? _browsePath : new RelativePath());
+        size += 4; // AttributeId
+        size += BinarySize.sizeOfString(attributeOperand.getIndexRange());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AttributeOperandBinaryCodec::encode, AttributeOperand.class);
+        DelegateRegistry.registerBinaryDecoder(AttributeOperandBinaryCodec::decode, AttributeOperand.class, AttributeOperand.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AttributeOperandBinaryCodec::sizeOf, AttributeOperand.class);
+    }
+
+}
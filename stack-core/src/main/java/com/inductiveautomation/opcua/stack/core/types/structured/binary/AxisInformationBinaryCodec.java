@@ -0,0 +1,68 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.AxisScaleEnumeration;
+import com.inductiveautomation.opcua.stack.core.types.structured.AxisInformation;
+import com.inductiveautomation.opcua.stack.core.types.structured.EUInformation;
+import com.inductiveautomation.opcua.stack.core.types.structured.Range;
+
+public final class AxisInformationBinaryCodec {
+
+    private AxisInformationBinaryCodec() {}
+
+    public static void encode(AxisInformation axisInformation, BinaryEncoder encoder) {
+        EUInformation _engineeringUnits = axisInformation.getEngineeringUnits();
+        EUInformationBinaryCodec.encode(_engineeringUnits != null ? _engineeringUnits : new EUInformation(), encoder);
+        Range _eURange = axisInformation.getEURange();
+        RangeBinaryCodec.encode(_eURange != null ? _eURange : new Range(), encoder);
+        encoder.encodeLocalizedText(null, axisInformation.getTitle());
+        AxisScaleEnumeration _axisScaleType = axisInformation.getAxisScaleType();
+        encoder.writeInt32(null, _axisScaleType != null ? _axisScaleType.getValue() : -1);
+        Double[] _axisSteps = axisInformation.getAxisSteps();
+        if (encoder.writeArrayLength(_axisSteps)) {
+            for (Double v : _axisSteps) {
+                encoder.encodeDouble(null, v);
+            }
+        }
+    }
+
+    public static AxisInformation decode(BinaryDecoder decoder) {
+        EUInformation _engineeringUnits = EUInformationBinaryCodec.decode(decoder);
+        Range _eURange = RangeBinaryCodec.decode(decoder);
+        LocalizedText _title = decoder.decodeLocalizedText(null);
+        AxisScaleEnumeration _axisScaleType = AxisScaleEnumeration.from(decoder.readInt32(null));
+        Double[] _axisSteps = new Double[decoder.readArrayLength()];
+        for (int i = 0; i < _axisSteps.length; i++) {
+            _axisSteps[i] = decoder.decodeDouble(null);
+        }
+
+        return new AxisInformation(_engineeringUnits, _eURange, _title, _axisScaleType, _axisSteps);
+    }
+
+    public static int sizeOf(AxisInformation axisInformation) {
+        int size = 0;
+        EUInformation _engineeringUnits = axisInformation.getEngineeringUnits();
+        size += EUInformationBinaryCodec.sizeOf(_engineeringUnits != null ? _engineeringUnits : new EUInformation());
+        Range _eURange = axisInformation.getEURange();
+        size += RangeBinaryCodec.sizeOf(_eURange != null ? _eURange : new Range());
+        size += BinarySize.sizeOfLocalizedText(axisInformation.getTitle());
+        size += 4; // AxisScaleType
+        Double[] _axisSteps = axisInformation.getAxisSteps();
+        size += 4;
+        if (_axisSteps != null) {
+            size += _axisSteps.length * 8;
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(AxisInformationBinaryCodec::encode, AxisInformation.class);
+        DelegateRegistry.registerBinaryDecoder(AxisInformationBinaryCodec::decode, AxisInformation.class, AxisInformation.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(AxisInformationBinaryCodec::sizeOf, AxisInformation.class);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.BrowseDirection;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowseDescription;
+
+public final class BrowseDescriptionBinaryCodec {
+
+    private BrowseDescriptionBinaryCodec() {}
+
+    public static void encode(BrowseDescription browseDescription, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, browseDescription.getNodeId());
+        BrowseDirection _browseDirection = browseDescription.getBrowseDirection();
+        encoder.writeInt32(null, _browseDirection != null ? _browseDirection.getValue() : -1);
+        encoder.encodeNodeId(null, browseDescription.getReferenceTypeId());
+        encoder.encodeBoolean(null, browseDescription.getIncludeSubtypes());
+        encoder.encodeUInt32(null, browseDescription.getNodeClassMask());
+        encoder.encodeUInt32(null, browseDescription.getResultMask());
+    }
+
+    public static BrowseDescription decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        BrowseDirection _browseDirection = BrowseDirection.from(decoder.readInt32(null));
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _includeSubtypes = decoder.decodeBoolean(null);
+        UInteger _nodeClassMask = decoder.decodeUInt32(null);
+        UInteger _resultMask = decoder.decodeUInt32(null);
+
+        return new BrowseDescription(_nodeId, _browseDirection, _referenceTypeId, _includeSubtypes, _nodeClassMask, _resultMask);
+    }
+
+    public static int sizeOf(BrowseDescription browseDescription) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(browseDescription.getNodeId());
+        size += 4; // BrowseDirection
+        size += BinarySize.sizeOfNodeId(browseDescription.getReferenceTypeId());
+        size += 1; // IncludeSubtypes
+        size += 4; // NodeClassMask
+        size += 4; // ResultMask
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(BrowseDescriptionBinaryCodec::encode, BrowseDescription.class);
+        DelegateRegistry.registerBinaryDecoder(BrowseDescriptionBinaryCodec::decode, BrowseDescription.class, BrowseDescription.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(BrowseDescriptionBinaryCodec::sizeOf, BrowseDescription.class);
+    }
+
+}
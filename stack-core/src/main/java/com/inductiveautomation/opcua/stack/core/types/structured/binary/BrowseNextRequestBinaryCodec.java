@@ -0,0 +1,59 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowseNextRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class BrowseNextRequestBinaryCodec {
+
+    private BrowseNextRequestBinaryCodec() {}
+
+    public static void encode(BrowseNextRequest browseNextRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = browseNextRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeBoolean(null, browseNextRequest.getReleaseContinuationPoints());
+        ByteString[] _continuationPoints = browseNextRequest.getContinuationPoints();
+        if (encoder.writeArrayLength(_continuationPoints)) {
+            for (ByteString v : _continuationPoints) {
+                encoder.encodeByteString(null, v);
+            }
+        }
+    }
+
+    public static BrowseNextRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Boolean _releaseContinuationPoints = decoder.decodeBoolean(null);
+        ByteString[] _continuationPoints = new ByteString[decoder.readArrayLength()];
+        for (int i = 0; i < _continuationPoints.length; i++) {
+            _continuationPoints[i] = decoder.decodeByteString(null);
+        }
+
+        return new BrowseNextRequest(_requestHeader, _releaseContinuationPoints, _continuationPoints);
+    }
+
+    public static int sizeOf(BrowseNextRequest browseNextRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = browseNextRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 1; // ReleaseContinuationPoints
+        ByteString[] _continuationPoints = browseNextRequest.getContinuationPoints();
+        size += 4;
+        if (_continuationPoints != null) {
+            for (ByteString v : _continuationPoints) {
+                size += BinarySize.sizeOfByteString(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(BrowseNextRequestBinaryCodec::encode, BrowseNextRequest.class);
+        DelegateRegistry.registerBinaryDecoder(BrowseNextRequestBinaryCodec::decode, BrowseNextRequest.class, BrowseNextRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(BrowseNextRequestBinaryCodec::sizeOf, BrowseNextRequest.class);
+    }
+
+}
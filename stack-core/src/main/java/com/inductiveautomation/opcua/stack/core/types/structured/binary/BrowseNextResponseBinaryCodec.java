@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowseNextResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowseResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class BrowseNextResponseBinaryCodec {
+
+    private BrowseNextResponseBinaryCodec() {}
+
+    public static void encode(BrowseNextResponse browseNextResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = browseNextResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        BrowseResult[] _results = browseNextResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (BrowseResult v : _results) {
+                BrowseResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = browseNextResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static BrowseNextResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        BrowseResult[] _results = new BrowseResult[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = BrowseResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new BrowseNextResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(BrowseNextResponse browseNextResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = browseNextResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        BrowseResult[] _results = browseNextResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            for (BrowseResult v : _results) {
+                size += BrowseResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = browseNextResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(BrowseNextResponseBinaryCodec::encode, BrowseNextResponse.class);
+        DelegateRegistry.registerBinaryDecoder(BrowseNextResponseBinaryCodec::decode, BrowseNextResponse.class, BrowseNextResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(BrowseNextResponseBinaryCodec::sizeOf, BrowseNextResponse.class);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowsePath;
+import com.inductiveautomation.opcua.stack.core.types.structured.RelativePath;
+
+public final class BrowsePathBinaryCodec {
+
+    private BrowsePathBinaryCodec() {}
+
+    public static void encode(BrowsePath browsePath, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, browsePath.getStartingNode());
+        RelativePath _relativePath = browsePath.getRelativePath();
+        RelativePathBinaryCodec.encode(_relativePath != null ? _relativePath : new RelativePath(), encoder);
+    }
+
+    public static BrowsePath decode(BinaryDecoder decoder) {
+        NodeId _startingNode = decoder.decodeNodeId(null);
+        RelativePath _relativePath = RelativePathBinaryCodec.decode(decoder);
+
+        return new BrowsePath(_startingNode, _relativePath);
+    }
+
+    public static int sizeOf(BrowsePath browsePath) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(browsePath.getStartingNode());
+        RelativePath _relativePath = browsePath.getRelativePath();
+        size += RelativePathBinaryCodec.sizeOf(_relativePath != null ? _relativePath : new RelativePath());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(BrowsePathBinaryCodec::encode, BrowsePath.class);
+        DelegateRegistry.registerBinaryDecoder(BrowsePathBinaryCodec::decode, BrowsePath.class, BrowsePath.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(BrowsePathBinaryCodec::sizeOf, BrowsePath.class);
+    }
+
+}
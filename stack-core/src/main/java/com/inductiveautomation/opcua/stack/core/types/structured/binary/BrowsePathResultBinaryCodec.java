@@ -0,0 +1,53 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowsePathResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowsePathTarget;
+
+public final class BrowsePathResultBinaryCodec {
+
+    private BrowsePathResultBinaryCodec() {}
+
+    public static void encode(BrowsePathResult browsePathResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, browsePathResult.getStatusCode());
+        BrowsePathTarget[] _targets = browsePathResult.getTargets();
+        if (encoder.writeArrayLength(_targets)) {
+            for (BrowsePathTarget v : _targets) {
+                BrowsePathTargetBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static BrowsePathResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        BrowsePathTarget[] _targets = new BrowsePathTarget[decoder.readArrayLength()];
+        for (int i = 0; i < _targets.length; i++) {
+            _targets[i] = BrowsePathTargetBinaryCodec.decode(decoder);
+        }
+
+        return new BrowsePathResult(_statusCode, _targets);
+    }
+
+    public static int sizeOf(BrowsePathResult browsePathResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        BrowsePathTarget[] _targets = browsePathResult.getTargets();
+        size += 4;
+        if (_targets != null) {
+            for (BrowsePathTarget v : _targets) {
+                size += BrowsePathTargetBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(BrowsePathResultBinaryCodec::encode, BrowsePathResult.class);
+        DelegateRegistry.registerBinaryDecoder(BrowsePathResultBinaryCodec::decode, BrowsePathResult.class, BrowsePathResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(BrowsePathResultBinaryCodec::sizeOf, BrowsePathResult.class);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowsePathTarget;
+
+public final class BrowsePathTargetBinaryCodec {
+
+    private BrowsePathTargetBinaryCodec() {}
+
+    public static void encode(BrowsePathTarget browsePathTarget, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId(null, browsePathTarget.getTargetId());
+        encoder.encodeUInt32(null, browsePathTarget.getRemainingPathIndex());
+    }
+
+    public static BrowsePathTarget decode(BinaryDecoder decoder) {
+        ExpandedNodeId _targetId = decoder.decodeExpandedNodeId(null);
+        UInteger _remainingPathIndex = decoder.decodeUInt32(null);
+
+        return new BrowsePathTarget(_targetId, _remainingPathIndex);
+    }
+
+    public static int sizeOf(BrowsePathTarget browsePathTarget) {
+        int size = 0;
+        size += BinarySize.sizeOfExpandedNodeId(browsePathTarget.getTargetId());
+        size += 4; // RemainingPathIndex
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(BrowsePathTargetBinaryCodec::encode, BrowsePathTarget.class);
+        DelegateRegistry.registerBinaryDecoder(BrowsePathTargetBinaryCodec::decode, BrowsePathTarget.class, BrowsePathTarget.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(BrowsePathTargetBinaryCodec::sizeOf, BrowsePathTarget.class);
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowseDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowseRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.ViewDescription;
+
+public final class BrowseRequestBinaryCodec {
+
+    private BrowseRequestBinaryCodec() {}
+
+    public static void encode(BrowseRequest browseRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = browseRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        ViewDescription _view = browseRequest.getView();
+        ViewDescriptionBinaryCodec.encode(_view != null ? _view : new ViewDescription(), encoder);
+        encoder.encodeUInt32(null, browseRequest.getRequestedMaxReferencesPerNode());
+        BrowseDescription[] _nodesToBrowse = browseRequest.getNodesToBrowse();
+        if (encoder.writeArrayLength(_nodesToBrowse)) {
+            for (BrowseDescription v : _nodesToBrowse) {
+                BrowseDescriptionBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static BrowseRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        ViewDescription _view = ViewDescriptionBinaryCodec.decode(decoder);
+        UInteger _requestedMaxReferencesPerNode = decoder.decodeUInt32(null);
+        BrowseDescription[] _nodesToBrowse = new BrowseDescription[decoder.readArrayLength()];
+        for (int i = 0; i < _nodesToBrowse.length; i++) {
+            _nodesToBrowse[i] = BrowseDescriptionBinaryCodec.decode(decoder);
+        }
+
+        return new BrowseRequest(_requestHeader, _view, _requestedMaxReferencesPerNode, _nodesToBrowse);
+    }
+
+    public static int sizeOf(BrowseRequest browseRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = browseRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        ViewDescription _view = browseRequest.getView();
+        size += ViewDescriptionBinaryCodec.sizeOf(_view != null ? _view : new ViewDescription());
+        size += 4; // RequestedMaxReferencesPerNode
+        BrowseDescription[] _nodesToBrowse = browseRequest.getNodesToBrowse();
+        size += 4;
+        if (_nodesToBrowse != null) {
+            for (BrowseDescription v : _nodesToBrowse) {
+                size += BrowseDescriptionBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(BrowseRequestBinaryCodec::encode, BrowseRequest.class);
+        DelegateRegistry.registerBinaryDecoder(BrowseRequestBinaryCodec::decode, BrowseRequest.class, BrowseRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(BrowseRequestBinaryCodec::sizeOf, BrowseRequest.class);
+    }
+
+}
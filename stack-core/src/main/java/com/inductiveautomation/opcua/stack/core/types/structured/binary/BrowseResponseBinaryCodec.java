@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowseResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowseResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class BrowseResponseBinaryCodec {
+
+    private BrowseResponseBinaryCodec() {}
+
+    public static void encode(BrowseResponse browseResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = browseResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        BrowseResult[] _results = browseResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (BrowseResult v : _results) {
+                BrowseResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = browseResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static BrowseResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        BrowseResult[] _results = new BrowseResult[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = BrowseResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new BrowseResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(BrowseResponse browseResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = browseResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        BrowseResult[] _results = browseResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            for (BrowseResult v : _results) {
+                size += BrowseResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = browseResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(BrowseResponseBinaryCodec::encode, BrowseResponse.class);
+        DelegateRegistry.registerBinaryDecoder(BrowseResponseBinaryCodec::decode, BrowseResponse.class, BrowseResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(BrowseResponseBinaryCodec::sizeOf, BrowseResponse.class);
+    }
+
+}
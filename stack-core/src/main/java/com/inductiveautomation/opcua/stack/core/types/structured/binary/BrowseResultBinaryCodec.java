@@ -0,0 +1,58 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowseResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceDescription;
+
+public final class BrowseResultBinaryCodec {
+
+    private BrowseResultBinaryCodec() {}
+
+    public static void encode(BrowseResult browseResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, browseResult.getStatusCode());
+        encoder.encodeByteString(null, browseResult.getContinuationPoint());
+        ReferenceDescription[] _references = browseResult.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceDescription v : _references) {
+                ReferenceDescriptionBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static BrowseResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        ByteString _continuationPoint = decoder.decodeByteString(null);
+        ReferenceDescription[] _references = new ReferenceDescription[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceDescriptionBinaryCodec.decode(decoder);
+        }
+
+        return new BrowseResult(_statusCode, _continuationPoint, _references);
+    }
+
+    public static int sizeOf(BrowseResult browseResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        size += BinarySize.sizeOfByteString(browseResult.getContinuationPoint());
+        ReferenceDescription[] _references = browseResult.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceDescription v : _references) {
+                size += ReferenceDescriptionBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(BrowseResultBinaryCodec::encode, BrowseResult.class);
+        DelegateRegistry.registerBinaryDecoder(BrowseResultBinaryCodec::decode, BrowseResult.class, BrowseResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(BrowseResultBinaryCodec::sizeOf, BrowseResult.class);
+    }
+
+}
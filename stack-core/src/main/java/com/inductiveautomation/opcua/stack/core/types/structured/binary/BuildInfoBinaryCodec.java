@@ -0,0 +1,51 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.structured.BuildInfo;
+
+public final class BuildInfoBinaryCodec {
+
+    private BuildInfoBinaryCodec() {}
+
+    public static void encode(BuildInfo buildInfo, BinaryEncoder encoder) {
+        encoder.encodeString(null, buildInfo.getProductUri());
+        encoder.encodeString(null, buildInfo.getManufacturerName());
+        encoder.encodeString(null, buildInfo.getProductName());
+        encoder.encodeString(null, buildInfo.getSoftwareVersion());
+        encoder.encodeString(null, buildInfo.getBuildNumber());
+        encoder.encodeDateTime(null, buildInfo.getBuildDate());
+    }
+
+    public static BuildInfo decode(BinaryDecoder decoder) {
+        String _productUri = decoder.decodeString(null);
+        String _manufacturerName = decoder.decodeString(null);
+        String _productName = decoder.decodeString(null);
+        String _softwareVersion = decoder.decodeString(null);
+        String _buildNumber = decoder.decodeString(null);
+        DateTime _buildDate = decoder.decodeDateTime(null);
+
+        return new BuildInfo(_productUri, _manufacturerName, _productName, _softwareVersion, _buildNumber, _buildDate);
+    }
+
+    public static int sizeOf(BuildInfo buildInfo) {
+        int size = 0;
+        size += BinarySize.sizeOfString(buildInfo.getProductUri());
+        size += BinarySize.sizeOfString(buildInfo.getManufacturerName());
+        size += BinarySize.sizeOfString(buildInfo.getProductName());
+        size += BinarySize.sizeOfString(buildInfo.getSoftwareVersion());
+        size += BinarySize.sizeOfString(buildInfo.getBuildNumber());
+        size += 8; // BuildDate
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(BuildInfoBinaryCodec::encode, BuildInfo.class);
+        DelegateRegistry.registerBinaryDecoder(BuildInfoBinaryCodec::decode, BuildInfo.class, BuildInfo.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(BuildInfoBinaryCodec::sizeOf, BuildInfo.class);
+    }
+
+}
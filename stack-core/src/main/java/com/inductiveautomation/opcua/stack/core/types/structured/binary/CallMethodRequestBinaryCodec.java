@@ -0,0 +1,57 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.structured.CallMethodRequest;
+
+public final class CallMethodRequestBinaryCodec {
+
+    private CallMethodRequestBinaryCodec() {}
+
+    public static void encode(CallMethodRequest callMethodRequest, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, callMethodRequest.getObjectId());
+        encoder.encodeNodeId(null, callMethodRequest.getMethodId());
+        Variant[] _inputArguments = callMethodRequest.getInputArguments();
+        if (encoder.writeArrayLength(_inputArguments)) {
+            for (Variant v : _inputArguments) {
+                encoder.encodeVariant(null, v);
+            }
+        }
+    }
+
+    public static CallMethodRequest decode(BinaryDecoder decoder) {
+        NodeId _objectId = decoder.decodeNodeId(null);
+        NodeId _methodId = decoder.decodeNodeId(null);
+        Variant[] _inputArguments = new Variant[decoder.readArrayLength()];
+        for (int i = 0; i < _inputArguments.length; i++) {
+            _inputArguments[i] = decoder.decodeVariant(null);
+        }
+
+        return new CallMethodRequest(_objectId, _methodId, _inputArguments);
+    }
+
+    public static int sizeOf(CallMethodRequest callMethodRequest) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(callMethodRequest.getObjectId());
+        size += BinarySize.sizeOfNodeId(callMethodRequest.getMethodId());
+        Variant[] _inputArguments = callMethodRequest.getInputArguments();
+        size += 4;
+        if (_inputArguments != null) {
+            for (Variant v : _inputArguments) {
+                size += BinarySize.sizeOfVariant(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CallMethodRequestBinaryCodec::encode, CallMethodRequest.class);
+        DelegateRegistry.registerBinaryDecoder(CallMethodRequestBinaryCodec::decode, CallMethodRequest.class, CallMethodRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CallMethodRequestBinaryCodec::sizeOf, CallMethodRequest.class);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.structured.CallMethodResult;
+
+public final class CallMethodResultBinaryCodec {
+
+    private CallMethodResultBinaryCodec() {}
+
+    public static void encode(CallMethodResult callMethodResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, callMethodResult.getStatusCode());
+        StatusCode[] _inputArgumentResults = callMethodResult.getInputArgumentResults();
+        if (encoder.writeArrayLength(_inputArgumentResults)) {
+            for (StatusCode v : _inputArgumentResults) {
+                encoder.encodeStatusCode(null, v);
+            }
+        }
+        DiagnosticInfo[] _inputArgumentDiagnosticInfos = callMethodResult.getInputArgumentDiagnosticInfos();
+        if (encoder.writeArrayLength(_inputArgumentDiagnosticInfos)) {
+            for (DiagnosticInfo v : _inputArgumentDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+        Variant[] _outputArguments = callMethodResult.getOutputArguments();
+        if (encoder.writeArrayLength(_outputArguments)) {
+            for (Variant v : _outputArguments) {
+                encoder.encodeVariant(null, v);
+            }
+        }
+    }
+
+    public static CallMethodResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        StatusCode[] _inputArgumentResults = new StatusCode[decoder.readArrayLength()];
+        for (int i = 0; i < _inputArgumentResults.length; i++) {
+            _inputArgumentResults[i] = decoder.decodeStatusCode(null);
+        }
+        DiagnosticInfo[] _inputArgumentDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _inputArgumentDiagnosticInfos.length; i++) {
+            _inputArgumentDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+        Variant[] _outputArguments = new Variant[decoder.readArrayLength()];
+        for (int i = 0; i < _outputArguments.length; i++) {
+            _outputArguments[i] = decoder.decodeVariant(null);
+        }
+
+        return new CallMethodResult(_statusCode, _inputArgumentResults, _inputArgumentDiagnosticInfos, _outputArguments);
+    }
+
+    public static int sizeOf(CallMethodResult callMethodResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        StatusCode[] _inputArgumentResults = callMethodResult.getInputArgumentResults();
+        size += 4;
+        if (_inputArgumentResults != null) {
+            size += _inputArgumentResults.length * 4;
+        }
+        DiagnosticInfo[] _inputArgumentDiagnosticInfos = callMethodResult.getInputArgumentDiagnosticInfos();
+        size += 4;
+        if (_inputArgumentDiagnosticInfos != null) {
+            for (DiagnosticInfo v : _inputArgumentDiagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        Variant[] _outputArguments = callMethodResult.getOutputArguments();
+        size += 4;
+        if (_outputArguments != null) {
+            for (Variant v : _outputArguments) {
+                size += BinarySize.sizeOfVariant(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CallMethodResultBinaryCodec::encode, CallMethodResult.class);
+        DelegateRegistry.registerBinaryDecoder(CallMethodResultBinaryCodec::decode, CallMethodResult.class, CallMethodResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CallMethodResultBinaryCodec::sizeOf, CallMethodResult.class);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.CallMethodRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.CallRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class CallRequestBinaryCodec {
+
+    private CallRequestBinaryCodec() {}
+
+    public static void encode(CallRequest callRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = callRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        CallMethodRequest[] _methodsToCall = callRequest.getMethodsToCall();
+        if (encoder.writeArrayLength(_methodsToCall)) {
+            for (CallMethodRequest v : _methodsToCall) {
+                CallMethodRequestBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static CallRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        CallMethodRequest[] _methodsToCall = new CallMethodRequest[decoder.readArrayLength()];
+        for (int i = 0; i < _methodsToCall.length; i++) {
+            _methodsToCall[i] = CallMethodRequestBinaryCodec.decode(decoder);
+        }
+
+        return new CallRequest(_requestHeader, _methodsToCall);
+    }
+
+    public static int sizeOf(CallRequest callRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = callRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        CallMethodRequest[] _methodsToCall = callRequest.getMethodsToCall();
+        size += 4;
+        if (_methodsToCall != null) {
+            for (CallMethodRequest v : _methodsToCall) {
+                size += CallMethodRequestBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CallRequestBinaryCodec::encode, CallRequest.class);
+        DelegateRegistry.registerBinaryDecoder(CallRequestBinaryCodec::decode, CallRequest.class, CallRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CallRequestBinaryCodec::sizeOf, CallRequest.class);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.CallMethodResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.CallResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class CallResponseBinaryCodec {
+
+    private CallResponseBinaryCodec() {}
+
+    public static void encode(CallResponse callResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = callResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        CallMethodResult[] _results = callResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (CallMethodResult v : _results) {
+                CallMethodResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = callResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static CallResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        CallMethodResult[] _results = new CallMethodResult[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = CallMethodResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new CallResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(CallResponse callResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = callResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        CallMethodResult[] _results = callResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            for (CallMethodResult v : _results) {
+                size += CallMethodResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = callResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CallResponseBinaryCodec::encode, CallResponse.class);
+        DelegateRegistry.registerBinaryDecoder(CallResponseBinaryCodec::decode, CallResponse.class, CallResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CallResponseBinaryCodec::sizeOf, CallResponse.class);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.CancelRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class CancelRequestBinaryCodec {
+
+    private CancelRequestBinaryCodec() {}
+
+    public static void encode(CancelRequest cancelRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = cancelRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32(null, cancelRequest.getRequestHandle());
+    }
+
+    public static CancelRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _requestHandle = decoder.decodeUInt32(null);
+
+        return new CancelRequest(_requestHeader, _requestHandle);
+    }
+
+    public static int sizeOf(CancelRequest cancelRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = cancelRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 4; // RequestHandle
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CancelRequestBinaryCodec::encode, CancelRequest.class);
+        DelegateRegistry.registerBinaryDecoder(CancelRequestBinaryCodec::decode, CancelRequest.class, CancelRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CancelRequestBinaryCodec::sizeOf, CancelRequest.class);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.CancelResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class CancelResponseBinaryCodec {
+
+    private CancelResponseBinaryCodec() {}
+
+    public static void encode(CancelResponse cancelResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = cancelResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeUInt32(null, cancelResponse.getCancelCount());
+    }
+
+    public static CancelResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        UInteger _cancelCount = decoder.decodeUInt32(null);
+
+        return new CancelResponse(_responseHeader, _cancelCount);
+    }
+
+    public static int sizeOf(CancelResponse cancelResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = cancelResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        size += 4; // CancelCount
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CancelResponseBinaryCodec::encode, CancelResponse.class);
+        DelegateRegistry.registerBinaryDecoder(CancelResponseBinaryCodec::decode, CancelResponse.class, CancelResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CancelResponseBinaryCodec::sizeOf, CancelResponse.class);
+    }
+
+}
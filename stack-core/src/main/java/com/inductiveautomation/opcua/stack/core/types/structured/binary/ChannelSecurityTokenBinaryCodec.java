@@ -0,0 +1,45 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ChannelSecurityToken;
+
+public final class ChannelSecurityTokenBinaryCodec {
+
+    private ChannelSecurityTokenBinaryCodec() {}
+
+    public static void encode(ChannelSecurityToken channelSecurityToken, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, channelSecurityToken.getChannelId());
+        encoder.encodeUInt32(null, channelSecurityToken.getTokenId());
+        encoder.encodeDateTime(null, channelSecurityToken.getCreatedAt());
+        encoder.encodeUInt32(null, channelSecurityToken.getRevisedLifetime());
+    }
+
+    public static ChannelSecurityToken decode(BinaryDecoder decoder) {
+        UInteger _channelId = decoder.decodeUInt32(null);
+        UInteger _tokenId = decoder.decodeUInt32(null);
+        DateTime _createdAt = decoder.decodeDateTime(null);
+        UInteger _revisedLifetime = decoder.decodeUInt32(null);
+
+        return new ChannelSecurityToken(_channelId, _tokenId, _createdAt, _revisedLifetime);
+    }
+
+    public static int sizeOf(ChannelSecurityToken channelSecurityToken) {
+        int size = 0;
+        size += 4; // ChannelId
+        size += 4; // TokenId
+        size += 8; // CreatedAt
+        size += 4; // RevisedLifetime
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ChannelSecurityTokenBinaryCodec::encode, ChannelSecurityToken.class);
+        DelegateRegistry.registerBinaryDecoder(ChannelSecurityTokenBinaryCodec::decode, ChannelSecurityToken.class, ChannelSecurityToken.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ChannelSecurityTokenBinaryCodec::sizeOf, ChannelSecurityToken.class);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.CloseSecureChannelRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class CloseSecureChannelRequestBinaryCodec {
+
+    private CloseSecureChannelRequestBinaryCodec() {}
+
+    public static void encode(CloseSecureChannelRequest closeSecureChannelRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = closeSecureChannelRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+    }
+
+    public static CloseSecureChannelRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+
+        return new CloseSecureChannelRequest(_requestHeader);
+    }
+
+    public static int sizeOf(CloseSecureChannelRequest closeSecureChannelRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = closeSecureChannelRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CloseSecureChannelRequestBinaryCodec::encode, CloseSecureChannelRequest.class);
+        DelegateRegistry.registerBinaryDecoder(CloseSecureChannelRequestBinaryCodec::decode, CloseSecureChannelRequest.class, CloseSecureChannelRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CloseSecureChannelRequestBinaryCodec::sizeOf, CloseSecureChannelRequest.class);
+    }
+
+}
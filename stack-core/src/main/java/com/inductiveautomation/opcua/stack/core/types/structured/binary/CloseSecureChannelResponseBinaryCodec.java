@@ -0,0 +1,37 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.CloseSecureChannelResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class CloseSecureChannelResponseBinaryCodec {
+
+    private CloseSecureChannelResponseBinaryCodec() {}
+
+    public static void encode(CloseSecureChannelResponse closeSecureChannelResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = closeSecureChannelResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+    }
+
+    public static CloseSecureChannelResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+
+        return new CloseSecureChannelResponse(_responseHeader);
+    }
+
+    public static int sizeOf(CloseSecureChannelResponse closeSecureChannelResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = closeSecureChannelResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CloseSecureChannelResponseBinaryCodec::encode, CloseSecureChannelResponse.class);
+        DelegateRegistry.registerBinaryDecoder(CloseSecureChannelResponseBinaryCodec::decode, CloseSecureChannelResponse.class, CloseSecureChannelResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CloseSecureChannelResponseBinaryCodec::sizeOf, CloseSecureChannelResponse.class);
+    }
+
+}
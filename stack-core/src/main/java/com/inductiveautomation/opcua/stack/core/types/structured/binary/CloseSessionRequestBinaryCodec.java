@@ -0,0 +1,40 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.CloseSessionRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class CloseSessionRequestBinaryCodec {
+
+    private CloseSessionRequestBinaryCodec() {}
+
+    public static void encode(CloseSessionRequest closeSessionRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = closeSessionRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeBoolean(null, closeSessionRequest.getDeleteSubscriptions());
+    }
+
+    public static CloseSessionRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Boolean _deleteSubscriptions = decoder.decodeBoolean(null);
+
+        return new CloseSessionRequest(_requestHeader, _deleteSubscriptions);
+    }
+
+    public static int sizeOf(CloseSessionRequest closeSessionRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = closeSessionRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 1; // DeleteSubscriptions
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CloseSessionRequestBinaryCodec::encode, CloseSessionRequest.class);
+        DelegateRegistry.registerBinaryDecoder(CloseSessionRequestBinaryCodec::decode, CloseSessionRequest.class, CloseSessionRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CloseSessionRequestBinaryCodec::sizeOf, CloseSessionRequest.class);
+    }
+
+}
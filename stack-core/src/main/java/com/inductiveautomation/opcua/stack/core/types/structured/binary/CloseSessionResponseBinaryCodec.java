@@ -0,0 +1,37 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.CloseSessionResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class CloseSessionResponseBinaryCodec {
+
+    private CloseSessionResponseBinaryCodec() {}
+
+    public static void encode(CloseSessionResponse closeSessionResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = closeSessionResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+    }
+
+    public static CloseSessionResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+
+        return new CloseSessionResponse(_responseHeader);
+    }
+
+    public static int sizeOf(CloseSessionResponse closeSessionResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = closeSessionResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CloseSessionResponseBinaryCodec::encode, CloseSessionResponse.class);
+        DelegateRegistry.registerBinaryDecoder(CloseSessionResponseBinaryCodec::decode, CloseSessionResponse.class, CloseSessionResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CloseSessionResponseBinaryCodec::sizeOf, CloseSessionResponse.class);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.ComplexNumberType;
+
+public final class ComplexNumberTypeBinaryCodec {
+
+    private ComplexNumberTypeBinaryCodec() {}
+
+    public static void encode(ComplexNumberType complexNumberType, BinaryEncoder encoder) {
+        encoder.encodeFloat(null, complexNumberType.getReal());
+        encoder.encodeFloat(null, complexNumberType.getImaginary());
+    }
+
+    public static ComplexNumberType decode(BinaryDecoder decoder) {
+        Float _real = decoder.decodeFloat(null);
+        Float _imaginary = decoder.decodeFloat(null);
+
+        return new ComplexNumberType(_real, _imaginary);
+    }
+
+    public static int sizeOf(ComplexNumberType complexNumberType) {
+        int size = 0;
+        size += 4; // Real
+        size += 4; // Imaginary
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ComplexNumberTypeBinaryCodec::encode, ComplexNumberType.class);
+        DelegateRegistry.registerBinaryDecoder(ComplexNumberTypeBinaryCodec::decode, ComplexNumberType.class, ComplexNumberType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ComplexNumberTypeBinaryCodec::sizeOf, ComplexNumberType.class);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.ArrayTestType;
+import com.inductiveautomation.opcua.stack.core.types.structured.CompositeTestType;
+import com.inductiveautomation.opcua.stack.core.types.structured.ScalarTestType;
+
+public final class CompositeTestTypeBinaryCodec {
+
+    private CompositeTestTypeBinaryCodec() {}
+
+    public static void encode(CompositeTestType compositeTestType, BinaryEncoder encoder) {
+        ScalarTestType _field1 = compositeTestType.getField1();
+        ScalarTestTypeBinaryCodec.encode(_field1 != null ? _field1 : new ScalarTestType(), encoder);
+        ArrayTestType _field2 = compositeTestType.getField2();
+        ArrayTestTypeBinaryCodec.encode(_field2 != null ? _field2 : new ArrayTestType(), encoder);
+    }
+
+    public static CompositeTestType decode(BinaryDecoder decoder) {
+        ScalarTestType _field1 = ScalarTestTypeBinaryCodec.decode(decoder);
+        ArrayTestType _field2 = ArrayTestTypeBinaryCodec.decode(decoder);
+
+        return new CompositeTestType(_field1, _field2);
+    }
+
+    public static int sizeOf(CompositeTestType compositeTestType) {
+        int size = 0;
+        ScalarTestType _field1 = compositeTestType.getField1();
+        size += ScalarTestTypeBinaryCodec.sizeOf(_field1 != null ? _field1 : new ScalarTestType());
+        ArrayTestType _field2 = compositeTestType.getField2();
+        size += ArrayTestTypeBinaryCodec.sizeOf(_field2 != null ? _field2 : new ArrayTestType());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CompositeTestTypeBinaryCodec::encode, CompositeTestType.class);
+        DelegateRegistry.registerBinaryDecoder(CompositeTestTypeBinaryCodec::decode, CompositeTestType.class, CompositeTestType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CompositeTestTypeBinaryCodec::sizeOf, CompositeTestType.class);
+    }
+
+}
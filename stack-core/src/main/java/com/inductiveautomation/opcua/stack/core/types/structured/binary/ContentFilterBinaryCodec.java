@@ -0,0 +1,49 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilterElement;
+
+public final class ContentFilterBinaryCodec {
+
+    private ContentFilterBinaryCodec() {}
+
+    public static void encode(ContentFilter contentFilter, BinaryEncoder encoder) {
+        ContentFilterElement[] _elements = contentFilter.getElements();
+        if (encoder.writeArrayLength(_elements)) {
+            for (ContentFilterElement v : _elements) {
+                ContentFilterElementBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static ContentFilter decode(BinaryDecoder decoder) {
+        ContentFilterElement[] _elements = new ContentFilterElement[decoder.readArrayLength()];
+        for (int i = 0; i < _elements.length; i++) {
+            _elements[i] = ContentFilterElementBinaryCodec.decode(decoder);
+        }
+
+        return new ContentFilter(_elements);
+    }
+
+    public static int sizeOf(ContentFilter contentFilter) {
+        int size = 0;
+        ContentFilterElement[] _elements = contentFilter.getElements();
+        size += 4;
+        if (_elements != null) {
+            for (ContentFilterElement v : _elements) {
+                size += ContentFilterElementBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ContentFilterBinaryCodec::encode, ContentFilter.class);
+        DelegateRegistry.registerBinaryDecoder(ContentFilterBinaryCodec::decode, ContentFilter.class, ContentFilter.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ContentFilterBinaryCodec::sizeOf, ContentFilter.class);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.FilterOperator;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilterElement;
+
+public final class ContentFilterElementBinaryCodec {
+
+    private ContentFilterElementBinaryCodec() {}
+
+    public static void encode(ContentFilterElement contentFilterElement, BinaryEncoder encoder) {
+        FilterOperator _filterOperator = contentFilterElement.getFilterOperator();
+        encoder.writeInt32(null, _filterOperator != null ? _filterOperator.getValue() : -1);
+        ExtensionObject[] _filterOperands = contentFilterElement.getFilterOperands();
+        if (encoder.writeArrayLength(_filterOperands)) {
+            for (ExtensionObject v : _filterOperands) {
+                encoder.encodeExtensionObject(null, v);
+            }
+        }
+    }
+
+    public static ContentFilterElement decode(BinaryDecoder decoder) {
+        FilterOperator _filterOperator = FilterOperator.from(decoder.readInt32(null));
+        ExtensionObject[] _filterOperands = new ExtensionObject[decoder.readArrayLength()];
+        for (int i = 0; i < _filterOperands.length; i++) {
+            _filterOperands[i] = decoder.decodeExtensionObject(null);
+        }
+
+        return new ContentFilterElement(_filterOperator, _filterOperands);
+    }
+
+    public static int sizeOf(ContentFilterElement contentFilterElement) {
+        int size = 0;
+        size += 4; // FilterOperator
+        ExtensionObject[] _filterOperands = contentFilterElement.getFilterOperands();
+        size += 4;
+        if (_filterOperands != null) {
+            for (ExtensionObject v : _filterOperands) {
+                size += BinarySize.sizeOfExtensionObject(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ContentFilterElementBinaryCodec::encode, ContentFilterElement.class);
+        DelegateRegistry.registerBinaryDecoder(ContentFilterElementBinaryCodec::decode, ContentFilterElement.class, ContentFilterElement.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ContentFilterElementBinaryCodec::sizeOf, ContentFilterElement.class);
+    }
+
+}
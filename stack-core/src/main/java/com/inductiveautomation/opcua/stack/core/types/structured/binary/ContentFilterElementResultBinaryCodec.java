@@ -0,0 +1,69 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilterElementResult;
+
+public final class ContentFilterElementResultBinaryCodec {
+
+    private ContentFilterElementResultBinaryCodec() {}
+
+    public static void encode(ContentFilterElementResult contentFilterElementResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, contentFilterElementResult.getStatusCode());
+        StatusCode[] _operandStatusCodes = contentFilterElementResult.getOperandStatusCodes();
+        if (encoder.writeArrayLength(_operandStatusCodes)) {
+            for (StatusCode v : _operandStatusCodes) {
+                encoder.encodeStatusCode(null, v);
+            }
+        }
+        DiagnosticInfo[] _operandDiagnosticInfos = contentFilterElementResult.getOperandDiagnosticInfos();
+        if (encoder.writeArrayLength(_operandDiagnosticInfos)) {
+            for (DiagnosticInfo v : _operandDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static ContentFilterElementResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        StatusCode[] _operandStatusCodes = new StatusCode[decoder.readArrayLength()];
+        for (int i = 0; i < _operandStatusCodes.length; i++) {
+            _operandStatusCodes[i] = decoder.decodeStatusCode(null);
+        }
+        DiagnosticInfo[] _operandDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _operandDiagnosticInfos.length; i++) {
+            _operandDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new ContentFilterElementResult(_statusCode, _operandStatusCodes, _operandDiagnosticInfos);
+    }
+
+    public static int sizeOf(ContentFilterElementResult contentFilterElementResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        StatusCode[] _operandStatusCodes = contentFilterElementResult.getOperandStatusCodes();
+        size += 4;
+        if (_operandStatusCodes != null) {
+            size += _operandStatusCodes.length * 4;
+        }
+        DiagnosticInfo[] _operandDiagnosticInfos = contentFilterElementResult.getOperandDiagnosticInfos();
+        size += 4;
+        if (_operandDiagnosticInfos != null) {
+            for (DiagnosticInfo v : _operandDiagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ContentFilterElementResultBinaryCodec::encode, ContentFilterElementResult.class);
+        DelegateRegistry.registerBinaryDecoder(ContentFilterElementResultBinaryCodec::decode, ContentFilterElementResult.class, ContentFilterElementResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ContentFilterElementResultBinaryCodec::sizeOf, ContentFilterElementResult.class);
+    }
+
+}
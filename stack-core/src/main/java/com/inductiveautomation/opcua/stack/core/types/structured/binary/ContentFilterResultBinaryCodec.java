@@ -0,0 +1,68 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilterElementResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilterResult;
+
+public final class ContentFilterResultBinaryCodec {
+
+    private ContentFilterResultBinaryCodec() {}
+
+    public static void encode(ContentFilterResult contentFilterResult, BinaryEncoder encoder) {
+        ContentFilterElementResult[] _elementResults = contentFilterResult.getElementResults();
+        if (encoder.writeArrayLength(_elementResults)) {
+            for (ContentFilterElementResult v : _elementResults) {
+                ContentFilterElementResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _elementDiagnosticInfos = contentFilterResult.getElementDiagnosticInfos();
+        if (encoder.writeArrayLength(_elementDiagnosticInfos)) {
+            for (DiagnosticInfo v : _elementDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static ContentFilterResult decode(BinaryDecoder decoder) {
+        ContentFilterElementResult[] _elementResults = new ContentFilterElementResult[decoder.readArrayLength()];
+        for (int i = 0; i < _elementResults.length; i++) {
+            _elementResults[i] = ContentFilterElementResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _elementDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _elementDiagnosticInfos.length; i++) {
+            _elementDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new ContentFilterResult(_elementResults, _elementDiagnosticInfos);
+    }
+
+    public static int sizeOf(ContentFilterResult contentFilterResult) {
+        int size = 0;
+        ContentFilterElementResult[] _elementResults = contentFilterResult.getElementResults();
+        size += 4;
+        if (_elementResults != null) {
+            for (ContentFilterElementResult v : _elementResults) {
+                size += ContentFilterElementResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _elementDiagnosticInfos = contentFilterResult.getElementDiagnosticInfos();
+        size += 4;
+        if (_elementDiagnosticInfos != null) {
+            for (DiagnosticInfo v : _elementDiagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ContentFilterResultBinaryCodec::encode, ContentFilterResult.class);
+        DelegateRegistry.registerBinaryDecoder(ContentFilterResultBinaryCodec::decode, ContentFilterResult.class, ContentFilterResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ContentFilterResultBinaryCodec::sizeOf, ContentFilterResult.class);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.inductiveautomation.opcua.stack.core.types.structured.CreateMonitoredItemsRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemCreateRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class CreateMonitoredItemsRequestBinaryCodec {
+
+    private CreateMonitoredItemsRequestBinaryCodec() {}
+
+    public static void encode(CreateMonitoredItemsRequest createMonitoredItemsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = createMonitoredItemsRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32(null, createMonitoredItemsRequest.getSubscriptionId());
+        TimestampsToReturn _timestampsToReturn = createMonitoredItemsRequest.getTimestampsToReturn();
+        encoder.writeInt32(null, _timestampsToReturn != null ? _timestampsToReturn.getValue() : -1);
+        MonitoredItemCreateRequest[] _itemsToCreate = createMonitoredItemsRequest.getItemsToCreate();
+        if (encoder.writeArrayLength(_itemsToCreate)) {
+            for (MonitoredItemCreateRequest v : _itemsToCreate) {
+                MonitoredItemCreateRequestBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static CreateMonitoredItemsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.from(decoder.readInt32(null));
+        MonitoredItemCreateRequest[] _itemsToCreate = new MonitoredItemCreateRequest[decoder.readArrayLength()];
+        for (int i = 0; i < _itemsToCreate.length; i++) {
+            _itemsToCreate[i] = MonitoredItemCreateRequestBinaryCodec.decode(decoder);
+        }
+
+        return new CreateMonitoredItemsRequest(_requestHeader, _subscriptionId, _timestampsToReturn, _itemsToCreate);
+    }
+
+    public static int sizeOf(CreateMonitoredItemsRequest createMonitoredItemsRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = createMonitoredItemsRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 4; // SubscriptionId
+        size += 4; // TimestampsToReturn
+        MonitoredItemCreateRequest[] _itemsToCreate = createMonitoredItemsRequest.getItemsToCreate();
+        size += 4;
+        if (_itemsToCreate != null) {
+            for (MonitoredItemCreateRequest v : _itemsToCreate) {
+                size += MonitoredItemCreateRequestBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CreateMonitoredItemsRequestBinaryCodec::encode, CreateMonitoredItemsRequest.class);
+        DelegateRegistry.registerBinaryDecoder(CreateMonitoredItemsRequestBinaryCodec::decode, CreateMonitoredItemsRequest.class, CreateMonitoredItemsRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CreateMonitoredItemsRequestBinaryCodec::sizeOf, CreateMonitoredItemsRequest.class);
+    }
+
+}
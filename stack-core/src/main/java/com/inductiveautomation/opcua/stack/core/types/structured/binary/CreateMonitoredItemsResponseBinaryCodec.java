@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.CreateMonitoredItemsResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemCreateResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class CreateMonitoredItemsResponseBinaryCodec {
+
+    private CreateMonitoredItemsResponseBinaryCodec() {}
+
+    public static void encode(CreateMonitoredItemsResponse createMonitoredItemsResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = createMonitoredItemsResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        MonitoredItemCreateResult[] _results = createMonitoredItemsResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (MonitoredItemCreateResult v : _results) {
+                MonitoredItemCreateResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = createMonitoredItemsResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static CreateMonitoredItemsResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        MonitoredItemCreateResult[] _results = new MonitoredItemCreateResult[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = MonitoredItemCreateResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new CreateMonitoredItemsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(CreateMonitoredItemsResponse createMonitoredItemsResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = createMonitoredItemsResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        MonitoredItemCreateResult[] _results = createMonitoredItemsResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            for (MonitoredItemCreateResult v : _results) {
+                size += MonitoredItemCreateResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = createMonitoredItemsResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CreateMonitoredItemsResponseBinaryCodec::encode, CreateMonitoredItemsResponse.class);
+        DelegateRegistry.registerBinaryDecoder(CreateMonitoredItemsResponseBinaryCodec::decode, CreateMonitoredItemsResponse.class, CreateMonitoredItemsResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CreateMonitoredItemsResponseBinaryCodec::sizeOf, CreateMonitoredItemsResponse.class);
+    }
+
+}
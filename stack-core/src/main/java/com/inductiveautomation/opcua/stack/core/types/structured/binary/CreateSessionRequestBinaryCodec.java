@@ -0,0 +1,67 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ApplicationDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.CreateSessionRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class CreateSessionRequestBinaryCodec {
+
+    private CreateSessionRequestBinaryCodec() {}
+
+    public static void encode(CreateSessionRequest createSessionRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = createSessionRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        ApplicationDescription _clientDescription = createSessionRequest.getClientDescription();
+        ApplicationDescriptionBinaryCodec.encode(_clientDescription != null ? _clientDescription : new ApplicationDescription(), encoder);
+        encoder.encodeString(null, createSessionRequest.getServerUri());
+        encoder.encodeString(null, createSessionRequest.getEndpointUrl());
+        encoder.encodeString(null, createSessionRequest.getSessionName());
+        encoder.encodeByteString(null, createSessionRequest.getClientNonce());
+        encoder.encodeByteString(null, createSessionRequest.getClientCertificate());
+        encoder.encodeDouble(null, createSessionRequest.getRequestedSessionTimeout());
+        encoder.encodeUInt32(null, createSessionRequest.getMaxResponseMessageSize());
+    }
+
+    public static CreateSessionRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        ApplicationDescription _clientDescription = ApplicationDescriptionBinaryCodec.decode(decoder);
+        String _serverUri = decoder.decodeString(null);
+        String _endpointUrl = decoder.decodeString(null);
+        String _sessionName = decoder.decodeString(null);
+        ByteString _clientNonce = decoder.decodeByteString(null);
+        ByteString _clientCertificate = decoder.decodeByteString(null);
+        Double _requestedSessionTimeout = decoder.decodeDouble(null);
+        UInteger _maxResponseMessageSize = decoder.decodeUInt32(null);
+
+        return new CreateSessionRequest(_requestHeader, _clientDescription, _serverUri, _endpointUrl, _sessionName, _clientNonce, _clientCertificate, _requestedSessionTimeout, _maxResponseMessageSize);
+    }
+
+    public static int sizeOf(CreateSessionRequest createSessionRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = createSessionRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        ApplicationDescription _clientDescription = createSessionRequest.getClientDescription();
+        size += ApplicationDescriptionBinaryCodec.sizeOf(_clientDescription != null ? _clientDescription : new ApplicationDescription());
+        size += BinarySize.sizeOfString(createSessionRequest.getServerUri());
+        size += BinarySize.sizeOfString(createSessionRequest.getEndpointUrl());
+        size += BinarySize.sizeOfString(createSessionRequest.getSessionName());
+        size += BinarySize.sizeOfByteString(createSessionRequest.getClientNonce());
+        size += BinarySize.sizeOfByteString(createSessionRequest.getClientCertificate());
+        size += 8; // RequestedSessionTimeout
+        size += 4; // MaxResponseMessageSize
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CreateSessionRequestBinaryCodec::encode, CreateSessionRequest.class);
+        DelegateRegistry.registerBinaryDecoder(CreateSessionRequestBinaryCodec::decode, CreateSessionRequest.class, CreateSessionRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CreateSessionRequestBinaryCodec::sizeOf, CreateSessionRequest.class);
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.CreateSessionResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.EndpointDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.SignatureData;
+import com.inductiveautomation.opcua.stack.core.types.structured.SignedSoftwareCertificate;
+
+public final class CreateSessionResponseBinaryCodec {
+
+    private CreateSessionResponseBinaryCodec() {}
+
+    public static void encode(CreateSessionResponse createSessionResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = createSessionResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeNodeId(null, createSessionResponse.getSessionId());
+        encoder.encodeNodeId(null, createSessionResponse.getAuthenticationToken());
+        encoder.encodeDouble(null, createSessionResponse.getRevisedSessionTimeout());
+        encoder.encodeByteString(null, createSessionResponse.getServerNonce());
+        encoder.encodeByteString(null, createSessionResponse.getServerCertificate());
+        EndpointDescription[] _serverEndpoints = createSessionResponse.getServerEndpoints();
+        if (encoder.writeArrayLength(_serverEndpoints)) {
+            for (EndpointDescription v : _serverEndpoints) {
+                EndpointDescriptionBinaryCodec.encode(v, encoder);
+            }
+        }
+        SignedSoftwareCertificate[] _serverSoftwareCertificates = createSessionResponse.getServerSoftwareCertificates();
+        if (encoder.writeArrayLength(_serverSoftwareCertificates)) {
+            for (SignedSoftwareCertificate v : _serverSoftwareCertificates) {
+                SignedSoftwareCertificateBinaryCodec.encode(v, encoder);
+            }
+        }
+        SignatureData _serverSignature = createSessionResponse.getServerSignature();
+        SignatureDataBinaryCodec.encode(_serverSignature != null ? _serverSignature : new SignatureData(), encoder);
+        encoder.encodeUInt32(null, createSessionResponse.getMaxRequestMessageSize());
+    }
+
+    public static CreateSessionResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        NodeId _sessionId = decoder.decodeNodeId(null);
+        NodeId _authenticationToken = decoder.decodeNodeId(null);
+        Double _revisedSessionTimeout = decoder.decodeDouble(null);
+        ByteString _serverNonce = decoder.decodeByteString(null);
+        ByteString _serverCertificate = decoder.decodeByteString(null);
+        EndpointDescription[] _serverEndpoints = new EndpointDescription[decoder.readArrayLength()];
+        for (int i = 0; i < _serverEndpoints.length; i++) {
+            _serverEndpoints[i] = EndpointDescriptionBinaryCodec.decode(decoder);
+        }
+        SignedSoftwareCertificate[] _serverSoftwareCertificates = new SignedSoftwareCertificate[decoder.readArrayLength()];
+        for (int i = 0; i < _serverSoftwareCertificates.length; i++) {
+            _serverSoftwareCertificates[i] = SignedSoftwareCertificateBinaryCodec.decode(decoder);
+        }
+        SignatureData _serverSignature = SignatureDataBinaryCodec.decode(decoder);
+        UInteger _maxRequestMessageSize = decoder.decodeUInt32(null);
+
+        return new CreateSessionResponse(_responseHeader, _sessionId, _authenticationToken, _revisedSessionTimeout, _serverNonce, _serverCertificate, _serverEndpoints, _serverSoftwareCertificates, _serverSignature, _maxRequestMessageSize);
+    }
+
+    public static int sizeOf(CreateSessionResponse createSessionResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = createSessionResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        size += BinarySize.sizeOfNodeId(createSessionResponse.getSessionId());
+        size += BinarySize.sizeOfNodeId(createSessionResponse.getAuthenticationToken());
+        size += 8; // RevisedSessionTimeout
+        size += BinarySize.sizeOfByteString(createSessionResponse.getServerNonce());
+        size += BinarySize.sizeOfByteString(createSessionResponse.getServerCertificate());
+        EndpointDescription[] _serverEndpoints = createSessionResponse.getServerEndpoints();
+        size += 4;
+        if (_serverEndpoints != null) {
+            for (EndpointDescription v : _serverEndpoints) {
+                size += EndpointDescriptionBinaryCodec.sizeOf(v);
+            }
+        }
+        SignedSoftwareCertificate[] _serverSoftwareCertificates = createSessionResponse.getServerSoftwareCertificates();
+        size += 4;
+        if (_serverSoftwareCertificates != null) {
+            for (SignedSoftwareCertificate v : _serverSoftwareCertificates) {
+                size += SignedSoftwareCertificateBinaryCodec.sizeOf(v);
+            }
+        }
+        SignatureData _serverSignature = createSessionResponse.getServerSignature();
+        size += SignatureDataBinaryCodec.sizeOf(_serverSignature != null ? _serverSignature : new SignatureData());
+        size += 4; // MaxRequestMessageSize
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CreateSessionResponseBinaryCodec::encode, CreateSessionResponse.class);
+        DelegateRegistry.registerBinaryDecoder(CreateSessionResponseBinaryCodec::decode, CreateSessionResponse.class, CreateSessionResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CreateSessionResponseBinaryCodec::sizeOf, CreateSessionResponse.class);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.CreateSubscriptionRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class CreateSubscriptionRequestBinaryCodec {
+
+    private CreateSubscriptionRequestBinaryCodec() {}
+
+    public static void encode(CreateSubscriptionRequest createSubscriptionRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = createSubscriptionRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeDouble(null, createSubscriptionRequest.getRequestedPublishingInterval());
+        encoder.encodeUInt32(null, createSubscriptionRequest.getRequestedLifetimeCount());
+        encoder.encodeUInt32(null, createSubscriptionRequest.getRequestedMaxKeepAliveCount());
+        encoder.encodeUInt32(null, createSubscriptionRequest.getMaxNotificationsPerPublish());
+        encoder.encodeBoolean(null, createSubscriptionRequest.getPublishingEnabled());
+        encoder.encodeByte(null, createSubscriptionRequest.getPriority());
+    }
+
+    public static CreateSubscriptionRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Double _requestedPublishingInterval = decoder.decodeDouble(null);
+        UInteger _requestedLifetimeCount = decoder.decodeUInt32(null);
+        UInteger _requestedMaxKeepAliveCount = decoder.decodeUInt32(null);
+        UInteger _maxNotificationsPerPublish = decoder.decodeUInt32(null);
+        Boolean _publishingEnabled = decoder.decodeBoolean(null);
+        UByte _priority = decoder.decodeByte(null);
+
+        return new CreateSubscriptionRequest(_requestHeader, _requestedPublishingInterval, _requestedLifetimeCount, _requestedMaxKeepAliveCount, _maxNotificationsPerPublish, _publishingEnabled, _priority);
+    }
+
+    public static int sizeOf(CreateSubscriptionRequest createSubscriptionRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = createSubscriptionRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 8; // RequestedPublishingInterval
+        size += 4; // RequestedLifetimeCount
+        size += 4; // RequestedMaxKeepAliveCount
+        size += 4; // MaxNotificationsPerPublish
+        size += 1; // PublishingEnabled
+        size += 1; // Priority
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CreateSubscriptionRequestBinaryCodec::encode, CreateSubscriptionRequest.class);
+        DelegateRegistry.registerBinaryDecoder(CreateSubscriptionRequestBinaryCodec::decode, CreateSubscriptionRequest.class, CreateSubscriptionRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CreateSubscriptionRequestBinaryCodec::sizeOf, CreateSubscriptionRequest.class);
+    }
+
+}
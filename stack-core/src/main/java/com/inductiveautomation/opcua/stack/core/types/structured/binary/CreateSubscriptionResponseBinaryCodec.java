@@ -0,0 +1,50 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.CreateSubscriptionResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class CreateSubscriptionResponseBinaryCodec {
+
+    private CreateSubscriptionResponseBinaryCodec() {}
+
+    public static void encode(CreateSubscriptionResponse createSubscriptionResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = createSubscriptionResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeUInt32(null, createSubscriptionResponse.getSubscriptionId());
+        encoder.encodeDouble(null, createSubscriptionResponse.getRevisedPublishingInterval());
+        encoder.encodeUInt32(null, createSubscriptionResponse.getRevisedLifetimeCount());
+        encoder.encodeUInt32(null, createSubscriptionResponse.getRevisedMaxKeepAliveCount());
+    }
+
+    public static CreateSubscriptionResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        Double _revisedPublishingInterval = decoder.decodeDouble(null);
+        UInteger _revisedLifetimeCount = decoder.decodeUInt32(null);
+        UInteger _revisedMaxKeepAliveCount = decoder.decodeUInt32(null);
+
+        return new CreateSubscriptionResponse(_responseHeader, _subscriptionId, _revisedPublishingInterval, _revisedLifetimeCount, _revisedMaxKeepAliveCount);
+    }
+
+    public static int sizeOf(CreateSubscriptionResponse createSubscriptionResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = createSubscriptionResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        size += 4; // SubscriptionId
+        size += 8; // RevisedPublishingInterval
+        size += 4; // RevisedLifetimeCount
+        size += 4; // RevisedMaxKeepAliveCount
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(CreateSubscriptionResponseBinaryCodec::encode, CreateSubscriptionResponse.class);
+        DelegateRegistry.registerBinaryDecoder(CreateSubscriptionResponseBinaryCodec::decode, CreateSubscriptionResponse.class, CreateSubscriptionResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(CreateSubscriptionResponseBinaryCodec::sizeOf, CreateSubscriptionResponse.class);
+    }
+
+}
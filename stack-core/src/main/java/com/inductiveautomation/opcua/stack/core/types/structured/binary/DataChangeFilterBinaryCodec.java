@@ -0,0 +1,43 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.DataChangeTrigger;
+import com.inductiveautomation.opcua.stack.core.types.structured.DataChangeFilter;
+
+public final class DataChangeFilterBinaryCodec {
+
+    private DataChangeFilterBinaryCodec() {}
+
+    public static void encode(DataChangeFilter dataChangeFilter, BinaryEncoder encoder) {
+        DataChangeTrigger _trigger = dataChangeFilter.getTrigger();
+        encoder.writeInt32(null, _trigger != null ? _trigger.getValue() : -1);
+        encoder.encodeUInt32(null, dataChangeFilter.getDeadbandType());
+        encoder.encodeDouble(null, dataChangeFilter.getDeadbandValue());
+    }
+
+    public static DataChangeFilter decode(BinaryDecoder decoder) {
+        DataChangeTrigger _trigger = DataChangeTrigger.from(decoder.readInt32(null));
+        UInteger _deadbandType = decoder.decodeUInt32(null);
+        Double _deadbandValue = decoder.decodeDouble(null);
+
+        return new DataChangeFilter(_trigger, _deadbandType, _deadbandValue);
+    }
+
+    public static int sizeOf(DataChangeFilter dataChangeFilter) {
+        int size = 0;
+        size += 4; // Trigger
+        size += 4; // DeadbandType
+        size += 8; // DeadbandValue
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DataChangeFilterBinaryCodec::encode, DataChangeFilter.class);
+        DelegateRegistry.registerBinaryDecoder(DataChangeFilterBinaryCodec::decode, DataChangeFilter.class, DataChangeFilter.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DataChangeFilterBinaryCodec::sizeOf, DataChangeFilter.class);
+    }
+
+}
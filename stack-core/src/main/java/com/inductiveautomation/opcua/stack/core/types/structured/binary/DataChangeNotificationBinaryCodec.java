@@ -0,0 +1,68 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.DataChangeNotification;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemNotification;
+
+public final class DataChangeNotificationBinaryCodec {
+
+    private DataChangeNotificationBinaryCodec() {}
+
+    public static void encode(DataChangeNotification dataChangeNotification, BinaryEncoder encoder) {
+        MonitoredItemNotification[] _monitoredItems = dataChangeNotification.getMonitoredItems();
+        if (encoder.writeArrayLength(_monitoredItems)) {
+            for (MonitoredItemNotification v : _monitoredItems) {
+                MonitoredItemNotificationBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = dataChangeNotification.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static DataChangeNotification decode(BinaryDecoder decoder) {
+        MonitoredItemNotification[] _monitoredItems = new MonitoredItemNotification[decoder.readArrayLength()];
+        for (int i = 0; i < _monitoredItems.length; i++) {
+            _monitoredItems[i] = MonitoredItemNotificationBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new DataChangeNotification(_monitoredItems, _diagnosticInfos);
+    }
+
+    public static int sizeOf(DataChangeNotification dataChangeNotification) {
+        int size = 0;
+        MonitoredItemNotification[] _monitoredItems = dataChangeNotification.getMonitoredItems();
+        size += 4;
+        if (_monitoredItems != null) {
+            for (MonitoredItemNotification v : _monitoredItems) {
+                size += MonitoredItemNotificationBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = dataChangeNotification.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DataChangeNotificationBinaryCodec::encode, DataChangeNotification.class);
+        DelegateRegistry.registerBinaryDecoder(DataChangeNotificationBinaryCodec::decode, DataChangeNotification.class, DataChangeNotification.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DataChangeNotificationBinaryCodec::sizeOf, DataChangeNotification.class);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.DataTypeAttributes;
+
+public final class DataTypeAttributesBinaryCodec {
+
+    private DataTypeAttributesBinaryCodec() {}
+
+    public static void encode(DataTypeAttributes dataTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, dataTypeAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, dataTypeAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, dataTypeAttributes.getDescription());
+        encoder.encodeUInt32(null, dataTypeAttributes.getWriteMask());
+        encoder.encodeUInt32(null, dataTypeAttributes.getUserWriteMask());
+        encoder.encodeBoolean(null, dataTypeAttributes.getIsAbstract());
+    }
+
+    public static DataTypeAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new DataTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract);
+    }
+
+    public static int sizeOf(DataTypeAttributes dataTypeAttributes) {
+        int size = 0;
+        size += 4; // SpecifiedAttributes
+        size += BinarySize.sizeOfLocalizedText(dataTypeAttributes.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(dataTypeAttributes.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        size += 1; // IsAbstract
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DataTypeAttributesBinaryCodec::encode, DataTypeAttributes.class);
+        DelegateRegistry.registerBinaryDecoder(DataTypeAttributesBinaryCodec::decode, DataTypeAttributes.class, DataTypeAttributes.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DataTypeAttributesBinaryCodec::sizeOf, DataTypeAttributes.class);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.DataTypeNode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+
+public final class DataTypeNodeBinaryCodec {
+
+    private DataTypeNodeBinaryCodec() {}
+
+    public static void encode(DataTypeNode dataTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, dataTypeNode.getNodeId());
+        NodeClass _nodeClass = dataTypeNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, dataTypeNode.getBrowseName());
+        encoder.encodeLocalizedText(null, dataTypeNode.getDisplayName());
+        encoder.encodeLocalizedText(null, dataTypeNode.getDescription());
+        encoder.encodeUInt32(null, dataTypeNode.getWriteMask());
+        encoder.encodeUInt32(null, dataTypeNode.getUserWriteMask());
+        ReferenceNode[] _references = dataTypeNode.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceNode v : _references) {
+                ReferenceNodeBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeBoolean(null, dataTypeNode.getIsAbstract());
+    }
+
+    public static DataTypeNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references = new ReferenceNode[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+        }
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new DataTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _isAbstract);
+    }
+
+    public static int sizeOf(DataTypeNode dataTypeNode) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(dataTypeNode.getNodeId());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfQualifiedName(dataTypeNode.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(dataTypeNode.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(dataTypeNode.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        ReferenceNode[] _references = dataTypeNode.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceNode v : _references) {
+                size += ReferenceNodeBinaryCodec.sizeOf(v);
+            }
+        }
+        size += 1; // IsAbstract
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DataTypeNodeBinaryCodec::encode, DataTypeNode.class);
+        DelegateRegistry.registerBinaryDecoder(DataTypeNodeBinaryCodec::decode, DataTypeNode.class, DataTypeNode.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DataTypeNodeBinaryCodec::sizeOf, DataTypeNode.class);
+    }
+
+}
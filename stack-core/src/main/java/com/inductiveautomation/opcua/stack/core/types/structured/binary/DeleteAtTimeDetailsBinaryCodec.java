@@ -0,0 +1,52 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteAtTimeDetails;
+
+public final class DeleteAtTimeDetailsBinaryCodec {
+
+    private DeleteAtTimeDetailsBinaryCodec() {}
+
+    public static void encode(DeleteAtTimeDetails deleteAtTimeDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, deleteAtTimeDetails.getNodeId());
+        DateTime[] _reqTimes = deleteAtTimeDetails.getReqTimes();
+        if (encoder.writeArrayLength(_reqTimes)) {
+            for (DateTime v : _reqTimes) {
+                encoder.encodeDateTime(null, v);
+            }
+        }
+    }
+
+    public static DeleteAtTimeDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        DateTime[] _reqTimes = new DateTime[decoder.readArrayLength()];
+        for (int i = 0; i < _reqTimes.length; i++) {
+            _reqTimes[i] = decoder.decodeDateTime(null);
+        }
+
+        return new DeleteAtTimeDetails(_nodeId, _reqTimes);
+    }
+
+    public static int sizeOf(DeleteAtTimeDetails deleteAtTimeDetails) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(deleteAtTimeDetails.getNodeId());
+        DateTime[] _reqTimes = deleteAtTimeDetails.getReqTimes();
+        size += 4;
+        if (_reqTimes != null) {
+            size += _reqTimes.length * 8;
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DeleteAtTimeDetailsBinaryCodec::encode, DeleteAtTimeDetails.class);
+        DelegateRegistry.registerBinaryDecoder(DeleteAtTimeDetailsBinaryCodec::decode, DeleteAtTimeDetails.class, DeleteAtTimeDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DeleteAtTimeDetailsBinaryCodec::sizeOf, DeleteAtTimeDetails.class);
+    }
+
+}
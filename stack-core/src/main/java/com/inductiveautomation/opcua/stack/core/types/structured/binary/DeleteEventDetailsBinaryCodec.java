@@ -0,0 +1,54 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteEventDetails;
+
+public final class DeleteEventDetailsBinaryCodec {
+
+    private DeleteEventDetailsBinaryCodec() {}
+
+    public static void encode(DeleteEventDetails deleteEventDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, deleteEventDetails.getNodeId());
+        ByteString[] _eventIds = deleteEventDetails.getEventIds();
+        if (encoder.writeArrayLength(_eventIds)) {
+            for (ByteString v : _eventIds) {
+                encoder.encodeByteString(null, v);
+            }
+        }
+    }
+
+    public static DeleteEventDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        ByteString[] _eventIds = new ByteString[decoder.readArrayLength()];
+        for (int i = 0; i < _eventIds.length; i++) {
+            _eventIds[i] = decoder.decodeByteString(null);
+        }
+
+        return new DeleteEventDetails(_nodeId, _eventIds);
+    }
+
+    public static int sizeOf(DeleteEventDetails deleteEventDetails) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(deleteEventDetails.getNodeId());
+        ByteString[] _eventIds = deleteEventDetails.getEventIds();
+        size += 4;
+        if (_eventIds != null) {
+            for (ByteString v : _eventIds) {
+                size += BinarySize.sizeOfByteString(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DeleteEventDetailsBinaryCodec::encode, DeleteEventDetails.class);
+        DelegateRegistry.registerBinaryDecoder(DeleteEventDetailsBinaryCodec::decode, DeleteEventDetails.class, DeleteEventDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DeleteEventDetailsBinaryCodec::sizeOf, DeleteEventDetails.class);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteMonitoredItemsRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class DeleteMonitoredItemsRequestBinaryCodec {
+
+    private DeleteMonitoredItemsRequestBinaryCodec() {}
+
+    public static void encode(DeleteMonitoredItemsRequest deleteMonitoredItemsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = deleteMonitoredItemsRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32(null, deleteMonitoredItemsRequest.getSubscriptionId());
+        UInteger[] _monitoredItemIds = deleteMonitoredItemsRequest.getMonitoredItemIds();
+        if (encoder.writeArrayLength(_monitoredItemIds)) {
+            for (UInteger v : _monitoredItemIds) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+    }
+
+    public static DeleteMonitoredItemsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        UInteger[] _monitoredItemIds = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _monitoredItemIds.length; i++) {
+            _monitoredItemIds[i] = decoder.decodeUInt32(null);
+        }
+
+        return new DeleteMonitoredItemsRequest(_requestHeader, _subscriptionId, _monitoredItemIds);
+    }
+
+    public static int sizeOf(DeleteMonitoredItemsRequest deleteMonitoredItemsRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = deleteMonitoredItemsRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 4; // SubscriptionId
+        UInteger[] _monitoredItemIds = deleteMonitoredItemsRequest.getMonitoredItemIds();
+        size += 4;
+        if (_monitoredItemIds != null) {
+            size += _monitoredItemIds.length * 4;
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DeleteMonitoredItemsRequestBinaryCodec::encode, DeleteMonitoredItemsRequest.class);
+        DelegateRegistry.registerBinaryDecoder(DeleteMonitoredItemsRequestBinaryCodec::decode, DeleteMonitoredItemsRequest.class, DeleteMonitoredItemsRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DeleteMonitoredItemsRequestBinaryCodec::sizeOf, DeleteMonitoredItemsRequest.class);
+    }
+
+}
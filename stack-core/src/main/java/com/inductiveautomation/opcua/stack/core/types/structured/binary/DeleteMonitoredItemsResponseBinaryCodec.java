@@ -0,0 +1,72 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteMonitoredItemsResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class DeleteMonitoredItemsResponseBinaryCodec {
+
+    private DeleteMonitoredItemsResponseBinaryCodec() {}
+
+    public static void encode(DeleteMonitoredItemsResponse deleteMonitoredItemsResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = deleteMonitoredItemsResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        StatusCode[] _results = deleteMonitoredItemsResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (StatusCode v : _results) {
+                encoder.encodeStatusCode(null, v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = deleteMonitoredItemsResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static DeleteMonitoredItemsResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        StatusCode[] _results = new StatusCode[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = decoder.decodeStatusCode(null);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new DeleteMonitoredItemsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(DeleteMonitoredItemsResponse deleteMonitoredItemsResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = deleteMonitoredItemsResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        StatusCode[] _results = deleteMonitoredItemsResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            size += _results.length * 4;
+        }
+        DiagnosticInfo[] _diagnosticInfos = deleteMonitoredItemsResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DeleteMonitoredItemsResponseBinaryCodec::encode, DeleteMonitoredItemsResponse.class);
+        DelegateRegistry.registerBinaryDecoder(DeleteMonitoredItemsResponseBinaryCodec::decode, DeleteMonitoredItemsResponse.class, DeleteMonitoredItemsResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DeleteMonitoredItemsResponseBinaryCodec::sizeOf, DeleteMonitoredItemsResponse.class);
+    }
+
+}
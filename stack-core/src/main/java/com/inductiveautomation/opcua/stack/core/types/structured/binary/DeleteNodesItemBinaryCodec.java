@@ -0,0 +1,39 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteNodesItem;
+
+public final class DeleteNodesItemBinaryCodec {
+
+    private DeleteNodesItemBinaryCodec() {}
+
+    public static void encode(DeleteNodesItem deleteNodesItem, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, deleteNodesItem.getNodeId());
+        encoder.encodeBoolean(null, deleteNodesItem.getDeleteTargetReferences());
+    }
+
+    public static DeleteNodesItem decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        Boolean _deleteTargetReferences = decoder.decodeBoolean(null);
+
+        return new DeleteNodesItem(_nodeId, _deleteTargetReferences);
+    }
+
+    public static int sizeOf(DeleteNodesItem deleteNodesItem) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(deleteNodesItem.getNodeId());
+        size += 1; // DeleteTargetReferences
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DeleteNodesItemBinaryCodec::encode, DeleteNodesItem.class);
+        DelegateRegistry.registerBinaryDecoder(DeleteNodesItemBinaryCodec::decode, DeleteNodesItem.class, DeleteNodesItem.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DeleteNodesItemBinaryCodec::sizeOf, DeleteNodesItem.class);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteNodesItem;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteNodesRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class DeleteNodesRequestBinaryCodec {
+
+    private DeleteNodesRequestBinaryCodec() {}
+
+    public static void encode(DeleteNodesRequest deleteNodesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = deleteNodesRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        DeleteNodesItem[] _nodesToDelete = deleteNodesRequest.getNodesToDelete();
+        if (encoder.writeArrayLength(_nodesToDelete)) {
+            for (DeleteNodesItem v : _nodesToDelete) {
+                DeleteNodesItemBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static DeleteNodesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        DeleteNodesItem[] _nodesToDelete = new DeleteNodesItem[decoder.readArrayLength()];
+        for (int i = 0; i < _nodesToDelete.length; i++) {
+            _nodesToDelete[i] = DeleteNodesItemBinaryCodec.decode(decoder);
+        }
+
+        return new DeleteNodesRequest(_requestHeader, _nodesToDelete);
+    }
+
+    public static int sizeOf(DeleteNodesRequest deleteNodesRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = deleteNodesRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        DeleteNodesItem[] _nodesToDelete = deleteNodesRequest.getNodesToDelete();
+        size += 4;
+        if (_nodesToDelete != null) {
+            for (DeleteNodesItem v : _nodesToDelete) {
+                size += DeleteNodesItemBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DeleteNodesRequestBinaryCodec::encode, DeleteNodesRequest.class);
+        DelegateRegistry.registerBinaryDecoder(DeleteNodesRequestBinaryCodec::decode, DeleteNodesRequest.class, DeleteNodesRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DeleteNodesRequestBinaryCodec::sizeOf, DeleteNodesRequest.class);
+    }
+
+}
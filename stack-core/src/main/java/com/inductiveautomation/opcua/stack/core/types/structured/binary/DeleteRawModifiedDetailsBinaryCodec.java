@@ -0,0 +1,46 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteRawModifiedDetails;
+
+public final class DeleteRawModifiedDetailsBinaryCodec {
+
+    private DeleteRawModifiedDetailsBinaryCodec() {}
+
+    public static void encode(DeleteRawModifiedDetails deleteRawModifiedDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, deleteRawModifiedDetails.getNodeId());
+        encoder.encodeBoolean(null, deleteRawModifiedDetails.getIsDeleteModified());
+        encoder.encodeDateTime(null, deleteRawModifiedDetails.getStartTime());
+        encoder.encodeDateTime(null, deleteRawModifiedDetails.getEndTime());
+    }
+
+    public static DeleteRawModifiedDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        Boolean _isDeleteModified = decoder.decodeBoolean(null);
+        DateTime _startTime = decoder.decodeDateTime(null);
+        DateTime _endTime = decoder.decodeDateTime(null);
+
+        return new DeleteRawModifiedDetails(_nodeId, _isDeleteModified, _startTime, _endTime);
+    }
+
+    public static int sizeOf(DeleteRawModifiedDetails deleteRawModifiedDetails) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(deleteRawModifiedDetails.getNodeId());
+        size += 1; // IsDeleteModified
+        size += 8; // StartTime
+        size += 8; // EndTime
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DeleteRawModifiedDetailsBinaryCodec::encode, DeleteRawModifiedDetails.class);
+        DelegateRegistry.registerBinaryDecoder(DeleteRawModifiedDetailsBinaryCodec::decode, DeleteRawModifiedDetails.class, DeleteRawModifiedDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DeleteRawModifiedDetailsBinaryCodec::sizeOf, DeleteRawModifiedDetails.class);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteReferencesItem;
+
+public final class DeleteReferencesItemBinaryCodec {
+
+    private DeleteReferencesItemBinaryCodec() {}
+
+    public static void encode(DeleteReferencesItem deleteReferencesItem, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, deleteReferencesItem.getSourceNodeId());
+        encoder.encodeNodeId(null, deleteReferencesItem.getReferenceTypeId());
+        encoder.encodeBoolean(null, deleteReferencesItem.getIsForward());
+        encoder.encodeExpandedNodeId(null, deleteReferencesItem.getTargetNodeId());
+        encoder.encodeBoolean(null, deleteReferencesItem.getDeleteBidirectional());
+    }
+
+    public static DeleteReferencesItem decode(BinaryDecoder decoder) {
+        NodeId _sourceNodeId = decoder.decodeNodeId(null);
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isForward = decoder.decodeBoolean(null);
+        ExpandedNodeId _targetNodeId = decoder.decodeExpandedNodeId(null);
+        Boolean _deleteBidirectional = decoder.decodeBoolean(null);
+
+        return new DeleteReferencesItem(_sourceNodeId, _referenceTypeId, _isForward, _targetNodeId, _deleteBidirectional);
+    }
+
+    public static int sizeOf(DeleteReferencesItem deleteReferencesItem) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(deleteReferencesItem.getSourceNodeId());
+        size += BinarySize.sizeOfNodeId(deleteReferencesItem.getReferenceTypeId());
+        size += 1; // IsForward
+        size += BinarySize.sizeOfExpandedNodeId(deleteReferencesItem.getTargetNodeId());
+        size += 1; // DeleteBidirectional
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DeleteReferencesItemBinaryCodec::encode, DeleteReferencesItem.class);
+        DelegateRegistry.registerBinaryDecoder(DeleteReferencesItemBinaryCodec::decode, DeleteReferencesItem.class, DeleteReferencesItem.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DeleteReferencesItemBinaryCodec::sizeOf, DeleteReferencesItem.class);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteReferencesItem;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteReferencesRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class DeleteReferencesRequestBinaryCodec {
+
+    private DeleteReferencesRequestBinaryCodec() {}
+
+    public static void encode(DeleteReferencesRequest deleteReferencesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = deleteReferencesRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        DeleteReferencesItem[] _referencesToDelete = deleteReferencesRequest.getReferencesToDelete();
+        if (encoder.writeArrayLength(_referencesToDelete)) {
+            for (DeleteReferencesItem v : _referencesToDelete) {
+                DeleteReferencesItemBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static DeleteReferencesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        DeleteReferencesItem[] _referencesToDelete = new DeleteReferencesItem[decoder.readArrayLength()];
+        for (int i = 0; i < _referencesToDelete.length; i++) {
+            _referencesToDelete[i] = DeleteReferencesItemBinaryCodec.decode(decoder);
+        }
+
+        return new DeleteReferencesRequest(_requestHeader, _referencesToDelete);
+    }
+
+    public static int sizeOf(DeleteReferencesRequest deleteReferencesRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = deleteReferencesRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        DeleteReferencesItem[] _referencesToDelete = deleteReferencesRequest.getReferencesToDelete();
+        size += 4;
+        if (_referencesToDelete != null) {
+            for (DeleteReferencesItem v : _referencesToDelete) {
+                size += DeleteReferencesItemBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DeleteReferencesRequestBinaryCodec::encode, DeleteReferencesRequest.class);
+        DelegateRegistry.registerBinaryDecoder(DeleteReferencesRequestBinaryCodec::decode, DeleteReferencesRequest.class, DeleteReferencesRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DeleteReferencesRequestBinaryCodec::sizeOf, DeleteReferencesRequest.class);
+    }
+
+}
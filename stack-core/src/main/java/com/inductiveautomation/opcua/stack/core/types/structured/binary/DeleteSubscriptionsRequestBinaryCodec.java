@@ -0,0 +1,53 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.DeleteSubscriptionsRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class DeleteSubscriptionsRequestBinaryCodec {
+
+    private DeleteSubscriptionsRequestBinaryCodec() {}
+
+    public static void encode(DeleteSubscriptionsRequest deleteSubscriptionsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = deleteSubscriptionsRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        UInteger[] _subscriptionIds = deleteSubscriptionsRequest.getSubscriptionIds();
+        if (encoder.writeArrayLength(_subscriptionIds)) {
+            for (UInteger v : _subscriptionIds) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+    }
+
+    public static DeleteSubscriptionsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger[] _subscriptionIds = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _subscriptionIds.length; i++) {
+            _subscriptionIds[i] = decoder.decodeUInt32(null);
+        }
+
+        return new DeleteSubscriptionsRequest(_requestHeader, _subscriptionIds);
+    }
+
+    public static int sizeOf(DeleteSubscriptionsRequest deleteSubscriptionsRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = deleteSubscriptionsRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        UInteger[] _subscriptionIds = deleteSubscriptionsRequest.getSubscriptionIds();
+        size += 4;
+        if (_subscriptionIds != null) {
+            size += _subscriptionIds.length * 4;
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DeleteSubscriptionsRequestBinaryCodec::encode, DeleteSubscriptionsRequest.class);
+        DelegateRegistry.registerBinaryDecoder(DeleteSubscriptionsRequestBinaryCodec::decode, DeleteSubscriptionsRequest.class, DeleteSubscriptionsRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DeleteSubscriptionsRequestBinaryCodec::sizeOf, DeleteSubscriptionsRequest.class);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.DoubleComplexNumberType;
+
+public final class DoubleComplexNumberTypeBinaryCodec {
+
+    private DoubleComplexNumberTypeBinaryCodec() {}
+
+    public static void encode(DoubleComplexNumberType doubleComplexNumberType, BinaryEncoder encoder) {
+        encoder.encodeDouble(null, doubleComplexNumberType.getReal());
+        encoder.encodeDouble(null, doubleComplexNumberType.getImaginary());
+    }
+
+    public static DoubleComplexNumberType decode(BinaryDecoder decoder) {
+        Double _real = decoder.decodeDouble(null);
+        Double _imaginary = decoder.decodeDouble(null);
+
+        return new DoubleComplexNumberType(_real, _imaginary);
+    }
+
+    public static int sizeOf(DoubleComplexNumberType doubleComplexNumberType) {
+        int size = 0;
+        size += 8; // Real
+        size += 8; // Imaginary
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(DoubleComplexNumberTypeBinaryCodec::encode, DoubleComplexNumberType.class);
+        DelegateRegistry.registerBinaryDecoder(DoubleComplexNumberTypeBinaryCodec::decode, DoubleComplexNumberType.class, DoubleComplexNumberType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(DoubleComplexNumberTypeBinaryCodec::sizeOf, DoubleComplexNumberType.class);
+    }
+
+}
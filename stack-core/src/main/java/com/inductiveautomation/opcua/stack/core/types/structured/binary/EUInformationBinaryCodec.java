@@ -0,0 +1,45 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.structured.EUInformation;
+
+public final class EUInformationBinaryCodec {
+
+    private EUInformationBinaryCodec() {}
+
+    public static void encode(EUInformation eUInformation, BinaryEncoder encoder) {
+        encoder.encodeString(null, eUInformation.getNamespaceUri());
+        encoder.encodeInt32(null, eUInformation.getUnitId());
+        encoder.encodeLocalizedText(null, eUInformation.getDisplayName());
+        encoder.encodeLocalizedText(null, eUInformation.getDescription());
+    }
+
+    public static EUInformation decode(BinaryDecoder decoder) {
+        String _namespaceUri = decoder.decodeString(null);
+        Integer _unitId = decoder.decodeInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+
+        return new EUInformation(_namespaceUri, _unitId, _displayName, _description);
+    }
+
+    public static int sizeOf(EUInformation eUInformation) {
+        int size = 0;
+        size += BinarySize.sizeOfString(eUInformation.getNamespaceUri());
+        size += 4; // UnitId
+        size += BinarySize.sizeOfLocalizedText(eUInformation.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(eUInformation.getDescription());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(EUInformationBinaryCodec::encode, EUInformation.class);
+        DelegateRegistry.registerBinaryDecoder(EUInformationBinaryCodec::decode, EUInformation.class, EUInformation.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(EUInformationBinaryCodec::sizeOf, EUInformation.class);
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ElementOperand;
+
+public final class ElementOperandBinaryCodec {
+
+    private ElementOperandBinaryCodec() {}
+
+    public static void encode(ElementOperand elementOperand, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, elementOperand.getIndex());
+    }
+
+    public static ElementOperand decode(BinaryDecoder decoder) {
+        UInteger _index = decoder.decodeUInt32(null);
+
+        return new ElementOperand(_index);
+    }
+
+    public static int sizeOf(ElementOperand elementOperand) {
+        int size = 0;
+        size += 4; // Index
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ElementOperandBinaryCodec::encode, ElementOperand.class);
+        DelegateRegistry.registerBinaryDecoder(ElementOperandBinaryCodec::decode, ElementOperand.class, ElementOperand.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ElementOperandBinaryCodec::sizeOf, ElementOperand.class);
+    }
+
+}
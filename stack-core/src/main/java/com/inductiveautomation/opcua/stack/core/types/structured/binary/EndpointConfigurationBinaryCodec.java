@@ -0,0 +1,58 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.EndpointConfiguration;
+
+public final class EndpointConfigurationBinaryCodec {
+
+    private EndpointConfigurationBinaryCodec() {}
+
+    public static void encode(EndpointConfiguration endpointConfiguration, BinaryEncoder encoder) {
+        encoder.encodeInt32(null, endpointConfiguration.getOperationTimeout());
+        encoder.encodeBoolean(null, endpointConfiguration.getUseBinaryEncoding());
+        encoder.encodeInt32(null, endpointConfiguration.getMaxStringLength());
+        encoder.encodeInt32(null, endpointConfiguration.getMaxByteStringLength());
+        encoder.encodeInt32(null, endpointConfiguration.getMaxArrayLength());
+        encoder.encodeInt32(null, endpointConfiguration.getMaxMessageSize());
+        encoder.encodeInt32(null, endpointConfiguration.getMaxBufferSize());
+        encoder.encodeInt32(null, endpointConfiguration.getChannelLifetime());
+        encoder.encodeInt32(null, endpointConfiguration.getSecurityTokenLifetime());
+    }
+
+    public static EndpointConfiguration decode(BinaryDecoder decoder) {
+        Integer _operationTimeout = decoder.decodeInt32(null);
+        Boolean _useBinaryEncoding = decoder.decodeBoolean(null);
+        Integer _maxStringLength = decoder.decodeInt32(null);
+        Integer _maxByteStringLength = decoder.decodeInt32(null);
+        Integer _maxArrayLength = decoder.decodeInt32(null);
+        Integer _maxMessageSize = decoder.decodeInt32(null);
+        Integer _maxBufferSize = decoder.decodeInt32(null);
+        Integer _channelLifetime = decoder.decodeInt32(null);
+        Integer _securityTokenLifetime = decoder.decodeInt32(null);
+
+        return new EndpointConfiguration(_operationTimeout, _useBinaryEncoding, _maxStringLength, _maxByteStringLength, _maxArrayLength, _maxMessageSize, _maxBufferSize, _channelLifetime, _securityTokenLifetime);
+    }
+
+    public static int sizeOf(EndpointConfiguration endpointConfiguration) {
+        int size = 0;
+        size += 4; // OperationTimeout
+        size += 1; // UseBinaryEncoding
+        size += 4; // MaxStringLength
+        size += 4; // MaxByteStringLength
+        size += 4; // MaxArrayLength
+        size += 4; // MaxMessageSize
+        size += 4; // MaxBufferSize
+        size += 4; // ChannelLifetime
+        size += 4; // SecurityTokenLifetime
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(EndpointConfigurationBinaryCodec::encode, EndpointConfiguration.class);
+        DelegateRegistry.registerBinaryDecoder(EndpointConfigurationBinaryCodec::decode, EndpointConfiguration.class, EndpointConfiguration.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(EndpointConfigurationBinaryCodec::sizeOf, EndpointConfiguration.class);
+    }
+
+}
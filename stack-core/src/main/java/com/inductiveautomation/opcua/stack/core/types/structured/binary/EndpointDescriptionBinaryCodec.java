@@ -0,0 +1,78 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ApplicationDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.EndpointDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.UserTokenPolicy;
+
+public final class EndpointDescriptionBinaryCodec {
+
+    private EndpointDescriptionBinaryCodec() {}
+
+    public static void encode(EndpointDescription endpointDescription, BinaryEncoder encoder) {
+        encoder.encodeString(null, endpointDescription.getEndpointUrl());
+        ApplicationDescription _server = endpointDescription.getServer();
+        ApplicationDescriptionBinaryCodec.encode(_server != null ? _server : new ApplicationDescription(), encoder);
+        encoder.encodeByteString(null, endpointDescription.getServerCertificate());
+        MessageSecurityMode _securityMode = endpointDescription.getSecurityMode();
+        encoder.writeInt32(null, _securityMode != null ? _securityMode.getValue() : -1);
+        encoder.encodeString(null, endpointDescription.getSecurityPolicyUri());
+        UserTokenPolicy[] _userIdentityTokens = endpointDescription.getUserIdentityTokens();
+        if (encoder.writeArrayLength(_userIdentityTokens)) {
+            for (UserTokenPolicy v : _userIdentityTokens) {
+                UserTokenPolicyBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeString(null, endpointDescription.getTransportProfileUri());
+        encoder.encodeByte(null, endpointDescription.getSecurityLevel());
+    }
+
+    public static EndpointDescription decode(BinaryDecoder decoder) {
+        String _endpointUrl = decoder.decodeString(null);
+        ApplicationDescription _server = ApplicationDescriptionBinaryCodec.decode(decoder);
+        ByteString _serverCertificate = decoder.decodeByteString(null);
+        MessageSecurityMode _securityMode = MessageSecurityMode.from(decoder.readInt32(null));
+        String _securityPolicyUri = decoder.decodeString(null);
+        UserTokenPolicy[] _userIdentityTokens = new UserTokenPolicy[decoder.readArrayLength()];
+        for (int i = 0; i < _userIdentityTokens.length; i++) {
+            _userIdentityTokens[i] = UserTokenPolicyBinaryCodec.decode(decoder);
+        }
+        String _transportProfileUri = decoder.decodeString(null);
+        UByte _securityLevel = decoder.decodeByte(null);
+
+        return new EndpointDescription(_endpointUrl, _server, _serverCertificate, _securityMode, _securityPolicyUri, _userIdentityTokens, _transportProfileUri, _securityLevel);
+    }
+
+    public static int sizeOf(EndpointDescription endpointDescription) {
+        int size = 0;
+        size += BinarySize.sizeOfString(endpointDescription.getEndpointUrl());
+        ApplicationDescription _server = endpointDescription.getServer();
+        size += ApplicationDescriptionBinaryCodec.sizeOf(_server != null ? _server : new ApplicationDescription());
+        size += BinarySize.sizeOfByteString(endpointDescription.getServerCertificate());
+        size += 4; // SecurityMode
+        size += BinarySize.sizeOfString(endpointDescription.getSecurityPolicyUri());
+        UserTokenPolicy[] _userIdentityTokens = endpointDescription.getUserIdentityTokens();
+        size += 4;
+        if (_userIdentityTokens != null) {
+            for (UserTokenPolicy v : _userIdentityTokens) {
+                size += UserTokenPolicyBinaryCodec.sizeOf(v);
+            }
+        }
+        size += BinarySize.sizeOfString(endpointDescription.getTransportProfileUri());
+        size += 1; // SecurityLevel
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(EndpointDescriptionBinaryCodec::encode, EndpointDescription.class);
+        DelegateRegistry.registerBinaryDecoder(EndpointDescriptionBinaryCodec::decode, EndpointDescription.class, EndpointDescription.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(EndpointDescriptionBinaryCodec::sizeOf, EndpointDescription.class);
+    }
+
+}
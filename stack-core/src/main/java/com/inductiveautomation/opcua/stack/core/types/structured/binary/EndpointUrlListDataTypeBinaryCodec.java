@@ -0,0 +1,49 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.structured.EndpointUrlListDataType;
+
+public final class EndpointUrlListDataTypeBinaryCodec {
+
+    private EndpointUrlListDataTypeBinaryCodec() {}
+
+    public static void encode(EndpointUrlListDataType endpointUrlListDataType, BinaryEncoder encoder) {
+        String[] _endpointUrlList = endpointUrlListDataType.getEndpointUrlList();
+        if (encoder.writeArrayLength(_endpointUrlList)) {
+            for (String v : _endpointUrlList) {
+                encoder.encodeString(null, v);
+            }
+        }
+    }
+
+    public static EndpointUrlListDataType decode(BinaryDecoder decoder) {
+        String[] _endpointUrlList = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _endpointUrlList.length; i++) {
+            _endpointUrlList[i] = decoder.decodeString(null);
+        }
+
+        return new EndpointUrlListDataType(_endpointUrlList);
+    }
+
+    public static int sizeOf(EndpointUrlListDataType endpointUrlListDataType) {
+        int size = 0;
+        String[] _endpointUrlList = endpointUrlListDataType.getEndpointUrlList();
+        size += 4;
+        if (_endpointUrlList != null) {
+            for (String v : _endpointUrlList) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(EndpointUrlListDataTypeBinaryCodec::encode, EndpointUrlListDataType.class);
+        DelegateRegistry.registerBinaryDecoder(EndpointUrlListDataTypeBinaryCodec::decode, EndpointUrlListDataType.class, EndpointUrlListDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(EndpointUrlListDataTypeBinaryCodec::sizeOf, EndpointUrlListDataType.class);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.structured.EnumValueType;
+
+public final class EnumValueTypeBinaryCodec {
+
+    private EnumValueTypeBinaryCodec() {}
+
+    public static void encode(EnumValueType enumValueType, BinaryEncoder encoder) {
+        encoder.encodeInt64(null, enumValueType.getValue());
+        encoder.encodeLocalizedText(null, enumValueType.getDisplayName());
+        encoder.encodeLocalizedText(null, enumValueType.getDescription());
+    }
+
+    public static EnumValueType decode(BinaryDecoder decoder) {
+        Long _value = decoder.decodeInt64(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+
+        return new EnumValueType(_value, _displayName, _description);
+    }
+
+    public static int sizeOf(EnumValueType enumValueType) {
+        int size = 0;
+        size += 8; // Value
+        size += BinarySize.sizeOfLocalizedText(enumValueType.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(enumValueType.getDescription());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(EnumValueTypeBinaryCodec::encode, EnumValueType.class);
+        DelegateRegistry.registerBinaryDecoder(EnumValueTypeBinaryCodec::decode, EnumValueType.class, EnumValueType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(EnumValueTypeBinaryCodec::sizeOf, EnumValueType.class);
+    }
+
+}
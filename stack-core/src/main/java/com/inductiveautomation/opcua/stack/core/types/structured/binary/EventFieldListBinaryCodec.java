@@ -0,0 +1,54 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.EventFieldList;
+
+public final class EventFieldListBinaryCodec {
+
+    private EventFieldListBinaryCodec() {}
+
+    public static void encode(EventFieldList eventFieldList, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, eventFieldList.getClientHandle());
+        Variant[] _eventFields = eventFieldList.getEventFields();
+        if (encoder.writeArrayLength(_eventFields)) {
+            for (Variant v : _eventFields) {
+                encoder.encodeVariant(null, v);
+            }
+        }
+    }
+
+    public static EventFieldList decode(BinaryDecoder decoder) {
+        UInteger _clientHandle = decoder.decodeUInt32(null);
+        Variant[] _eventFields = new Variant[decoder.readArrayLength()];
+        for (int i = 0; i < _eventFields.length; i++) {
+            _eventFields[i] = decoder.decodeVariant(null);
+        }
+
+        return new EventFieldList(_clientHandle, _eventFields);
+    }
+
+    public static int sizeOf(EventFieldList eventFieldList) {
+        int size = 0;
+        size += 4; // ClientHandle
+        Variant[] _eventFields = eventFieldList.getEventFields();
+        size += 4;
+        if (_eventFields != null) {
+            for (Variant v : _eventFields) {
+                size += BinarySize.sizeOfVariant(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(EventFieldListBinaryCodec::encode, EventFieldList.class);
+        DelegateRegistry.registerBinaryDecoder(EventFieldListBinaryCodec::decode, EventFieldList.class, EventFieldList.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(EventFieldListBinaryCodec::sizeOf, EventFieldList.class);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.EventFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.SimpleAttributeOperand;
+
+public final class EventFilterBinaryCodec {
+
+    private EventFilterBinaryCodec() {}
+
+    public static void encode(EventFilter eventFilter, BinaryEncoder encoder) {
+        SimpleAttributeOperand[] _selectClauses = eventFilter.getSelectClauses();
+        if (encoder.writeArrayLength(_selectClauses)) {
+            for (SimpleAttributeOperand v : _selectClauses) {
+                SimpleAttributeOperandBinaryCodec.encode(v, encoder);
+            }
+        }
+        ContentFilter _whereClause = eventFilter.getWhereClause();
+        ContentFilterBinaryCodec.encode(_whereClause != null ? _whereClause : new ContentFilter(), encoder);
+    }
+
+    public static EventFilter decode(BinaryDecoder decoder) {
+        SimpleAttributeOperand[] _selectClauses = new SimpleAttributeOperand[decoder.readArrayLength()];
+        for (int i = 0; i < _selectClauses.length; i++) {
+            _selectClauses[i] = SimpleAttributeOperandBinaryCodec.decode(decoder);
+        }
+        ContentFilter _whereClause = ContentFilterBinaryCodec.decode(decoder);
+
+        return new EventFilter(_selectClauses, _whereClause);
+    }
+
+    public static int sizeOf(EventFilter eventFilter) {
+        int size = 0;
+        SimpleAttributeOperand[] _selectClauses = eventFilter.getSelectClauses();
+        size += 4;
+        if (_selectClauses != null) {
+            for (SimpleAttributeOperand v : _selectClauses) {
+                size += SimpleAttributeOperandBinaryCodec.sizeOf(v);
+            }
+        }
+        ContentFilter _whereClause = eventFilter.getWhereClause();
+        size += ContentFilterBinaryCodec.sizeOf(_whereClause != null ? _whereClause : new ContentFilter());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(EventFilterBinaryCodec::encode, EventFilter.class);
+        DelegateRegistry.registerBinaryDecoder(EventFilterBinaryCodec::decode, EventFilter.class, EventFilter.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(EventFilterBinaryCodec::sizeOf, EventFilter.class);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilterResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.EventFilterResult;
+
+public final class EventFilterResultBinaryCodec {
+
+    private EventFilterResultBinaryCodec() {}
+
+    public static void encode(EventFilterResult eventFilterResult, BinaryEncoder encoder) {
+        StatusCode[] _selectClauseResults = eventFilterResult.getSelectClauseResults();
+        if (encoder.writeArrayLength(_selectClauseResults)) {
+            for (StatusCode v : _selectClauseResults) {
+                encoder.encodeStatusCode(null, v);
+            }
+        }
+        DiagnosticInfo[] _selectClauseDiagnosticInfos = eventFilterResult.getSelectClauseDiagnosticInfos();
+        if (encoder.writeArrayLength(_selectClauseDiagnosticInfos)) {
+            for (DiagnosticInfo v : _selectClauseDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+        ContentFilterResult _whereClauseResult = eventFilterResult.getWhereClauseResult();
+        ContentFilterResultBinaryCodec.encode(_whereClauseResult != null ? _whereClauseResult : new ContentFilterResult(), encoder);
+    }
+
+    public static EventFilterResult decode(BinaryDecoder decoder) {
+        StatusCode[] _selectClauseResults = new StatusCode[decoder.readArrayLength()];
+        for (int i = 0; i < _selectClauseResults.length; i++) {
+            _selectClauseResults[i] = decoder.decodeStatusCode(null);
+        }
+        DiagnosticInfo[] _selectClauseDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _selectClauseDiagnosticInfos.length; i++) {
+            _selectClauseDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+        ContentFilterResult _whereClauseResult = ContentFilterResultBinaryCodec.decode(decoder);
+
+        return new EventFilterResult(_selectClauseResults, _selectClauseDiagnosticInfos, _whereClauseResult);
+    }
+
+    public static int sizeOf(EventFilterResult eventFilterResult) {
+        int size = 0;
+        StatusCode[] _selectClauseResults = eventFilterResult.getSelectClauseResults();
+        size += 4;
+        if (_selectClauseResults != null) {
+            size += _selectClauseResults.length * 4;
+        }
+        DiagnosticInfo[] _selectClauseDiagnosticInfos = eventFilterResult.getSelectClauseDiagnosticInfos();
+        size += 4;
+        if (_selectClauseDiagnosticInfos != null) {
+            for (DiagnosticInfo v : _selectClauseDiagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        ContentFilterResult _whereClauseResult = eventFilterResult.getWhereClauseResult();
+        size += ContentFilterResultBinaryCodec.sizeOf(_whereClauseResult != null ? _whereClauseResult : new ContentFilterResult());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(EventFilterResultBinaryCodec::encode, EventFilterResult.class);
+        DelegateRegistry.registerBinaryDecoder(EventFilterResultBinaryCodec::decode, EventFilterResult.class, EventFilterResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(EventFilterResultBinaryCodec::sizeOf, EventFilterResult.class);
+    }
+
+}
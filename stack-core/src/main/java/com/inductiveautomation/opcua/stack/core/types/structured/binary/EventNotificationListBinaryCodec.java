@@ -0,0 +1,49 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.EventFieldList;
+import com.inductiveautomation.opcua.stack.core.types.structured.EventNotificationList;
+
+public final class EventNotificationListBinaryCodec {
+
+    private EventNotificationListBinaryCodec() {}
+
+    public static void encode(EventNotificationList eventNotificationList, BinaryEncoder encoder) {
+        EventFieldList[] _events = eventNotificationList.getEvents();
+        if (encoder.writeArrayLength(_events)) {
+            for (EventFieldList v : _events) {
+                EventFieldListBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static EventNotificationList decode(BinaryDecoder decoder) {
+        EventFieldList[] _events = new EventFieldList[decoder.readArrayLength()];
+        for (int i = 0; i < _events.length; i++) {
+            _events[i] = EventFieldListBinaryCodec.decode(decoder);
+        }
+
+        return new EventNotificationList(_events);
+    }
+
+    public static int sizeOf(EventNotificationList eventNotificationList) {
+        int size = 0;
+        EventFieldList[] _events = eventNotificationList.getEvents();
+        size += 4;
+        if (_events != null) {
+            for (EventFieldList v : _events) {
+                size += EventFieldListBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(EventNotificationListBinaryCodec::encode, EventNotificationList.class);
+        DelegateRegistry.registerBinaryDecoder(EventNotificationListBinaryCodec::decode, EventNotificationList.class, EventNotificationList.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(EventNotificationListBinaryCodec::sizeOf, EventNotificationList.class);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.FilterOperand;
+
+public final class FilterOperandBinaryCodec {
+
+    private FilterOperandBinaryCodec() {}
+
+    public static void encode(FilterOperand filterOperand, BinaryEncoder encoder) {
+    }
+
+    public static FilterOperand decode(BinaryDecoder decoder) {
+
+        return new FilterOperand();
+    }
+
+    public static int sizeOf(FilterOperand filterOperand) {
+        int size = 0;
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(FilterOperandBinaryCodec::encode, FilterOperand.class);
+        DelegateRegistry.registerBinaryDecoder(FilterOperandBinaryCodec::decode, FilterOperand.class, FilterOperand.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(FilterOperandBinaryCodec::sizeOf, FilterOperand.class);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.structured.FindServersRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class FindServersRequestBinaryCodec {
+
+    private FindServersRequestBinaryCodec() {}
+
+    public static void encode(FindServersRequest findServersRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = findServersRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeString(null, findServersRequest.getEndpointUrl());
+        String[] _localeIds = findServersRequest.getLocaleIds();
+        if (encoder.writeArrayLength(_localeIds)) {
+            for (String v : _localeIds) {
+                encoder.encodeString(null, v);
+            }
+        }
+        String[] _serverUris = findServersRequest.getServerUris();
+        if (encoder.writeArrayLength(_serverUris)) {
+            for (String v : _serverUris) {
+                encoder.encodeString(null, v);
+            }
+        }
+    }
+
+    public static FindServersRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        String _endpointUrl = decoder.decodeString(null);
+        String[] _localeIds = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _localeIds.length; i++) {
+            _localeIds[i] = decoder.decodeString(null);
+        }
+        String[] _serverUris = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _serverUris.length; i++) {
+            _serverUris[i] = decoder.decodeString(null);
+        }
+
+        return new FindServersRequest(_requestHeader, _endpointUrl, _localeIds, _serverUris);
+    }
+
+    public static int sizeOf(FindServersRequest findServersRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = findServersRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += BinarySize.sizeOfString(findServersRequest.getEndpointUrl());
+        String[] _localeIds = findServersRequest.getLocaleIds();
+        size += 4;
+        if (_localeIds != null) {
+            for (String v : _localeIds) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        String[] _serverUris = findServersRequest.getServerUris();
+        size += 4;
+        if (_serverUris != null) {
+            for (String v : _serverUris) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(FindServersRequestBinaryCodec::encode, FindServersRequest.class);
+        DelegateRegistry.registerBinaryDecoder(FindServersRequestBinaryCodec::decode, FindServersRequest.class, FindServersRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(FindServersRequestBinaryCodec::sizeOf, FindServersRequest.class);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.ApplicationDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.FindServersResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class FindServersResponseBinaryCodec {
+
+    private FindServersResponseBinaryCodec() {}
+
+    public static void encode(FindServersResponse findServersResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = findServersResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        ApplicationDescription[] _servers = findServersResponse.getServers();
+        if (encoder.writeArrayLength(_servers)) {
+            for (ApplicationDescription v : _servers) {
+                ApplicationDescriptionBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static FindServersResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        ApplicationDescription[] _servers = new ApplicationDescription[decoder.readArrayLength()];
+        for (int i = 0; i < _servers.length; i++) {
+            _servers[i] = ApplicationDescriptionBinaryCodec.decode(decoder);
+        }
+
+        return new FindServersResponse(_responseHeader, _servers);
+    }
+
+    public static int sizeOf(FindServersResponse findServersResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = findServersResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        ApplicationDescription[] _servers = findServersResponse.getServers();
+        size += 4;
+        if (_servers != null) {
+            for (ApplicationDescription v : _servers) {
+                size += ApplicationDescriptionBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(FindServersResponseBinaryCodec::encode, FindServersResponse.class);
+        DelegateRegistry.registerBinaryDecoder(FindServersResponseBinaryCodec::decode, FindServersResponse.class, FindServersResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(FindServersResponseBinaryCodec::sizeOf, FindServersResponse.class);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.structured.GetEndpointsRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class GetEndpointsRequestBinaryCodec {
+
+    private GetEndpointsRequestBinaryCodec() {}
+
+    public static void encode(GetEndpointsRequest getEndpointsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = getEndpointsRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeString(null, getEndpointsRequest.getEndpointUrl());
+        String[] _localeIds = getEndpointsRequest.getLocaleIds();
+        if (encoder.writeArrayLength(_localeIds)) {
+            for (String v : _localeIds) {
+                encoder.encodeString(null, v);
+            }
+        }
+        String[] _profileUris = getEndpointsRequest.getProfileUris();
+        if (encoder.writeArrayLength(_profileUris)) {
+            for (String v : _profileUris) {
+                encoder.encodeString(null, v);
+            }
+        }
+    }
+
+    public static GetEndpointsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        String _endpointUrl = decoder.decodeString(null);
+        String[] _localeIds = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _localeIds.length; i++) {
+            _localeIds[i] = decoder.decodeString(null);
+        }
+        String[] _profileUris = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _profileUris.length; i++) {
+            _profileUris[i] = decoder.decodeString(null);
+        }
+
+        return new GetEndpointsRequest(_requestHeader, _endpointUrl, _localeIds, _profileUris);
+    }
+
+    public static int sizeOf(GetEndpointsRequest getEndpointsRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = getEndpointsRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += BinarySize.sizeOfString(getEndpointsRequest.getEndpointUrl());
+        String[] _localeIds = getEndpointsRequest.getLocaleIds();
+        size += 4;
+        if (_localeIds != null) {
+            for (String v : _localeIds) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        String[] _profileUris = getEndpointsRequest.getProfileUris();
+        size += 4;
+        if (_profileUris != null) {
+            for (String v : _profileUris) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(GetEndpointsRequestBinaryCodec::encode, GetEndpointsRequest.class);
+        DelegateRegistry.registerBinaryDecoder(GetEndpointsRequestBinaryCodec::decode, GetEndpointsRequest.class, GetEndpointsRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(GetEndpointsRequestBinaryCodec::sizeOf, GetEndpointsRequest.class);
+    }
+
+}
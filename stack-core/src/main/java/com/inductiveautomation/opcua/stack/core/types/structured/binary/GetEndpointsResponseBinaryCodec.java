@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.EndpointDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.GetEndpointsResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class GetEndpointsResponseBinaryCodec {
+
+    private GetEndpointsResponseBinaryCodec() {}
+
+    public static void encode(GetEndpointsResponse getEndpointsResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = getEndpointsResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        EndpointDescription[] _endpoints = getEndpointsResponse.getEndpoints();
+        if (encoder.writeArrayLength(_endpoints)) {
+            for (EndpointDescription v : _endpoints) {
+                EndpointDescriptionBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static GetEndpointsResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        EndpointDescription[] _endpoints = new EndpointDescription[decoder.readArrayLength()];
+        for (int i = 0; i < _endpoints.length; i++) {
+            _endpoints[i] = EndpointDescriptionBinaryCodec.decode(decoder);
+        }
+
+        return new GetEndpointsResponse(_responseHeader, _endpoints);
+    }
+
+    public static int sizeOf(GetEndpointsResponse getEndpointsResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = getEndpointsResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        EndpointDescription[] _endpoints = getEndpointsResponse.getEndpoints();
+        size += 4;
+        if (_endpoints != null) {
+            for (EndpointDescription v : _endpoints) {
+                size += EndpointDescriptionBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(GetEndpointsResponseBinaryCodec::encode, GetEndpointsResponse.class);
+        DelegateRegistry.registerBinaryDecoder(GetEndpointsResponseBinaryCodec::decode, GetEndpointsResponse.class, GetEndpointsResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(GetEndpointsResponseBinaryCodec::sizeOf, GetEndpointsResponse.class);
+    }
+
+}
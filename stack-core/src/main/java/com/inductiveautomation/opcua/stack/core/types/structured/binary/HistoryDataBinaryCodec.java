@@ -0,0 +1,50 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryData;
+
+public final class HistoryDataBinaryCodec {
+
+    private HistoryDataBinaryCodec() {}
+
+    public static void encode(HistoryData historyData, BinaryEncoder encoder) {
+        DataValue[] _dataValues = historyData.getDataValues();
+        if (encoder.writeArrayLength(_dataValues)) {
+            for (DataValue v : _dataValues) {
+                encoder.encodeDataValue(null, v);
+            }
+        }
+    }
+
+    public static HistoryData decode(BinaryDecoder decoder) {
+        DataValue[] _dataValues = new DataValue[decoder.readArrayLength()];
+        for (int i = 0; i < _dataValues.length; i++) {
+            _dataValues[i] = decoder.decodeDataValue(null);
+        }
+
+        return new HistoryData(_dataValues);
+    }
+
+    public static int sizeOf(HistoryData historyData) {
+        int size = 0;
+        DataValue[] _dataValues = historyData.getDataValues();
+        size += 4;
+        if (_dataValues != null) {
+            for (DataValue v : _dataValues) {
+                size += BinarySize.sizeOfDataValue(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryDataBinaryCodec::encode, HistoryData.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryDataBinaryCodec::decode, HistoryData.class, HistoryData.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryDataBinaryCodec::sizeOf, HistoryData.class);
+    }
+
+}
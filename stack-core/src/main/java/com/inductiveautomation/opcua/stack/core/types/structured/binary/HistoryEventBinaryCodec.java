@@ -0,0 +1,49 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryEvent;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryEventFieldList;
+
+public final class HistoryEventBinaryCodec {
+
+    private HistoryEventBinaryCodec() {}
+
+    public static void encode(HistoryEvent historyEvent, BinaryEncoder encoder) {
+        HistoryEventFieldList[] _events = historyEvent.getEvents();
+        if (encoder.writeArrayLength(_events)) {
+            for (HistoryEventFieldList v : _events) {
+                HistoryEventFieldListBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static HistoryEvent decode(BinaryDecoder decoder) {
+        HistoryEventFieldList[] _events = new HistoryEventFieldList[decoder.readArrayLength()];
+        for (int i = 0; i < _events.length; i++) {
+            _events[i] = HistoryEventFieldListBinaryCodec.decode(decoder);
+        }
+
+        return new HistoryEvent(_events);
+    }
+
+    public static int sizeOf(HistoryEvent historyEvent) {
+        int size = 0;
+        HistoryEventFieldList[] _events = historyEvent.getEvents();
+        size += 4;
+        if (_events != null) {
+            for (HistoryEventFieldList v : _events) {
+                size += HistoryEventFieldListBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryEventBinaryCodec::encode, HistoryEvent.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryEventBinaryCodec::decode, HistoryEvent.class, HistoryEvent.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryEventBinaryCodec::sizeOf, HistoryEvent.class);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryEventFieldList;
+
+public final class HistoryEventFieldListBinaryCodec {
+
+    private HistoryEventFieldListBinaryCodec() {}
+
+    public static void encode(HistoryEventFieldList historyEventFieldList, BinaryEncoder encoder) {
+        Variant[] _eventFields = historyEventFieldList.getEventFields();
+        if (encoder.writeArrayLength(_eventFields)) {
+            for (Variant v : _eventFields) {
+                encoder.encodeVariant(null, v);
+            }
+        }
+    }
+
+    public static HistoryEventFieldList decode(BinaryDecoder decoder) {
+        Variant[] _eventFields = new Variant[decoder.readArrayLength()];
+        for (int i = 0; i < _eventFields.length; i++) {
+            _eventFields[i] = decoder.decodeVariant(null);
+        }
+
+        return new HistoryEventFieldList(_eventFields);
+    }
+
+    public static int sizeOf(HistoryEventFieldList historyEventFieldList) {
+        int size = 0;
+        Variant[] _eventFields = historyEventFieldList.getEventFields();
+        size += 4;
+        if (_eventFields != null) {
+            for (Variant v : _eventFields) {
+                size += BinarySize.sizeOfVariant(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryEventFieldListBinaryCodec::encode, HistoryEventFieldList.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryEventFieldListBinaryCodec::decode, HistoryEventFieldList.class, HistoryEventFieldList.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryEventFieldListBinaryCodec::sizeOf, HistoryEventFieldList.class);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryModifiedData;
+import com.inductiveautomation.opcua.stack.core.types.structured.ModificationInfo;
+
+public final class HistoryModifiedDataBinaryCodec {
+
+    private HistoryModifiedDataBinaryCodec() {}
+
+    public static void encode(HistoryModifiedData historyModifiedData, BinaryEncoder encoder) {
+        DataValue[] _dataValues = historyModifiedData.getDataValues();
+        if (encoder.writeArrayLength(_dataValues)) {
+            for (DataValue v : _dataValues) {
+                encoder.encodeDataValue(null, v);
+            }
+        }
+        ModificationInfo[] _modificationInfos = historyModifiedData.getModificationInfos();
+        if (encoder.writeArrayLength(_modificationInfos)) {
+            for (ModificationInfo v : _modificationInfos) {
+                ModificationInfoBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static HistoryModifiedData decode(BinaryDecoder decoder) {
+        DataValue[] _dataValues = new DataValue[decoder.readArrayLength()];
+        for (int i = 0; i < _dataValues.length; i++) {
+            _dataValues[i] = decoder.decodeDataValue(null);
+        }
+        ModificationInfo[] _modificationInfos = new ModificationInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _modificationInfos.length; i++) {
+            _modificationInfos[i] = ModificationInfoBinaryCodec.decode(decoder);
+        }
+
+        return new HistoryModifiedData(_dataValues, _modificationInfos);
+    }
+
+    public static int sizeOf(HistoryModifiedData historyModifiedData) {
+        int size = 0;
+        DataValue[] _dataValues = historyModifiedData.getDataValues();
+        size += 4;
+        if (_dataValues != null) {
+            for (DataValue v : _dataValues) {
+                size += BinarySize.sizeOfDataValue(v);
+            }
+        }
+        ModificationInfo[] _modificationInfos = historyModifiedData.getModificationInfos();
+        size += 4;
+        if (_modificationInfos != null) {
+            for (ModificationInfo v : _modificationInfos) {
+                size += ModificationInfoBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryModifiedDataBinaryCodec::encode, HistoryModifiedData.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryModifiedDataBinaryCodec::decode, HistoryModifiedData.class, HistoryModifiedData.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryModifiedDataBinaryCodec::sizeOf, HistoryModifiedData.class);
+    }
+
+}
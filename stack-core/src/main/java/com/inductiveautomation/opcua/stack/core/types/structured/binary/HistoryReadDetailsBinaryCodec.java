@@ -0,0 +1,31 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryReadDetails;
+
+public final class HistoryReadDetailsBinaryCodec {
+
+    private HistoryReadDetailsBinaryCodec() {}
+
+    public static void encode(HistoryReadDetails historyReadDetails, BinaryEncoder encoder) {
+    }
+
+    public static HistoryReadDetails decode(BinaryDecoder decoder) {
+
+        return new HistoryReadDetails();
+    }
+
+    public static int sizeOf(HistoryReadDetails historyReadDetails) {
+        int size = 0;
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryReadDetailsBinaryCodec::encode, HistoryReadDetails.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryReadDetailsBinaryCodec::decode, HistoryReadDetails.class, HistoryReadDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryReadDetailsBinaryCodec::sizeOf, HistoryReadDetails.class);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryReadRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryReadValueId;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class HistoryReadRequestBinaryCodec {
+
+    private HistoryReadRequestBinaryCodec() {}
+
+    public static void encode(HistoryReadRequest historyReadRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = historyReadRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeExtensionObject(null, historyReadRequest.getHistoryReadDetails());
+        TimestampsToReturn _timestampsToReturn = historyReadRequest.getTimestampsToReturn();
+        encoder.writeInt32(null, _timestampsToReturn != null ? _timestampsToReturn.getValue() : -1);
+        encoder.encodeBoolean(null, historyReadRequest.getReleaseContinuationPoints());
+        HistoryReadValueId[] _nodesToRead = historyReadRequest.getNodesToRead();
+        if (encoder.writeArrayLength(_nodesToRead)) {
+            for (HistoryReadValueId v : _nodesToRead) {
+                HistoryReadValueIdBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static HistoryReadRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        ExtensionObject _historyReadDetails = decoder.decodeExtensionObject(null);
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.from(decoder.readInt32(null));
+        Boolean _releaseContinuationPoints = decoder.decodeBoolean(null);
+        HistoryReadValueId[] _nodesToRead = new HistoryReadValueId[decoder.readArrayLength()];
+        for (int i = 0; i < _nodesToRead.length; i++) {
+            _nodesToRead[i] = HistoryReadValueIdBinaryCodec.decode(decoder);
+        }
+
+        return new HistoryReadRequest(_requestHeader, _historyReadDetails, _timestampsToReturn, _releaseContinuationPoints, _nodesToRead);
+    }
+
+    public static int sizeOf(HistoryReadRequest historyReadRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = historyReadRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += BinarySize.sizeOfExtensionObject(historyReadRequest.getHistoryReadDetails());
+        size += 4; // TimestampsToReturn
+        size += 1; // ReleaseContinuationPoints
+        HistoryReadValueId[] _nodesToRead = historyReadRequest.getNodesToRead();
+        size += 4;
+        if (_nodesToRead != null) {
+            for (HistoryReadValueId v : _nodesToRead) {
+                size += HistoryReadValueIdBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryReadRequestBinaryCodec::encode, HistoryReadRequest.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryReadRequestBinaryCodec::decode, HistoryReadRequest.class, HistoryReadRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryReadRequestBinaryCodec::sizeOf, HistoryReadRequest.class);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryReadResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryReadResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class HistoryReadResponseBinaryCodec {
+
+    private HistoryReadResponseBinaryCodec() {}
+
+    public static void encode(HistoryReadResponse historyReadResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = historyReadResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        HistoryReadResult[] _results = historyReadResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (HistoryReadResult v : _results) {
+                HistoryReadResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = historyReadResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static HistoryReadResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        HistoryReadResult[] _results = new HistoryReadResult[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = HistoryReadResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new HistoryReadResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(HistoryReadResponse historyReadResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = historyReadResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        HistoryReadResult[] _results = historyReadResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            for (HistoryReadResult v : _results) {
+                size += HistoryReadResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = historyReadResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryReadResponseBinaryCodec::encode, HistoryReadResponse.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryReadResponseBinaryCodec::decode, HistoryReadResponse.class, HistoryReadResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryReadResponseBinaryCodec::sizeOf, HistoryReadResponse.class);
+    }
+
+}
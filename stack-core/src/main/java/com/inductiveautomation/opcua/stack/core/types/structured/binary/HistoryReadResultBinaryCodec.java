@@ -0,0 +1,44 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryReadResult;
+
+public final class HistoryReadResultBinaryCodec {
+
+    private HistoryReadResultBinaryCodec() {}
+
+    public static void encode(HistoryReadResult historyReadResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, historyReadResult.getStatusCode());
+        encoder.encodeByteString(null, historyReadResult.getContinuationPoint());
+        encoder.encodeExtensionObject(null, historyReadResult.getHistoryData());
+    }
+
+    public static HistoryReadResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        ByteString _continuationPoint = decoder.decodeByteString(null);
+        ExtensionObject _historyData = decoder.decodeExtensionObject(null);
+
+        return new HistoryReadResult(_statusCode, _continuationPoint, _historyData);
+    }
+
+    public static int sizeOf(HistoryReadResult historyReadResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        size += BinarySize.sizeOfByteString(historyReadResult.getContinuationPoint());
+        size += BinarySize.sizeOfExtensionObject(historyReadResult.getHistoryData());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryReadResultBinaryCodec::encode, HistoryReadResult.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryReadResultBinaryCodec::decode, HistoryReadResult.class, HistoryReadResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryReadResultBinaryCodec::sizeOf, HistoryReadResult.class);
+    }
+
+}
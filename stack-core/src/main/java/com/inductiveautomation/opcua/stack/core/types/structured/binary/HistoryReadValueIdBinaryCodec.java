@@ -0,0 +1,47 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryReadValueId;
+
+public final class HistoryReadValueIdBinaryCodec {
+
+    private HistoryReadValueIdBinaryCodec() {}
+
+    public static void encode(HistoryReadValueId historyReadValueId, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, historyReadValueId.getNodeId());
+        encoder.encodeString(null, historyReadValueId.getIndexRange());
+        encoder.encodeQualifiedName(null, historyReadValueId.getDataEncoding());
+        encoder.encodeByteString(null, historyReadValueId.getContinuationPoint());
+    }
+
+    public static HistoryReadValueId decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        String _indexRange = decoder.decodeString(null);
+        QualifiedName _dataEncoding = decoder.decodeQualifiedName(null);
+        ByteString _continuationPoint = decoder.decodeByteString(null);
+
+        return new HistoryReadValueId(_nodeId, _indexRange, _dataEncoding, _continuationPoint);
+    }
+
+    public static int sizeOf(HistoryReadValueId historyReadValueId) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(historyReadValueId.getNodeId());
+        size += BinarySize.sizeOfString(historyReadValueId.getIndexRange());
+        size += BinarySize.sizeOfQualifiedName(historyReadValueId.getDataEncoding());
+        size += BinarySize.sizeOfByteString(historyReadValueId.getContinuationPoint());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryReadValueIdBinaryCodec::encode, HistoryReadValueId.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryReadValueIdBinaryCodec::decode, HistoryReadValueId.class, HistoryReadValueId.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryReadValueIdBinaryCodec::sizeOf, HistoryReadValueId.class);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryUpdateDetails;
+
+public final class HistoryUpdateDetailsBinaryCodec {
+
+    private HistoryUpdateDetailsBinaryCodec() {}
+
+    public static void encode(HistoryUpdateDetails historyUpdateDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, historyUpdateDetails.getNodeId());
+    }
+
+    public static HistoryUpdateDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+
+        return new HistoryUpdateDetails(_nodeId);
+    }
+
+    public static int sizeOf(HistoryUpdateDetails historyUpdateDetails) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(historyUpdateDetails.getNodeId());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryUpdateDetailsBinaryCodec::encode, HistoryUpdateDetails.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryUpdateDetailsBinaryCodec::decode, HistoryUpdateDetails.class, HistoryUpdateDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryUpdateDetailsBinaryCodec::sizeOf, HistoryUpdateDetails.class);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.EventFilterResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryUpdateEventResult;
+
+public final class HistoryUpdateEventResultBinaryCodec {
+
+    private HistoryUpdateEventResultBinaryCodec() {}
+
+    public static void encode(HistoryUpdateEventResult historyUpdateEventResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, historyUpdateEventResult.getStatusCode());
+        EventFilterResult _eventFilterResult = historyUpdateEventResult.getEventFilterResult();
+        EventFilterResultBinaryCodec.encode(_eventFilterResult != null ? _eventFilterResult : new EventFilterResult(), encoder);
+    }
+
+    public static HistoryUpdateEventResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        EventFilterResult _eventFilterResult = EventFilterResultBinaryCodec.decode(decoder);
+
+        return new HistoryUpdateEventResult(_statusCode, _eventFilterResult);
+    }
+
+    public static int sizeOf(HistoryUpdateEventResult historyUpdateEventResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        EventFilterResult _eventFilterResult = historyUpdateEventResult.getEventFilterResult();
+        size += EventFilterResultBinaryCodec.sizeOf(_eventFilterResult != null ? _eventFilterResult : new EventFilterResult());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryUpdateEventResultBinaryCodec::encode, HistoryUpdateEventResult.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryUpdateEventResultBinaryCodec::decode, HistoryUpdateEventResult.class, HistoryUpdateEventResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryUpdateEventResultBinaryCodec::sizeOf, HistoryUpdateEventResult.class);
+    }
+
+}
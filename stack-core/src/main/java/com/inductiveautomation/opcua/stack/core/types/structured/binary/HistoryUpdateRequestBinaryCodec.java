@@ -0,0 +1,56 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryUpdateRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class HistoryUpdateRequestBinaryCodec {
+
+    private HistoryUpdateRequestBinaryCodec() {}
+
+    public static void encode(HistoryUpdateRequest historyUpdateRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = historyUpdateRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        ExtensionObject[] _historyUpdateDetails = historyUpdateRequest.getHistoryUpdateDetails();
+        if (encoder.writeArrayLength(_historyUpdateDetails)) {
+            for (ExtensionObject v : _historyUpdateDetails) {
+                encoder.encodeExtensionObject(null, v);
+            }
+        }
+    }
+
+    public static HistoryUpdateRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        ExtensionObject[] _historyUpdateDetails = new ExtensionObject[decoder.readArrayLength()];
+        for (int i = 0; i < _historyUpdateDetails.length; i++) {
+            _historyUpdateDetails[i] = decoder.decodeExtensionObject(null);
+        }
+
+        return new HistoryUpdateRequest(_requestHeader, _historyUpdateDetails);
+    }
+
+    public static int sizeOf(HistoryUpdateRequest historyUpdateRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = historyUpdateRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        ExtensionObject[] _historyUpdateDetails = historyUpdateRequest.getHistoryUpdateDetails();
+        size += 4;
+        if (_historyUpdateDetails != null) {
+            for (ExtensionObject v : _historyUpdateDetails) {
+                size += BinarySize.sizeOfExtensionObject(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryUpdateRequestBinaryCodec::encode, HistoryUpdateRequest.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryUpdateRequestBinaryCodec::decode, HistoryUpdateRequest.class, HistoryUpdateRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryUpdateRequestBinaryCodec::sizeOf, HistoryUpdateRequest.class);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryUpdateResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryUpdateResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class HistoryUpdateResponseBinaryCodec {
+
+    private HistoryUpdateResponseBinaryCodec() {}
+
+    public static void encode(HistoryUpdateResponse historyUpdateResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = historyUpdateResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        HistoryUpdateResult[] _results = historyUpdateResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (HistoryUpdateResult v : _results) {
+                HistoryUpdateResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = historyUpdateResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static HistoryUpdateResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        HistoryUpdateResult[] _results = new HistoryUpdateResult[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = HistoryUpdateResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new HistoryUpdateResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(HistoryUpdateResponse historyUpdateResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = historyUpdateResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        HistoryUpdateResult[] _results = historyUpdateResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            for (HistoryUpdateResult v : _results) {
+                size += HistoryUpdateResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = historyUpdateResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryUpdateResponseBinaryCodec::encode, HistoryUpdateResponse.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryUpdateResponseBinaryCodec::decode, HistoryUpdateResponse.class, HistoryUpdateResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryUpdateResponseBinaryCodec::sizeOf, HistoryUpdateResponse.class);
+    }
+
+}
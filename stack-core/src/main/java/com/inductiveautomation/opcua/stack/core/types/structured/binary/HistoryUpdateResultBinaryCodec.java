@@ -0,0 +1,69 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryUpdateResult;
+
+public final class HistoryUpdateResultBinaryCodec {
+
+    private HistoryUpdateResultBinaryCodec() {}
+
+    public static void encode(HistoryUpdateResult historyUpdateResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, historyUpdateResult.getStatusCode());
+        StatusCode[] _operationResults = historyUpdateResult.getOperationResults();
+        if (encoder.writeArrayLength(_operationResults)) {
+            for (StatusCode v : _operationResults) {
+                encoder.encodeStatusCode(null, v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = historyUpdateResult.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static HistoryUpdateResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        StatusCode[] _operationResults = new StatusCode[decoder.readArrayLength()];
+        for (int i = 0; i < _operationResults.length; i++) {
+            _operationResults[i] = decoder.decodeStatusCode(null);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new HistoryUpdateResult(_statusCode, _operationResults, _diagnosticInfos);
+    }
+
+    public static int sizeOf(HistoryUpdateResult historyUpdateResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        StatusCode[] _operationResults = historyUpdateResult.getOperationResults();
+        size += 4;
+        if (_operationResults != null) {
+            size += _operationResults.length * 4;
+        }
+        DiagnosticInfo[] _diagnosticInfos = historyUpdateResult.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(HistoryUpdateResultBinaryCodec::encode, HistoryUpdateResult.class);
+        DelegateRegistry.registerBinaryDecoder(HistoryUpdateResultBinaryCodec::decode, HistoryUpdateResult.class, HistoryUpdateResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(HistoryUpdateResultBinaryCodec::sizeOf, HistoryUpdateResult.class);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.InstanceNode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+
+public final class InstanceNodeBinaryCodec {
+
+    private InstanceNodeBinaryCodec() {}
+
+    public static void encode(InstanceNode instanceNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, instanceNode.getNodeId());
+        NodeClass _nodeClass = instanceNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, instanceNode.getBrowseName());
+        encoder.encodeLocalizedText(null, instanceNode.getDisplayName());
+        encoder.encodeLocalizedText(null, instanceNode.getDescription());
+        encoder.encodeUInt32(null, instanceNode.getWriteMask());
+        encoder.encodeUInt32(null, instanceNode.getUserWriteMask());
+        ReferenceNode[] _references = instanceNode.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceNode v : _references) {
+                ReferenceNodeBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static InstanceNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references = new ReferenceNode[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+        }
+
+        return new InstanceNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
+    }
+
+    public static int sizeOf(InstanceNode instanceNode) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(instanceNode.getNodeId());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfQualifiedName(instanceNode.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(instanceNode.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(instanceNode.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        ReferenceNode[] _references = instanceNode.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceNode v : _references) {
+                size += ReferenceNodeBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(InstanceNodeBinaryCodec::encode, InstanceNode.class);
+        DelegateRegistry.registerBinaryDecoder(InstanceNodeBinaryCodec::decode, InstanceNode.class, InstanceNode.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(InstanceNodeBinaryCodec::sizeOf, InstanceNode.class);
+    }
+
+}
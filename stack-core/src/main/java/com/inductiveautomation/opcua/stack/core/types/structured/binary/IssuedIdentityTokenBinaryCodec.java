@@ -0,0 +1,42 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.structured.IssuedIdentityToken;
+
+public final class IssuedIdentityTokenBinaryCodec {
+
+    private IssuedIdentityTokenBinaryCodec() {}
+
+    public static void encode(IssuedIdentityToken issuedIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString(null, issuedIdentityToken.getPolicyId());
+        encoder.encodeByteString(null, issuedIdentityToken.getTokenData());
+        encoder.encodeString(null, issuedIdentityToken.getEncryptionAlgorithm());
+    }
+
+    public static IssuedIdentityToken decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+        ByteString _tokenData = decoder.decodeByteString(null);
+        String _encryptionAlgorithm = decoder.decodeString(null);
+
+        return new IssuedIdentityToken(_policyId, _tokenData, _encryptionAlgorithm);
+    }
+
+    public static int sizeOf(IssuedIdentityToken issuedIdentityToken) {
+        int size = 0;
+        size += BinarySize.sizeOfString(issuedIdentityToken.getPolicyId());
+        size += BinarySize.sizeOfByteString(issuedIdentityToken.getTokenData());
+        size += BinarySize.sizeOfString(issuedIdentityToken.getEncryptionAlgorithm());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(IssuedIdentityTokenBinaryCodec::encode, IssuedIdentityToken.class);
+        DelegateRegistry.registerBinaryDecoder(IssuedIdentityTokenBinaryCodec::decode, IssuedIdentityToken.class, IssuedIdentityToken.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(IssuedIdentityTokenBinaryCodec::sizeOf, IssuedIdentityToken.class);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.structured.LiteralOperand;
+
+public final class LiteralOperandBinaryCodec {
+
+    private LiteralOperandBinaryCodec() {}
+
+    public static void encode(LiteralOperand literalOperand, BinaryEncoder encoder) {
+        encoder.encodeVariant(null, literalOperand.getValue());
+    }
+
+    public static LiteralOperand decode(BinaryDecoder decoder) {
+        Variant _value = decoder.decodeVariant(null);
+
+        return new LiteralOperand(_value);
+    }
+
+    public static int sizeOf(LiteralOperand literalOperand) {
+        int size = 0;
+        size += BinarySize.sizeOfVariant(literalOperand.getValue());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(LiteralOperandBinaryCodec::encode, LiteralOperand.class);
+        DelegateRegistry.registerBinaryDecoder(LiteralOperandBinaryCodec::decode, LiteralOperand.class, LiteralOperand.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(LiteralOperandBinaryCodec::sizeOf, LiteralOperand.class);
+    }
+
+}
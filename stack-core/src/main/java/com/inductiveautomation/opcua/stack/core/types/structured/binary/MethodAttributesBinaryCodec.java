@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.MethodAttributes;
+
+public final class MethodAttributesBinaryCodec {
+
+    private MethodAttributesBinaryCodec() {}
+
+    public static void encode(MethodAttributes methodAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, methodAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, methodAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, methodAttributes.getDescription());
+        encoder.encodeUInt32(null, methodAttributes.getWriteMask());
+        encoder.encodeUInt32(null, methodAttributes.getUserWriteMask());
+        encoder.encodeBoolean(null, methodAttributes.getExecutable());
+        encoder.encodeBoolean(null, methodAttributes.getUserExecutable());
+    }
+
+    public static MethodAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Boolean _executable = decoder.decodeBoolean(null);
+        Boolean _userExecutable = decoder.decodeBoolean(null);
+
+        return new MethodAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _executable, _userExecutable);
+    }
+
+    public static int sizeOf(MethodAttributes methodAttributes) {
+        int size = 0;
+        size += 4; // SpecifiedAttributes
+        size += BinarySize.sizeOfLocalizedText(methodAttributes.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(methodAttributes.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        size += 1; // Executable
+        size += 1; // UserExecutable
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(MethodAttributesBinaryCodec::encode, MethodAttributes.class);
+        DelegateRegistry.registerBinaryDecoder(MethodAttributesBinaryCodec::decode, MethodAttributes.class, MethodAttributes.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(MethodAttributesBinaryCodec::sizeOf, MethodAttributes.class);
+    }
+
+}
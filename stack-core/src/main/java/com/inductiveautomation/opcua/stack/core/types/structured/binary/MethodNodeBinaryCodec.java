@@ -0,0 +1,83 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.MethodNode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+
+public final class MethodNodeBinaryCodec {
+
+    private MethodNodeBinaryCodec() {}
+
+    public static void encode(MethodNode methodNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, methodNode.getNodeId());
+        NodeClass _nodeClass = methodNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, methodNode.getBrowseName());
+        encoder.encodeLocalizedText(null, methodNode.getDisplayName());
+        encoder.encodeLocalizedText(null, methodNode.getDescription());
+        encoder.encodeUInt32(null, methodNode.getWriteMask());
+        encoder.encodeUInt32(null, methodNode.getUserWriteMask());
+        ReferenceNode[] _references = methodNode.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceNode v : _references) {
+                ReferenceNodeBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeBoolean(null, methodNode.getExecutable());
+        encoder.encodeBoolean(null, methodNode.getUserExecutable());
+    }
+
+    public static MethodNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references = new ReferenceNode[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+        }
+        Boolean _executable = decoder.decodeBoolean(null);
+        Boolean _userExecutable = decoder.decodeBoolean(null);
+
+        return new MethodNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _executable, _userExecutable);
+    }
+
+    public static int sizeOf(MethodNode methodNode) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(methodNode.getNodeId());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfQualifiedName(methodNode.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(methodNode.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(methodNode.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        ReferenceNode[] _references = methodNode.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceNode v : _references) {
+                size += ReferenceNodeBinaryCodec.sizeOf(v);
+            }
+        }
+        size += 1; // Executable
+        size += 1; // UserExecutable
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(MethodNodeBinaryCodec::encode, MethodNode.class);
+        DelegateRegistry.registerBinaryDecoder(MethodNodeBinaryCodec::decode, MethodNode.class, MethodNode.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(MethodNodeBinaryCodec::sizeOf, MethodNode.class);
+    }
+
+}
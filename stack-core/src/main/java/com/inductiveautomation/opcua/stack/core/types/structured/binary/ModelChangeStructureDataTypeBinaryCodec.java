@@ -0,0 +1,43 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.structured.ModelChangeStructureDataType;
+
+public final class ModelChangeStructureDataTypeBinaryCodec {
+
+    private ModelChangeStructureDataTypeBinaryCodec() {}
+
+    public static void encode(ModelChangeStructureDataType modelChangeStructureDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, modelChangeStructureDataType.getAffected());
+        encoder.encodeNodeId(null, modelChangeStructureDataType.getAffectedType());
+        encoder.encodeByte(null, modelChangeStructureDataType.getVerb());
+    }
+
+    public static ModelChangeStructureDataType decode(BinaryDecoder decoder) {
+        NodeId _affected = decoder.decodeNodeId(null);
+        NodeId _affectedType = decoder.decodeNodeId(null);
+        UByte _verb = decoder.decodeByte(null);
+
+        return new ModelChangeStructureDataType(_affected, _affectedType, _verb);
+    }
+
+    public static int sizeOf(ModelChangeStructureDataType modelChangeStructureDataType) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(modelChangeStructureDataType.getAffected());
+        size += BinarySize.sizeOfNodeId(modelChangeStructureDataType.getAffectedType());
+        size += 1; // Verb
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ModelChangeStructureDataTypeBinaryCodec::encode, ModelChangeStructureDataType.class);
+        DelegateRegistry.registerBinaryDecoder(ModelChangeStructureDataTypeBinaryCodec::decode, ModelChangeStructureDataType.class, ModelChangeStructureDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ModelChangeStructureDataTypeBinaryCodec::sizeOf, ModelChangeStructureDataType.class);
+    }
+
+}
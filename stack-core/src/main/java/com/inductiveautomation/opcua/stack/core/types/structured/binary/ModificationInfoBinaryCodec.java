@@ -0,0 +1,44 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.HistoryUpdateType;
+import com.inductiveautomation.opcua.stack.core.types.structured.ModificationInfo;
+
+public final class ModificationInfoBinaryCodec {
+
+    private ModificationInfoBinaryCodec() {}
+
+    public static void encode(ModificationInfo modificationInfo, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, modificationInfo.getModificationTime());
+        HistoryUpdateType _updateType = modificationInfo.getUpdateType();
+        encoder.writeInt32(null, _updateType != null ? _updateType.getValue() : -1);
+        encoder.encodeString(null, modificationInfo.getUserName());
+    }
+
+    public static ModificationInfo decode(BinaryDecoder decoder) {
+        DateTime _modificationTime = decoder.decodeDateTime(null);
+        HistoryUpdateType _updateType = HistoryUpdateType.from(decoder.readInt32(null));
+        String _userName = decoder.decodeString(null);
+
+        return new ModificationInfo(_modificationTime, _updateType, _userName);
+    }
+
+    public static int sizeOf(ModificationInfo modificationInfo) {
+        int size = 0;
+        size += 8; // ModificationTime
+        size += 4; // UpdateType
+        size += BinarySize.sizeOfString(modificationInfo.getUserName());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ModificationInfoBinaryCodec::encode, ModificationInfo.class);
+        DelegateRegistry.registerBinaryDecoder(ModificationInfoBinaryCodec::decode, ModificationInfo.class, ModificationInfo.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ModificationInfoBinaryCodec::sizeOf, ModificationInfo.class);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.inductiveautomation.opcua.stack.core.types.structured.ModifyMonitoredItemsRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemModifyRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class ModifyMonitoredItemsRequestBinaryCodec {
+
+    private ModifyMonitoredItemsRequestBinaryCodec() {}
+
+    public static void encode(ModifyMonitoredItemsRequest modifyMonitoredItemsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = modifyMonitoredItemsRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32(null, modifyMonitoredItemsRequest.getSubscriptionId());
+        TimestampsToReturn _timestampsToReturn = modifyMonitoredItemsRequest.getTimestampsToReturn();
+        encoder.writeInt32(null, _timestampsToReturn != null ? _timestampsToReturn.getValue() : -1);
+        MonitoredItemModifyRequest[] _itemsToModify = modifyMonitoredItemsRequest.getItemsToModify();
+        if (encoder.writeArrayLength(_itemsToModify)) {
+            for (MonitoredItemModifyRequest v : _itemsToModify) {
+                MonitoredItemModifyRequestBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static ModifyMonitoredItemsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.from(decoder.readInt32(null));
+        MonitoredItemModifyRequest[] _itemsToModify = new MonitoredItemModifyRequest[decoder.readArrayLength()];
+        for (int i = 0; i < _itemsToModify.length; i++) {
+            _itemsToModify[i] = MonitoredItemModifyRequestBinaryCodec.decode(decoder);
+        }
+
+        return new ModifyMonitoredItemsRequest(_requestHeader, _subscriptionId, _timestampsToReturn, _itemsToModify);
+    }
+
+    public static int sizeOf(ModifyMonitoredItemsRequest modifyMonitoredItemsRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = modifyMonitoredItemsRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 4; // SubscriptionId
+        size += 4; // TimestampsToReturn
+        MonitoredItemModifyRequest[] _itemsToModify = modifyMonitoredItemsRequest.getItemsToModify();
+        size += 4;
+        if (_itemsToModify != null) {
+            for (MonitoredItemModifyRequest v : _itemsToModify) {
+                size += MonitoredItemModifyRequestBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ModifyMonitoredItemsRequestBinaryCodec::encode, ModifyMonitoredItemsRequest.class);
+        DelegateRegistry.registerBinaryDecoder(ModifyMonitoredItemsRequestBinaryCodec::decode, ModifyMonitoredItemsRequest.class, ModifyMonitoredItemsRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ModifyMonitoredItemsRequestBinaryCodec::sizeOf, ModifyMonitoredItemsRequest.class);
+    }
+
+}
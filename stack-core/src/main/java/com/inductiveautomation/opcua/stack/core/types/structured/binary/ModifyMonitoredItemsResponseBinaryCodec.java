@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.ModifyMonitoredItemsResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemModifyResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class ModifyMonitoredItemsResponseBinaryCodec {
+
+    private ModifyMonitoredItemsResponseBinaryCodec() {}
+
+    public static void encode(ModifyMonitoredItemsResponse modifyMonitoredItemsResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = modifyMonitoredItemsResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        MonitoredItemModifyResult[] _results = modifyMonitoredItemsResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (MonitoredItemModifyResult v : _results) {
+                MonitoredItemModifyResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = modifyMonitoredItemsResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static ModifyMonitoredItemsResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        MonitoredItemModifyResult[] _results = new MonitoredItemModifyResult[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = MonitoredItemModifyResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new ModifyMonitoredItemsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(ModifyMonitoredItemsResponse modifyMonitoredItemsResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = modifyMonitoredItemsResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        MonitoredItemModifyResult[] _results = modifyMonitoredItemsResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            for (MonitoredItemModifyResult v : _results) {
+                size += MonitoredItemModifyResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = modifyMonitoredItemsResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ModifyMonitoredItemsResponseBinaryCodec::encode, ModifyMonitoredItemsResponse.class);
+        DelegateRegistry.registerBinaryDecoder(ModifyMonitoredItemsResponseBinaryCodec::decode, ModifyMonitoredItemsResponse.class, ModifyMonitoredItemsResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ModifyMonitoredItemsResponseBinaryCodec::sizeOf, ModifyMonitoredItemsResponse.class);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ModifySubscriptionRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class ModifySubscriptionRequestBinaryCodec {
+
+    private ModifySubscriptionRequestBinaryCodec() {}
+
+    public static void encode(ModifySubscriptionRequest modifySubscriptionRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = modifySubscriptionRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32(null, modifySubscriptionRequest.getSubscriptionId());
+        encoder.encodeDouble(null, modifySubscriptionRequest.getRequestedPublishingInterval());
+        encoder.encodeUInt32(null, modifySubscriptionRequest.getRequestedLifetimeCount());
+        encoder.encodeUInt32(null, modifySubscriptionRequest.getRequestedMaxKeepAliveCount());
+        encoder.encodeUInt32(null, modifySubscriptionRequest.getMaxNotificationsPerPublish());
+        encoder.encodeByte(null, modifySubscriptionRequest.getPriority());
+    }
+
+    public static ModifySubscriptionRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        Double _requestedPublishingInterval = decoder.decodeDouble(null);
+        UInteger _requestedLifetimeCount = decoder.decodeUInt32(null);
+        UInteger _requestedMaxKeepAliveCount = decoder.decodeUInt32(null);
+        UInteger _maxNotificationsPerPublish = decoder.decodeUInt32(null);
+        UByte _priority = decoder.decodeByte(null);
+
+        return new ModifySubscriptionRequest(_requestHeader, _subscriptionId, _requestedPublishingInterval, _requestedLifetimeCount, _requestedMaxKeepAliveCount, _maxNotificationsPerPublish, _priority);
+    }
+
+    public static int sizeOf(ModifySubscriptionRequest modifySubscriptionRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = modifySubscriptionRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 4; // SubscriptionId
+        size += 8; // RequestedPublishingInterval
+        size += 4; // RequestedLifetimeCount
+        size += 4; // RequestedMaxKeepAliveCount
+        size += 4; // MaxNotificationsPerPublish
+        size += 1; // Priority
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ModifySubscriptionRequestBinaryCodec::encode, ModifySubscriptionRequest.class);
+        DelegateRegistry.registerBinaryDecoder(ModifySubscriptionRequestBinaryCodec::decode, ModifySubscriptionRequest.class, ModifySubscriptionRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ModifySubscriptionRequestBinaryCodec::sizeOf, ModifySubscriptionRequest.class);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ModifySubscriptionResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class ModifySubscriptionResponseBinaryCodec {
+
+    private ModifySubscriptionResponseBinaryCodec() {}
+
+    public static void encode(ModifySubscriptionResponse modifySubscriptionResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = modifySubscriptionResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeDouble(null, modifySubscriptionResponse.getRevisedPublishingInterval());
+        encoder.encodeUInt32(null, modifySubscriptionResponse.getRevisedLifetimeCount());
+        encoder.encodeUInt32(null, modifySubscriptionResponse.getRevisedMaxKeepAliveCount());
+    }
+
+    public static ModifySubscriptionResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        Double _revisedPublishingInterval = decoder.decodeDouble(null);
+        UInteger _revisedLifetimeCount = decoder.decodeUInt32(null);
+        UInteger _revisedMaxKeepAliveCount = decoder.decodeUInt32(null);
+
+        return new ModifySubscriptionResponse(_responseHeader, _revisedPublishingInterval, _revisedLifetimeCount, _revisedMaxKeepAliveCount);
+    }
+
+    public static int sizeOf(ModifySubscriptionResponse modifySubscriptionResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = modifySubscriptionResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        size += 8; // RevisedPublishingInterval
+        size += 4; // RevisedLifetimeCount
+        size += 4; // RevisedMaxKeepAliveCount
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ModifySubscriptionResponseBinaryCodec::encode, ModifySubscriptionResponse.class);
+        DelegateRegistry.registerBinaryDecoder(ModifySubscriptionResponseBinaryCodec::decode, ModifySubscriptionResponse.class, ModifySubscriptionResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ModifySubscriptionResponseBinaryCodec::sizeOf, ModifySubscriptionResponse.class);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MonitoringMode;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemCreateRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoringParameters;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+
+public final class MonitoredItemCreateRequestBinaryCodec {
+
+    private MonitoredItemCreateRequestBinaryCodec() {}
+
+    public static void encode(MonitoredItemCreateRequest monitoredItemCreateRequest, BinaryEncoder encoder) {
+        ReadValueId _itemToMonitor = monitoredItemCreateRequest.getItemToMonitor();
+        ReadValueIdBinaryCodec.encode(_itemToMonitor != null ? _itemToMonitor : new ReadValueId(), encoder);
+        MonitoringMode _monitoringMode = monitoredItemCreateRequest.getMonitoringMode();
+        encoder.writeInt32(null, _monitoringMode != null ? _monitoringMode.getValue() : -1);
+        MonitoringParameters _requestedParameters = monitoredItemCreateRequest.getRequestedParameters();
+        MonitoringParametersBinaryCodec.encode(_requestedParameters != null ? _requestedParameters : new MonitoringParameters(), encoder);
+    }
+
+    public static MonitoredItemCreateRequest decode(BinaryDecoder decoder) {
+        ReadValueId _itemToMonitor = ReadValueIdBinaryCodec.decode(decoder);
+        MonitoringMode _monitoringMode = MonitoringMode.from(decoder.readInt32(null));
+        MonitoringParameters _requestedParameters = MonitoringParametersBinaryCodec.decode(decoder);
+
+        return new MonitoredItemCreateRequest(_itemToMonitor, _monitoringMode, _requestedParameters);
+    }
+
+    public static int sizeOf(MonitoredItemCreateRequest monitoredItemCreateRequest) {
+        int size = 0;
+        ReadValueId _itemToMonitor = monitoredItemCreateRequest.getItemToMonitor();
+        size += ReadValueIdBinaryCodec.sizeOf(_itemToMonitor != null ? _itemToMonitor : new ReadValueId());
+        size += 4; // MonitoringMode
+        MonitoringParameters _requestedParameters = monitoredItemCreateRequest.getRequestedParameters();
+        size += MonitoringParametersBinaryCodec.sizeOf(_requestedParameters != null ? _requestedParameters : new MonitoringParameters());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(MonitoredItemCreateRequestBinaryCodec::encode, MonitoredItemCreateRequest.class);
+        DelegateRegistry.registerBinaryDecoder(MonitoredItemCreateRequestBinaryCodec::decode, MonitoredItemCreateRequest.class, MonitoredItemCreateRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(MonitoredItemCreateRequestBinaryCodec::sizeOf, MonitoredItemCreateRequest.class);
+    }
+
+}
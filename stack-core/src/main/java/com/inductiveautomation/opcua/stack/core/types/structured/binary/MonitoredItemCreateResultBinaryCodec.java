@@ -0,0 +1,50 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemCreateResult;
+
+public final class MonitoredItemCreateResultBinaryCodec {
+
+    private MonitoredItemCreateResultBinaryCodec() {}
+
+    public static void encode(MonitoredItemCreateResult monitoredItemCreateResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, monitoredItemCreateResult.getStatusCode());
+        encoder.encodeUInt32(null, monitoredItemCreateResult.getMonitoredItemId());
+        encoder.encodeDouble(null, monitoredItemCreateResult.getRevisedSamplingInterval());
+        encoder.encodeUInt32(null, monitoredItemCreateResult.getRevisedQueueSize());
+        encoder.encodeExtensionObject(null, monitoredItemCreateResult.getFilterResult());
+    }
+
+    public static MonitoredItemCreateResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        UInteger _monitoredItemId = decoder.decodeUInt32(null);
+        Double _revisedSamplingInterval = decoder.decodeDouble(null);
+        UInteger _revisedQueueSize = decoder.decodeUInt32(null);
+        ExtensionObject _filterResult = decoder.decodeExtensionObject(null);
+
+        return new MonitoredItemCreateResult(_statusCode, _monitoredItemId, _revisedSamplingInterval, _revisedQueueSize, _filterResult);
+    }
+
+    public static int sizeOf(MonitoredItemCreateResult monitoredItemCreateResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        size += 4; // MonitoredItemId
+        size += 8; // RevisedSamplingInterval
+        size += 4; // RevisedQueueSize
+        size += BinarySize.sizeOfExtensionObject(monitoredItemCreateResult.getFilterResult());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(MonitoredItemCreateResultBinaryCodec::encode, MonitoredItemCreateResult.class);
+        DelegateRegistry.registerBinaryDecoder(MonitoredItemCreateResultBinaryCodec::decode, MonitoredItemCreateResult.class, MonitoredItemCreateResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(MonitoredItemCreateResultBinaryCodec::sizeOf, MonitoredItemCreateResult.class);
+    }
+
+}
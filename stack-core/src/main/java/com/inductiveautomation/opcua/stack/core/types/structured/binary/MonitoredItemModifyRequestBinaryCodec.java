@@ -0,0 +1,41 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemModifyRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoringParameters;
+
+public final class MonitoredItemModifyRequestBinaryCodec {
+
+    private MonitoredItemModifyRequestBinaryCodec() {}
+
+    public static void encode(MonitoredItemModifyRequest monitoredItemModifyRequest, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, monitoredItemModifyRequest.getMonitoredItemId());
+        MonitoringParameters _requestedParameters = monitoredItemModifyRequest.getRequestedParameters();
+        MonitoringParametersBinaryCodec.encode(_requestedParameters != null ? _requestedParameters : new MonitoringParameters(), encoder);
+    }
+
+    public static MonitoredItemModifyRequest decode(BinaryDecoder decoder) {
+        UInteger _monitoredItemId = decoder.decodeUInt32(null);
+        MonitoringParameters _requestedParameters = MonitoringParametersBinaryCodec.decode(decoder);
+
+        return new MonitoredItemModifyRequest(_monitoredItemId, _requestedParameters);
+    }
+
+    public static int sizeOf(MonitoredItemModifyRequest monitoredItemModifyRequest) {
+        int size = 0;
+        size += 4; // MonitoredItemId
+        MonitoringParameters _requestedParameters = monitoredItemModifyRequest.getRequestedParameters();
+        size += MonitoringParametersBinaryCodec.sizeOf(_requestedParameters != null ? _requestedParameters : new MonitoringParameters());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(MonitoredItemModifyRequestBinaryCodec::encode, MonitoredItemModifyRequest.class);
+        DelegateRegistry.registerBinaryDecoder(MonitoredItemModifyRequestBinaryCodec::decode, MonitoredItemModifyRequest.class, MonitoredItemModifyRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(MonitoredItemModifyRequestBinaryCodec::sizeOf, MonitoredItemModifyRequest.class);
+    }
+
+}
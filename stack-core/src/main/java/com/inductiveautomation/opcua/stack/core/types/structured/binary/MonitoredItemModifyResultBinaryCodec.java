@@ -0,0 +1,47 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemModifyResult;
+
+public final class MonitoredItemModifyResultBinaryCodec {
+
+    private MonitoredItemModifyResultBinaryCodec() {}
+
+    public static void encode(MonitoredItemModifyResult monitoredItemModifyResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, monitoredItemModifyResult.getStatusCode());
+        encoder.encodeDouble(null, monitoredItemModifyResult.getRevisedSamplingInterval());
+        encoder.encodeUInt32(null, monitoredItemModifyResult.getRevisedQueueSize());
+        encoder.encodeExtensionObject(null, monitoredItemModifyResult.getFilterResult());
+    }
+
+    public static MonitoredItemModifyResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        Double _revisedSamplingInterval = decoder.decodeDouble(null);
+        UInteger _revisedQueueSize = decoder.decodeUInt32(null);
+        ExtensionObject _filterResult = decoder.decodeExtensionObject(null);
+
+        return new MonitoredItemModifyResult(_statusCode, _revisedSamplingInterval, _revisedQueueSize, _filterResult);
+    }
+
+    public static int sizeOf(MonitoredItemModifyResult monitoredItemModifyResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        size += 8; // RevisedSamplingInterval
+        size += 4; // RevisedQueueSize
+        size += BinarySize.sizeOfExtensionObject(monitoredItemModifyResult.getFilterResult());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(MonitoredItemModifyResultBinaryCodec::encode, MonitoredItemModifyResult.class);
+        DelegateRegistry.registerBinaryDecoder(MonitoredItemModifyResultBinaryCodec::decode, MonitoredItemModifyResult.class, MonitoredItemModifyResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(MonitoredItemModifyResultBinaryCodec::sizeOf, MonitoredItemModifyResult.class);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemNotification;
+
+public final class MonitoredItemNotificationBinaryCodec {
+
+    private MonitoredItemNotificationBinaryCodec() {}
+
+    public static void encode(MonitoredItemNotification monitoredItemNotification, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, monitoredItemNotification.getClientHandle());
+        encoder.encodeDataValue(null, monitoredItemNotification.getValue());
+    }
+
+    public static MonitoredItemNotification decode(BinaryDecoder decoder) {
+        UInteger _clientHandle = decoder.decodeUInt32(null);
+        DataValue _value = decoder.decodeDataValue(null);
+
+        return new MonitoredItemNotification(_clientHandle, _value);
+    }
+
+    public static int sizeOf(MonitoredItemNotification monitoredItemNotification) {
+        int size = 0;
+        size += 4; // ClientHandle
+        size += BinarySize.sizeOfDataValue(monitoredItemNotification.getValue());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(MonitoredItemNotificationBinaryCodec::encode, MonitoredItemNotification.class);
+        DelegateRegistry.registerBinaryDecoder(MonitoredItemNotificationBinaryCodec::decode, MonitoredItemNotification.class, MonitoredItemNotification.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(MonitoredItemNotificationBinaryCodec::sizeOf, MonitoredItemNotification.class);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoringFilter;
+
+public final class MonitoringFilterBinaryCodec {
+
+    private MonitoringFilterBinaryCodec() {}
+
+    public static void encode(MonitoringFilter monitoringFilter, BinaryEncoder encoder) {
+    }
+
+    public static MonitoringFilter decode(BinaryDecoder decoder) {
+
+        return new MonitoringFilter();
+    }
+
+    public static int sizeOf(MonitoringFilter monitoringFilter) {
+        int size = 0;
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(MonitoringFilterBinaryCodec::encode, MonitoringFilter.class);
+        DelegateRegistry.registerBinaryDecoder(MonitoringFilterBinaryCodec::decode, MonitoringFilter.class, MonitoringFilter.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(MonitoringFilterBinaryCodec::sizeOf, MonitoringFilter.class);
+    }
+
+}
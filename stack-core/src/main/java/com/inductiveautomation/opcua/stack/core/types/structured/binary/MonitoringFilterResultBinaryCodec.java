@@ -0,0 +1,31 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoringFilterResult;
+
+public final class MonitoringFilterResultBinaryCodec {
+
+    private MonitoringFilterResultBinaryCodec() {}
+
+    public static void encode(MonitoringFilterResult monitoringFilterResult, BinaryEncoder encoder) {
+    }
+
+    public static MonitoringFilterResult decode(BinaryDecoder decoder) {
+
+        return new MonitoringFilterResult();
+    }
+
+    public static int sizeOf(MonitoringFilterResult monitoringFilterResult) {
+        int size = 0;
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(MonitoringFilterResultBinaryCodec::encode, MonitoringFilterResult.class);
+        DelegateRegistry.registerBinaryDecoder(MonitoringFilterResultBinaryCodec::decode, MonitoringFilterResult.class, MonitoringFilterResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(MonitoringFilterResultBinaryCodec::sizeOf, MonitoringFilterResult.class);
+    }
+
+}
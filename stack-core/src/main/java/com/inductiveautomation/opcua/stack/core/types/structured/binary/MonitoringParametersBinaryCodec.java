@@ -0,0 +1,49 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoringParameters;
+
+public final class MonitoringParametersBinaryCodec {
+
+    private MonitoringParametersBinaryCodec() {}
+
+    public static void encode(MonitoringParameters monitoringParameters, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, monitoringParameters.getClientHandle());
+        encoder.encodeDouble(null, monitoringParameters.getSamplingInterval());
+        encoder.encodeExtensionObject(null, monitoringParameters.getFilter());
+        encoder.encodeUInt32(null, monitoringParameters.getQueueSize());
+        encoder.encodeBoolean(null, monitoringParameters.getDiscardOldest());
+    }
+
+    public static MonitoringParameters decode(BinaryDecoder decoder) {
+        UInteger _clientHandle = decoder.decodeUInt32(null);
+        Double _samplingInterval = decoder.decodeDouble(null);
+        ExtensionObject _filter = decoder.decodeExtensionObject(null);
+        UInteger _queueSize = decoder.decodeUInt32(null);
+        Boolean _discardOldest = decoder.decodeBoolean(null);
+
+        return new MonitoringParameters(_clientHandle, _samplingInterval, _filter, _queueSize, _discardOldest);
+    }
+
+    public static int sizeOf(MonitoringParameters monitoringParameters) {
+        int size = 0;
+        size += 4; // ClientHandle
+        size += 8; // SamplingInterval
+        size += BinarySize.sizeOfExtensionObject(monitoringParameters.getFilter());
+        size += 4; // QueueSize
+        size += 1; // DiscardOldest
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(MonitoringParametersBinaryCodec::encode, MonitoringParameters.class);
+        DelegateRegistry.registerBinaryDecoder(MonitoringParametersBinaryCodec::decode, MonitoringParameters.class, MonitoringParameters.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(MonitoringParametersBinaryCodec::sizeOf, MonitoringParameters.class);
+    }
+
+}
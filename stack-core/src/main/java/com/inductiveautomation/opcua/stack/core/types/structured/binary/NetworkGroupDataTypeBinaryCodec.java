@@ -0,0 +1,53 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.structured.EndpointUrlListDataType;
+import com.inductiveautomation.opcua.stack.core.types.structured.NetworkGroupDataType;
+
+public final class NetworkGroupDataTypeBinaryCodec {
+
+    private NetworkGroupDataTypeBinaryCodec() {}
+
+    public static void encode(NetworkGroupDataType networkGroupDataType, BinaryEncoder encoder) {
+        encoder.encodeString(null, networkGroupDataType.getServerUri());
+        EndpointUrlListDataType[] _networkPaths = networkGroupDataType.getNetworkPaths();
+        if (encoder.writeArrayLength(_networkPaths)) {
+            for (EndpointUrlListDataType v : _networkPaths) {
+                EndpointUrlListDataTypeBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static NetworkGroupDataType decode(BinaryDecoder decoder) {
+        String _serverUri = decoder.decodeString(null);
+        EndpointUrlListDataType[] _networkPaths = new EndpointUrlListDataType[decoder.readArrayLength()];
+        for (int i = 0; i < _networkPaths.length; i++) {
+            _networkPaths[i] = EndpointUrlListDataTypeBinaryCodec.decode(decoder);
+        }
+
+        return new NetworkGroupDataType(_serverUri, _networkPaths);
+    }
+
+    public static int sizeOf(NetworkGroupDataType networkGroupDataType) {
+        int size = 0;
+        size += BinarySize.sizeOfString(networkGroupDataType.getServerUri());
+        EndpointUrlListDataType[] _networkPaths = networkGroupDataType.getNetworkPaths();
+        size += 4;
+        if (_networkPaths != null) {
+            for (EndpointUrlListDataType v : _networkPaths) {
+                size += EndpointUrlListDataTypeBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(NetworkGroupDataTypeBinaryCodec::encode, NetworkGroupDataType.class);
+        DelegateRegistry.registerBinaryDecoder(NetworkGroupDataTypeBinaryCodec::decode, NetworkGroupDataType.class, NetworkGroupDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(NetworkGroupDataTypeBinaryCodec::sizeOf, NetworkGroupDataType.class);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.NodeAttributes;
+
+public final class NodeAttributesBinaryCodec {
+
+    private NodeAttributesBinaryCodec() {}
+
+    public static void encode(NodeAttributes nodeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, nodeAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, nodeAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, nodeAttributes.getDescription());
+        encoder.encodeUInt32(null, nodeAttributes.getWriteMask());
+        encoder.encodeUInt32(null, nodeAttributes.getUserWriteMask());
+    }
+
+    public static NodeAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+
+        return new NodeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask);
+    }
+
+    public static int sizeOf(NodeAttributes nodeAttributes) {
+        int size = 0;
+        size += 4; // SpecifiedAttributes
+        size += BinarySize.sizeOfLocalizedText(nodeAttributes.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(nodeAttributes.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(NodeAttributesBinaryCodec::encode, NodeAttributes.class);
+        DelegateRegistry.registerBinaryDecoder(NodeAttributesBinaryCodec::decode, NodeAttributes.class, NodeAttributes.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(NodeAttributesBinaryCodec::sizeOf, NodeAttributes.class);
+    }
+
+}
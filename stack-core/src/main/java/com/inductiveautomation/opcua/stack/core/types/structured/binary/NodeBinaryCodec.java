@@ -0,0 +1,77 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.Node;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+
+public final class NodeBinaryCodec {
+
+    private NodeBinaryCodec() {}
+
+    public static void encode(Node node, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, node.getNodeId());
+        NodeClass _nodeClass = node.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, node.getBrowseName());
+        encoder.encodeLocalizedText(null, node.getDisplayName());
+        encoder.encodeLocalizedText(null, node.getDescription());
+        encoder.encodeUInt32(null, node.getWriteMask());
+        encoder.encodeUInt32(null, node.getUserWriteMask());
+        ReferenceNode[] _references = node.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceNode v : _references) {
+                ReferenceNodeBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static Node decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references = new ReferenceNode[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+        }
+
+        return new Node(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
+    }
+
+    public static int sizeOf(Node node) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(node.getNodeId());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfQualifiedName(node.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(node.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(node.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        ReferenceNode[] _references = node.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceNode v : _references) {
+                size += ReferenceNodeBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(NodeBinaryCodec::encode, Node.class);
+        DelegateRegistry.registerBinaryDecoder(NodeBinaryCodec::decode, Node.class, Node.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(NodeBinaryCodec::sizeOf, Node.class);
+    }
+
+}
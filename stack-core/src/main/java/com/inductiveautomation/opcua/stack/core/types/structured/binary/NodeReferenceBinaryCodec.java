@@ -0,0 +1,59 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.NodeReference;
+
+public final class NodeReferenceBinaryCodec {
+
+    private NodeReferenceBinaryCodec() {}
+
+    public static void encode(NodeReference nodeReference, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, nodeReference.getNodeId());
+        encoder.encodeNodeId(null, nodeReference.getReferenceTypeId());
+        encoder.encodeBoolean(null, nodeReference.getIsForward());
+        NodeId[] _referencedNodeIds = nodeReference.getReferencedNodeIds();
+        if (encoder.writeArrayLength(_referencedNodeIds)) {
+            for (NodeId v : _referencedNodeIds) {
+                encoder.encodeNodeId(null, v);
+            }
+        }
+    }
+
+    public static NodeReference decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isForward = decoder.decodeBoolean(null);
+        NodeId[] _referencedNodeIds = new NodeId[decoder.readArrayLength()];
+        for (int i = 0; i < _referencedNodeIds.length; i++) {
+            _referencedNodeIds[i] = decoder.decodeNodeId(null);
+        }
+
+        return new NodeReference(_nodeId, _referenceTypeId, _isForward, _referencedNodeIds);
+    }
+
+    public static int sizeOf(NodeReference nodeReference) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(nodeReference.getNodeId());
+        size += BinarySize.sizeOfNodeId(nodeReference.getReferenceTypeId());
+        size += 1; // IsForward
+        NodeId[] _referencedNodeIds = nodeReference.getReferencedNodeIds();
+        size += 4;
+        if (_referencedNodeIds != null) {
+            for (NodeId v : _referencedNodeIds) {
+                size += BinarySize.sizeOfNodeId(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(NodeReferenceBinaryCodec::encode, NodeReference.class);
+        DelegateRegistry.registerBinaryDecoder(NodeReferenceBinaryCodec::decode, NodeReference.class, NodeReference.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(NodeReferenceBinaryCodec::sizeOf, NodeReference.class);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.NodeTypeDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.QueryDataDescription;
+
+public final class NodeTypeDescriptionBinaryCodec {
+
+    private NodeTypeDescriptionBinaryCodec() {}
+
+    public static void encode(NodeTypeDescription nodeTypeDescription, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId(null, nodeTypeDescription.getTypeDefinitionNode());
+        encoder.encodeBoolean(null, nodeTypeDescription.getIncludeSubTypes());
+        QueryDataDescription[] _dataToReturn = nodeTypeDescription.getDataToReturn();
+        if (encoder.writeArrayLength(_dataToReturn)) {
+            for (QueryDataDescription v : _dataToReturn) {
+                QueryDataDescriptionBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static NodeTypeDescription decode(BinaryDecoder decoder) {
+        ExpandedNodeId _typeDefinitionNode = decoder.decodeExpandedNodeId(null);
+        Boolean _includeSubTypes = decoder.decodeBoolean(null);
+        QueryDataDescription[] _dataToReturn = new QueryDataDescription[decoder.readArrayLength()];
+        for (int i = 0; i < _dataToReturn.length; i++) {
+            _dataToReturn[i] = QueryDataDescriptionBinaryCodec.decode(decoder);
+        }
+
+        return new NodeTypeDescription(_typeDefinitionNode, _includeSubTypes, _dataToReturn);
+    }
+
+    public static int sizeOf(NodeTypeDescription nodeTypeDescription) {
+        int size = 0;
+        size += BinarySize.sizeOfExpandedNodeId(nodeTypeDescription.getTypeDefinitionNode());
+        size += 1; // IncludeSubTypes
+        QueryDataDescription[] _dataToReturn = nodeTypeDescription.getDataToReturn();
+        size += 4;
+        if (_dataToReturn != null) {
+            for (QueryDataDescription v : _dataToReturn) {
+                size += QueryDataDescriptionBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(NodeTypeDescriptionBinaryCodec::encode, NodeTypeDescription.class);
+        DelegateRegistry.registerBinaryDecoder(NodeTypeDescriptionBinaryCodec::decode, NodeTypeDescription.class, NodeTypeDescription.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(NodeTypeDescriptionBinaryCodec::sizeOf, NodeTypeDescription.class);
+    }
+
+}
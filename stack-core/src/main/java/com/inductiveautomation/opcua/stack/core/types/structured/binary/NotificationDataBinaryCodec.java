@@ -0,0 +1,31 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.NotificationData;
+
+public final class NotificationDataBinaryCodec {
+
+    private NotificationDataBinaryCodec() {}
+
+    public static void encode(NotificationData notificationData, BinaryEncoder encoder) {
+    }
+
+    public static NotificationData decode(BinaryDecoder decoder) {
+
+        return new NotificationData();
+    }
+
+    public static int sizeOf(NotificationData notificationData) {
+        int size = 0;
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(NotificationDataBinaryCodec::encode, NotificationData.class);
+        DelegateRegistry.registerBinaryDecoder(NotificationDataBinaryCodec::decode, NotificationData.class, NotificationData.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(NotificationDataBinaryCodec::sizeOf, NotificationData.class);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.NotificationMessage;
+
+public final class NotificationMessageBinaryCodec {
+
+    private NotificationMessageBinaryCodec() {}
+
+    public static void encode(NotificationMessage notificationMessage, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, notificationMessage.getSequenceNumber());
+        encoder.encodeDateTime(null, notificationMessage.getPublishTime());
+        ExtensionObject[] _notificationData = notificationMessage.getNotificationData();
+        if (encoder.writeArrayLength(_notificationData)) {
+            for (ExtensionObject v : _notificationData) {
+                encoder.encodeExtensionObject(null, v);
+            }
+        }
+    }
+
+    public static NotificationMessage decode(BinaryDecoder decoder) {
+        UInteger _sequenceNumber = decoder.decodeUInt32(null);
+        DateTime _publishTime = decoder.decodeDateTime(null);
+        ExtensionObject[] _notificationData = new ExtensionObject[decoder.readArrayLength()];
+        for (int i = 0; i < _notificationData.length; i++) {
+            _notificationData[i] = decoder.decodeExtensionObject(null);
+        }
+
+        return new NotificationMessage(_sequenceNumber, _publishTime, _notificationData);
+    }
+
+    public static int sizeOf(NotificationMessage notificationMessage) {
+        int size = 0;
+        size += 4; // SequenceNumber
+        size += 8; // PublishTime
+        ExtensionObject[] _notificationData = notificationMessage.getNotificationData();
+        size += 4;
+        if (_notificationData != null) {
+            for (ExtensionObject v : _notificationData) {
+                size += BinarySize.sizeOfExtensionObject(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(NotificationMessageBinaryCodec::encode, NotificationMessage.class);
+        DelegateRegistry.registerBinaryDecoder(NotificationMessageBinaryCodec::decode, NotificationMessage.class, NotificationMessage.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(NotificationMessageBinaryCodec::sizeOf, NotificationMessage.class);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ObjectAttributes;
+
+public final class ObjectAttributesBinaryCodec {
+
+    private ObjectAttributesBinaryCodec() {}
+
+    public static void encode(ObjectAttributes objectAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, objectAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, objectAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, objectAttributes.getDescription());
+        encoder.encodeUInt32(null, objectAttributes.getWriteMask());
+        encoder.encodeUInt32(null, objectAttributes.getUserWriteMask());
+        encoder.encodeByte(null, objectAttributes.getEventNotifier());
+    }
+
+    public static ObjectAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        UByte _eventNotifier = decoder.decodeByte(null);
+
+        return new ObjectAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _eventNotifier);
+    }
+
+    public static int sizeOf(ObjectAttributes objectAttributes) {
+        int size = 0;
+        size += 4; // SpecifiedAttributes
+        size += BinarySize.sizeOfLocalizedText(objectAttributes.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(objectAttributes.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        size += 1; // EventNotifier
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ObjectAttributesBinaryCodec::encode, ObjectAttributes.class);
+        DelegateRegistry.registerBinaryDecoder(ObjectAttributesBinaryCodec::decode, ObjectAttributes.class, ObjectAttributes.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ObjectAttributesBinaryCodec::sizeOf, ObjectAttributes.class);
+    }
+
+}
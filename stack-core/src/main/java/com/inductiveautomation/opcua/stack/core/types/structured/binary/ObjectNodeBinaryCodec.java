@@ -0,0 +1,81 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.ObjectNode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+
+public final class ObjectNodeBinaryCodec {
+
+    private ObjectNodeBinaryCodec() {}
+
+    public static void encode(ObjectNode objectNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, objectNode.getNodeId());
+        NodeClass _nodeClass = objectNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, objectNode.getBrowseName());
+        encoder.encodeLocalizedText(null, objectNode.getDisplayName());
+        encoder.encodeLocalizedText(null, objectNode.getDescription());
+        encoder.encodeUInt32(null, objectNode.getWriteMask());
+        encoder.encodeUInt32(null, objectNode.getUserWriteMask());
+        ReferenceNode[] _references = objectNode.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceNode v : _references) {
+                ReferenceNodeBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeByte(null, objectNode.getEventNotifier());
+    }
+
+    public static ObjectNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references = new ReferenceNode[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+        }
+        UByte _eventNotifier = decoder.decodeByte(null);
+
+        return new ObjectNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _eventNotifier);
+    }
+
+    public static int sizeOf(ObjectNode objectNode) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(objectNode.getNodeId());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfQualifiedName(objectNode.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(objectNode.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(objectNode.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        ReferenceNode[] _references = objectNode.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceNode v : _references) {
+                size += ReferenceNodeBinaryCodec.sizeOf(v);
+            }
+        }
+        size += 1; // EventNotifier
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ObjectNodeBinaryCodec::encode, ObjectNode.class);
+        DelegateRegistry.registerBinaryDecoder(ObjectNodeBinaryCodec::decode, ObjectNode.class, ObjectNode.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ObjectNodeBinaryCodec::sizeOf, ObjectNode.class);
+    }
+
+}
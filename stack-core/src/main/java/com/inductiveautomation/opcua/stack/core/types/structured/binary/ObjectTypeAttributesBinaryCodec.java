@@ -0,0 +1,52 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ObjectTypeAttributes;
+
+public final class ObjectTypeAttributesBinaryCodec {
+
+    private ObjectTypeAttributesBinaryCodec() {}
+
+    public static void encode(ObjectTypeAttributes objectTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, objectTypeAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, objectTypeAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, objectTypeAttributes.getDescription());
+        encoder.encodeUInt32(null, objectTypeAttributes.getWriteMask());
+        encoder.encodeUInt32(null, objectTypeAttributes.getUserWriteMask());
+        encoder.encodeBoolean(null, objectTypeAttributes.getIsAbstract());
+    }
+
+    public static ObjectTypeAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new ObjectTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract);
+    }
+
+    public static int sizeOf(ObjectTypeAttributes objectTypeAttributes) {
+        int size = 0;
+        size += 4; // SpecifiedAttributes
+        size += BinarySize.sizeOfLocalizedText(objectTypeAttributes.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(objectTypeAttributes.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        size += 1; // IsAbstract
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ObjectTypeAttributesBinaryCodec::encode, ObjectTypeAttributes.class);
+        DelegateRegistry.registerBinaryDecoder(ObjectTypeAttributesBinaryCodec::decode, ObjectTypeAttributes.class, ObjectTypeAttributes.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ObjectTypeAttributesBinaryCodec::sizeOf, ObjectTypeAttributes.class);
+    }
+
+}
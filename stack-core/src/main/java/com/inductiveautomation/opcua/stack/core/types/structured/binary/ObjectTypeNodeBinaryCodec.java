@@ -0,0 +1,80 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.ObjectTypeNode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+
+public final class ObjectTypeNodeBinaryCodec {
+
+    private ObjectTypeNodeBinaryCodec() {}
+
+    public static void encode(ObjectTypeNode objectTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, objectTypeNode.getNodeId());
+        NodeClass _nodeClass = objectTypeNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, objectTypeNode.getBrowseName());
+        encoder.encodeLocalizedText(null, objectTypeNode.getDisplayName());
+        encoder.encodeLocalizedText(null, objectTypeNode.getDescription());
+        encoder.encodeUInt32(null, objectTypeNode.getWriteMask());
+        encoder.encodeUInt32(null, objectTypeNode.getUserWriteMask());
+        ReferenceNode[] _references = objectTypeNode.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceNode v : _references) {
+                ReferenceNodeBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeBoolean(null, objectTypeNode.getIsAbstract());
+    }
+
+    public static ObjectTypeNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references = new ReferenceNode[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+        }
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new ObjectTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _isAbstract);
+    }
+
+    public static int sizeOf(ObjectTypeNode objectTypeNode) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(objectTypeNode.getNodeId());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfQualifiedName(objectTypeNode.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(objectTypeNode.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(objectTypeNode.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        ReferenceNode[] _references = objectTypeNode.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceNode v : _references) {
+                size += ReferenceNodeBinaryCodec.sizeOf(v);
+            }
+        }
+        size += 1; // IsAbstract
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ObjectTypeNodeBinaryCodec::encode, ObjectTypeNode.class);
+        DelegateRegistry.registerBinaryDecoder(ObjectTypeNodeBinaryCodec::decode, ObjectTypeNode.class, ObjectTypeNode.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ObjectTypeNodeBinaryCodec::sizeOf, ObjectTypeNode.class);
+    }
+
+}
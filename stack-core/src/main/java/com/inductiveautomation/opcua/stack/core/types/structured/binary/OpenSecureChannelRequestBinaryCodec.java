@@ -0,0 +1,59 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.SecurityTokenRequestType;
+import com.inductiveautomation.opcua.stack.core.types.structured.OpenSecureChannelRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class OpenSecureChannelRequestBinaryCodec {
+
+    private OpenSecureChannelRequestBinaryCodec() {}
+
+    public static void encode(OpenSecureChannelRequest openSecureChannelRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = openSecureChannelRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32(null, openSecureChannelRequest.getClientProtocolVersion());
+        SecurityTokenRequestType _requestType = openSecureChannelRequest.getRequestType();
+        encoder.writeInt32(null, _requestType != null ? _requestType.getValue() : -1);
+        MessageSecurityMode _securityMode = openSecureChannelRequest.getSecurityMode();
+        encoder.writeInt32(null, _securityMode != null ? _securityMode.getValue() : -1);
+        encoder.encodeByteString(null, openSecureChannelRequest.getClientNonce());
+        encoder.encodeUInt32(null, openSecureChannelRequest.getRequestedLifetime());
+    }
+
+    public static OpenSecureChannelRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _clientProtocolVersion = decoder.decodeUInt32(null);
+        SecurityTokenRequestType _requestType = SecurityTokenRequestType.from(decoder.readInt32(null));
+        MessageSecurityMode _securityMode = MessageSecurityMode.from(decoder.readInt32(null));
+        ByteString _clientNonce = decoder.decodeByteString(null);
+        UInteger _requestedLifetime = decoder.decodeUInt32(null);
+
+        return new OpenSecureChannelRequest(_requestHeader, _clientProtocolVersion, _requestType, _securityMode, _clientNonce, _requestedLifetime);
+    }
+
+    public static int sizeOf(OpenSecureChannelRequest openSecureChannelRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = openSecureChannelRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 4; // ClientProtocolVersion
+        size += 4; // RequestType
+        size += 4; // SecurityMode
+        size += BinarySize.sizeOfByteString(openSecureChannelRequest.getClientNonce());
+        size += 4; // RequestedLifetime
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(OpenSecureChannelRequestBinaryCodec::encode, OpenSecureChannelRequest.class);
+        DelegateRegistry.registerBinaryDecoder(OpenSecureChannelRequestBinaryCodec::decode, OpenSecureChannelRequest.class, OpenSecureChannelRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(OpenSecureChannelRequestBinaryCodec::sizeOf, OpenSecureChannelRequest.class);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ChannelSecurityToken;
+import com.inductiveautomation.opcua.stack.core.types.structured.OpenSecureChannelResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class OpenSecureChannelResponseBinaryCodec {
+
+    private OpenSecureChannelResponseBinaryCodec() {}
+
+    public static void encode(OpenSecureChannelResponse openSecureChannelResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = openSecureChannelResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeUInt32(null, openSecureChannelResponse.getServerProtocolVersion());
+        ChannelSecurityToken _securityToken = openSecureChannelResponse.getSecurityToken();
+        ChannelSecurityTokenBinaryCodec.encode(_securityToken != null ? _securityToken : new ChannelSecurityToken(), encoder);
+        encoder.encodeByteString(null, openSecureChannelResponse.getServerNonce());
+    }
+
+    public static OpenSecureChannelResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        UInteger _serverProtocolVersion = decoder.decodeUInt32(null);
+        ChannelSecurityToken _securityToken = ChannelSecurityTokenBinaryCodec.decode(decoder);
+        ByteString _serverNonce = decoder.decodeByteString(null);
+
+        return new OpenSecureChannelResponse(_responseHeader, _serverProtocolVersion, _securityToken, _serverNonce);
+    }
+
+    public static int sizeOf(OpenSecureChannelResponse openSecureChannelResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = openSecureChannelResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        size += 4; // ServerProtocolVersion
+        ChannelSecurityToken _securityToken = openSecureChannelResponse.getSecurityToken();
+        size += ChannelSecurityTokenBinaryCodec.sizeOf(_securityToken != null ? _securityToken : new ChannelSecurityToken());
+        size += BinarySize.sizeOfByteString(openSecureChannelResponse.getServerNonce());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(OpenSecureChannelResponseBinaryCodec::encode, OpenSecureChannelResponse.class);
+        DelegateRegistry.registerBinaryDecoder(OpenSecureChannelResponseBinaryCodec::decode, OpenSecureChannelResponse.class, OpenSecureChannelResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(OpenSecureChannelResponseBinaryCodec::sizeOf, OpenSecureChannelResponse.class);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ParsingResult;
+
+public final class ParsingResultBinaryCodec {
+
+    private ParsingResultBinaryCodec() {}
+
+    public static void encode(ParsingResult parsingResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, parsingResult.getStatusCode());
+        StatusCode[] _dataStatusCodes = parsingResult.getDataStatusCodes();
+        if (encoder.writeArrayLength(_dataStatusCodes)) {
+            for (StatusCode v : _dataStatusCodes) {
+                encoder.encodeStatusCode(null, v);
+            }
+        }
+        DiagnosticInfo[] _dataDiagnosticInfos = parsingResult.getDataDiagnosticInfos();
+        if (encoder.writeArrayLength(_dataDiagnosticInfos)) {
+            for (DiagnosticInfo v : _dataDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static ParsingResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        StatusCode[] _dataStatusCodes = new StatusCode[decoder.readArrayLength()];
+        for (int i = 0; i < _dataStatusCodes.length; i++) {
+            _dataStatusCodes[i] = decoder.decodeStatusCode(null);
+        }
+        DiagnosticInfo[] _dataDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _dataDiagnosticInfos.length; i++) {
+            _dataDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new ParsingResult(_statusCode, _dataStatusCodes, _dataDiagnosticInfos);
+    }
+
+    public static int sizeOf(ParsingResult parsingResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        StatusCode[] _dataStatusCodes = parsingResult.getDataStatusCodes();
+        size += 4;
+        if (_dataStatusCodes != null) {
+            size += _dataStatusCodes.length * 4;
+        }
+        DiagnosticInfo[] _dataDiagnosticInfos = parsingResult.getDataDiagnosticInfos();
+        size += 4;
+        if (_dataDiagnosticInfos != null) {
+            for (DiagnosticInfo v : _dataDiagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ParsingResultBinaryCodec::encode, ParsingResult.class);
+        DelegateRegistry.registerBinaryDecoder(ParsingResultBinaryCodec::decode, ParsingResult.class, ParsingResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ParsingResultBinaryCodec::sizeOf, ParsingResult.class);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.Argument;
+import com.inductiveautomation.opcua.stack.core.types.structured.ProgramDiagnosticDataType;
+import com.inductiveautomation.opcua.stack.core.types.structured.StatusResult;
+
+public final class ProgramDiagnosticDataTypeBinaryCodec {
+
+    private ProgramDiagnosticDataTypeBinaryCodec() {}
+
+    public static void encode(ProgramDiagnosticDataType programDiagnosticDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, programDiagnosticDataType.getCreateSessionId());
+        encoder.encodeString(null, programDiagnosticDataType.getCreateClientName());
+        encoder.encodeDateTime(null, programDiagnosticDataType.getInvocationCreationTime());
+        encoder.encodeDateTime(null, programDiagnosticDataType.getLastTransitionTime());
+        encoder.encodeString(null, programDiagnosticDataType.getLastMethodCall());
+        encoder.encodeNodeId(null, programDiagnosticDataType.getLastMethodSessionId());
+        Argument[] _lastMethodInputArguments = programDiagnosticDataType.getLastMethodInputArguments();
+        if (encoder.writeArrayLength(_lastMethodInputArguments)) {
+            for (Argument v : _lastMethodInputArguments) {
+                ArgumentBinaryCodec.encode(v, encoder);
+            }
+        }
+        Argument[] _lastMethodOutputArguments = programDiagnosticDataType.getLastMethodOutputArguments();
+        if (encoder.writeArrayLength(_lastMethodOutputArguments)) {
+            for (Argument v : _lastMethodOutputArguments) {
+                ArgumentBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeDateTime(null, programDiagnosticDataType.getLastMethodCallTime());
+        StatusResult _lastMethodReturnStatus = programDiagnosticDataType.getLastMethodReturnStatus();
+        StatusResultBinaryCodec.encode(_lastMethodReturnStatus != null ? _lastMethodReturnStatus : new StatusResult(), encoder);
+    }
+
+    public static ProgramDiagnosticDataType decode(BinaryDecoder decoder) {
+        NodeId _createSessionId = decoder.decodeNodeId(null);
+        String _createClientName = decoder.decodeString(null);
+        DateTime _invocationCreationTime = decoder.decodeDateTime(null);
+        DateTime _lastTransitionTime = decoder.decodeDateTime(null);
+        String _lastMethodCall = decoder.decodeString(null);
+        NodeId _lastMethodSessionId = decoder.decodeNodeId(null);
+        Argument[] _lastMethodInputArguments = new Argument[decoder.readArrayLength()];
+        for (int i = 0; i < _lastMethodInputArguments.length; i++) {
+            _lastMethodInputArguments[i] = ArgumentBinaryCodec.decode(decoder);
+        }
+        Argument[] _lastMethodOutputArguments = new Argument[decoder.readArrayLength()];
+        for (int i = 0; i < _lastMethodOutputArguments.length; i++) {
+            _lastMethodOutputArguments[i] = ArgumentBinaryCodec.decode(decoder);
+        }
+        DateTime _lastMethodCallTime = decoder.decodeDateTime(null);
+        StatusResult _lastMethodReturnStatus = StatusResultBinaryCodec.decode(decoder);
+
+        return new ProgramDiagnosticDataType(_createSessionId, _createClientName, _invocationCreationTime, _lastTransitionTime, _lastMethodCall, _lastMethodSessionId, _lastMethodInputArguments, _lastMethodOutputArguments, _lastMethodCallTime, _lastMethodReturnStatus);
+    }
+
+    public static int sizeOf(ProgramDiagnosticDataType programDiagnosticDataType) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(programDiagnosticDataType.getCreateSessionId());
+        size += BinarySize.sizeOfString(programDiagnosticDataType.getCreateClientName());
+        size += 8; // InvocationCreationTime
+        size += 8; // LastTransitionTime
+        size += BinarySize.sizeOfString(programDiagnosticDataType.getLastMethodCall());
+        size += BinarySize.sizeOfNodeId(programDiagnosticDataType.getLastMethodSessionId());
+        Argument[] _lastMethodInputArguments = programDiagnosticDataType.getLastMethodInputArguments();
+        size += 4;
+        if (_lastMethodInputArguments != null) {
+            for (Argument v : _lastMethodInputArguments) {
+                size += ArgumentBinaryCodec.sizeOf(v);
+            }
+        }
+        Argument[] _lastMethodOutputArguments = programDiagnosticDataType.getLastMethodOutputArguments();
+        size += 4;
+        if (_lastMethodOutputArguments != null) {
+            for (Argument v : _lastMethodOutputArguments) {
+                size += ArgumentBinaryCodec.sizeOf(v);
+            }
+        }
+        size += 8; // LastMethodCallTime
+        StatusResult _lastMethodReturnStatus = programDiagnosticDataType.getLastMethodReturnStatus();
+        size += StatusResultBinaryCodec.sizeOf(_lastMethodReturnStatus != null ? _lastMethodReturnStatus : new StatusResult());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ProgramDiagnosticDataTypeBinaryCodec::encode, ProgramDiagnosticDataType.class);
+        DelegateRegistry.registerBinaryDecoder(ProgramDiagnosticDataTypeBinaryCodec::decode, ProgramDiagnosticDataType.class, ProgramDiagnosticDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ProgramDiagnosticDataTypeBinaryCodec::sizeOf, ProgramDiagnosticDataType.class);
+    }
+
+}
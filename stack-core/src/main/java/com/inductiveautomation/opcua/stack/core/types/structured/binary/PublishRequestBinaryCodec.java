@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.PublishRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.SubscriptionAcknowledgement;
+
+public final class PublishRequestBinaryCodec {
+
+    private PublishRequestBinaryCodec() {}
+
+    public static void encode(PublishRequest publishRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = publishRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        SubscriptionAcknowledgement[] _subscriptionAcknowledgements = publishRequest.getSubscriptionAcknowledgements();
+        if (encoder.writeArrayLength(_subscriptionAcknowledgements)) {
+            for (SubscriptionAcknowledgement v : _subscriptionAcknowledgements) {
+                SubscriptionAcknowledgementBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static PublishRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        SubscriptionAcknowledgement[] _subscriptionAcknowledgements = new SubscriptionAcknowledgement[decoder.readArrayLength()];
+        for (int i = 0; i < _subscriptionAcknowledgements.length; i++) {
+            _subscriptionAcknowledgements[i] = SubscriptionAcknowledgementBinaryCodec.decode(decoder);
+        }
+
+        return new PublishRequest(_requestHeader, _subscriptionAcknowledgements);
+    }
+
+    public static int sizeOf(PublishRequest publishRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = publishRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        SubscriptionAcknowledgement[] _subscriptionAcknowledgements = publishRequest.getSubscriptionAcknowledgements();
+        size += 4;
+        if (_subscriptionAcknowledgements != null) {
+            for (SubscriptionAcknowledgement v : _subscriptionAcknowledgements) {
+                size += SubscriptionAcknowledgementBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(PublishRequestBinaryCodec::encode, PublishRequest.class);
+        DelegateRegistry.registerBinaryDecoder(PublishRequestBinaryCodec::decode, PublishRequest.class, PublishRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(PublishRequestBinaryCodec::sizeOf, PublishRequest.class);
+    }
+
+}
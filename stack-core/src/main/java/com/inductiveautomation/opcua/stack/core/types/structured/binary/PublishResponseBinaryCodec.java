@@ -0,0 +1,100 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.NotificationMessage;
+import com.inductiveautomation.opcua.stack.core.types.structured.PublishResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class PublishResponseBinaryCodec {
+
+    private PublishResponseBinaryCodec() {}
+
+    public static void encode(PublishResponse publishResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = publishResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeUInt32(null, publishResponse.getSubscriptionId());
+        UInteger[] _availableSequenceNumbers = publishResponse.getAvailableSequenceNumbers();
+        if (encoder.writeArrayLength(_availableSequenceNumbers)) {
+            for (UInteger v : _availableSequenceNumbers) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+        encoder.encodeBoolean(null, publishResponse.getMoreNotifications());
+        NotificationMessage _notificationMessage = publishResponse.getNotificationMessage();
+        NotificationMessageBinaryCodec.encode(_notificationMessage != null ? _notificationMessage : new NotificationMessage(), encoder);
+        StatusCode[] _results = publishResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (StatusCode v : _results) {
+                encoder.encodeStatusCode(null, v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = publishResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static PublishResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        UInteger[] _availableSequenceNumbers = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _availableSequenceNumbers.length; i++) {
+            _availableSequenceNumbers[i] = decoder.decodeUInt32(null);
+        }
+        Boolean _moreNotifications = decoder.decodeBoolean(null);
+        NotificationMessage _notificationMessage = NotificationMessageBinaryCodec.decode(decoder);
+        StatusCode[] _results = new StatusCode[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = decoder.decodeStatusCode(null);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new PublishResponse(_responseHeader, _subscriptionId, _availableSequenceNumbers, _moreNotifications, _notificationMessage, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(PublishResponse publishResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = publishResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        size += 4; // SubscriptionId
+        UInteger[] _availableSequenceNumbers = publishResponse.getAvailableSequenceNumbers();
+        size += 4;
+        if (_availableSequenceNumbers != null) {
+            size += _availableSequenceNumbers.length * 4;
+        }
+        size += 1; // MoreNotifications
+        NotificationMessage _notificationMessage = publishResponse.getNotificationMessage();
+        size += NotificationMessageBinaryCodec.sizeOf(_notificationMessage != null ? _notificationMessage : new NotificationMessage());
+        StatusCode[] _results = publishResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            size += _results.length * 4;
+        }
+        DiagnosticInfo[] _diagnosticInfos = publishResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(PublishResponseBinaryCodec::encode, PublishResponse.class);
+        DelegateRegistry.registerBinaryDecoder(PublishResponseBinaryCodec::decode, PublishResponse.class, PublishResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(PublishResponseBinaryCodec::sizeOf, PublishResponse.class);
+    }
+
+}
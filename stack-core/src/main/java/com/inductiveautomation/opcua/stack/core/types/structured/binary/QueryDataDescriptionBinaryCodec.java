@@ -0,0 +1,45 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.QueryDataDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.RelativePath;
+
+public final class QueryDataDescriptionBinaryCodec {
+
+    private QueryDataDescriptionBinaryCodec() {}
+
+    public static void encode(QueryDataDescription queryDataDescription, BinaryEncoder encoder) {
+        RelativePath _relativePath = queryDataDescription.getRelativePath();
+        RelativePathBinaryCodec.encode(_relativePath != null ? _relativePath : new RelativePath(), encoder);
+        encoder.encodeUInt32(null, queryDataDescription.getAttributeId());
+        encoder.encodeString(null, queryDataDescription.getIndexRange());
+    }
+
+    public static QueryDataDescription decode(BinaryDecoder decoder) {
+        RelativePath _relativePath = RelativePathBinaryCodec.decode(decoder);
+        UInteger _attributeId = decoder.decodeUInt32(null);
+        String _indexRange = decoder.decodeString(null);
+
+        return new QueryDataDescription(_relativePath, _attributeId, _indexRange);
+    }
+
+    public static int sizeOf(QueryDataDescription queryDataDescription) {
+        int size = 0;
+        RelativePath _relativePath = queryDataDescription.getRelativePath();
+        size += RelativePathBinaryCodec.sizeOf(_relativePath != null ? _relativePath : new RelativePath());
+        size += 4; // AttributeId
+        size += BinarySize.sizeOfString(queryDataDescription.getIndexRange());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(QueryDataDescriptionBinaryCodec::encode, QueryDataDescription.class);
+        DelegateRegistry.registerBinaryDecoder(QueryDataDescriptionBinaryCodec::decode, QueryDataDescription.class, QueryDataDescription.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(QueryDataDescriptionBinaryCodec::sizeOf, QueryDataDescription.class);
+    }
+
+}
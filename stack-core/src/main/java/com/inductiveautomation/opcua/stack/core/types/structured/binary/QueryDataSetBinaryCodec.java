@@ -0,0 +1,57 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.structured.QueryDataSet;
+
+public final class QueryDataSetBinaryCodec {
+
+    private QueryDataSetBinaryCodec() {}
+
+    public static void encode(QueryDataSet queryDataSet, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId(null, queryDataSet.getNodeId());
+        encoder.encodeExpandedNodeId(null, queryDataSet.getTypeDefinitionNode());
+        Variant[] _values = queryDataSet.getValues();
+        if (encoder.writeArrayLength(_values)) {
+            for (Variant v : _values) {
+                encoder.encodeVariant(null, v);
+            }
+        }
+    }
+
+    public static QueryDataSet decode(BinaryDecoder decoder) {
+        ExpandedNodeId _nodeId = decoder.decodeExpandedNodeId(null);
+        ExpandedNodeId _typeDefinitionNode = decoder.decodeExpandedNodeId(null);
+        Variant[] _values = new Variant[decoder.readArrayLength()];
+        for (int i = 0; i < _values.length; i++) {
+            _values[i] = decoder.decodeVariant(null);
+        }
+
+        return new QueryDataSet(_nodeId, _typeDefinitionNode, _values);
+    }
+
+    public static int sizeOf(QueryDataSet queryDataSet) {
+        int size = 0;
+        size += BinarySize.sizeOfExpandedNodeId(queryDataSet.getNodeId());
+        size += BinarySize.sizeOfExpandedNodeId(queryDataSet.getTypeDefinitionNode());
+        Variant[] _values = queryDataSet.getValues();
+        size += 4;
+        if (_values != null) {
+            for (Variant v : _values) {
+                size += BinarySize.sizeOfVariant(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(QueryDataSetBinaryCodec::encode, QueryDataSet.class);
+        DelegateRegistry.registerBinaryDecoder(QueryDataSetBinaryCodec::decode, QueryDataSet.class, QueryDataSet.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(QueryDataSetBinaryCodec::sizeOf, QueryDataSet.class);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.NodeTypeDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.QueryFirstRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.ViewDescription;
+
+public final class QueryFirstRequestBinaryCodec {
+
+    private QueryFirstRequestBinaryCodec() {}
+
+    public static void encode(QueryFirstRequest queryFirstRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = queryFirstRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        ViewDescription _view = queryFirstRequest.getView();
+        ViewDescriptionBinaryCodec.encode(_view != null ? _view : new ViewDescription(), encoder);
+        NodeTypeDescription[] _nodeTypes = queryFirstRequest.getNodeTypes();
+        if (encoder.writeArrayLength(_nodeTypes)) {
+            for (NodeTypeDescription v : _nodeTypes) {
+                NodeTypeDescriptionBinaryCodec.encode(v, encoder);
+            }
+        }
+        ContentFilter _filter = queryFirstRequest.getFilter();
+        ContentFilterBinaryCodec.encode(_filter != null ? _filter : new ContentFilter(), encoder);
+        encoder.encodeUInt32(null, queryFirstRequest.getMaxDataSetsToReturn());
+        encoder.encodeUInt32(null, queryFirstRequest.getMaxReferencesToReturn());
+    }
+
+    public static QueryFirstRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        ViewDescription _view = ViewDescriptionBinaryCodec.decode(decoder);
+        NodeTypeDescription[] _nodeTypes = new NodeTypeDescription[decoder.readArrayLength()];
+        for (int i = 0; i < _nodeTypes.length; i++) {
+            _nodeTypes[i] = NodeTypeDescriptionBinaryCodec.decode(decoder);
+        }
+        ContentFilter _filter = ContentFilterBinaryCodec.decode(decoder);
+        UInteger _maxDataSetsToReturn = decoder.decodeUInt32(null);
+        UInteger _maxReferencesToReturn = decoder.decodeUInt32(null);
+
+        return new QueryFirstRequest(_requestHeader, _view, _nodeTypes, _filter, _maxDataSetsToReturn, _maxReferencesToReturn);
+    }
+
+    public static int sizeOf(QueryFirstRequest queryFirstRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = queryFirstRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        ViewDescription _view = queryFirstRequest.getView();
+        size += ViewDescriptionBinaryCodec.sizeOf(_view != null ? _view : new ViewDescription());
+        NodeTypeDescription[] _nodeTypes = queryFirstRequest.getNodeTypes();
+        size += 4;
+        if (_nodeTypes != null) {
+            for (NodeTypeDescription v : _nodeTypes) {
+                size += NodeTypeDescriptionBinaryCodec.sizeOf(v);
+            }
+        }
+        ContentFilter _filter = queryFirstRequest.getFilter();
+        size += ContentFilterBinaryCodec.sizeOf(_filter != null ? _filter : new ContentFilter());
+        size += 4; // MaxDataSetsToReturn
+        size += 4; // MaxReferencesToReturn
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(QueryFirstRequestBinaryCodec::encode, QueryFirstRequest.class);
+        DelegateRegistry.registerBinaryDecoder(QueryFirstRequestBinaryCodec::decode, QueryFirstRequest.class, QueryFirstRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(QueryFirstRequestBinaryCodec::sizeOf, QueryFirstRequest.class);
+    }
+
+}
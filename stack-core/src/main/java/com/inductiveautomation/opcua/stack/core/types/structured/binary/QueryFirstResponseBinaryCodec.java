@@ -0,0 +1,102 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilterResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ParsingResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.QueryDataSet;
+import com.inductiveautomation.opcua.stack.core.types.structured.QueryFirstResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class QueryFirstResponseBinaryCodec {
+
+    private QueryFirstResponseBinaryCodec() {}
+
+    public static void encode(QueryFirstResponse queryFirstResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = queryFirstResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        QueryDataSet[] _queryDataSets = queryFirstResponse.getQueryDataSets();
+        if (encoder.writeArrayLength(_queryDataSets)) {
+            for (QueryDataSet v : _queryDataSets) {
+                QueryDataSetBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeByteString(null, queryFirstResponse.getContinuationPoint());
+        ParsingResult[] _parsingResults = queryFirstResponse.getParsingResults();
+        if (encoder.writeArrayLength(_parsingResults)) {
+            for (ParsingResult v : _parsingResults) {
+                ParsingResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = queryFirstResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+        ContentFilterResult _filterResult = queryFirstResponse.getFilterResult();
+        ContentFilterResultBinaryCodec.encode(_filterResult != null ? _filterResult : new ContentFilterResult(), encoder);
+    }
+
+    public static QueryFirstResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        QueryDataSet[] _queryDataSets = new QueryDataSet[decoder.readArrayLength()];
+        for (int i = 0; i < _queryDataSets.length; i++) {
+            _queryDataSets[i] = QueryDataSetBinaryCodec.decode(decoder);
+        }
+        ByteString _continuationPoint = decoder.decodeByteString(null);
+        ParsingResult[] _parsingResults = new ParsingResult[decoder.readArrayLength()];
+        for (int i = 0; i < _parsingResults.length; i++) {
+            _parsingResults[i] = ParsingResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+        ContentFilterResult _filterResult = ContentFilterResultBinaryCodec.decode(decoder);
+
+        return new QueryFirstResponse(_responseHeader, _queryDataSets, _continuationPoint, _parsingResults, _diagnosticInfos, _filterResult);
+    }
+
+    public static int sizeOf(QueryFirstResponse queryFirstResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = queryFirstResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        QueryDataSet[] _queryDataSets = queryFirstResponse.getQueryDataSets();
+        size += 4;
+        if (_queryDataSets != null) {
+            for (QueryDataSet v : _queryDataSets) {
+                size += QueryDataSetBinaryCodec.sizeOf(v);
+            }
+        }
+        size += BinarySize.sizeOfByteString(queryFirstResponse.getContinuationPoint());
+        ParsingResult[] _parsingResults = queryFirstResponse.getParsingResults();
+        size += 4;
+        if (_parsingResults != null) {
+            for (ParsingResult v : _parsingResults) {
+                size += ParsingResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = queryFirstResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        ContentFilterResult _filterResult = queryFirstResponse.getFilterResult();
+        size += ContentFilterResultBinaryCodec.sizeOf(_filterResult != null ? _filterResult : new ContentFilterResult());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(QueryFirstResponseBinaryCodec::encode, QueryFirstResponse.class);
+        DelegateRegistry.registerBinaryDecoder(QueryFirstResponseBinaryCodec::decode, QueryFirstResponse.class, QueryFirstResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(QueryFirstResponseBinaryCodec::sizeOf, QueryFirstResponse.class);
+    }
+
+}
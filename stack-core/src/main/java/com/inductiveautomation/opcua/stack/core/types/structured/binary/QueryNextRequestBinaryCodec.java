@@ -0,0 +1,45 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.structured.QueryNextRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class QueryNextRequestBinaryCodec {
+
+    private QueryNextRequestBinaryCodec() {}
+
+    public static void encode(QueryNextRequest queryNextRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = queryNextRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeBoolean(null, queryNextRequest.getReleaseContinuationPoint());
+        encoder.encodeByteString(null, queryNextRequest.getContinuationPoint());
+    }
+
+    public static QueryNextRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Boolean _releaseContinuationPoint = decoder.decodeBoolean(null);
+        ByteString _continuationPoint = decoder.decodeByteString(null);
+
+        return new QueryNextRequest(_requestHeader, _releaseContinuationPoint, _continuationPoint);
+    }
+
+    public static int sizeOf(QueryNextRequest queryNextRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = queryNextRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 1; // ReleaseContinuationPoint
+        size += BinarySize.sizeOfByteString(queryNextRequest.getContinuationPoint());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(QueryNextRequestBinaryCodec::encode, QueryNextRequest.class);
+        DelegateRegistry.registerBinaryDecoder(QueryNextRequestBinaryCodec::decode, QueryNextRequest.class, QueryNextRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(QueryNextRequestBinaryCodec::sizeOf, QueryNextRequest.class);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.structured.QueryDataSet;
+import com.inductiveautomation.opcua.stack.core.types.structured.QueryNextResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class QueryNextResponseBinaryCodec {
+
+    private QueryNextResponseBinaryCodec() {}
+
+    public static void encode(QueryNextResponse queryNextResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = queryNextResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        QueryDataSet[] _queryDataSets = queryNextResponse.getQueryDataSets();
+        if (encoder.writeArrayLength(_queryDataSets)) {
+            for (QueryDataSet v : _queryDataSets) {
+                QueryDataSetBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeByteString(null, queryNextResponse.getRevisedContinuationPoint());
+    }
+
+    public static QueryNextResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        QueryDataSet[] _queryDataSets = new QueryDataSet[decoder.readArrayLength()];
+        for (int i = 0; i < _queryDataSets.length; i++) {
+            _queryDataSets[i] = QueryDataSetBinaryCodec.decode(decoder);
+        }
+        ByteString _revisedContinuationPoint = decoder.decodeByteString(null);
+
+        return new QueryNextResponse(_responseHeader, _queryDataSets, _revisedContinuationPoint);
+    }
+
+    public static int sizeOf(QueryNextResponse queryNextResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = queryNextResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        QueryDataSet[] _queryDataSets = queryNextResponse.getQueryDataSets();
+        size += 4;
+        if (_queryDataSets != null) {
+            for (QueryDataSet v : _queryDataSets) {
+                size += QueryDataSetBinaryCodec.sizeOf(v);
+            }
+        }
+        size += BinarySize.sizeOfByteString(queryNextResponse.getRevisedContinuationPoint());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(QueryNextResponseBinaryCodec::encode, QueryNextResponse.class);
+        DelegateRegistry.registerBinaryDecoder(QueryNextResponseBinaryCodec::decode, QueryNextResponse.class, QueryNextResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(QueryNextResponseBinaryCodec::sizeOf, QueryNextResponse.class);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.Range;
+
+public final class RangeBinaryCodec {
+
+    private RangeBinaryCodec() {}
+
+    public static void encode(Range range, BinaryEncoder encoder) {
+        encoder.encodeDouble(null, range.getLow());
+        encoder.encodeDouble(null, range.getHigh());
+    }
+
+    public static Range decode(BinaryDecoder decoder) {
+        Double _low = decoder.decodeDouble(null);
+        Double _high = decoder.decodeDouble(null);
+
+        return new Range(_low, _high);
+    }
+
+    public static int sizeOf(Range range) {
+        int size = 0;
+        size += 8; // Low
+        size += 8; // High
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RangeBinaryCodec::encode, Range.class);
+        DelegateRegistry.registerBinaryDecoder(RangeBinaryCodec::decode, Range.class, Range.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RangeBinaryCodec::sizeOf, Range.class);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadAtTimeDetails;
+
+public final class ReadAtTimeDetailsBinaryCodec {
+
+    private ReadAtTimeDetailsBinaryCodec() {}
+
+    public static void encode(ReadAtTimeDetails readAtTimeDetails, BinaryEncoder encoder) {
+        DateTime[] _reqTimes = readAtTimeDetails.getReqTimes();
+        if (encoder.writeArrayLength(_reqTimes)) {
+            for (DateTime v : _reqTimes) {
+                encoder.encodeDateTime(null, v);
+            }
+        }
+        encoder.encodeBoolean(null, readAtTimeDetails.getUseSimpleBounds());
+    }
+
+    public static ReadAtTimeDetails decode(BinaryDecoder decoder) {
+        DateTime[] _reqTimes = new DateTime[decoder.readArrayLength()];
+        for (int i = 0; i < _reqTimes.length; i++) {
+            _reqTimes[i] = decoder.decodeDateTime(null);
+        }
+        Boolean _useSimpleBounds = decoder.decodeBoolean(null);
+
+        return new ReadAtTimeDetails(_reqTimes, _useSimpleBounds);
+    }
+
+    public static int sizeOf(ReadAtTimeDetails readAtTimeDetails) {
+        int size = 0;
+        DateTime[] _reqTimes = readAtTimeDetails.getReqTimes();
+        size += 4;
+        if (_reqTimes != null) {
+            size += _reqTimes.length * 8;
+        }
+        size += 1; // UseSimpleBounds
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ReadAtTimeDetailsBinaryCodec::encode, ReadAtTimeDetails.class);
+        DelegateRegistry.registerBinaryDecoder(ReadAtTimeDetailsBinaryCodec::decode, ReadAtTimeDetails.class, ReadAtTimeDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ReadAtTimeDetailsBinaryCodec::sizeOf, ReadAtTimeDetails.class);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.EventFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadEventDetails;
+
+public final class ReadEventDetailsBinaryCodec {
+
+    private ReadEventDetailsBinaryCodec() {}
+
+    public static void encode(ReadEventDetails readEventDetails, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, readEventDetails.getNumValuesPerNode());
+        encoder.encodeDateTime(null, readEventDetails.getStartTime());
+        encoder.encodeDateTime(null, readEventDetails.getEndTime());
+        EventFilter _filter = readEventDetails.getFilter();
+        EventFilterBinaryCodec.encode(_filter != null ? _filter : new EventFilter(), encoder);
+    }
+
+    public static ReadEventDetails decode(BinaryDecoder decoder) {
+        UInteger _numValuesPerNode = decoder.decodeUInt32(null);
+        DateTime _startTime = decoder.decodeDateTime(null);
+        DateTime _endTime = decoder.decodeDateTime(null);
+        EventFilter _filter = EventFilterBinaryCodec.decode(decoder);
+
+        return new ReadEventDetails(_numValuesPerNode, _startTime, _endTime, _filter);
+    }
+
+    public static int sizeOf(ReadEventDetails readEventDetails) {
+        int size = 0;
+        size += 4; // NumValuesPerNode
+        size += 8; // StartTime
+        size += 8; // EndTime
+        EventFilter _filter = readEventDetails.getFilter();
+        size += EventFilterBinaryCodec.sizeOf(_filter != null ? _filter : new EventFilter());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ReadEventDetailsBinaryCodec::encode, ReadEventDetails.class);
+        DelegateRegistry.registerBinaryDecoder(ReadEventDetailsBinaryCodec::decode, ReadEventDetails.class, ReadEventDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ReadEventDetailsBinaryCodec::sizeOf, ReadEventDetails.class);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.AggregateConfiguration;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadProcessedDetails;
+
+public final class ReadProcessedDetailsBinaryCodec {
+
+    private ReadProcessedDetailsBinaryCodec() {}
+
+    public static void encode(ReadProcessedDetails readProcessedDetails, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, readProcessedDetails.getStartTime());
+        encoder.encodeDateTime(null, readProcessedDetails.getEndTime());
+        encoder.encodeDouble(null, readProcessedDetails.getProcessingInterval());
+        NodeId[] _aggregateType = readProcessedDetails.getAggregateType();
+        if (encoder.writeArrayLength(_aggregateType)) {
+            for (NodeId v : _aggregateType) {
+                encoder.encodeNodeId(null, v);
+            }
+        }
+        AggregateConfiguration _aggregateConfiguration = readProcessedDetails.getAggregateConfiguration();
+        AggregateConfigurationBinaryCodec.encode(_aggregateConfiguration != null ? _aggregateConfiguration : new AggregateConfiguration(), encoder);
+    }
+
+    public static ReadProcessedDetails decode(BinaryDecoder decoder) {
+        DateTime _startTime = decoder.decodeDateTime(null);
+        DateTime _endTime = decoder.decodeDateTime(null);
+        Double _processingInterval = decoder.decodeDouble(null);
+        NodeId[] _aggregateType = new NodeId[decoder.readArrayLength()];
+        for (int i = 0; i < _aggregateType.length; i++) {
+            _aggregateType[i] = decoder.decodeNodeId(null);
+        }
+        AggregateConfiguration _aggregateConfiguration = AggregateConfigurationBinaryCodec.decode(decoder);
+
+        return new ReadProcessedDetails(_startTime, _endTime, _processingInterval, _aggregateType, _aggregateConfiguration);
+    }
+
+    public static int sizeOf(ReadProcessedDetails readProcessedDetails) {
+        int size = 0;
+        size += 8; // StartTime
+        size += 8; // EndTime
+        size += 8; // ProcessingInterval
+        NodeId[] _aggregateType = readProcessedDetails.getAggregateType();
+        size += 4;
+        if (_aggregateType != null) {
+            for (NodeId v : _aggregateType) {
+                size += BinarySize.sizeOfNodeId(v);
+            }
+        }
+        AggregateConfiguration _aggregateConfiguration = readProcessedDetails.getAggregateConfiguration();
+        size += AggregateConfigurationBinaryCodec.sizeOf(_aggregateConfiguration != null ? _aggregateConfiguration : new AggregateConfiguration());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ReadProcessedDetailsBinaryCodec::encode, ReadProcessedDetails.class);
+        DelegateRegistry.registerBinaryDecoder(ReadProcessedDetailsBinaryCodec::decode, ReadProcessedDetails.class, ReadProcessedDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ReadProcessedDetailsBinaryCodec::sizeOf, ReadProcessedDetails.class);
+    }
+
+}
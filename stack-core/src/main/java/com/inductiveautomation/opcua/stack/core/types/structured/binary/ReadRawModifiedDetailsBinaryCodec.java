@@ -0,0 +1,48 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadRawModifiedDetails;
+
+public final class ReadRawModifiedDetailsBinaryCodec {
+
+    private ReadRawModifiedDetailsBinaryCodec() {}
+
+    public static void encode(ReadRawModifiedDetails readRawModifiedDetails, BinaryEncoder encoder) {
+        encoder.encodeBoolean(null, readRawModifiedDetails.getIsReadModified());
+        encoder.encodeDateTime(null, readRawModifiedDetails.getStartTime());
+        encoder.encodeDateTime(null, readRawModifiedDetails.getEndTime());
+        encoder.encodeUInt32(null, readRawModifiedDetails.getNumValuesPerNode());
+        encoder.encodeBoolean(null, readRawModifiedDetails.getReturnBounds());
+    }
+
+    public static ReadRawModifiedDetails decode(BinaryDecoder decoder) {
+        Boolean _isReadModified = decoder.decodeBoolean(null);
+        DateTime _startTime = decoder.decodeDateTime(null);
+        DateTime _endTime = decoder.decodeDateTime(null);
+        UInteger _numValuesPerNode = decoder.decodeUInt32(null);
+        Boolean _returnBounds = decoder.decodeBoolean(null);
+
+        return new ReadRawModifiedDetails(_isReadModified, _startTime, _endTime, _numValuesPerNode, _returnBounds);
+    }
+
+    public static int sizeOf(ReadRawModifiedDetails readRawModifiedDetails) {
+        int size = 0;
+        size += 1; // IsReadModified
+        size += 8; // StartTime
+        size += 8; // EndTime
+        size += 4; // NumValuesPerNode
+        size += 1; // ReturnBounds
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ReadRawModifiedDetailsBinaryCodec::encode, ReadRawModifiedDetails.class);
+        DelegateRegistry.registerBinaryDecoder(ReadRawModifiedDetailsBinaryCodec::decode, ReadRawModifiedDetails.class, ReadRawModifiedDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ReadRawModifiedDetailsBinaryCodec::sizeOf, ReadRawModifiedDetails.class);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class ReadRequestBinaryCodec {
+
+    private ReadRequestBinaryCodec() {}
+
+    public static void encode(ReadRequest readRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = readRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeDouble(null, readRequest.getMaxAge());
+        TimestampsToReturn _timestampsToReturn = readRequest.getTimestampsToReturn();
+        encoder.writeInt32(null, _timestampsToReturn != null ? _timestampsToReturn.getValue() : -1);
+        ReadValueId[] _nodesToRead = readRequest.getNodesToRead();
+        if (encoder.writeArrayLength(_nodesToRead)) {
+            for (ReadValueId v : _nodesToRead) {
+                ReadValueIdBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static ReadRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Double _maxAge = decoder.decodeDouble(null);
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.from(decoder.readInt32(null));
+        ReadValueId[] _nodesToRead = new ReadValueId[decoder.readArrayLength()];
+        for (int i = 0; i < _nodesToRead.length; i++) {
+            _nodesToRead[i] = ReadValueIdBinaryCodec.decode(decoder);
+        }
+
+        return new ReadRequest(_requestHeader, _maxAge, _timestampsToReturn, _nodesToRead);
+    }
+
+    public static int sizeOf(ReadRequest readRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = readRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 8; // MaxAge
+        size += 4; // TimestampsToReturn
+        ReadValueId[] _nodesToRead = readRequest.getNodesToRead();
+        size += 4;
+        if (_nodesToRead != null) {
+            for (ReadValueId v : _nodesToRead) {
+                size += ReadValueIdBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ReadRequestBinaryCodec::encode, ReadRequest.class);
+        DelegateRegistry.registerBinaryDecoder(ReadRequestBinaryCodec::decode, ReadRequest.class, ReadRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ReadRequestBinaryCodec::sizeOf, ReadRequest.class);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class ReadResponseBinaryCodec {
+
+    private ReadResponseBinaryCodec() {}
+
+    public static void encode(ReadResponse readResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = readResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        DataValue[] _results = readResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (DataValue v : _results) {
+                encoder.encodeDataValue(null, v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = readResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static ReadResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        DataValue[] _results = new DataValue[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = decoder.decodeDataValue(null);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new ReadResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(ReadResponse readResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = readResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        DataValue[] _results = readResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            for (DataValue v : _results) {
+                size += BinarySize.sizeOfDataValue(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = readResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ReadResponseBinaryCodec::encode, ReadResponse.class);
+        DelegateRegistry.registerBinaryDecoder(ReadResponseBinaryCodec::decode, ReadResponse.class, ReadResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ReadResponseBinaryCodec::sizeOf, ReadResponse.class);
+    }
+
+}
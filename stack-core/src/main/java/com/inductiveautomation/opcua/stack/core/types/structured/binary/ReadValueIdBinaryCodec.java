@@ -0,0 +1,47 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+
+public final class ReadValueIdBinaryCodec {
+
+    private ReadValueIdBinaryCodec() {}
+
+    public static void encode(ReadValueId readValueId, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, readValueId.getNodeId());
+        encoder.encodeUInt32(null, readValueId.getAttributeId());
+        encoder.encodeString(null, readValueId.getIndexRange());
+        encoder.encodeQualifiedName(null, readValueId.getDataEncoding());
+    }
+
+    public static ReadValueId decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        UInteger _attributeId = decoder.decodeUInt32(null);
+        String _indexRange = decoder.decodeString(null);
+        QualifiedName _dataEncoding = decoder.decodeQualifiedName(null);
+
+        return new ReadValueId(_nodeId, _attributeId, _indexRange, _dataEncoding);
+    }
+
+    public static int sizeOf(ReadValueId readValueId) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(readValueId.getNodeId());
+        size += 4; // AttributeId
+        size += BinarySize.sizeOfString(readValueId.getIndexRange());
+        size += BinarySize.sizeOfQualifiedName(readValueId.getDataEncoding());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ReadValueIdBinaryCodec::encode, ReadValueId.class);
+        DelegateRegistry.registerBinaryDecoder(ReadValueIdBinaryCodec::decode, ReadValueId.class, ReadValueId.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ReadValueIdBinaryCodec::sizeOf, ReadValueId.class);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.ServerState;
+import com.inductiveautomation.opcua.stack.core.types.structured.RedundantServerDataType;
+
+public final class RedundantServerDataTypeBinaryCodec {
+
+    private RedundantServerDataTypeBinaryCodec() {}
+
+    public static void encode(RedundantServerDataType redundantServerDataType, BinaryEncoder encoder) {
+        encoder.encodeString(null, redundantServerDataType.getServerId());
+        encoder.encodeByte(null, redundantServerDataType.getServiceLevel());
+        ServerState _serverState = redundantServerDataType.getServerState();
+        encoder.writeInt32(null, _serverState != null ? _serverState.getValue() : -1);
+    }
+
+    public static RedundantServerDataType decode(BinaryDecoder decoder) {
+        String _serverId = decoder.decodeString(null);
+        UByte _serviceLevel = decoder.decodeByte(null);
+        ServerState _serverState = ServerState.from(decoder.readInt32(null));
+
+        return new RedundantServerDataType(_serverId, _serviceLevel, _serverState);
+    }
+
+    public static int sizeOf(RedundantServerDataType redundantServerDataType) {
+        int size = 0;
+        size += BinarySize.sizeOfString(redundantServerDataType.getServerId());
+        size += 1; // ServiceLevel
+        size += 4; // ServerState
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RedundantServerDataTypeBinaryCodec::encode, RedundantServerDataType.class);
+        DelegateRegistry.registerBinaryDecoder(RedundantServerDataTypeBinaryCodec::decode, RedundantServerDataType.class, RedundantServerDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RedundantServerDataTypeBinaryCodec::sizeOf, RedundantServerDataType.class);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceDescription;
+
+public final class ReferenceDescriptionBinaryCodec {
+
+    private ReferenceDescriptionBinaryCodec() {}
+
+    public static void encode(ReferenceDescription referenceDescription, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, referenceDescription.getReferenceTypeId());
+        encoder.encodeBoolean(null, referenceDescription.getIsForward());
+        encoder.encodeExpandedNodeId(null, referenceDescription.getNodeId());
+        encoder.encodeQualifiedName(null, referenceDescription.getBrowseName());
+        encoder.encodeLocalizedText(null, referenceDescription.getDisplayName());
+        NodeClass _nodeClass = referenceDescription.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeExpandedNodeId(null, referenceDescription.getTypeDefinition());
+    }
+
+    public static ReferenceDescription decode(BinaryDecoder decoder) {
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isForward = decoder.decodeBoolean(null);
+        ExpandedNodeId _nodeId = decoder.decodeExpandedNodeId(null);
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        ExpandedNodeId _typeDefinition = decoder.decodeExpandedNodeId(null);
+
+        return new ReferenceDescription(_referenceTypeId, _isForward, _nodeId, _browseName, _displayName, _nodeClass, _typeDefinition);
+    }
+
+    public static int sizeOf(ReferenceDescription referenceDescription) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(referenceDescription.getReferenceTypeId());
+        size += 1; // IsForward
+        size += BinarySize.sizeOfExpandedNodeId(referenceDescription.getNodeId());
+        size += BinarySize.sizeOfQualifiedName(referenceDescription.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(referenceDescription.getDisplayName());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfExpandedNodeId(referenceDescription.getTypeDefinition());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ReferenceDescriptionBinaryCodec::encode, ReferenceDescription.class);
+        DelegateRegistry.registerBinaryDecoder(ReferenceDescriptionBinaryCodec::decode, ReferenceDescription.class, ReferenceDescription.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ReferenceDescriptionBinaryCodec::sizeOf, ReferenceDescription.class);
+    }
+
+}
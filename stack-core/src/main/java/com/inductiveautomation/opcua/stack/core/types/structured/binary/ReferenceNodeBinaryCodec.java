@@ -0,0 +1,43 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+
+public final class ReferenceNodeBinaryCodec {
+
+    private ReferenceNodeBinaryCodec() {}
+
+    public static void encode(ReferenceNode referenceNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, referenceNode.getReferenceTypeId());
+        encoder.encodeBoolean(null, referenceNode.getIsInverse());
+        encoder.encodeExpandedNodeId(null, referenceNode.getTargetId());
+    }
+
+    public static ReferenceNode decode(BinaryDecoder decoder) {
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isInverse = decoder.decodeBoolean(null);
+        ExpandedNodeId _targetId = decoder.decodeExpandedNodeId(null);
+
+        return new ReferenceNode(_referenceTypeId, _isInverse, _targetId);
+    }
+
+    public static int sizeOf(ReferenceNode referenceNode) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(referenceNode.getReferenceTypeId());
+        size += 1; // IsInverse
+        size += BinarySize.sizeOfExpandedNodeId(referenceNode.getTargetId());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ReferenceNodeBinaryCodec::encode, ReferenceNode.class);
+        DelegateRegistry.registerBinaryDecoder(ReferenceNodeBinaryCodec::decode, ReferenceNode.class, ReferenceNode.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ReferenceNodeBinaryCodec::sizeOf, ReferenceNode.class);
+    }
+
+}
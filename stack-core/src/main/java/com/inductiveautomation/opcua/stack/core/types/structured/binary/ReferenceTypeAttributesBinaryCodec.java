@@ -0,0 +1,58 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceTypeAttributes;
+
+public final class ReferenceTypeAttributesBinaryCodec {
+
+    private ReferenceTypeAttributesBinaryCodec() {}
+
+    public static void encode(ReferenceTypeAttributes referenceTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, referenceTypeAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, referenceTypeAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, referenceTypeAttributes.getDescription());
+        encoder.encodeUInt32(null, referenceTypeAttributes.getWriteMask());
+        encoder.encodeUInt32(null, referenceTypeAttributes.getUserWriteMask());
+        encoder.encodeBoolean(null, referenceTypeAttributes.getIsAbstract());
+        encoder.encodeBoolean(null, referenceTypeAttributes.getSymmetric());
+        encoder.encodeLocalizedText(null, referenceTypeAttributes.getInverseName());
+    }
+
+    public static ReferenceTypeAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+        Boolean _symmetric = decoder.decodeBoolean(null);
+        LocalizedText _inverseName = decoder.decodeLocalizedText(null);
+
+        return new ReferenceTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract, _symmetric, _inverseName);
+    }
+
+    public static int sizeOf(ReferenceTypeAttributes referenceTypeAttributes) {
+        int size = 0;
+        size += 4; // SpecifiedAttributes
+        size += BinarySize.sizeOfLocalizedText(referenceTypeAttributes.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(referenceTypeAttributes.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        size += 1; // IsAbstract
+        size += 1; // Symmetric
+        size += BinarySize.sizeOfLocalizedText(referenceTypeAttributes.getInverseName());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ReferenceTypeAttributesBinaryCodec::encode, ReferenceTypeAttributes.class);
+        DelegateRegistry.registerBinaryDecoder(ReferenceTypeAttributesBinaryCodec::decode, ReferenceTypeAttributes.class, ReferenceTypeAttributes.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ReferenceTypeAttributesBinaryCodec::sizeOf, ReferenceTypeAttributes.class);
+    }
+
+}
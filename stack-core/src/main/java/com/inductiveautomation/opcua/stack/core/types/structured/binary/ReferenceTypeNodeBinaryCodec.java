@@ -0,0 +1,86 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceTypeNode;
+
+public final class ReferenceTypeNodeBinaryCodec {
+
+    private ReferenceTypeNodeBinaryCodec() {}
+
+    public static void encode(ReferenceTypeNode referenceTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, referenceTypeNode.getNodeId());
+        NodeClass _nodeClass = referenceTypeNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, referenceTypeNode.getBrowseName());
+        encoder.encodeLocalizedText(null, referenceTypeNode.getDisplayName());
+        encoder.encodeLocalizedText(null, referenceTypeNode.getDescription());
+        encoder.encodeUInt32(null, referenceTypeNode.getWriteMask());
+        encoder.encodeUInt32(null, referenceTypeNode.getUserWriteMask());
+        ReferenceNode[] _references = referenceTypeNode.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceNode v : _references) {
+                ReferenceNodeBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeBoolean(null, referenceTypeNode.getIsAbstract());
+        encoder.encodeBoolean(null, referenceTypeNode.getSymmetric());
+        encoder.encodeLocalizedText(null, referenceTypeNode.getInverseName());
+    }
+
+    public static ReferenceTypeNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references = new ReferenceNode[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+        }
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+        Boolean _symmetric = decoder.decodeBoolean(null);
+        LocalizedText _inverseName = decoder.decodeLocalizedText(null);
+
+        return new ReferenceTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _isAbstract, _symmetric, _inverseName);
+    }
+
+    public static int sizeOf(ReferenceTypeNode referenceTypeNode) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(referenceTypeNode.getNodeId());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfQualifiedName(referenceTypeNode.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(referenceTypeNode.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(referenceTypeNode.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        ReferenceNode[] _references = referenceTypeNode.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceNode v : _references) {
+                size += ReferenceNodeBinaryCodec.sizeOf(v);
+            }
+        }
+        size += 1; // IsAbstract
+        size += 1; // Symmetric
+        size += BinarySize.sizeOfLocalizedText(referenceTypeNode.getInverseName());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ReferenceTypeNodeBinaryCodec::encode, ReferenceTypeNode.class);
+        DelegateRegistry.registerBinaryDecoder(ReferenceTypeNodeBinaryCodec::decode, ReferenceTypeNode.class, ReferenceTypeNode.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ReferenceTypeNodeBinaryCodec::sizeOf, ReferenceTypeNode.class);
+    }
+
+}
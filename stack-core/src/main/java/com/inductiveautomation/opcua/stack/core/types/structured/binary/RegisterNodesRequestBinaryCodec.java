@@ -0,0 +1,56 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.RegisterNodesRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class RegisterNodesRequestBinaryCodec {
+
+    private RegisterNodesRequestBinaryCodec() {}
+
+    public static void encode(RegisterNodesRequest registerNodesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = registerNodesRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        NodeId[] _nodesToRegister = registerNodesRequest.getNodesToRegister();
+        if (encoder.writeArrayLength(_nodesToRegister)) {
+            for (NodeId v : _nodesToRegister) {
+                encoder.encodeNodeId(null, v);
+            }
+        }
+    }
+
+    public static RegisterNodesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        NodeId[] _nodesToRegister = new NodeId[decoder.readArrayLength()];
+        for (int i = 0; i < _nodesToRegister.length; i++) {
+            _nodesToRegister[i] = decoder.decodeNodeId(null);
+        }
+
+        return new RegisterNodesRequest(_requestHeader, _nodesToRegister);
+    }
+
+    public static int sizeOf(RegisterNodesRequest registerNodesRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = registerNodesRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        NodeId[] _nodesToRegister = registerNodesRequest.getNodesToRegister();
+        size += 4;
+        if (_nodesToRegister != null) {
+            for (NodeId v : _nodesToRegister) {
+                size += BinarySize.sizeOfNodeId(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RegisterNodesRequestBinaryCodec::encode, RegisterNodesRequest.class);
+        DelegateRegistry.registerBinaryDecoder(RegisterNodesRequestBinaryCodec::decode, RegisterNodesRequest.class, RegisterNodesRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RegisterNodesRequestBinaryCodec::sizeOf, RegisterNodesRequest.class);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.RegisterNodesResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class RegisterNodesResponseBinaryCodec {
+
+    private RegisterNodesResponseBinaryCodec() {}
+
+    public static void encode(RegisterNodesResponse registerNodesResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = registerNodesResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        NodeId[] _registeredNodeIds = registerNodesResponse.getRegisteredNodeIds();
+        if (encoder.writeArrayLength(_registeredNodeIds)) {
+            for (NodeId v : _registeredNodeIds) {
+                encoder.encodeNodeId(null, v);
+            }
+        }
+    }
+
+    public static RegisterNodesResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        NodeId[] _registeredNodeIds = new NodeId[decoder.readArrayLength()];
+        for (int i = 0; i < _registeredNodeIds.length; i++) {
+            _registeredNodeIds[i] = decoder.decodeNodeId(null);
+        }
+
+        return new RegisterNodesResponse(_responseHeader, _registeredNodeIds);
+    }
+
+    public static int sizeOf(RegisterNodesResponse registerNodesResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = registerNodesResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        NodeId[] _registeredNodeIds = registerNodesResponse.getRegisteredNodeIds();
+        size += 4;
+        if (_registeredNodeIds != null) {
+            for (NodeId v : _registeredNodeIds) {
+                size += BinarySize.sizeOfNodeId(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RegisterNodesResponseBinaryCodec::encode, RegisterNodesResponse.class);
+        DelegateRegistry.registerBinaryDecoder(RegisterNodesResponseBinaryCodec::decode, RegisterNodesResponse.class, RegisterNodesResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RegisterNodesResponseBinaryCodec::sizeOf, RegisterNodesResponse.class);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.RegisterServerRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RegisteredServer;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class RegisterServerRequestBinaryCodec {
+
+    private RegisterServerRequestBinaryCodec() {}
+
+    public static void encode(RegisterServerRequest registerServerRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = registerServerRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        RegisteredServer _server = registerServerRequest.getServer();
+        RegisteredServerBinaryCodec.encode(_server != null ? _server : new RegisteredServer(), encoder);
+    }
+
+    public static RegisterServerRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        RegisteredServer _server = RegisteredServerBinaryCodec.decode(decoder);
+
+        return new RegisterServerRequest(_requestHeader, _server);
+    }
+
+    public static int sizeOf(RegisterServerRequest registerServerRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = registerServerRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        RegisteredServer _server = registerServerRequest.getServer();
+        size += RegisteredServerBinaryCodec.sizeOf(_server != null ? _server : new RegisteredServer());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RegisterServerRequestBinaryCodec::encode, RegisterServerRequest.class);
+        DelegateRegistry.registerBinaryDecoder(RegisterServerRequestBinaryCodec::decode, RegisterServerRequest.class, RegisterServerRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RegisterServerRequestBinaryCodec::sizeOf, RegisterServerRequest.class);
+    }
+
+}
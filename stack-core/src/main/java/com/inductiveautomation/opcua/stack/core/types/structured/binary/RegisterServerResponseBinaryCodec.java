@@ -0,0 +1,37 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.RegisterServerResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class RegisterServerResponseBinaryCodec {
+
+    private RegisterServerResponseBinaryCodec() {}
+
+    public static void encode(RegisterServerResponse registerServerResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = registerServerResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+    }
+
+    public static RegisterServerResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+
+        return new RegisterServerResponse(_responseHeader);
+    }
+
+    public static int sizeOf(RegisterServerResponse registerServerResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = registerServerResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RegisterServerResponseBinaryCodec::encode, RegisterServerResponse.class);
+        DelegateRegistry.registerBinaryDecoder(RegisterServerResponseBinaryCodec::decode, RegisterServerResponse.class, RegisterServerResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RegisterServerResponseBinaryCodec::sizeOf, RegisterServerResponse.class);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.ApplicationType;
+import com.inductiveautomation.opcua.stack.core.types.structured.RegisteredServer;
+
+public final class RegisteredServerBinaryCodec {
+
+    private RegisteredServerBinaryCodec() {}
+
+    public static void encode(RegisteredServer registeredServer, BinaryEncoder encoder) {
+        encoder.encodeString(null, registeredServer.getServerUri());
+        encoder.encodeString(null, registeredServer.getProductUri());
+        LocalizedText[] _serverNames = registeredServer.getServerNames();
+        if (encoder.writeArrayLength(_serverNames)) {
+            for (LocalizedText v : _serverNames) {
+                encoder.encodeLocalizedText(null, v);
+            }
+        }
+        ApplicationType _serverType = registeredServer.getServerType();
+        encoder.writeInt32(null, _serverType != null ? _serverType.getValue() : -1);
+        encoder.encodeString(null, registeredServer.getGatewayServerUri());
+        String[] _discoveryUrls = registeredServer.getDiscoveryUrls();
+        if (encoder.writeArrayLength(_discoveryUrls)) {
+            for (String v : _discoveryUrls) {
+                encoder.encodeString(null, v);
+            }
+        }
+        encoder.encodeString(null, registeredServer.getSemaphoreFilePath());
+        encoder.encodeBoolean(null, registeredServer.getIsOnline());
+    }
+
+    public static RegisteredServer decode(BinaryDecoder decoder) {
+        String _serverUri = decoder.decodeString(null);
+        String _productUri = decoder.decodeString(null);
+        LocalizedText[] _serverNames = new LocalizedText[decoder.readArrayLength()];
+        for (int i = 0; i < _serverNames.length; i++) {
+            _serverNames[i] = decoder.decodeLocalizedText(null);
+        }
+        ApplicationType _serverType = ApplicationType.from(decoder.readInt32(null));
+        String _gatewayServerUri = decoder.decodeString(null);
+        String[] _discoveryUrls = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _discoveryUrls.length; i++) {
+            _discoveryUrls[i] = decoder.decodeString(null);
+        }
+        String _semaphoreFilePath = decoder.decodeString(null);
+        Boolean _isOnline = decoder.decodeBoolean(null);
+
+        return new RegisteredServer(_serverUri, _productUri, _serverNames, _serverType, _gatewayServerUri, _discoveryUrls, _semaphoreFilePath, _isOnline);
+    }
+
+    public static int sizeOf(RegisteredServer registeredServer) {
+        int size = 0;
+        size += BinarySize.sizeOfString(registeredServer.getServerUri());
+        size += BinarySize.sizeOfString(registeredServer.getProductUri());
+        LocalizedText[] _serverNames = registeredServer.getServerNames();
+        size += 4;
+        if (_serverNames != null) {
+            for (LocalizedText v : _serverNames) {
+                size += BinarySize.sizeOfLocalizedText(v);
+            }
+        }
+        size += 4; // ServerType
+        size += BinarySize.sizeOfString(registeredServer.getGatewayServerUri());
+        String[] _discoveryUrls = registeredServer.getDiscoveryUrls();
+        size += 4;
+        if (_discoveryUrls != null) {
+            for (String v : _discoveryUrls) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        size += BinarySize.sizeOfString(registeredServer.getSemaphoreFilePath());
+        size += 1; // IsOnline
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RegisteredServerBinaryCodec::encode, RegisteredServer.class);
+        DelegateRegistry.registerBinaryDecoder(RegisteredServerBinaryCodec::decode, RegisteredServer.class, RegisteredServer.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RegisteredServerBinaryCodec::sizeOf, RegisteredServer.class);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.RelativePath;
+import com.inductiveautomation.opcua.stack.core.types.structured.RelativePathElement;
+
+public final class RelativePathBinaryCodec {
+
+    private RelativePathBinaryCodec() {}
+
+    public static void encode(RelativePath relativePath, BinaryEncoder encoder) {
+        RelativePathElement[] _elements = relativePath.getElements();
+        if (encoder.writeArrayLength(_elements)) {
+            for (RelativePathElement v : _elements) {
+                RelativePathElementBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static RelativePath decode(BinaryDecoder decoder) {
+        RelativePathElement[] _elements = new RelativePathElement[decoder.readArrayLength()];
+        for (int i = 0; i < _elements.length; i++) {
+            _elements[i] = RelativePathElementBinaryCodec.decode(decoder);
+        }
+
+        return new RelativePath(_elements);
+    }
+
+    public static int sizeOf(RelativePath relativePath) {
+        int size = 0;
+        RelativePathElement[] _elements = relativePath.getElements();
+        size += 4;
+        if (_elements != null) {
+            for (RelativePathElement v : _elements) {
+                size += RelativePathElementBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RelativePathBinaryCodec::encode, RelativePath.class);
+        DelegateRegistry.registerBinaryDecoder(RelativePathBinaryCodec::decode, RelativePath.class, RelativePath.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RelativePathBinaryCodec::sizeOf, RelativePath.class);
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.structured.RelativePathElement;
+
+public final class RelativePathElementBinaryCodec {
+
+    private RelativePathElementBinaryCodec() {}
+
+    public static void encode(RelativePathElement relativePathElement, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, relativePathElement.getReferenceTypeId());
+        encoder.encodeBoolean(null, relativePathElement.getIsInverse());
+        encoder.encodeBoolean(null, relativePathElement.getIncludeSubtypes());
+        encoder.encodeQualifiedName(null, relativePathElement.getTargetName());
+    }
+
+    public static RelativePathElement decode(BinaryDecoder decoder) {
+        NodeId _referenceTypeId = decoder.decodeNodeId(null);
+        Boolean _isInverse = decoder.decodeBoolean(null);
+        Boolean _includeSubtypes = decoder.decodeBoolean(null);
+        QualifiedName _targetName = decoder.decodeQualifiedName(null);
+
+        return new RelativePathElement(_referenceTypeId, _isInverse, _includeSubtypes, _targetName);
+    }
+
+    public static int sizeOf(RelativePathElement relativePathElement) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(relativePathElement.getReferenceTypeId());
+        size += 1; // IsInverse
+        size += 1; // IncludeSubtypes
+        size += BinarySize.sizeOfQualifiedName(relativePathElement.getTargetName());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RelativePathElementBinaryCodec::encode, RelativePathElement.class);
+        DelegateRegistry.registerBinaryDecoder(RelativePathElementBinaryCodec::decode, RelativePathElement.class, RelativePathElement.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RelativePathElementBinaryCodec::sizeOf, RelativePathElement.class);
+    }
+
+}
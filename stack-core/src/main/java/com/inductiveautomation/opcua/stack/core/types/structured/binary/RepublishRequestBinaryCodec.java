@@ -0,0 +1,44 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.RepublishRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class RepublishRequestBinaryCodec {
+
+    private RepublishRequestBinaryCodec() {}
+
+    public static void encode(RepublishRequest republishRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = republishRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32(null, republishRequest.getSubscriptionId());
+        encoder.encodeUInt32(null, republishRequest.getRetransmitSequenceNumber());
+    }
+
+    public static RepublishRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        UInteger _retransmitSequenceNumber = decoder.decodeUInt32(null);
+
+        return new RepublishRequest(_requestHeader, _subscriptionId, _retransmitSequenceNumber);
+    }
+
+    public static int sizeOf(RepublishRequest republishRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = republishRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 4; // SubscriptionId
+        size += 4; // RetransmitSequenceNumber
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RepublishRequestBinaryCodec::encode, RepublishRequest.class);
+        DelegateRegistry.registerBinaryDecoder(RepublishRequestBinaryCodec::decode, RepublishRequest.class, RepublishRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RepublishRequestBinaryCodec::sizeOf, RepublishRequest.class);
+    }
+
+}
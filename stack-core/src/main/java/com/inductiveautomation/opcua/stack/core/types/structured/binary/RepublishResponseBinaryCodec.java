@@ -0,0 +1,43 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.NotificationMessage;
+import com.inductiveautomation.opcua.stack.core.types.structured.RepublishResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class RepublishResponseBinaryCodec {
+
+    private RepublishResponseBinaryCodec() {}
+
+    public static void encode(RepublishResponse republishResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = republishResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        NotificationMessage _notificationMessage = republishResponse.getNotificationMessage();
+        NotificationMessageBinaryCodec.encode(_notificationMessage != null ? _notificationMessage : new NotificationMessage(), encoder);
+    }
+
+    public static RepublishResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        NotificationMessage _notificationMessage = NotificationMessageBinaryCodec.decode(decoder);
+
+        return new RepublishResponse(_responseHeader, _notificationMessage);
+    }
+
+    public static int sizeOf(RepublishResponse republishResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = republishResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        NotificationMessage _notificationMessage = republishResponse.getNotificationMessage();
+        size += NotificationMessageBinaryCodec.sizeOf(_notificationMessage != null ? _notificationMessage : new NotificationMessage());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RepublishResponseBinaryCodec::encode, RepublishResponse.class);
+        DelegateRegistry.registerBinaryDecoder(RepublishResponseBinaryCodec::decode, RepublishResponse.class, RepublishResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RepublishResponseBinaryCodec::sizeOf, RepublishResponse.class);
+    }
+
+}
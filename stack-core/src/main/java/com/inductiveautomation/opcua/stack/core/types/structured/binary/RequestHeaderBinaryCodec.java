@@ -0,0 +1,57 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+
+public final class RequestHeaderBinaryCodec {
+
+    private RequestHeaderBinaryCodec() {}
+
+    public static void encode(RequestHeader requestHeader, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, requestHeader.getAuthenticationToken());
+        encoder.encodeDateTime(null, requestHeader.getTimestamp());
+        encoder.encodeUInt32(null, requestHeader.getRequestHandle());
+        encoder.encodeUInt32(null, requestHeader.getReturnDiagnostics());
+        encoder.encodeString(null, requestHeader.getAuditEntryId());
+        encoder.encodeUInt32(null, requestHeader.getTimeoutHint());
+        encoder.encodeExtensionObject(null, requestHeader.getAdditionalHeader());
+    }
+
+    public static RequestHeader decode(BinaryDecoder decoder) {
+        NodeId _authenticationToken = decoder.decodeNodeId(null);
+        DateTime _timestamp = decoder.decodeDateTime(null);
+        UInteger _requestHandle = decoder.decodeUInt32(null);
+        UInteger _returnDiagnostics = decoder.decodeUInt32(null);
+        String _auditEntryId = decoder.decodeString(null);
+        UInteger _timeoutHint = decoder.decodeUInt32(null);
+        ExtensionObject _additionalHeader = decoder.decodeExtensionObject(null);
+
+        return new RequestHeader(_authenticationToken, _timestamp, _requestHandle, _returnDiagnostics, _auditEntryId, _timeoutHint, _additionalHeader);
+    }
+
+    public static int sizeOf(RequestHeader requestHeader) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(requestHeader.getAuthenticationToken());
+        size += 8; // Timestamp
+        size += 4; // RequestHandle
+        size += 4; // ReturnDiagnostics
+        size += BinarySize.sizeOfString(requestHeader.getAuditEntryId());
+        size += 4; // TimeoutHint
+        size += BinarySize.sizeOfExtensionObject(requestHeader.getAdditionalHeader());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(RequestHeaderBinaryCodec::encode, RequestHeader.class);
+        DelegateRegistry.registerBinaryDecoder(RequestHeaderBinaryCodec::decode, RequestHeader.class, RequestHeader.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(RequestHeaderBinaryCodec::sizeOf, RequestHeader.class);
+    }
+
+}
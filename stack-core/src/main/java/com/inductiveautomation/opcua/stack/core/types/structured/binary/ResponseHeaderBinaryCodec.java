@@ -0,0 +1,69 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+
+public final class ResponseHeaderBinaryCodec {
+
+    private ResponseHeaderBinaryCodec() {}
+
+    public static void encode(ResponseHeader responseHeader, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, responseHeader.getTimestamp());
+        encoder.encodeUInt32(null, responseHeader.getRequestHandle());
+        encoder.encodeStatusCode(null, responseHeader.getServiceResult());
+        encoder.encodeDiagnosticInfo(null, responseHeader.getServiceDiagnostics());
+        String[] _stringTable = responseHeader.getStringTable();
+        if (encoder.writeArrayLength(_stringTable)) {
+            for (String v : _stringTable) {
+                encoder.encodeString(null, v);
+            }
+        }
+        encoder.encodeExtensionObject(null, responseHeader.getAdditionalHeader());
+    }
+
+    public static ResponseHeader decode(BinaryDecoder decoder) {
+        DateTime _timestamp = decoder.decodeDateTime(null);
+        UInteger _requestHandle = decoder.decodeUInt32(null);
+        StatusCode _serviceResult = decoder.decodeStatusCode(null);
+        DiagnosticInfo _serviceDiagnostics = decoder.decodeDiagnosticInfo(null);
+        String[] _stringTable = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _stringTable.length; i++) {
+            _stringTable[i] = decoder.decodeString(null);
+        }
+        ExtensionObject _additionalHeader = decoder.decodeExtensionObject(null);
+
+        return new ResponseHeader(_timestamp, _requestHandle, _serviceResult, _serviceDiagnostics, _stringTable, _additionalHeader);
+    }
+
+    public static int sizeOf(ResponseHeader responseHeader) {
+        int size = 0;
+        size += 8; // Timestamp
+        size += 4; // RequestHandle
+        size += 4; // ServiceResult
+        size += BinarySize.sizeOfDiagnosticInfo(responseHeader.getServiceDiagnostics());
+        String[] _stringTable = responseHeader.getStringTable();
+        size += 4;
+        if (_stringTable != null) {
+            for (String v : _stringTable) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        size += BinarySize.sizeOfExtensionObject(responseHeader.getAdditionalHeader());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ResponseHeaderBinaryCodec::encode, ResponseHeader.class);
+        DelegateRegistry.registerBinaryDecoder(ResponseHeaderBinaryCodec::decode, ResponseHeader.class, ResponseHeader.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ResponseHeaderBinaryCodec::sizeOf, ResponseHeader.class);
+    }
+
+}
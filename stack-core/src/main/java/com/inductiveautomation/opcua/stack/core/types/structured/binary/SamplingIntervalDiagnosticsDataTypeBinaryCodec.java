@@ -0,0 +1,44 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.SamplingIntervalDiagnosticsDataType;
+
+public final class SamplingIntervalDiagnosticsDataTypeBinaryCodec {
+
+    private SamplingIntervalDiagnosticsDataTypeBinaryCodec() {}
+
+    public static void encode(SamplingIntervalDiagnosticsDataType samplingIntervalDiagnosticsDataType, BinaryEncoder encoder) {
+        encoder.encodeDouble(null, samplingIntervalDiagnosticsDataType.getSamplingInterval());
+        encoder.encodeUInt32(null, samplingIntervalDiagnosticsDataType.getMonitoredItemCount());
+        encoder.encodeUInt32(null, samplingIntervalDiagnosticsDataType.getMaxMonitoredItemCount());
+        encoder.encodeUInt32(null, samplingIntervalDiagnosticsDataType.getDisabledMonitoredItemCount());
+    }
+
+    public static SamplingIntervalDiagnosticsDataType decode(BinaryDecoder decoder) {
+        Double _samplingInterval = decoder.decodeDouble(null);
+        UInteger _monitoredItemCount = decoder.decodeUInt32(null);
+        UInteger _maxMonitoredItemCount = decoder.decodeUInt32(null);
+        UInteger _disabledMonitoredItemCount = decoder.decodeUInt32(null);
+
+        return new SamplingIntervalDiagnosticsDataType(_samplingInterval, _monitoredItemCount, _maxMonitoredItemCount, _disabledMonitoredItemCount);
+    }
+
+    public static int sizeOf(SamplingIntervalDiagnosticsDataType samplingIntervalDiagnosticsDataType) {
+        int size = 0;
+        size += 8; // SamplingInterval
+        size += 4; // MonitoredItemCount
+        size += 4; // MaxMonitoredItemCount
+        size += 4; // DisabledMonitoredItemCount
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SamplingIntervalDiagnosticsDataTypeBinaryCodec::encode, SamplingIntervalDiagnosticsDataType.class);
+        DelegateRegistry.registerBinaryDecoder(SamplingIntervalDiagnosticsDataTypeBinaryCodec::decode, SamplingIntervalDiagnosticsDataType.class, SamplingIntervalDiagnosticsDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SamplingIntervalDiagnosticsDataTypeBinaryCodec::sizeOf, SamplingIntervalDiagnosticsDataType.class);
+    }
+
+}
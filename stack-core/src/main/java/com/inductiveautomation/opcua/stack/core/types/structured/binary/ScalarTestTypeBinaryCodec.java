@@ -0,0 +1,126 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import java.util.UUID;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.XmlElement;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.ULong;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UShort;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.EnumeratedTestType;
+import com.inductiveautomation.opcua.stack.core.types.structured.ScalarTestType;
+
+public final class ScalarTestTypeBinaryCodec {
+
+    private ScalarTestTypeBinaryCodec() {}
+
+    public static void encode(ScalarTestType scalarTestType, BinaryEncoder encoder) {
+        encoder.encodeBoolean(null, scalarTestType.getBoolean());
+        encoder.encodeSByte(null, scalarTestType.getSByte());
+        encoder.encodeByte(null, scalarTestType.getByte());
+        encoder.encodeInt16(null, scalarTestType.getInt16());
+        encoder.encodeUInt16(null, scalarTestType.getUInt16());
+        encoder.encodeInt32(null, scalarTestType.getInt32());
+        encoder.encodeUInt32(null, scalarTestType.getUInt32());
+        encoder.encodeInt64(null, scalarTestType.getInt64());
+        encoder.encodeUInt64(null, scalarTestType.getUInt64());
+        encoder.encodeFloat(null, scalarTestType.getFloat());
+        encoder.encodeDouble(null, scalarTestType.getDouble());
+        encoder.encodeString(null, scalarTestType.getString());
+        encoder.encodeDateTime(null, scalarTestType.getDateTime());
+        encoder.encodeGuid(null, scalarTestType.getGuid());
+        encoder.encodeByteString(null, scalarTestType.getByteString());
+        encoder.encodeXmlElement(null, scalarTestType.getXmlElement());
+        encoder.encodeNodeId(null, scalarTestType.getNodeId());
+        encoder.encodeExpandedNodeId(null, scalarTestType.getExpandedNodeId());
+        encoder.encodeStatusCode(null, scalarTestType.getStatusCode());
+        encoder.encodeDiagnosticInfo(null, scalarTestType.getDiagnosticInfo());
+        encoder.encodeQualifiedName(null, scalarTestType.getQualifiedName());
+        encoder.encodeLocalizedText(null, scalarTestType.getLocalizedText());
+        encoder.encodeExtensionObject(null, scalarTestType.getExtensionObject());
+        encoder.encodeDataValue(null, scalarTestType.getDataValue());
+        EnumeratedTestType _enumeratedValue = scalarTestType.getEnumeratedValue();
+        encoder.writeInt32(null, _enumeratedValue != null ? _enumeratedValue.getValue() : -1);
+    }
+
+    public static ScalarTestType decode(BinaryDecoder decoder) {
+        Boolean _boolean = decoder.decodeBoolean(null);
+        Byte _sByte = decoder.decodeSByte(null);
+        UByte _byte = decoder.decodeByte(null);
+        Short _int16 = decoder.decodeInt16(null);
+        UShort _uInt16 = decoder.decodeUInt16(null);
+        Integer _int32 = decoder.decodeInt32(null);
+        UInteger _uInt32 = decoder.decodeUInt32(null);
+        Long _int64 = decoder.decodeInt64(null);
+        ULong _uInt64 = decoder.decodeUInt64(null);
+        Float _float = decoder.decodeFloat(null);
+        Double _double = decoder.decodeDouble(null);
+        String _string = decoder.decodeString(null);
+        DateTime _dateTime = decoder.decodeDateTime(null);
+        UUID _guid = decoder.decodeGuid(null);
+        ByteString _byteString = decoder.decodeByteString(null);
+        XmlElement _xmlElement = decoder.decodeXmlElement(null);
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        ExpandedNodeId _expandedNodeId = decoder.decodeExpandedNodeId(null);
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        DiagnosticInfo _diagnosticInfo = decoder.decodeDiagnosticInfo(null);
+        QualifiedName _qualifiedName = decoder.decodeQualifiedName(null);
+        LocalizedText _localizedText = decoder.decodeLocalizedText(null);
+        ExtensionObject _extensionObject = decoder.decodeExtensionObject(null);
+        DataValue _dataValue = decoder.decodeDataValue(null);
+        EnumeratedTestType _enumeratedValue = EnumeratedTestType.from(decoder.readInt32(null));
+
+        return new ScalarTestType(_boolean, _sByte, _byte, _int16, _uInt16, _int32, _uInt32, _int64, _uInt64, _float, _double, _string, _dateTime, _guid, _byteString, _xmlElement, _nodeId, _expandedNodeId, _statusCode, _diagnosticInfo, _qualifiedName, _localizedText, _extensionObject, _dataValue, _enumeratedValue);
+    }
+
+    public static int sizeOf(ScalarTestType scalarTestType) {
+        int size = 0;
+        size += 1; // Boolean
+        size += 1; // SByte
+        size += 1; // Byte
+        size += 2; // Int16
+        size += 2; // UInt16
+        size += 4; // Int32
+        size += 4; // UInt32
+        size += 8; // Int64
+        size += 8; // UInt64
+        size += 4; // Float
+        size += 8; // Double
+        size += BinarySize.sizeOfString(scalarTestType.getString());
+        size += 8; // DateTime
+        size += 16; // Guid
+        size += BinarySize.sizeOfByteString(scalarTestType.getByteString());
+        size += BinarySize.sizeOfXmlElement(scalarTestType.getXmlElement());
+        size += BinarySize.sizeOfNodeId(scalarTestType.getNodeId());
+        size += BinarySize.sizeOfExpandedNodeId(scalarTestType.getExpandedNodeId());
+        size += 4; // StatusCode
+        size += BinarySize.sizeOfDiagnosticInfo(scalarTestType.getDiagnosticInfo());
+        size += BinarySize.sizeOfQualifiedName(scalarTestType.getQualifiedName());
+        size += BinarySize.sizeOfLocalizedText(scalarTestType.getLocalizedText());
+        size += BinarySize.sizeOfExtensionObject(scalarTestType.getExtensionObject());
+        size += BinarySize.sizeOfDataValue(scalarTestType.getDataValue());
+        size += 4; // EnumeratedValue
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ScalarTestTypeBinaryCodec::encode, ScalarTestType.class);
+        DelegateRegistry.registerBinaryDecoder(ScalarTestTypeBinaryCodec::decode, ScalarTestType.class, ScalarTestType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ScalarTestTypeBinaryCodec::sizeOf, ScalarTestType.class);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.SemanticChangeStructureDataType;
+
+public final class SemanticChangeStructureDataTypeBinaryCodec {
+
+    private SemanticChangeStructureDataTypeBinaryCodec() {}
+
+    public static void encode(SemanticChangeStructureDataType semanticChangeStructureDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, semanticChangeStructureDataType.getAffected());
+        encoder.encodeNodeId(null, semanticChangeStructureDataType.getAffectedType());
+    }
+
+    public static SemanticChangeStructureDataType decode(BinaryDecoder decoder) {
+        NodeId _affected = decoder.decodeNodeId(null);
+        NodeId _affectedType = decoder.decodeNodeId(null);
+
+        return new SemanticChangeStructureDataType(_affected, _affectedType);
+    }
+
+    public static int sizeOf(SemanticChangeStructureDataType semanticChangeStructureDataType) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(semanticChangeStructureDataType.getAffected());
+        size += BinarySize.sizeOfNodeId(semanticChangeStructureDataType.getAffectedType());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SemanticChangeStructureDataTypeBinaryCodec::encode, SemanticChangeStructureDataType.class);
+        DelegateRegistry.registerBinaryDecoder(SemanticChangeStructureDataTypeBinaryCodec::decode, SemanticChangeStructureDataType.class, SemanticChangeStructureDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SemanticChangeStructureDataTypeBinaryCodec::sizeOf, SemanticChangeStructureDataType.class);
+    }
+
+}
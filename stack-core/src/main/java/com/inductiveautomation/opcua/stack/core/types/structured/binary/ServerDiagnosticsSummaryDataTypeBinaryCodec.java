@@ -0,0 +1,68 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ServerDiagnosticsSummaryDataType;
+
+public final class ServerDiagnosticsSummaryDataTypeBinaryCodec {
+
+    private ServerDiagnosticsSummaryDataTypeBinaryCodec() {}
+
+    public static void encode(ServerDiagnosticsSummaryDataType serverDiagnosticsSummaryDataType, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getServerViewCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getCurrentSessionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getCumulatedSessionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getSecurityRejectedSessionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getRejectedSessionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getSessionTimeoutCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getSessionAbortCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getCurrentSubscriptionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getCumulatedSubscriptionCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getPublishingIntervalCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getSecurityRejectedRequestsCount());
+        encoder.encodeUInt32(null, serverDiagnosticsSummaryDataType.getRejectedRequestsCount());
+    }
+
+    public static ServerDiagnosticsSummaryDataType decode(BinaryDecoder decoder) {
+        UInteger _serverViewCount = decoder.decodeUInt32(null);
+        UInteger _currentSessionCount = decoder.decodeUInt32(null);
+        UInteger _cumulatedSessionCount = decoder.decodeUInt32(null);
+        UInteger _securityRejectedSessionCount = decoder.decodeUInt32(null);
+        UInteger _rejectedSessionCount = decoder.decodeUInt32(null);
+        UInteger _sessionTimeoutCount = decoder.decodeUInt32(null);
+        UInteger _sessionAbortCount = decoder.decodeUInt32(null);
+        UInteger _currentSubscriptionCount = decoder.decodeUInt32(null);
+        UInteger _cumulatedSubscriptionCount = decoder.decodeUInt32(null);
+        UInteger _publishingIntervalCount = decoder.decodeUInt32(null);
+        UInteger _securityRejectedRequestsCount = decoder.decodeUInt32(null);
+        UInteger _rejectedRequestsCount = decoder.decodeUInt32(null);
+
+        return new ServerDiagnosticsSummaryDataType(_serverViewCount, _currentSessionCount, _cumulatedSessionCount, _securityRejectedSessionCount, _rejectedSessionCount, _sessionTimeoutCount, _sessionAbortCount, _currentSubscriptionCount, _cumulatedSubscriptionCount, _publishingIntervalCount, _securityRejectedRequestsCount, _rejectedRequestsCount);
+    }
+
+    public static int sizeOf(ServerDiagnosticsSummaryDataType serverDiagnosticsSummaryDataType) {
+        int size = 0;
+        size += 4; // ServerViewCount
+        size += 4; // CurrentSessionCount
+        size += 4; // CumulatedSessionCount
+        size += 4; // SecurityRejectedSessionCount
+        size += 4; // RejectedSessionCount
+        size += 4; // SessionTimeoutCount
+        size += 4; // SessionAbortCount
+        size += 4; // CurrentSubscriptionCount
+        size += 4; // CumulatedSubscriptionCount
+        size += 4; // PublishingIntervalCount
+        size += 4; // SecurityRejectedRequestsCount
+        size += 4; // RejectedRequestsCount
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ServerDiagnosticsSummaryDataTypeBinaryCodec::encode, ServerDiagnosticsSummaryDataType.class);
+        DelegateRegistry.registerBinaryDecoder(ServerDiagnosticsSummaryDataTypeBinaryCodec::decode, ServerDiagnosticsSummaryDataType.class, ServerDiagnosticsSummaryDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ServerDiagnosticsSummaryDataTypeBinaryCodec::sizeOf, ServerDiagnosticsSummaryDataType.class);
+    }
+
+}
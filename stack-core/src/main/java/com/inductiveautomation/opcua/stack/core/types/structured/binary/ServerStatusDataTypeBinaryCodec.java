@@ -0,0 +1,58 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.ServerState;
+import com.inductiveautomation.opcua.stack.core.types.structured.BuildInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.ServerStatusDataType;
+
+public final class ServerStatusDataTypeBinaryCodec {
+
+    private ServerStatusDataTypeBinaryCodec() {}
+
+    public static void encode(ServerStatusDataType serverStatusDataType, BinaryEncoder encoder) {
+        encoder.encodeDateTime(null, serverStatusDataType.getStartTime());
+        encoder.encodeDateTime(null, serverStatusDataType.getCurrentTime());
+        ServerState _state = serverStatusDataType.getState();
+        encoder.writeInt32(null, _state != null ? _state.getValue() : -1);
+        BuildInfo _buildInfo = serverStatusDataType.getBuildInfo();
+        BuildInfoBinaryCodec.encode(_buildInfo != null ? _buildInfo : new BuildInfo(), encoder);
+        encoder.encodeUInt32(null, serverStatusDataType.getSecondsTillShutdown());
+        encoder.encodeLocalizedText(null, serverStatusDataType.getShutdownReason());
+    }
+
+    public static ServerStatusDataType decode(BinaryDecoder decoder) {
+        DateTime _startTime = decoder.decodeDateTime(null);
+        DateTime _currentTime = decoder.decodeDateTime(null);
+        ServerState _state = ServerState.from(decoder.readInt32(null));
+        BuildInfo _buildInfo = BuildInfoBinaryCodec.decode(decoder);
+        UInteger _secondsTillShutdown = decoder.decodeUInt32(null);
+        LocalizedText _shutdownReason = decoder.decodeLocalizedText(null);
+
+        return new ServerStatusDataType(_startTime, _currentTime, _state, _buildInfo, _secondsTillShutdown, _shutdownReason);
+    }
+
+    public static int sizeOf(ServerStatusDataType serverStatusDataType) {
+        int size = 0;
+        size += 8; // StartTime
+        size += 8; // CurrentTime
+        size += 4; // State
+        BuildInfo _buildInfo = serverStatusDataType.getBuildInfo();
+        size += BuildInfoBinaryCodec.sizeOf(_buildInfo != null ? _buildInfo : new BuildInfo());
+        size += 4; // SecondsTillShutdown
+        size += BinarySize.sizeOfLocalizedText(serverStatusDataType.getShutdownReason());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ServerStatusDataTypeBinaryCodec::encode, ServerStatusDataType.class);
+        DelegateRegistry.registerBinaryDecoder(ServerStatusDataTypeBinaryCodec::decode, ServerStatusDataType.class, ServerStatusDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ServerStatusDataTypeBinaryCodec::sizeOf, ServerStatusDataType.class);
+    }
+
+}
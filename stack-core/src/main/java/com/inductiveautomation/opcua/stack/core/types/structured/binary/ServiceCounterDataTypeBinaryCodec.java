@@ -0,0 +1,38 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ServiceCounterDataType;
+
+public final class ServiceCounterDataTypeBinaryCodec {
+
+    private ServiceCounterDataTypeBinaryCodec() {}
+
+    public static void encode(ServiceCounterDataType serviceCounterDataType, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, serviceCounterDataType.getTotalCount());
+        encoder.encodeUInt32(null, serviceCounterDataType.getErrorCount());
+    }
+
+    public static ServiceCounterDataType decode(BinaryDecoder decoder) {
+        UInteger _totalCount = decoder.decodeUInt32(null);
+        UInteger _errorCount = decoder.decodeUInt32(null);
+
+        return new ServiceCounterDataType(_totalCount, _errorCount);
+    }
+
+    public static int sizeOf(ServiceCounterDataType serviceCounterDataType) {
+        int size = 0;
+        size += 4; // TotalCount
+        size += 4; // ErrorCount
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ServiceCounterDataTypeBinaryCodec::encode, ServiceCounterDataType.class);
+        DelegateRegistry.registerBinaryDecoder(ServiceCounterDataTypeBinaryCodec::decode, ServiceCounterDataType.class, ServiceCounterDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ServiceCounterDataTypeBinaryCodec::sizeOf, ServiceCounterDataType.class);
+    }
+
+}
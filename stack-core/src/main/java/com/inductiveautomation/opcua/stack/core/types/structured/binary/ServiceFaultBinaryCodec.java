@@ -0,0 +1,37 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.ServiceFault;
+
+public final class ServiceFaultBinaryCodec {
+
+    private ServiceFaultBinaryCodec() {}
+
+    public static void encode(ServiceFault serviceFault, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = serviceFault.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+    }
+
+    public static ServiceFault decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+
+        return new ServiceFault(_responseHeader);
+    }
+
+    public static int sizeOf(ServiceFault serviceFault) {
+        int size = 0;
+        ResponseHeader _responseHeader = serviceFault.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ServiceFaultBinaryCodec::encode, ServiceFault.class);
+        DelegateRegistry.registerBinaryDecoder(ServiceFaultBinaryCodec::decode, ServiceFault.class, ServiceFault.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ServiceFaultBinaryCodec::sizeOf, ServiceFault.class);
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ApplicationDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.ServiceCounterDataType;
+import com.inductiveautomation.opcua.stack.core.types.structured.SessionDiagnosticsDataType;
+
+public final class SessionDiagnosticsDataTypeBinaryCodec {
+
+    private SessionDiagnosticsDataTypeBinaryCodec() {}
+
+    public static void encode(SessionDiagnosticsDataType sessionDiagnosticsDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, sessionDiagnosticsDataType.getSessionId());
+        encoder.encodeString(null, sessionDiagnosticsDataType.getSessionName());
+        ApplicationDescription _clientDescription = sessionDiagnosticsDataType.getClientDescription();
+        ApplicationDescriptionBinaryCodec.encode(_clientDescription != null ? _clientDescription : new ApplicationDescription(), encoder);
+        encoder.encodeString(null, sessionDiagnosticsDataType.getServerUri());
+        encoder.encodeString(null, sessionDiagnosticsDataType.getEndpointUrl());
+        String[] _localeIds = sessionDiagnosticsDataType.getLocaleIds();
+        if (encoder.writeArrayLength(_localeIds)) {
+            for (String v : _localeIds) {
+                encoder.encodeString(null, v);
+            }
+        }
+        encoder.encodeDouble(null, sessionDiagnosticsDataType.getActualSessionTimeout());
+        encoder.encodeUInt32(null, sessionDiagnosticsDataType.getMaxResponseMessageSize());
+        encoder.encodeDateTime(null, sessionDiagnosticsDataType.getClientConnectionTime());
+        encoder.encodeDateTime(null, sessionDiagnosticsDataType.getClientLastContactTime());
+        encoder.encodeUInt32(null, sessionDiagnosticsDataType.getCurrentSubscriptionsCount());
+        encoder.encodeUInt32(null, sessionDiagnosticsDataType.getCurrentMonitoredItemsCount());
+        encoder.encodeUInt32(null, sessionDiagnosticsDataType.getCurrentPublishRequestsInQueue());
+        ServiceCounterDataType _totalRequestCount = sessionDiagnosticsDataType.getTotalRequestCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_totalRequestCount != null ? _totalRequestCount : new ServiceCounterDataType(), encoder);
+        encoder.encodeUInt32(null, sessionDiagnosticsDataType.getUnauthorizedRequestCount());
+        ServiceCounterDataType _readCount = sessionDiagnosticsDataType.getReadCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_readCount != null ? _readCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _historyReadCount = sessionDiagnosticsDataType.getHistoryReadCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_historyReadCount != null ? _historyReadCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _writeCount = sessionDiagnosticsDataType.getWriteCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_writeCount != null ? _writeCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _historyUpdateCount = sessionDiagnosticsDataType.getHistoryUpdateCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_historyUpdateCount != null ? _historyUpdateCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _callCount = sessionDiagnosticsDataType.getCallCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_callCount != null ? _callCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _createMonitoredItemsCount = sessionDiagnosticsDataType.getCreateMonitoredItemsCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_createMonitoredItemsCount != null ? _createMonitoredItemsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _modifyMonitoredItemsCount = sessionDiagnosticsDataType.getModifyMonitoredItemsCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_modifyMonitoredItemsCount != null ? _modifyMonitoredItemsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _setMonitoringModeCount = sessionDiagnosticsDataType.getSetMonitoringModeCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_setMonitoringModeCount != null ? _setMonitoringModeCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _setTriggeringCount = sessionDiagnosticsDataType.getSetTriggeringCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_setTriggeringCount != null ? _setTriggeringCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _deleteMonitoredItemsCount = sessionDiagnosticsDataType.getDeleteMonitoredItemsCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_deleteMonitoredItemsCount != null ? _deleteMonitoredItemsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _createSubscriptionCount = sessionDiagnosticsDataType.getCreateSubscriptionCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_createSubscriptionCount != null ? _createSubscriptionCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _modifySubscriptionCount = sessionDiagnosticsDataType.getModifySubscriptionCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_modifySubscriptionCount != null ? _modifySubscriptionCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _setPublishingModeCount = sessionDiagnosticsDataType.getSetPublishingModeCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_setPublishingModeCount != null ? _setPublishingModeCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _publishCount = sessionDiagnosticsDataType.getPublishCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_publishCount != null ? _publishCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _republishCount = sessionDiagnosticsDataType.getRepublishCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_republishCount != null ? _republishCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _transferSubscriptionsCount = sessionDiagnosticsDataType.getTransferSubscriptionsCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_transferSubscriptionsCount != null ? _transferSubscriptionsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _deleteSubscriptionsCount = sessionDiagnosticsDataType.getDeleteSubscriptionsCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_deleteSubscriptionsCount != null ? _deleteSubscriptionsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _addNodesCount = sessionDiagnosticsDataType.getAddNodesCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_addNodesCount != null ? _addNodesCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _addReferencesCount = sessionDiagnosticsDataType.getAddReferencesCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_addReferencesCount != null ? _addReferencesCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _deleteNodesCount = sessionDiagnosticsDataType.getDeleteNodesCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_deleteNodesCount != null ? _deleteNodesCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _deleteReferencesCount = sessionDiagnosticsDataType.getDeleteReferencesCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_deleteReferencesCount != null ? _deleteReferencesCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _browseCount = sessionDiagnosticsDataType.getBrowseCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_browseCount != null ? _browseCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _browseNextCount = sessionDiagnosticsDataType.getBrowseNextCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_browseNextCount != null ? _browseNextCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _translateBrowsePathsToNodeIdsCount = sessionDiagnosticsDataType.getTranslateBrowsePathsToNodeIdsCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_translateBrowsePathsToNodeIdsCount != null ? _translateBrowsePathsToNodeIdsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _queryFirstCount = sessionDiagnosticsDataType.getQueryFirstCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_queryFirstCount != null ? _queryFirstCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _queryNextCount = sessionDiagnosticsDataType.getQueryNextCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_queryNextCount != null ? _queryNextCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _registerNodesCount = sessionDiagnosticsDataType.getRegisterNodesCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_registerNodesCount != null ? _registerNodesCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType _unregisterNodesCount = sessionDiagnosticsDataType.getUnregisterNodesCount();
+        ServiceCounterDataTypeBinaryCodec.encode(_unregisterNodesCount != null ? _unregisterNodesCount : new ServiceCounterDataType(), encoder);
+    }
+
+    public static SessionDiagnosticsDataType decode(BinaryDecoder decoder) {
+        NodeId _sessionId = decoder.decodeNodeId(null);
+        String _sessionName = decoder.decodeString(null);
+        ApplicationDescription _clientDescription = ApplicationDescriptionBinaryCodec.decode(decoder);
+        String _serverUri = decoder.decodeString(null);
+        String _endpointUrl = decoder.decodeString(null);
+        String[] _localeIds = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _localeIds.length; i++) {
+            _localeIds[i] = decoder.decodeString(null);
+        }
+        Double _actualSessionTimeout = decoder.decodeDouble(null);
+        UInteger _maxResponseMessageSize = decoder.decodeUInt32(null);
+        DateTime _clientConnectionTime = decoder.decodeDateTime(null);
+        DateTime _clientLastContactTime = decoder.decodeDateTime(null);
+        UInteger _currentSubscriptionsCount = decoder.decodeUInt32(null);
+        UInteger _currentMonitoredItemsCount = decoder.decodeUInt32(null);
+        UInteger _currentPublishRequestsInQueue = decoder.decodeUInt32(null);
+        ServiceCounterDataType _totalRequestCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        UInteger _unauthorizedRequestCount = decoder.decodeUInt32(null);
+        ServiceCounterDataType _readCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _historyReadCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _writeCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _historyUpdateCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _callCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _createMonitoredItemsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _modifyMonitoredItemsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _setMonitoringModeCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _setTriggeringCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _deleteMonitoredItemsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _createSubscriptionCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _modifySubscriptionCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _setPublishingModeCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _publishCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _republishCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _transferSubscriptionsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _deleteSubscriptionsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _addNodesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _addReferencesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _deleteNodesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _deleteReferencesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _browseCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _browseNextCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _translateBrowsePathsToNodeIdsCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _queryFirstCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _queryNextCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _registerNodesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+        ServiceCounterDataType _unregisterNodesCount = ServiceCounterDataTypeBinaryCodec.decode(decoder);
+
+        return new SessionDiagnosticsDataType(_sessionId, _sessionName, _clientDescription, _serverUri, _endpointUrl, _localeIds, _actualSessionTimeout, _maxResponseMessageSize, _clientConnectionTime, _clientLastContactTime, _currentSubscriptionsCount, _currentMonitoredItemsCount, _currentPublishRequestsInQueue, _totalRequestCount, _unauthorizedRequestCount, _readCount, _historyReadCount, _writeCount, _historyUpdateCount, _callCount, _createMonitoredItemsCount, _modifyMonitoredItemsCount, _setMonitoringModeCount, _setTriggeringCount, _deleteMonitoredItemsCount, _createSubscriptionCount, _modifySubscriptionCount, _setPublishingModeCount, _publishCount, _republishCount, _transferSubscriptionsCount, _deleteSubscriptionsCount, _addNodesCount, _addReferencesCount, _deleteNodesCount, _deleteReferencesCount, _browseCount, _browseNextCount, _translateBrowsePathsToNodeIdsCount, _queryFirstCount, _queryNextCount, _registerNodesCount, _unregisterNodesCount);
+    }
+
+    public static int sizeOf(SessionDiagnosticsDataType sessionDiagnosticsDataType) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(sessionDiagnosticsDataType.getSessionId());
+        size += BinarySize.sizeOfString(sessionDiagnosticsDataType.getSessionName());
+        ApplicationDescription _clientDescription = sessionDiagnosticsDataType.getClientDescription();
+        size += ApplicationDescriptionBinaryCodec.sizeOf(_clientDescription != null ? _clientDescription : new ApplicationDescription());
+        size += BinarySize.sizeOfString(sessionDiagnosticsDataType.getServerUri());
+        size += BinarySize.sizeOfString(sessionDiagnosticsDataType.getEndpointUrl());
+        String[] _localeIds = sessionDiagnosticsDataType.getLocaleIds();
+        size += 4;
+        if (_localeIds != null) {
+            for (String v : _localeIds) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        size += 8; // ActualSessionTimeout
+        size += 4; // MaxResponseMessageSize
+        size += 8; // ClientConnectionTime
+        size += 8; // ClientLastContactTime
+        size += 4; // CurrentSubscriptionsCount
+        size += 4; // CurrentMonitoredItemsCount
+        size += 4; // CurrentPublishRequestsInQueue
+        ServiceCounterDataType _totalRequestCount = sessionDiagnosticsDataType.getTotalRequestCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_totalRequestCount != null ? _totalRequestCount : new ServiceCounterDataType());
+        size += 4; // UnauthorizedRequestCount
+        ServiceCounterDataType _readCount = sessionDiagnosticsDataType.getReadCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_readCount != null ? _readCount : new ServiceCounterDataType());
+        ServiceCounterDataType _historyReadCount = sessionDiagnosticsDataType.getHistoryReadCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_historyReadCount != null ? _historyReadCount : new ServiceCounterDataType());
+        ServiceCounterDataType _writeCount = sessionDiagnosticsDataType.getWriteCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_writeCount != null ? _writeCount : new ServiceCounterDataType());
+        ServiceCounterDataType _historyUpdateCount = sessionDiagnosticsDataType.getHistoryUpdateCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_historyUpdateCount != null ? _historyUpdateCount : new ServiceCounterDataType());
+        ServiceCounterDataType _callCount = sessionDiagnosticsDataType.getCallCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_callCount != null ? _callCount : new ServiceCounterDataType());
+        ServiceCounterDataType _createMonitoredItemsCount = sessionDiagnosticsDataType.getCreateMonitoredItemsCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_createMonitoredItemsCount != null ? _createMonitoredItemsCount : new ServiceCounterDataType());
+        ServiceCounterDataType _modifyMonitoredItemsCount = sessionDiagnosticsDataType.getModifyMonitoredItemsCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_modifyMonitoredItemsCount != null ? _modifyMonitoredItemsCount : new ServiceCounterDataType());
+        ServiceCounterDataType _setMonitoringModeCount = sessionDiagnosticsDataType.getSetMonitoringModeCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_setMonitoringModeCount != null ? _setMonitoringModeCount : new ServiceCounterDataType());
+        ServiceCounterDataType _setTriggeringCount = sessionDiagnosticsDataType.getSetTriggeringCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_setTriggeringCount != null ? _setTriggeringCount : new ServiceCounterDataType());
+        ServiceCounterDataType _deleteMonitoredItemsCount = sessionDiagnosticsDataType.getDeleteMonitoredItemsCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_deleteMonitoredItemsCount != null ? _deleteMonitoredItemsCount : new ServiceCounterDataType());
+        ServiceCounterDataType _createSubscriptionCount = sessionDiagnosticsDataType.getCreateSubscriptionCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_createSubscriptionCount != null ? _createSubscriptionCount : new ServiceCounterDataType());
+        ServiceCounterDataType _modifySubscriptionCount = sessionDiagnosticsDataType.getModifySubscriptionCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_modifySubscriptionCount != null ? _modifySubscriptionCount : new ServiceCounterDataType());
+        ServiceCounterDataType _setPublishingModeCount = sessionDiagnosticsDataType.getSetPublishingModeCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_setPublishingModeCount != null ? _setPublishingModeCount : new ServiceCounterDataType());
+        ServiceCounterDataType _publishCount = sessionDiagnosticsDataType.getPublishCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_publishCount != null ? _publishCount : new ServiceCounterDataType());
+        ServiceCounterDataType _republishCount = sessionDiagnosticsDataType.getRepublishCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_republishCount != null ? _republishCount : new ServiceCounterDataType());
+        ServiceCounterDataType _transferSubscriptionsCount = sessionDiagnosticsDataType.getTransferSubscriptionsCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_transferSubscriptionsCount != null ? _transferSubscriptionsCount : new ServiceCounterDataType());
+        ServiceCounterDataType _deleteSubscriptionsCount = sessionDiagnosticsDataType.getDeleteSubscriptionsCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_deleteSubscriptionsCount != null ? _deleteSubscriptionsCount : new ServiceCounterDataType());
+        ServiceCounterDataType _addNodesCount = sessionDiagnosticsDataType.getAddNodesCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_addNodesCount != null ? _addNodesCount : new ServiceCounterDataType());
+        ServiceCounterDataType _addReferencesCount = sessionDiagnosticsDataType.getAddReferencesCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_addReferencesCount != null ? _addReferencesCount : new ServiceCounterDataType());
+        ServiceCounterDataType _deleteNodesCount = sessionDiagnosticsDataType.getDeleteNodesCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_deleteNodesCount != null ? _deleteNodesCount : new ServiceCounterDataType());
+        ServiceCounterDataType _deleteReferencesCount = sessionDiagnosticsDataType.getDeleteReferencesCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_deleteReferencesCount != null ? _deleteReferencesCount : new ServiceCounterDataType());
+        ServiceCounterDataType _browseCount = sessionDiagnosticsDataType.getBrowseCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_browseCount != null ? _browseCount : new ServiceCounterDataType());
+        ServiceCounterDataType _browseNextCount = sessionDiagnosticsDataType.getBrowseNextCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_browseNextCount != null ? _browseNextCount : new ServiceCounterDataType());
+        ServiceCounterDataType _translateBrowsePathsToNodeIdsCount = sessionDiagnosticsDataType.getTranslateBrowsePathsToNodeIdsCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_translateBrowsePathsToNodeIdsCount != null ? _translateBrowsePathsToNodeIdsCount : new ServiceCounterDataType());
+        ServiceCounterDataType _queryFirstCount = sessionDiagnosticsDataType.getQueryFirstCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_queryFirstCount != null ? _queryFirstCount : new ServiceCounterDataType());
+        ServiceCounterDataType _queryNextCount = sessionDiagnosticsDataType.getQueryNextCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_queryNextCount != null ? _queryNextCount : new ServiceCounterDataType());
+        ServiceCounterDataType _registerNodesCount = sessionDiagnosticsDataType.getRegisterNodesCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_registerNodesCount != null ? _registerNodesCount : new ServiceCounterDataType());
+        ServiceCounterDataType _unregisterNodesCount = sessionDiagnosticsDataType.getUnregisterNodesCount();
+        size += ServiceCounterDataTypeBinaryCodec.sizeOf(_unregisterNodesCount != null ? _unregisterNodesCount : new ServiceCounterDataType());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SessionDiagnosticsDataTypeBinaryCodec::encode, SessionDiagnosticsDataType.class);
+        DelegateRegistry.registerBinaryDecoder(SessionDiagnosticsDataTypeBinaryCodec::decode, SessionDiagnosticsDataType.class, SessionDiagnosticsDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SessionDiagnosticsDataTypeBinaryCodec::sizeOf, SessionDiagnosticsDataType.class);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.inductiveautomation.opcua.stack.core.types.structured.SessionSecurityDiagnosticsDataType;
+
+public final class SessionSecurityDiagnosticsDataTypeBinaryCodec {
+
+    private SessionSecurityDiagnosticsDataTypeBinaryCodec() {}
+
+    public static void encode(SessionSecurityDiagnosticsDataType sessionSecurityDiagnosticsDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, sessionSecurityDiagnosticsDataType.getSessionId());
+        encoder.encodeString(null, sessionSecurityDiagnosticsDataType.getClientUserIdOfSession());
+        String[] _clientUserIdHistory = sessionSecurityDiagnosticsDataType.getClientUserIdHistory();
+        if (encoder.writeArrayLength(_clientUserIdHistory)) {
+            for (String v : _clientUserIdHistory) {
+                encoder.encodeString(null, v);
+            }
+        }
+        encoder.encodeString(null, sessionSecurityDiagnosticsDataType.getAuthenticationMechanism());
+        encoder.encodeString(null, sessionSecurityDiagnosticsDataType.getEncoding());
+        encoder.encodeString(null, sessionSecurityDiagnosticsDataType.getTransportProtocol());
+        MessageSecurityMode _securityMode = sessionSecurityDiagnosticsDataType.getSecurityMode();
+        encoder.writeInt32(null, _securityMode != null ? _securityMode.getValue() : -1);
+        encoder.encodeString(null, sessionSecurityDiagnosticsDataType.getSecurityPolicyUri());
+        encoder.encodeByteString(null, sessionSecurityDiagnosticsDataType.getClientCertificate());
+    }
+
+    public static SessionSecurityDiagnosticsDataType decode(BinaryDecoder decoder) {
+        NodeId _sessionId = decoder.decodeNodeId(null);
+        String _clientUserIdOfSession = decoder.decodeString(null);
+        String[] _clientUserIdHistory = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _clientUserIdHistory.length; i++) {
+            _clientUserIdHistory[i] = decoder.decodeString(null);
+        }
+        String _authenticationMechanism = decoder.decodeString(null);
+        String _encoding = decoder.decodeString(null);
+        String _transportProtocol = decoder.decodeString(null);
+        MessageSecurityMode _securityMode = MessageSecurityMode.from(decoder.readInt32(null));
+        String _securityPolicyUri = decoder.decodeString(null);
+        ByteString _clientCertificate = decoder.decodeByteString(null);
+
+        return new SessionSecurityDiagnosticsDataType(_sessionId, _clientUserIdOfSession, _clientUserIdHistory, _authenticationMechanism, _encoding, _transportProtocol, _securityMode, _securityPolicyUri, _clientCertificate);
+    }
+
+    public static int sizeOf(SessionSecurityDiagnosticsDataType sessionSecurityDiagnosticsDataType) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(sessionSecurityDiagnosticsDataType.getSessionId());
+        size += BinarySize.sizeOfString(sessionSecurityDiagnosticsDataType.getClientUserIdOfSession());
+        String[] _clientUserIdHistory = sessionSecurityDiagnosticsDataType.getClientUserIdHistory();
+        size += 4;
+        if (_clientUserIdHistory != null) {
+            for (String v : _clientUserIdHistory) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        size += BinarySize.sizeOfString(sessionSecurityDiagnosticsDataType.getAuthenticationMechanism());
+        size += BinarySize.sizeOfString(sessionSecurityDiagnosticsDataType.getEncoding());
+        size += BinarySize.sizeOfString(sessionSecurityDiagnosticsDataType.getTransportProtocol());
+        size += 4; // SecurityMode
+        size += BinarySize.sizeOfString(sessionSecurityDiagnosticsDataType.getSecurityPolicyUri());
+        size += BinarySize.sizeOfByteString(sessionSecurityDiagnosticsDataType.getClientCertificate());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SessionSecurityDiagnosticsDataTypeBinaryCodec::encode, SessionSecurityDiagnosticsDataType.class);
+        DelegateRegistry.registerBinaryDecoder(SessionSecurityDiagnosticsDataTypeBinaryCodec::decode, SessionSecurityDiagnosticsDataType.class, SessionSecurityDiagnosticsDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SessionSecurityDiagnosticsDataTypeBinaryCodec::sizeOf, SessionSecurityDiagnosticsDataType.class);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MonitoringMode;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.SetMonitoringModeRequest;
+
+public final class SetMonitoringModeRequestBinaryCodec {
+
+    private SetMonitoringModeRequestBinaryCodec() {}
+
+    public static void encode(SetMonitoringModeRequest setMonitoringModeRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = setMonitoringModeRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32(null, setMonitoringModeRequest.getSubscriptionId());
+        MonitoringMode _monitoringMode = setMonitoringModeRequest.getMonitoringMode();
+        encoder.writeInt32(null, _monitoringMode != null ? _monitoringMode.getValue() : -1);
+        UInteger[] _monitoredItemIds = setMonitoringModeRequest.getMonitoredItemIds();
+        if (encoder.writeArrayLength(_monitoredItemIds)) {
+            for (UInteger v : _monitoredItemIds) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+    }
+
+    public static SetMonitoringModeRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        MonitoringMode _monitoringMode = MonitoringMode.from(decoder.readInt32(null));
+        UInteger[] _monitoredItemIds = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _monitoredItemIds.length; i++) {
+            _monitoredItemIds[i] = decoder.decodeUInt32(null);
+        }
+
+        return new SetMonitoringModeRequest(_requestHeader, _subscriptionId, _monitoringMode, _monitoredItemIds);
+    }
+
+    public static int sizeOf(SetMonitoringModeRequest setMonitoringModeRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = setMonitoringModeRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 4; // SubscriptionId
+        size += 4; // MonitoringMode
+        UInteger[] _monitoredItemIds = setMonitoringModeRequest.getMonitoredItemIds();
+        size += 4;
+        if (_monitoredItemIds != null) {
+            size += _monitoredItemIds.length * 4;
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SetMonitoringModeRequestBinaryCodec::encode, SetMonitoringModeRequest.class);
+        DelegateRegistry.registerBinaryDecoder(SetMonitoringModeRequestBinaryCodec::decode, SetMonitoringModeRequest.class, SetMonitoringModeRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SetMonitoringModeRequestBinaryCodec::sizeOf, SetMonitoringModeRequest.class);
+    }
+
+}
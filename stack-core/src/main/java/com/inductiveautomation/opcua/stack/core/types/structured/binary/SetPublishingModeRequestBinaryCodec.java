@@ -0,0 +1,56 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.SetPublishingModeRequest;
+
+public final class SetPublishingModeRequestBinaryCodec {
+
+    private SetPublishingModeRequestBinaryCodec() {}
+
+    public static void encode(SetPublishingModeRequest setPublishingModeRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = setPublishingModeRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeBoolean(null, setPublishingModeRequest.getPublishingEnabled());
+        UInteger[] _subscriptionIds = setPublishingModeRequest.getSubscriptionIds();
+        if (encoder.writeArrayLength(_subscriptionIds)) {
+            for (UInteger v : _subscriptionIds) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+    }
+
+    public static SetPublishingModeRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        Boolean _publishingEnabled = decoder.decodeBoolean(null);
+        UInteger[] _subscriptionIds = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _subscriptionIds.length; i++) {
+            _subscriptionIds[i] = decoder.decodeUInt32(null);
+        }
+
+        return new SetPublishingModeRequest(_requestHeader, _publishingEnabled, _subscriptionIds);
+    }
+
+    public static int sizeOf(SetPublishingModeRequest setPublishingModeRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = setPublishingModeRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 1; // PublishingEnabled
+        UInteger[] _subscriptionIds = setPublishingModeRequest.getSubscriptionIds();
+        size += 4;
+        if (_subscriptionIds != null) {
+            size += _subscriptionIds.length * 4;
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SetPublishingModeRequestBinaryCodec::encode, SetPublishingModeRequest.class);
+        DelegateRegistry.registerBinaryDecoder(SetPublishingModeRequestBinaryCodec::decode, SetPublishingModeRequest.class, SetPublishingModeRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SetPublishingModeRequestBinaryCodec::sizeOf, SetPublishingModeRequest.class);
+    }
+
+}
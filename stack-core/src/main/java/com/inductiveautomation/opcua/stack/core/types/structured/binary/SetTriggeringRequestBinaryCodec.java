@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.SetTriggeringRequest;
+
+public final class SetTriggeringRequestBinaryCodec {
+
+    private SetTriggeringRequestBinaryCodec() {}
+
+    public static void encode(SetTriggeringRequest setTriggeringRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = setTriggeringRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32(null, setTriggeringRequest.getSubscriptionId());
+        encoder.encodeUInt32(null, setTriggeringRequest.getTriggeringItemId());
+        UInteger[] _linksToAdd = setTriggeringRequest.getLinksToAdd();
+        if (encoder.writeArrayLength(_linksToAdd)) {
+            for (UInteger v : _linksToAdd) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+        UInteger[] _linksToRemove = setTriggeringRequest.getLinksToRemove();
+        if (encoder.writeArrayLength(_linksToRemove)) {
+            for (UInteger v : _linksToRemove) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+    }
+
+    public static SetTriggeringRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        UInteger _triggeringItemId = decoder.decodeUInt32(null);
+        UInteger[] _linksToAdd = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _linksToAdd.length; i++) {
+            _linksToAdd[i] = decoder.decodeUInt32(null);
+        }
+        UInteger[] _linksToRemove = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _linksToRemove.length; i++) {
+            _linksToRemove[i] = decoder.decodeUInt32(null);
+        }
+
+        return new SetTriggeringRequest(_requestHeader, _subscriptionId, _triggeringItemId, _linksToAdd, _linksToRemove);
+    }
+
+    public static int sizeOf(SetTriggeringRequest setTriggeringRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = setTriggeringRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 4; // SubscriptionId
+        size += 4; // TriggeringItemId
+        UInteger[] _linksToAdd = setTriggeringRequest.getLinksToAdd();
+        size += 4;
+        if (_linksToAdd != null) {
+            size += _linksToAdd.length * 4;
+        }
+        UInteger[] _linksToRemove = setTriggeringRequest.getLinksToRemove();
+        size += 4;
+        if (_linksToRemove != null) {
+            size += _linksToRemove.length * 4;
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SetTriggeringRequestBinaryCodec::encode, SetTriggeringRequest.class);
+        DelegateRegistry.registerBinaryDecoder(SetTriggeringRequestBinaryCodec::decode, SetTriggeringRequest.class, SetTriggeringRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SetTriggeringRequestBinaryCodec::sizeOf, SetTriggeringRequest.class);
+    }
+
+}
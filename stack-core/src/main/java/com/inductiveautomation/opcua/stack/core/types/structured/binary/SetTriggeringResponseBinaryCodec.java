@@ -0,0 +1,104 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.SetTriggeringResponse;
+
+public final class SetTriggeringResponseBinaryCodec {
+
+    private SetTriggeringResponseBinaryCodec() {}
+
+    public static void encode(SetTriggeringResponse setTriggeringResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = setTriggeringResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        StatusCode[] _addResults = setTriggeringResponse.getAddResults();
+        if (encoder.writeArrayLength(_addResults)) {
+            for (StatusCode v : _addResults) {
+                encoder.encodeStatusCode(null, v);
+            }
+        }
+        DiagnosticInfo[] _addDiagnosticInfos = setTriggeringResponse.getAddDiagnosticInfos();
+        if (encoder.writeArrayLength(_addDiagnosticInfos)) {
+            for (DiagnosticInfo v : _addDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+        StatusCode[] _removeResults = setTriggeringResponse.getRemoveResults();
+        if (encoder.writeArrayLength(_removeResults)) {
+            for (StatusCode v : _removeResults) {
+                encoder.encodeStatusCode(null, v);
+            }
+        }
+        DiagnosticInfo[] _removeDiagnosticInfos = setTriggeringResponse.getRemoveDiagnosticInfos();
+        if (encoder.writeArrayLength(_removeDiagnosticInfos)) {
+            for (DiagnosticInfo v : _removeDiagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static SetTriggeringResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        StatusCode[] _addResults = new StatusCode[decoder.readArrayLength()];
+        for (int i = 0; i < _addResults.length; i++) {
+            _addResults[i] = decoder.decodeStatusCode(null);
+        }
+        DiagnosticInfo[] _addDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _addDiagnosticInfos.length; i++) {
+            _addDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+        StatusCode[] _removeResults = new StatusCode[decoder.readArrayLength()];
+        for (int i = 0; i < _removeResults.length; i++) {
+            _removeResults[i] = decoder.decodeStatusCode(null);
+        }
+        DiagnosticInfo[] _removeDiagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _removeDiagnosticInfos.length; i++) {
+            _removeDiagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new SetTriggeringResponse(_responseHeader, _addResults, _addDiagnosticInfos, _removeResults, _removeDiagnosticInfos);
+    }
+
+    public static int sizeOf(SetTriggeringResponse setTriggeringResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = setTriggeringResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        StatusCode[] _addResults = setTriggeringResponse.getAddResults();
+        size += 4;
+        if (_addResults != null) {
+            size += _addResults.length * 4;
+        }
+        DiagnosticInfo[] _addDiagnosticInfos = setTriggeringResponse.getAddDiagnosticInfos();
+        size += 4;
+        if (_addDiagnosticInfos != null) {
+            for (DiagnosticInfo v : _addDiagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        StatusCode[] _removeResults = setTriggeringResponse.getRemoveResults();
+        size += 4;
+        if (_removeResults != null) {
+            size += _removeResults.length * 4;
+        }
+        DiagnosticInfo[] _removeDiagnosticInfos = setTriggeringResponse.getRemoveDiagnosticInfos();
+        size += 4;
+        if (_removeDiagnosticInfos != null) {
+            for (DiagnosticInfo v : _removeDiagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SetTriggeringResponseBinaryCodec::encode, SetTriggeringResponse.class);
+        DelegateRegistry.registerBinaryDecoder(SetTriggeringResponseBinaryCodec::decode, SetTriggeringResponse.class, SetTriggeringResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SetTriggeringResponseBinaryCodec::sizeOf, SetTriggeringResponse.class);
+    }
+
+}
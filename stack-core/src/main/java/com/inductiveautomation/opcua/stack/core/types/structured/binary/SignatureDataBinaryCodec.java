@@ -0,0 +1,39 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.structured.SignatureData;
+
+public final class SignatureDataBinaryCodec {
+
+    private SignatureDataBinaryCodec() {}
+
+    public static void encode(SignatureData signatureData, BinaryEncoder encoder) {
+        encoder.encodeString(null, signatureData.getAlgorithm());
+        encoder.encodeByteString(null, signatureData.getSignature());
+    }
+
+    public static SignatureData decode(BinaryDecoder decoder) {
+        String _algorithm = decoder.decodeString(null);
+        ByteString _signature = decoder.decodeByteString(null);
+
+        return new SignatureData(_algorithm, _signature);
+    }
+
+    public static int sizeOf(SignatureData signatureData) {
+        int size = 0;
+        size += BinarySize.sizeOfString(signatureData.getAlgorithm());
+        size += BinarySize.sizeOfByteString(signatureData.getSignature());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SignatureDataBinaryCodec::encode, SignatureData.class);
+        DelegateRegistry.registerBinaryDecoder(SignatureDataBinaryCodec::decode, SignatureData.class, SignatureData.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SignatureDataBinaryCodec::sizeOf, SignatureData.class);
+    }
+
+}
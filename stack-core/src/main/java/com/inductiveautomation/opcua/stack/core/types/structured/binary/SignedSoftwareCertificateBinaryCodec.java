@@ -0,0 +1,39 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.structured.SignedSoftwareCertificate;
+
+public final class SignedSoftwareCertificateBinaryCodec {
+
+    private SignedSoftwareCertificateBinaryCodec() {}
+
+    public static void encode(SignedSoftwareCertificate signedSoftwareCertificate, BinaryEncoder encoder) {
+        encoder.encodeByteString(null, signedSoftwareCertificate.getCertificateData());
+        encoder.encodeByteString(null, signedSoftwareCertificate.getSignature());
+    }
+
+    public static SignedSoftwareCertificate decode(BinaryDecoder decoder) {
+        ByteString _certificateData = decoder.decodeByteString(null);
+        ByteString _signature = decoder.decodeByteString(null);
+
+        return new SignedSoftwareCertificate(_certificateData, _signature);
+    }
+
+    public static int sizeOf(SignedSoftwareCertificate signedSoftwareCertificate) {
+        int size = 0;
+        size += BinarySize.sizeOfByteString(signedSoftwareCertificate.getCertificateData());
+        size += BinarySize.sizeOfByteString(signedSoftwareCertificate.getSignature());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SignedSoftwareCertificateBinaryCodec::encode, SignedSoftwareCertificate.class);
+        DelegateRegistry.registerBinaryDecoder(SignedSoftwareCertificateBinaryCodec::decode, SignedSoftwareCertificate.class, SignedSoftwareCertificate.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SignedSoftwareCertificateBinaryCodec::sizeOf, SignedSoftwareCertificate.class);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.SimpleAttributeOperand;
+
+public final class SimpleAttributeOperandBinaryCodec {
+
+    private SimpleAttributeOperandBinaryCodec() {}
+
+    public static void encode(SimpleAttributeOperand simpleAttributeOperand, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, simpleAttributeOperand.getTypeDefinitionId());
+        QualifiedName[] _browsePath = simpleAttributeOperand.getBrowsePath();
+        if (encoder.writeArrayLength(_browsePath)) {
+            for (QualifiedName v : _browsePath) {
+                encoder.encodeQualifiedName(null, v);
+            }
+        }
+        encoder.encodeUInt32(null, simpleAttributeOperand.getAttributeId());
+        encoder.encodeString(null, simpleAttributeOperand.getIndexRange());
+    }
+
+    public static SimpleAttributeOperand decode(BinaryDecoder decoder) {
+        NodeId _typeDefinitionId = decoder.decodeNodeId(null);
+        QualifiedName[] _browsePath = new QualifiedName[decoder.readArrayLength()];
+        for (int i = 0; i < _browsePath.length; i++) {
+            _browsePath[i] = decoder.decodeQualifiedName(null);
+        }
+        UInteger _attributeId = decoder.decodeUInt32(null);
+        String _indexRange = decoder.decodeString(null);
+
+        return new SimpleAttributeOperand(_typeDefinitionId, _browsePath, _attributeId, _indexRange);
+    }
+
+    public static int sizeOf(SimpleAttributeOperand simpleAttributeOperand) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(simpleAttributeOperand.getTypeDefinitionId());
+        QualifiedName[] _browsePath = simpleAttributeOperand.getBrowsePath();
+        size += 4;
+        if (_browsePath != null) {
+            for (QualifiedName v : _browsePath) {
+                size += BinarySize.sizeOfQualifiedName(v);
+            }
+        }
+        size += 4; // AttributeId
+        size += BinarySize.sizeOfString(simpleAttributeOperand.getIndexRange());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SimpleAttributeOperandBinaryCodec::encode, SimpleAttributeOperand.class);
+        DelegateRegistry.registerBinaryDecoder(SimpleAttributeOperandBinaryCodec::decode, SimpleAttributeOperand.class, SimpleAttributeOperand.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SimpleAttributeOperandBinaryCodec::sizeOf, SimpleAttributeOperand.class);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.structured.SoftwareCertificate;
+import com.inductiveautomation.opcua.stack.core.types.structured.SupportedProfile;
+
+public final class SoftwareCertificateBinaryCodec {
+
+    private SoftwareCertificateBinaryCodec() {}
+
+    public static void encode(SoftwareCertificate softwareCertificate, BinaryEncoder encoder) {
+        encoder.encodeString(null, softwareCertificate.getProductName());
+        encoder.encodeString(null, softwareCertificate.getProductUri());
+        encoder.encodeString(null, softwareCertificate.getVendorName());
+        encoder.encodeByteString(null, softwareCertificate.getVendorProductCertificate());
+        encoder.encodeString(null, softwareCertificate.getSoftwareVersion());
+        encoder.encodeString(null, softwareCertificate.getBuildNumber());
+        encoder.encodeDateTime(null, softwareCertificate.getBuildDate());
+        encoder.encodeString(null, softwareCertificate.getIssuedBy());
+        encoder.encodeDateTime(null, softwareCertificate.getIssueDate());
+        SupportedProfile[] _supportedProfiles = softwareCertificate.getSupportedProfiles();
+        if (encoder.writeArrayLength(_supportedProfiles)) {
+            for (SupportedProfile v : _supportedProfiles) {
+                SupportedProfileBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static SoftwareCertificate decode(BinaryDecoder decoder) {
+        String _productName = decoder.decodeString(null);
+        String _productUri = decoder.decodeString(null);
+        String _vendorName = decoder.decodeString(null);
+        ByteString _vendorProductCertificate = decoder.decodeByteString(null);
+        String _softwareVersion = decoder.decodeString(null);
+        String _buildNumber = decoder.decodeString(null);
+        DateTime _buildDate = decoder.decodeDateTime(null);
+        String _issuedBy = decoder.decodeString(null);
+        DateTime _issueDate = decoder.decodeDateTime(null);
+        SupportedProfile[] _supportedProfiles = new SupportedProfile[decoder.readArrayLength()];
+        for (int i = 0; i < _supportedProfiles.length; i++) {
+            _supportedProfiles[i] = SupportedProfileBinaryCodec.decode(decoder);
+        }
+
+        return new SoftwareCertificate(_productName, _productUri, _vendorName, _vendorProductCertificate, _softwareVersion, _buildNumber, _buildDate, _issuedBy, _issueDate, _supportedProfiles);
+    }
+
+    public static int sizeOf(SoftwareCertificate softwareCertificate) {
+        int size = 0;
+        size += BinarySize.sizeOfString(softwareCertificate.getProductName());
+        size += BinarySize.sizeOfString(softwareCertificate.getProductUri());
+        size += BinarySize.sizeOfString(softwareCertificate.getVendorName());
+        size += BinarySize.sizeOfByteString(softwareCertificate.getVendorProductCertificate());
+        size += BinarySize.sizeOfString(softwareCertificate.getSoftwareVersion());
+        size += BinarySize.sizeOfString(softwareCertificate.getBuildNumber());
+        size += 8; // BuildDate
+        size += BinarySize.sizeOfString(softwareCertificate.getIssuedBy());
+        size += 8; // IssueDate
+        SupportedProfile[] _supportedProfiles = softwareCertificate.getSupportedProfiles();
+        size += 4;
+        if (_supportedProfiles != null) {
+            for (SupportedProfile v : _supportedProfiles) {
+                size += SupportedProfileBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SoftwareCertificateBinaryCodec::encode, SoftwareCertificate.class);
+        DelegateRegistry.registerBinaryDecoder(SoftwareCertificateBinaryCodec::decode, SoftwareCertificate.class, SoftwareCertificate.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SoftwareCertificateBinaryCodec::sizeOf, SoftwareCertificate.class);
+    }
+
+}
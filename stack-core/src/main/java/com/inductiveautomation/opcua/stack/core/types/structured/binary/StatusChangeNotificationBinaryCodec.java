@@ -0,0 +1,40 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.StatusChangeNotification;
+
+public final class StatusChangeNotificationBinaryCodec {
+
+    private StatusChangeNotificationBinaryCodec() {}
+
+    public static void encode(StatusChangeNotification statusChangeNotification, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, statusChangeNotification.getStatus());
+        encoder.encodeDiagnosticInfo(null, statusChangeNotification.getDiagnosticInfo());
+    }
+
+    public static StatusChangeNotification decode(BinaryDecoder decoder) {
+        StatusCode _status = decoder.decodeStatusCode(null);
+        DiagnosticInfo _diagnosticInfo = decoder.decodeDiagnosticInfo(null);
+
+        return new StatusChangeNotification(_status, _diagnosticInfo);
+    }
+
+    public static int sizeOf(StatusChangeNotification statusChangeNotification) {
+        int size = 0;
+        size += 4; // Status
+        size += BinarySize.sizeOfDiagnosticInfo(statusChangeNotification.getDiagnosticInfo());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(StatusChangeNotificationBinaryCodec::encode, StatusChangeNotification.class);
+        DelegateRegistry.registerBinaryDecoder(StatusChangeNotificationBinaryCodec::decode, StatusChangeNotification.class, StatusChangeNotification.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(StatusChangeNotificationBinaryCodec::sizeOf, StatusChangeNotification.class);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.StatusResult;
+
+public final class StatusResultBinaryCodec {
+
+    private StatusResultBinaryCodec() {}
+
+    public static void encode(StatusResult statusResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, statusResult.getStatusCode());
+        encoder.encodeDiagnosticInfo(null, statusResult.getDiagnosticInfo());
+    }
+
+    public static StatusResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        DiagnosticInfo _diagnosticInfo = decoder.decodeDiagnosticInfo(null);
+
+        return new StatusResult(_statusCode, _diagnosticInfo);
+    }
+
+    public static int sizeOf(StatusResult statusResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        size += BinarySize.sizeOfDiagnosticInfo(statusResult.getDiagnosticInfo());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(StatusResultBinaryCodec::encode, StatusResult.class);
+        DelegateRegistry.registerBinaryDecoder(StatusResultBinaryCodec::decode, StatusResult.class, StatusResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(StatusResultBinaryCodec::sizeOf, StatusResult.class);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.SubscriptionAcknowledgement;
+
+public final class SubscriptionAcknowledgementBinaryCodec {
+
+    private SubscriptionAcknowledgementBinaryCodec() {}
+
+    public static void encode(SubscriptionAcknowledgement subscriptionAcknowledgement, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, subscriptionAcknowledgement.getSubscriptionId());
+        encoder.encodeUInt32(null, subscriptionAcknowledgement.getSequenceNumber());
+    }
+
+    public static SubscriptionAcknowledgement decode(BinaryDecoder decoder) {
+        UInteger _subscriptionId = decoder.decodeUInt32(null);
+        UInteger _sequenceNumber = decoder.decodeUInt32(null);
+
+        return new SubscriptionAcknowledgement(_subscriptionId, _sequenceNumber);
+    }
+
+    public static int sizeOf(SubscriptionAcknowledgement subscriptionAcknowledgement) {
+        int size = 0;
+        size += 4; // SubscriptionId
+        size += 4; // SequenceNumber
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SubscriptionAcknowledgementBinaryCodec::encode, SubscriptionAcknowledgement.class);
+        DelegateRegistry.registerBinaryDecoder(SubscriptionAcknowledgementBinaryCodec::decode, SubscriptionAcknowledgement.class, SubscriptionAcknowledgement.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SubscriptionAcknowledgementBinaryCodec::sizeOf, SubscriptionAcknowledgement.class);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.ComplianceLevel;
+import com.inductiveautomation.opcua.stack.core.types.structured.SupportedProfile;
+
+public final class SupportedProfileBinaryCodec {
+
+    private SupportedProfileBinaryCodec() {}
+
+    public static void encode(SupportedProfile supportedProfile, BinaryEncoder encoder) {
+        encoder.encodeString(null, supportedProfile.getOrganizationUri());
+        encoder.encodeString(null, supportedProfile.getProfileId());
+        encoder.encodeString(null, supportedProfile.getComplianceTool());
+        encoder.encodeDateTime(null, supportedProfile.getComplianceDate());
+        ComplianceLevel _complianceLevel = supportedProfile.getComplianceLevel();
+        encoder.writeInt32(null, _complianceLevel != null ? _complianceLevel.getValue() : -1);
+        String[] _unsupportedUnitIds = supportedProfile.getUnsupportedUnitIds();
+        if (encoder.writeArrayLength(_unsupportedUnitIds)) {
+            for (String v : _unsupportedUnitIds) {
+                encoder.encodeString(null, v);
+            }
+        }
+    }
+
+    public static SupportedProfile decode(BinaryDecoder decoder) {
+        String _organizationUri = decoder.decodeString(null);
+        String _profileId = decoder.decodeString(null);
+        String _complianceTool = decoder.decodeString(null);
+        DateTime _complianceDate = decoder.decodeDateTime(null);
+        ComplianceLevel _complianceLevel = ComplianceLevel.from(decoder.readInt32(null));
+        String[] _unsupportedUnitIds = new String[decoder.readArrayLength()];
+        for (int i = 0; i < _unsupportedUnitIds.length; i++) {
+            _unsupportedUnitIds[i] = decoder.decodeString(null);
+        }
+
+        return new SupportedProfile(_organizationUri, _profileId, _complianceTool, _complianceDate, _complianceLevel, _unsupportedUnitIds);
+    }
+
+    public static int sizeOf(SupportedProfile supportedProfile) {
+        int size = 0;
+        size += BinarySize.sizeOfString(supportedProfile.getOrganizationUri());
+        size += BinarySize.sizeOfString(supportedProfile.getProfileId());
+        size += BinarySize.sizeOfString(supportedProfile.getComplianceTool());
+        size += 8; // ComplianceDate
+        size += 4; // ComplianceLevel
+        String[] _unsupportedUnitIds = supportedProfile.getUnsupportedUnitIds();
+        size += 4;
+        if (_unsupportedUnitIds != null) {
+            for (String v : _unsupportedUnitIds) {
+                size += BinarySize.sizeOfString(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(SupportedProfileBinaryCodec::encode, SupportedProfile.class);
+        DelegateRegistry.registerBinaryDecoder(SupportedProfileBinaryCodec::decode, SupportedProfile.class, SupportedProfile.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(SupportedProfileBinaryCodec::sizeOf, SupportedProfile.class);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.CompositeTestType;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.TestStackExRequest;
+
+public final class TestStackExRequestBinaryCodec {
+
+    private TestStackExRequestBinaryCodec() {}
+
+    public static void encode(TestStackExRequest testStackExRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = testStackExRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32(null, testStackExRequest.getTestId());
+        encoder.encodeInt32(null, testStackExRequest.getIteration());
+        CompositeTestType _input = testStackExRequest.getInput();
+        CompositeTestTypeBinaryCodec.encode(_input != null ? _input : new CompositeTestType(), encoder);
+    }
+
+    public static TestStackExRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _testId = decoder.decodeUInt32(null);
+        Integer _iteration = decoder.decodeInt32(null);
+        CompositeTestType _input = CompositeTestTypeBinaryCodec.decode(decoder);
+
+        return new TestStackExRequest(_requestHeader, _testId, _iteration, _input);
+    }
+
+    public static int sizeOf(TestStackExRequest testStackExRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = testStackExRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 4; // TestId
+        size += 4; // Iteration
+        CompositeTestType _input = testStackExRequest.getInput();
+        size += CompositeTestTypeBinaryCodec.sizeOf(_input != null ? _input : new CompositeTestType());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(TestStackExRequestBinaryCodec::encode, TestStackExRequest.class);
+        DelegateRegistry.registerBinaryDecoder(TestStackExRequestBinaryCodec::decode, TestStackExRequest.class, TestStackExRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(TestStackExRequestBinaryCodec::sizeOf, TestStackExRequest.class);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.CompositeTestType;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.TestStackExResponse;
+
+public final class TestStackExResponseBinaryCodec {
+
+    private TestStackExResponseBinaryCodec() {}
+
+    public static void encode(TestStackExResponse testStackExResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = testStackExResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        CompositeTestType _output = testStackExResponse.getOutput();
+        CompositeTestTypeBinaryCodec.encode(_output != null ? _output : new CompositeTestType(), encoder);
+    }
+
+    public static TestStackExResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        CompositeTestType _output = CompositeTestTypeBinaryCodec.decode(decoder);
+
+        return new TestStackExResponse(_responseHeader, _output);
+    }
+
+    public static int sizeOf(TestStackExResponse testStackExResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = testStackExResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        CompositeTestType _output = testStackExResponse.getOutput();
+        size += CompositeTestTypeBinaryCodec.sizeOf(_output != null ? _output : new CompositeTestType());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(TestStackExResponseBinaryCodec::encode, TestStackExResponse.class);
+        DelegateRegistry.registerBinaryDecoder(TestStackExResponseBinaryCodec::decode, TestStackExResponse.class, TestStackExResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(TestStackExResponseBinaryCodec::sizeOf, TestStackExResponse.class);
+    }
+
+}
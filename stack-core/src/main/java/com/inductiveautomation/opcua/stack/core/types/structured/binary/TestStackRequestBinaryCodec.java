@@ -0,0 +1,49 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.TestStackRequest;
+
+public final class TestStackRequestBinaryCodec {
+
+    private TestStackRequestBinaryCodec() {}
+
+    public static void encode(TestStackRequest testStackRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = testStackRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32(null, testStackRequest.getTestId());
+        encoder.encodeInt32(null, testStackRequest.getIteration());
+        encoder.encodeVariant(null, testStackRequest.getInput());
+    }
+
+    public static TestStackRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger _testId = decoder.decodeUInt32(null);
+        Integer _iteration = decoder.decodeInt32(null);
+        Variant _input = decoder.decodeVariant(null);
+
+        return new TestStackRequest(_requestHeader, _testId, _iteration, _input);
+    }
+
+    public static int sizeOf(TestStackRequest testStackRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = testStackRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        size += 4; // TestId
+        size += 4; // Iteration
+        size += BinarySize.sizeOfVariant(testStackRequest.getInput());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(TestStackRequestBinaryCodec::encode, TestStackRequest.class);
+        DelegateRegistry.registerBinaryDecoder(TestStackRequestBinaryCodec::decode, TestStackRequest.class, TestStackRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(TestStackRequestBinaryCodec::sizeOf, TestStackRequest.class);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.TestStackResponse;
+
+public final class TestStackResponseBinaryCodec {
+
+    private TestStackResponseBinaryCodec() {}
+
+    public static void encode(TestStackResponse testStackResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = testStackResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeVariant(null, testStackResponse.getOutput());
+    }
+
+    public static TestStackResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        Variant _output = decoder.decodeVariant(null);
+
+        return new TestStackResponse(_responseHeader, _output);
+    }
+
+    public static int sizeOf(TestStackResponse testStackResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = testStackResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        size += BinarySize.sizeOfVariant(testStackResponse.getOutput());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(TestStackResponseBinaryCodec::encode, TestStackResponse.class);
+        DelegateRegistry.registerBinaryDecoder(TestStackResponseBinaryCodec::decode, TestStackResponse.class, TestStackResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(TestStackResponseBinaryCodec::sizeOf, TestStackResponse.class);
+    }
+
+}
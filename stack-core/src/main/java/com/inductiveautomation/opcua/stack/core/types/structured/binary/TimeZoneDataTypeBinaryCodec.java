@@ -0,0 +1,37 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.TimeZoneDataType;
+
+public final class TimeZoneDataTypeBinaryCodec {
+
+    private TimeZoneDataTypeBinaryCodec() {}
+
+    public static void encode(TimeZoneDataType timeZoneDataType, BinaryEncoder encoder) {
+        encoder.encodeInt16(null, timeZoneDataType.getOffset());
+        encoder.encodeBoolean(null, timeZoneDataType.getDaylightSavingInOffset());
+    }
+
+    public static TimeZoneDataType decode(BinaryDecoder decoder) {
+        Short _offset = decoder.decodeInt16(null);
+        Boolean _daylightSavingInOffset = decoder.decodeBoolean(null);
+
+        return new TimeZoneDataType(_offset, _daylightSavingInOffset);
+    }
+
+    public static int sizeOf(TimeZoneDataType timeZoneDataType) {
+        int size = 0;
+        size += 2; // Offset
+        size += 1; // DaylightSavingInOffset
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(TimeZoneDataTypeBinaryCodec::encode, TimeZoneDataType.class);
+        DelegateRegistry.registerBinaryDecoder(TimeZoneDataTypeBinaryCodec::decode, TimeZoneDataType.class, TimeZoneDataType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(TimeZoneDataTypeBinaryCodec::sizeOf, TimeZoneDataType.class);
+    }
+
+}
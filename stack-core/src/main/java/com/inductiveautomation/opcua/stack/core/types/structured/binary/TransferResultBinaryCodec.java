@@ -0,0 +1,51 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.TransferResult;
+
+public final class TransferResultBinaryCodec {
+
+    private TransferResultBinaryCodec() {}
+
+    public static void encode(TransferResult transferResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode(null, transferResult.getStatusCode());
+        UInteger[] _availableSequenceNumbers = transferResult.getAvailableSequenceNumbers();
+        if (encoder.writeArrayLength(_availableSequenceNumbers)) {
+            for (UInteger v : _availableSequenceNumbers) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+    }
+
+    public static TransferResult decode(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode(null);
+        UInteger[] _availableSequenceNumbers = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _availableSequenceNumbers.length; i++) {
+            _availableSequenceNumbers[i] = decoder.decodeUInt32(null);
+        }
+
+        return new TransferResult(_statusCode, _availableSequenceNumbers);
+    }
+
+    public static int sizeOf(TransferResult transferResult) {
+        int size = 0;
+        size += 4; // StatusCode
+        UInteger[] _availableSequenceNumbers = transferResult.getAvailableSequenceNumbers();
+        size += 4;
+        if (_availableSequenceNumbers != null) {
+            size += _availableSequenceNumbers.length * 4;
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(TransferResultBinaryCodec::encode, TransferResult.class);
+        DelegateRegistry.registerBinaryDecoder(TransferResultBinaryCodec::decode, TransferResult.class, TransferResult.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(TransferResultBinaryCodec::sizeOf, TransferResult.class);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.TransferSubscriptionsRequest;
+
+public final class TransferSubscriptionsRequestBinaryCodec {
+
+    private TransferSubscriptionsRequestBinaryCodec() {}
+
+    public static void encode(TransferSubscriptionsRequest transferSubscriptionsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = transferSubscriptionsRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        UInteger[] _subscriptionIds = transferSubscriptionsRequest.getSubscriptionIds();
+        if (encoder.writeArrayLength(_subscriptionIds)) {
+            for (UInteger v : _subscriptionIds) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+        encoder.encodeBoolean(null, transferSubscriptionsRequest.getSendInitialValues());
+    }
+
+    public static TransferSubscriptionsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        UInteger[] _subscriptionIds = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _subscriptionIds.length; i++) {
+            _subscriptionIds[i] = decoder.decodeUInt32(null);
+        }
+        Boolean _sendInitialValues = decoder.decodeBoolean(null);
+
+        return new TransferSubscriptionsRequest(_requestHeader, _subscriptionIds, _sendInitialValues);
+    }
+
+    public static int sizeOf(TransferSubscriptionsRequest transferSubscriptionsRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = transferSubscriptionsRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        UInteger[] _subscriptionIds = transferSubscriptionsRequest.getSubscriptionIds();
+        size += 4;
+        if (_subscriptionIds != null) {
+            size += _subscriptionIds.length * 4;
+        }
+        size += 1; // SendInitialValues
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(TransferSubscriptionsRequestBinaryCodec::encode, TransferSubscriptionsRequest.class);
+        DelegateRegistry.registerBinaryDecoder(TransferSubscriptionsRequestBinaryCodec::decode, TransferSubscriptionsRequest.class, TransferSubscriptionsRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(TransferSubscriptionsRequestBinaryCodec::sizeOf, TransferSubscriptionsRequest.class);
+    }
+
+}
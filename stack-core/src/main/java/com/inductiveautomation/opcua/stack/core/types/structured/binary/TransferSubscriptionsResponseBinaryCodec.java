@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.TransferResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.TransferSubscriptionsResponse;
+
+public final class TransferSubscriptionsResponseBinaryCodec {
+
+    private TransferSubscriptionsResponseBinaryCodec() {}
+
+    public static void encode(TransferSubscriptionsResponse transferSubscriptionsResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = transferSubscriptionsResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        TransferResult[] _results = transferSubscriptionsResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (TransferResult v : _results) {
+                TransferResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = transferSubscriptionsResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static TransferSubscriptionsResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        TransferResult[] _results = new TransferResult[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = TransferResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new TransferSubscriptionsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(TransferSubscriptionsResponse transferSubscriptionsResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = transferSubscriptionsResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        TransferResult[] _results = transferSubscriptionsResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            for (TransferResult v : _results) {
+                size += TransferResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = transferSubscriptionsResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(TransferSubscriptionsResponseBinaryCodec::encode, TransferSubscriptionsResponse.class);
+        DelegateRegistry.registerBinaryDecoder(TransferSubscriptionsResponseBinaryCodec::decode, TransferSubscriptionsResponse.class, TransferSubscriptionsResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(TransferSubscriptionsResponseBinaryCodec::sizeOf, TransferSubscriptionsResponse.class);
+    }
+
+}
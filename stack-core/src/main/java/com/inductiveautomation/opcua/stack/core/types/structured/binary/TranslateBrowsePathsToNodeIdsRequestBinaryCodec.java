@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowsePath;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.TranslateBrowsePathsToNodeIdsRequest;
+
+public final class TranslateBrowsePathsToNodeIdsRequestBinaryCodec {
+
+    private TranslateBrowsePathsToNodeIdsRequestBinaryCodec() {}
+
+    public static void encode(TranslateBrowsePathsToNodeIdsRequest translateBrowsePathsToNodeIdsRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = translateBrowsePathsToNodeIdsRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        BrowsePath[] _browsePaths = translateBrowsePathsToNodeIdsRequest.getBrowsePaths();
+        if (encoder.writeArrayLength(_browsePaths)) {
+            for (BrowsePath v : _browsePaths) {
+                BrowsePathBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static TranslateBrowsePathsToNodeIdsRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        BrowsePath[] _browsePaths = new BrowsePath[decoder.readArrayLength()];
+        for (int i = 0; i < _browsePaths.length; i++) {
+            _browsePaths[i] = BrowsePathBinaryCodec.decode(decoder);
+        }
+
+        return new TranslateBrowsePathsToNodeIdsRequest(_requestHeader, _browsePaths);
+    }
+
+    public static int sizeOf(TranslateBrowsePathsToNodeIdsRequest translateBrowsePathsToNodeIdsRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = translateBrowsePathsToNodeIdsRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        BrowsePath[] _browsePaths = translateBrowsePathsToNodeIdsRequest.getBrowsePaths();
+        size += 4;
+        if (_browsePaths != null) {
+            for (BrowsePath v : _browsePaths) {
+                size += BrowsePathBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(TranslateBrowsePathsToNodeIdsRequestBinaryCodec::encode, TranslateBrowsePathsToNodeIdsRequest.class);
+        DelegateRegistry.registerBinaryDecoder(TranslateBrowsePathsToNodeIdsRequestBinaryCodec::decode, TranslateBrowsePathsToNodeIdsRequest.class, TranslateBrowsePathsToNodeIdsRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(TranslateBrowsePathsToNodeIdsRequestBinaryCodec::sizeOf, TranslateBrowsePathsToNodeIdsRequest.class);
+    }
+
+}
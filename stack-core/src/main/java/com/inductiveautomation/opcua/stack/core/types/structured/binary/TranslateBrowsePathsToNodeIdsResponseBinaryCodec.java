@@ -0,0 +1,74 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowsePathResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.TranslateBrowsePathsToNodeIdsResponse;
+
+public final class TranslateBrowsePathsToNodeIdsResponseBinaryCodec {
+
+    private TranslateBrowsePathsToNodeIdsResponseBinaryCodec() {}
+
+    public static void encode(TranslateBrowsePathsToNodeIdsResponse translateBrowsePathsToNodeIdsResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = translateBrowsePathsToNodeIdsResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+        BrowsePathResult[] _results = translateBrowsePathsToNodeIdsResponse.getResults();
+        if (encoder.writeArrayLength(_results)) {
+            for (BrowsePathResult v : _results) {
+                BrowsePathResultBinaryCodec.encode(v, encoder);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = translateBrowsePathsToNodeIdsResponse.getDiagnosticInfos();
+        if (encoder.writeArrayLength(_diagnosticInfos)) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                encoder.encodeDiagnosticInfo(null, v);
+            }
+        }
+    }
+
+    public static TranslateBrowsePathsToNodeIdsResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+        BrowsePathResult[] _results = new BrowsePathResult[decoder.readArrayLength()];
+        for (int i = 0; i < _results.length; i++) {
+            _results[i] = BrowsePathResultBinaryCodec.decode(decoder);
+        }
+        DiagnosticInfo[] _diagnosticInfos = new DiagnosticInfo[decoder.readArrayLength()];
+        for (int i = 0; i < _diagnosticInfos.length; i++) {
+            _diagnosticInfos[i] = decoder.decodeDiagnosticInfo(null);
+        }
+
+        return new TranslateBrowsePathsToNodeIdsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static int sizeOf(TranslateBrowsePathsToNodeIdsResponse translateBrowsePathsToNodeIdsResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = translateBrowsePathsToNodeIdsResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        BrowsePathResult[] _results = translateBrowsePathsToNodeIdsResponse.getResults();
+        size += 4;
+        if (_results != null) {
+            for (BrowsePathResult v : _results) {
+                size += BrowsePathResultBinaryCodec.sizeOf(v);
+            }
+        }
+        DiagnosticInfo[] _diagnosticInfos = translateBrowsePathsToNodeIdsResponse.getDiagnosticInfos();
+        size += 4;
+        if (_diagnosticInfos != null) {
+            for (DiagnosticInfo v : _diagnosticInfos) {
+                size += BinarySize.sizeOfDiagnosticInfo(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(TranslateBrowsePathsToNodeIdsResponseBinaryCodec::encode, TranslateBrowsePathsToNodeIdsResponse.class);
+        DelegateRegistry.registerBinaryDecoder(TranslateBrowsePathsToNodeIdsResponseBinaryCodec::decode, TranslateBrowsePathsToNodeIdsResponse.class, TranslateBrowsePathsToNodeIdsResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(TranslateBrowsePathsToNodeIdsResponseBinaryCodec::sizeOf, TranslateBrowsePathsToNodeIdsResponse.class);
+    }
+
+}
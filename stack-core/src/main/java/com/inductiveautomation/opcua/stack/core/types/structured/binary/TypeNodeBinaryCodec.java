@@ -0,0 +1,77 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+import com.inductiveautomation.opcua.stack.core.types.structured.TypeNode;
+
+public final class TypeNodeBinaryCodec {
+
+    private TypeNodeBinaryCodec() {}
+
+    public static void encode(TypeNode typeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, typeNode.getNodeId());
+        NodeClass _nodeClass = typeNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, typeNode.getBrowseName());
+        encoder.encodeLocalizedText(null, typeNode.getDisplayName());
+        encoder.encodeLocalizedText(null, typeNode.getDescription());
+        encoder.encodeUInt32(null, typeNode.getWriteMask());
+        encoder.encodeUInt32(null, typeNode.getUserWriteMask());
+        ReferenceNode[] _references = typeNode.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceNode v : _references) {
+                ReferenceNodeBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static TypeNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references = new ReferenceNode[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+        }
+
+        return new TypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
+    }
+
+    public static int sizeOf(TypeNode typeNode) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(typeNode.getNodeId());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfQualifiedName(typeNode.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(typeNode.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(typeNode.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        ReferenceNode[] _references = typeNode.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceNode v : _references) {
+                size += ReferenceNodeBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(TypeNodeBinaryCodec::encode, TypeNode.class);
+        DelegateRegistry.registerBinaryDecoder(TypeNodeBinaryCodec::decode, TypeNode.class, TypeNode.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(TypeNodeBinaryCodec::sizeOf, TypeNode.class);
+    }
+
+}
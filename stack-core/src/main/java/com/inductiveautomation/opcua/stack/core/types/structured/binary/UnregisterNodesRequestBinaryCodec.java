@@ -0,0 +1,56 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.UnregisterNodesRequest;
+
+public final class UnregisterNodesRequestBinaryCodec {
+
+    private UnregisterNodesRequestBinaryCodec() {}
+
+    public static void encode(UnregisterNodesRequest unregisterNodesRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = unregisterNodesRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        NodeId[] _nodesToUnregister = unregisterNodesRequest.getNodesToUnregister();
+        if (encoder.writeArrayLength(_nodesToUnregister)) {
+            for (NodeId v : _nodesToUnregister) {
+                encoder.encodeNodeId(null, v);
+            }
+        }
+    }
+
+    public static UnregisterNodesRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        NodeId[] _nodesToUnregister = new NodeId[decoder.readArrayLength()];
+        for (int i = 0; i < _nodesToUnregister.length; i++) {
+            _nodesToUnregister[i] = decoder.decodeNodeId(null);
+        }
+
+        return new UnregisterNodesRequest(_requestHeader, _nodesToUnregister);
+    }
+
+    public static int sizeOf(UnregisterNodesRequest unregisterNodesRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = unregisterNodesRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        NodeId[] _nodesToUnregister = unregisterNodesRequest.getNodesToUnregister();
+        size += 4;
+        if (_nodesToUnregister != null) {
+            for (NodeId v : _nodesToUnregister) {
+                size += BinarySize.sizeOfNodeId(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(UnregisterNodesRequestBinaryCodec::encode, UnregisterNodesRequest.class);
+        DelegateRegistry.registerBinaryDecoder(UnregisterNodesRequestBinaryCodec::decode, UnregisterNodesRequest.class, UnregisterNodesRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(UnregisterNodesRequestBinaryCodec::sizeOf, UnregisterNodesRequest.class);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.UnregisterNodesResponse;
+
+public final class UnregisterNodesResponseBinaryCodec {
+
+    private UnregisterNodesResponseBinaryCodec() {}
+
+    public static void encode(UnregisterNodesResponse unregisterNodesResponse, BinaryEncoder encoder) {
+        ResponseHeader _responseHeader = unregisterNodesResponse.getResponseHeader();
+        ResponseHeaderBinaryCodec.encode(_responseHeader != null ? _responseHeader : new ResponseHeader(), encoder);
+    }
+
+    public static UnregisterNodesResponse decode(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeaderBinaryCodec.decode(decoder);
+
+        return new UnregisterNodesResponse(_responseHeader);
+    }
+
+    public static int sizeOf(UnregisterNodesResponse unregisterNodesResponse) {
+        int size = 0;
+        ResponseHeader _responseHeader = unregisterNodesResponse.getResponseHeader();
+        size += ResponseHeaderBinaryCodec.sizeOf(_responseHeader != null ? _responseHeader : new ResponseHeader());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(UnregisterNodesResponseBinaryCodec::encode, UnregisterNodesResponse.class);
+        DelegateRegistry.registerBinaryDecoder(UnregisterNodesResponseBinaryCodec::decode, UnregisterNodesResponse.class, UnregisterNodesResponse.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(UnregisterNodesResponseBinaryCodec::sizeOf, UnregisterNodesResponse.class);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.PerformUpdateType;
+import com.inductiveautomation.opcua.stack.core.types.structured.UpdateDataDetails;
+
+public final class UpdateDataDetailsBinaryCodec {
+
+    private UpdateDataDetailsBinaryCodec() {}
+
+    public static void encode(UpdateDataDetails updateDataDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, updateDataDetails.getNodeId());
+        PerformUpdateType _performInsertReplace = updateDataDetails.getPerformInsertReplace();
+        encoder.writeInt32(null, _performInsertReplace != null ? _performInsertReplace.getValue() : -1);
+        DataValue[] _updateValues = updateDataDetails.getUpdateValues();
+        if (encoder.writeArrayLength(_updateValues)) {
+            for (DataValue v : _updateValues) {
+                encoder.encodeDataValue(null, v);
+            }
+        }
+    }
+
+    public static UpdateDataDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        PerformUpdateType _performInsertReplace = PerformUpdateType.from(decoder.readInt32(null));
+        DataValue[] _updateValues = new DataValue[decoder.readArrayLength()];
+        for (int i = 0; i < _updateValues.length; i++) {
+            _updateValues[i] = decoder.decodeDataValue(null);
+        }
+
+        return new UpdateDataDetails(_nodeId, _performInsertReplace, _updateValues);
+    }
+
+    public static int sizeOf(UpdateDataDetails updateDataDetails) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(updateDataDetails.getNodeId());
+        size += 4; // PerformInsertReplace
+        DataValue[] _updateValues = updateDataDetails.getUpdateValues();
+        size += 4;
+        if (_updateValues != null) {
+            for (DataValue v : _updateValues) {
+                size += BinarySize.sizeOfDataValue(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(UpdateDataDetailsBinaryCodec::encode, UpdateDataDetails.class);
+        DelegateRegistry.registerBinaryDecoder(UpdateDataDetailsBinaryCodec::decode, UpdateDataDetails.class, UpdateDataDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(UpdateDataDetailsBinaryCodec::sizeOf, UpdateDataDetails.class);
+    }
+
+}
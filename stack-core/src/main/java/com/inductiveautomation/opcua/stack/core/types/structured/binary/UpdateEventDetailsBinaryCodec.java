@@ -0,0 +1,65 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.PerformUpdateType;
+import com.inductiveautomation.opcua.stack.core.types.structured.EventFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.HistoryEventFieldList;
+import com.inductiveautomation.opcua.stack.core.types.structured.UpdateEventDetails;
+
+public final class UpdateEventDetailsBinaryCodec {
+
+    private UpdateEventDetailsBinaryCodec() {}
+
+    public static void encode(UpdateEventDetails updateEventDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, updateEventDetails.getNodeId());
+        PerformUpdateType _performInsertReplace = updateEventDetails.getPerformInsertReplace();
+        encoder.writeInt32(null, _performInsertReplace != null ? _performInsertReplace.getValue() : -1);
+        EventFilter _filter = updateEventDetails.getFilter();
+        EventFilterBinaryCodec.encode(_filter != null ? _filter : new EventFilter(), encoder);
+        HistoryEventFieldList[] _eventData = updateEventDetails.getEventData();
+        if (encoder.writeArrayLength(_eventData)) {
+            for (HistoryEventFieldList v : _eventData) {
+                HistoryEventFieldListBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static UpdateEventDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        PerformUpdateType _performInsertReplace = PerformUpdateType.from(decoder.readInt32(null));
+        EventFilter _filter = EventFilterBinaryCodec.decode(decoder);
+        HistoryEventFieldList[] _eventData = new HistoryEventFieldList[decoder.readArrayLength()];
+        for (int i = 0; i < _eventData.length; i++) {
+            _eventData[i] = HistoryEventFieldListBinaryCodec.decode(decoder);
+        }
+
+        return new UpdateEventDetails(_nodeId, _performInsertReplace, _filter, _eventData);
+    }
+
+    public static int sizeOf(UpdateEventDetails updateEventDetails) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(updateEventDetails.getNodeId());
+        size += 4; // PerformInsertReplace
+        EventFilter _filter = updateEventDetails.getFilter();
+        size += EventFilterBinaryCodec.sizeOf(_filter != null ? _filter : new EventFilter());
+        HistoryEventFieldList[] _eventData = updateEventDetails.getEventData();
+        size += 4;
+        if (_eventData != null) {
+            for (HistoryEventFieldList v : _eventData) {
+                size += HistoryEventFieldListBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(UpdateEventDetailsBinaryCodec::encode, UpdateEventDetails.class);
+        DelegateRegistry.registerBinaryDecoder(UpdateEventDetailsBinaryCodec::decode, UpdateEventDetails.class, UpdateEventDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(UpdateEventDetailsBinaryCodec::sizeOf, UpdateEventDetails.class);
+    }
+
+}
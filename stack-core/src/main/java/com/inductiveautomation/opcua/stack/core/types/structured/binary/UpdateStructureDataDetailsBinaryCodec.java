@@ -0,0 +1,59 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.PerformUpdateType;
+import com.inductiveautomation.opcua.stack.core.types.structured.UpdateStructureDataDetails;
+
+public final class UpdateStructureDataDetailsBinaryCodec {
+
+    private UpdateStructureDataDetailsBinaryCodec() {}
+
+    public static void encode(UpdateStructureDataDetails updateStructureDataDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, updateStructureDataDetails.getNodeId());
+        PerformUpdateType _performInsertReplace = updateStructureDataDetails.getPerformInsertReplace();
+        encoder.writeInt32(null, _performInsertReplace != null ? _performInsertReplace.getValue() : -1);
+        DataValue[] _updateValues = updateStructureDataDetails.getUpdateValues();
+        if (encoder.writeArrayLength(_updateValues)) {
+            for (DataValue v : _updateValues) {
+                encoder.encodeDataValue(null, v);
+            }
+        }
+    }
+
+    public static UpdateStructureDataDetails decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        PerformUpdateType _performInsertReplace = PerformUpdateType.from(decoder.readInt32(null));
+        DataValue[] _updateValues = new DataValue[decoder.readArrayLength()];
+        for (int i = 0; i < _updateValues.length; i++) {
+            _updateValues[i] = decoder.decodeDataValue(null);
+        }
+
+        return new UpdateStructureDataDetails(_nodeId, _performInsertReplace, _updateValues);
+    }
+
+    public static int sizeOf(UpdateStructureDataDetails updateStructureDataDetails) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(updateStructureDataDetails.getNodeId());
+        size += 4; // PerformInsertReplace
+        DataValue[] _updateValues = updateStructureDataDetails.getUpdateValues();
+        size += 4;
+        if (_updateValues != null) {
+            for (DataValue v : _updateValues) {
+                size += BinarySize.sizeOfDataValue(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(UpdateStructureDataDetailsBinaryCodec::encode, UpdateStructureDataDetails.class);
+        DelegateRegistry.registerBinaryDecoder(UpdateStructureDataDetailsBinaryCodec::decode, UpdateStructureDataDetails.class, UpdateStructureDataDetails.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(UpdateStructureDataDetailsBinaryCodec::sizeOf, UpdateStructureDataDetails.class);
+    }
+
+}
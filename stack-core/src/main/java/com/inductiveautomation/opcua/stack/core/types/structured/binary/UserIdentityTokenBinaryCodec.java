@@ -0,0 +1,35 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.structured.UserIdentityToken;
+
+public final class UserIdentityTokenBinaryCodec {
+
+    private UserIdentityTokenBinaryCodec() {}
+
+    public static void encode(UserIdentityToken userIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString(null, userIdentityToken.getPolicyId());
+    }
+
+    public static UserIdentityToken decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+
+        return new UserIdentityToken(_policyId);
+    }
+
+    public static int sizeOf(UserIdentityToken userIdentityToken) {
+        int size = 0;
+        size += BinarySize.sizeOfString(userIdentityToken.getPolicyId());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(UserIdentityTokenBinaryCodec::encode, UserIdentityToken.class);
+        DelegateRegistry.registerBinaryDecoder(UserIdentityTokenBinaryCodec::decode, UserIdentityToken.class, UserIdentityToken.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(UserIdentityTokenBinaryCodec::sizeOf, UserIdentityToken.class);
+    }
+
+}
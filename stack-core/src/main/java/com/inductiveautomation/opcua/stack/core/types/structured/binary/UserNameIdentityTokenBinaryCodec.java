@@ -0,0 +1,45 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.structured.UserNameIdentityToken;
+
+public final class UserNameIdentityTokenBinaryCodec {
+
+    private UserNameIdentityTokenBinaryCodec() {}
+
+    public static void encode(UserNameIdentityToken userNameIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString(null, userNameIdentityToken.getPolicyId());
+        encoder.encodeString(null, userNameIdentityToken.getUserName());
+        encoder.encodeByteString(null, userNameIdentityToken.getPassword());
+        encoder.encodeString(null, userNameIdentityToken.getEncryptionAlgorithm());
+    }
+
+    public static UserNameIdentityToken decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+        String _userName = decoder.decodeString(null);
+        ByteString _password = decoder.decodeByteString(null);
+        String _encryptionAlgorithm = decoder.decodeString(null);
+
+        return new UserNameIdentityToken(_policyId, _userName, _password, _encryptionAlgorithm);
+    }
+
+    public static int sizeOf(UserNameIdentityToken userNameIdentityToken) {
+        int size = 0;
+        size += BinarySize.sizeOfString(userNameIdentityToken.getPolicyId());
+        size += BinarySize.sizeOfString(userNameIdentityToken.getUserName());
+        size += BinarySize.sizeOfByteString(userNameIdentityToken.getPassword());
+        size += BinarySize.sizeOfString(userNameIdentityToken.getEncryptionAlgorithm());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(UserNameIdentityTokenBinaryCodec::encode, UserNameIdentityToken.class);
+        DelegateRegistry.registerBinaryDecoder(UserNameIdentityTokenBinaryCodec::decode, UserNameIdentityToken.class, UserNameIdentityToken.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(UserNameIdentityTokenBinaryCodec::sizeOf, UserNameIdentityToken.class);
+    }
+
+}
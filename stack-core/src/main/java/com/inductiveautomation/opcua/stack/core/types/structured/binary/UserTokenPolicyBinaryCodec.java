@@ -0,0 +1,49 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.UserTokenType;
+import com.inductiveautomation.opcua.stack.core.types.structured.UserTokenPolicy;
+
+public final class UserTokenPolicyBinaryCodec {
+
+    private UserTokenPolicyBinaryCodec() {}
+
+    public static void encode(UserTokenPolicy userTokenPolicy, BinaryEncoder encoder) {
+        encoder.encodeString(null, userTokenPolicy.getPolicyId());
+        UserTokenType _tokenType = userTokenPolicy.getTokenType();
+        encoder.writeInt32(null, _tokenType != null ? _tokenType.getValue() : -1);
+        encoder.encodeString(null, userTokenPolicy.getIssuedTokenType());
+        encoder.encodeString(null, userTokenPolicy.getIssuerEndpointUrl());
+        encoder.encodeString(null, userTokenPolicy.getSecurityPolicyUri());
+    }
+
+    public static UserTokenPolicy decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+        UserTokenType _tokenType = UserTokenType.from(decoder.readInt32(null));
+        String _issuedTokenType = decoder.decodeString(null);
+        String _issuerEndpointUrl = decoder.decodeString(null);
+        String _securityPolicyUri = decoder.decodeString(null);
+
+        return new UserTokenPolicy(_policyId, _tokenType, _issuedTokenType, _issuerEndpointUrl, _securityPolicyUri);
+    }
+
+    public static int sizeOf(UserTokenPolicy userTokenPolicy) {
+        int size = 0;
+        size += BinarySize.sizeOfString(userTokenPolicy.getPolicyId());
+        size += 4; // TokenType
+        size += BinarySize.sizeOfString(userTokenPolicy.getIssuedTokenType());
+        size += BinarySize.sizeOfString(userTokenPolicy.getIssuerEndpointUrl());
+        size += BinarySize.sizeOfString(userTokenPolicy.getSecurityPolicyUri());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(UserTokenPolicyBinaryCodec::encode, UserTokenPolicy.class);
+        DelegateRegistry.registerBinaryDecoder(UserTokenPolicyBinaryCodec::decode, UserTokenPolicy.class, UserTokenPolicy.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(UserTokenPolicyBinaryCodec::sizeOf, UserTokenPolicy.class);
+    }
+
+}
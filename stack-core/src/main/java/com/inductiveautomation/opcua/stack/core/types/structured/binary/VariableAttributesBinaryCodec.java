@@ -0,0 +1,88 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.VariableAttributes;
+
+public final class VariableAttributesBinaryCodec {
+
+    private VariableAttributesBinaryCodec() {}
+
+    public static void encode(VariableAttributes variableAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, variableAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, variableAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, variableAttributes.getDescription());
+        encoder.encodeUInt32(null, variableAttributes.getWriteMask());
+        encoder.encodeUInt32(null, variableAttributes.getUserWriteMask());
+        encoder.encodeVariant(null, variableAttributes.getValue());
+        encoder.encodeNodeId(null, variableAttributes.getDataType());
+        encoder.encodeInt32(null, variableAttributes.getValueRank());
+        UInteger[] _arrayDimensions = variableAttributes.getArrayDimensions();
+        if (encoder.writeArrayLength(_arrayDimensions)) {
+            for (UInteger v : _arrayDimensions) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+        encoder.encodeByte(null, variableAttributes.getAccessLevel());
+        encoder.encodeByte(null, variableAttributes.getUserAccessLevel());
+        encoder.encodeDouble(null, variableAttributes.getMinimumSamplingInterval());
+        encoder.encodeBoolean(null, variableAttributes.getHistorizing());
+    }
+
+    public static VariableAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Variant _value = decoder.decodeVariant(null);
+        NodeId _dataType = decoder.decodeNodeId(null);
+        Integer _valueRank = decoder.decodeInt32(null);
+        UInteger[] _arrayDimensions = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _arrayDimensions.length; i++) {
+            _arrayDimensions[i] = decoder.decodeUInt32(null);
+        }
+        UByte _accessLevel = decoder.decodeByte(null);
+        UByte _userAccessLevel = decoder.decodeByte(null);
+        Double _minimumSamplingInterval = decoder.decodeDouble(null);
+        Boolean _historizing = decoder.decodeBoolean(null);
+
+        return new VariableAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _value, _dataType, _valueRank, _arrayDimensions, _accessLevel, _userAccessLevel, _minimumSamplingInterval, _historizing);
+    }
+
+    public static int sizeOf(VariableAttributes variableAttributes) {
+        int size = 0;
+        size += 4; // SpecifiedAttributes
+        size += BinarySize.sizeOfLocalizedText(variableAttributes.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(variableAttributes.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        size += BinarySize.sizeOfVariant(variableAttributes.getValue());
+        size += BinarySize.sizeOfNodeId(variableAttributes.getDataType());
+        size += 4; // ValueRank
+        UInteger[] _arrayDimensions = variableAttributes.getArrayDimensions();
+        size += 4;
+        if (_arrayDimensions != null) {
+            size += _arrayDimensions.length * 4;
+        }
+        size += 1; // AccessLevel
+        size += 1; // UserAccessLevel
+        size += 8; // MinimumSamplingInterval
+        size += 1; // Historizing
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(VariableAttributesBinaryCodec::encode, VariableAttributes.class);
+        DelegateRegistry.registerBinaryDecoder(VariableAttributesBinaryCodec::decode, VariableAttributes.class, VariableAttributes.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(VariableAttributesBinaryCodec::sizeOf, VariableAttributes.class);
+    }
+
+}
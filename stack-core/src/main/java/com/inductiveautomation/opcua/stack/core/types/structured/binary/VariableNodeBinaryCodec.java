@@ -0,0 +1,115 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+import com.inductiveautomation.opcua.stack.core.types.structured.VariableNode;
+
+public final class VariableNodeBinaryCodec {
+
+    private VariableNodeBinaryCodec() {}
+
+    public static void encode(VariableNode variableNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, variableNode.getNodeId());
+        NodeClass _nodeClass = variableNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, variableNode.getBrowseName());
+        encoder.encodeLocalizedText(null, variableNode.getDisplayName());
+        encoder.encodeLocalizedText(null, variableNode.getDescription());
+        encoder.encodeUInt32(null, variableNode.getWriteMask());
+        encoder.encodeUInt32(null, variableNode.getUserWriteMask());
+        ReferenceNode[] _references = variableNode.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceNode v : _references) {
+                ReferenceNodeBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeVariant(null, variableNode.getValue());
+        encoder.encodeNodeId(null, variableNode.getDataType());
+        encoder.encodeInt32(null, variableNode.getValueRank());
+        UInteger[] _arrayDimensions = variableNode.getArrayDimensions();
+        if (encoder.writeArrayLength(_arrayDimensions)) {
+            for (UInteger v : _arrayDimensions) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+        encoder.encodeByte(null, variableNode.getAccessLevel());
+        encoder.encodeByte(null, variableNode.getUserAccessLevel());
+        encoder.encodeDouble(null, variableNode.getMinimumSamplingInterval());
+        encoder.encodeBoolean(null, variableNode.getHistorizing());
+    }
+
+    public static VariableNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references = new ReferenceNode[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+        }
+        Variant _value = decoder.decodeVariant(null);
+        NodeId _dataType = decoder.decodeNodeId(null);
+        Integer _valueRank = decoder.decodeInt32(null);
+        UInteger[] _arrayDimensions = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _arrayDimensions.length; i++) {
+            _arrayDimensions[i] = decoder.decodeUInt32(null);
+        }
+        UByte _accessLevel = decoder.decodeByte(null);
+        UByte _userAccessLevel = decoder.decodeByte(null);
+        Double _minimumSamplingInterval = decoder.decodeDouble(null);
+        Boolean _historizing = decoder.decodeBoolean(null);
+
+        return new VariableNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _value, _dataType, _valueRank, _arrayDimensions, _accessLevel, _userAccessLevel, _minimumSamplingInterval, _historizing);
+    }
+
+    public static int sizeOf(VariableNode variableNode) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(variableNode.getNodeId());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfQualifiedName(variableNode.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(variableNode.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(variableNode.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        ReferenceNode[] _references = variableNode.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceNode v : _references) {
+                size += ReferenceNodeBinaryCodec.sizeOf(v);
+            }
+        }
+        size += BinarySize.sizeOfVariant(variableNode.getValue());
+        size += BinarySize.sizeOfNodeId(variableNode.getDataType());
+        size += 4; // ValueRank
+        UInteger[] _arrayDimensions = variableNode.getArrayDimensions();
+        size += 4;
+        if (_arrayDimensions != null) {
+            size += _arrayDimensions.length * 4;
+        }
+        size += 1; // AccessLevel
+        size += 1; // UserAccessLevel
+        size += 8; // MinimumSamplingInterval
+        size += 1; // Historizing
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(VariableNodeBinaryCodec::encode, VariableNode.class);
+        DelegateRegistry.registerBinaryDecoder(VariableNodeBinaryCodec::decode, VariableNode.class, VariableNode.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(VariableNodeBinaryCodec::sizeOf, VariableNode.class);
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.VariableTypeAttributes;
+
+public final class VariableTypeAttributesBinaryCodec {
+
+    private VariableTypeAttributesBinaryCodec() {}
+
+    public static void encode(VariableTypeAttributes variableTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, variableTypeAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, variableTypeAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, variableTypeAttributes.getDescription());
+        encoder.encodeUInt32(null, variableTypeAttributes.getWriteMask());
+        encoder.encodeUInt32(null, variableTypeAttributes.getUserWriteMask());
+        encoder.encodeVariant(null, variableTypeAttributes.getValue());
+        encoder.encodeNodeId(null, variableTypeAttributes.getDataType());
+        encoder.encodeInt32(null, variableTypeAttributes.getValueRank());
+        UInteger[] _arrayDimensions = variableTypeAttributes.getArrayDimensions();
+        if (encoder.writeArrayLength(_arrayDimensions)) {
+            for (UInteger v : _arrayDimensions) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+        encoder.encodeBoolean(null, variableTypeAttributes.getIsAbstract());
+    }
+
+    public static VariableTypeAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Variant _value = decoder.decodeVariant(null);
+        NodeId _dataType = decoder.decodeNodeId(null);
+        Integer _valueRank = decoder.decodeInt32(null);
+        UInteger[] _arrayDimensions = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _arrayDimensions.length; i++) {
+            _arrayDimensions[i] = decoder.decodeUInt32(null);
+        }
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new VariableTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _value, _dataType, _valueRank, _arrayDimensions, _isAbstract);
+    }
+
+    public static int sizeOf(VariableTypeAttributes variableTypeAttributes) {
+        int size = 0;
+        size += 4; // SpecifiedAttributes
+        size += BinarySize.sizeOfLocalizedText(variableTypeAttributes.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(variableTypeAttributes.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        size += BinarySize.sizeOfVariant(variableTypeAttributes.getValue());
+        size += BinarySize.sizeOfNodeId(variableTypeAttributes.getDataType());
+        size += 4; // ValueRank
+        UInteger[] _arrayDimensions = variableTypeAttributes.getArrayDimensions();
+        size += 4;
+        if (_arrayDimensions != null) {
+            size += _arrayDimensions.length * 4;
+        }
+        size += 1; // IsAbstract
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(VariableTypeAttributesBinaryCodec::encode, VariableTypeAttributes.class);
+        DelegateRegistry.registerBinaryDecoder(VariableTypeAttributesBinaryCodec::decode, VariableTypeAttributes.class, VariableTypeAttributes.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(VariableTypeAttributesBinaryCodec::sizeOf, VariableTypeAttributes.class);
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+import com.inductiveautomation.opcua.stack.core.types.structured.VariableTypeNode;
+
+public final class VariableTypeNodeBinaryCodec {
+
+    private VariableTypeNodeBinaryCodec() {}
+
+    public static void encode(VariableTypeNode variableTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, variableTypeNode.getNodeId());
+        NodeClass _nodeClass = variableTypeNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, variableTypeNode.getBrowseName());
+        encoder.encodeLocalizedText(null, variableTypeNode.getDisplayName());
+        encoder.encodeLocalizedText(null, variableTypeNode.getDescription());
+        encoder.encodeUInt32(null, variableTypeNode.getWriteMask());
+        encoder.encodeUInt32(null, variableTypeNode.getUserWriteMask());
+        ReferenceNode[] _references = variableTypeNode.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceNode v : _references) {
+                ReferenceNodeBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeVariant(null, variableTypeNode.getValue());
+        encoder.encodeNodeId(null, variableTypeNode.getDataType());
+        encoder.encodeInt32(null, variableTypeNode.getValueRank());
+        UInteger[] _arrayDimensions = variableTypeNode.getArrayDimensions();
+        if (encoder.writeArrayLength(_arrayDimensions)) {
+            for (UInteger v : _arrayDimensions) {
+                encoder.encodeUInt32(null, v);
+            }
+        }
+        encoder.encodeBoolean(null, variableTypeNode.getIsAbstract());
+    }
+
+    public static VariableTypeNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references = new ReferenceNode[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+        }
+        Variant _value = decoder.decodeVariant(null);
+        NodeId _dataType = decoder.decodeNodeId(null);
+        Integer _valueRank = decoder.decodeInt32(null);
+        UInteger[] _arrayDimensions = new UInteger[decoder.readArrayLength()];
+        for (int i = 0; i < _arrayDimensions.length; i++) {
+            _arrayDimensions[i] = decoder.decodeUInt32(null);
+        }
+        Boolean _isAbstract = decoder.decodeBoolean(null);
+
+        return new VariableTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _value, _dataType, _valueRank, _arrayDimensions, _isAbstract);
+    }
+
+    public static int sizeOf(VariableTypeNode variableTypeNode) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(variableTypeNode.getNodeId());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfQualifiedName(variableTypeNode.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(variableTypeNode.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(variableTypeNode.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        ReferenceNode[] _references = variableTypeNode.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceNode v : _references) {
+                size += ReferenceNodeBinaryCodec.sizeOf(v);
+            }
+        }
+        size += BinarySize.sizeOfVariant(variableTypeNode.getValue());
+        size += BinarySize.sizeOfNodeId(variableTypeNode.getDataType());
+        size += 4; // ValueRank
+        UInteger[] _arrayDimensions = variableTypeNode.getArrayDimensions();
+        size += 4;
+        if (_arrayDimensions != null) {
+            size += _arrayDimensions.length * 4;
+        }
+        size += 1; // IsAbstract
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(VariableTypeNodeBinaryCodec::encode, VariableTypeNode.class);
+        DelegateRegistry.registerBinaryDecoder(VariableTypeNodeBinaryCodec::decode, VariableTypeNode.class, VariableTypeNode.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(VariableTypeNodeBinaryCodec::sizeOf, VariableTypeNode.class);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ViewAttributes;
+
+public final class ViewAttributesBinaryCodec {
+
+    private ViewAttributesBinaryCodec() {}
+
+    public static void encode(ViewAttributes viewAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32(null, viewAttributes.getSpecifiedAttributes());
+        encoder.encodeLocalizedText(null, viewAttributes.getDisplayName());
+        encoder.encodeLocalizedText(null, viewAttributes.getDescription());
+        encoder.encodeUInt32(null, viewAttributes.getWriteMask());
+        encoder.encodeUInt32(null, viewAttributes.getUserWriteMask());
+        encoder.encodeBoolean(null, viewAttributes.getContainsNoLoops());
+        encoder.encodeByte(null, viewAttributes.getEventNotifier());
+    }
+
+    public static ViewAttributes decode(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        Boolean _containsNoLoops = decoder.decodeBoolean(null);
+        UByte _eventNotifier = decoder.decodeByte(null);
+
+        return new ViewAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _containsNoLoops, _eventNotifier);
+    }
+
+    public static int sizeOf(ViewAttributes viewAttributes) {
+        int size = 0;
+        size += 4; // SpecifiedAttributes
+        size += BinarySize.sizeOfLocalizedText(viewAttributes.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(viewAttributes.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        size += 1; // ContainsNoLoops
+        size += 1; // EventNotifier
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ViewAttributesBinaryCodec::encode, ViewAttributes.class);
+        DelegateRegistry.registerBinaryDecoder(ViewAttributesBinaryCodec::decode, ViewAttributes.class, ViewAttributes.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ViewAttributesBinaryCodec::sizeOf, ViewAttributes.class);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.ViewDescription;
+
+public final class ViewDescriptionBinaryCodec {
+
+    private ViewDescriptionBinaryCodec() {}
+
+    public static void encode(ViewDescription viewDescription, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, viewDescription.getViewId());
+        encoder.encodeDateTime(null, viewDescription.getTimestamp());
+        encoder.encodeUInt32(null, viewDescription.getViewVersion());
+    }
+
+    public static ViewDescription decode(BinaryDecoder decoder) {
+        NodeId _viewId = decoder.decodeNodeId(null);
+        DateTime _timestamp = decoder.decodeDateTime(null);
+        UInteger _viewVersion = decoder.decodeUInt32(null);
+
+        return new ViewDescription(_viewId, _timestamp, _viewVersion);
+    }
+
+    public static int sizeOf(ViewDescription viewDescription) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(viewDescription.getViewId());
+        size += 8; // Timestamp
+        size += 4; // ViewVersion
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ViewDescriptionBinaryCodec::encode, ViewDescription.class);
+        DelegateRegistry.registerBinaryDecoder(ViewDescriptionBinaryCodec::decode, ViewDescription.class, ViewDescription.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ViewDescriptionBinaryCodec::sizeOf, ViewDescription.class);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceNode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ViewNode;
+
+public final class ViewNodeBinaryCodec {
+
+    private ViewNodeBinaryCodec() {}
+
+    public static void encode(ViewNode viewNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, viewNode.getNodeId());
+        NodeClass _nodeClass = viewNode.getNodeClass();
+        encoder.writeInt32(null, _nodeClass != null ? _nodeClass.getValue() : -1);
+        encoder.encodeQualifiedName(null, viewNode.getBrowseName());
+        encoder.encodeLocalizedText(null, viewNode.getDisplayName());
+        encoder.encodeLocalizedText(null, viewNode.getDescription());
+        encoder.encodeUInt32(null, viewNode.getWriteMask());
+        encoder.encodeUInt32(null, viewNode.getUserWriteMask());
+        ReferenceNode[] _references = viewNode.getReferences();
+        if (encoder.writeArrayLength(_references)) {
+            for (ReferenceNode v : _references) {
+                ReferenceNodeBinaryCodec.encode(v, encoder);
+            }
+        }
+        encoder.encodeBoolean(null, viewNode.getContainsNoLoops());
+        encoder.encodeByte(null, viewNode.getEventNotifier());
+    }
+
+    public static ViewNode decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        NodeClass _nodeClass = NodeClass.from(decoder.readInt32(null));
+        QualifiedName _browseName = decoder.decodeQualifiedName(null);
+        LocalizedText _displayName = decoder.decodeLocalizedText(null);
+        LocalizedText _description = decoder.decodeLocalizedText(null);
+        UInteger _writeMask = decoder.decodeUInt32(null);
+        UInteger _userWriteMask = decoder.decodeUInt32(null);
+        ReferenceNode[] _references = new ReferenceNode[decoder.readArrayLength()];
+        for (int i = 0; i < _references.length; i++) {
+            _references[i] = ReferenceNodeBinaryCodec.decode(decoder);
+        }
+        Boolean _containsNoLoops = decoder.decodeBoolean(null);
+        UByte _eventNotifier = decoder.decodeByte(null);
+
+        return new ViewNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _containsNoLoops, _eventNotifier);
+    }
+
+    public static int sizeOf(ViewNode viewNode) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(viewNode.getNodeId());
+        size += 4; // NodeClass
+        size += BinarySize.sizeOfQualifiedName(viewNode.getBrowseName());
+        size += BinarySize.sizeOfLocalizedText(viewNode.getDisplayName());
+        size += BinarySize.sizeOfLocalizedText(viewNode.getDescription());
+        size += 4; // WriteMask
+        size += 4; // UserWriteMask
+        ReferenceNode[] _references = viewNode.getReferences();
+        size += 4;
+        if (_references != null) {
+            for (ReferenceNode v : _references) {
+                size += ReferenceNodeBinaryCodec.sizeOf(v);
+            }
+        }
+        size += 1; // ContainsNoLoops
+        size += 1; // EventNotifier
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(ViewNodeBinaryCodec::encode, ViewNode.class);
+        DelegateRegistry.registerBinaryDecoder(ViewNodeBinaryCodec::decode, ViewNode.class, ViewNode.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(ViewNodeBinaryCodec::sizeOf, ViewNode.class);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.WriteRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.WriteValue;
+
+public final class WriteRequestBinaryCodec {
+
+    private WriteRequestBinaryCodec() {}
+
+    public static void encode(WriteRequest writeRequest, BinaryEncoder encoder) {
+        RequestHeader _requestHeader = writeRequest.getRequestHeader();
+        RequestHeaderBinaryCodec.encode(_requestHeader != null ? _requestHeader : new RequestHeader(), encoder);
+        WriteValue[] _nodesToWrite = writeRequest.getNodesToWrite();
+        if (encoder.writeArrayLength(_nodesToWrite)) {
+            for (WriteValue v : _nodesToWrite) {
+                WriteValueBinaryCodec.encode(v, encoder);
+            }
+        }
+    }
+
+    public static WriteRequest decode(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeaderBinaryCodec.decode(decoder);
+        WriteValue[] _nodesToWrite = new WriteValue[decoder.readArrayLength()];
+        for (int i = 0; i < _nodesToWrite.length; i++) {
+            _nodesToWrite[i] = WriteValueBinaryCodec.decode(decoder);
+        }
+
+        return new WriteRequest(_requestHeader, _nodesToWrite);
+    }
+
+    public static int sizeOf(WriteRequest writeRequest) {
+        int size = 0;
+        RequestHeader _requestHeader = writeRequest.getRequestHeader();
+        size += RequestHeaderBinaryCodec.sizeOf(_requestHeader != null ? _requestHeader : new RequestHeader());
+        WriteValue[] _nodesToWrite = writeRequest.getNodesToWrite();
+        size += 4;
+        if (_nodesToWrite != null) {
+            for (WriteValue v : _nodesToWrite) {
+                size += WriteValueBinaryCodec.sizeOf(v);
+            }
+        }
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(WriteRequestBinaryCodec::encode, WriteRequest.class);
+        DelegateRegistry.registerBinaryDecoder(WriteRequestBinaryCodec::decode, WriteRequest.class, WriteRequest.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(WriteRequestBinaryCodec::sizeOf, WriteRequest.class);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.structured.WriteValue;
+
+public final class WriteValueBinaryCodec {
+
+    private WriteValueBinaryCodec() {}
+
+    public static void encode(WriteValue writeValue, BinaryEncoder encoder) {
+        encoder.encodeNodeId(null, writeValue.getNodeId());
+        encoder.encodeUInt32(null, writeValue.getAttributeId());
+        encoder.encodeString(null, writeValue.getIndexRange());
+        encoder.encodeDataValue(null, writeValue.getValue());
+    }
+
+    public static WriteValue decode(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId(null);
+        UInteger _attributeId = decoder.decodeUInt32(null);
+        String _indexRange = decoder.decodeString(null);
+        DataValue _value = decoder.decodeDataValue(null);
+
+        return new WriteValue(_nodeId, _attributeId, _indexRange, _value);
+    }
+
+    public static int sizeOf(WriteValue writeValue) {
+        int size = 0;
+        size += BinarySize.sizeOfNodeId(writeValue.getNodeId());
+        size += 4; // AttributeId
+        size += BinarySize.sizeOfString(writeValue.getIndexRange());
+        size += BinarySize.sizeOfDataValue(writeValue.getValue());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(WriteValueBinaryCodec::encode, WriteValue.class);
+        DelegateRegistry.registerBinaryDecoder(WriteValueBinaryCodec::decode, WriteValue.class, WriteValue.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(WriteValueBinaryCodec::sizeOf, WriteValue.class);
+    }
+
+}
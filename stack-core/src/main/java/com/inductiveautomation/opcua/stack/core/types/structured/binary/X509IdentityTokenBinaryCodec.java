@@ -0,0 +1,39 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.structured.X509IdentityToken;
+
+public final class X509IdentityTokenBinaryCodec {
+
+    private X509IdentityTokenBinaryCodec() {}
+
+    public static void encode(X509IdentityToken x509IdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString(null, x509IdentityToken.getPolicyId());
+        encoder.encodeByteString(null, x509IdentityToken.getCertificateData());
+    }
+
+    public static X509IdentityToken decode(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString(null);
+        ByteString _certificateData = decoder.decodeByteString(null);
+
+        return new X509IdentityToken(_policyId, _certificateData);
+    }
+
+    public static int sizeOf(X509IdentityToken x509IdentityToken) {
+        int size = 0;
+        size += BinarySize.sizeOfString(x509IdentityToken.getPolicyId());
+        size += BinarySize.sizeOfByteString(x509IdentityToken.getCertificateData());
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(X509IdentityTokenBinaryCodec::encode, X509IdentityToken.class);
+        DelegateRegistry.registerBinaryDecoder(X509IdentityTokenBinaryCodec::decode, X509IdentityToken.class, X509IdentityToken.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(X509IdentityTokenBinaryCodec::sizeOf, X509IdentityToken.class);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.structured.XVType;
+
+public final class XVTypeBinaryCodec {
+
+    private XVTypeBinaryCodec() {}
+
+    public static void encode(XVType xVType, BinaryEncoder encoder) {
+        encoder.encodeDouble(null, xVType.getX());
+        encoder.encodeFloat(null, xVType.getValue());
+    }
+
+    public static XVType decode(BinaryDecoder decoder) {
+        Double _x = decoder.decodeDouble(null);
+        Float _value = decoder.decodeFloat(null);
+
+        return new XVType(_x, _value);
+    }
+
+    public static int sizeOf(XVType xVType) {
+        int size = 0;
+        size += 8; // X
+        size += 4; // Value
+        return size;
+    }
+
+    static {
+        DelegateRegistry.registerBinaryEncoder(XVTypeBinaryCodec::encode, XVType.class);
+        DelegateRegistry.registerBinaryDecoder(XVTypeBinaryCodec::decode, XVType.class, XVType.BinaryEncodingId);
+        DelegateRegistry.registerBinarySize(XVTypeBinaryCodec::sizeOf, XVType.class);
+    }
+
+}
@@ -19,33 +19,63 @@
 
 package com.inductiveautomation.opcua.stack.core.util;
 
-import java.util.LinkedList;
-import java.util.concurrent.ExecutorService;
-
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
 /**
- * Queues up submitted items and executes them in serial on an ExecutorService.
+ * Queues up submitted items and executes them in serial on an Executor.
+ * <p>
+ * Submitting never blocks: items are added to a lock-free queue and a single drain task is scheduled on the executor
+ * whenever one isn't already pending or running. Each drain task executes up to {@code batchSize} items before
+ * yielding the executor thread and, if more items remain, scheduling itself again. Only one drain task runs at a
+ * time, so items are executed in the order they were submitted.
+ * <p>
+ * A paused queue keeps accepting items but doesn't execute any until it's resumed; an item already executing when the
+ * queue is paused runs to completion.
  *
  * @param <T> Submitted item type.
  */
 public class ExecutionQueue<T> {
 
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private volatile boolean submitted = false;
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private volatile boolean paused = false;
+    private final AtomicInteger pending = new AtomicInteger(0);
 
-    private final Object queueLock = new Object();
-    private final LinkedList<T> queue = new LinkedList<>();
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final Drain drain = new Drain();
 
     private final ExecutionCallback<T> callback;
-    private final ExecutorService service;
+    private final Executor executor;
+    private final int batchSize;
+
+    public ExecutionQueue(ExecutionCallback<T> callback, Executor executor) {
+        this(callback, executor, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param callback  the {@link ExecutionCallback} items are delivered to.
+     * @param executor  the {@link Executor} items are executed on.
+     * @param batchSize the maximum number of items executed by a drain task before it yields the executor thread.
+     */
+    public ExecutionQueue(ExecutionCallback<T> callback, Executor executor, int batchSize) {
+        Preconditions.checkArgument(batchSize > 0, "batchSize must be > 0");
 
-    public ExecutionQueue(ExecutionCallback<T> callback, ExecutorService service) {
         this.callback = callback;
-        this.service = service;
+        this.executor = executor;
+        this.batchSize = batchSize;
     }
 
     /**
@@ -54,37 +84,82 @@ public class ExecutionQueue<T> {
      * @param item Item to be delivered.
      */
     public void submit(T item) {
-        synchronized (queueLock) {
-            queue.add(item);
+        queue.offer(item);
+        pending.incrementAndGet();
+
+        schedule();
+    }
+
+    /**
+     * @return the number of items submitted but not yet taken off the queue for execution.
+     */
+    public int size() {
+        return pending.get();
+    }
+
+    /**
+     * Stop executing items, starting with the next one taken off the queue, until {@link #resume()} is called.
+     */
+    public void pause() {
+        paused = true;
+    }
 
-            if (!submitted) {
-                service.submit(new PollAndExecute());
-                submitted = true;
+    /**
+     * Resume executing items after {@link #pause()}.
+     */
+    public void resume() {
+        paused = false;
+
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    /**
+     * @return {@code true} if the queue has been paused and not resumed since.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    private void schedule() {
+        if (!paused && scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(drain);
+            } catch (RejectedExecutionException e) {
+                // Leave the items queued; the next submit tries again.
+                scheduled.set(false);
+                throw e;
             }
         }
     }
 
-    private class PollAndExecute implements Runnable {
+    private class Drain implements Runnable {
         @Override
         public void run() {
-            final T t;
+            T item;
+            int executed = 0;
 
-            synchronized (queueLock) {
-                t = queue.poll();
-            }
+            while (executed < batchSize && !paused && (item = queue.poll()) != null) {
+                pending.decrementAndGet();
 
-            try {
-                callback.execute(t);
-            } catch (Throwable throwable) {
-                logger.warn("Uncaught Throwable during execution.", throwable);
+                try {
+                    callback.execute(item);
+                } catch (Throwable throwable) {
+                    logger.warn("Uncaught Throwable during execution.", throwable);
+                }
+
+                executed++;
             }
 
-            synchronized (queueLock) {
-                if (!queue.isEmpty()) {
-                    service.submit(new PollAndExecute());
-                } else {
-                    submitted = false;
-                }
+            scheduled.set(false);
+
+            /*
+             * An item submitted, or the queue resumed, after the last poll but before scheduled was cleared would not
+             * have scheduled a drain of its own, so check again.
+             */
+            if (!queue.isEmpty()) {
+                schedule();
             }
         }
     }
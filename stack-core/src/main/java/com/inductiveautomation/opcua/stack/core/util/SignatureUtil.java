@@ -73,4 +73,21 @@ public class SignatureUtil {
         }
     }
 
+    /**
+     * Compute the HMAC of the provided buffers using an already-initialized {@link Mac}.
+     * <p>
+     * The {@link Mac} is reset by {@link Mac#doFinal()} and can be reused for subsequent calls.
+     *
+     * @param mac     the initialized {@link Mac}.
+     * @param buffers the buffers to use.
+     * @return the computed HMAC.
+     */
+    public static byte[] hmac(Mac mac, ByteBuffer... buffers) {
+        for (ByteBuffer buffer : buffers) {
+            mac.update(buffer);
+        }
+
+        return mac.doFinal();
+    }
+
 }
@@ -75,6 +75,14 @@ public class TypeUtil {
         }
     }
 
+    /**
+     * @param typeId the id of the builtin type.
+     * @return the primitive {@link Class} that can hold values of the builtin type, or {@code null} if there isn't one.
+     */
+    public static Class<?> getPrimitiveClass(int typeId) {
+        return PrimitiveBuiltinTypeIds.inverse().get(typeId);
+    }
+
     /**
      * @param typeId the id of the builtin type.
      * @return the {@link Class} backing the builtin type.
@@ -0,0 +1,117 @@
+package com.inductiveautomation.opcua.stack.core.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 encoding and decoding straight to and from byte arrays, without going through a {@code CharsetEncoder} or
+ * {@code CharsetDecoder}. Strings that are entirely ASCII, which most browse names, NodeId identifiers and display
+ * names are, take a fast path.
+ * <p>
+ * Encoding matches {@link String#getBytes(java.nio.charset.Charset)}: unpaired surrogates are replaced with '?'.
+ */
+public class Utf8Util {
+
+    /**
+     * @param s the string to measure.
+     * @return the number of bytes {@code s} encodes to.
+     */
+    public static int encodedLength(CharSequence s) {
+        int length = s.length();
+        int encodedLength = length;
+
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+
+            if (c < 0x80) {
+                continue;
+            }
+
+            if (c < 0x800) {
+                encodedLength += 1;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    /* 4 bytes for the 2 chars of the pair. */
+                    encodedLength += 2;
+                    i++;
+                }
+            } else {
+                encodedLength += 2;
+            }
+        }
+
+        return encodedLength;
+    }
+
+    /**
+     * Encode {@code s} into {@code dst}, which must have room for {@link #encodedLength(CharSequence)} bytes after
+     * {@code offset}.
+     *
+     * @param s      the string to encode.
+     * @param dst    the array to encode into.
+     * @param offset the index in {@code dst} to start at.
+     * @return the number of bytes written.
+     */
+    public static int encode(CharSequence s, byte[] dst, int offset) {
+        int length = s.length();
+        int position = offset;
+        int i = 0;
+
+        /* ASCII prefix */
+        for (char c; i < length && (c = s.charAt(i)) < 0x80; i++) {
+            dst[position++] = (byte) c;
+        }
+
+        for (; i < length; i++) {
+            char c = s.charAt(i);
+
+            if (c < 0x80) {
+                dst[position++] = (byte) c;
+            } else if (c < 0x800) {
+                dst[position++] = (byte) (0xC0 | (c >> 6));
+                dst[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, s.charAt(++i));
+
+                    dst[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    dst[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    dst[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    dst[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    dst[position++] = '?';
+                }
+            } else {
+                dst[position++] = (byte) (0xE0 | (c >> 12));
+                dst[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                dst[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        return position - offset;
+    }
+
+    /**
+     * Decode {@code length} bytes of UTF-8 from {@code src}. ASCII is decoded directly into {@code chars}; anything
+     * else is handed to the JDK's UTF-8 decoder.
+     *
+     * @param src    the array to decode from.
+     * @param offset the index in {@code src} to start at.
+     * @param length the number of bytes to decode.
+     * @param chars  scratch space with room for at least {@code length} chars.
+     * @return the decoded String.
+     */
+    public static String decode(byte[] src, int offset, int length, char[] chars) {
+        for (int i = 0; i < length; i++) {
+            byte b = src[offset + i];
+
+            if (b < 0) {
+                return new String(src, offset, length, StandardCharsets.UTF_8);
+            }
+
+            chars[i] = (char) b;
+        }
+
+        return new String(chars, 0, length);
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.inductiveautomation.opcua.stack.core;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class TransportTest {
+
+    private static final int MESSAGE_SIZE = 1024;
+
+    @Test
+    public void testSelectedTransportIsAvailable() {
+        assertTrue(Stack.transport().isAvailable());
+        assertTrue(Transport.Nio.isAvailable());
+    }
+
+    @Test
+    public void testTransportProperty() {
+        String previous = System.getProperty(Stack.TRANSPORT_PROPERTY);
+
+        try {
+            System.setProperty(Stack.TRANSPORT_PROPERTY, "nio");
+            assertEquals(Transport.select(), Transport.Nio);
+
+            System.setProperty(Stack.TRANSPORT_PROPERTY, "bogus");
+            assertEquals(Transport.select(), Transport.Epoll.isAvailable() ? Transport.Epoll : Transport.Nio);
+        } finally {
+            if (previous != null) System.setProperty(Stack.TRANSPORT_PROPERTY, previous);
+            else System.clearProperty(Stack.TRANSPORT_PROPERTY);
+        }
+    }
+
+    @DataProvider(name = "TransportProvider")
+    public Object[][] getTransports() {
+        return new Object[][]{{Transport.Nio}, {Transport.Epoll}};
+    }
+
+    @Test(dataProvider = "TransportProvider", description = "Every byte written over each available transport is echoed back.")
+    public void testTransportEcho(Transport transport) throws Exception {
+        if (!transport.isAvailable()) {
+            LoggerFactory.getLogger(getClass()).info("{} transport not available; skipping.", transport);
+            return;
+        }
+
+        echo(transport, 200);
+    }
+
+    @Test(dataProvider = "TransportProvider", groups = "benchmark", description = "Compare echo throughput of the available transports.")
+    public void testTransportThroughput(Transport transport) throws Exception {
+        if (!transport.isAvailable()) {
+            LoggerFactory.getLogger(getClass()).info("{} transport not available; skipping.", transport);
+            return;
+        }
+
+        int messageCount = 20000;
+
+        long elapsed = echo(transport, messageCount);
+
+        LoggerFactory.getLogger(getClass()).info(
+                "{} echo of {} x {} bytes: {}ms",
+                transport, messageCount, MESSAGE_SIZE, elapsed / 1_000_000);
+    }
+
+    /**
+     * Write {@code messageCount} messages to an echo server over {@code transport} and check that all of their bytes
+     * come back, in order.
+     *
+     * @return the time, in nanoseconds, from the first write until the last byte came back.
+     */
+    private long echo(Transport transport, int messageCount) throws Exception {
+        EventLoopGroup eventLoop = transport.newEventLoopGroup(2, r -> {
+            Thread thread = new Thread(r, "transport-test-" + transport);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Channel serverChannel = new ServerBootstrap()
+                    .group(eventLoop)
+                    .channel(transport.getServerSocketChannelClass())
+                    .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                    .childOption(ChannelOption.TCP_NODELAY, true)
+                    .childHandler(new ChannelInboundHandlerAdapter() {
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            ctx.write(msg);
+                        }
+
+                        @Override
+                        public void channelReadComplete(ChannelHandlerContext ctx) {
+                            ctx.flush();
+                        }
+                    })
+                    .bind(new InetSocketAddress("127.0.0.1", 0)).sync().channel();
+
+            long expected = (long) MESSAGE_SIZE * messageCount;
+            AtomicLong received = new AtomicLong(0L);
+            AtomicBoolean corrupted = new AtomicBoolean(false);
+            CompletableFuture<Void> done = new CompletableFuture<>();
+
+            Channel clientChannel = new Bootstrap()
+                    .group(eventLoop)
+                    .channel(transport.getSocketChannelClass())
+                    .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                    .option(ChannelOption.TCP_NODELAY, true)
+                    .handler(new ChannelInboundHandlerAdapter() {
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            ByteBuf buffer = (ByteBuf) msg;
+
+                            // Byte n of the stream is the low byte of the index of the message it belongs to.
+                            long offset = received.get();
+                            for (int i = buffer.readerIndex(); i < buffer.writerIndex(); i++, offset++) {
+                                if (buffer.getByte(i) != (byte) (offset / MESSAGE_SIZE)) corrupted.set(true);
+                            }
+
+                            if (received.addAndGet(buffer.readableBytes()) >= expected) done.complete(null);
+                            buffer.release();
+                        }
+                    })
+                    .connect(serverChannel.localAddress()).sync().channel();
+
+            long start = System.nanoTime();
+
+            for (int i = 0; i < messageCount; i++) {
+                ByteBuf message = clientChannel.alloc().buffer(MESSAGE_SIZE);
+                for (int j = 0; j < MESSAGE_SIZE; j++) {
+                    message.writeByte(i);
+                }
+
+                if (i % 64 == 63) clientChannel.writeAndFlush(message);
+                else clientChannel.write(message);
+            }
+            clientChannel.flush();
+
+            done.get(30, TimeUnit.SECONDS);
+
+            long elapsed = System.nanoTime() - start;
+
+            assertEquals(received.get(), expected);
+            assertFalse(corrupted.get(), "echoed bytes differ from those written");
+
+            clientChannel.close().sync();
+            serverChannel.close().sync();
+
+            return elapsed;
+        } finally {
+            eventLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class ChannelConfigBuilderTest {
+
+    @Test
+    public void testUnsetSettingsAreDefaults() {
+        ChannelConfig config = new ChannelConfigBuilder()
+                .setMaxArrayLength(100)
+                .setLazyExtensionObjects(true)
+                .build();
+
+        assertEquals(config.getMaxArrayLength(), 100);
+        assertTrue(config.isLazyExtensionObjects());
+
+        assertEquals(config.getMaxChunkSize(), ChannelConfig.DEFAULT.getMaxChunkSize());
+        assertEquals(config.getMaxChunkCount(), ChannelConfig.DEFAULT.getMaxChunkCount());
+        assertEquals(config.getMaxMessageSize(), ChannelConfig.DEFAULT.getMaxMessageSize());
+        assertEquals(config.getMaxStringLength(), ChannelConfig.DEFAULT.getMaxStringLength());
+        assertEquals(config.getParallelChunkThreshold(), ChannelConfig.DEFAULT.getParallelChunkThreshold());
+        assertSame(config.getParallelChunkExecutor(), ChannelConfig.DEFAULT.getParallelChunkExecutor());
+        assertSame(config.getSerializationExecutor(), ChannelConfig.DEFAULT.getSerializationExecutor());
+        assertEquals(config.isPrimitiveArrays(), ChannelConfig.DEFAULT.isPrimitiveArrays());
+        assertEquals(config.getRetainedByteStringThreshold(), ChannelConfig.DEFAULT.getRetainedByteStringThreshold());
+        assertEquals(config.getInternCacheSize(), ChannelConfig.DEFAULT.getInternCacheSize());
+        assertEquals(config.isTrustedLocal(), ChannelConfig.DEFAULT.isTrustedLocal());
+        assertEquals(config.isConsolidateFlushes(), ChannelConfig.DEFAULT.isConsolidateFlushes());
+    }
+
+    @Test
+    public void testBuildValidates() {
+        try {
+            new ChannelConfigBuilder().setMaxChunkSize(8192).build();
+            fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
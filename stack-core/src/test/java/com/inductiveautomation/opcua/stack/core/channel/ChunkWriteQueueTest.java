@@ -0,0 +1,110 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ChunkWriteQueueTest {
+
+    @Test
+    public void testChunksQueuedWhileUnwritable() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelDuplexHandler());
+        SerializationQueue serializationQueue = newSerializationQueue();
+        ChunkWriteQueue queue = new ChunkWriteQueue(context(channel), serializationQueue);
+
+        queue.write(chunk(0));
+        assertEquals(channel.outboundMessages().size(), 1);
+
+        setWritable(channel, false);
+        queue.write(chunk(1));
+        queue.write(chunk(2));
+        assertEquals(channel.outboundMessages().size(), 1);
+        assertEquals(queue.size(), 2);
+
+        // Encoding is paused until the queued chunks have been written.
+        CountDownLatch encoded = new CountDownLatch(1);
+        serializationQueue.encode((binaryEncoder, chunkEncoder) -> encoded.countDown());
+        assertEquals(serializationQueue.getEncodingQueueDepth(), 1);
+
+        setWritable(channel, true);
+        queue.channelWritabilityChanged();
+        queue.write(chunk(3));
+
+        assertTrue(encoded.await(5, TimeUnit.SECONDS));
+        assertEquals(channel.outboundMessages().size(), 4);
+
+        for (int i = 0; i < 4; i++) {
+            ByteBuf chunk = (ByteBuf) channel.readOutbound();
+            assertEquals(chunk.getByte(0), i);
+            chunk.release();
+        }
+
+        channel.finish();
+    }
+
+    @Test
+    public void testQueuedChunksReleasedWhenInactive() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelDuplexHandler());
+        SerializationQueue serializationQueue = newSerializationQueue();
+        ChunkWriteQueue queue = new ChunkWriteQueue(context(channel), serializationQueue);
+
+        setWritable(channel, false);
+
+        ByteBuf queued = chunk(0);
+        queue.write(queued);
+
+        CountDownLatch encoded = new CountDownLatch(1);
+        serializationQueue.encode((binaryEncoder, chunkEncoder) -> encoded.countDown());
+
+        queue.channelInactive();
+
+        assertEquals(queued.refCnt(), 0);
+        assertTrue(encoded.await(5, TimeUnit.SECONDS));
+
+        ByteBuf late = chunk(1);
+        queue.write(late);
+
+        assertEquals(late.refCnt(), 0);
+        assertTrue(channel.outboundMessages().isEmpty());
+
+        channel.finish();
+    }
+
+    private static SerializationQueue newSerializationQueue() {
+        ChannelParameters parameters = new ChannelParameters(
+                ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_COUNT,
+                ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_COUNT
+        );
+
+        return new SerializationQueue(parameters,
+                ChannelConfig.DEFAULT_MAX_ARRAY_LENGTH, ChannelConfig.DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    private static ChannelHandlerContext context(EmbeddedChannel channel) {
+        return channel.pipeline().firstContext();
+    }
+
+    private static void setWritable(EmbeddedChannel channel, boolean writable) {
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, writable);
+    }
+
+    private static ByteBuf chunk(int n) {
+        return Unpooled.buffer().writeByte(n);
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class FlushConsolidationHandlerTest {
+
+    /*
+     * EmbeddedChannel runs its pending tasks on every write, so the writes are all done before the flushes.
+     */
+
+    @Test
+    public void testFlushesWithinOneTaskAreConsolidated() {
+        FlushConsolidationHandler.Statistics statistics = new FlushConsolidationHandler.Statistics();
+        EmbeddedChannel channel = new EmbeddedChannel(new FlushConsolidationHandler(statistics));
+
+        for (int i = 0; i < 3; i++) {
+            channel.write(Unpooled.wrappedBuffer(new byte[]{(byte) i}));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            channel.flush();
+        }
+
+        assertTrue(channel.outboundMessages().isEmpty());
+
+        channel.runPendingTasks();
+
+        assertEquals(channel.outboundMessages().size(), 3);
+        assertEquals(statistics.getWriteCount(), 3);
+        assertEquals(statistics.getFlushRequestCount(), 3);
+        assertEquals(statistics.getFlushCount(), 1);
+        assertEquals(statistics.getBatchingFactor(), 3.0d);
+
+        channel.finish();
+    }
+
+    @Test
+    public void testMaxPendingFlushesFlushesRightAway() {
+        FlushConsolidationHandler.Statistics statistics = new FlushConsolidationHandler.Statistics();
+        EmbeddedChannel channel = new EmbeddedChannel(new FlushConsolidationHandler(2, statistics));
+
+        channel.write(Unpooled.wrappedBuffer(new byte[]{0}));
+        channel.write(Unpooled.wrappedBuffer(new byte[]{1}));
+
+        channel.flush();
+        assertTrue(channel.outboundMessages().isEmpty());
+
+        channel.flush();
+        assertEquals(channel.outboundMessages().size(), 2);
+
+        channel.runPendingTasks();
+
+        assertEquals(statistics.getFlushCount(), 1);
+
+        channel.finish();
+    }
+
+    @Test
+    public void testEmptyWritesAreNotCounted() {
+        FlushConsolidationHandler.Statistics statistics = new FlushConsolidationHandler.Statistics();
+        EmbeddedChannel channel = new EmbeddedChannel(new FlushConsolidationHandler(statistics));
+
+        channel.writeAndFlush(Unpooled.EMPTY_BUFFER);
+        channel.runPendingTasks();
+
+        assertEquals(statistics.getWriteCount(), 0);
+        assertEquals(statistics.getFlushCount(), 0);
+        assertEquals(statistics.getBatchingFactor(), 0d);
+
+        channel.finish();
+    }
+
+    @Test
+    public void testPendingFlushDoneOnClose() {
+        FlushConsolidationHandler.Statistics statistics = new FlushConsolidationHandler.Statistics();
+        EmbeddedChannel channel = new EmbeddedChannel(new FlushConsolidationHandler(statistics));
+
+        channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{0}));
+        channel.close();
+
+        assertEquals(channel.outboundMessages().size(), 1);
+        assertEquals(statistics.getFlushCount(), 1);
+
+        channel.finish();
+    }
+
+}
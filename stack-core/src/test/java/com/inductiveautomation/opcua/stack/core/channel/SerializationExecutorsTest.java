@@ -0,0 +1,98 @@
+package com.inductiveautomation.opcua.stack.core.channel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class SerializationExecutorsTest {
+
+    @Test
+    public void testAffinityPinsChannelToLane() throws Exception {
+        SerializationExecutor serializationExecutor = SerializationExecutors.affinity(4);
+
+        Channel channel = newChannel();
+        Executor executor = serializationExecutor.getExecutor(channel);
+
+        assertSame(serializationExecutor.getExecutor(channel), executor);
+        assertEquals(serializationExecutor.getQueueDepths().length, 4);
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch executed = new CountDownLatch(3);
+
+        executor.execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException ignored) {
+            }
+            executed.countDown();
+        });
+        executor.execute(executed::countDown);
+        executor.execute(executed::countDown);
+
+        int[] depths = serializationExecutor.getQueueDepths();
+        assertEquals(depths[0] + depths[1] + depths[2] + depths[3], 2);
+
+        blocked.countDown();
+
+        assertTrue(executed.await(5, TimeUnit.SECONDS));
+
+        serializationExecutor.shutdown();
+        assertTrue(((ExecutorService) executor).isShutdown());
+    }
+
+    @Test
+    public void testBoundedPoolSharedByChannels() {
+        SerializationExecutor serializationExecutor = SerializationExecutors.boundedPool(2);
+
+        assertSame(
+                serializationExecutor.getExecutor(newChannel()),
+                serializationExecutor.getExecutor(newChannel()));
+
+        assertEquals(serializationExecutor.getQueueDepths().length, 1);
+
+        serializationExecutor.shutdown();
+        assertTrue(((ExecutorService) serializationExecutor.getExecutor(null)).isShutdown());
+    }
+
+    @Test
+    public void testSharedExecutorsNotShutDown() {
+        SerializationExecutor boundedPool = SerializationExecutors.boundedPool();
+        SerializationExecutor affinity = SerializationExecutors.affinity();
+
+        assertSame(SerializationExecutors.boundedPool(), boundedPool);
+        assertSame(SerializationExecutors.affinity(), affinity);
+
+        boundedPool.shutdown();
+        affinity.shutdown();
+
+        assertFalse(((ExecutorService) boundedPool.getExecutor(null)).isShutdown());
+        assertFalse(((ExecutorService) affinity.getExecutor(newChannel())).isShutdown());
+    }
+
+    @Test
+    public void testEventLoopRunsOnChannelEventLoop() {
+        SerializationExecutor serializationExecutor = SerializationExecutors.eventLoop();
+
+        Channel channel = newChannel();
+
+        assertSame(serializationExecutor.getExecutor(channel), channel.eventLoop());
+        assertSame(serializationExecutor.getExecutor(null), SerializationExecutors.cachedThreadPool().getExecutor(null));
+        assertEquals(serializationExecutor.getQueueDepths().length, 1);
+    }
+
+    private static Channel newChannel() {
+        return new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    }
+
+}
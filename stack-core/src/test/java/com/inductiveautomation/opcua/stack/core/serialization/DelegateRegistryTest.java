@@ -0,0 +1,121 @@
+package com.inductiveautomation.opcua.stack.core.serialization;
+
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import com.inductiveautomation.opcua.stack.core.Identifiers;
+import com.inductiveautomation.opcua.stack.core.UaSerializationException;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.Test;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class DelegateRegistryTest {
+
+    private final ReadValueId readValueId = new ReadValueId(new NodeId(2, "tag"), uint(13), null, QualifiedName.NULL_VALUE);
+
+    @Test
+    public void testNamespaceZeroLookupMatchesNodeIdLookup() {
+        NodeId encodingId = Identifiers.ReadValueId_Encoding_DefaultBinary;
+        long identifier = ((Number) encodingId.getIdentifier()).longValue();
+
+        assertNotNull(DelegateRegistry.getBinaryDecoder(identifier));
+        assertSame(DelegateRegistry.getBinaryDecoder(identifier), DelegateRegistry.getBinaryDecoder(encodingId));
+        assertSame(DelegateRegistry.getDecoder(identifier), DelegateRegistry.getDecoder(encodingId));
+    }
+
+    @Test
+    public void testUnregisteredNamespaceZeroId() {
+        assertNull(DelegateRegistry.getBinaryDecoder(1L));
+        assertNull(DelegateRegistry.getBinaryDecoder(100000L));
+
+        try {
+            DelegateRegistry.getDecoder(100000L);
+            fail("expected UaSerializationException");
+        } catch (UaSerializationException e) {
+            // expected
+        }
+    }
+
+    @Test(description = "Messages decode whichever format their namespace 0 encoding id is written in.")
+    public void testDecodeMessageWithNumericEncodingId() {
+        ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+
+        long identifier = ((Number) readValueId.getBinaryEncodingId().getIdentifier()).longValue();
+
+        /* Numeric format, even though the id would fit in the four-byte format. */
+        buffer.writeByte(0x02);
+        buffer.writeShort(0);
+        buffer.writeInt((int) identifier);
+        new BinaryEncoder().setBuffer(buffer).encodeSerializable(null, readValueId);
+
+        ReadValueId decoded = new BinaryDecoder().setBuffer(buffer).decodeMessage(null);
+
+        assertEquals(decoded.getNodeId(), readValueId.getNodeId());
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+    @Test(description = "Encoding ids outside namespace 0 are still looked up by NodeId.")
+    public void testDecodeMessageWithCustomEncodingId() {
+        NodeId customEncodingId = new NodeId(2, 5001);
+        DelegateRegistry.registerDecoder(ReadValueId::decode, ReadValueId.class, customEncodingId);
+
+        ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        BinaryEncoder encoder = new BinaryEncoder().setBuffer(buffer);
+        encoder.encodeNodeId(null, customEncodingId);
+        encoder.encodeSerializable(null, readValueId);
+
+        ReadValueId decoded = new BinaryDecoder().setBuffer(buffer).decodeMessage(null);
+
+        assertEquals(decoded.getNodeId(), readValueId.getNodeId());
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+    @Test(description = "Threads racing to look up a structure for the first time all find its delegates.")
+    public void testConcurrentFirstLookup() throws Exception {
+        // Not used by any other test, so this is its first lookup.
+        NodeId encodingId = Identifiers.NetworkGroupDataType_Encoding_DefaultBinary;
+
+        int threadCount = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        Thread[] threads = new Thread[threadCount];
+
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+
+                    assertNotNull(DelegateRegistry.getDecoder(encodingId));
+                    assertNotNull(DelegateRegistry.getBinaryDecoder(encodingId));
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            });
+            threads[i].start();
+        }
+
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.isEmpty(), failures.toString());
+    }
+
+}
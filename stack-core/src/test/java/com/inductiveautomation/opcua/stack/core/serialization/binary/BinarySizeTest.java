@@ -0,0 +1,187 @@
+package com.inductiveautomation.opcua.stack.core.serialization.binary;
+
+import java.util.UUID;
+
+import com.google.common.base.Strings;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.XmlElement;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+import com.inductiveautomation.opcua.stack.core.types.structured.ServiceCounterDataType;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+
+public class BinarySizeTest extends BinarySerializationFixture {
+
+    @DataProvider(name = "VariantProvider")
+    public Object[][] getVariants() {
+        ServiceCounterDataType structure = new ServiceCounterDataType(uint(1), uint(2));
+
+        return new Object[][]{
+                {new Variant(null)},
+                {new Variant("Température")},
+                {new Variant(42)},
+                {new Variant(new Integer[]{0, 1, 2, 3})},
+                {new Variant(new UInteger[][]{{uint(0), uint(1)}, {uint(2), uint(3)}})},
+                {new Variant(new String[]{"a", null, "水"})},
+                {new Variant(new double[]{1.0, 2.0, 3.0})},
+                {new Variant(new short[][]{{1, 2, 3}, {4, 5, 6}})},
+                {new Variant(new boolean[]{true, false})},
+                {new Variant(new NodeId(2, "node"))},
+                {new Variant(new StatusCode(0x80000000L))},
+                {new Variant(new LocalizedText("en", "text"))},
+                {new Variant(structure)},
+                {new Variant(new ServiceCounterDataType[]{structure, structure})},
+                {new Variant(TimestampsToReturn.Both)},
+                {new Variant(new TimestampsToReturn[]{TimestampsToReturn.Source, TimestampsToReturn.Server})}
+        };
+    }
+
+    @Test(dataProvider = "VariantProvider")
+    public void testVariantSize(Variant variant) {
+        encoder.encodeVariant(null, variant);
+
+        assertEquals(BinarySize.sizeOfVariant(variant), buffer.readableBytes());
+    }
+
+    @Test
+    public void testNodeIdSizes() {
+        NodeId[] nodeIds = {
+                null,
+                new NodeId(0, 85),
+                new NodeId(2, 1234),
+                new NodeId(300, 1),
+                new NodeId(3, 123456),
+                new NodeId(2, "Devices/PLC1/Tag1"),
+                new NodeId(2, UUID.randomUUID()),
+                new NodeId(ushort(2), new ByteString(new byte[]{1, 2, 3}))
+        };
+
+        for (NodeId nodeId : nodeIds) {
+            buffer.clear();
+            encoder.encodeNodeId(null, nodeId);
+
+            assertEquals(BinarySize.sizeOfNodeId(nodeId), buffer.readableBytes(), String.valueOf(nodeId));
+        }
+    }
+
+    @Test
+    public void testExpandedNodeIdSizes() {
+        ExpandedNodeId[] expandedNodeIds = {
+                null,
+                new ExpandedNodeId(new NodeId(0, 85)),
+                new ExpandedNodeId(new NodeId(2, "tag"), "urn:test", 0),
+                new ExpandedNodeId(new NodeId(2, 1234), null, 2),
+                new ExpandedNodeId(new NodeId(2, UUID.randomUUID()), "urn:test", 3)
+        };
+
+        for (ExpandedNodeId expandedNodeId : expandedNodeIds) {
+            buffer.clear();
+            encoder.encodeExpandedNodeId(null, expandedNodeId);
+
+            assertEquals(BinarySize.sizeOfExpandedNodeId(expandedNodeId), buffer.readableBytes());
+        }
+    }
+
+    @Test
+    public void testStringAndTextSizes() {
+        String[] strings = {null, "", "Hello", "水Boy", "😀", "a\uD800b", Strings.repeat("Grüße", 1000)};
+
+        for (String s : strings) {
+            buffer.clear();
+            encoder.encodeString(null, s);
+            assertEquals(BinarySize.sizeOfString(s), buffer.readableBytes(), s);
+
+            buffer.clear();
+            encoder.encodeXmlElement(null, new XmlElement(s));
+            assertEquals(BinarySize.sizeOfXmlElement(new XmlElement(s)), buffer.readableBytes(), s);
+
+            if (s == null || s.length() <= 512) {
+                buffer.clear();
+                encoder.encodeQualifiedName(null, new QualifiedName(ushort(1), s));
+                assertEquals(BinarySize.sizeOfQualifiedName(new QualifiedName(ushort(1), s)), buffer.readableBytes(), s);
+            }
+
+            buffer.clear();
+            encoder.encodeLocalizedText(null, new LocalizedText(s, "text"));
+            assertEquals(BinarySize.sizeOfLocalizedText(new LocalizedText(s, "text")), buffer.readableBytes(), s);
+        }
+    }
+
+    @Test
+    public void testExtensionObjectSizes() {
+        NodeId encodingId = new NodeId(2, 1000);
+
+        ExtensionObject[] extensionObjects = {
+                null,
+                new ExtensionObject(new ReadValueId(new NodeId(2, "tag"), uint(13), null, null)),
+                new ExtensionObject(new ByteString(new byte[]{1, 2, 3, 4}), encodingId),
+                new ExtensionObject(new XmlElement("<a>b</a>"), encodingId)
+        };
+
+        for (ExtensionObject extensionObject : extensionObjects) {
+            buffer.clear();
+            encoder.encodeExtensionObject(null, extensionObject);
+
+            assertEquals(BinarySize.sizeOfExtensionObject(extensionObject), buffer.readableBytes());
+        }
+    }
+
+    @Test
+    public void testDataValueAndDiagnosticInfoSizes() {
+        DataValue[] dataValues = {
+                null,
+                new DataValue(new Variant(null)),
+                new DataValue(new Variant(1.5), new StatusCode(0x80000000L)),
+                new DataValue(new Variant("v"), StatusCode.GOOD, DateTime.now()),
+                new DataValue(new Variant(new int[]{1, 2}), StatusCode.GOOD, DateTime.now(), DateTime.now())
+        };
+
+        for (DataValue dataValue : dataValues) {
+            buffer.clear();
+            encoder.encodeDataValue(null, dataValue);
+
+            assertEquals(BinarySize.sizeOfDataValue(dataValue), buffer.readableBytes());
+        }
+
+        DiagnosticInfo inner = new DiagnosticInfo(-1, 2, -1, 4, "inner", null, null);
+
+        DiagnosticInfo[] diagnosticInfos = {
+                null,
+                DiagnosticInfo.NULL_VALUE,
+                new DiagnosticInfo(1, 2, 3, 4, "info", new StatusCode(0x80000000L), inner)
+        };
+
+        for (DiagnosticInfo diagnosticInfo : diagnosticInfos) {
+            buffer.clear();
+            encoder.encodeDiagnosticInfo(null, diagnosticInfo);
+
+            assertEquals(BinarySize.sizeOfDiagnosticInfo(diagnosticInfo), buffer.readableBytes());
+        }
+    }
+
+    @Test
+    public void testMessageSize() {
+        ReadValueId message = new ReadValueId(new NodeId(2, "tag"), uint(13), "1:2", new QualifiedName(ushort(0), "x"));
+
+        encoder.encodeMessage(null, message);
+
+        assertEquals(BinarySize.sizeOfMessage(message), buffer.readableBytes());
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.inductiveautomation.opcua.stack.core.serialization.binary;
+
+import java.util.List;
+
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfigBuilder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import io.netty.buffer.ByteBuf;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class ByteStringSerializationTest extends BinarySerializationFixture {
+
+    @DataProvider(name = "ByteStringProvider")
+    public Object[][] getByteStrings() {
+        return new Object[][]{
+                {ByteString.NULL_VALUE},
+                {new ByteString(new byte[0])},
+                {new ByteString(new byte[]{1, 2, 3, 4})},
+                {new ByteString(new byte[1024])}
+        };
+    }
+
+    @Test(dataProvider = "ByteStringProvider", description = "ByteString is round-trip serializable.")
+    public void testByteStringRoundTrip(ByteString byteString) {
+        encoder.encodeByteString(null, byteString);
+        ByteString decoded = decoder.decodeByteString(null);
+
+        assertEquals(decoded, byteString);
+        assertTrue(decoder.drainRetainedByteStrings().isEmpty());
+    }
+
+    @Test(description = "ByteStrings at or above the threshold are decoded as retained slices.")
+    public void testRetainedByteString() {
+        BinaryDecoder retainingDecoder = new BinaryDecoder(new ChannelConfigBuilder()
+                .setMaxArrayLength(Integer.MAX_VALUE)
+                .setMaxStringLength(Integer.MAX_VALUE)
+                .setRetainedByteStringThreshold(16)
+                .build()).setBuffer(buffer);
+
+        byte[] large = new byte[64];
+        for (int i = 0; i < large.length; i++) large[i] = (byte) i;
+
+        encoder.encodeByteString(null, new ByteString(new byte[]{1, 2, 3}));
+        encoder.encodeByteString(null, new ByteString(large));
+        encoder.encodeByteString(null, new ByteString(large));
+
+        ByteString small = retainingDecoder.decodeByteString(null);
+        ByteString first = retainingDecoder.decodeByteString(null);
+        ByteString second = retainingDecoder.decodeByteString(null);
+
+        List<ByteString> retained = retainingDecoder.drainRetainedByteStrings();
+        assertEquals(retained.size(), 2);
+        assertTrue(retainingDecoder.drainRetainedByteStrings().isEmpty());
+
+        assertEquals(small.bytes(), new byte[]{1, 2, 3});
+        assertFalse(small.isBufferBacked());
+        assertEquals(buffer.refCnt(), 3);
+
+        /* Re-encoding copies straight from the retained slice. */
+        encoder.encodeByteString(null, first);
+        assertEquals(buffer.refCnt(), 3);
+        assertEquals(first.length(), 64);
+        assertEquals(first.byteAt(63), 63);
+
+        /* The buffer it returns holds a reference of its own. */
+        ByteBuf firstBuffer = first.asByteBuf();
+        assertNotNull(firstBuffer);
+        assertEquals(buffer.refCnt(), 4);
+        firstBuffer.release();
+        assertEquals(buffer.refCnt(), 3);
+
+        /* Copying to the heap doesn't release the slice. */
+        assertTrue(first.isBufferBacked());
+        assertEquals(first.bytes(), large);
+        assertFalse(first.isBufferBacked());
+        assertEquals(buffer.refCnt(), 3);
+
+        second.release();
+        assertEquals(buffer.refCnt(), 2);
+
+        try {
+            second.bytes();
+            fail("expected IllegalStateException");
+        } catch (IllegalStateException expected) {
+        }
+
+        retained.forEach(ByteString::release);
+        assertEquals(buffer.refCnt(), 1);
+        assertEquals(first.bytes(), large);
+
+        ByteString reencoded = decoder.decodeByteString(null);
+        assertEquals(reencoded, first);
+    }
+
+    @Test(description = "A retained ByteString stays readable until every reference has been released.")
+    public void testRetainedByteStringReferenceCount() {
+        BinaryDecoder retainingDecoder = new BinaryDecoder(new ChannelConfigBuilder()
+                .setRetainedByteStringThreshold(1)
+                .build()).setBuffer(buffer);
+
+        encoder.encodeByteString(null, new ByteString(new byte[]{1, 2, 3}));
+
+        ByteString byteString = retainingDecoder.decodeByteString(null);
+        assertTrue(byteString.isBufferBacked());
+
+        /* Kept by whoever it was handed to beyond the reference the decoder's caller holds. */
+        byteString.retain();
+
+        retainingDecoder.drainRetainedByteStrings().forEach(ByteString::release);
+        assertEquals(buffer.refCnt(), 2);
+        assertEquals(byteString.byteAt(2), 3);
+
+        byteString.release();
+        assertEquals(buffer.refCnt(), 1);
+
+        try {
+            byteString.retain();
+            fail("expected IllegalStateException");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test(description = "A detached ByteString is copied to the heap and no longer holds on to its buffer.")
+    public void testDetachedByteString() {
+        BinaryDecoder retainingDecoder = new BinaryDecoder(new ChannelConfigBuilder()
+                .setRetainedByteStringThreshold(1)
+                .build()).setBuffer(buffer);
+
+        encoder.encodeByteString(null, new ByteString(new byte[]{1, 2, 3}));
+
+        ByteString byteString = retainingDecoder.decodeByteString(null);
+        retainingDecoder.drainRetainedByteStrings().forEach(ByteString::detach);
+
+        assertEquals(buffer.refCnt(), 1);
+        assertFalse(byteString.isBufferBacked());
+        assertEquals(byteString.bytes(), new byte[]{1, 2, 3});
+    }
+
+}
@@ -1,10 +1,26 @@
 package com.inductiveautomation.opcua.stack.core.serialization.binary;
 
+import java.nio.ByteOrder;
+
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.UaSerializationException;
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfigBuilder;
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.UaEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.UaSerializable;
 import com.inductiveautomation.opcua.stack.core.types.builtin.*;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
 
 public class ExtensionObjectSerializationTest extends BinarySerializationFixture {
 
@@ -24,4 +40,97 @@ public class ExtensionObjectSerializationTest extends BinarySerializationFixture
         assertEquals(decoded, xo);
     }
 
+    @Test
+    public void testLazyExtensionObject() throws Exception {
+        ReadValueId readValueId = new ReadValueId(new NodeId(2, "tag"), uint(13), null, null);
+
+        encoder.encodeExtensionObject(null, new ExtensionObject(readValueId));
+        ByteBuf encoded = buffer.copy();
+
+        BinaryDecoder lazyDecoder = new BinaryDecoder(new ChannelConfigBuilder()
+                .setLazyExtensionObjects(true)
+                .build());
+
+        ExtensionObject xo = lazyDecoder.setBuffer(buffer).decodeExtensionObject(null);
+        assertNotNull(xo.getEncodedBody());
+        assertEquals(BinarySize.sizeOfExtensionObject(xo), encoded.readableBytes());
+
+        // Never touched; re-encoded by copying the body.
+        ByteBuf reencoded = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        new BinaryEncoder().setBuffer(reencoded).encodeExtensionObject(null, xo);
+        assertEquals(reencoded, encoded);
+        assertNotNull(xo.getEncodedBody());
+
+        // Decoded on first access.
+        ReadValueId decoded = (ReadValueId) xo.getObject();
+        assertEquals(decoded.getNodeId(), readValueId.getNodeId());
+        assertEquals(decoded.getAttributeId(), readValueId.getAttributeId());
+        assertNull(xo.getEncodedBody());
+
+        reencoded.clear();
+        new BinaryEncoder().setBuffer(reencoded).encodeExtensionObject(null, xo);
+        assertEquals(reencoded, encoded);
+    }
+
+    @Test
+    public void testLazyExtensionObjectOutlivesRetainedByteStrings() throws Exception {
+        ReadValueId readValueId = new ReadValueId(new NodeId(2, "tag"), uint(13), null, null);
+
+        encoder.encodeExtensionObject(null, new ExtensionObject(readValueId));
+        ByteBuf encoded = buffer.copy();
+
+        BinaryDecoder lazyDecoder = new BinaryDecoder(new ChannelConfigBuilder()
+                .setRetainedByteStringThreshold(1)
+                .setLazyExtensionObjects(true)
+                .build());
+
+        ExtensionObject xo = lazyDecoder.setBuffer(buffer).decodeExtensionObject(null);
+        assertFalse(xo.getEncodedBody().isBufferBacked());
+
+        // What the channel does once the response to the message has been encoded.
+        lazyDecoder.drainRetainedByteStrings().forEach(ByteString::release);
+
+        ByteBuf reencoded = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        new BinaryEncoder().setBuffer(reencoded).encodeExtensionObject(null, xo);
+        assertEquals(reencoded, encoded);
+
+        ReadValueId decoded = (ReadValueId) xo.getObject();
+        assertEquals(decoded.getNodeId(), readValueId.getNodeId());
+    }
+
+    @Test
+    public void testLazyExtensionObjectWithUnknownEncoding() throws Exception {
+        ByteString body = ByteString.of(new byte[]{1, 2, 3, 4});
+
+        encoder.encodeExtensionObject(null, new ExtensionObject(body, new NodeId(1, 2)));
+
+        BinaryDecoder lazyDecoder = new BinaryDecoder(new ChannelConfigBuilder()
+                .setLazyExtensionObjects(true)
+                .build());
+
+        ExtensionObject xo = lazyDecoder.setBuffer(buffer).decodeExtensionObject(null);
+
+        assertEquals(xo.getObject(), body);
+        assertEquals(xo.getDataTypeEncodingId(), new NodeId(1, 2));
+    }
+
+    @Test(description = "A body that encodes to a different length than its size delegate computed is an error.")
+    public void testBodySizeMismatch() {
+        DelegateRegistry.registerEncoder(
+                (MisSized value, UaEncoder encoder) -> encoder.encodeInt32(null, 42),
+                MisSized.class);
+        DelegateRegistry.registerBinarySize((MisSized value) -> 2, MisSized.class);
+
+        try {
+            encoder.encodeExtensionObject(null, new ExtensionObject(new MisSized(), new NodeId(1, 2)));
+            fail("expected UaSerializationException");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), StatusCodes.Bad_EncodingError);
+        }
+    }
+
+    /** Encoded by a 4 byte Int32, but sized as 2 bytes. */
+    private static class MisSized implements UaSerializable {
+    }
+
 }
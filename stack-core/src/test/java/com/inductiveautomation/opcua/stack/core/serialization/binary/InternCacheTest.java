@@ -0,0 +1,139 @@
+package com.inductiveautomation.opcua.stack.core.serialization.binary;
+
+import java.util.UUID;
+
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfig;
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfigBuilder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class InternCacheTest extends BinarySerializationFixture {
+
+    private InternCache internCache;
+    private BinaryDecoder internDecoder;
+
+    @BeforeMethod
+    public void setUpInternDecoder() {
+        internDecoder = internDecoder(64);
+        internCache = internDecoder.getInternCache();
+    }
+
+    @Test
+    public void testNodeIdsAreInterned() {
+        NodeId[] nodeIds = {
+                new NodeId(0, 85),
+                new NodeId(2, 1234),
+                new NodeId(3, 123456),
+                new NodeId(2, "Devices/PLC1/Tag1"),
+                new NodeId(2, UUID.randomUUID())
+        };
+
+        for (NodeId nodeId : nodeIds) {
+            encoder.encodeNodeId(null, nodeId);
+            encoder.encodeNodeId(null, nodeId);
+
+            NodeId first = internDecoder.decodeNodeId(null);
+            NodeId second = internDecoder.decodeNodeId(null);
+
+            assertEquals(first, nodeId);
+            assertSame(second, first);
+        }
+
+        assertEquals(internCache.getNodeIds().getHitCount(), nodeIds.length);
+        assertEquals(internCache.getNodeIds().getMissCount(), nodeIds.length);
+        assertEquals(internCache.getNodeIds().getHitRate(), 0.5);
+        assertTrue(!buffer.isReadable());
+    }
+
+    @Test
+    public void testOpaqueNodeIdsAreNotInterned() {
+        NodeId nodeId = new NodeId(ushort(2), new ByteString(new byte[]{1, 2, 3}));
+
+        encoder.encodeNodeId(null, nodeId);
+        encoder.encodeNodeId(null, nodeId);
+
+        NodeId first = internDecoder.decodeNodeId(null);
+        NodeId second = internDecoder.decodeNodeId(null);
+
+        assertEquals(first, nodeId);
+        assertEquals(second, nodeId);
+        assertNotSame(second, first);
+        assertEquals(internCache.getNodeIds().getHitCount() + internCache.getNodeIds().getMissCount(), 0);
+    }
+
+    @Test
+    public void testQualifiedNamesAndStringsAreInterned() {
+        QualifiedName qualifiedName = new QualifiedName(ushort(2), "Temperature");
+
+        encoder.encodeQualifiedName(null, qualifiedName);
+        encoder.encodeQualifiedName(null, qualifiedName);
+        encoder.encodeString(null, "Temperature");
+        encoder.encodeString(null, null);
+
+        QualifiedName first = internDecoder.decodeQualifiedName(null);
+        QualifiedName second = internDecoder.decodeQualifiedName(null);
+        String name = internDecoder.decodeString(null);
+
+        assertEquals(first, qualifiedName);
+        assertSame(second, first);
+        assertSame(name, first.getName());
+        assertNull(internDecoder.decodeString(null));
+
+        assertEquals(internCache.getQualifiedNames().getHitCount(), 1);
+        assertEquals(internCache.getStrings().getHitCount(), 1);
+        assertEquals(internCache.getHitCount(), 2);
+        assertEquals(internCache.getMissCount(), 2);
+    }
+
+    @Test
+    public void testDifferentNamespacesAreDistinct() {
+        encoder.encodeNodeId(null, new NodeId(2, "Tag"));
+        encoder.encodeNodeId(null, new NodeId(3, "Tag"));
+
+        NodeId ns2 = internDecoder.decodeNodeId(null);
+        NodeId ns3 = internDecoder.decodeNodeId(null);
+
+        assertEquals(ns2.getNamespaceIndex(), ushort(2));
+        assertEquals(ns3.getNamespaceIndex(), ushort(3));
+        assertEquals(internCache.getNodeIds().getHitCount(), 0);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        BinaryDecoder smallDecoder = internDecoder(1);
+        InternCache small = smallDecoder.getInternCache();
+
+        encoder.encodeNodeId(null, new NodeId(0, 1));
+        encoder.encodeNodeId(null, new NodeId(0, 2));
+        encoder.encodeNodeId(null, new NodeId(0, 1));
+
+        smallDecoder.decodeNodeId(null);
+        smallDecoder.decodeNodeId(null);
+        NodeId evicted = smallDecoder.decodeNodeId(null);
+
+        assertEquals(evicted, new NodeId(0, 1));
+        assertEquals(small.getNodeIds().getHitCount(), 0);
+        assertEquals(small.getNodeIds().getMissCount(), 3);
+    }
+
+    private BinaryDecoder internDecoder(int internCacheSize) {
+        ChannelConfig config = new ChannelConfigBuilder()
+                .setMaxArrayLength(Integer.MAX_VALUE)
+                .setMaxStringLength(Integer.MAX_VALUE)
+                .setInternCacheSize(internCacheSize)
+                .build();
+
+        return new BinaryDecoder(config).setBuffer(buffer);
+    }
+
+}
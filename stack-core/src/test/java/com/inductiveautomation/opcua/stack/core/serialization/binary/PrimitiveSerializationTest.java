@@ -0,0 +1,57 @@
+package com.inductiveautomation.opcua.stack.core.serialization.binary;
+
+import org.testng.annotations.Test;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class PrimitiveSerializationTest extends BinarySerializationFixture {
+
+    @Test(description = "Primitive writes are read back by both the primitive and boxed reads.")
+    public void testPrimitiveRoundTrip() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            encoder.writeBoolean(null, true);
+            encoder.writeSByte(null, Byte.MIN_VALUE);
+            encoder.writeInt16(null, Short.MIN_VALUE);
+            encoder.writeInt32(null, Integer.MIN_VALUE);
+            encoder.writeInt64(null, Long.MIN_VALUE);
+            encoder.writeByte(null, (short) 255);
+            encoder.writeUInt16(null, 65535);
+            encoder.writeUInt32(null, 4294967295L);
+            encoder.writeUInt64(null, -1L);
+            encoder.writeFloat(null, 1.5f);
+            encoder.writeDouble(null, Math.PI);
+        }
+
+        assertTrue(decoder.readBoolean(null));
+        assertEquals(decoder.readSByte(null), Byte.MIN_VALUE);
+        assertEquals(decoder.readInt16(null), Short.MIN_VALUE);
+        assertEquals(decoder.readInt32(null), Integer.MIN_VALUE);
+        assertEquals(decoder.readInt64(null), Long.MIN_VALUE);
+        assertEquals(decoder.readByteAsShort(null), 255);
+        assertEquals(decoder.readUInt16AsInt(null), 65535);
+        assertEquals(decoder.readUInt32AsLong(null), 4294967295L);
+        assertEquals(decoder.readUInt64AsLong(null), -1L);
+        assertEquals(decoder.readFloat(null), 1.5f);
+        assertEquals(decoder.readDouble(null), Math.PI);
+
+        assertEquals(decoder.decodeBoolean(null), Boolean.TRUE);
+        assertEquals(decoder.decodeSByte(null), Byte.valueOf(Byte.MIN_VALUE));
+        assertEquals(decoder.decodeInt16(null), Short.valueOf(Short.MIN_VALUE));
+        assertEquals(decoder.decodeInt32(null), Integer.valueOf(Integer.MIN_VALUE));
+        assertEquals(decoder.decodeInt64(null), Long.valueOf(Long.MIN_VALUE));
+        assertEquals(decoder.decodeByte(null), ubyte(255));
+        assertEquals(decoder.decodeUInt16(null), ushort(65535));
+        assertEquals(decoder.decodeUInt32(null), uint(4294967295L));
+        assertEquals(decoder.decodeUInt64(null), ulong(-1L));
+        assertEquals(decoder.decodeFloat(null), 1.5f);
+        assertEquals(decoder.decodeDouble(null), Math.PI);
+
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+}
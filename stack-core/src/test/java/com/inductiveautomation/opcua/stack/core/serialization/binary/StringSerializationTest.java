@@ -1,5 +1,14 @@
 package com.inductiveautomation.opcua.stack.core.serialization.binary;
 
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.base.Strings;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.slf4j.LoggerFactory;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -13,7 +22,11 @@ public class StringSerializationTest extends BinarySerializationFixture {
                 {null},
                 {""},
                 {"Hello, world!"},
-                {"水Boy"}
+                {"水Boy"},
+                {"Grüße, Zürich"},
+                {"😀 smile"},
+                {Strings.repeat("ns=2;s=Devices/PLC1/Tag", 100)},
+                {Strings.repeat("Température", 5000)}
         };
     }
 
@@ -25,4 +38,96 @@ public class StringSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, value);
     }
 
+    @Test(dataProvider = "StringProvider", description = "Strings round trip through buffers without a backing array.")
+    public void testStringRoundTripDirect(String value) {
+        ByteBuf direct = Unpooled.directBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            new BinaryEncoder().setBuffer(direct).encodeString(null, value);
+            String decoded = new BinaryDecoder().setBuffer(direct).decodeString(null);
+
+            assertEquals(decoded, value);
+        } finally {
+            direct.release();
+        }
+    }
+
+    @Test(description = "Encoding matches String#getBytes, including unpaired surrogates.")
+    public void testEncodingMatchesJdk() {
+        String[] values = {"a\uD800b", "\uDC00", "x\uD83D", "水😀é"};
+
+        for (String value : values) {
+            encoder.encodeString(null, value);
+
+            byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+            byte[] actual = new byte[buffer.readInt()];
+            buffer.readBytes(actual);
+
+            assertEquals(actual, expected, value);
+        }
+    }
+
+    @Test(groups = "benchmark", description = "Compare against encoding via String#getBytes and decoding via ByteBuf#toString.")
+    public void testStringCodecThroughput() {
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            /* NodeId identifier, BrowseName and DisplayName of each reference in a BrowseResponse. */
+            strings.add("Devices/PLC" + (i % 8) + "/Tags/Tag" + i);
+            strings.add("Tag" + i);
+            strings.add(i % 50 == 0 ? "Température " + i : "Temperature " + i);
+        }
+
+        ByteBuf buffer = Unpooled.directBuffer().order(ByteOrder.LITTLE_ENDIAN);
+        BinaryEncoder encoder = new BinaryEncoder().setBuffer(buffer);
+        BinaryDecoder decoder = new BinaryDecoder().setBuffer(buffer);
+
+        try {
+            long legacyNanos = 0, nanos = 0;
+
+            for (int round = 0; round < 50; round++) {
+                buffer.clear();
+                long start = System.nanoTime();
+                for (String s : strings) {
+                    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                    buffer.writeInt(bytes.length);
+                    buffer.writeBytes(bytes);
+                }
+                List<String> legacyDecoded = new ArrayList<>(strings.size());
+                while (buffer.isReadable()) {
+                    int length = buffer.readInt();
+                    legacyDecoded.add(buffer.toString(buffer.readerIndex(), length, StandardCharsets.UTF_8));
+                    buffer.skipBytes(length);
+                }
+                legacyNanos += System.nanoTime() - start;
+
+                byte[] legacyBytes = new byte[buffer.writerIndex()];
+                buffer.getBytes(0, legacyBytes);
+
+                buffer.clear();
+                start = System.nanoTime();
+                for (String s : strings) {
+                    encoder.encodeString(null, s);
+                }
+                List<String> decoded = new ArrayList<>(strings.size());
+                while (buffer.isReadable()) {
+                    decoded.add(decoder.decodeString(null));
+                }
+                nanos += System.nanoTime() - start;
+
+                byte[] bytes = new byte[buffer.writerIndex()];
+                buffer.getBytes(0, bytes);
+
+                assertEquals(bytes, legacyBytes);
+                assertEquals(decoded, legacyDecoded);
+                assertEquals(decoded, strings);
+            }
+
+            LoggerFactory.getLogger(getClass()).info(
+                    "String round trip of {} strings x 50: getBytes/toString={}ms, Utf8Util={}ms",
+                    strings.size(), legacyNanos / 1_000_000, nanos / 1_000_000);
+        } finally {
+            buffer.release();
+        }
+    }
+
 }
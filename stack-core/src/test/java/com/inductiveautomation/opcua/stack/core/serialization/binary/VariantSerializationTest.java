@@ -1,5 +1,6 @@
 package com.inductiveautomation.opcua.stack.core.serialization.binary;
 
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfigBuilder;
 import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.inductiveautomation.opcua.stack.core.types.structured.ServiceCounterDataType;
@@ -74,4 +75,53 @@ public class VariantSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, expected);
     }
 
+    @DataProvider(name = "BulkPrimitiveArrayProvider")
+    public Object[][] getBulkPrimitiveArrays() {
+        double[] waveform = new double[10000];
+        for (int i = 0; i < waveform.length; i++) {
+            waveform[i] = Math.sin(i);
+        }
+
+        return new Object[][]{
+                {new boolean[]{true, false, true}},
+                {new byte[]{Byte.MIN_VALUE, 0, Byte.MAX_VALUE}},
+                {new short[]{Short.MIN_VALUE, 0, Short.MAX_VALUE}},
+                {new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE}},
+                {new long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE}},
+                {new float[]{Float.MIN_VALUE, 0f, Float.NaN}},
+                {waveform},
+                {new int[][]{{0, 1}, {2, 3}}},
+                {new float[0]}
+        };
+    }
+
+    @Test(dataProvider = "BulkPrimitiveArrayProvider",
+            description = "Test that primitive arrays round trip through the bulk primitive array paths.")
+    public void testBulkPrimitiveArrayRoundTrip(Object array) {
+        BinaryDecoder primitiveDecoder = new BinaryDecoder(new ChannelConfigBuilder()
+                .setMaxArrayLength(Integer.MAX_VALUE)
+                .setMaxStringLength(Integer.MAX_VALUE)
+                .setPrimitiveArrays(true)
+                .build()).setBuffer(buffer);
+
+        encoder.encodeVariant(null, new Variant(array));
+        Variant decoded = primitiveDecoder.decodeVariant(null);
+
+        assertEquals(decoded, new Variant(array));
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+    @Test(description = "Test that primitive and boxed arrays have the same encoding.")
+    public void testPrimitiveArrayEncodedAsBoxedArray() {
+        encoder.encodeVariant(null, new Variant(new double[]{0.5, -1.0, Double.MAX_VALUE}));
+        byte[] primitive = new byte[buffer.readableBytes()];
+        buffer.readBytes(primitive);
+
+        encoder.encodeVariant(null, new Variant(new Double[]{0.5, -1.0, Double.MAX_VALUE}));
+        byte[] boxed = new byte[buffer.readableBytes()];
+        buffer.readBytes(boxed);
+
+        assertEquals(primitive, boxed);
+    }
+
 }
@@ -0,0 +1,50 @@
+package com.inductiveautomation.opcua.stack.core.types;
+
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import com.google.common.reflect.ClassPath;
+import com.inductiveautomation.opcua.stack.core.Identifiers;
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.UaStructure;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class DelegateIndexTest {
+
+    @Test(description = "Every structure in the structured package is in the index under its encoding ids.")
+    public void testIndexCoversEveryStructure() throws Exception {
+        ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+
+        for (ClassPath.ClassInfo classInfo : classPath.getTopLevelClasses(DelegateIndex.StructuredPackage)) {
+            Class<?> clazz = classInfo.load();
+
+            if (UaStructure.class.isAssignableFrom(clazz) && !Modifier.isAbstract(clazz.getModifiers())) {
+                UaStructure structure = (UaStructure) clazz.newInstance();
+
+                assertTrue(DelegateIndex.Structures.contains(clazz.getSimpleName()), clazz.getName());
+                assertEquals(DelegateIndex.StructuresByEncodingId.get(structure.getBinaryEncodingId()), clazz.getSimpleName());
+                assertEquals(DelegateIndex.StructuresByEncodingId.get(structure.getXmlEncodingId()), clazz.getSimpleName());
+            }
+        }
+    }
+
+    @Test(description = "Every indexed encoding id resolves to a generic and a binary delegate.")
+    public void testDelegatesResolvedByEncodingId() throws Exception {
+        for (Map.Entry<NodeId, String> entry : DelegateIndex.StructuresByEncodingId.entrySet()) {
+            assertNotNull(DelegateRegistry.getDecoder(entry.getKey()), entry.getValue());
+            assertNotNull(DelegateRegistry.getEncoder(entry.getKey()), entry.getValue());
+        }
+
+        for (String name : DelegateIndex.Structures) {
+            NodeId binaryEncodingId = (NodeId) Identifiers.class.getField(name + "_Encoding_DefaultBinary").get(null);
+
+            assertNotNull(DelegateRegistry.getBinaryDecoder(binaryEncodingId), name);
+        }
+    }
+
+}
@@ -0,0 +1,299 @@
+package com.inductiveautomation.opcua.stack.core.types.structured.binary;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.google.common.reflect.ClassPath;
+import com.inductiveautomation.opcua.stack.core.serialization.DelegateRegistry;
+import com.inductiveautomation.opcua.stack.core.serialization.EncoderDelegate;
+import com.inductiveautomation.opcua.stack.core.serialization.UaSerializable;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryDecoderDelegate;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoderDelegate;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySizeDelegate;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.XmlElement;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.inductiveautomation.opcua.stack.core.types.structured.DataChangeNotification;
+import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemNotification;
+import com.inductiveautomation.opcua.stack.core.types.structured.NotificationMessage;
+import com.inductiveautomation.opcua.stack.core.types.structured.PublishResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.ServiceCounterDataType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.fail;
+
+public class BinaryCodecTest {
+
+    @DataProvider(name = "StructureProvider")
+    public Object[][] getStructures() throws Exception {
+        ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+
+        List<Class<?>> structures = classPath
+                .getTopLevelClasses("com.inductiveautomation.opcua.stack.core.types.structured.binary").stream()
+                .map(ClassPath.ClassInfo::getSimpleName)
+                .filter(name -> name.endsWith("BinaryCodec"))
+                .map(name -> name.substring(0, name.length() - "BinaryCodec".length()))
+                .map(name -> load("com.inductiveautomation.opcua.stack.core.types.structured." + name))
+                .sorted(Comparator.comparing(Class::getSimpleName))
+                .collect(Collectors.toList());
+
+        return structures.stream().map(c -> new Object[]{c}).toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "StructureProvider",
+            description = "Generated binary codecs encode the same bytes as the generic delegates and decode them back.")
+    public void testBinaryCodecMatchesGenericDelegate(Class<? extends UaSerializable> clazz) throws Exception {
+        UaSerializable populated = newInstance(clazz, 0);
+        UaSerializable empty = clazz.newInstance();
+
+        for (UaSerializable value : Arrays.asList(populated, empty)) {
+            byte[] generic;
+
+            try {
+                generic = encodeGeneric(value);
+            } catch (RuntimeException e) {
+                /* Some null fields, e.g. Variants, can't be encoded; the binary codec should fail the same way. */
+                try {
+                    encodeBinary(value);
+                    fail("expected " + e.getClass().getSimpleName() + " encoding " + clazz.getSimpleName());
+                } catch (RuntimeException expected) {
+                    assertEquals(expected.getClass(), e.getClass());
+                }
+                continue;
+            }
+
+            byte[] binary = encodeBinary(value);
+
+            assertEquals(binary, generic, clazz.getSimpleName());
+
+            ByteBuf buffer = Unpooled.wrappedBuffer(binary).order(ByteOrder.LITTLE_ENDIAN);
+            UaSerializable decoded = binaryDecoder(clazz).decode(new BinaryDecoder().setBuffer(buffer));
+
+            assertEquals(buffer.readableBytes(), 0, clazz.getSimpleName());
+            assertEquals(encodeGeneric(decoded), encodeGeneric(decodeGeneric(clazz, generic)), clazz.getSimpleName());
+        }
+    }
+
+    @Test(dataProvider = "StructureProvider", description = "Generated sizeOf methods compute exactly the encoded length.")
+    public void testSizeOfMatchesEncodedLength(Class<? extends UaSerializable> clazz) throws Exception {
+        BinarySizeDelegate<UaSerializable> sizeDelegate = DelegateRegistry.getBinarySize(clazz);
+        assertNotNull(sizeDelegate, clazz.getSimpleName());
+
+        for (UaSerializable value : Arrays.asList(newInstance(clazz, 0), clazz.newInstance())) {
+            byte[] encoded;
+
+            try {
+                encoded = encodeBinary(value);
+            } catch (RuntimeException e) {
+                continue;
+            }
+
+            assertEquals(sizeDelegate.sizeOf(value), encoded.length, clazz.getSimpleName());
+
+            /* Encoded as the body of an ExtensionObject, the length prefix is checked against the body. */
+            ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+            new BinaryEncoder().setBuffer(buffer).encodeExtensionObject(null, new ExtensionObject(value, NodeId.NULL_VALUE));
+            assertEquals(buffer.getInt(buffer.writerIndex() - encoded.length - 4), encoded.length, clazz.getSimpleName());
+        }
+    }
+
+    @Test(groups = "benchmark", description = "Compare generated binary codecs against the generic delegates.")
+    public void testBinaryCodecThroughput() throws Exception {
+        RequestHeader requestHeader = new RequestHeader(
+                NodeId.NULL_VALUE, new DateTime(), uint(1), uint(0), null, uint(10000), null);
+        ResponseHeader responseHeader = new ResponseHeader(
+                new DateTime(), uint(1), new StatusCode(0L), null, new String[0], null);
+
+        ReadValueId[] nodesToRead = new ReadValueId[100];
+        DataValue[] values = new DataValue[100];
+        MonitoredItemNotification[] notifications = new MonitoredItemNotification[100];
+
+        for (int i = 0; i < 100; i++) {
+            nodesToRead[i] = new ReadValueId(new NodeId(2, "Devices/PLC1/Tag" + i), uint(13), null, QualifiedName.NULL_VALUE);
+            values[i] = new DataValue(new Variant(i * 1.5), new StatusCode(0L), new DateTime(), new DateTime());
+            notifications[i] = new MonitoredItemNotification(uint(i), values[i]);
+        }
+
+        DataChangeNotification dataChange = new DataChangeNotification(notifications, new DiagnosticInfo[0]);
+
+        UaSerializable[] messages = {
+                new ReadRequest(requestHeader, 0.0, TimestampsToReturn.Both, nodesToRead),
+                new ReadResponse(responseHeader, values, null),
+                new PublishResponse(responseHeader, uint(1), new UInteger[]{uint(1)}, false,
+                        new NotificationMessage(uint(1), new DateTime(),
+                                new ExtensionObject[]{new ExtensionObject(dataChange, DataChangeNotification.BinaryEncodingId)}),
+                        null, null)
+        };
+
+        for (UaSerializable message : messages) {
+            byte[] encoded = encodeGeneric(message);
+            long genericNanos = 0, binaryNanos = 0;
+
+            for (int round = 0; round < 4000; round++) {
+                if (round == 2000) {
+                    /* Warmed up; start measuring. */
+                    genericNanos = binaryNanos = 0;
+                }
+
+                long start = System.nanoTime();
+                encodeGeneric(message);
+                decodeGeneric(message.getClass(), encoded);
+                genericNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                encodeBinary(message);
+                decodeBinary(message.getClass(), encoded);
+                binaryNanos += System.nanoTime() - start;
+            }
+
+            assertNotNull(decodeBinary(message.getClass(), encoded));
+
+            LoggerFactory.getLogger(getClass()).info(
+                    "{} round trip x 2000: generic={}ms, binary codec={}ms",
+                    message.getClass().getSimpleName(), genericNanos / 1_000_000, binaryNanos / 1_000_000);
+        }
+    }
+
+    private static byte[] encodeGeneric(UaSerializable value) {
+        ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        EncoderDelegate<UaSerializable> delegate = DelegateRegistry.getEncoder(value);
+        delegate.encode(value, new BinaryEncoder().setBuffer(buffer));
+        return bytes(buffer);
+    }
+
+    private static byte[] encodeBinary(UaSerializable value) {
+        ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        BinaryEncoderDelegate<UaSerializable> delegate = DelegateRegistry.getBinaryEncoder(value.getClass());
+        delegate.encode(value, new BinaryEncoder().setBuffer(buffer));
+        return bytes(buffer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UaSerializable decodeGeneric(Class<?> clazz, byte[] bs) {
+        ByteBuf buffer = Unpooled.wrappedBuffer(bs).order(ByteOrder.LITTLE_ENDIAN);
+        return DelegateRegistry.getDecoder((Class<UaSerializable>) clazz).decode(new BinaryDecoder().setBuffer(buffer));
+    }
+
+    private static UaSerializable decodeBinary(Class<?> clazz, byte[] bs) {
+        ByteBuf buffer = Unpooled.wrappedBuffer(bs).order(ByteOrder.LITTLE_ENDIAN);
+        return binaryDecoder(clazz).decode(new BinaryDecoder().setBuffer(buffer));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BinaryDecoderDelegate<UaSerializable> binaryDecoder(Class<?> clazz) {
+        return DelegateRegistry.getBinaryDecoder((Class<UaSerializable>) clazz);
+    }
+
+    private static byte[] bytes(ByteBuf buffer) {
+        byte[] bs = new byte[buffer.readableBytes()];
+        buffer.readBytes(bs);
+        return bs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends UaSerializable> load(String className) {
+        try {
+            return (Class<? extends UaSerializable>) Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Create an instance of {@code clazz} with every field populated, nesting structures up to a few levels deep.
+     */
+    private static UaSerializable newInstance(Class<?> clazz, int depth) throws Exception {
+        Constructor<?> constructor = Arrays.stream(clazz.getConstructors())
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .orElseThrow(() -> new IllegalStateException("no constructor: " + clazz));
+
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+
+        for (int i = 0; i < args.length; i++) {
+            args[i] = newValue(parameterTypes[i], depth);
+        }
+
+        return (UaSerializable) constructor.newInstance(args);
+    }
+
+    private static Object newValue(Class<?> type, int depth) throws Exception {
+        if (type.isArray()) {
+            Object array = Array.newInstance(type.getComponentType(), 2);
+            for (int i = 0; i < 2; i++) {
+                Array.set(array, i, newValue(type.getComponentType(), depth));
+            }
+            return array;
+        } else if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants[constants.length - 1];
+        } else if (UaSerializable.class.isAssignableFrom(type)) {
+            return depth < 3 ? newInstance(type, depth + 1) : type.newInstance();
+        }
+
+        switch (type.getSimpleName()) {
+            case "Boolean": return true;
+            case "Byte": return (byte) -1;
+            case "Short": return (short) -2;
+            case "Integer": return -3;
+            case "Long": return -4L;
+            case "Float": return 1.5f;
+            case "Double": return 2.5;
+            case "String": return "value";
+            case "UByte": return ubyte(1);
+            case "UShort": return ushort(2);
+            case "UInteger": return uint(3);
+            case "ULong": return ulong(4L);
+            case "UUID": return new UUID(1L, 2L);
+            case "ByteString": return new ByteString(new byte[]{1, 2, 3});
+            case "DateTime": return new DateTime(5L);
+            case "NodeId": return new NodeId(2, "node");
+            case "ExpandedNodeId": return new ExpandedNodeId(new NodeId(3, 3), "urn:test", 0);
+            case "StatusCode": return new StatusCode(0x80000000L);
+            case "QualifiedName": return new QualifiedName(1, "name");
+            case "LocalizedText": return new LocalizedText("en", "text");
+            case "XmlElement": return new XmlElement("<a/>");
+            case "Variant": return new Variant(42);
+            case "DataValue": return new DataValue(new Variant("v"), new StatusCode(0L), new DateTime(6L));
+            case "ExtensionObject": return new ExtensionObject(new ServiceCounterDataType(uint(7), uint(8)));
+            case "DiagnosticInfo": return new DiagnosticInfo(1, 2, 3, 4, "info", new StatusCode(0x80000000L),
+                    new DiagnosticInfo(-1, 5, -1, -1, null, null, null));
+            default: throw new IllegalArgumentException("unhandled type: " + type);
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.inductiveautomation.opcua.stack.core.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ExecutionQueueTest {
+
+    private static final String BENCHMARK = "benchmark";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterClass(alwaysRun = true)
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @DataProvider
+    public Object[][] getProducerCounts() {
+        return new Object[][]{{1}, {8}, {64}};
+    }
+
+    @Test(dataProvider = "getProducerCounts")
+    public void testItemsExecutedInSubmissionOrder(int producerCount) throws Exception {
+        submitAndDrain(producerCount, 1000);
+    }
+
+    @Test(dataProvider = "getProducerCounts", groups = BENCHMARK)
+    public void testThroughput(int producerCount) throws Exception {
+        int itemsPerProducer = 20000;
+
+        long elapsedNanos = submitAndDrain(producerCount, itemsPerProducer);
+
+        logger.info("producers={}, items={}, items/sec={}", producerCount, producerCount * itemsPerProducer,
+                (long) (producerCount * itemsPerProducer / (elapsedNanos / 1e9)));
+    }
+
+    /**
+     * Submit {@code itemsPerProducer} items from each of {@code producerCount} threads at once and check that the
+     * queue executes them one at a time, in each producer's order, and drains.
+     *
+     * @return the time, in nanoseconds, from the producers starting until every item was executed.
+     */
+    private long submitAndDrain(int producerCount, int itemsPerProducer) throws Exception {
+        int itemCount = producerCount * itemsPerProducer;
+
+        int[] lastSequence = new int[producerCount];
+        Arrays.fill(lastSequence, -1);
+
+        AtomicBoolean executing = new AtomicBoolean(false);
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+        AtomicBoolean outOfOrder = new AtomicBoolean(false);
+        CountDownLatch executed = new CountDownLatch(itemCount);
+
+        // Items are encoded as producer * itemsPerProducer + sequence.
+        ExecutionQueue<Integer> queue = new ExecutionQueue<>(item -> {
+            if (!executing.compareAndSet(false, true)) overlapped.set(true);
+
+            int producer = item / itemsPerProducer;
+            int sequence = item % itemsPerProducer;
+
+            if (lastSequence[producer] + 1 != sequence) outOfOrder.set(true);
+            lastSequence[producer] = sequence;
+
+            executing.set(false);
+            executed.countDown();
+        }, executor);
+
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int p = 0; p < producerCount; p++) {
+            final int producer = p;
+
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                for (int i = 0; i < itemsPerProducer; i++) {
+                    queue.submit(producer * itemsPerProducer + i);
+                }
+            });
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+
+        assertTrue(executed.await(30, TimeUnit.SECONDS));
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        assertFalse(overlapped.get(), "items executed concurrently");
+        assertFalse(outOfOrder.get(), "items executed out of order");
+        assertEquals(queue.size(), 0);
+
+        return elapsedNanos;
+    }
+
+    @Test
+    public void testPausedQueueExecutesNothingUntilResumed() {
+        List<Integer> executed = Lists.newArrayList();
+        AtomicReference<ExecutionQueue<Integer>> queueRef = new AtomicReference<>();
+
+        ExecutionQueue<Integer> queue = new ExecutionQueue<>(item -> {
+            executed.add(item);
+
+            // Pausing while an item executes stops the queue after it.
+            if (item == 0) queueRef.get().pause();
+        }, Runnable::run);
+
+        queueRef.set(queue);
+
+        queue.submit(0);
+        queue.submit(1);
+
+        assertTrue(queue.isPaused());
+        assertEquals(executed, Lists.newArrayList(0));
+        assertEquals(queue.size(), 1);
+
+        queue.submit(2);
+        assertEquals(executed, Lists.newArrayList(0));
+
+        queue.resume();
+
+        assertFalse(queue.isPaused());
+        assertEquals(executed, Lists.newArrayList(0, 1, 2));
+        assertEquals(queue.size(), 0);
+    }
+
+}
@@ -23,6 +23,8 @@ import com.inductiveautomation.opcua.stack.core.channel.messages.ErrorMessage;
 import com.inductiveautomation.opcua.stack.core.channel.messages.MessageType;
 import com.inductiveautomation.opcua.stack.core.security.SecurityAlgorithm;
 import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
 import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
 import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
 import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
@@ -253,6 +255,9 @@ public class UaTcpServerAsymmetricHandler extends ByteToMessageDecoder implement
                         logger.error("Error decoding asymmetric message: {}", e.getMessage(), e);
                         ctx.close();
                     } finally {
+                        /* Nonces and certificates outlive the message; copy any retained ByteStrings to the heap. */
+                        binaryDecoder.drainRetainedByteStrings().forEach(ByteString::detach);
+
                         if (messageBuffer != null) {
                             messageBuffer.release();
                         }
@@ -337,7 +342,7 @@ public class UaTcpServerAsymmetricHandler extends ByteToMessageDecoder implement
 
     private void sendOpenSecureChannelResponse(ChannelHandlerContext ctx, long requestId, OpenSecureChannelResponse response) {
         serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
-            ByteBuf messageBuffer = BufferUtil.buffer();
+            ByteBuf messageBuffer = BufferUtil.buffer(BinarySize.sizeOfMessage(response));
 
             try {
                 binaryEncoder.setBuffer(messageBuffer);
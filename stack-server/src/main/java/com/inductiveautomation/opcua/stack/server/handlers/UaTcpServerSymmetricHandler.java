@@ -3,13 +3,17 @@ package com.inductiveautomation.opcua.stack.server.handlers;
 import java.io.IOException;
 import java.nio.ByteOrder;
 import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaException;
 import com.inductiveautomation.opcua.stack.core.application.services.ServiceRequest;
 import com.inductiveautomation.opcua.stack.core.application.services.ServiceResponse;
 import com.inductiveautomation.opcua.stack.core.channel.ChannelSecurity;
+import com.inductiveautomation.opcua.stack.core.channel.ChunkEncoder;
+import com.inductiveautomation.opcua.stack.core.channel.ChunkWriteQueue;
 import com.inductiveautomation.opcua.stack.core.channel.ExceptionHandler;
 import com.inductiveautomation.opcua.stack.core.channel.SerializationQueue;
 import com.inductiveautomation.opcua.stack.core.channel.ServerSecureChannel;
@@ -19,7 +23,13 @@ import com.inductiveautomation.opcua.stack.core.channel.messages.ErrorMessage;
 import com.inductiveautomation.opcua.stack.core.channel.messages.MessageType;
 import com.inductiveautomation.opcua.stack.core.serialization.UaRequestMessage;
 import com.inductiveautomation.opcua.stack.core.serialization.UaResponseMessage;
-import com.inductiveautomation.opcua.stack.core.util.BufferUtil;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.inductiveautomation.opcua.stack.core.serialization.binary.BinarySize;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.ServiceFault;
 import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServer;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -31,7 +41,13 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private List<ByteBuf> chunkBuffers;
+    private int chunkCount = 0;
+
+    /** Writes the chunks of encoded messages without blocking while the channel isn't writable. */
+    private ChunkWriteQueue chunkWriteQueue;
+
+    /** ByteStrings decoded without copying, by the id of the request they belong to. */
+    private final Map<Long, List<ByteString>> retainedByteStrings = Maps.newConcurrentMap();
 
     private final int maxChunkCount;
     private final int maxChunkSize;
@@ -51,11 +67,12 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
         maxChunkCount = serializationQueue.getParameters().getLocalMaxChunkCount();
         maxChunkSize = serializationQueue.getParameters().getLocalReceiveBufferSize();
 
-        chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
     }
 
     @Override
     public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        chunkWriteQueue = new ChunkWriteQueue(ctx, serializationQueue);
+
         if (secureChannel != null) {
             secureChannel.attr(UaTcpServer.BoundChannelKey).set(ctx.channel());
         }
@@ -63,44 +80,115 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
         super.channelActive(ctx);
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        chunkWriteQueue.channelWritabilityChanged();
+
+        super.channelWritabilityChanged(ctx);
+    }
+
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        chunkWriteQueue.channelInactive();
+
         if (secureChannel != null) {
             secureChannel.attr(UaTcpServer.BoundChannelKey).remove();
         }
 
+        /*
+         * Responses to these requests will never be encoded by this handler. Wait for pending decodes, which may
+         * still retain ByteStrings, and then pending encodes, which may still release them.
+         */
+        serializationQueue.decode((binaryDecoder, chunkDecoder) ->
+                serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
+                    retainedByteStrings.values().forEach(this::releaseByteStrings);
+                    retainedByteStrings.clear();
+                }));
+
         super.channelInactive(ctx);
     }
 
+    private void releaseByteStrings(@Nullable List<ByteString> byteStrings) {
+        if (byteStrings != null) {
+            byteStrings.forEach(ByteString::release);
+        }
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, ServiceResponse message, ByteBuf out) throws Exception {
         serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
-            ByteBuf messageBuffer = BufferUtil.buffer();
-
             try {
-                binaryEncoder.setBuffer(messageBuffer);
-                binaryEncoder.encodeMessage(null, message.getResponse());
-
-                final List<ByteBuf> chunks = chunkEncoder.encodeSymmetric(
-                        secureChannel,
-                        MessageType.SecureMessage,
-                        messageBuffer,
-                        message.getRequestId()
-                );
-
-                ctx.executor().execute(() -> {
-                    chunks.forEach(c -> ctx.write(c, ctx.voidPromise()));
-                    ctx.flush();
-                });
+                encodeResponse(ctx, binaryEncoder, chunkEncoder, message.getResponse(), message.getRequestId());
             } catch (UaException e) {
+                if (e.getStatusCode().getValue() == StatusCodes.Bad_TcpMessageTooLarge) {
+                    /* Nothing has been sent yet; answer with a fault instead of a response the client can't accept. */
+                    logger.warn("Response to request id={} too large: {}", message.getRequestId(), e.getMessage());
+
+                    encodeServiceFault(ctx, binaryEncoder, chunkEncoder, message, StatusCodes.Bad_ResponseTooLarge);
+                } else {
+                    logger.error("Error encoding {}: {}", message.getResponse().getClass(), e.getMessage(), e);
+                    ctx.close();
+                }
+            } catch (RuntimeException e) {
+                /*
+                 * The response couldn't be serialized, e.g. a value exceeded an encoding limit. Any chunks already
+                 * sent have been aborted; answer with a fault so the client isn't left waiting.
+                 */
                 logger.error("Error encoding {}: {}", message.getResponse().getClass(), e.getMessage(), e);
-                ctx.close();
+
+                encodeServiceFault(ctx, binaryEncoder, chunkEncoder, message, StatusCodes.Bad_EncodingError);
             } finally {
-                messageBuffer.release();
+                releaseByteStrings(retainedByteStrings.remove(message.getRequestId()));
             }
         });
     }
 
+    /**
+     * Answer the request {@code message} responds to with a {@link ServiceFault} instead, closing the channel if even
+     * that can't be encoded.
+     */
+    private void encodeServiceFault(ChannelHandlerContext ctx,
+                                    BinaryEncoder binaryEncoder,
+                                    ChunkEncoder chunkEncoder,
+                                    ServiceResponse message,
+                                    long statusCode) {
+
+        ResponseHeader header = message.getResponse().getResponseHeader();
+
+        ServiceFault serviceFault = new ServiceFault(new ResponseHeader(
+                DateTime.now(),
+                header.getRequestHandle(),
+                new StatusCode(statusCode),
+                null, null, null
+        ));
+
+        try {
+            encodeResponse(ctx, binaryEncoder, chunkEncoder, serviceFault, message.getRequestId());
+        } catch (UaException | RuntimeException e) {
+            logger.error("Error encoding ServiceFault: {}", e.getMessage(), e);
+            ctx.close();
+        }
+    }
+
+    /**
+     * Size {@code response} and then encode it straight into chunks, which are written as soon as they're ready.
+     */
+    private void encodeResponse(ChannelHandlerContext ctx,
+                                BinaryEncoder binaryEncoder,
+                                ChunkEncoder chunkEncoder,
+                                UaResponseMessage response,
+                                long requestId) throws UaException {
+
+        chunkEncoder.encodeSymmetric(
+                secureChannel,
+                MessageType.SecureMessage,
+                sink -> binaryEncoder.setSink(sink).encodeMessage(null, response),
+                BinarySize.sizeOfMessage(response),
+                requestId,
+                chunkWriteQueue::write
+        );
+    }
+
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf buffer, List<Object> out) throws Exception {
         buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
@@ -127,97 +215,106 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
 
         char chunkType = (char) buffer.readByte();
 
-        if (chunkType == 'A') {
-            chunkBuffers.forEach(ByteBuf::release);
-            chunkBuffers.clear();
-        } else {
-            buffer.skipBytes(4); // Skip messageSize
-
-            long secureChannelId = buffer.readUnsignedInt();
-            if (secureChannelId != secureChannel.getChannelId()) {
-                throw new UaException(StatusCodes.Bad_SecureChannelIdInvalid,
-                        "invalid secure channel id: " + secureChannelId);
-            }
-
-            SymmetricSecurityHeader securityHeader = SymmetricSecurityHeader.decode(buffer);
+        buffer.skipBytes(4); // Skip messageSize
 
-            ChannelSecurity channelSecurity = secureChannel.getChannelSecurity();
-            long currentTokenId = channelSecurity.getCurrentToken().getTokenId().longValue();
-            long receivedTokenId = securityHeader.getTokenId();
+        long secureChannelId = buffer.readUnsignedInt();
+        if (secureChannelId != secureChannel.getChannelId()) {
+            throw new UaException(StatusCodes.Bad_SecureChannelIdInvalid,
+                    "invalid secure channel id: " + secureChannelId);
+        }
 
-            if (receivedTokenId != currentTokenId) {
-                long previousTokenId = channelSecurity.getPreviousToken()
-                        .map(t -> t.getTokenId().longValue())
-                        .orElse(-1L);
+        SymmetricSecurityHeader securityHeader = SymmetricSecurityHeader.decode(buffer);
 
-                logger.debug("receivedTokenId={} did not match currentTokenId={}",
-                        receivedTokenId, currentTokenId);
+        ChannelSecurity channelSecurity = secureChannel.getChannelSecurity();
+        long currentTokenId = channelSecurity.getCurrentToken().getTokenId().longValue();
+        long receivedTokenId = securityHeader.getTokenId();
 
-                if (receivedTokenId != previousTokenId) {
-                    logger.warn("receivedTokenId={} did not match previousTokenId={}",
-                            receivedTokenId, previousTokenId);
+        if (receivedTokenId != currentTokenId) {
+            long previousTokenId = channelSecurity.getPreviousToken()
+                    .map(t -> t.getTokenId().longValue())
+                    .orElse(-1L);
 
-                    throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown,
-                            "unknown secure channel token: " + receivedTokenId);
-                }
+            logger.debug("receivedTokenId={} did not match currentTokenId={}",
+                    receivedTokenId, currentTokenId);
 
-                logger.debug("receivedTokenId={} matched previousTokenId={}",
+            if (receivedTokenId != previousTokenId) {
+                logger.warn("receivedTokenId={} did not match previousTokenId={}",
                         receivedTokenId, previousTokenId);
-            }
 
-            int chunkSize = buffer.readerIndex(0).readableBytes();
-
-            if (chunkSize > maxChunkSize) {
-                throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
-                        String.format("max chunk size exceeded (%s)", maxChunkSize));
+                throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown,
+                        "unknown secure channel token: " + receivedTokenId);
             }
 
-            chunkBuffers.add(buffer.retain());
+            logger.debug("receivedTokenId={} matched previousTokenId={}",
+                    receivedTokenId, previousTokenId);
+        }
 
-            if (chunkBuffers.size() > maxChunkCount) {
-                throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
-                        String.format("max chunk count exceeded (%s)", maxChunkCount));
-            }
+        int chunkSize = buffer.readerIndex(0).readableBytes();
 
-            if (chunkType == 'F') {
-                final List<ByteBuf> buffersToDecode = chunkBuffers;
-                chunkBuffers = Lists.newArrayListWithCapacity(maxChunkCount);
+        if (chunkSize > maxChunkSize) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                    String.format("max chunk size exceeded (%s)", maxChunkSize));
+        }
 
-                serializationQueue.decode((binaryDecoder, chunkDecoder) -> {
-                    try {
-                        ByteBuf messageBuffer = chunkDecoder.decodeSymmetric(
-                                secureChannel,
-                                MessageType.SecureMessage,
-                                buffersToDecode
-                        );
+        if (++chunkCount > maxChunkCount) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                    String.format("max chunk count exceeded (%s)", maxChunkCount));
+        }
 
-                        binaryDecoder.setBuffer(messageBuffer);
-                        UaRequestMessage request = binaryDecoder.decodeMessage(null);
+        if (chunkType != 'C') chunkCount = 0;
 
-                        ServiceRequest<UaRequestMessage, UaResponseMessage> serviceRequest = new ServiceRequest<>(
-                                request,
-                                chunkDecoder.getRequestId(),
-                                server,
-                                secureChannel
-                        );
+        ByteBuf chunkBuffer = buffer.retain();
 
-                        server.getExecutorService().execute(() -> server.receiveRequest(serviceRequest));
+        serializationQueue.decode((binaryDecoder, chunkDecoder) -> {
+            try {
+                ByteBuf messageBuffer = chunkDecoder.decodeSymmetricChunk(secureChannel, chunkBuffer);
+
+                if (messageBuffer != null) {
+                    binaryDecoder.setBuffer(messageBuffer);
+                    UaRequestMessage request;
 
+                    try {
+                        request = binaryDecoder.decodeMessage(null);
+                    } catch (RuntimeException e) {
+                        binaryDecoder.drainRetainedByteStrings().forEach(ByteString::release);
+                        throw e;
+                    } finally {
                         messageBuffer.release();
-                        buffersToDecode.clear();
-                    } catch (UaException e) {
-                        logger.error("Error decoding symmetric message: {}", e.getMessage(), e);
-                        ctx.close();
                     }
-                });
+
+                    long requestId = chunkDecoder.getRequestId();
+
+                    /*
+                     * The request's reference to each ByteString decoded without copying is released once the
+                     * response has been encoded; a service that keeps one longer retains it.
+                     */
+                    List<ByteString> retained = binaryDecoder.drainRetainedByteStrings();
+
+                    if (!retained.isEmpty()) {
+                        retainedByteStrings.put(requestId, retained);
+                    }
+
+                    ServiceRequest<UaRequestMessage, UaResponseMessage> serviceRequest = new ServiceRequest<>(
+                            request,
+                            requestId,
+                            server,
+                            secureChannel
+                    );
+
+                    server.getExecutorService().execute(() -> server.receiveRequest(serviceRequest));
+                }
+            } catch (UaException e) {
+                logger.error("Error decoding symmetric message: {}", e.getMessage(), e);
+                ctx.close();
             }
-        }
+        });
     }
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
-        chunkBuffers.forEach(ByteBuf::release);
-        chunkBuffers.clear();
+        chunkCount = 0;
+
+        serializationQueue.decode((binaryDecoder, chunkDecoder) -> chunkDecoder.discardSymmetricChunks());
 
         if (cause instanceof IOException) {
             ctx.close();
@@ -0,0 +1,130 @@
+package com.inductiveautomation.opcua.stack.server.handlers;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import com.inductiveautomation.opcua.stack.core.application.services.ServiceRequest;
+import com.inductiveautomation.opcua.stack.core.application.services.ServiceResponse;
+import com.inductiveautomation.opcua.stack.core.channel.ServerSecureChannel;
+import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
+import com.inductiveautomation.opcua.stack.core.serialization.UaRequestMessage;
+import com.inductiveautomation.opcua.stack.core.serialization.UaResponseMessage;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.inductiveautomation.opcua.stack.core.types.structured.EndpointDescription;
+import com.inductiveautomation.opcua.stack.server.tcp.SocketServer;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServer;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sits at the end of an {@code opc.local} channel's pipeline and serves clients that, after Hello/Acknowledge, send
+ * {@link UaRequestMessage}s as objects instead of opening a secure channel. Responses to them are written back as
+ * {@link UaResponseMessage}s.
+ * <p>
+ * The first request is only accepted if the server has {@code trustedLocal} set in its ChannelConfig, the endpoint
+ * URL from the Hello has an endpoint with no security, and no secure channel has been opened on this channel;
+ * otherwise the channel is closed.
+ */
+public class UaTcpServerTrustedLocalHandler extends ChannelDuplexHandler {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private long requestId = 0L;
+
+    private UaTcpServer server;
+    private ServerSecureChannel secureChannel;
+
+    private final SocketServer socketServer;
+
+    public UaTcpServerTrustedLocalHandler(SocketServer socketServer) {
+        this.socketServer = socketServer;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (!(msg instanceof UaRequestMessage)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        if (secureChannel == null && !openSecureChannel(ctx)) {
+            ctx.close();
+            return;
+        }
+
+        ServiceRequest<UaRequestMessage, UaResponseMessage> serviceRequest = new ServiceRequest<>(
+                (UaRequestMessage) msg,
+                requestId++,
+                server,
+                secureChannel
+        );
+
+        server.getExecutorService().execute(() -> server.receiveRequest(serviceRequest));
+    }
+
+    private boolean openSecureChannel(ChannelHandlerContext ctx) {
+        String endpointUrl = ctx.channel().attr(UaTcpServerHelloHandler.ENDPOINT_URL_KEY).get();
+        UaTcpServer server = endpointUrl != null ? socketServer.getServer(endpointUrl) : null;
+
+        if (server == null || !server.getChannelConfig().isTrustedLocal()) {
+            logger.warn("[remote={}] Trusted local request rejected; not enabled for {}.",
+                    ctx.channel().remoteAddress(), endpointUrl);
+            return false;
+        }
+
+        Optional<EndpointDescription> endpoint = Arrays.stream(server.getEndpointDescriptions())
+                .filter(e -> endpointUrl.equals(e.getEndpointUrl()))
+                .filter(e -> SecurityPolicy.None.getSecurityPolicyUri().equals(e.getSecurityPolicyUri()))
+                .findFirst();
+
+        if (!endpoint.isPresent()) {
+            logger.warn("[remote={}] Trusted local request rejected; no endpoint without security at {}.",
+                    ctx.channel().remoteAddress(), endpointUrl);
+            return false;
+        }
+
+        if (ctx.pipeline().get(UaTcpServerAsymmetricHandler.class) == null) {
+            logger.warn("[remote={}] Trusted local request rejected; a secure channel is already open.",
+                    ctx.channel().remoteAddress());
+            return false;
+        }
+
+        ctx.pipeline().remove(UaTcpServerAsymmetricHandler.class);
+
+        ServerSecureChannel secureChannel = server.openSecureChannel();
+        secureChannel.setSecurityPolicy(SecurityPolicy.None);
+        secureChannel.setMessageSecurityMode(MessageSecurityMode.None);
+        secureChannel.setEndpointDescription(endpoint.get());
+        secureChannel.attr(UaTcpServer.BoundChannelKey).set(ctx.channel());
+
+        this.server = server;
+        this.secureChannel = secureChannel;
+
+        logger.debug("[remote={}] Opened trusted local {}.", ctx.channel().remoteAddress(), secureChannel);
+
+        return true;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof ServiceResponse) {
+            ctx.write(((ServiceResponse) msg).getResponse(), promise);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (secureChannel != null) {
+            secureChannel.attr(UaTcpServer.BoundChannelKey).remove();
+            server.closeSecureChannel(secureChannel);
+        }
+
+        super.channelInactive(ctx);
+    }
+
+}
@@ -1,24 +1,45 @@
 package com.inductiveautomation.opcua.stack.server.tcp;
 
+import java.io.IOException;
+import java.net.ConnectException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 
 import com.google.common.collect.Maps;
 import com.inductiveautomation.opcua.stack.core.Stack;
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.Transport;
+import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfig;
 import com.inductiveautomation.opcua.stack.server.handlers.UaTcpServerHelloHandler;
+import com.inductiveautomation.opcua.stack.server.handlers.UaTcpServerTrustedLocalHandler;
+import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.DomainSocketChannel;
+import io.netty.channel.unix.ServerDomainSocketChannel;
 import io.netty.handler.logging.LoggingHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,18 +50,30 @@ public class SocketServer {
 
     private final Map<String, UaTcpServer> servers = Maps.newConcurrentMap();
 
-    private volatile Channel channel;
+    private final List<Channel> channels = new CopyOnWriteArrayList<>();
 
     private final ServerBootstrap bootstrap = new ServerBootstrap();
 
-    private final InetSocketAddress address;
+    private final SocketAddress address;
+    private final int acceptors;
 
-    private SocketServer(InetSocketAddress address) {
+    private SocketServer(InetSocketAddress address, int acceptors) {
         this.address = address;
 
+        if (acceptors > 1 && Stack.transport() != Transport.Epoll) {
+            logger.warn("SO_REUSEPORT requires the epoll transport; binding a single acceptor to {}.", address);
+            acceptors = 1;
+        }
+
+        this.acceptors = acceptors;
+
+        if (acceptors > 1) {
+            bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+        }
+
         bootstrap.group(Stack.sharedEventLoop())
                 .handler(new LoggingHandler(SocketServer.class))
-                .channel(NioServerSocketChannel.class)
+                .channel(Stack.transport().getServerSocketChannelClass())
                 .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childOption(ChannelOption.TCP_NODELAY, true)
                 .childHandler(new ChannelInitializer<SocketChannel>() {
@@ -51,24 +84,84 @@ public class SocketServer {
                 });
     }
 
+    private SocketServer(LocalAddress address) {
+        this.address = address;
+        this.acceptors = 1;
+
+        bootstrap.group(Stack.sharedEventLoop())
+                .handler(new LoggingHandler(SocketServer.class))
+                .channel(LocalServerChannel.class)
+                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childHandler(new ChannelInitializer<LocalChannel>() {
+                    @Override
+                    protected void initChannel(LocalChannel channel) throws Exception {
+                        channel.pipeline().addLast(new UaTcpServerHelloHandler(SocketServer.this));
+                        channel.pipeline().addLast(new UaTcpServerTrustedLocalHandler(SocketServer.this));
+                    }
+                });
+    }
+
+    private SocketServer(DomainSocketAddress address) throws UaException {
+        this.address = address;
+        this.acceptors = 1;
+
+        Class<? extends ServerDomainSocketChannel> channelClass = Stack.transport()
+                .getServerDomainSocketChannelClass()
+                .orElseThrow(() -> new UaException(StatusCodes.Bad_NotSupported,
+                        "Unix domain sockets require the epoll transport"));
+
+        bootstrap.group(Stack.sharedEventLoop())
+                .handler(new LoggingHandler(SocketServer.class))
+                .channel(channelClass)
+                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childHandler(new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(Channel channel) throws Exception {
+                        channel.pipeline().addLast(new UaTcpServerHelloHandler(SocketServer.this));
+                    }
+                });
+    }
+
     public synchronized void bind() throws ExecutionException, InterruptedException {
-        if (channel != null) return; // Already bound
+        if (!channels.isEmpty()) return; // Already bound
+
+        Channel channel = bind(address);
+        channels.add(channel);
+
+        if (acceptors > 1) {
+            /* The rest are bound to the port the first was bound to, in case it was ephemeral. */
+            InetSocketAddress boundAddress = new InetSocketAddress(
+                    ((InetSocketAddress) address).getAddress(), ((InetSocketAddress) channel.localAddress()).getPort());
+
+            try {
+                for (int i = 1; i < acceptors; i++) {
+                    channels.add(bind(boundAddress));
+                }
+            } catch (ExecutionException | InterruptedException e) {
+                /* Don't leave the acceptors already bound listening; bind() can be retried. */
+                channels.forEach(c -> c.close().awaitUninterruptibly());
+                channels.clear();
+
+                throw e;
+            }
+        }
+    }
 
-        CompletableFuture<Void> bindFuture = new CompletableFuture<>();
+    private Channel bind(SocketAddress address) throws ExecutionException, InterruptedException {
+        CompletableFuture<Channel> bindFuture = new CompletableFuture<>();
 
         bootstrap.bind(address).addListener(new ChannelFutureListener() {
             @Override
             public void operationComplete(ChannelFuture future) throws Exception {
                 if (future.isSuccess()) {
-                    channel = future.channel();
-                    bindFuture.complete(null);
+                    bindFuture.complete(future.channel());
                 } else {
                     bindFuture.completeExceptionally(future.cause());
                 }
             }
         });
 
-        bindFuture.get();
+        return bindFuture.get();
     }
 
     public void addServer(UaTcpServer server) {
@@ -104,11 +197,18 @@ public class SocketServer {
     }
 
     public SocketAddress getLocalAddress() {
-        return channel != null ? channel.localAddress() : null;
+        return channels.isEmpty() ? null : channels.get(0).localAddress();
+    }
+
+    /**
+     * @return the number of listening sockets bound to this server's address.
+     */
+    public int getAcceptorCount() {
+        return channels.size();
     }
 
     public void shutdown() {
-        if (channel != null) channel.close();
+        channels.forEach(Channel::close);
     }
 
     public static synchronized SocketServer boundTo(String address) throws Exception {
@@ -119,6 +219,10 @@ public class SocketServer {
         return boundTo(InetAddress.getByName(address), port);
     }
 
+    public static synchronized SocketServer boundTo(String address, int port, int acceptors) throws Exception {
+        return boundTo(new InetSocketAddress(InetAddress.getByName(address), port), acceptors);
+    }
+
     public static synchronized SocketServer boundTo(InetAddress address) throws Exception {
         return boundTo(address, Stack.DEFAULT_PORT);
     }
@@ -128,10 +232,73 @@ public class SocketServer {
     }
 
     public static synchronized SocketServer boundTo(InetSocketAddress address) throws Exception {
+        return boundTo(address, 1);
+    }
+
+    /**
+     * Get the {@link SocketServer} bound to {@code address}, binding a new one if there isn't one yet.
+     * <p>
+     * If {@code acceptors} is greater than 1 a new server binds that many listening sockets to {@code address} with
+     * SO_REUSEPORT, each registered with the next event loop of {@link Stack#sharedEventLoop()}, and the kernel
+     * balances incoming connections across them. A good choice is the number of event loop threads. This requires the
+     * epoll transport; on any other transport a single socket is bound.
+     *
+     * @param address   the address to bind to.
+     * @param acceptors the number of listening sockets to bind.
+     * @return the {@link SocketServer} bound to {@code address}.
+     */
+    public static synchronized SocketServer boundTo(InetSocketAddress address, int acceptors) throws Exception {
+        if (socketServers.containsKey(address)) {
+            return socketServers.get(address);
+        } else {
+            SocketServer server = new SocketServer(address, acceptors);
+            server.bind();
+
+            socketServers.put(address, server);
+
+            return server;
+        }
+    }
+
+    /**
+     * Get the {@link SocketServer} bound to the in-JVM {@code address}, binding a new one if there isn't one yet.
+     * <p>
+     * Connections to it skip the kernel entirely but otherwise speak UA TCP: Hello/Acknowledge, then a secure
+     * channel, unless both ends have {@link ChannelConfig#isTrustedLocal()} set.
+     *
+     * @param address the local address to bind to.
+     * @return the {@link SocketServer} bound to {@code address}.
+     */
+    public static synchronized SocketServer boundTo(LocalAddress address) throws Exception {
+        if (socketServers.containsKey(address)) {
+            return socketServers.get(address);
+        } else {
+            SocketServer server = new SocketServer(address);
+            server.bind();
+
+            socketServers.put(address, server);
+
+            return server;
+        }
+    }
+
+    /**
+     * Get the {@link SocketServer} bound to the Unix domain socket {@code address}, binding a new one if there isn't
+     * one yet. A socket file left behind at that path by a server that didn't shut down cleanly, i.e. one that
+     * refuses connections, is deleted first; the file is deleted again when the server shuts down.
+     *
+     * @param address the domain socket address to bind to.
+     * @return the {@link SocketServer} bound to {@code address}.
+     * @throws UaException if the {@link Stack#transport()} doesn't support Unix domain sockets, or if something other
+     *                     than a stale socket is at the path.
+     */
+    public static synchronized SocketServer boundTo(DomainSocketAddress address) throws Exception {
         if (socketServers.containsKey(address)) {
             return socketServers.get(address);
         } else {
             SocketServer server = new SocketServer(address);
+
+            deleteStaleSocket(address);
             server.bind();
 
             socketServers.put(address, server);
@@ -140,11 +307,67 @@ public class SocketServer {
         }
     }
 
+    /**
+     * Delete the socket file at {@code address} if nothing is listening on it anymore.
+     *
+     * @throws UaException if the file isn't a socket, or a server is still listening on it.
+     */
+    private static void deleteStaleSocket(DomainSocketAddress address) throws UaException {
+        Path path = Paths.get(address.path());
+
+        if (!Files.exists(path, LinkOption.NOFOLLOW_LINKS)) return;
+
+        try {
+            int mode = (Integer) Files.getAttribute(path, "unix:mode", LinkOption.NOFOLLOW_LINKS);
+
+            if ((mode & S_IFMT) != S_IFSOCK) {
+                throw new UaException(StatusCodes.Bad_ConfigurationError,
+                        "not a Unix domain socket: " + address.path());
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            throw new UaException(StatusCodes.Bad_ConfigurationError,
+                    "could not inspect " + address.path() + ": " + e);
+        }
+
+        Class<? extends DomainSocketChannel> channelClass = Stack.transport()
+                .getDomainSocketChannelClass()
+                .orElseThrow(() -> new UaException(StatusCodes.Bad_NotSupported,
+                        "Unix domain sockets require the epoll transport"));
+
+        ChannelFuture connectFuture = new Bootstrap()
+                .group(Stack.sharedEventLoop())
+                .channel(channelClass)
+                .handler(new ChannelInboundHandlerAdapter())
+                .connect(address)
+                .awaitUninterruptibly();
+
+        if (connectFuture.isSuccess()) {
+            connectFuture.channel().close();
+
+            throw new UaException(StatusCodes.Bad_ResourceUnavailable,
+                    "a server is already listening on " + address.path());
+        } else if (!(connectFuture.cause() instanceof ConnectException)) {
+            throw new UaException(StatusCodes.Bad_ConfigurationError,
+                    "could not connect to " + address.path() + " to check it's stale: " + connectFuture.cause());
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UaException(StatusCodes.Bad_ConfigurationError,
+                    "could not delete stale socket " + address.path() + ": " + e);
+        }
+    }
+
     public static synchronized void shutdownAll() {
         socketServers.values().forEach(SocketServer::shutdown);
         socketServers.clear();
     }
 
-    private static final Map<InetSocketAddress, SocketServer> socketServers = Maps.newConcurrentMap();
+    private static final Map<SocketAddress, SocketServer> socketServers = Maps.newConcurrentMap();
+
+    /** The file type bits of a {@code unix:mode} attribute, and their value for a socket. */
+    private static final int S_IFMT = 0170000;
+    private static final int S_IFSOCK = 0140000;
 
 }
@@ -56,6 +56,8 @@ import com.inductiveautomation.opcua.stack.core.types.structured.SignedSoftwareC
 import com.inductiveautomation.opcua.stack.core.types.structured.UserTokenPolicy;
 import com.inductiveautomation.opcua.stack.server.Endpoint;
 import io.netty.channel.Channel;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.util.AttributeKey;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timeout;
@@ -99,6 +101,7 @@ public class UaTcpServer implements UaServer {
     private final List<UserTokenPolicy> userTokenPolicies;
     private final List<SignedSoftwareCertificate> softwareCertificates;
     private final ChannelConfig channelConfig;
+    private final int acceptorCount;
 
     public UaTcpServer(String serverName,
                        LocalizedText applicationName,
@@ -110,6 +113,21 @@ public class UaTcpServer implements UaServer {
                        List<SignedSoftwareCertificate> softwareCertificates,
                        ChannelConfig channelConfig) {
 
+        this(serverName, applicationName, applicationUri, productUri, certificateManager, executor,
+                userTokenPolicies, softwareCertificates, channelConfig, 1);
+    }
+
+    public UaTcpServer(String serverName,
+                       LocalizedText applicationName,
+                       String applicationUri,
+                       String productUri,
+                       CertificateManager certificateManager,
+                       ExecutorService executor,
+                       List<UserTokenPolicy> userTokenPolicies,
+                       List<SignedSoftwareCertificate> softwareCertificates,
+                       ChannelConfig channelConfig,
+                       int acceptorCount) {
+
         this.serverName = serverName;
         this.applicationName = applicationName;
         this.applicationUri = applicationUri;
@@ -119,6 +137,7 @@ public class UaTcpServer implements UaServer {
         this.userTokenPolicies = userTokenPolicies;
         this.softwareCertificates = softwareCertificates;
         this.channelConfig = channelConfig;
+        this.acceptorCount = acceptorCount;
 
         addServiceSet(new DefaultDiscoveryServiceSet());
 
@@ -138,9 +157,8 @@ public class UaTcpServer implements UaServer {
         for (Endpoint endpoint : endpoints) {
             try {
                 URI endpointUri = endpoint.getEndpointUri();
-                String bindAddress = endpoint.getBindAddress().orElse(endpointUri.getHost());
 
-                SocketServer socketServer = SocketServer.boundTo(bindAddress, endpointUri.getPort());
+                SocketServer socketServer = socketServer(endpoint, acceptorCount);
 
                 logger.info("{} bound to {} [{}/{}]",
                         endpoint.getEndpointUri(), socketServer.getLocalAddress(),
@@ -156,9 +174,19 @@ public class UaTcpServer implements UaServer {
     }
 
     private void addDiscoveryUrl(URI endpointUri) {
+        if (Stack.UNIX_SCHEME.equals(endpointUri.getScheme())) {
+            /* The path names the socket file, so there's no room for the server name. */
+            discoveryUrls.add(endpointUri.toString());
+            return;
+        }
+
         StringBuilder discoveryUrl = new StringBuilder();
 
-        discoveryUrl.append("opc.tcp://").append(endpointUri.getHost()).append(":").append(endpointUri.getPort());
+        if (Stack.LOCAL_SCHEME.equals(endpointUri.getScheme())) {
+            discoveryUrl.append(Stack.LOCAL_SCHEME).append("://").append(endpointUri.getAuthority());
+        } else {
+            discoveryUrl.append("opc.tcp://").append(endpointUri.getHost()).append(":").append(endpointUri.getPort());
+        }
         if (!serverName.isEmpty()) {
             discoveryUrl.append("/").append(serverName);
         }
@@ -166,14 +194,30 @@ public class UaTcpServer implements UaServer {
         discoveryUrls.add(discoveryUrl.toString());
     }
 
+    /**
+     * @return the {@link SocketServer} {@code endpoint} is reached through: an in-JVM one named by the authority of an
+     * {@code opc.local} endpoint URL, one bound to the Unix domain socket at the path of an {@code opc.unix} endpoint
+     * URL, otherwise one bound to the endpoint's bind address and port.
+     */
+    private static SocketServer socketServer(Endpoint endpoint, int acceptors) throws Exception {
+        URI endpointUri = endpoint.getEndpointUri();
+
+        if (Stack.UNIX_SCHEME.equals(endpointUri.getScheme())) {
+            return SocketServer.boundTo(new DomainSocketAddress(endpointUri.getPath()));
+        } else if (Stack.LOCAL_SCHEME.equals(endpointUri.getScheme())) {
+            return SocketServer.boundTo(new LocalAddress(endpointUri.getAuthority()));
+        } else {
+            String bindAddress = endpoint.getBindAddress().orElse(endpointUri.getHost());
+
+            return SocketServer.boundTo(bindAddress, endpointUri.getPort(), acceptors);
+        }
+    }
+
     @Override
     public void shutdown() {
         for (Endpoint endpoint : endpoints) {
-            URI endpointUri = endpoint.getEndpointUri();
-            String address = endpoint.getBindAddress().orElse(endpointUri.getHost());
-
             try {
-                SocketServer socketServer = SocketServer.boundTo(address, endpointUri.getPort());
+                SocketServer socketServer = socketServer(endpoint, 1);
                 socketServer.removeServer(this);
             } catch (Exception e) {
                 logger.error("Error getting SocketServer for {}: {}.", endpoint, e.getMessage(), e);
@@ -19,6 +19,7 @@ public class UaTcpServerBuilder {
     private String productUri = "http://www.inductiveautomation.com/opc-ua/stack";
 
     private ChannelConfig channelConfig = ChannelConfig.DEFAULT;
+    private int acceptorCount = 1;
 
     private CertificateManager certificateManager;
     private ExecutorService executor = Stack.sharedExecutor();
@@ -50,6 +51,15 @@ public class UaTcpServerBuilder {
         return this;
     }
 
+    /**
+     * @param acceptorCount the number of listening sockets each endpoint's address is bound with, using SO_REUSEPORT,
+     *                      when the epoll transport is in use. See {@link SocketServer#boundTo(java.net.InetSocketAddress, int)}.
+     */
+    public UaTcpServerBuilder setAcceptorCount(int acceptorCount) {
+        this.acceptorCount = acceptorCount;
+        return this;
+    }
+
     public UaTcpServerBuilder setCertificateManager(CertificateManager certificateManager) {
         this.certificateManager = certificateManager;
         return this;
@@ -80,7 +90,8 @@ public class UaTcpServerBuilder {
                 executor,
                 userTokenPolicies,
                 softwareCertificates,
-                channelConfig
+                channelConfig,
+                acceptorCount
         );
     }
 
@@ -1,25 +1,49 @@
 package com.inductiveautomation.opcua.stack;
 
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.UaSerializationException;
 import com.inductiveautomation.opcua.stack.core.channel.ChannelConfig;
+import com.inductiveautomation.opcua.stack.core.channel.ChannelSecurity;
 import com.inductiveautomation.opcua.stack.core.channel.ChannelParameters;
 import com.inductiveautomation.opcua.stack.core.channel.ChunkDecoder;
 import com.inductiveautomation.opcua.stack.core.channel.ChunkEncoder;
+import com.inductiveautomation.opcua.stack.core.channel.ClientSecureChannel;
 import com.inductiveautomation.opcua.stack.core.channel.SecureChannel;
+import com.inductiveautomation.opcua.stack.core.channel.SerializationExecutors;
+import com.inductiveautomation.opcua.stack.core.channel.ServerSecureChannel;
 import com.inductiveautomation.opcua.stack.core.channel.messages.MessageType;
 import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.inductiveautomation.opcua.stack.core.types.structured.ChannelSecurityToken;
 import com.inductiveautomation.opcua.stack.core.util.BufferUtil;
 import com.inductiveautomation.opcua.stack.core.util.CryptoRestrictions;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.util.ReferenceCountUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.inductiveautomation.opcua.stack.core.util.NonceUtil.generateNonce;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class ChunkSerializationTest extends SecureChannelFixture {
 
@@ -176,4 +200,573 @@ public class ChunkSerializationTest extends SecureChannelFixture {
         assertEquals(decodedBuffer, messageBuffer);
     }
 
+    @Test(dataProvider = "getSymmetricSecurityParameters")
+    public void testSymmetricMessageInParallel(SecurityPolicy securityPolicy,
+                                               MessageSecurityMode messageSecurity,
+                                               int messageSize) throws Exception {
+
+        logger.info("Parallel symmetric chunk serialization, securityPolicy={}, messageSecurityMode={}, messageSize={}",
+                securityPolicy, messageSecurity, messageSize);
+
+        AtomicInteger executed = new AtomicInteger();
+        Executor executor = command -> {
+            executed.incrementAndGet();
+            SerializationExecutors.chunkSecurityPool().execute(command);
+        };
+
+        ChunkEncoder encoder = new ChunkEncoder(parameters, 2, executor);
+        ChunkDecoder decoder = new ChunkDecoder(parameters, 2, executor);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+
+        encodeAndDecodeSymmetric(encoder, decoder, channels[0], channels[1], messageSize);
+        encodeAndDecodeSymmetric(encoder, decoder, channels[0], channels[1], messageSize);
+
+        if (messageSecurity != MessageSecurityMode.None && messageSize >= ChannelConfig.DEFAULT_MAX_CHUNK_SIZE) {
+            assertTrue(executed.get() > 0);
+        }
+    }
+
+    @Test
+    public void testParallelChunksReleasedWhenExecutorRejects() throws Exception {
+        ChunkEncoder encoder = new ChunkEncoder(parameters, 2, command -> {
+            throw new RejectedExecutionException();
+        });
+
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+
+        ByteBuf messageBuffer = BufferUtil.buffer();
+        messageBuffer.writeBytes(new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 2]);
+
+        try {
+            encoder.encodeSymmetric(channels[0], MessageType.SecureMessage, messageBuffer, encoder.nextRequestId());
+            fail("expected UaException");
+        } catch (UaException e) {
+            assertEquals(e.getStatusCode().getValue(), StatusCodes.Bad_SecurityChecksFailed);
+        } finally {
+            messageBuffer.release();
+        }
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityParameters")
+    public void testSymmetricMessageWrittenIntoChunks(SecurityPolicy securityPolicy,
+                                                      MessageSecurityMode messageSecurity,
+                                                      int messageSize) throws Exception {
+
+        logger.info("Symmetric chunk serialization into chunks, securityPolicy={}, messageSecurityMode={}, messageSize={}",
+                securityPolicy, messageSecurity, messageSize);
+
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+        ChunkDecoder decoder = new ChunkDecoder(parameters);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        SecureChannel clientChannel = channels[0];
+        SecureChannel serverChannel = channels[1];
+
+        ByteBuf messageBuffer = BufferUtil.buffer();
+        messageBuffer.writeInt(messageSize);
+        for (int i = 0; i < messageSize; i++) {
+            messageBuffer.writeByte(i);
+        }
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                sink -> {
+                    sink.writeInt(messageSize);
+                    for (int i = 0; i < messageSize; i++) {
+                        sink.writeByte(i);
+                    }
+                    assertEquals(sink.writerIndex(), 4 + messageSize);
+                },
+                encoder.nextRequestId()
+        );
+
+        ByteBuf decodedBuffer = decoder.decodeSymmetric(
+                serverChannel,
+                MessageType.SecureMessage,
+                chunkBuffers
+        );
+
+        ReferenceCountUtil.releaseLater(messageBuffer);
+        ReferenceCountUtil.releaseLater(decodedBuffer);
+
+        assertEquals(decodedBuffer, messageBuffer);
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityParameters")
+    public void testSymmetricMessageStreamed(SecurityPolicy securityPolicy,
+                                             MessageSecurityMode messageSecurity,
+                                             int messageSize) throws Exception {
+
+        logger.info("Streamed symmetric chunk serialization, securityPolicy={}, messageSecurityMode={}, messageSize={}",
+                securityPolicy, messageSecurity, messageSize);
+
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+        ChunkDecoder decoder = new ChunkDecoder(parameters);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        SecureChannel clientChannel = channels[0];
+        SecureChannel serverChannel = channels[1];
+
+        byte[] messageBytes = new byte[messageSize];
+        for (int i = 0; i < messageBytes.length; i++) {
+            messageBytes[i] = (byte) i;
+        }
+
+        List<ByteBuf> chunkBuffers = Lists.newArrayList();
+        int[] chunksWrittenBeforeEnd = new int[1];
+
+        encoder.encodeSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                sink -> {
+                    for (byte b : messageBytes) {
+                        sink.writeByte(b);
+                    }
+                    chunksWrittenBeforeEnd[0] = chunkBuffers.size();
+                },
+                encoder.nextRequestId(),
+                chunkBuffers::add
+        );
+
+        // Every chunk but the last one or two is handed off while the body is still being written.
+        assertTrue(chunksWrittenBeforeEnd[0] >= chunkBuffers.size() - 2);
+
+        ByteBuf decodedBuffer = decoder.decodeSymmetric(
+                serverChannel,
+                MessageType.SecureMessage,
+                chunkBuffers
+        );
+
+        ReferenceCountUtil.releaseLater(decodedBuffer);
+
+        assertEquals(decodedBuffer, Unpooled.wrappedBuffer(messageBytes));
+    }
+
+    @Test
+    public void testStreamedSymmetricMessageAborted() throws Exception {
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+
+        List<ByteBuf> chunkBuffers = Lists.newArrayList();
+
+        try {
+            encoder.encodeSymmetric(
+                    channels[0],
+                    MessageType.SecureMessage,
+                    sink -> {
+                        for (int i = 0; i < 3; i++) {
+                            sink.writeBytes(new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE]);
+                        }
+                        throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded, "too big");
+                    },
+                    encoder.nextRequestId(),
+                    chunkBuffers::add
+            );
+
+            fail("expected UaSerializationException");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), StatusCodes.Bad_EncodingLimitsExceeded);
+        }
+
+        assertTrue(chunkBuffers.size() > 1);
+        assertEquals((char) chunkBuffers.get(0).getByte(3), 'C');
+        assertEquals((char) chunkBuffers.get(chunkBuffers.size() - 1).getByte(3), 'A');
+
+        chunkBuffers.forEach(ReferenceCountUtil::release);
+    }
+
+    @Test
+    public void testAbortReasonTruncatedAtCharacterBoundary() throws Exception {
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+
+        SecureChannel[] channels = generateChannels(SecurityPolicy.None, MessageSecurityMode.None);
+
+        // Three bytes per character, and too long to fit in a single chunk.
+        String reason = Strings.repeat("\u20AC", ChannelConfig.DEFAULT_MAX_CHUNK_SIZE / 3 + 1);
+
+        List<ByteBuf> chunkBuffers = Lists.newArrayList();
+
+        try {
+            encoder.encodeSymmetric(
+                    channels[0],
+                    MessageType.SecureMessage,
+                    sink -> {
+                        sink.writeBytes(new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE]);
+                        throw new UaSerializationException(StatusCodes.Bad_EncodingError, reason);
+                    },
+                    encoder.nextRequestId(),
+                    chunkBuffers::add
+            );
+
+            fail("expected UaSerializationException");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), StatusCodes.Bad_EncodingError);
+        }
+
+        ByteBuf abortChunk = chunkBuffers.get(chunkBuffers.size() - 1).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals((char) abortChunk.getByte(3), 'A');
+
+        // Message header, token id, and sequence header precede the body.
+        abortChunk.readerIndex(12 + 4 + 8);
+
+        assertEquals(abortChunk.readUnsignedInt(), StatusCodes.Bad_EncodingError);
+
+        int reasonLength = abortChunk.readInt();
+        String truncated = abortChunk.toString(abortChunk.readerIndex(), reasonLength, StandardCharsets.UTF_8);
+
+        assertTrue(reasonLength > 0);
+        assertEquals(reasonLength % 3, 0);
+        assertTrue(reason.startsWith(truncated));
+
+        chunkBuffers.forEach(ReferenceCountUtil::release);
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityParameters")
+    public void testSymmetricMessageOfKnownSize(SecurityPolicy securityPolicy,
+                                                MessageSecurityMode messageSecurity,
+                                                int messageSize) throws Exception {
+
+        // The largest message needs more chunks than the default max chunk count allows.
+        ChannelParameters unlimited = new ChannelParameters(
+                ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_COUNT,
+                0,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                0
+        );
+
+        ChunkEncoder encoder = new ChunkEncoder(unlimited);
+        ChunkDecoder decoder = new ChunkDecoder(parameters);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+
+        byte[] messageBytes = new byte[messageSize];
+        for (int i = 0; i < messageBytes.length; i++) {
+            messageBytes[i] = (byte) i;
+        }
+
+        List<ByteBuf> chunkBuffers = Lists.newArrayList();
+
+        encoder.encodeSymmetric(
+                channels[0],
+                MessageType.SecureMessage,
+                sink -> sink.writeBytes(messageBytes),
+                messageSize,
+                encoder.nextRequestId(),
+                chunkBuffers::add
+        );
+
+        // The last chunk is allocated just large enough for what remains of the body.
+        ByteBuf lastChunk = chunkBuffers.get(chunkBuffers.size() - 1);
+        assertEquals(lastChunk.capacity(), lastChunk.readableBytes());
+
+        ByteBuf decodedBuffer = decoder.decodeSymmetric(
+                channels[1],
+                MessageType.SecureMessage,
+                chunkBuffers
+        );
+
+        ReferenceCountUtil.releaseLater(decodedBuffer);
+
+        assertEquals(decodedBuffer, Unpooled.wrappedBuffer(messageBytes));
+    }
+
+    @Test
+    public void testSymmetricMessageTooLargeRejectedBeforeEncoding() throws Exception {
+        ChannelParameters limited = new ChannelParameters(
+                ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_COUNT,
+                ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+                2
+        );
+
+        ChunkEncoder encoder = new ChunkEncoder(limited);
+
+        SecureChannel[] channels = generateChannels(SecurityPolicy.None, MessageSecurityMode.None);
+
+        List<ByteBuf> chunkBuffers = Lists.newArrayList();
+        boolean[] bodyWritten = new boolean[1];
+
+        for (int bodySize : new int[]{ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 2, ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE + 1}) {
+            try {
+                encoder.encodeSymmetric(
+                        channels[0],
+                        MessageType.SecureMessage,
+                        sink -> bodyWritten[0] = true,
+                        bodySize,
+                        encoder.nextRequestId(),
+                        chunkBuffers::add
+                );
+
+                fail("expected UaException");
+            } catch (UaException e) {
+                assertEquals(e.getStatusCode().getValue(), StatusCodes.Bad_TcpMessageTooLarge);
+            }
+        }
+
+        assertFalse(bodyWritten[0]);
+        assertTrue(chunkBuffers.isEmpty());
+    }
+
+    @Test
+    public void testSymmetricMessageLargerThanItsSizeAborted() throws Exception {
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+
+        SecureChannel[] channels = generateChannels(SecurityPolicy.None, MessageSecurityMode.None);
+
+        List<ByteBuf> chunkBuffers = Lists.newArrayList();
+
+        try {
+            encoder.encodeSymmetric(
+                    channels[0],
+                    MessageType.SecureMessage,
+                    sink -> sink.writeBytes(new byte[101]),
+                    100,
+                    encoder.nextRequestId(),
+                    chunkBuffers::add
+            );
+
+            fail("expected UaSerializationException");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), StatusCodes.Bad_EncodingError);
+        }
+
+        assertTrue(chunkBuffers.isEmpty());
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityParameters")
+    public void testSymmetricMessageDecodedPerChunk(SecurityPolicy securityPolicy,
+                                                    MessageSecurityMode messageSecurity,
+                                                    int messageSize) throws Exception {
+
+        logger.info("Per-chunk symmetric chunk deserialization, securityPolicy={}, messageSecurityMode={}, messageSize={}",
+                securityPolicy, messageSecurity, messageSize);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+
+        for (int parallelChunkThreshold : new int[]{0, 2}) {
+            ChunkEncoder encoder = new ChunkEncoder(parameters);
+            ChunkDecoder decoder = new ChunkDecoder(parameters, parallelChunkThreshold);
+
+            byte[] messageBytes = new byte[messageSize];
+            for (int i = 0; i < messageBytes.length; i++) {
+                messageBytes[i] = (byte) i;
+            }
+
+            ByteBuf messageBuffer = Unpooled.wrappedBuffer(messageBytes);
+
+            /* A partial message is discarded when the sender aborts it. */
+            List<ByteBuf> abortedChunks = Lists.newArrayList();
+
+            try {
+                encoder.encodeSymmetric(
+                        channels[0],
+                        MessageType.SecureMessage,
+                        sink -> {
+                            sink.writeBytes(messageBuffer.duplicate());
+                            sink.writeBytes(messageBuffer.duplicate());
+                            throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded, "too big");
+                        },
+                        encoder.nextRequestId(),
+                        abortedChunks::add
+                );
+
+                fail("expected UaSerializationException");
+            } catch (UaSerializationException e) {
+                assertEquals(e.getStatusCode(), StatusCodes.Bad_EncodingLimitsExceeded);
+            }
+
+            for (ByteBuf chunkBuffer : abortedChunks) {
+                assertNull(decoder.decodeSymmetricChunk(channels[1], chunkBuffer));
+            }
+
+            /* A complete message is returned when its final chunk is decoded. */
+            List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(
+                    channels[0],
+                    MessageType.SecureMessage,
+                    messageBuffer.duplicate(),
+                    encoder.nextRequestId()
+            );
+
+            ByteBuf decodedBuffer = null;
+
+            for (int i = 0; i < chunkBuffers.size(); i++) {
+                decodedBuffer = decoder.decodeSymmetricChunk(channels[1], chunkBuffers.get(i));
+
+                if (i < chunkBuffers.size() - 1) {
+                    assertNull(decodedBuffer);
+                }
+            }
+
+            ReferenceCountUtil.releaseLater(decodedBuffer);
+
+            assertEquals(decodedBuffer, messageBuffer);
+        }
+    }
+
+    @DataProvider
+    public Object[][] getParallelChunkThresholds() {
+        return new Object[][]{{0}, {2}};
+    }
+
+    @Test(dataProvider = "getParallelChunkThresholds")
+    public void testChunksReleasedOnSequenceNumberMismatch(int parallelChunkThreshold) throws Exception {
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+        ChunkDecoder decoder = new ChunkDecoder(parameters, parallelChunkThreshold);
+
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+
+        ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 3]);
+        ReferenceCountUtil.releaseLater(messageBuffer);
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(
+                channels[0],
+                MessageType.SecureMessage,
+                messageBuffer,
+                encoder.nextRequestId()
+        );
+
+        assertTrue(chunkBuffers.size() > 3);
+
+        /* Drop a chunk from the middle so the sequence number check fails after some bodies have been added. */
+        chunkBuffers.remove(2).release();
+        List<ByteBuf> received = Lists.newArrayList(chunkBuffers);
+
+        try {
+            decoder.decodeSymmetric(channels[1], MessageType.SecureMessage, chunkBuffers);
+
+            fail("expected UaException");
+        } catch (UaException e) {
+            assertEquals(e.getStatusCode().getValue(), StatusCodes.Bad_SecurityChecksFailed);
+        }
+
+        for (ByteBuf chunkBuffer : received) {
+            assertEquals(chunkBuffer.refCnt(), 0);
+        }
+    }
+
+    @Test(dataProvider = "getParallelChunkThresholds")
+    public void testChunksReleasedOnSequenceNumberMismatchPerChunk(int parallelChunkThreshold) throws Exception {
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+        ChunkDecoder decoder = new ChunkDecoder(parameters, parallelChunkThreshold);
+
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+
+        ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 3]);
+        ReferenceCountUtil.releaseLater(messageBuffer);
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(
+                channels[0],
+                MessageType.SecureMessage,
+                messageBuffer,
+                encoder.nextRequestId()
+        );
+
+        chunkBuffers.remove(2).release();
+        List<ByteBuf> received = Lists.newArrayList(chunkBuffers);
+
+        try {
+            for (ByteBuf chunkBuffer : chunkBuffers) {
+                assertNull(decoder.decodeSymmetricChunk(channels[1], chunkBuffer));
+            }
+
+            fail("expected UaException");
+        } catch (UaException e) {
+            assertEquals(e.getStatusCode().getValue(), StatusCodes.Bad_SecurityChecksFailed);
+        }
+
+        for (ByteBuf chunkBuffer : received) {
+            assertEquals(chunkBuffer.refCnt(), 0);
+        }
+    }
+
+    @Test
+    public void testSymmetricMessagesAcrossRenewal() throws Exception {
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+        ChunkDecoder decoder = new ChunkDecoder(parameters);
+
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+        ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+        encodeAndDecodeSymmetric(encoder, decoder, clientChannel, serverChannel, ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 2);
+        encodeAndDecodeSymmetric(encoder, decoder, clientChannel, serverChannel, ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 2);
+
+        /*
+         * The server renews first; a message secured with the now-previous token must still decode.
+         */
+        ByteString clientNonce = generateNonce(32);
+        ByteString serverNonce = generateNonce(32);
+
+        serverChannel.setLocalNonce(serverNonce);
+        serverChannel.setRemoteNonce(clientNonce);
+
+        ChannelSecurity oldServerSecurity = serverChannel.getChannelSecurity();
+        serverChannel.setChannelSecurity(new ChannelSecurity(
+                ChannelSecurity.generateKeyPair(serverChannel, clientNonce, serverNonce),
+                new ChannelSecurityToken(uint(0), uint(2), DateTime.now(), uint(60000)),
+                oldServerSecurity.getCurrentKeys(),
+                oldServerSecurity.getCurrentToken()
+        ));
+
+        encodeAndDecodeSymmetric(encoder, decoder, clientChannel, serverChannel, ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 2);
+
+        clientChannel.setLocalNonce(clientNonce);
+        clientChannel.setRemoteNonce(serverNonce);
+
+        ChannelSecurity oldClientSecurity = clientChannel.getChannelSecurity();
+        clientChannel.setChannelSecurity(new ChannelSecurity(
+                ChannelSecurity.generateKeyPair(clientChannel, clientNonce, serverNonce),
+                new ChannelSecurityToken(uint(0), uint(2), DateTime.now(), uint(60000)),
+                oldClientSecurity.getCurrentKeys(),
+                oldClientSecurity.getCurrentToken()
+        ));
+
+        encodeAndDecodeSymmetric(encoder, decoder, clientChannel, serverChannel, ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 2);
+        encodeAndDecodeSymmetric(encoder, decoder, clientChannel, serverChannel, ChannelConfig.DEFAULT_MAX_CHUNK_SIZE * 2);
+    }
+
+    private void encodeAndDecodeSymmetric(ChunkEncoder encoder,
+                                          ChunkDecoder decoder,
+                                          SecureChannel clientChannel,
+                                          SecureChannel serverChannel,
+                                          int messageSize) throws Exception {
+
+        byte[] messageBytes = new byte[messageSize];
+        for (int i = 0; i < messageBytes.length; i++) {
+            messageBytes[i] = (byte) i;
+        }
+
+        ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(messageBytes);
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                messageBuffer,
+                encoder.nextRequestId()
+        );
+
+        ByteBuf decodedBuffer = decoder.decodeSymmetric(
+                serverChannel,
+                MessageType.SecureMessage,
+                chunkBuffers
+        );
+
+        ReferenceCountUtil.releaseLater(messageBuffer);
+        ReferenceCountUtil.releaseLater(decodedBuffer);
+
+        messageBuffer.readerIndex(0);
+        assertEquals(decodedBuffer, messageBuffer);
+    }
+
 }
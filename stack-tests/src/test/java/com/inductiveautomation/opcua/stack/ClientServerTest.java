@@ -3,12 +3,17 @@ package com.inductiveautomation.opcua.stack;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import com.beust.jcommander.internal.Lists;
+import com.google.common.base.Strings;
 import com.inductiveautomation.opcua.stack.client.UaTcpClient;
 import com.inductiveautomation.opcua.stack.client.UaTcpClientBuilder;
 import com.inductiveautomation.opcua.stack.core.Stack;
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfig;
 import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
 import com.inductiveautomation.opcua.stack.core.serialization.UaResponseMessage;
 import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
@@ -44,6 +49,8 @@ import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Un
 import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
 import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class ClientServerTest extends SecurityFixture {
 
@@ -75,6 +82,8 @@ public class ClientServerTest extends SecurityFixture {
         };
     }
 
+    private static final Variant SERVER_ENCODING_ERROR = new Variant("server encoding error");
+
     private Logger logger = LoggerFactory.getLogger(getClass());
 
     private EndpointDescription[] endpoints;
@@ -111,7 +120,12 @@ public class ClientServerTest extends SecurityFixture {
                     null, null, null
             );
 
-            service.setResponse(new TestStackResponse(header, request.getInput()));
+            /* A response the server can't encode: the string exceeds its max string length. */
+            Variant output = SERVER_ENCODING_ERROR.equals(request.getInput()) ?
+                    new Variant(Strings.repeat("x", ChannelConfig.DEFAULT_MAX_STRING_LENGTH + 1)) :
+                    request.getInput();
+
+            service.setResponse(new TestStackResponse(header, output));
         });
 
         server.startup();
@@ -210,6 +224,47 @@ public class ClientServerTest extends SecurityFixture {
         connectAndTest(input, client);
     }
 
+    @Test
+    public void testEncodingErrorsFailOnlyTheirRequest() throws Exception {
+        UaTcpClient client = createClient(endpoints[0]);
+        client.connect().get();
+
+        try {
+            /* The client can't encode the request. */
+            Variant tooLong = new Variant(Strings.repeat("x", ChannelConfig.DEFAULT_MAX_STRING_LENGTH + 1));
+            assertServiceFault(sendRequest(client, 0, tooLong), StatusCodes.Bad_EncodingError);
+
+            /* The server can't encode the response. */
+            assertServiceFault(sendRequest(client, 1, SERVER_ENCODING_ERROR), StatusCodes.Bad_EncodingError);
+
+            /* Neither closed the channel. */
+            Variant input = new Variant("hello, world");
+            assertEquals(sendRequest(client, 2, input).get().getOutput(), input);
+        } finally {
+            client.disconnect().get();
+        }
+    }
+
+    private CompletableFuture<TestStackResponse> sendRequest(UaTcpClient client, int handle, Variant input) {
+        RequestHeader header = new RequestHeader(
+                NodeId.NULL_VALUE,
+                DateTime.now(),
+                uint(handle), uint(0), null, uint(60000), null
+        );
+
+        return client.sendRequest(new TestStackRequest(header, uint(handle), handle, input));
+    }
+
+    private static void assertServiceFault(CompletableFuture<?> future, long statusCode) throws Exception {
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("expected service fault");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof UaException);
+            assertEquals(((UaException) e.getCause()).getStatusCode().getValue(), statusCode);
+        }
+    }
+
     private UaTcpClient createClient(EndpointDescription endpoint) throws UaException {
         return new UaTcpClientBuilder()
                 .setKeyPair(clientKeyPair)
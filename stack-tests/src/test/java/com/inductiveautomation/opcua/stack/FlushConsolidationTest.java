@@ -0,0 +1,58 @@
+package com.inductiveautomation.opcua.stack;
+
+import com.inductiveautomation.opcua.stack.client.UaTcpClient;
+import com.inductiveautomation.opcua.stack.client.UaTcpClientBuilder;
+import com.inductiveautomation.opcua.stack.core.channel.FlushConsolidationHandler;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServer;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServerBuilder;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class FlushConsolidationTest extends TransportFixture {
+
+    private static final String ENDPOINT_URL = "opc.tcp://localhost:12689/flush";
+
+    private UaTcpServer server;
+
+    @BeforeClass
+    public void setUpServer() {
+        server = new UaTcpServerBuilder()
+                .setServerName("flush")
+                .build();
+
+        server.addEndpoint(ENDPOINT_URL, null);
+
+        addEchoHandler(server);
+        server.startup();
+    }
+
+    @AfterClass
+    public void tearDownServer() {
+        server.shutdown();
+    }
+
+    @Test
+    public void testConsolidatedRoundTrip() throws Exception {
+        UaTcpClient client = new UaTcpClientBuilder()
+                .setChannelConfig(consolidatingConfig())
+                .build(ENDPOINT_URL);
+
+        try {
+            Variant input = new Variant("hello, consolidated");
+
+            assertEquals(sendRequest(client, 1, input).get().getOutput(), input);
+
+            FlushConsolidationHandler.Statistics statistics = client.getFlushStatistics();
+            assertTrue(statistics.getFlushCount() > 0);
+            assertTrue(statistics.getWriteCount() >= statistics.getFlushCount());
+        } finally {
+            client.disconnect();
+        }
+    }
+
+}
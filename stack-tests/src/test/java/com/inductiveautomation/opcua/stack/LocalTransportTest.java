@@ -0,0 +1,128 @@
+package com.inductiveautomation.opcua.stack;
+
+import java.util.concurrent.ExecutionException;
+
+import com.inductiveautomation.opcua.stack.client.UaTcpClient;
+import com.inductiveautomation.opcua.stack.client.UaTcpClientBuilder;
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfig;
+import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.inductiveautomation.opcua.stack.core.types.structured.TestStackResponse;
+import com.inductiveautomation.opcua.stack.core.util.CryptoRestrictions;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServer;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServerBuilder;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+public class LocalTransportTest extends TransportFixture {
+
+    private static final String LOCAL_URL = "opc.local://local-test/local";
+    private static final String TRUSTED_URL = "opc.local://trusted-test/trusted";
+
+    private UaTcpServer server;
+    private UaTcpServer trustedServer;
+
+    @BeforeClass
+    public void setUpServers() throws Exception {
+        CryptoRestrictions.remove();
+
+        server = new UaTcpServerBuilder()
+                .setServerName("local")
+                .setCertificateManager(serverCertificateManager)
+                .build();
+
+        server.addEndpoint(LOCAL_URL, null)
+                .addEndpoint(LOCAL_URL, null, serverCertificate, SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+
+        trustedServer = new UaTcpServerBuilder()
+                .setServerName("trusted")
+                .setCertificateManager(serverCertificateManager)
+                .setChannelConfig(trustedConfig())
+                .build();
+
+        trustedServer.addEndpoint(TRUSTED_URL, null);
+
+        for (UaTcpServer s : new UaTcpServer[]{server, trustedServer}) {
+            addEchoHandler(s);
+            s.startup();
+        }
+    }
+
+    @AfterClass
+    public void tearDownServers() {
+        server.shutdown();
+        trustedServer.shutdown();
+    }
+
+    @Test
+    public void testLocalRoundTrip() throws Exception {
+        UaTcpClient client = new UaTcpClientBuilder().build(LOCAL_URL);
+
+        try {
+            Variant input = new Variant("hello, local");
+            TestStackResponse response = sendRequest(client, 1, input).get();
+
+            assertEquals(response.getOutput(), input);
+            assertNotSame(response.getOutput(), input);
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    @Test
+    public void testLocalRoundTrip_Basic256Sha256_SignAndEncrypt() throws Exception {
+        UaTcpClient client = createClient(endpoint(server, LOCAL_URL, SecurityPolicy.Basic256Sha256), ChannelConfig.DEFAULT);
+
+        try {
+            Variant input = new Variant("hello, secure local");
+
+            assertEquals(sendRequest(client, 1, input).get().getOutput(), input);
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    @Test
+    public void testTrustedLocalRoundTrip() throws Exception {
+        UaTcpClient client = new UaTcpClientBuilder()
+                .setChannelConfig(trustedConfig())
+                .build(TRUSTED_URL);
+
+        try {
+            Variant input = new Variant("hello, trusted local");
+
+            /* Nothing was encoded, so the server answered with the very same Variant. */
+            assertSame(sendRequest(client, 1, input).get().getOutput(), input);
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    @Test
+    public void testTrustedLocalRequiresServerOptIn() throws Exception {
+        UaTcpClient client = new UaTcpClientBuilder()
+                .setChannelConfig(trustedConfig())
+                .setRequestTimeout(1000)
+                .build(LOCAL_URL);
+
+        try {
+            sendRequest(client, 1, new Variant("rejected")).get();
+            fail("trusted local request accepted by a server that doesn't allow it");
+        } catch (ExecutionException e) {
+            UaException cause = (UaException) e.getCause();
+            assertEquals(cause.getStatusCode().getValue(), StatusCodes.Bad_Timeout);
+        } finally {
+            client.disconnect();
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.inductiveautomation.opcua.stack;
+
+import java.nio.ByteOrder;
+import java.security.interfaces.RSAPublicKey;
+
+import com.google.common.collect.Lists;
+import com.inductiveautomation.opcua.stack.core.channel.ClientSecureChannel;
+import com.inductiveautomation.opcua.stack.core.channel.SecureChannel;
+import com.inductiveautomation.opcua.stack.core.channel.ServerSecureChannel;
+import com.inductiveautomation.opcua.stack.core.channel.headers.AsymmetricSecurityHeader;
+import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.inductiveautomation.opcua.stack.core.util.DigestUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+public class SecureChannelCacheTest extends SecurityFixture {
+
+    @BeforeClass
+    public void setUpCertificates() throws Exception {
+        super.setUp();
+    }
+
+    @Test
+    public void testClientSecureChannelCachesCertificateValues() throws Exception {
+        ClientSecureChannel channel = new ClientSecureChannel(
+                clientKeyPair,
+                clientCertificate,
+                serverCertificate,
+                Lists.newArrayList(serverCertificate),
+                SecurityPolicy.Basic256Sha256,
+                MessageSecurityMode.SignAndEncrypt
+        );
+
+        assertEquals(channel.getLocalCertificateBytes(), ByteString.of(clientCertificateBytes));
+        assertSame(channel.getLocalCertificateBytes(), channel.getLocalCertificateBytes());
+        assertSame(channel.getLocalCertificateThumbprint(), channel.getLocalCertificateThumbprint());
+        assertEquals(channel.getRemoteCertificateThumbprint(), ByteString.of(DigestUtil.sha1(serverCertificateBytes)));
+        assertSame(channel.getRemoteCertificateThumbprint(), channel.getRemoteCertificateThumbprint());
+        assertEquals(channel.getLocalAsymmetricKeyLength(),
+                ((RSAPublicKey) clientCertificate.getPublicKey()).getModulus().bitLength());
+
+        assertHeader(channel, SecurityPolicy.Basic256Sha256, clientCertificateBytes, serverCertificateBytes);
+    }
+
+    @Test
+    public void testWrittenHeaderDoesNotShareCache() throws Exception {
+        ClientSecureChannel channel = new ClientSecureChannel(
+                clientKeyPair,
+                clientCertificate,
+                serverCertificate,
+                Lists.newArrayList(serverCertificate),
+                SecurityPolicy.Basic256Sha256,
+                MessageSecurityMode.SignAndEncrypt
+        );
+
+        ByteBuf buffer = Unpooled.buffer();
+        channel.writeAsymmetricSecurityHeader(buffer);
+
+        buffer.setZero(0, buffer.writerIndex());
+
+        assertHeader(channel, SecurityPolicy.Basic256Sha256, clientCertificateBytes, serverCertificateBytes);
+    }
+
+    @Test
+    public void testServerSecureChannelInvalidatesCache() throws Exception {
+        ServerSecureChannel channel = new ServerSecureChannel();
+        channel.setSecurityPolicy(SecurityPolicy.Basic256Sha256);
+        channel.setLocalCertificate(serverCertificate);
+        channel.setRemoteCertificate(clientCertificateBytes);
+
+        assertHeader(channel, SecurityPolicy.Basic256Sha256, serverCertificateBytes, clientCertificateBytes);
+        assertSame(channel.getLocalCertificateBytes(), channel.getLocalCertificateBytes());
+
+        channel.setSecurityPolicy(SecurityPolicy.Basic128Rsa15);
+        assertHeader(channel, SecurityPolicy.Basic128Rsa15, serverCertificateBytes, clientCertificateBytes);
+
+        channel.setLocalCertificate(clientCertificate);
+        assertEquals(channel.getLocalCertificateBytes(), ByteString.of(clientCertificateBytes));
+        assertEquals(channel.getLocalCertificateThumbprint(), ByteString.of(DigestUtil.sha1(clientCertificateBytes)));
+        assertHeader(channel, SecurityPolicy.Basic128Rsa15, clientCertificateBytes, clientCertificateBytes);
+
+        channel.setRemoteCertificate(serverCertificateBytes);
+        assertEquals(channel.getRemoteCertificateBytes(), ByteString.of(serverCertificateBytes));
+        assertEquals(channel.getRemoteCertificateThumbprint(), ByteString.of(DigestUtil.sha1(serverCertificateBytes)));
+        assertHeader(channel, SecurityPolicy.Basic128Rsa15, clientCertificateBytes, serverCertificateBytes);
+
+        channel.setLocalCertificate(null);
+        assertEquals(channel.getLocalCertificateBytes(), ByteString.NULL_VALUE);
+        assertEquals(channel.getLocalAsymmetricKeyLength(), 0);
+    }
+
+    private void assertHeader(SecureChannel channel,
+                              SecurityPolicy securityPolicy,
+                              byte[] localCertificateBytes,
+                              byte[] remoteCertificateBytes) throws Exception {
+
+        ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        channel.writeAsymmetricSecurityHeader(buffer);
+
+        assertEquals(buffer.readableBytes(), channel.getAsymmetricSecurityHeaderSize());
+
+        AsymmetricSecurityHeader header = AsymmetricSecurityHeader.decode(buffer);
+
+        assertEquals(header.getSecurityPolicyUri(), securityPolicy.getSecurityPolicyUri());
+        assertEquals(header.getSenderCertificate(), ByteString.of(localCertificateBytes));
+        assertEquals(header.getReceiverThumbprint(), ByteString.of(DigestUtil.sha1(remoteCertificateBytes)));
+    }
+
+}
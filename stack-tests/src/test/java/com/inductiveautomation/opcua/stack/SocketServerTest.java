@@ -0,0 +1,154 @@
+package com.inductiveautomation.opcua.stack;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.inductiveautomation.opcua.stack.core.Stack;
+import com.inductiveautomation.opcua.stack.core.Transport;
+import com.inductiveautomation.opcua.stack.core.channel.messages.HelloMessage;
+import com.inductiveautomation.opcua.stack.core.channel.messages.TcpMessageEncoder;
+import com.inductiveautomation.opcua.stack.server.tcp.SocketServer;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServer;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServerBuilder;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class SocketServerTest {
+
+    private static final String HOST = "127.0.0.1";
+    private static final int MAX_IN_FLIGHT = 100;
+
+    /*
+     * SocketServer keeps every server it binds for the life of the JVM, keyed by address, so each test binds its own
+     * port.
+     */
+
+    @Test(description = "Every connection is accepted and answered when there are several acceptors.")
+    public void testConnectionsAcceptedByAcceptors() throws Exception {
+        long[] latencies = connect(12693, 4, 50);
+
+        for (long latency : latencies) {
+            assertTrue(latency > 0);
+        }
+    }
+
+    @DataProvider(name = "AcceptorProvider")
+    public Object[][] getAcceptors() {
+        return new Object[][]{{12691, 1}, {12692, 4}};
+    }
+
+    @Test(dataProvider = "AcceptorProvider", groups = "benchmark",
+            description = "Open a storm of connections and report how long each took to be accepted and answered.")
+    public void testConnectionStorm(int port, int acceptors) throws Exception {
+        int connectionCount = 5000;
+
+        long[] sorted = connect(port, acceptors, connectionCount);
+        Arrays.sort(sorted);
+
+        LoggerFactory.getLogger(getClass()).info(
+                "{} connections, {} acceptor(s) requested: p50={}us, p90={}us, p99={}us, max={}us",
+                connectionCount, acceptors,
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                sorted[sorted.length - 1] / 1000);
+    }
+
+    /**
+     * Bind a {@link SocketServer} with {@code acceptors} acceptors to {@code port}, open {@code connectionCount}
+     * connections to it, at most {@value #MAX_IN_FLIGHT} at a time, and check that each one's Hello was acknowledged.
+     *
+     * @return the time, in nanoseconds, from connecting until the acknowledgement arrived, for each connection.
+     */
+    private long[] connect(int port, int acceptors, int connectionCount) throws Exception {
+        SocketServer socketServer = SocketServer.boundTo(new InetSocketAddress(HOST, port), acceptors);
+
+        int expectedAcceptors = Stack.transport() == Transport.Epoll ? acceptors : 1;
+        assertEquals(socketServer.getAcceptorCount(), expectedAcceptors);
+
+        EventLoopGroup eventLoop = Stack.transport().newEventLoopGroup(4, r -> {
+            Thread thread = new Thread(r, "connection-storm");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        /* Registered without being started, so each Hello is acknowledged and the client closes the channel. */
+        String endpointUrl = "opc.tcp://" + HOST + ":" + port + "/storm";
+
+        UaTcpServer server = new UaTcpServerBuilder().setServerName("storm").build();
+        server.addEndpoint(endpointUrl, null);
+        socketServer.addServer(server);
+
+        HelloMessage hello = new HelloMessage(0, 8196, 8196, 0, 0, endpointUrl);
+
+        long[] latencies = new long[connectionCount];
+        AtomicInteger failures = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(connectionCount);
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+
+        try {
+            Bootstrap bootstrap = new Bootstrap()
+                    .group(eventLoop)
+                    .channel(Stack.transport().getSocketChannelClass());
+
+            for (int i = 0; i < connectionCount; i++) {
+                inFlight.acquire();
+
+                int index = i;
+                long start = System.nanoTime();
+
+                bootstrap.clone().handler(new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+                        ctx.writeAndFlush(TcpMessageEncoder.encode(hello));
+                    }
+
+                    @Override
+                    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                        ((ByteBuf) msg).release();
+
+                        if (latencies[index] == 0) {
+                            latencies[index] = System.nanoTime() - start;
+                            inFlight.release();
+                            latch.countDown();
+                        }
+
+                        ctx.close();
+                    }
+                }).connect(socketServer.getLocalAddress()).addListener((ChannelFuture f) -> {
+                    if (!f.isSuccess()) {
+                        failures.incrementAndGet();
+                        inFlight.release();
+                        latch.countDown();
+                    }
+                });
+            }
+
+            assertTrue(latch.await(60, TimeUnit.SECONDS));
+            assertEquals(failures.get(), 0);
+
+            return latencies;
+        } finally {
+            eventLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+            socketServer.removeServer(server);
+            socketServer.shutdown();
+        }
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[(sorted.length - 1) * percentile / 100] / 1000;
+    }
+
+}
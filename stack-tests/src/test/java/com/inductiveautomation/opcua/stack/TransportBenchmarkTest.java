@@ -0,0 +1,242 @@
+package com.inductiveautomation.opcua.stack;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+import com.inductiveautomation.opcua.stack.client.UaTcpClient;
+import com.inductiveautomation.opcua.stack.client.UaTcpClientBuilder;
+import com.inductiveautomation.opcua.stack.core.Stack;
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfig;
+import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
+import com.inductiveautomation.opcua.stack.core.serialization.UaResponseMessage;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.inductiveautomation.opcua.stack.core.types.structured.TestStackRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.TestStackResponse;
+import com.inductiveautomation.opcua.stack.core.util.CryptoRestrictions;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServer;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Compares round trip latency and throughput across transports, security policies and channel configurations.
+ * <p>
+ * In the {@value #GROUP} group, which isn't part of the default test run; run it with {@code mvn test -Pbenchmark}.
+ */
+public class TransportBenchmarkTest extends TransportFixture {
+
+    public static final String GROUP = "benchmark";
+
+    private static final String TCP_URL = "opc.tcp://localhost:12690/benchmark";
+    private static final String LOCAL_URL = "opc.local://benchmark-test/benchmark";
+    private static final String TRUSTED_URL = "opc.local://benchmark-trusted-test/trusted";
+
+    private static final int WARMUP_ITERATIONS = 1000;
+    private static final int LATENCY_ITERATIONS = 5000;
+    private static final int THROUGHPUT_BATCHES = 100;
+    private static final int THROUGHPUT_BATCH_SIZE = 200;
+    private static final int SENDER_THREADS = 8;
+    private static final int REQUESTS_PER_SENDER = 5000;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Variant input = new Variant(new int[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+    private String unixUrl;
+    private UaTcpServer server;
+    private UaTcpServer trustedServer;
+
+    @BeforeClass(alwaysRun = true)
+    public void setUpServers() throws Exception {
+        super.setUp();
+
+        CryptoRestrictions.remove();
+
+        server = new UaTcpServerBuilder()
+                .setServerName("benchmark")
+                .setCertificateManager(serverCertificateManager)
+                .build();
+
+        server.addEndpoint(TCP_URL, null)
+                .addEndpoint(TCP_URL, null, serverCertificate, SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt)
+                .addEndpoint(LOCAL_URL, null)
+                .addEndpoint(LOCAL_URL, null, serverCertificate, SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+
+        if (unixAvailable()) {
+            Path socket = Files.createTempDirectory("opcua").resolve("benchmark.sock");
+            unixUrl = Stack.UNIX_SCHEME + "://" + socket.toAbsolutePath();
+
+            server.addEndpoint(unixUrl, null)
+                    .addEndpoint(unixUrl, null, serverCertificate, SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+        }
+
+        trustedServer = new UaTcpServerBuilder()
+                .setServerName("benchmark-trusted")
+                .setCertificateManager(serverCertificateManager)
+                .setChannelConfig(trustedConfig())
+                .build();
+
+        trustedServer.addEndpoint(TRUSTED_URL, null);
+
+        for (UaTcpServer s : new UaTcpServer[]{server, trustedServer}) {
+            addEchoHandler(s);
+            s.startup();
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDownServers() {
+        server.shutdown();
+        trustedServer.shutdown();
+    }
+
+    @Test(groups = GROUP, description = "Compare sequential round trip times over loopback TCP, opc.local and trusted opc.local.")
+    public void testLocalRoundTripTimes() throws Exception {
+        logLatency("tcp/None", new UaTcpClientBuilder().build(TCP_URL));
+        logLatency("local/None", new UaTcpClientBuilder().build(LOCAL_URL));
+        logLatency("local/trusted", new UaTcpClientBuilder().setChannelConfig(trustedConfig()).build(TRUSTED_URL));
+
+        logLatency("tcp/Basic256Sha256",
+                createClient(endpoint(server, TCP_URL, SecurityPolicy.Basic256Sha256), ChannelConfig.DEFAULT));
+        logLatency("local/Basic256Sha256",
+                createClient(endpoint(server, LOCAL_URL, SecurityPolicy.Basic256Sha256), ChannelConfig.DEFAULT));
+    }
+
+    @Test(groups = GROUP, description = "Compare round trip latency and pipelined throughput over loopback TCP and a Unix domain socket.")
+    public void testUnixLatencyAndThroughput() throws Exception {
+        if (!unixAvailable()) {
+            logger.info("Unix domain sockets not available; skipping.");
+            return;
+        }
+
+        logPipelined("tcp/None", new UaTcpClientBuilder().build(TCP_URL));
+        logPipelined("unix/None", new UaTcpClientBuilder().build(unixUrl));
+        logPipelined("tcp/Basic256Sha256",
+                createClient(endpoint(server, TCP_URL, SecurityPolicy.Basic256Sha256), ChannelConfig.DEFAULT));
+        logPipelined("unix/Basic256Sha256",
+                createClient(endpoint(server, unixUrl, SecurityPolicy.Basic256Sha256), ChannelConfig.DEFAULT));
+    }
+
+    @Test(groups = GROUP, description = "Compare idle round trip latency and concurrent throughput with and without flush consolidation.")
+    public void testFlushConsolidation() throws Exception {
+        logConcurrent("flush per write", new UaTcpClientBuilder().build(TCP_URL));
+        logConcurrent("consolidated", new UaTcpClientBuilder().setChannelConfig(consolidatingConfig()).build(TCP_URL));
+    }
+
+    private void logLatency(String name, UaTcpClient client) throws Exception {
+        try {
+            logger.info("{}: {}us per round trip.", name, latency(client));
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    private void logPipelined(String name, UaTcpClient client) throws Exception {
+        try {
+            long latency = latency(client);
+            long start = System.nanoTime();
+
+            for (int batch = 0; batch < THROUGHPUT_BATCHES; batch++) {
+                List<TestStackRequest> requests = Lists.newArrayList();
+                List<CompletableFuture<? extends UaResponseMessage>> futures = Lists.newArrayList();
+
+                for (int i = 0; i < THROUGHPUT_BATCH_SIZE; i++) {
+                    requests.add(request(i, input));
+                    futures.add(new CompletableFuture<TestStackResponse>());
+                }
+
+                client.sendRequests(requests, futures);
+
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).get();
+            }
+
+            long elapsed = System.nanoTime() - start;
+            long throughput = THROUGHPUT_BATCHES * THROUGHPUT_BATCH_SIZE * 1_000_000_000L / elapsed;
+
+            logger.info("{}: {}us per round trip, {} requests/s pipelined.", name, latency, throughput);
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    private void logConcurrent(String name, UaTcpClient client) throws Exception {
+        ExecutorService senders = Executors.newFixedThreadPool(SENDER_THREADS);
+
+        try {
+            long latency = latency(client);
+
+            long writes = client.getFlushStatistics().getWriteCount();
+            long flushes = client.getFlushStatistics().getFlushCount();
+
+            CountDownLatch done = new CountDownLatch(SENDER_THREADS);
+
+            long start = System.nanoTime();
+
+            for (int t = 0; t < SENDER_THREADS; t++) {
+                int sender = t;
+
+                senders.execute(() -> {
+                    List<CompletableFuture<TestStackResponse>> futures = Lists.newArrayList();
+
+                    for (int i = 0; i < REQUESTS_PER_SENDER; i++) {
+                        futures.add(sendRequest(client, sender * REQUESTS_PER_SENDER + i, input));
+                    }
+
+                    CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).join();
+
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(60, TimeUnit.SECONDS));
+
+            long elapsed = System.nanoTime() - start;
+            long throughput = SENDER_THREADS * REQUESTS_PER_SENDER * 1_000_000_000L / elapsed;
+
+            writes = client.getFlushStatistics().getWriteCount() - writes;
+            flushes = client.getFlushStatistics().getFlushCount() - flushes;
+
+            logger.info("{}: {}us per idle round trip, {} requests/s from {} concurrent senders, {} writes per flush.",
+                    name, latency, throughput, SENDER_THREADS,
+                    flushes > 0 ? String.format("%.2f", (double) writes / flushes) : "n/a");
+        } finally {
+            senders.shutdown();
+            client.disconnect();
+        }
+    }
+
+    /**
+     * @return the average time, in microseconds, of a sequential round trip, measured after a warmup.
+     */
+    private long latency(UaTcpClient client) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sendRequest(client, i, input).get();
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < LATENCY_ITERATIONS; i++) {
+            sendRequest(client, i, input).get();
+        }
+
+        return (System.nanoTime() - start) / 1000 / LATENCY_ITERATIONS;
+    }
+
+    private static boolean unixAvailable() {
+        return Stack.transport().getDomainSocketChannelClass().isPresent();
+    }
+
+}
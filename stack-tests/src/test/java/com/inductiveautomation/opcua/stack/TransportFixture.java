@@ -0,0 +1,83 @@
+package com.inductiveautomation.opcua.stack;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import com.inductiveautomation.opcua.stack.client.UaTcpClient;
+import com.inductiveautomation.opcua.stack.client.UaTcpClientBuilder;
+import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfig;
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfigBuilder;
+import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.structured.EndpointDescription;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.TestStackRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.TestStackResponse;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServer;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Round trips {@link TestStackRequest}s through servers that echo their input; shared by the transport tests and
+ * {@link TransportBenchmarkTest}.
+ */
+public abstract class TransportFixture extends SecurityFixture {
+
+    protected static void addEchoHandler(UaTcpServer server) {
+        server.addRequestHandler(TestStackRequest.class, (service) -> {
+            TestStackRequest request = service.getRequest();
+
+            ResponseHeader header = new ResponseHeader(
+                    DateTime.now(),
+                    request.getRequestHeader().getRequestHandle(),
+                    StatusCode.GOOD,
+                    null, null, null
+            );
+
+            service.setResponse(new TestStackResponse(header, request.getInput()));
+        });
+    }
+
+    protected static TestStackRequest request(int handle, Variant input) {
+        RequestHeader header = new RequestHeader(
+                NodeId.NULL_VALUE,
+                DateTime.now(),
+                uint(handle), uint(0), null, uint(60), null
+        );
+
+        return new TestStackRequest(header, uint(handle), handle, input);
+    }
+
+    protected static CompletableFuture<TestStackResponse> sendRequest(UaTcpClient client, int handle, Variant input) {
+        return client.sendRequest(request(handle, input));
+    }
+
+    protected static EndpointDescription endpoint(UaTcpServer server, String url, SecurityPolicy securityPolicy) {
+        return Arrays.stream(server.getEndpointDescriptions())
+                .filter(e -> e.getEndpointUrl().equals(url))
+                .filter(e -> e.getSecurityPolicyUri().equals(securityPolicy.getSecurityPolicyUri()))
+                .findFirst().get();
+    }
+
+    protected UaTcpClient createClient(EndpointDescription endpoint, ChannelConfig config) throws UaException {
+        return new UaTcpClientBuilder()
+                .setKeyPair(clientKeyPair)
+                .setCertificate(clientCertificate)
+                .setChannelConfig(config)
+                .build(endpoint);
+    }
+
+    protected static ChannelConfig trustedConfig() {
+        return new ChannelConfigBuilder().setTrustedLocal(true).build();
+    }
+
+    protected static ChannelConfig consolidatingConfig() {
+        return new ChannelConfigBuilder().setConsolidateFlushes(true).build();
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.inductiveautomation.opcua.stack;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.inductiveautomation.opcua.stack.client.UaTcpClient;
+import com.inductiveautomation.opcua.stack.client.UaTcpClientBuilder;
+import com.inductiveautomation.opcua.stack.core.Stack;
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.channel.ChannelConfig;
+import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.inductiveautomation.opcua.stack.core.util.CryptoRestrictions;
+import com.inductiveautomation.opcua.stack.server.tcp.SocketServer;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServer;
+import com.inductiveautomation.opcua.stack.server.tcp.UaTcpServerBuilder;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.unix.DomainSocketAddress;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class UnixTransportTest extends TransportFixture {
+
+    private String unixUrl;
+    private UaTcpServer server;
+
+    @BeforeClass
+    public void setUpServer() throws Exception {
+        CryptoRestrictions.remove();
+
+        server = new UaTcpServerBuilder()
+                .setServerName("unix")
+                .setCertificateManager(serverCertificateManager)
+                .build();
+
+        if (unixAvailable()) {
+            Path socket = Files.createTempDirectory("opcua").resolve("server.sock");
+            unixUrl = Stack.UNIX_SCHEME + "://" + socket.toAbsolutePath();
+
+            server.addEndpoint(unixUrl, null)
+                    .addEndpoint(unixUrl, null, serverCertificate, SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+        }
+
+        addEchoHandler(server);
+        server.startup();
+    }
+
+    @AfterClass
+    public void tearDownServer() {
+        server.shutdown();
+    }
+
+    @Test
+    public void testUnixRoundTrip() throws Exception {
+        if (!unixAvailable()) return;
+
+        UaTcpClient client = new UaTcpClientBuilder().build(unixUrl);
+
+        try {
+            Variant input = new Variant("hello, unix");
+
+            assertEquals(sendRequest(client, 1, input).get().getOutput(), input);
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    @Test
+    public void testUnixRoundTrip_Basic256Sha256_SignAndEncrypt() throws Exception {
+        if (!unixAvailable()) return;
+
+        UaTcpClient client = createClient(endpoint(server, unixUrl, SecurityPolicy.Basic256Sha256), ChannelConfig.DEFAULT);
+
+        try {
+            Variant input = new Variant("hello, secure unix");
+
+            assertEquals(sendRequest(client, 1, input).get().getOutput(), input);
+        } finally {
+            client.disconnect();
+        }
+    }
+
+    @Test
+    public void testUnixDiscoveryUrl() {
+        if (!unixAvailable()) return;
+
+        assertTrue(server.getDiscoveryUrls().contains(unixUrl));
+    }
+
+    @Test
+    public void testBindRefusesToDeleteOtherFiles() throws Exception {
+        if (!unixAvailable()) return;
+
+        Path file = Files.createTempFile("opcua", ".sock");
+
+        try {
+            SocketServer.boundTo(new DomainSocketAddress(file.toFile()));
+            fail("bound over a regular file");
+        } catch (UaException e) {
+            assertEquals(e.getStatusCode().getValue(), StatusCodes.Bad_ConfigurationError);
+            assertTrue(Files.exists(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testBindRefusesToDeleteListeningSocket() throws Exception {
+        if (!unixAvailable()) return;
+
+        DomainSocketAddress address = new DomainSocketAddress(
+                Files.createTempDirectory("opcua").resolve("listening.sock").toFile());
+
+        Channel listening = new ServerBootstrap()
+                .group(Stack.sharedEventLoop())
+                .channel(Stack.transport().getServerDomainSocketChannelClass().get())
+                .childHandler(new ChannelInboundHandlerAdapter())
+                .bind(address).sync().channel();
+
+        try {
+            SocketServer.boundTo(address);
+            fail("bound over a socket that's being listened on");
+        } catch (UaException e) {
+            assertEquals(e.getStatusCode().getValue(), StatusCodes.Bad_ResourceUnavailable);
+            assertTrue(listening.isActive());
+        } finally {
+            listening.close().sync();
+        }
+    }
+
+    private static boolean unixAvailable() {
+        return Stack.transport().getDomainSocketChannelClass().isPresent();
+    }
+
+}